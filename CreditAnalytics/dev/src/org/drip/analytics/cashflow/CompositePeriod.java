@@ -1051,6 +1051,11 @@ public abstract class CompositePeriod {
 				(comp, valParams, this, dblPeriodEndDate, csqs)) || 0 == lsLQM.size()))
 			return null;
 
+		if (org.drip.param.pricer.PricerParams.PERIOD_DISCRETIZATION_EXACT == iDiscretizationScheme && (null
+			== (lsLQM = org.drip.analytics.support.LossQuadratureGenerator.GenerateKnotPointLossPeriods
+				(comp, valParams, this, dblPeriodEndDate, csqs)) || 0 == lsLQM.size()))
+			return null;
+
 		return lsLQM;
 	}
 
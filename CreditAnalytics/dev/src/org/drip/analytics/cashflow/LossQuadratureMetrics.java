@@ -132,6 +132,101 @@ public class LossQuadratureMetrics {
 		return null;
 	}
 
+	/*
+	 * (1 - exp (-z)) / z, i.e., the integral of exp (-z * u) over u in [0, 1]
+	 */
+
+	private static final double ExpIntegral (
+		final double dblZ)
+	{
+		if (1.e-06 > java.lang.Math.abs (dblZ)) return 1. - dblZ * (0.5 - dblZ / 6.);
+
+		return -java.lang.Math.expm1 (-dblZ) / dblZ;
+	}
+
+	/*
+	 * (1 - exp (-z) * (1 + z)) / z^2, i.e., the integral of u * exp (-z * u) over u in [0, 1]
+	 */
+
+	private static final double LinearExpIntegral (
+		final double dblZ)
+	{
+		if (1.e-04 > java.lang.Math.abs (dblZ)) return 0.5 - dblZ * (1. / 3. - dblZ / 8.);
+
+		return (-java.lang.Math.expm1 (-dblZ) - dblZ * java.lang.Math.exp (-dblZ)) / (dblZ * dblZ);
+	}
+
+	/**
+	 * Create an instance of the LossPeriodCurveFactors class by integrating the default-time density
+	 * 	exactly across the period, assuming that both the hazard rate and the forward rate are flat inside
+	 * 	it. The effective discount factor is the default-weighted average discount factor, and the accrual
+	 * 	DCF is the default-and-discount weighted average accrual DCF, so that the loss and the
+	 * 	accrual-on-default legs come out exact when the period metrics are consumed as usual.
+	 * 
+	 * @param dblStart Period Start Date
+	 * @param dblEnd Period End Date
+	 * @param dblStartAccrualDCF Accrual DCF at the Period Start
+	 * @param dblEndAccrualDCF Accrual DCF at the Period End
+	 * @param dblEffectiveNotional Period's effective notional
+	 * @param dblEffectiveRecovery Period's effective recovery
+	 * @param dc Discount Curve
+	 * @param cc Credit Curve
+	 * @param iDefaultLag Default Pay Lag
+	 * 
+	 * @return LossPeriodCurveFactors instance
+	 */
+
+	public static final LossQuadratureMetrics MakeAnalyticDefaultPeriod (
+		final double dblStart,
+		final double dblEnd,
+		final double dblStartAccrualDCF,
+		final double dblEndAccrualDCF,
+		final double dblEffectiveNotional,
+		final double dblEffectiveRecovery,
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final org.drip.analytics.definition.CreditCurve cc,
+		final int iDefaultLag)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblStart) || !org.drip.quant.common.NumberUtil.IsValid
+			(dblEnd) || dblStart >= dblEnd || !org.drip.quant.common.NumberUtil.IsValid (dblStartAccrualDCF)
+				|| !org.drip.quant.common.NumberUtil.IsValid (dblEndAccrualDCF) ||
+					!org.drip.quant.common.NumberUtil.IsValid (dblEffectiveNotional) ||
+						!org.drip.quant.common.NumberUtil.IsValid (dblEffectiveRecovery) || null == dc || null
+							== cc)
+			return null;
+
+		try {
+			double dblStartSurvival = cc.survival (dblStart);
+
+			double dblEndSurvival = cc.survival (dblEnd);
+
+			double dblStartDF = dc.df (dblStart + iDefaultLag);
+
+			double dblEndDF = dc.df (dblEnd + iDefaultLag);
+
+			if (0. >= dblStartSurvival || 0. >= dblEndSurvival || 0. >= dblStartDF || 0. >= dblEndDF)
+				return new LossQuadratureMetrics (dblStart, dblEnd, dblStartSurvival, dblEndSurvival, 0.5 *
+					(dblStartAccrualDCF + dblEndAccrualDCF), dblEffectiveNotional, dblEffectiveRecovery,
+						dc.effectiveDF (dblStart + iDefaultLag, dblEnd + iDefaultLag));
+
+			double dblIntegratedHazard = java.lang.Math.log (dblStartSurvival / dblEndSurvival);
+
+			double dblIntegratedForward = java.lang.Math.log (dblStartDF / dblEndDF);
+
+			double dblDecayIntegral = ExpIntegral (dblIntegratedHazard + dblIntegratedForward);
+
+			return new LossQuadratureMetrics (dblStart, dblEnd, dblStartSurvival, dblEndSurvival,
+				dblStartAccrualDCF + (dblEndAccrualDCF - dblStartAccrualDCF) * LinearExpIntegral
+					(dblIntegratedHazard + dblIntegratedForward) / dblDecayIntegral, dblEffectiveNotional,
+						dblEffectiveRecovery, dblStartDF * dblDecayIntegral / ExpIntegral
+							(dblIntegratedHazard));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
 	/**
 	 * Elaborate LossPeriodCurveFactors constructor
 	 * 
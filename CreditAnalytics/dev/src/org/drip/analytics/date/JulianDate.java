@@ -137,6 +137,17 @@ public class JulianDate implements java.lang.Comparable<JulianDate> {
 		int iNumDaysToAdd = iDays;
 		double dblAdjusted = _dblJulian;
 
+		org.drip.analytics.daycount.BusinessDayCalendar bdc =
+			org.drip.analytics.daycount.Convention.BusinessCalendar (strCalendarSet);
+
+		if (null != bdc && 0 <= iDays && bdc.inRange (_dblJulian)) {
+			try {
+				return new JulianDate (bdc.addBusinessDays (_dblJulian, iDays));
+			} catch (java.lang.Exception e) {
+				// The Rolled Date runs past the Compiled Range - fall back to the Day-by-Day Walk
+			}
+		}
+
 		try {
 			while (0 < iNumDaysToAdd--) {
 				++dblAdjusted;
@@ -0,0 +1,367 @@
+package org.drip.analytics.daycount;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BusinessDayCalendar is the compiled form of a composite holiday calendar set (e.g., "USD,GBP"). The
+ * 	weekend and the week day holidays of each constituent Locale are expanded once into per-day bit sets
+ * 	spanning the years FIRST_YEAR through LAST_YEAR, so that holiday checks are O(1), and business/holiday
+ * 	day counts are computed using bit counts over 64-day words. Dates outside the compiled range (or
+ * 	fractional dates) are not served by the calendar - callers are expected to check inRange() first.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BusinessDayCalendar {
+
+	/**
+	 * The First Year covered by the Compiled Calendar
+	 */
+
+	public static final int FIRST_YEAR = 1970;
+
+	/**
+	 * The Last Year covered by the Compiled Calendar
+	 */
+
+	public static final int LAST_YEAR = 2100;
+
+	private int _iFirstDate = 0;
+	private int _iLastDate = 0;
+	private long[] _alWeekend = null;
+	private long[] _alHoliday = null;
+	private long[] _alWeekdayHoliday = null;
+	private java.lang.String _strCalendarSet = "";
+
+	private static final void SetBit (
+		final long[] al,
+		final int iIndex)
+	{
+		al[iIndex >> 6] |= 1L << (iIndex & 63);
+	}
+
+	private static final boolean IsBitSet (
+		final long[] al,
+		final int iIndex)
+	{
+		return 0L != (al[iIndex >> 6] & (1L << (iIndex & 63)));
+	}
+
+	/**
+	 * Compile the Business Day Calendar for the specified Calendar Set from the Map of Locale Holidays
+	 *
+	 * @param strCalendarSet The Comma Separated Calendar Set
+	 * @param mapLocHols Map of the Location Holidays
+	 *
+	 * @return The Compiled Business Day Calendar
+	 */
+
+	public static final BusinessDayCalendar Compile (
+		final java.lang.String strCalendarSet,
+		final java.util.Map<java.lang.String, org.drip.analytics.eventday.Locale> mapLocHols)
+	{
+		if (null == strCalendarSet || strCalendarSet.isEmpty() || null == mapLocHols) return null;
+
+		java.util.List<org.drip.analytics.eventday.Locale> lsLocale = new
+			java.util.ArrayList<org.drip.analytics.eventday.Locale>();
+
+		for (java.lang.String strCalendar : strCalendarSet.split (",")) {
+			if (null == strCalendar) continue;
+
+			org.drip.analytics.eventday.Locale lh = mapLocHols.get (strCalendar);
+
+			if (null != lh) lsLocale.add (lh);
+		}
+
+		try {
+			return new BusinessDayCalendar (strCalendarSet, lsLocale);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * BusinessDayCalendar constructor
+	 *
+	 * @param strCalendarSet The Calendar Set
+	 * @param lsLocale List of the Constituent Locales
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public BusinessDayCalendar (
+		final java.lang.String strCalendarSet,
+		final java.util.List<org.drip.analytics.eventday.Locale> lsLocale)
+		throws java.lang.Exception
+	{
+		if (null == (_strCalendarSet = strCalendarSet) || null == lsLocale)
+			throw new java.lang.Exception ("BusinessDayCalendar ctr: Invalid Inputs");
+
+		_iFirstDate = (int) org.drip.analytics.date.DateUtil.ToJulian (FIRST_YEAR, 1, 1);
+
+		_iLastDate = (int) org.drip.analytics.date.DateUtil.ToJulian (LAST_YEAR + 1, 1, 1) - 1;
+
+		int iNumWord = ((_iLastDate - _iFirstDate + 1) >> 6) + 1;
+		_alWeekdayHoliday = new long[iNumWord];
+		_alHoliday = new long[iNumWord];
+		_alWeekend = new long[iNumWord];
+
+		for (org.drip.analytics.eventday.Locale lh : lsLocale) {
+			if (null == lh) continue;
+
+			org.drip.analytics.eventday.Weekend wkend = lh.weekendDays();
+
+			if (null != wkend) {
+				for (int iDate = _iFirstDate; iDate <= _iLastDate; ++iDate) {
+					if (wkend.isWeekend (iDate)) SetBit (_alWeekend, iDate - _iFirstDate);
+				}
+			}
+
+			java.util.Set<org.drip.analytics.eventday.Base> setHolidays = lh.holidays();
+
+			if (null == setHolidays) continue;
+
+			for (org.drip.analytics.eventday.Base hol : setHolidays) {
+				if (null == hol) continue;
+
+				for (int iYear = FIRST_YEAR; iYear <= LAST_YEAR; ++iYear) {
+					double dblHoliday = hol.dateInYear (iYear, true);
+
+					if (!org.drip.quant.common.NumberUtil.IsValid (dblHoliday)) continue;
+
+					int iHoliday = (int) dblHoliday;
+
+					/*
+					 * A holiday rolled into an adjacent year is only visible in that year's own roster.
+					 */
+
+					if (iHoliday < _iFirstDate || iHoliday > _iLastDate || iYear !=
+						org.drip.analytics.date.DateUtil.Year (iHoliday))
+						continue;
+
+					SetBit (_alWeekdayHoliday, iHoliday - _iFirstDate);
+				}
+			}
+		}
+
+		for (int i = 0; i < iNumWord; ++i)
+			_alHoliday[i] = _alWeekend[i] | _alWeekdayHoliday[i];
+	}
+
+	/**
+	 * Retrieve the Calendar Set
+	 *
+	 * @return The Calendar Set
+	 */
+
+	public java.lang.String calendarSet()
+	{
+		return _strCalendarSet;
+	}
+
+	/**
+	 * Indicate if the specified Date is served by the Compiled Calendar
+	 *
+	 * @param dblDate The Date
+	 *
+	 * @return TRUE => The Date is integral and lies inside the Compiled Range
+	 */
+
+	public boolean inRange (
+		final double dblDate)
+	{
+		return dblDate == (int) dblDate && dblDate >= _iFirstDate && dblDate <= _iLastDate;
+	}
+
+	/**
+	 * Indicate whether the given date is a holiday
+	 *
+	 * @param dblDate The Date
+	 * @param iHolType Convention.WEEKDAY_HOLS and/or Convention.WEEKEND_HOLS
+	 *
+	 * @return TRUE => The Date is a Holiday
+	 *
+	 * @throws java.lang.Exception Thrown if the Date is not in the Compiled Range
+	 */
+
+	public boolean isHoliday (
+		final double dblDate,
+		final int iHolType)
+		throws java.lang.Exception
+	{
+		if (!inRange (dblDate))
+			throw new java.lang.Exception ("BusinessDayCalendar::isHoliday => Date outside of Range");
+
+		int iIndex = (int) dblDate - _iFirstDate;
+
+		if (0 != (Convention.WEEKEND_HOLS & iHolType) && IsBitSet (_alWeekend, iIndex)) return true;
+
+		return 0 != (Convention.WEEKDAY_HOLS & iHolType) && IsBitSet (_alWeekdayHoliday, iIndex);
+	}
+
+	/**
+	 * Count the Holidays (Weekend and Week Day) in the Range [dblFrom, dblTo)
+	 *
+	 * @param dblFrom The Starting Date (Inclusive)
+	 * @param dblTo The Ending Date (Exclusive)
+	 *
+	 * @return The Number of Holidays
+	 *
+	 * @throws java.lang.Exception Thrown if the Dates are not in the Compiled Range
+	 */
+
+	public int holidays (
+		final double dblFrom,
+		final double dblTo)
+		throws java.lang.Exception
+	{
+		if (dblFrom > dblTo || !inRange (dblFrom) || !inRange (dblTo - 1.))
+			throw new java.lang.Exception ("BusinessDayCalendar::holidays => Invalid Inputs");
+
+		int iFrom = (int) dblFrom - _iFirstDate;
+		int iTo = (int) dblTo - _iFirstDate;
+
+		if (iFrom == iTo) return 0;
+
+		int iFromWord = iFrom >> 6;
+		int iToWord = (iTo - 1) >> 6;
+		long lFromMask = -1L << (iFrom & 63);
+		long lToMask = -1L >>> (63 - ((iTo - 1) & 63));
+
+		if (iFromWord == iToWord) return java.lang.Long.bitCount (_alHoliday[iFromWord] & lFromMask & lToMask);
+
+		int iNumHoliday = java.lang.Long.bitCount (_alHoliday[iFromWord] & lFromMask) +
+			java.lang.Long.bitCount (_alHoliday[iToWord] & lToMask);
+
+		for (int i = iFromWord + 1; i < iToWord; ++i)
+			iNumHoliday += java.lang.Long.bitCount (_alHoliday[i]);
+
+		return iNumHoliday;
+	}
+
+	/**
+	 * Count the Business Days in the Range (dblStart, dblFinish]
+	 *
+	 * @param dblStart The Start Date (Exclusive)
+	 * @param dblFinish The Finish Date (Inclusive)
+	 *
+	 * @return The Number of Business Days
+	 *
+	 * @throws java.lang.Exception Thrown if the Dates are not in the Compiled Range
+	 */
+
+	public int businessDays (
+		final double dblStart,
+		final double dblFinish)
+		throws java.lang.Exception
+	{
+		return (int) (dblFinish - dblStart) - holidays (dblStart + 1., dblFinish + 1.);
+	}
+
+	/**
+	 * Adjust the Date to the next (or the previous) Business Day
+	 *
+	 * @param dblDate The Date
+	 * @param bForward TRUE => Adjust to the Following Business Day; FALSE => the Previous Business Day
+	 *
+	 * @return The Adjusted Date
+	 *
+	 * @throws java.lang.Exception Thrown if the Adjusted Date falls outside of the Compiled Range
+	 */
+
+	public double adjust (
+		final double dblDate,
+		final boolean bForward)
+		throws java.lang.Exception
+	{
+		if (!inRange (dblDate))
+			throw new java.lang.Exception ("BusinessDayCalendar::adjust => Date outside of Range");
+
+		int iIndex = (int) dblDate - _iFirstDate;
+		int iNumDay = _iLastDate - _iFirstDate + 1;
+
+		if (bForward) {
+			int iWord = iIndex >> 6;
+			long lFree = ~_alHoliday[iWord] & (-1L << (iIndex & 63));
+
+			while (0L == lFree) {
+				if (++iWord >= _alHoliday.length)
+					throw new java.lang.Exception ("BusinessDayCalendar::adjust => Date outside of Range");
+
+				lFree = ~_alHoliday[iWord];
+			}
+
+			if ((iIndex = (iWord << 6) + java.lang.Long.numberOfTrailingZeros (lFree)) >= iNumDay)
+				throw new java.lang.Exception ("BusinessDayCalendar::adjust => Date outside of Range");
+
+			return _iFirstDate + iIndex;
+		}
+
+		int iWord = iIndex >> 6;
+		long lFree = ~_alHoliday[iWord] & (-1L >>> (63 - (iIndex & 63)));
+
+		while (0L == lFree) {
+			if (--iWord < 0)
+				throw new java.lang.Exception ("BusinessDayCalendar::adjust => Date outside of Range");
+
+			lFree = ~_alHoliday[iWord];
+		}
+
+		return _iFirstDate + (iWord << 6) + 63 - java.lang.Long.numberOfLeadingZeros (lFree);
+	}
+
+	/**
+	 * Add the specified Number of Business Days to the Date, and adjust the result to the Following Business
+	 * 	Day
+	 *
+	 * @param dblDate The Date
+	 * @param iNumDays The Number of Business Days to Add
+	 *
+	 * @return The Resulting Date
+	 *
+	 * @throws java.lang.Exception Thrown if the Resulting Date falls outside of the Compiled Range
+	 */
+
+	public double addBusinessDays (
+		final double dblDate,
+		final int iNumDays)
+		throws java.lang.Exception
+	{
+		if (0 > iNumDays)
+			throw new java.lang.Exception ("BusinessDayCalendar::addBusinessDays => Invalid Inputs");
+
+		double dblAdjusted = dblDate;
+
+		for (int i = 0; i < iNumDays; ++i)
+			dblAdjusted = adjust (dblAdjusted + 1., true);
+
+		return adjust (dblAdjusted, true);
+	}
+}
@@ -104,6 +104,12 @@ public class Convention {
 	private static org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.eventday.Locale>
 		s_mapLocHols = null;
 
+	private static volatile boolean s_bUseCompiledCalendar = true;
+
+	private static java.util.Map<java.lang.String, org.drip.analytics.daycount.BusinessDayCalendar>
+		s_mapCompiledCalendar = new java.util.concurrent.ConcurrentHashMap<java.lang.String,
+			org.drip.analytics.daycount.BusinessDayCalendar>();
+
 	private static
 		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.daycount.DCFCalculator>
 			s_mapDCCalc = new
@@ -427,6 +433,12 @@ public class Convention {
 		return mapHols;
 	}
 
+	private static final java.lang.String CalendarSetKey (
+		final java.lang.String strCalendarSet)
+	{
+		return null == strCalendarSet || strCalendarSet.isEmpty() ? "USD" : strCalendarSet;
+	}
+
 	private static final boolean LocationHoliday (
 		final java.lang.String strCalendarSet,
 		final double dblDate,
@@ -478,6 +490,8 @@ public class Convention {
 	{
 		if (!SetDCCalc()) return false;
 
+		s_mapCompiledCalendar.clear();
+
 		if (INIT_FROM_HOLS_SOURCE == s_iInitHols) {
 			if (null == (s_mapLocHols = SetHolsFromSource())) return false;
 
@@ -502,6 +516,48 @@ public class Convention {
 		return false;
 	}
 
+	/**
+	 * Turn ON/OFF the use of the Compiled Business Day Calendars
+	 * 
+	 * @param bUseCompiledCalendar TRUE => Serve Holiday/Business Day Queries off the Compiled Calendars
+	 */
+
+	public static final void UseCompiledCalendar (
+		final boolean bUseCompiledCalendar)
+	{
+		s_bUseCompiledCalendar = bUseCompiledCalendar;
+	}
+
+	/**
+	 * Retrieve the Compiled Business Day Calendar corresponding to the Calendar Set. Calendars are compiled
+	 * 	lazily on first use, and cached by the Calendar Set Key.
+	 * 
+	 * @param strCalendarSet The Calendar Set (defaults to "USD" if empty)
+	 * 
+	 * @return The Compiled Business Day Calendar
+	 */
+
+	public static final org.drip.analytics.daycount.BusinessDayCalendar BusinessCalendar (
+		final java.lang.String strCalendarSet)
+	{
+		if (!s_bUseCompiledCalendar || null == s_mapLocHols) return null;
+
+		java.lang.String strCalendarSetKey = CalendarSetKey (strCalendarSet);
+
+		org.drip.analytics.daycount.BusinessDayCalendar bdc = s_mapCompiledCalendar.get
+			(strCalendarSetKey);
+
+		if (null != bdc) return bdc;
+
+		if (null == (bdc = org.drip.analytics.daycount.BusinessDayCalendar.Compile (strCalendarSetKey,
+			s_mapLocHols)))
+			return null;
+
+		s_mapCompiledCalendar.put (strCalendarSetKey, bdc);
+
+		return bdc;
+	}
+
 	/**
 	 * Retrieve the set of holiday locations
 	 * 
@@ -738,8 +794,11 @@ public class Convention {
 		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate))
 			throw new java.lang.Exception ("Convention::IsHoliday => Cannot a NaN date for holiday!");
 
-		return LocationHoliday ((null == strCalendar || strCalendar.isEmpty() || "".equalsIgnoreCase
-			(strCalendar)) ? "USD" : strCalendar, dblDate, iHolType);
+		org.drip.analytics.daycount.BusinessDayCalendar bdc = BusinessCalendar (strCalendar);
+
+		if (null != bdc && bdc.inRange (dblDate)) return bdc.isHoliday (dblDate, iHolType);
+
+		return LocationHoliday (CalendarSetKey (strCalendar), dblDate, iHolType);
 	}
 
 	/**
@@ -785,6 +844,11 @@ public class Convention {
 
 		if (dblStart == dblFinish) return 0;
 
+		org.drip.analytics.daycount.BusinessDayCalendar bdc = BusinessCalendar (strCalendar);
+
+		if (null != bdc && bdc.inRange (dblStart + 1.) && bdc.inRange (dblFinish))
+			return bdc.businessDays (dblStart, dblFinish);
+
 		int iNumBusDays = 0;
 		double dblDate = dblStart + 1;
 
@@ -870,6 +934,11 @@ public class Convention {
 			dblBegin = dblFinish;
 		}
 
+		org.drip.analytics.daycount.BusinessDayCalendar bdc = BusinessCalendar (strCalendar);
+
+		if (null != bdc && dblBegin != dblEnd && bdc.inRange (dblBegin) && bdc.inRange (dblEnd - 1.))
+			return bdc.holidays (dblBegin, dblEnd);
+
 		while (dblBegin != dblEnd) {
 			if (IsHoliday (dblBegin++, strCalendar)) ++iNumHolidays;
 		}
@@ -898,6 +967,16 @@ public class Convention {
 		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate))
 			throw new java.lang.Exception ("Convention::Adjust => Cannot adjust a NaN date!");
 
+		org.drip.analytics.daycount.BusinessDayCalendar bdc = BusinessCalendar (strCalendar);
+
+		if (null != bdc && bdc.inRange (dblDate)) {
+			try {
+				return bdc.adjust (dblDate, true);
+			} catch (java.lang.Exception e) {
+				// The Adjusted Date runs past the Compiled Range - fall back to the Day-by-Day Walk
+			}
+		}
+
 		double dblDateAdjusted = dblDate;
 
 		while (IsHoliday (dblDateAdjusted, strCalendar)) ++dblDateAdjusted;
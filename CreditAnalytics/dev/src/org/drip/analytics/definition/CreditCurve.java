@@ -164,6 +164,34 @@ public abstract class CreditCurve implements org.drip.analytics.definition.Curve
 		return survival (dt.julian());
 	}
 
+	/**
+	 * Calculate the survival to each of the given dates
+	 * 
+	 * @param adblDate Array of Dates
+	 * @param adblSurvival Array to be populated with the corresponding Survival Probabilities
+	 * 
+	 * @return TRUE => The Survival Probabilities have been successfully computed
+	 */
+
+	public boolean survival (
+		final double[] adblDate,
+		final double[] adblSurvival)
+	{
+		if (null == adblDate || null == adblSurvival || adblDate.length > adblSurvival.length) return false;
+
+		for (int i = 0; i < adblDate.length; ++i) {
+			try {
+				adblSurvival[i] = survival (adblDate[i]);
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	/**
 	 * Calculate the survival to the given tenor
 	 * 
@@ -527,6 +555,31 @@ public abstract class CreditCurve implements org.drip.analytics.definition.Curve
 		}
 	}
 
+	/**
+	 * Retrieve the Dates of the Curve Nodes, i.e., the Dates across which the Hazard Rate may change. By
+	 * 	default these are the Maturity Dates of the Calibration Instruments.
+	 * 
+	 * @return Array of the Node Dates (null if none are available)
+	 */
+
+	public double[] nodeDates()
+	{
+		if (null == _aCalibInst || 0 == _aCalibInst.length) return null;
+
+		double[] adblNodeDate = new double[_aCalibInst.length];
+
+		for (int i = 0; i < _aCalibInst.length; ++i) {
+			org.drip.analytics.date.JulianDate dtMaturity = null == _aCalibInst[i] ? null :
+				_aCalibInst[i].maturityDate();
+
+			if (null == dtMaturity) return null;
+
+			adblNodeDate[i] = dtMaturity.julian();
+		}
+
+		return adblNodeDate;
+	}
+
 	@Override public boolean setCCIS (
 		final org.drip.analytics.input.CurveConstructionInputSet ccis)
 	{
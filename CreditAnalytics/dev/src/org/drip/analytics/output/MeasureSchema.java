@@ -0,0 +1,233 @@
+
+package org.drip.analytics.output;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * MeasureSchema interns an ordered Set of Measure Names into dense Integer Slot IDs. Products resolve the
+ * 	Slots of the Measures they generate once, and write their Results by Slot into a MeasureVector. The Case
+ * 	Insensitive Name Look-up is only used by the Map Adapters. It provides the following functionality:
+ * 	- Construct the Schema from the Measure Names, or from Blocks of Prefixed Base Measure Names
+ * 	- Intern the Schema of a given Measure Name Sequence, so Adapted Maps of the same Names share it
+ * 	- Retrieve the Size, the Names, and the Name at a given Slot
+ * 	- Look-up the Slot of a given Measure Name
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class MeasureSchema {
+	private static final java.util.Map<java.util.List<java.lang.String>,
+		java.lang.ref.WeakReference<MeasureSchema>> s_mapInterned = java.util.Collections.synchronizedMap
+			(new java.util.WeakHashMap<java.util.List<java.lang.String>,
+				java.lang.ref.WeakReference<MeasureSchema>>());
+
+	private java.lang.String[] _astrName = null;
+	private java.util.List<java.lang.String> _lsName = null;
+	private org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Integer> _mapSlot = null;
+
+	/**
+	 * Retrieve the Interned Schema of the Measure Name Sequence. Schemas are only held weakly, and are
+	 * 	released once no Vector references them.
+	 *
+	 * @param astrName Array of the Measure Names in Slot Order
+	 *
+	 * @return The Interned MeasureSchema Instance
+	 */
+
+	public static final MeasureSchema Intern (
+		final java.lang.String[] astrName)
+	{
+		if (null == astrName) return null;
+
+		java.util.List<java.lang.String> lsName = java.util.Arrays.asList (astrName);
+
+		synchronized (s_mapInterned) {
+			java.lang.ref.WeakReference<MeasureSchema> wrms = s_mapInterned.get (lsName);
+
+			MeasureSchema ms = null == wrms ? null : wrms.get();
+
+			if (null != ms) return ms;
+
+			try {
+				ms = new MeasureSchema (astrName);
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+
+				return null;
+			}
+
+			/*
+			 * The Key is the Schema's own Name List, so the Entry lives exactly as long as the Schema.
+			 */
+
+			s_mapInterned.put (ms._lsName, new java.lang.ref.WeakReference<MeasureSchema> (ms));
+
+			return ms;
+		}
+	}
+
+	/**
+	 * Construct a Schema made up of consecutive Blocks of the Base Measure Names, one Block for each of the
+	 * 	Block Prefixes, followed by the Additional Measure Names. The Slot of the Base Measure i in the Block
+	 * 	b is b * astrBaseName.length + i.
+	 *
+	 * @param astrBaseName Array of the Base Measure Names
+	 * @param astrBlockPrefix Array of the Block Prefixes ("" => Un-prefixed Block)
+	 * @param astrAdditionalName Array of the Additional Measure Names (may be null)
+	 *
+	 * @return The MeasureSchema Instance
+	 */
+
+	public static final MeasureSchema Create (
+		final java.lang.String[] astrBaseName,
+		final java.lang.String[] astrBlockPrefix,
+		final java.lang.String[] astrAdditionalName)
+	{
+		if (null == astrBaseName || null == astrBlockPrefix) return null;
+
+		int iNumBase = astrBaseName.length;
+		int iNumBlock = astrBlockPrefix.length;
+		int iNumAdditional = null == astrAdditionalName ? 0 : astrAdditionalName.length;
+		java.lang.String[] astrName = new java.lang.String[iNumBase * iNumBlock + iNumAdditional];
+
+		for (int iBlock = 0; iBlock < iNumBlock; ++iBlock) {
+			if (null == astrBlockPrefix[iBlock]) return null;
+
+			for (int i = 0; i < iNumBase; ++i)
+				astrName[iBlock * iNumBase + i] = astrBlockPrefix[iBlock] + astrBaseName[i];
+		}
+
+		for (int i = 0; i < iNumAdditional; ++i)
+			astrName[iNumBase * iNumBlock + i] = astrAdditionalName[i];
+
+		try {
+			return new MeasureSchema (astrName);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * MeasureSchema constructor
+	 *
+	 * @param astrName Array of the Measure Names in Slot Order
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid, or the Names are not Unique
+	 */
+
+	public MeasureSchema (
+		final java.lang.String[] astrName)
+		throws java.lang.Exception
+	{
+		if (null == astrName)
+			throw new java.lang.Exception ("MeasureSchema ctr: Invalid Inputs");
+
+		_astrName = new java.lang.String[astrName.length];
+
+		_lsName = java.util.Collections.unmodifiableList (java.util.Arrays.asList (_astrName));
+
+		_mapSlot = new org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Integer>();
+
+		for (int i = 0; i < astrName.length; ++i) {
+			if (null == (_astrName[i] = astrName[i]) || _astrName[i].isEmpty() || null != _mapSlot.put
+				(_astrName[i], i))
+				throw new java.lang.Exception ("MeasureSchema ctr: Invalid/Duplicate Measure Name " +
+					_astrName[i]);
+		}
+	}
+
+	/**
+	 * Retrieve the Number of Slots in the Schema
+	 *
+	 * @return The Number of Slots in the Schema
+	 */
+
+	public int size()
+	{
+		return _astrName.length;
+	}
+
+	/**
+	 * Retrieve the Measure Name at the given Slot
+	 *
+	 * @param iSlot The Slot
+	 *
+	 * @return The Measure Name (null => Invalid Slot)
+	 */
+
+	public java.lang.String name (
+		final int iSlot)
+	{
+		return 0 > iSlot || iSlot >= _astrName.length ? null : _astrName[iSlot];
+	}
+
+	/**
+	 * Retrieve the Measure Names in Slot Order
+	 *
+	 * @return The Measure Names in Slot Order
+	 */
+
+	public java.lang.String[] names()
+	{
+		return _astrName;
+	}
+
+	/**
+	 * Look-up the Slot of the given Measure Name
+	 *
+	 * @param strName The Measure Name
+	 *
+	 * @return The Slot (-1 => Measure not in the Schema)
+	 */
+
+	public int slot (
+		final java.lang.String strName)
+	{
+		if (null == strName) return -1;
+
+		java.lang.Integer iSlot = _mapSlot.get (strName);
+
+		return null == iSlot ? -1 : iSlot;
+	}
+
+	/**
+	 * Indicate if the Measure Name is part of the Schema
+	 *
+	 * @param strName The Measure Name
+	 *
+	 * @return TRUE => The Measure Name is part of the Schema
+	 */
+
+	public boolean contains (
+		final java.lang.String strName)
+	{
+		return -1 != slot (strName);
+	}
+}
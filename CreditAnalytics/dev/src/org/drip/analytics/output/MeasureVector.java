@@ -0,0 +1,318 @@
+
+package org.drip.analytics.output;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * MeasureVector holds the Values of the Measures of a MeasureSchema in a flat double Array indexed by Slot,
+ * 	along with the Slot Availability Flags. It provides the following functionality:
+ * 	- Set/Retrieve the Measure Value by Slot or by Name
+ * 	- Merge Blocks of Slots (e.g., onto the Prefixed Measure Blocks)
+ * 	- Accumulate the (Weighted) Slot Values of another MeasureVector of the same Schema
+ * 	- Restrict the Vector to a Subset of the Measures
+ * 	- Adapt from/to the CaseInsensitiveTreeMap Measure Map
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class MeasureVector {
+	private double[] _adblValue = null;
+	private boolean[] _abAvailable = null;
+	private org.drip.analytics.output.MeasureSchema _ms = null;
+
+	/**
+	 * Adapt the Measure Map onto a MeasureVector over the Interned Schema of the Map Keys
+	 *
+	 * @param mapMeasure The Measure Map
+	 *
+	 * @return The MeasureVector Instance
+	 */
+
+	public static final MeasureVector FromMap (
+		final org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasure)
+	{
+		if (null == mapMeasure) return null;
+
+		int i = 0;
+		double[] adblValue = new double[mapMeasure.size()];
+		java.lang.String[] astrName = new java.lang.String[mapMeasure.size()];
+
+		for (java.util.Map.Entry<java.lang.String, java.lang.Double> me : mapMeasure.entrySet()) {
+			astrName[i] = me.getKey();
+
+			adblValue[i++] = null == me.getValue() ? java.lang.Double.NaN : me.getValue();
+		}
+
+		try {
+			MeasureVector mv = new MeasureVector (org.drip.analytics.output.MeasureSchema.Intern (astrName));
+
+			for (i = 0; i < adblValue.length; ++i)
+				mv.set (i, adblValue[i]);
+
+			return mv;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * MeasureVector constructor
+	 *
+	 * @param ms The Measure Schema
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public MeasureVector (
+		final org.drip.analytics.output.MeasureSchema ms)
+		throws java.lang.Exception
+	{
+		if (null == (_ms = ms)) throw new java.lang.Exception ("MeasureVector ctr: Invalid Inputs");
+
+		_adblValue = new double[_ms.size()];
+
+		_abAvailable = new boolean[_ms.size()];
+	}
+
+	/**
+	 * Retrieve the Measure Schema
+	 *
+	 * @return The Measure Schema
+	 */
+
+	public org.drip.analytics.output.MeasureSchema schema()
+	{
+		return _ms;
+	}
+
+	/**
+	 * Set the Value of the Measure at the Slot
+	 *
+	 * @param iSlot The Slot
+	 * @param dblValue The Measure Value
+	 *
+	 * @return TRUE => The Value successfully set
+	 */
+
+	public boolean set (
+		final int iSlot,
+		final double dblValue)
+	{
+		if (0 > iSlot || iSlot >= _adblValue.length) return false;
+
+		_adblValue[iSlot] = dblValue;
+		_abAvailable[iSlot] = true;
+		return true;
+	}
+
+	/**
+	 * Set the Value of the named Measure
+	 *
+	 * @param strName The Measure Name
+	 * @param dblValue The Measure Value
+	 *
+	 * @return TRUE => The Value successfully set
+	 */
+
+	public boolean set (
+		final java.lang.String strName,
+		final double dblValue)
+	{
+		return set (_ms.slot (strName), dblValue);
+	}
+
+	/**
+	 * Indicate if the Value at the Slot is available
+	 *
+	 * @param iSlot The Slot
+	 *
+	 * @return TRUE => The Value at the Slot is available
+	 */
+
+	public boolean available (
+		final int iSlot)
+	{
+		return 0 <= iSlot && iSlot < _abAvailable.length && _abAvailable[iSlot];
+	}
+
+	/**
+	 * Retrieve the Value of the Measure at the Slot
+	 *
+	 * @param iSlot The Slot
+	 *
+	 * @return The Measure Value
+	 *
+	 * @throws java.lang.Exception Thrown if the Value at the Slot is not available
+	 */
+
+	public double value (
+		final int iSlot)
+		throws java.lang.Exception
+	{
+		if (!available (iSlot))
+			throw new java.lang.Exception ("MeasureVector::value => Value not available at Slot " + iSlot);
+
+		return _adblValue[iSlot];
+	}
+
+	/**
+	 * Retrieve the Value of the named Measure
+	 *
+	 * @param strName The Measure Name
+	 *
+	 * @return The Measure Value
+	 *
+	 * @throws java.lang.Exception Thrown if the Measure Value is not available
+	 */
+
+	public double value (
+		final java.lang.String strName)
+		throws java.lang.Exception
+	{
+		int iSlot = _ms.slot (strName);
+
+		if (!available (iSlot))
+			throw new java.lang.Exception ("MeasureVector::value => Measure " + strName + " not available");
+
+		return _adblValue[iSlot];
+	}
+
+	/**
+	 * Merge the available Values of the Block of Slots starting at the Source Slot onto the Block starting
+	 * 	at the Target Slot. Target Slots whose Source is unavailable are left untouched.
+	 *
+	 * @param iSourceSlot The Source Block Start Slot
+	 * @param iTargetSlot The Target Block Start Slot
+	 * @param iLength The Block Length
+	 *
+	 * @return TRUE => The Block successfully merged
+	 */
+
+	public boolean merge (
+		final int iSourceSlot,
+		final int iTargetSlot,
+		final int iLength)
+	{
+		if (0 > iSourceSlot || 0 > iTargetSlot || 0 > iLength || iSourceSlot + iLength > _adblValue.length
+			|| iTargetSlot + iLength > _adblValue.length)
+			return false;
+
+		for (int i = 0; i < iLength; ++i) {
+			if (!_abAvailable[iSourceSlot + i]) continue;
+
+			_adblValue[iTargetSlot + i] = _adblValue[iSourceSlot + i];
+			_abAvailable[iTargetSlot + i] = true;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Accumulate the Weighted Values of the specified Slots of the Component MeasureVector onto this Vector.
+	 * 	Slots unavailable in the Component are skipped; Slots unavailable in this Vector start off at zero.
+	 *
+	 * @param mvComponent The Component MeasureVector (must share the Schema)
+	 * @param aiSlot Array of the Slots to Accumulate
+	 * @param dblWeight The Weight applied to the Component Values
+	 *
+	 * @return TRUE => The Accumulation successfully completed
+	 */
+
+	public boolean accumulate (
+		final MeasureVector mvComponent,
+		final int[] aiSlot,
+		final double dblWeight)
+	{
+		if (null == mvComponent || _ms != mvComponent._ms || null == aiSlot) return false;
+
+		double[] adblComponentValue = mvComponent._adblValue;
+		boolean[] abComponentAvailable = mvComponent._abAvailable;
+
+		for (int iSlot : aiSlot) {
+			if (!abComponentAvailable[iSlot]) continue;
+
+			_adblValue[iSlot] = dblWeight * adblComponentValue[iSlot] + (_abAvailable[iSlot] ?
+				_adblValue[iSlot] : 0.);
+			_abAvailable[iSlot] = true;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Restrict the Vector to the requested Measures
+	 *
+	 * @param setstrMeasure Set of the requested Measure Names (null => All Measures)
+	 *
+	 * @return A MeasureVector of the same Schema with only the requested Measures available
+	 */
+
+	public MeasureVector subset (
+		final java.util.Set<java.lang.String> setstrMeasure)
+	{
+		if (null == setstrMeasure) return this;
+
+		try {
+			MeasureVector mv = new MeasureVector (_ms);
+
+			for (java.lang.String strMeasure : setstrMeasure) {
+				int iSlot = _ms.slot (strMeasure);
+
+				if (available (iSlot)) mv.set (iSlot, _adblValue[iSlot]);
+			}
+
+			return mv;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Adapt the available Measures onto a Measure Map
+	 *
+	 * @return The Measure Map
+	 */
+
+	public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> toMap()
+	{
+		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasure = new
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
+
+		java.lang.String[] astrName = _ms.names();
+
+		for (int i = 0; i < _adblValue.length; ++i) {
+			if (_abAvailable[i]) mapMeasure.put (astrName[i], _adblValue[i]);
+		}
+
+		return mapMeasure;
+	}
+}
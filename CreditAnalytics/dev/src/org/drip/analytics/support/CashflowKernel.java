@@ -0,0 +1,335 @@
+package org.drip.analytics.support;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+
+/**
+ * CashflowKernel holds the compiled (Year Fraction, Cash Flow) Vectors of a Fixed Cash Flow Stream, along
+ * 	with the Cash Pay Year Fraction, the Accrued, and the Scaling Notional, and prices the Stream off of a
+ * 	Discrete Compounding Rate Shift. Each Node is discounted at its (optional) Base Rate plus the Shift, i.e.,
+ * 	DF = (1 + (r + s) / f) ^ (-f * t), and then forwarded to the Cash Pay Date. The Clean Price and its First
+ * 	and Second Derivatives to the Shift are computed in a single Pass over the Primitive Arrays, and the
+ * 	Shift is calibrated from the Clean Price using Newton's Method. YieldCashflowKernel and
+ * 	ZSpreadCashflowKernel specialize it for the Yield and the Z Spread respectively.
+ * 
+ * @author Lakshmi Krishnamurthy
+ */
+
+public abstract class CashflowKernel {
+	private int _iFreq = 2;
+	private double[] _adblTime = null;
+	private double[] _adblBaseRate = null;
+	private double _dblAccrued = java.lang.Double.NaN;
+	private double[] _adblCashflow = null;
+	private double _dblCashPayTime = java.lang.Double.NaN;
+	private double _dblCashPayBaseRate = java.lang.Double.NaN;
+	private double _dblScalingNotional = java.lang.Double.NaN;
+
+	/*
+	 * Newton Iteration Controls
+	 */
+
+	private static final int NEWTON_MAX_ITERATION = 50;
+	private static final double NEWTON_SHIFT_TOLERANCE = 1.e-12;
+
+	private final double compoundingBase (
+		final double dblBaseRate,
+		final double dblShift)
+		throws java.lang.Exception
+	{
+		double dblCompoundingBase = 1. + (dblBaseRate + dblShift) / _iFreq;
+
+		if (0. >= dblCompoundingBase)
+			throw new java.lang.Exception ("CashflowKernel::compoundingBase => Invalid Shift");
+
+		return dblCompoundingBase;
+	}
+
+	/**
+	 * CashflowKernel Constructor
+	 * 
+	 * @param iFreq Compounding Frequency - defaults to semi-annual if zero
+	 * @param adblTime Array of the Cash Flow Node Year Fractions (Zero => Node is not discounted)
+	 * @param adblCashflow Array of the Cash Flow Amounts
+	 * @param adblBaseRate Array of the Un-shifted Rates at the Cash Flow Nodes (null => Zero Base Rates)
+	 * @param dblCashPayTime Year Fraction to the Cash Pay Date
+	 * @param dblCashPayBaseRate Un-shifted Rate at the Cash Pay Date
+	 * @param dblAccrued The Accrued to be subtracted from the Forward Dirty Price
+	 * @param dblScalingNotional The Notional the Price is quoted off of
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	protected CashflowKernel (
+		final int iFreq,
+		final double[] adblTime,
+		final double[] adblCashflow,
+		final double[] adblBaseRate,
+		final double dblCashPayTime,
+		final double dblCashPayBaseRate,
+		final double dblAccrued,
+		final double dblScalingNotional)
+		throws java.lang.Exception
+	{
+		if (null == (_adblTime = adblTime) || null == (_adblCashflow = adblCashflow) || _adblTime.length !=
+			_adblCashflow.length || (null != (_adblBaseRate = adblBaseRate) && _adblTime.length !=
+				_adblBaseRate.length) || !org.drip.quant.common.NumberUtil.IsValid (_dblCashPayTime =
+					dblCashPayTime) || !org.drip.quant.common.NumberUtil.IsValid (_dblCashPayBaseRate =
+						dblCashPayBaseRate) || !org.drip.quant.common.NumberUtil.IsValid (_dblAccrued =
+							dblAccrued) || !org.drip.quant.common.NumberUtil.IsValid (_dblScalingNotional =
+								dblScalingNotional) || 0. == _dblScalingNotional)
+			throw new java.lang.Exception ("CashflowKernel ctr => Invalid Inputs");
+
+		for (int i = 0; i < _adblTime.length; ++i) {
+			if (!org.drip.quant.common.NumberUtil.IsValid (_adblTime[i]) ||
+				!org.drip.quant.common.NumberUtil.IsValid (_adblCashflow[i]) || (null != _adblBaseRate &&
+					!org.drip.quant.common.NumberUtil.IsValid (_adblBaseRate[i])))
+				throw new java.lang.Exception ("CashflowKernel ctr => Invalid Node #" + i);
+		}
+
+		_iFreq = 0 == iFreq ? 2 : iFreq;
+	}
+
+	/**
+	 * Retrieve the Number of Cash Flow Nodes
+	 * 
+	 * @return The Number of Cash Flow Nodes
+	 */
+
+	public int numNode()
+	{
+		return _adblTime.length;
+	}
+
+	/**
+	 * Retrieve the Compounding Frequency
+	 * 
+	 * @return The Compounding Frequency
+	 */
+
+	public int freq()
+	{
+		return _iFreq;
+	}
+
+	/**
+	 * Retrieve the Year Fraction of the specified Cash Flow Node
+	 * 
+	 * @param iNode The Cash Flow Node
+	 * 
+	 * @return The Year Fraction of the Cash Flow Node
+	 */
+
+	public double time (
+		final int iNode)
+	{
+		return _adblTime[iNode];
+	}
+
+	/**
+	 * Retrieve the Cash Flow Amount at the specified Cash Flow Node
+	 * 
+	 * @param iNode The Cash Flow Node
+	 * 
+	 * @return The Cash Flow Amount at the Cash Flow Node
+	 */
+
+	public double cashflow (
+		final int iNode)
+	{
+		return _adblCashflow[iNode];
+	}
+
+	/**
+	 * Retrieve the Accrued
+	 * 
+	 * @return The Accrued
+	 */
+
+	public double accrued()
+	{
+		return _dblAccrued;
+	}
+
+	/**
+	 * Compute the Clean Price off of the Rate Shift
+	 * 
+	 * @param dblShift The Rate Shift
+	 * 
+	 * @return The Clean Price
+	 * 
+	 * @throws java.lang.Exception Thrown if the Price cannot be computed
+	 */
+
+	public double price (
+		final double dblShift)
+		throws java.lang.Exception
+	{
+		return priceDerivatives (dblShift, 0)[0];
+	}
+
+	/**
+	 * Compute the Clean Price and its Derivatives to the Rate Shift up to the Specified Order in a single
+	 * 	Pass. Each Cash Flow is discounted to the Cash Pay Date as exp (-f * t * ln u + f * tc * ln uc), where
+	 * 	u = 1 + (r + s) / f, so the Exponent's First Derivative to the Shift is g = -t / u + tc / uc, its
+	 * 	Second Derivative is h = t / (f * u^2) - tc / (f * uc^2), and the Node's Derivatives are g * PV and
+	 * 	(g^2 + h) * PV.
+	 * 
+	 * @param dblShift The Rate Shift
+	 * @param iOrder The Highest Derivative Order (0, 1, or 2)
+	 * 
+	 * @return Array of the Clean Price and its Derivatives to the Rate Shift
+	 * 
+	 * @throws java.lang.Exception Thrown if the Price/Derivatives cannot be computed
+	 */
+
+	public double[] priceDerivatives (
+		final double dblShift,
+		final int iOrder)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblShift) || 0 > iOrder || 2 < iOrder)
+			throw new java.lang.Exception ("CashflowKernel::priceDerivatives => Invalid Inputs");
+
+		double dblPV = 0.;
+		double dblPVDerivative = 0.;
+		double dblFlatLogCompoundingBase = 0.;
+		double dblPVSecondDerivative = 0.;
+		double dblFlatCompoundingBase = java.lang.Double.NaN;
+		double dblCashPayExponent = 0.;
+		double dblCashPayGradient = 0.;
+		double dblCashPayCurvature = 0.;
+
+		if (null == _adblBaseRate) {
+			dblFlatCompoundingBase = compoundingBase (0., dblShift);
+
+			dblFlatLogCompoundingBase = java.lang.Math.log (dblFlatCompoundingBase);
+		}
+
+		if (0. != _dblCashPayTime) {
+			double dblCashPayCompoundingBase = null == _adblBaseRate ? dblFlatCompoundingBase :
+				compoundingBase (_dblCashPayBaseRate, dblShift);
+
+			dblCashPayExponent = _iFreq * _dblCashPayTime * (null == _adblBaseRate ?
+				dblFlatLogCompoundingBase : java.lang.Math.log (dblCashPayCompoundingBase));
+
+			dblCashPayGradient = _dblCashPayTime / dblCashPayCompoundingBase;
+			dblCashPayCurvature = -1. * dblCashPayGradient / (_iFreq * dblCashPayCompoundingBase);
+		}
+
+		for (int i = 0; i < _adblTime.length; ++i) {
+			double dblTime = _adblTime[i];
+			double dblExponent = dblCashPayExponent;
+			double dblGradient = dblCashPayGradient;
+			double dblCurvature = dblCashPayCurvature;
+
+			if (0. != dblTime) {
+				double dblCompoundingBase = null == _adblBaseRate ? dblFlatCompoundingBase :
+					compoundingBase (_adblBaseRate[i], dblShift);
+
+				dblExponent -= _iFreq * dblTime * (null == _adblBaseRate ? dblFlatLogCompoundingBase :
+					java.lang.Math.log (dblCompoundingBase));
+
+				dblGradient -= dblTime / dblCompoundingBase;
+				dblCurvature += dblTime / (_iFreq * dblCompoundingBase * dblCompoundingBase);
+			}
+
+			double dblCashflowPV = _adblCashflow[i] * java.lang.Math.exp (dblExponent);
+
+			dblPV += dblCashflowPV;
+
+			if (0 == iOrder) continue;
+
+			dblPVDerivative += dblGradient * dblCashflowPV;
+
+			if (2 == iOrder)
+				dblPVSecondDerivative += (dblGradient * dblGradient + dblCurvature) * dblCashflowPV;
+		}
+
+		double[] adblPriceDerivative = new double[iOrder + 1];
+		adblPriceDerivative[0] = (dblPV - _dblAccrued) / _dblScalingNotional;
+
+		if (0 < iOrder) adblPriceDerivative[1] = dblPVDerivative / _dblScalingNotional;
+
+		if (2 == iOrder) adblPriceDerivative[2] = dblPVSecondDerivative / _dblScalingNotional;
+
+		return adblPriceDerivative;
+	}
+
+	/**
+	 * Calibrate the Rate Shift from the Clean Price using Newton's Method with the Analytic Derivative. The
+	 * 	Newton Step is halved whenever it would take the Compounding Base of any Node non-positive.
+	 * 
+	 * @param dblPrice The Clean Price
+	 * @param dblShiftStart The Starting Rate Shift
+	 * 
+	 * @return The Calibrated Rate Shift
+	 * 
+	 * @throws java.lang.Exception Thrown if the Rate Shift cannot be calibrated
+	 */
+
+	public double shiftFromPrice (
+		final double dblPrice,
+		final double dblShiftStart)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblPrice) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblShiftStart))
+			throw new java.lang.Exception ("CashflowKernel::shiftFromPrice => Invalid Inputs");
+
+		double dblShift = dblShiftStart;
+
+		double[] adblPriceDerivative = priceDerivatives (dblShift, 1);
+
+		for (int iIteration = 0; iIteration < NEWTON_MAX_ITERATION; ++iIteration) {
+			if (0. == adblPriceDerivative[1] || !org.drip.quant.common.NumberUtil.IsValid
+				(adblPriceDerivative[1]))
+				break;
+
+			double dblStep = (adblPriceDerivative[0] - dblPrice) / adblPriceDerivative[1];
+
+			double[] adblPriceDerivativeNext = null;
+
+			while (null == adblPriceDerivativeNext) {
+				try {
+					adblPriceDerivativeNext = priceDerivatives (dblShift - dblStep, 1);
+				} catch (java.lang.Exception e) {
+					if (java.lang.Math.abs (dblStep *= 0.5) < NEWTON_SHIFT_TOLERANCE) throw e;
+				}
+			}
+
+			dblShift -= dblStep;
+			adblPriceDerivative = adblPriceDerivativeNext;
+
+			if (java.lang.Math.abs (dblStep) < NEWTON_SHIFT_TOLERANCE) return dblShift;
+		}
+
+		throw new java.lang.Exception ("CashflowKernel::shiftFromPrice => Cannot converge");
+	}
+}
@@ -257,4 +257,111 @@ public class LossQuadratureGenerator {
 
 		return sLP;
 	}
+
+	/**
+	 * Generate the Set of Loss Quadrature Metrics whose Boundaries are the Merged Credit and Funding Curve
+	 * 	Knots inside the Coupon Period. The Loss and the Accrual-on-Default Integrals are evaluated exactly
+	 * 	inside each of them, assuming piece-wise flat Hazard and Forward Rates.
+	 * 
+	 * @param comp Component for which the measures are to be generated
+	 * @param valParams ValuationParams from which the periods are generated
+	 * @param period The enveloping coupon period
+	 * @param dblWorkoutDate Double JulianDate representing the absolute end of all the generated periods
+	 * @param csqs The Market Parameters Curves/Quotes
+	 *  
+	 * @return List of the generated LossQuadratureMetrics
+	 */
+
+	public static final java.util.List<org.drip.analytics.cashflow.LossQuadratureMetrics>
+		GenerateKnotPointLossPeriods (
+			final org.drip.product.definition.CreditComponent comp,
+			final org.drip.param.valuation.ValuationParams valParams,
+			final org.drip.analytics.cashflow.CompositePeriod period,
+			final double dblWorkoutDate,
+			final org.drip.param.market.CurveSurfaceQuoteSet csqs)
+	{
+		if (null == comp || null == valParams || null == period || null == csqs || null == csqs.creditCurve
+			(comp.creditLabel()) || !org.drip.quant.common.NumberUtil.IsValid (dblWorkoutDate) ||
+				period.startDate() > dblWorkoutDate)
+			return null;
+
+		org.drip.analytics.rates.DiscountCurve dc = csqs.fundingCurve
+			(org.drip.state.identifier.FundingLabel.Standard (comp.payCurrency()));
+
+		if (null == dc) return null;
+
+		org.drip.analytics.definition.CreditCurve cc = csqs.creditCurve (comp.creditLabel());
+
+		double dblValueDate = valParams.valueDate();
+
+		double dblPeriodEndDate = period.endDate() < dblWorkoutDate ? period.endDate() : dblWorkoutDate;
+
+		double dblPeriodStartDate = period.startDate() < dblValueDate ? dblValueDate : period.startDate();
+
+		if (dblPeriodEndDate < dblValueDate) return null;
+
+		int iDefaultLag = comp.creditValuationParams().lossPayLag();
+
+		java.util.TreeSet<java.lang.Double> setKnot = new java.util.TreeSet<java.lang.Double>();
+
+		double[] adblCreditKnot = cc.nodeDates();
+
+		if (null != adblCreditKnot) {
+			for (double dblKnot : adblCreditKnot)
+				setKnot.add (dblKnot);
+		}
+
+		org.drip.product.definition.CalibratableFixedIncomeComponent[] aFundingComp = dc.calibComp();
+
+		if (null != aFundingComp) {
+			for (org.drip.product.definition.CalibratableFixedIncomeComponent fundingComp : aFundingComp) {
+				org.drip.analytics.date.JulianDate dtMaturity = null == fundingComp ? null :
+					fundingComp.maturityDate();
+
+				/*
+				 * Discount factors are read off at the loss pay lagged dates.
+				 */
+
+				if (null != dtMaturity) setKnot.add (dtMaturity.julian() - iDefaultLag);
+			}
+		}
+
+		java.util.List<org.drip.analytics.cashflow.LossQuadratureMetrics> sLP = new
+			java.util.ArrayList<org.drip.analytics.cashflow.LossQuadratureMetrics>();
+
+		try {
+			double dblSubPeriodStart = dblPeriodStartDate;
+
+			setKnot.add (dblPeriodEndDate);
+
+			for (double dblSubPeriodEnd : setKnot.subSet (dblPeriodStartDate, false, dblPeriodEndDate,
+				true)) {
+				double dblSubPeriodStartAccrualDCF = period.accrualDCF (dblSubPeriodStart);
+
+				/*
+				 * The Accrual DCF at the Period End snaps to the full Coupon DCF, so the Accrual Line is
+				 * 	anchored off the Start and the Mid Points instead (as in the Day Step Quadrature).
+				 */
+
+				double dblSubPeriodEndAccrualDCF = 2. * period.accrualDCF (0.5 * (dblSubPeriodStart +
+					dblSubPeriodEnd)) - dblSubPeriodStartAccrualDCF;
+
+				org.drip.analytics.cashflow.LossQuadratureMetrics lp =
+					org.drip.analytics.cashflow.LossQuadratureMetrics.MakeAnalyticDefaultPeriod
+						(dblSubPeriodStart, dblSubPeriodEnd, dblSubPeriodStartAccrualDCF,
+							dblSubPeriodEndAccrualDCF, comp.notional (dblSubPeriodStart, dblSubPeriodEnd),
+								comp.recovery (dblSubPeriodStart, dblSubPeriodEnd, cc), dc, cc, iDefaultLag);
+
+				if (null != lp) sLP.add (lp);
+
+				dblSubPeriodStart = dblSubPeriodEnd;
+			}
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		}
+
+		return sLP;
+	}
 }
@@ -0,0 +1,123 @@
+package org.drip.analytics.support;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+
+/**
+ * YieldCashflowKernel holds the compiled (Year Fraction, Cash Flow) Vectors of a Bond to a given Work-out,
+ * 	along with the Cash Pay Year Fraction, the Accrued, and the Scaling Notional. All the Cash Flows are
+ * 	discounted at a single Yield, i.e., DF = (1 + y / f) ^ (-f * t), so the Clean Price and its First and
+ * 	Second Derivatives to the Yield are computed in a single Pass over Primitive Arrays.
+ * 
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class YieldCashflowKernel extends org.drip.analytics.support.CashflowKernel {
+
+	/**
+	 * YieldCashflowKernel Constructor
+	 * 
+	 * @param iFreq Yield Compounding Frequency - defaults to semi-annual if zero
+	 * @param adblTime Array of the Cash Flow Year Fractions from the Valuation Date
+	 * @param adblCashflow Array of the Cash Flow Amounts
+	 * @param dblCashPayTime Year Fraction from the Valuation Date to the Cash Pay Date
+	 * @param dblAccrued The Accrued to be subtracted from the Dirty Price
+	 * @param dblScalingNotional The Notional the Price is quoted off of
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public YieldCashflowKernel (
+		final int iFreq,
+		final double[] adblTime,
+		final double[] adblCashflow,
+		final double dblCashPayTime,
+		final double dblAccrued,
+		final double dblScalingNotional)
+		throws java.lang.Exception
+	{
+		super (iFreq, adblTime, adblCashflow, null, dblCashPayTime, 0., dblAccrued, dblScalingNotional);
+	}
+
+	/**
+	 * Compute the PV Weighted Average Year Fraction of the Cash Flows, i.e., the Macaulay Duration
+	 * 
+	 * @param dblYield The Yield
+	 * 
+	 * @return The Macaulay Duration
+	 * 
+	 * @throws java.lang.Exception Thrown if the Macaulay Duration cannot be computed
+	 */
+
+	public double macaulayDuration (
+		final double dblYield)
+		throws java.lang.Exception
+	{
+		int iFreq = freq();
+
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblYield) || 0. >= 1. + dblYield / iFreq)
+			throw new java.lang.Exception ("YieldCashflowKernel::macaulayDuration => Invalid Inputs");
+
+		double dblPV = 0.;
+		double dblTimeWeightedPV = 0.;
+
+		double dblLogCompoundingBase = java.lang.Math.log (1. + dblYield / iFreq);
+
+		for (int i = 0; i < numNode(); ++i) {
+			double dblTime = time (i);
+
+			double dblCashflowPV = cashflow (i) * java.lang.Math.exp (-1. * iFreq * dblTime *
+				dblLogCompoundingBase);
+
+			dblPV += dblCashflowPV;
+			dblTimeWeightedPV += dblTime * dblCashflowPV;
+		}
+
+		return dblTimeWeightedPV / dblPV;
+	}
+
+	/**
+	 * Calibrate the Yield from the Clean Price using Newton's Method with the Analytic Derivative
+	 * 
+	 * @param dblPrice The Clean Price
+	 * @param dblYieldStart The Starting Yield
+	 * 
+	 * @return The Calibrated Yield
+	 * 
+	 * @throws java.lang.Exception Thrown if the Yield cannot be calibrated
+	 */
+
+	public double yieldFromPrice (
+		final double dblPrice,
+		final double dblYieldStart)
+		throws java.lang.Exception
+	{
+		return shiftFromPrice (dblPrice, dblYieldStart);
+	}
+}
@@ -0,0 +1,95 @@
+package org.drip.analytics.support;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+
+/**
+ * ZSpreadCashflowKernel holds the (Time, Cash Flow, Base Zero Rate) Vectors of a Fixed Cash Flow Stream,
+ * 	computed once per Valuation, and prices the Stream off of the Base Zero Rates shifted by a Z Spread.
+ * 	Each Node is discounted using the Discrete Compounding of the Zero Curve, i.e., DF = (1 + (z + s) / f) ^
+ * 	(-f * t), so the Price and its Analytic Derivative to the Z Spread are available without building a
+ * 	Zero Curve, and the Z Spread is calibrated from the Price using Newton's Method.
+ * 
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class ZSpreadCashflowKernel extends org.drip.analytics.support.CashflowKernel {
+
+	/**
+	 * ZSpreadCashflowKernel Constructor
+	 * 
+	 * @param iFreq Zero Curve Compounding Frequency - defaults to semi-annual if zero
+	 * @param adblTime Array of the Cash Flow Node Year Fractions (Zero => Node is not discounted)
+	 * @param adblCashflow Array of the Cash Flow Amounts
+	 * @param adblBaseZeroRate Array of the Un-shifted Zero Rates at the Cash Flow Nodes
+	 * @param dblCashPayTime Year Fraction to the Cash Pay Date
+	 * @param dblCashPayBaseZeroRate Un-shifted Zero Rate at the Cash Pay Date
+	 * @param dblAccrued The Accrued to be subtracted from the Forward Dirty Price
+	 * @param dblScalingNotional The Notional the Price is quoted off of
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public ZSpreadCashflowKernel (
+		final int iFreq,
+		final double[] adblTime,
+		final double[] adblCashflow,
+		final double[] adblBaseZeroRate,
+		final double dblCashPayTime,
+		final double dblCashPayBaseZeroRate,
+		final double dblAccrued,
+		final double dblScalingNotional)
+		throws java.lang.Exception
+	{
+		super (iFreq, adblTime, adblCashflow, adblBaseZeroRate, dblCashPayTime, dblCashPayBaseZeroRate,
+			dblAccrued, dblScalingNotional);
+
+		if (null == adblBaseZeroRate)
+			throw new java.lang.Exception ("ZSpreadCashflowKernel ctr => Invalid Inputs");
+	}
+
+	/**
+	 * Calibrate the Z Spread from the Clean Price using Newton's Method with the Analytic Derivative
+	 * 
+	 * @param dblPrice The Clean Price
+	 * @param dblZSpreadStart The Starting Z Spread
+	 * 
+	 * @return The Calibrated Z Spread
+	 * 
+	 * @throws java.lang.Exception Thrown if the Z Spread cannot be calibrated
+	 */
+
+	public double zSpreadFromPrice (
+		final double dblPrice,
+		final double dblZSpreadStart)
+		throws java.lang.Exception
+	{
+		return shiftFromPrice (dblPrice, dblZSpreadStart);
+	}
+}
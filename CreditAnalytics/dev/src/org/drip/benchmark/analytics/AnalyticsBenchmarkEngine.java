@@ -0,0 +1,319 @@
+
+package org.drip.benchmark.analytics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * AnalyticsBenchmarkEngine runs the Analytics Benchmark Scenarios - Curve Builds, CDS/Bond Valuation and
+ * 	Calibration, Date Rolls, Fixed Point Searches, and Spline Evaluations - across their Size Grids through
+ * 	the BenchmarkRunner. The Results are displayed, optionally written out as CSV, and optionally compared
+ * 	against the CSV of a Baseline Run (e.g., the previous Release), flagging the Scenario/Sizes whose Mean
+ * 	Time per Operation has regressed beyond the Tolerance.
+ *
+ * 	Usage: AnalyticsBenchmarkEngine [Output CSV File] [Baseline CSV File]
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class AnalyticsBenchmarkEngine {
+
+	/**
+	 * Default Relative Slow-down Tolerance against the Baseline
+	 */
+
+	public static final double DEFAULT_REGRESSION_TOLERANCE = 0.10;
+
+	private org.drip.benchmark.core.BenchmarkRunner _br = null;
+	private double _dblRegressionTolerance = java.lang.Double.NaN;
+	private java.util.List<org.drip.benchmark.core.BenchmarkScenario> _lsScenario = new
+		java.util.ArrayList<org.drip.benchmark.core.BenchmarkScenario>();
+	private java.util.List<int[]> _lsSize = new java.util.ArrayList<int[]>();
+
+	private static final java.util.Map<java.lang.String, java.lang.Double> BaselineMean (
+		final java.lang.String strBaselineFile)
+	{
+		java.util.Map<java.lang.String, java.lang.Double> mapBaselineMean = new
+			java.util.HashMap<java.lang.String, java.lang.Double>();
+
+		java.io.BufferedReader br = null;
+
+		try {
+			br = new java.io.BufferedReader (new java.io.FileReader (strBaselineFile));
+
+			java.lang.String strLine = br.readLine();
+
+			while (null != (strLine = br.readLine())) {
+				java.lang.String[] astrField = strLine.split (",");
+
+				if (5 <= astrField.length)
+					mapBaselineMean.put (astrField[0] + "#" + astrField[2], java.lang.Double.parseDouble
+						(astrField[4]));
+			}
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		} finally {
+			try {
+				if (null != br) br.close();
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+			}
+		}
+
+		return mapBaselineMean;
+	}
+
+	/**
+	 * Construct the Engine with the Standard Analytics Scenarios and their Size Grids
+	 *
+	 * @param br The Benchmark Runner
+	 * @param dblRegressionTolerance The Relative Slow-down Tolerance against the Baseline
+	 *
+	 * @return The AnalyticsBenchmarkEngine Instance
+	 */
+
+	public static final AnalyticsBenchmarkEngine Standard (
+		final org.drip.benchmark.core.BenchmarkRunner br,
+		final double dblRegressionTolerance)
+	{
+		try {
+			AnalyticsBenchmarkEngine abe = new AnalyticsBenchmarkEngine (br, dblRegressionTolerance);
+
+			if (!abe.addScenario (new org.drip.benchmark.analytics.CurveBuildBenchmark(), new int[] {5, 10,
+				15}))
+				return null;
+
+			if (!abe.addScenario (new org.drip.benchmark.analytics.CreditCurveCalibrationBenchmark(), new
+				int[] {3, 5, 10}))
+				return null;
+
+			if (!abe.addScenario (new org.drip.benchmark.analytics.CDSBookBenchmark(), new int[] {10, 100}))
+				return null;
+
+			if (!abe.addScenario (new org.drip.benchmark.analytics.BondBookBenchmark (false), new int[] {10,
+				50}))
+				return null;
+
+			if (!abe.addScenario (new org.drip.benchmark.analytics.BondBookBenchmark (true), new int[] {10,
+				100}))
+				return null;
+
+			if (!abe.addScenario (new org.drip.benchmark.analytics.RollDateBenchmark(), new int[] {52, 520}))
+				return null;
+
+			if (!abe.addScenario (new org.drip.benchmark.analytics.FixedPointFinderBenchmark
+				(org.drip.benchmark.analytics.FixedPointFinderBenchmark.BRENT), new int[] {100}))
+				return null;
+
+			if (!abe.addScenario (new org.drip.benchmark.analytics.FixedPointFinderBenchmark
+				(org.drip.benchmark.analytics.FixedPointFinderBenchmark.NEWTON), new int[] {100}))
+				return null;
+
+			if (!abe.addScenario (new org.drip.benchmark.analytics.SplineEvaluationBenchmark (false), new
+				int[] {10, 50}))
+				return null;
+
+			return abe.addScenario (new org.drip.benchmark.analytics.SplineEvaluationBenchmark (true), new
+				int[] {10, 50}) ? abe : null;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * AnalyticsBenchmarkEngine constructor
+	 *
+	 * @param br The Benchmark Runner
+	 * @param dblRegressionTolerance The Relative Slow-down Tolerance against the Baseline
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public AnalyticsBenchmarkEngine (
+		final org.drip.benchmark.core.BenchmarkRunner br,
+		final double dblRegressionTolerance)
+		throws java.lang.Exception
+	{
+		if (null == (_br = br) || !org.drip.quant.common.NumberUtil.IsValid (_dblRegressionTolerance =
+			dblRegressionTolerance) || 0. > _dblRegressionTolerance)
+			throw new java.lang.Exception ("AnalyticsBenchmarkEngine ctr: Invalid Inputs");
+	}
+
+	/**
+	 * Add a Scenario along with its Size Grid
+	 *
+	 * @param bs The Benchmark Scenario
+	 * @param aiSize Array of the Scenario Sizes
+	 *
+	 * @return TRUE => The Scenario successfully added
+	 */
+
+	public boolean addScenario (
+		final org.drip.benchmark.core.BenchmarkScenario bs,
+		final int[] aiSize)
+	{
+		if (null == bs || null == aiSize || 0 == aiSize.length) return false;
+
+		_lsScenario.add (bs);
+
+		_lsSize.add (aiSize);
+
+		return true;
+	}
+
+	/**
+	 * Run all the Scenarios across their Size Grids, displaying each Result as it completes
+	 *
+	 * @return List of the Benchmark Results
+	 */
+
+	public java.util.List<org.drip.benchmark.core.BenchmarkResult> run()
+	{
+		java.util.List<org.drip.benchmark.core.BenchmarkResult> lsBR = new
+			java.util.ArrayList<org.drip.benchmark.core.BenchmarkResult>();
+
+		for (int i = 0; i < _lsScenario.size(); ++i) {
+			org.drip.benchmark.core.BenchmarkScenario bs = _lsScenario.get (i);
+
+			for (int iSize : _lsSize.get (i)) {
+				org.drip.benchmark.core.BenchmarkResult br = _br.run (bs, iSize);
+
+				if (null == br) {
+					System.out.println ("\t" + bs.name() + "[" + bs.sizeParameter() + "=" + iSize +
+						"] => FAILED");
+
+					continue;
+				}
+
+				System.out.println (br.displayString());
+
+				lsBR.add (br);
+			}
+		}
+
+		return lsBR;
+	}
+
+	/**
+	 * Write the Results out as CSV
+	 *
+	 * @param lsBR List of the Benchmark Results
+	 * @param strFile The CSV File
+	 *
+	 * @return TRUE => The Results successfully written
+	 */
+
+	public boolean writeCSV (
+		final java.util.List<org.drip.benchmark.core.BenchmarkResult> lsBR,
+		final java.lang.String strFile)
+	{
+		if (null == lsBR || null == strFile || strFile.isEmpty()) return false;
+
+		java.io.PrintWriter pw = null;
+
+		try {
+			pw = new java.io.PrintWriter (new java.io.FileWriter (strFile));
+
+			pw.println (org.drip.benchmark.core.BenchmarkResult.CSVHeader());
+
+			for (org.drip.benchmark.core.BenchmarkResult br : lsBR)
+				pw.println (br.csvRecord());
+
+			return !pw.checkError();
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		} finally {
+			if (null != pw) pw.close();
+		}
+
+		return false;
+	}
+
+	/**
+	 * Compare the Results against the CSV of a Baseline Run, displaying the Scenario/Sizes whose Mean Time
+	 * 	per Operation has regressed beyond the Tolerance
+	 *
+	 * @param lsBR List of the Benchmark Results
+	 * @param strBaselineFile The Baseline CSV File
+	 *
+	 * @return The Number of Regressed Scenario/Sizes (-1 => The Baseline could not be read)
+	 */
+
+	public int compareToBaseline (
+		final java.util.List<org.drip.benchmark.core.BenchmarkResult> lsBR,
+		final java.lang.String strBaselineFile)
+	{
+		if (null == lsBR || null == strBaselineFile || strBaselineFile.isEmpty()) return -1;
+
+		java.util.Map<java.lang.String, java.lang.Double> mapBaselineMean = BaselineMean (strBaselineFile);
+
+		if (null == mapBaselineMean) return -1;
+
+		int iNumRegressed = 0;
+
+		for (org.drip.benchmark.core.BenchmarkResult br : lsBR) {
+			java.lang.Double dblBaselineMean = mapBaselineMean.get (br.name() + "#" + br.size());
+
+			if (null == dblBaselineMean || 0. >= dblBaselineMean) continue;
+
+			double dblChange = br.mean() / dblBaselineMean - 1.;
+
+			if (dblChange > _dblRegressionTolerance) {
+				++iNumRegressed;
+
+				System.out.println ("\tREGRESSED " + br.name() + "[" + br.sizeParameter() + "=" + br.size() +
+					"] => " + org.drip.quant.common.FormatUtil.FormatDouble (dblChange, 1, 1, 100.) + "%");
+			}
+		}
+
+		return iNumRegressed;
+	}
+
+	public static final void main (
+		final java.lang.String[] astrArgs)
+		throws java.lang.Exception
+	{
+		org.drip.service.api.CreditAnalytics.Init ("");
+
+		AnalyticsBenchmarkEngine abe = Standard (new org.drip.benchmark.core.BenchmarkRunner(),
+			DEFAULT_REGRESSION_TOLERANCE);
+
+		if (null == abe) return;
+
+		java.util.List<org.drip.benchmark.core.BenchmarkResult> lsBR = abe.run();
+
+		if (1 <= astrArgs.length) abe.writeCSV (lsBR, astrArgs[0]);
+
+		if (2 <= astrArgs.length)
+			System.out.println ("\t" + abe.compareToBaseline (lsBR, astrArgs[1]) +
+				" Scenario/Sizes regressed against the Baseline");
+	}
+}
@@ -0,0 +1,132 @@
+
+package org.drip.benchmark.analytics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BondBookBenchmark times either the Full Measure Valuation, or the Yield From Price Calibration, of a Book
+ * 	of Fixed Coupon Bonds off of a Flat Discount Curve and a Flat Hazard Credit Curve. The Size is the Number
+ * 	of Bonds in the Book; the Coupons and the Maturities are staggered across the Book.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BondBookBenchmark extends org.drip.benchmark.core.BenchmarkScenario {
+	private boolean _bYieldFromPrice = false;
+	private double[] _adblPrice = null;
+	private org.drip.param.pricer.PricerParams _pricerParams = null;
+	private org.drip.param.market.CurveSurfaceQuoteSet _csqs = null;
+	private org.drip.param.valuation.ValuationParams _valParams = null;
+	private org.drip.product.credit.BondComponent[] _aBond = null;
+
+	/**
+	 * BondBookBenchmark constructor
+	 *
+	 * @param bYieldFromPrice TRUE => Benchmark the Yield From Price Calibration; FALSE => Benchmark the
+	 * 	Full Measure Valuation
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public BondBookBenchmark (
+		final boolean bYieldFromPrice)
+		throws java.lang.Exception
+	{
+		super (bYieldFromPrice ? "BondBookYieldFromPrice" : "BondBookValuation", "BookSize");
+
+		_bYieldFromPrice = bYieldFromPrice;
+	}
+
+	@Override public boolean setup (
+		final int iSize)
+	{
+		if (0 >= iSize) return false;
+
+		org.drip.analytics.date.JulianDate dtSpot = org.drip.analytics.date.DateUtil.CreateFromYMD (2015, 6,
+			1);
+
+		if (null == dtSpot) return false;
+
+		_adblPrice = new double[iSize];
+
+		_pricerParams = org.drip.param.pricer.PricerParams.Standard();
+
+		_aBond = new org.drip.product.credit.BondComponent[iSize];
+
+		_valParams = org.drip.param.valuation.ValuationParams.Spot (dtSpot, 0, "",
+			org.drip.analytics.daycount.Convention.DATE_ROLL_ACTUAL);
+
+		_csqs = org.drip.param.creator.MarketParamsBuilder.Credit
+			(org.drip.state.creator.DiscountCurveBuilder.CreateFromFlatRate (dtSpot, "USD", null, 0.03),
+				org.drip.state.creator.CreditCurveBuilder.FromFlatHazard (dtSpot.julian(), "CC", "USD", 0.01,
+					0.4));
+
+		if (null == _valParams || null == _csqs) return false;
+
+		try {
+			for (int i = 0; i < iSize; ++i) {
+				if (null == (_aBond[i] = org.drip.product.creator.BondBuilder.CreateSimpleFixed ("BOND" + i,
+					"USD", "CC", 0.02 + 0.0025 * (i % 13), 2, "30/360", dtSpot.addYears (-1 - i % 3),
+						dtSpot.addYears (2 + i % 29), null, null)))
+					return false;
+
+				_adblPrice[i] = _aBond[i].priceFromYield (_valParams, _csqs, null, 0.04);
+			}
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public double invoke()
+		throws java.lang.Exception
+	{
+		double dblBookSum = 0.;
+
+		for (int i = 0; i < _aBond.length; ++i) {
+			if (_bYieldFromPrice) {
+				dblBookSum += _aBond[i].yieldFromPrice (_valParams, _csqs, null, _adblPrice[i]);
+
+				continue;
+			}
+
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasure = _aBond[i].value
+				(_valParams, _pricerParams, _csqs, null);
+
+			if (null == mapMeasure || !mapMeasure.containsKey ("Price"))
+				throw new java.lang.Exception ("BondBookBenchmark::invoke => Valuation failed");
+
+			dblBookSum += mapMeasure.get ("Price");
+		}
+
+		return dblBookSum;
+	}
+}
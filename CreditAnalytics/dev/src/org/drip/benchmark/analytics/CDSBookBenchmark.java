@@ -0,0 +1,112 @@
+
+package org.drip.benchmark.analytics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * CDSBookBenchmark times the Full Measure Valuation of a Book of Standard North American CDS off of a Flat
+ * 	Discount Curve and a Flat Hazard Credit Curve. The Size is the Number of CDS in the Book; the Tenors and
+ * 	the Coupons cycle through the Standard Set.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CDSBookBenchmark extends org.drip.benchmark.core.BenchmarkScenario {
+	private static final java.lang.String[] CDS_TENOR = new java.lang.String[] {"1Y", "2Y", "3Y", "5Y", "7Y",
+		"10Y"};
+
+	private static final double[] CDS_COUPON = new double[] {0.01, 0.05};
+
+	private org.drip.param.pricer.PricerParams _pricerParams = null;
+	private org.drip.param.market.CurveSurfaceQuoteSet _csqs = null;
+	private org.drip.param.valuation.ValuationParams _valParams = null;
+	private org.drip.product.definition.CreditDefaultSwap[] _aCDS = null;
+
+	/**
+	 * CDSBookBenchmark constructor
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public CDSBookBenchmark()
+		throws java.lang.Exception
+	{
+		super ("CDSBookValuation", "BookSize");
+	}
+
+	@Override public boolean setup (
+		final int iSize)
+	{
+		if (0 >= iSize) return false;
+
+		org.drip.analytics.date.JulianDate dtSpot = org.drip.analytics.date.DateUtil.CreateFromYMD (2015, 6,
+			1);
+
+		if (null == dtSpot) return false;
+
+		_pricerParams = org.drip.param.pricer.PricerParams.Standard();
+
+		_aCDS = new org.drip.product.definition.CreditDefaultSwap[iSize];
+
+		_valParams = org.drip.param.valuation.ValuationParams.Spot (dtSpot, 0, "",
+			org.drip.analytics.daycount.Convention.DATE_ROLL_ACTUAL);
+
+		_csqs = org.drip.param.creator.MarketParamsBuilder.Credit
+			(org.drip.state.creator.DiscountCurveBuilder.CreateFromFlatRate (dtSpot, "USD", null, 0.03),
+				org.drip.state.creator.CreditCurveBuilder.FromFlatHazard (dtSpot.julian(), "CC", "USD", 0.02,
+					0.4));
+
+		if (null == _valParams || null == _csqs) return false;
+
+		for (int i = 0; i < iSize; ++i) {
+			if (null == (_aCDS[i] = org.drip.product.creator.CDSBuilder.CreateSNAC (dtSpot, CDS_TENOR[i %
+				CDS_TENOR.length], CDS_COUPON[(i / CDS_TENOR.length) % CDS_COUPON.length], "CC")))
+				return false;
+		}
+
+		return true;
+	}
+
+	@Override public double invoke()
+		throws java.lang.Exception
+	{
+		double dblBookPV = 0.;
+
+		for (org.drip.product.definition.CreditDefaultSwap cds : _aCDS) {
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasure = cds.value
+				(_valParams, _pricerParams, _csqs, null);
+
+			if (null == mapMeasure || !mapMeasure.containsKey ("PV"))
+				throw new java.lang.Exception ("CDSBookBenchmark::invoke => Valuation failed");
+
+			dblBookPV += mapMeasure.get ("PV");
+		}
+
+		return dblBookPV;
+	}
+}
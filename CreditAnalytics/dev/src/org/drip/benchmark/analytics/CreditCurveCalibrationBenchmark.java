@@ -0,0 +1,94 @@
+
+package org.drip.benchmark.analytics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * CreditCurveCalibrationBenchmark times the Calibration of the Credit Curve off of the Fair Premium Quotes
+ * 	of a Strip of Standard North American CDS. The Size is the Number of CDS in the Strip, i.e., the Number
+ * 	of Credit Curve Nodes.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CreditCurveCalibrationBenchmark extends org.drip.benchmark.core.BenchmarkScenario {
+	private double[] _adblQuote = null;
+	private org.drip.analytics.date.JulianDate _dtSpot = null;
+	private java.lang.String[] _astrCalibMeasure = null;
+	private org.drip.analytics.rates.DiscountCurve _dc = null;
+	private org.drip.product.definition.CreditDefaultSwap[] _aCDS = null;
+
+	/**
+	 * CreditCurveCalibrationBenchmark constructor
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public CreditCurveCalibrationBenchmark()
+		throws java.lang.Exception
+	{
+		super ("CreditCurveCDSCalibration", "CurveSize");
+	}
+
+	@Override public boolean setup (
+		final int iSize)
+	{
+		if (0 >= iSize || null == (_dtSpot = org.drip.analytics.date.DateUtil.CreateFromYMD (2015, 6, 1)) ||
+			null == (_dc = org.drip.state.creator.DiscountCurveBuilder.CreateFromFlatRate (_dtSpot, "USD",
+				null, 0.03)))
+			return false;
+
+		_adblQuote = new double[iSize];
+		_astrCalibMeasure = new java.lang.String[iSize];
+		_aCDS = new org.drip.product.definition.CreditDefaultSwap[iSize];
+
+		for (int i = 0; i < iSize; ++i) {
+			_astrCalibMeasure[i] = "FairPremium";
+			_adblQuote[i] = 100. + 10. * i;
+
+			if (null == (_aCDS[i] = org.drip.product.creator.CDSBuilder.CreateSNAC (_dtSpot, (i + 1) + "Y",
+				0.01, "CORP")))
+				return false;
+		}
+
+		return true;
+	}
+
+	@Override public double invoke()
+		throws java.lang.Exception
+	{
+		org.drip.analytics.definition.CreditCurve cc =
+			org.drip.param.creator.CreditScenarioCurveBuilder.CreateCreditCurve ("CORP", _dtSpot, _aCDS, _dc,
+				_adblQuote, _astrCalibMeasure, 0.4, false);
+
+		if (null == cc)
+			throw new java.lang.Exception ("CreditCurveCalibrationBenchmark::invoke => Calibration failed");
+
+		return cc.survival (_aCDS[_aCDS.length - 1].maturityDate().julian());
+	}
+}
@@ -0,0 +1,136 @@
+
+package org.drip.benchmark.analytics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * CurveBuildBenchmark times the Shape Preserving Discount Curve Build off of Deposit and Fix-Float Swap
+ * 	Instruments, i.e., the LinearLatentStateCalibrator Span Calibration behind the DiscountCurveBuilder
+ * 	Shape Preservers. The Size is the Number of Swap Instruments (at most 15) stacked after the Deposits.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CurveBuildBenchmark extends org.drip.benchmark.core.BenchmarkScenario {
+	private static final java.lang.String CURRENCY = "USD";
+
+	private static final int[] DEPOSIT_DAYS = new int[] {1, 2, 3, 7, 14, 21, 30, 60};
+
+	private static final double[] DEPOSIT_QUOTE = new double[] {0.01200, 0.01200, 0.01200, 0.01450, 0.01550,
+		0.01600, 0.01660, 0.01850};
+
+	private static final java.lang.String[] SWAP_TENOR = new java.lang.String[] {"4Y", "5Y", "6Y", "7Y",
+		"8Y", "9Y", "10Y", "11Y", "12Y", "15Y", "20Y", "25Y", "30Y", "40Y", "50Y"};
+
+	private static final double[] SWAP_QUOTE = new double[] {0.02604, 0.02808, 0.02983, 0.03136, 0.03268,
+		0.03383, 0.03488, 0.03583, 0.03668, 0.03833, 0.03854, 0.03672, 0.03510, 0.03266, 0.03145};
+
+	private double[] _adblSwapQuote = null;
+	private double _dblTerminalDate = java.lang.Double.NaN;
+	private java.lang.String[] _astrSwapManifestMeasure = null;
+	private java.lang.String[] _astrDepositManifestMeasure = null;
+	private org.drip.param.valuation.ValuationParams _valParams = null;
+	private org.drip.product.definition.CalibratableFixedIncomeComponent[] _aSwapComp = null;
+	private org.drip.product.definition.CalibratableFixedIncomeComponent[] _aDepositComp = null;
+
+	/**
+	 * CurveBuildBenchmark constructor
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public CurveBuildBenchmark()
+		throws java.lang.Exception
+	{
+		super ("DiscountCurveShapePreservingBuild", "CurveSize");
+	}
+
+	@Override public boolean setup (
+		final int iSize)
+	{
+		if (0 >= iSize || SWAP_TENOR.length < iSize) return false;
+
+		org.drip.analytics.date.JulianDate dtSpot = org.drip.analytics.date.DateUtil.CreateFromYMD (2015, 6,
+			1);
+
+		org.drip.market.otc.FixedFloatSwapConvention ffConv =
+			org.drip.market.otc.IBORFixedFloatContainer.ConventionFromJurisdiction (CURRENCY);
+
+		if (null == dtSpot || null == ffConv) return false;
+
+		_adblSwapQuote = new double[iSize];
+		_astrSwapManifestMeasure = new java.lang.String[iSize];
+		_astrDepositManifestMeasure = new java.lang.String[DEPOSIT_DAYS.length];
+		_aSwapComp = new org.drip.product.definition.CalibratableFixedIncomeComponent[iSize];
+		_aDepositComp = new org.drip.product.definition.CalibratableFixedIncomeComponent[DEPOSIT_DAYS.length];
+
+		try {
+			_valParams = new org.drip.param.valuation.ValuationParams (dtSpot, dtSpot, CURRENCY);
+
+			for (int i = 0; i < DEPOSIT_DAYS.length; ++i) {
+				_astrDepositManifestMeasure[i] = "ForwardRate";
+
+				if (null == (_aDepositComp[i] = org.drip.product.creator.SingleStreamComponentBuilder.Deposit
+					(dtSpot, dtSpot.addBusDays (DEPOSIT_DAYS[i], CURRENCY),
+						org.drip.state.identifier.ForwardLabel.Create (CURRENCY, "3M"))))
+					return false;
+			}
+
+			for (int i = 0; i < iSize; ++i) {
+				_adblSwapQuote[i] = SWAP_QUOTE[i];
+				_astrSwapManifestMeasure[i] = "SwapRate";
+
+				if (null == (_aSwapComp[i] = ffConv.createFixFloatComponent (dtSpot, SWAP_TENOR[i],
+					SWAP_QUOTE[i], 0., 1.)))
+					return false;
+			}
+
+			_dblTerminalDate = _aSwapComp[iSize - 1].maturityDate().julian();
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public double invoke()
+		throws java.lang.Exception
+	{
+		org.drip.analytics.rates.DiscountCurve dc =
+			org.drip.param.creator.ScenarioDiscountCurveBuilder.CubicKLKHyperbolicDFRateShapePreserver
+				("KLK_HYPERBOLIC_SHAPE_TEMPLATE", _valParams, _aDepositComp, DEPOSIT_QUOTE,
+					_astrDepositManifestMeasure, _aSwapComp, _adblSwapQuote, _astrSwapManifestMeasure,
+						false);
+
+		if (null == dc) throw new java.lang.Exception ("CurveBuildBenchmark::invoke => Build failed");
+
+		return dc.df (_dblTerminalDate);
+	}
+}
@@ -0,0 +1,129 @@
+
+package org.drip.benchmark.analytics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * FixedPointFinderBenchmark times the Root Search of the Yield implied by the Price of a 10Y Semi-annual
+ * 	Bullet, using the Brent or the Newton Fixed Point Finder. The Size is the Number of (Price) Root Searches
+ * 	per Operation.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class FixedPointFinderBenchmark extends org.drip.benchmark.core.BenchmarkScenario {
+
+	/**
+	 * Brent Fixed Point Finder
+	 */
+
+	public static final java.lang.String BRENT = "Brent";
+
+	/**
+	 * Newton Fixed Point Finder
+	 */
+
+	public static final java.lang.String NEWTON = "Newton";
+
+	private static final int NUM_PERIOD = 20;
+	private static final double COUPON = 0.04;
+
+	private java.lang.String _strFinder = "";
+	private org.drip.function.deterministic.R1ToR1[] _aR1ToR1PriceGap = null;
+
+	private static final org.drip.function.deterministic.R1ToR1 PriceGap (
+		final double dblPrice)
+	{
+		return new org.drip.function.deterministic.R1ToR1 (null) {
+			@Override public double evaluate (
+				final double dblYield)
+				throws java.lang.Exception
+			{
+				double dblPeriodDF = 1. / (1. + 0.5 * dblYield);
+				double dblDF = 1.;
+				double dblPV = 0.;
+
+				for (int i = 0; i < NUM_PERIOD; ++i)
+					dblPV += 0.5 * COUPON * (dblDF *= dblPeriodDF);
+
+				return dblPV + dblDF - dblPrice;
+			}
+		};
+	}
+
+	/**
+	 * FixedPointFinderBenchmark constructor
+	 *
+	 * @param strFinder The Fixed Point Finder (BRENT or NEWTON)
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public FixedPointFinderBenchmark (
+		final java.lang.String strFinder)
+		throws java.lang.Exception
+	{
+		super ("FixedPointFinder" + strFinder, "SearchCount");
+
+		if (!BRENT.equals (_strFinder = strFinder) && !NEWTON.equals (_strFinder))
+			throw new java.lang.Exception ("FixedPointFinderBenchmark ctr: Invalid Inputs");
+	}
+
+	@Override public boolean setup (
+		final int iSize)
+	{
+		if (0 >= iSize) return false;
+
+		_aR1ToR1PriceGap = new org.drip.function.deterministic.R1ToR1[iSize];
+
+		for (int i = 0; i < iSize; ++i)
+			_aR1ToR1PriceGap[i] = PriceGap (0.8 + 0.4 * i / iSize);
+
+		return true;
+	}
+
+	@Override public double invoke()
+		throws java.lang.Exception
+	{
+		double dblRootSum = 0.;
+
+		for (org.drip.function.deterministic.R1ToR1 r1ToR1PriceGap : _aR1ToR1PriceGap) {
+			org.drip.function.solver1D.FixedPointFinderOutput fpfo = BRENT.equals (_strFinder) ? new
+				org.drip.function.solver1D.FixedPointFinderBrent (0., r1ToR1PriceGap, false).findRoot() :
+					new org.drip.function.solver1D.FixedPointFinderNewton (0., r1ToR1PriceGap,
+						false).findRoot();
+
+			if (null == fpfo || !fpfo.containsRoot())
+				throw new java.lang.Exception ("FixedPointFinderBenchmark::invoke => Root Search failed");
+
+			dblRootSum += fpfo.getRoot();
+		}
+
+		return dblRootSum;
+	}
+}
@@ -0,0 +1,85 @@
+
+package org.drip.benchmark.analytics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * RollDateBenchmark times the Business Day Roll of the Dates of a Weekly Schedule using the Convention
+ * 	RollDate, under the Modified Following Convention over a Joint Calendar Set. The Size is the Number of
+ * 	Schedule Dates rolled per Operation.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class RollDateBenchmark extends org.drip.benchmark.core.BenchmarkScenario {
+	private static final java.lang.String CALENDAR_SET = "USD,GBP";
+
+	private double[] _adblScheduleDate = null;
+
+	/**
+	 * RollDateBenchmark constructor
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public RollDateBenchmark()
+		throws java.lang.Exception
+	{
+		super ("ConventionRollDate", "ScheduleSize");
+	}
+
+	@Override public boolean setup (
+		final int iSize)
+	{
+		if (0 >= iSize) return false;
+
+		org.drip.analytics.date.JulianDate dtStart = org.drip.analytics.date.DateUtil.CreateFromYMD (2015,
+			6, 1);
+
+		if (null == dtStart) return false;
+
+		_adblScheduleDate = new double[iSize];
+
+		for (int i = 0; i < iSize; ++i)
+			_adblScheduleDate[i] = dtStart.julian() + 7. * i;
+
+		return true;
+	}
+
+	@Override public double invoke()
+		throws java.lang.Exception
+	{
+		double dblRolledDateSum = 0.;
+
+		for (double dblDate : _adblScheduleDate)
+			dblRolledDateSum += org.drip.analytics.daycount.Convention.RollDate (dblDate,
+				org.drip.analytics.daycount.Convention.DATE_ROLL_MODIFIED_FOLLOWING, CALENDAR_SET, 2);
+
+		return dblRolledDateSum;
+	}
+}
@@ -0,0 +1,127 @@
+
+package org.drip.benchmark.analytics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * SplineEvaluationBenchmark times the Response Evaluation of a calibrated KLK Hyperbolic Tension Spline
+ * 	Stretch at a Grid of Predictor Ordinates, either one Ordinate at a time, or through the Batch Response
+ * 	Evaluation. The Size is the Number of Spline Knots.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class SplineEvaluationBenchmark extends org.drip.benchmark.core.BenchmarkScenario {
+	private static final int NUM_EVALUATION = 1000;
+
+	private boolean _bBatch = false;
+	private double[] _adblResponse = null;
+	private double[] _adblPredictorOrdinate = null;
+	private org.drip.spline.stretch.MultiSegmentSequence _mss = null;
+
+	/**
+	 * SplineEvaluationBenchmark constructor
+	 *
+	 * @param bBatch TRUE => Benchmark the Batch Response Evaluation
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public SplineEvaluationBenchmark (
+		final boolean bBatch)
+		throws java.lang.Exception
+	{
+		super (bBatch ? "SplineBatchEvaluation" : "SplinePointEvaluation", "KnotCount");
+
+		_bBatch = bBatch;
+	}
+
+	@Override public boolean setup (
+		final int iSize)
+	{
+		if (1 >= iSize) return false;
+
+		double[] adblKnot = new double[iSize];
+		double[] adblKnotResponse = new double[iSize];
+		_adblResponse = new double[NUM_EVALUATION];
+		_adblPredictorOrdinate = new double[NUM_EVALUATION];
+		org.drip.spline.params.SegmentCustomBuilderControl[] aSCBC = new
+			org.drip.spline.params.SegmentCustomBuilderControl[iSize - 1];
+
+		try {
+			org.drip.spline.params.SegmentCustomBuilderControl scbc = new
+				org.drip.spline.params.SegmentCustomBuilderControl
+					(org.drip.spline.stretch.MultiSegmentSequenceBuilder.BASIS_SPLINE_KLK_HYPERBOLIC_TENSION,
+						new org.drip.spline.basis.ExponentialTensionSetParams (1.),
+							org.drip.spline.params.SegmentInelasticDesignControl.Create (2, 2), null, null);
+
+			for (int i = 0; i < iSize; ++i) {
+				adblKnot[i] = i;
+
+				adblKnotResponse[i] = 0.03 + 0.01 * java.lang.Math.sin (0.7 * i);
+
+				if (0 != i) aSCBC[i - 1] = scbc;
+			}
+
+			for (int i = 0; i < NUM_EVALUATION; ++i)
+				_adblPredictorOrdinate[i] = (iSize - 1.) * i / (NUM_EVALUATION - 1.);
+
+			_mss = org.drip.spline.stretch.MultiSegmentSequenceBuilder.CreateCalibratedStretchEstimator
+				("BENCHMARK_STRETCH", adblKnot, adblKnotResponse, aSCBC, null,
+					org.drip.spline.stretch.BoundarySettings.NaturalStandard(),
+						org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return null != _mss;
+	}
+
+	@Override public double invoke()
+		throws java.lang.Exception
+	{
+		double dblResponseSum = 0.;
+
+		if (_bBatch) {
+			if (!_mss.responseValue (_adblPredictorOrdinate, _adblResponse))
+				throw new java.lang.Exception ("SplineEvaluationBenchmark::invoke => Evaluation failed");
+
+			for (double dblResponse : _adblResponse)
+				dblResponseSum += dblResponse;
+
+			return dblResponseSum;
+		}
+
+		for (double dblPredictorOrdinate : _adblPredictorOrdinate)
+			dblResponseSum += _mss.responseValue (dblPredictorOrdinate);
+
+		return dblResponseSum;
+	}
+}
@@ -0,0 +1,270 @@
+
+package org.drip.benchmark.core;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BenchmarkResult holds the Measurements of a single Scenario/Size Run of the BenchmarkRunner: the Time per
+ * 	Operation of each Measurement Iteration (and their Mean, Standard Deviation, and Minimum), the Bytes
+ * 	allocated per Operation, and the Garbage Collection Count and Time over the Measurement Iterations. It
+ * 	also renders itself as a Display Line or as a CSV Record for Tracking across Releases.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BenchmarkResult {
+	private int _iSize = -1;
+	private long _lGCCount = -1L;
+	private long _lGCMillis = -1L;
+	private long _lOperationCount = -1L;
+	private java.lang.String _strName = "";
+	private double[] _adblNanosPerOperation = null;
+	private java.lang.String _strSizeParameter = "";
+	private double _dblBytesPerOperation = java.lang.Double.NaN;
+
+	/**
+	 * Retrieve the CSV Header matching the csvRecord() Output
+	 *
+	 * @return The CSV Header
+	 */
+
+	public static final java.lang.String CSVHeader()
+	{
+		return "Scenario,SizeParameter,Size,Operations,MeanNanosPerOp,StdDevNanosPerOp,MinNanosPerOp," +
+			"BytesPerOp,GCCount,GCMillis";
+	}
+
+	/**
+	 * BenchmarkResult constructor
+	 *
+	 * @param strName The Scenario Name
+	 * @param strSizeParameter The Name of the Size Parameter
+	 * @param iSize The Scenario Size
+	 * @param lOperationCount The Number of measured Operations
+	 * @param adblNanosPerOperation Array of the Nanoseconds per Operation of each Measurement Iteration
+	 * @param dblBytesPerOperation The Bytes allocated per Operation (NaN => Not Available)
+	 * @param lGCCount The Number of Garbage Collections over the Measurement Iterations
+	 * @param lGCMillis The Garbage Collection Time (ms) over the Measurement Iterations
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public BenchmarkResult (
+		final java.lang.String strName,
+		final java.lang.String strSizeParameter,
+		final int iSize,
+		final long lOperationCount,
+		final double[] adblNanosPerOperation,
+		final double dblBytesPerOperation,
+		final long lGCCount,
+		final long lGCMillis)
+		throws java.lang.Exception
+	{
+		if (null == (_strName = strName) || _strName.isEmpty() || null == (_strSizeParameter =
+			strSizeParameter) || 0 >= (_lOperationCount = lOperationCount) || null == (_adblNanosPerOperation
+				= adblNanosPerOperation) || 0 == _adblNanosPerOperation.length ||
+					!org.drip.quant.common.NumberUtil.IsValid (_adblNanosPerOperation))
+			throw new java.lang.Exception ("BenchmarkResult ctr: Invalid Inputs");
+
+		_iSize = iSize;
+		_lGCCount = lGCCount;
+		_lGCMillis = lGCMillis;
+		_dblBytesPerOperation = dblBytesPerOperation;
+	}
+
+	/**
+	 * Retrieve the Scenario Name
+	 *
+	 * @return The Scenario Name
+	 */
+
+	public java.lang.String name()
+	{
+		return _strName;
+	}
+
+	/**
+	 * Retrieve the Name of the Size Parameter
+	 *
+	 * @return The Name of the Size Parameter
+	 */
+
+	public java.lang.String sizeParameter()
+	{
+		return _strSizeParameter;
+	}
+
+	/**
+	 * Retrieve the Scenario Size
+	 *
+	 * @return The Scenario Size
+	 */
+
+	public int size()
+	{
+		return _iSize;
+	}
+
+	/**
+	 * Retrieve the Number of measured Operations
+	 *
+	 * @return The Number of measured Operations
+	 */
+
+	public long operationCount()
+	{
+		return _lOperationCount;
+	}
+
+	/**
+	 * Retrieve the Nanoseconds per Operation of each Measurement Iteration
+	 *
+	 * @return The Nanoseconds per Operation of each Measurement Iteration
+	 */
+
+	public double[] nanosPerOperation()
+	{
+		return _adblNanosPerOperation;
+	}
+
+	/**
+	 * Compute the Mean Nanoseconds per Operation across the Measurement Iterations
+	 *
+	 * @return The Mean Nanoseconds per Operation
+	 */
+
+	public double mean()
+	{
+		double dblSum = 0.;
+
+		for (double dblNanos : _adblNanosPerOperation)
+			dblSum += dblNanos;
+
+		return dblSum / _adblNanosPerOperation.length;
+	}
+
+	/**
+	 * Compute the Standard Deviation of the Nanoseconds per Operation across the Measurement Iterations
+	 *
+	 * @return The Standard Deviation of the Nanoseconds per Operation
+	 */
+
+	public double standardDeviation()
+	{
+		int iNumIteration = _adblNanosPerOperation.length;
+
+		if (1 == iNumIteration) return 0.;
+
+		double dblMean = mean();
+
+		double dblSumSquare = 0.;
+
+		for (double dblNanos : _adblNanosPerOperation)
+			dblSumSquare += (dblNanos - dblMean) * (dblNanos - dblMean);
+
+		return java.lang.Math.sqrt (dblSumSquare / (iNumIteration - 1));
+	}
+
+	/**
+	 * Retrieve the Minimum Nanoseconds per Operation across the Measurement Iterations
+	 *
+	 * @return The Minimum Nanoseconds per Operation
+	 */
+
+	public double minimum()
+	{
+		double dblMinimum = _adblNanosPerOperation[0];
+
+		for (double dblNanos : _adblNanosPerOperation)
+			dblMinimum = java.lang.Math.min (dblMinimum, dblNanos);
+
+		return dblMinimum;
+	}
+
+	/**
+	 * Retrieve the Bytes allocated per Operation
+	 *
+	 * @return The Bytes allocated per Operation (NaN => Not Available on this JVM)
+	 */
+
+	public double bytesPerOperation()
+	{
+		return _dblBytesPerOperation;
+	}
+
+	/**
+	 * Retrieve the Number of Garbage Collections over the Measurement Iterations
+	 *
+	 * @return The Number of Garbage Collections
+	 */
+
+	public long gcCount()
+	{
+		return _lGCCount;
+	}
+
+	/**
+	 * Retrieve the Garbage Collection Time (ms) over the Measurement Iterations
+	 *
+	 * @return The Garbage Collection Time (ms)
+	 */
+
+	public long gcMillis()
+	{
+		return _lGCMillis;
+	}
+
+	/**
+	 * Render the Result as a Display Line
+	 *
+	 * @return The Display Line
+	 */
+
+	public java.lang.String displayString()
+	{
+		return "\t" + _strName + "[" + _strSizeParameter + "=" + _iSize + "] => " +
+			org.drip.quant.common.FormatUtil.FormatDouble (0.001 * mean(), 1, 3, 1.) + " +/- " +
+				org.drip.quant.common.FormatUtil.FormatDouble (0.001 * standardDeviation(), 1, 3, 1.) +
+					" (mu-s/op); " + (java.lang.Double.isNaN (_dblBytesPerOperation) ? "n/a" :
+						org.drip.quant.common.FormatUtil.FormatDouble (_dblBytesPerOperation, 1, 0, 1.)) +
+							" (B/op); GC " + _lGCCount + " / " + _lGCMillis + " (ms)";
+	}
+
+	/**
+	 * Render the Result as a CSV Record matching the CSVHeader()
+	 *
+	 * @return The CSV Record
+	 */
+
+	public java.lang.String csvRecord()
+	{
+		return _strName + "," + _strSizeParameter + "," + _iSize + "," + _lOperationCount + "," + mean() +
+			"," + standardDeviation() + "," + minimum() + "," + _dblBytesPerOperation + "," + _lGCCount + "," +
+				_lGCMillis;
+	}
+}
@@ -0,0 +1,266 @@
+
+package org.drip.benchmark.core;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BenchmarkRunner times the Operations of a BenchmarkScenario. Unlike the RegressionEngine, which times a
+ * 	single cold Run of each Regressor, it:
+ * 	- Runs a Set of Warm-up Iterations to let the JIT compile the Hot Paths before anything is measured.
+ * 	- Requests a Garbage Collection ahead of the Measurement, so the Garbage of the Set-up/Warm-up is not
+ * 		charged to the Scenario.
+ * 	- Runs a Set of fixed Duration Measurement Iterations, recording the Time per Operation of each.
+ * 	- Records the Bytes allocated by the Benchmark Thread (where the JVM exposes the per-Thread Allocation
+ * 		Counter), and the Garbage Collection Count/Time over the Measurement Iterations.
+ * 	- Feeds the Operation Outputs into a Sink, so the JIT cannot eliminate the Operations.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BenchmarkRunner {
+
+	/**
+	 * Default Number of Warm-up Iterations
+	 */
+
+	public static final int DEFAULT_WARMUP_ITERATIONS = 5;
+
+	/**
+	 * Default Number of Measurement Iterations
+	 */
+
+	public static final int DEFAULT_MEASUREMENT_ITERATIONS = 5;
+
+	/**
+	 * Default Iteration Duration in Milli-seconds
+	 */
+
+	public static final long DEFAULT_ITERATION_MILLIS = 1000L;
+
+	private int _iWarmupIterations = -1;
+	private long _lIterationNanos = -1L;
+	private int _iMeasurementIterations = -1;
+	private volatile double _dblSink = 0.;
+
+	private static final long ThreadAllocatedBytes()
+	{
+		java.lang.management.ThreadMXBean tmxb = java.lang.management.ManagementFactory.getThreadMXBean();
+
+		if (!(tmxb instanceof com.sun.management.ThreadMXBean)) return -1L;
+
+		com.sun.management.ThreadMXBean tmxbHotSpot = (com.sun.management.ThreadMXBean) tmxb;
+
+		return tmxbHotSpot.isThreadAllocatedMemorySupported() && tmxbHotSpot.isThreadAllocatedMemoryEnabled()
+			? tmxbHotSpot.getThreadAllocatedBytes (java.lang.Thread.currentThread().getId()) : -1L;
+	}
+
+	private static final long[] GCCountAndMillis()
+	{
+		long[] alGC = new long[] {0L, 0L};
+
+		for (java.lang.management.GarbageCollectorMXBean gcmxb :
+			java.lang.management.ManagementFactory.getGarbageCollectorMXBeans()) {
+			alGC[0] += java.lang.Math.max (gcmxb.getCollectionCount(), 0L);
+
+			alGC[1] += java.lang.Math.max (gcmxb.getCollectionTime(), 0L);
+		}
+
+		return alGC;
+	}
+
+	private long iterate (
+		final org.drip.benchmark.core.BenchmarkScenario bs,
+		final long[] alElapsedNanos)
+		throws java.lang.Exception
+	{
+		long lOperationCount = 0L;
+		double dblAccumulator = 0.;
+
+		long lStartNanos = java.lang.System.nanoTime();
+
+		long lElapsedNanos = 0L;
+
+		while (lElapsedNanos < _lIterationNanos) {
+			dblAccumulator += bs.invoke();
+
+			++lOperationCount;
+			lElapsedNanos = java.lang.System.nanoTime() - lStartNanos;
+		}
+
+		_dblSink += dblAccumulator;
+		alElapsedNanos[0] = lElapsedNanos;
+		return lOperationCount;
+	}
+
+	/**
+	 * BenchmarkRunner constructor
+	 *
+	 * @param iWarmupIterations Number of Warm-up Iterations
+	 * @param iMeasurementIterations Number of Measurement Iterations
+	 * @param lIterationMillis The Duration of each Iteration in Milli-seconds
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public BenchmarkRunner (
+		final int iWarmupIterations,
+		final int iMeasurementIterations,
+		final long lIterationMillis)
+		throws java.lang.Exception
+	{
+		if (0 > (_iWarmupIterations = iWarmupIterations) || 0 >= (_iMeasurementIterations =
+			iMeasurementIterations) || 0L >= lIterationMillis)
+			throw new java.lang.Exception ("BenchmarkRunner ctr: Invalid Inputs");
+
+		_lIterationNanos = lIterationMillis * 1000000L;
+	}
+
+	/**
+	 * BenchmarkRunner constructor using the Default Iteration Settings
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public BenchmarkRunner()
+		throws java.lang.Exception
+	{
+		this (DEFAULT_WARMUP_ITERATIONS, DEFAULT_MEASUREMENT_ITERATIONS, DEFAULT_ITERATION_MILLIS);
+	}
+
+	/**
+	 * Retrieve the Number of Warm-up Iterations
+	 *
+	 * @return The Number of Warm-up Iterations
+	 */
+
+	public int warmupIterations()
+	{
+		return _iWarmupIterations;
+	}
+
+	/**
+	 * Retrieve the Number of Measurement Iterations
+	 *
+	 * @return The Number of Measurement Iterations
+	 */
+
+	public int measurementIterations()
+	{
+		return _iMeasurementIterations;
+	}
+
+	/**
+	 * Retrieve the Sink the Operation Outputs are fed into
+	 *
+	 * @return The Sink
+	 */
+
+	public double sink()
+	{
+		return _dblSink;
+	}
+
+	/**
+	 * Set up the Scenario at the specified Size, and Benchmark its Operations
+	 *
+	 * @param bs The Benchmark Scenario
+	 * @param iSize The Scenario Size
+	 *
+	 * @return The Benchmark Result (null => The Scenario failed)
+	 */
+
+	public org.drip.benchmark.core.BenchmarkResult run (
+		final org.drip.benchmark.core.BenchmarkScenario bs,
+		final int iSize)
+	{
+		if (null == bs || !bs.setup (iSize)) return null;
+
+		long[] alElapsedNanos = new long[1];
+		long lMeasuredOperationCount = 0L;
+		double[] adblNanosPerOperation = new double[_iMeasurementIterations];
+
+		try {
+			for (int i = 0; i < _iWarmupIterations; ++i)
+				iterate (bs, alElapsedNanos);
+
+			java.lang.System.gc();
+
+			long[] alGCStart = GCCountAndMillis();
+
+			long lAllocatedBytesStart = ThreadAllocatedBytes();
+
+			for (int i = 0; i < _iMeasurementIterations; ++i) {
+				long lOperationCount = iterate (bs, alElapsedNanos);
+
+				lMeasuredOperationCount += lOperationCount;
+				adblNanosPerOperation[i] = ((double) alElapsedNanos[0]) / lOperationCount;
+			}
+
+			long lAllocatedBytesEnd = ThreadAllocatedBytes();
+
+			long[] alGCEnd = GCCountAndMillis();
+
+			return new org.drip.benchmark.core.BenchmarkResult (bs.name(), bs.sizeParameter(), iSize,
+				lMeasuredOperationCount, adblNanosPerOperation, 0L > lAllocatedBytesStart || 0L >
+					lAllocatedBytesEnd ? java.lang.Double.NaN : ((double) (lAllocatedBytesEnd -
+						lAllocatedBytesStart)) / lMeasuredOperationCount, alGCEnd[0] - alGCStart[0],
+							alGCEnd[1] - alGCStart[1]);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Benchmark the Scenario across the specified Sizes
+	 *
+	 * @param bs The Benchmark Scenario
+	 * @param aiSize Array of the Scenario Sizes
+	 *
+	 * @return List of the Benchmark Results of the Sizes that ran successfully
+	 */
+
+	public java.util.List<org.drip.benchmark.core.BenchmarkResult> run (
+		final org.drip.benchmark.core.BenchmarkScenario bs,
+		final int[] aiSize)
+	{
+		if (null == bs || null == aiSize) return null;
+
+		java.util.List<org.drip.benchmark.core.BenchmarkResult> lsBR = new
+			java.util.ArrayList<org.drip.benchmark.core.BenchmarkResult>();
+
+		for (int iSize : aiSize) {
+			org.drip.benchmark.core.BenchmarkResult br = run (bs, iSize);
+
+			if (null != br) lsBR.add (br);
+		}
+
+		return lsBR;
+	}
+}
@@ -0,0 +1,97 @@
+
+package org.drip.benchmark.core;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BenchmarkScenario provides the stub functionality for the Individual Benchmark Scenarios run by the
+ * 	BenchmarkRunner. A Scenario is parameterized by a single Size (e.g., the Curve Size, or the Book Size):
+ * 	all the Work that is not to be timed goes into the Set-up, and each Invocation performs one Operation,
+ * 	returning a Value the Runner consumes so the JIT cannot eliminate the Operation.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public abstract class BenchmarkScenario {
+	private java.lang.String _strName = "";
+	private java.lang.String _strSizeParameter = "";
+
+	protected BenchmarkScenario (
+		final java.lang.String strName,
+		final java.lang.String strSizeParameter)
+		throws java.lang.Exception
+	{
+		if (null == (_strName = strName) || _strName.isEmpty() || null == (_strSizeParameter =
+			strSizeParameter) || _strSizeParameter.isEmpty())
+			throw new java.lang.Exception ("BenchmarkScenario ctr: Invalid Inputs");
+	}
+
+	/**
+	 * Retrieve the Scenario Name
+	 *
+	 * @return The Scenario Name
+	 */
+
+	public java.lang.String name()
+	{
+		return _strName;
+	}
+
+	/**
+	 * Retrieve the Name of the Size Parameter
+	 *
+	 * @return The Name of the Size Parameter
+	 */
+
+	public java.lang.String sizeParameter()
+	{
+		return _strSizeParameter;
+	}
+
+	/**
+	 * Set up the Scenario State for the specified Size
+	 *
+	 * @param iSize The Scenario Size
+	 *
+	 * @return TRUE => The Scenario successfully set up
+	 */
+
+	public abstract boolean setup (
+		final int iSize);
+
+	/**
+	 * Perform one Operation of the Scenario
+	 *
+	 * @return A Value produced by the Operation
+	 *
+	 * @throws java.lang.Exception Thrown if the Operation fails
+	 */
+
+	public abstract double invoke()
+		throws java.lang.Exception;
+}
@@ -0,0 +1,203 @@
+
+package org.drip.dynamics.evolution;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * PathBlockDynamics is the Base on top of which the Path Block Evolution of a Latent State is constructed.
+ * 	The State of a Block of Paths is held in a primitive [Path x State] Array, and is advanced across all
+ * 	the Paths of the Block in one Pass per Time Step. The Path-independent Drift/Volatility Loadings of each
+ * 	Step are meant to be computed once, up-front, by the Concrete Dynamics.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public abstract class PathBlockDynamics {
+	private double[] _adblStepDate = null;
+	private double[] _adblTimeIncrement = null;
+
+	/**
+	 * Compute the Standard Deviation of each Principal Factor Draw of the Generator, i.e., the Square Root
+	 * 	of the Variance of the Projection of the Correlated Variates onto the Factor
+	 * 
+	 * @param pfsg The Principal Factor Sequence Generator
+	 * 
+	 * @return Array of the Factor Standard Deviations
+	 */
+
+	public static final double[] FactorStandardDeviation (
+		final org.drip.sequence.random.PrincipalFactorSequenceGenerator pfsg)
+	{
+		if (null == pfsg) return null;
+
+		double[][] aadblFactor = pfsg.factors();
+
+		double[][] aadblCorrelation = pfsg.correlation();
+
+		int iNumFactor = aadblFactor.length;
+		int iNumVariate = aadblCorrelation.length;
+		double[] adblFactorStandardDeviation = new double[iNumFactor];
+
+		for (int iFactor = 0; iFactor < iNumFactor; ++iFactor) {
+			double dblFactorVariance = 0.;
+			double[] adblFactor = aadblFactor[iFactor];
+
+			for (int i = 0; i < iNumVariate; ++i) {
+				for (int j = 0; j < iNumVariate; ++j)
+					dblFactorVariance += adblFactor[i] * aadblCorrelation[i][j] * adblFactor[j];
+			}
+
+			adblFactorStandardDeviation[iFactor] = java.lang.Math.sqrt (java.lang.Math.max (dblFactorVariance,
+				0.));
+		}
+
+		return adblFactorStandardDeviation;
+	}
+
+	/**
+	 * Generate the Step Dates off of the Spot Date using a uniform Day Increment
+	 * 
+	 * @param dblSpotDate The Spot Date
+	 * @param iDayIncrement The Day Increment
+	 * @param iNumStep The Number of Time Steps
+	 * 
+	 * @return Array of the Step Dates (including the Spot Date)
+	 */
+
+	public static final double[] UniformStepDate (
+		final double dblSpotDate,
+		final int iDayIncrement,
+		final int iNumStep)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblSpotDate) || 0 >= iDayIncrement || 0 >= iNumStep)
+			return null;
+
+		double[] adblStepDate = new double[iNumStep + 1];
+
+		for (int i = 0; i <= iNumStep; ++i)
+			adblStepDate[i] = dblSpotDate + i * iDayIncrement;
+
+		return adblStepDate;
+	}
+
+	protected PathBlockDynamics (
+		final double[] adblStepDate)
+		throws java.lang.Exception
+	{
+		if (null == (_adblStepDate = adblStepDate) || 2 > _adblStepDate.length ||
+			!org.drip.quant.common.NumberUtil.IsValid (_adblStepDate))
+			throw new java.lang.Exception ("PathBlockDynamics ctr: Invalid Inputs");
+
+		_adblTimeIncrement = new double[_adblStepDate.length - 1];
+
+		for (int i = 0; i < _adblTimeIncrement.length; ++i) {
+			if (0. >= (_adblTimeIncrement[i] = (_adblStepDate[i + 1] - _adblStepDate[i]) / 365.25))
+				throw new java.lang.Exception ("PathBlockDynamics ctr: Invalid Inputs");
+		}
+	}
+
+	/**
+	 * Retrieve the Number of Time Steps
+	 * 
+	 * @return The Number of Time Steps
+	 */
+
+	public int numStep()
+	{
+		return _adblTimeIncrement.length;
+	}
+
+	/**
+	 * Retrieve the Date of the specified Step (Step 0 is the Spot Date)
+	 * 
+	 * @param iStep The Step Index
+	 * 
+	 * @return The Step Date
+	 */
+
+	public double stepDate (
+		final int iStep)
+	{
+		return _adblStepDate[iStep];
+	}
+
+	/**
+	 * Retrieve the Year Fraction of the Time Step from the specified Step onto the next
+	 * 
+	 * @param iStep The Step Index
+	 * 
+	 * @return The Year Fraction of the Time Step
+	 */
+
+	public double timeIncrement (
+		final int iStep)
+	{
+		return _adblTimeIncrement[iStep];
+	}
+
+	/**
+	 * Retrieve the Number of State Variables per Path
+	 * 
+	 * @return The Number of State Variables per Path
+	 */
+
+	public abstract int numState();
+
+	/**
+	 * Retrieve the Number of Independent Standard Normal Draws per Path per Step
+	 * 
+	 * @return The Number of Factors
+	 */
+
+	public abstract int numFactor();
+
+	/**
+	 * Retrieve the Initial (Spot) State common to all the Paths
+	 * 
+	 * @return The Initial State
+	 */
+
+	public abstract double[] initialState();
+
+	/**
+	 * Advance the State of the first iNumPath Paths of the Block from the specified Step onto the next
+	 * 
+	 * @param iStep The Step Index
+	 * @param aadblState The [Path x State] Block State, updated in Place
+	 * @param aadblRandom The [Path x Factor] Independent Standard Normal Draws of the Step
+	 * @param iNumPath The Number of Paths in the Block
+	 * 
+	 * @return TRUE => The Block successfully advanced
+	 */
+
+	public abstract boolean advance (
+		final int iStep,
+		final double[][] aadblState,
+		final double[][] aadblRandom,
+		final int iNumPath);
+}
@@ -0,0 +1,58 @@
+
+package org.drip.dynamics.evolution;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * PathBlockObserver is invoked by the PathBlockSimulator with the State of each Path Block at each Time
+ * 	Step, e.g., to accumulate the Exposure Profile. Blocks are simulated concurrently, so the Implementations
+ * 	must be Thread-safe across Blocks; the Calls for a given Block arrive in Step Order off of a single
+ * 	Thread.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public interface PathBlockObserver {
+
+	/**
+	 * Observe the Block State at the Time Step
+	 * 
+	 * @param iBlock The Block Index
+	 * @param iStep The Step Index (0 => Spot)
+	 * @param aadblState The [Path x State] Block State
+	 * @param iNumPath The Number of Paths in the Block
+	 * 
+	 * @return TRUE => The Simulation is to continue
+	 */
+
+	public abstract boolean observe (
+		final int iBlock,
+		final int iStep,
+		final double[][] aadblState,
+		final int iNumPath);
+}
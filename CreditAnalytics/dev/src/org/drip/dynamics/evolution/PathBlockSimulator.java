@@ -0,0 +1,235 @@
+
+package org.drip.dynamics.evolution;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * PathBlockSimulator runs the Monte Carlo Simulation of a PathBlockDynamics. The Paths are split into
+ * 	Blocks; each Block owns its [Path x State] and [Path x Factor] Arrays and an independent Random Stream
+ * 	(the Sub-stream of the Root Seed at the Block Index), so the Results do not depend on the Number of
+ * 	Threads the Blocks are farmed out across.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class PathBlockSimulator {
+
+	/**
+	 * Default Number of Paths per Block
+	 */
+
+	public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+	private int _iNumPath = 0;
+	private int _iBlockSize = 0;
+	private long _lSeed = 0L;
+	private org.drip.dynamics.evolution.PathBlockDynamics _pbd = null;
+
+	/**
+	 * PathBlockSimulator Constructor
+	 * 
+	 * @param pbd The Path Block Dynamics
+	 * @param iNumPath The Total Number of Paths
+	 * @param iBlockSize The Number of Paths per Block
+	 * @param lSeed The Root Seed of the Block Random Streams
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public PathBlockSimulator (
+		final org.drip.dynamics.evolution.PathBlockDynamics pbd,
+		final int iNumPath,
+		final int iBlockSize,
+		final long lSeed)
+		throws java.lang.Exception
+	{
+		if (null == (_pbd = pbd) || 0 >= (_iNumPath = iNumPath) || 0 >= (_iBlockSize = iBlockSize))
+			throw new java.lang.Exception ("PathBlockSimulator ctr: Invalid Inputs");
+
+		_lSeed = lSeed;
+	}
+
+	/**
+	 * Retrieve the Path Block Dynamics
+	 * 
+	 * @return The Path Block Dynamics
+	 */
+
+	public org.drip.dynamics.evolution.PathBlockDynamics dynamics()
+	{
+		return _pbd;
+	}
+
+	/**
+	 * Retrieve the Total Number of Paths
+	 * 
+	 * @return The Total Number of Paths
+	 */
+
+	public int numPath()
+	{
+		return _iNumPath;
+	}
+
+	/**
+	 * Retrieve the Number of Paths per Block
+	 * 
+	 * @return The Number of Paths per Block
+	 */
+
+	public int blockSize()
+	{
+		return _iBlockSize;
+	}
+
+	/**
+	 * Retrieve the Number of Blocks
+	 * 
+	 * @return The Number of Blocks
+	 */
+
+	public int numBlock()
+	{
+		return (_iNumPath + _iBlockSize - 1) / _iBlockSize;
+	}
+
+	/**
+	 * Simulate the specified Block across all the Time Steps
+	 * 
+	 * @param iBlock The Block Index
+	 * @param pbo The Path Block Observer
+	 * 
+	 * @return TRUE => The Block successfully simulated
+	 */
+
+	public boolean simulateBlock (
+		final int iBlock,
+		final org.drip.dynamics.evolution.PathBlockObserver pbo)
+	{
+		if (0 > iBlock || iBlock >= numBlock() || null == pbo) return false;
+
+		int iNumStep = _pbd.numStep();
+
+		int iNumState = _pbd.numState();
+
+		int iNumFactor = _pbd.numFactor();
+
+		double[] adblInitialState = _pbd.initialState();
+
+		int iNumPath = java.lang.Math.min (_iBlockSize, _iNumPath - iBlock * _iBlockSize);
+
+		if (null == adblInitialState || iNumState != adblInitialState.length) return false;
+
+		double[][] aadblState = new double[iNumPath][];
+		double[][] aadblRandom = new double[iNumPath][iNumFactor];
+		org.drip.sequence.random.ZigguratGaussian zg = null;
+
+		try {
+			zg = new org.drip.sequence.random.ZigguratGaussian (0., 1., new
+				org.drip.sequence.random.SplittableStream (_lSeed).substream (iBlock));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		for (int iPath = 0; iPath < iNumPath; ++iPath)
+			aadblState[iPath] = adblInitialState.clone();
+
+		if (!pbo.observe (iBlock, 0, aadblState, iNumPath)) return false;
+
+		for (int iStep = 0; iStep < iNumStep; ++iStep) {
+			for (int iPath = 0; iPath < iNumPath; ++iPath) {
+				if (!zg.fill (aadblRandom[iPath])) return false;
+			}
+
+			if (!_pbd.advance (iStep, aadblState, aadblRandom, iNumPath) || !pbo.observe (iBlock, iStep + 1,
+				aadblState, iNumPath))
+				return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Simulate all the Blocks, farmed out across the specified Number of Threads
+	 * 
+	 * @param pbo The Path Block Observer
+	 * @param iNumThread The Number of Threads (1 => Simulate on the Calling Thread)
+	 * 
+	 * @return TRUE => All the Blocks successfully simulated
+	 */
+
+	public boolean run (
+		final org.drip.dynamics.evolution.PathBlockObserver pbo,
+		final int iNumThread)
+	{
+		if (null == pbo || 0 >= iNumThread) return false;
+
+		int iNumBlock = numBlock();
+
+		if (1 == iNumThread) {
+			for (int iBlock = 0; iBlock < iNumBlock; ++iBlock) {
+				if (!simulateBlock (iBlock, pbo)) return false;
+			}
+
+			return true;
+		}
+
+		java.util.concurrent.ExecutorService es = java.util.concurrent.Executors.newFixedThreadPool
+			(iNumThread);
+
+		java.util.List<java.util.concurrent.Callable<java.lang.Boolean>> lsBlockTask = new
+			java.util.ArrayList<java.util.concurrent.Callable<java.lang.Boolean>>();
+
+		for (int iBlock = 0; iBlock < iNumBlock; ++iBlock) {
+			final int iBlockIndex = iBlock;
+
+			lsBlockTask.add (new java.util.concurrent.Callable<java.lang.Boolean>() {
+				@Override public java.lang.Boolean call()
+				{
+					return simulateBlock (iBlockIndex, pbo);
+				}
+			});
+		}
+
+		try {
+			for (java.util.concurrent.Future<java.lang.Boolean> fBlock : es.invokeAll (lsBlockTask)) {
+				if (!fBlock.get()) return false;
+			}
+
+			return true;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		} finally {
+			es.shutdown();
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,185 @@
+
+package org.drip.dynamics.evolution;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * PathBlockStatistics is a PathBlockObserver that accumulates the Cross-Path Mean and Variance of each
+ * 	State Variable at each Time Step. Each Block is reduced locally into its own Slot, and the Block Slots
+ * 	are merged in Block Index Order on Retrieval, so the Statistics do not depend on the Order the Blocks
+ * 	complete in, i.e., on the Number of Threads.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class PathBlockStatistics implements org.drip.dynamics.evolution.PathBlockObserver {
+	private int _iNumStep = 0;
+	private int _iNumState = 0;
+
+	private java.util.Map<java.lang.Integer, long[]> _mapBlockCount = new
+		java.util.TreeMap<java.lang.Integer, long[]>();
+
+	private java.util.Map<java.lang.Integer, double[][]> _mapBlockSum = new
+		java.util.TreeMap<java.lang.Integer, double[][]>();
+
+	private java.util.Map<java.lang.Integer, double[][]> _mapBlockSumSquare = new
+		java.util.TreeMap<java.lang.Integer, double[][]>();
+
+	private double blockOrderSum (
+		final java.util.Map<java.lang.Integer, double[][]> mapBlockSum,
+		final int iStep,
+		final int iState)
+	{
+		double dblSum = 0.;
+
+		for (double[][] aadblBlockSum : mapBlockSum.values()) {
+			if (null != aadblBlockSum[iStep]) dblSum += aadblBlockSum[iStep][iState];
+		}
+
+		return dblSum;
+	}
+
+	/**
+	 * PathBlockStatistics Constructor
+	 * 
+	 * @param iNumStep The Number of Time Steps
+	 * @param iNumState The Number of State Variables
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public PathBlockStatistics (
+		final int iNumStep,
+		final int iNumState)
+		throws java.lang.Exception
+	{
+		if (0 >= (_iNumStep = iNumStep) || 0 >= (_iNumState = iNumState))
+			throw new java.lang.Exception ("PathBlockStatistics ctr: Invalid Inputs");
+	}
+
+	@Override public boolean observe (
+		final int iBlock,
+		final int iStep,
+		final double[][] aadblState,
+		final int iNumPath)
+	{
+		if (0 > iBlock || 0 > iStep || iStep > _iNumStep || null == aadblState) return false;
+
+		double[] adblSum = new double[_iNumState];
+		double[] adblSumSquare = new double[_iNumState];
+
+		for (int iPath = 0; iPath < iNumPath; ++iPath) {
+			double[] adblState = aadblState[iPath];
+
+			for (int i = 0; i < _iNumState; ++i) {
+				adblSum[i] += adblState[i];
+				adblSumSquare[i] += adblState[i] * adblState[i];
+			}
+		}
+
+		synchronized (this) {
+			long[] alBlockCount = _mapBlockCount.get (iBlock);
+
+			if (null == alBlockCount) {
+				_mapBlockCount.put (iBlock, alBlockCount = new long[_iNumStep + 1]);
+
+				_mapBlockSum.put (iBlock, new double[_iNumStep + 1][]);
+
+				_mapBlockSumSquare.put (iBlock, new double[_iNumStep + 1][]);
+			}
+
+			alBlockCount[iStep] = iNumPath;
+
+			_mapBlockSum.get (iBlock)[iStep] = adblSum;
+
+			_mapBlockSumSquare.get (iBlock)[iStep] = adblSumSquare;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Retrieve the Number of Paths observed at the Time Step
+	 * 
+	 * @param iStep The Step Index
+	 * 
+	 * @return The Number of Paths observed
+	 */
+
+	public synchronized long count (
+		final int iStep)
+	{
+		long lCount = 0L;
+
+		for (long[] alBlockCount : _mapBlockCount.values())
+			lCount += alBlockCount[iStep];
+
+		return lCount;
+	}
+
+	/**
+	 * Compute the Cross-Path Mean of the State Variable at the Time Step
+	 * 
+	 * @param iStep The Step Index
+	 * @param iState The State Variable Index
+	 * 
+	 * @return The Cross-Path Mean
+	 */
+
+	public synchronized double mean (
+		final int iStep,
+		final int iState)
+	{
+		long lCount = count (iStep);
+
+		return 0L == lCount ? java.lang.Double.NaN : blockOrderSum (_mapBlockSum, iStep, iState) / lCount;
+	}
+
+	/**
+	 * Compute the Cross-Path Variance of the State Variable at the Time Step
+	 * 
+	 * @param iStep The Step Index
+	 * @param iState The State Variable Index
+	 * 
+	 * @return The Cross-Path Variance
+	 */
+
+	public synchronized double variance (
+		final int iStep,
+		final int iState)
+	{
+		long lCount = count (iStep);
+
+		if (0L == lCount) return java.lang.Double.NaN;
+
+		double dblMean = blockOrderSum (_mapBlockSum, iStep, iState) / lCount;
+
+		return java.lang.Math.max (blockOrderSum (_mapBlockSumSquare, iStep, iState) / lCount - dblMean *
+			dblMean, 0.);
+	}
+}
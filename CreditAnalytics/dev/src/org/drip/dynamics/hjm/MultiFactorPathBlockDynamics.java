@@ -0,0 +1,212 @@
+
+package org.drip.dynamics.hjm;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * MultiFactorPathBlockDynamics evolves Blocks of HJM Instantaneous Forward Rate Paths over a fixed Set of
+ * 	Maturity Dates. The Drift (Volatility Integral times Point Volatility) and the per-Factor Loadings of each
+ * 	Maturity at each Step are path-independent, and are computed once at Construction; the Block Advance is
+ * 	then a plain Loop of Multiply/Adds. Forwards whose Maturity has been reached stay frozen. The Principal
+ * 	Factor Draws are generated as independent Standard Normals scaled by the Factor Standard Deviation. The
+ * 	Volatility Integrals are served off of a Cumulative Integral Grid over the Step and the Maturity Dates,
+ * 	unless the supplied Multi-Factor Volatility already carries its own Grid.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class MultiFactorPathBlockDynamics extends org.drip.dynamics.evolution.PathBlockDynamics {
+	private int _iNumFactor = 0;
+	private double[][] _aadblDrift = null;
+	private double[][] _aadblLoading = null;
+	private double[] _adblMaturityDate = null;
+	private double[] _adblInitialForward = null;
+	private org.drip.dynamics.hjm.MultiFactorVolatility _mfv = null;
+
+	private static final org.drip.dynamics.hjm.MultiFactorVolatility IntegralGridVolatility (
+		final org.drip.dynamics.hjm.MultiFactorVolatility mfv,
+		final double[] adblStepDate,
+		final double[] adblMaturityDate)
+		throws java.lang.Exception
+	{
+		if (null != mfv.integralGrid()) return mfv;
+
+		java.util.TreeSet<java.lang.Double> setGridDate = new java.util.TreeSet<java.lang.Double>();
+
+		for (double dblStepDate : adblStepDate)
+			setGridDate.add (dblStepDate);
+
+		for (double dblMaturityDate : adblMaturityDate)
+			setGridDate.add (dblMaturityDate);
+
+		int i = 0;
+		double[] adblGridDate = new double[setGridDate.size()];
+
+		for (double dblGridDate : setGridDate)
+			adblGridDate[i++] = dblGridDate;
+
+		return new org.drip.dynamics.hjm.MultiFactorVolatility (mfv.volatilitySurface(), mfv.msg(),
+			adblGridDate);
+	}
+
+	/**
+	 * MultiFactorPathBlockDynamics Constructor
+	 * 
+	 * @param mfv The Multi-Factor Volatility
+	 * @param adblStepDate Array of the Step Dates (the first is the Spot Date)
+	 * @param adblMaturityDate Array of the Forward Maturity Dates
+	 * @param adblInitialForward Array of the Initial Instantaneous Forward Rates
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public MultiFactorPathBlockDynamics (
+		final org.drip.dynamics.hjm.MultiFactorVolatility mfv,
+		final double[] adblStepDate,
+		final double[] adblMaturityDate,
+		final double[] adblInitialForward)
+		throws java.lang.Exception
+	{
+		super (adblStepDate);
+
+		if (null == (_mfv = mfv) || null == (_adblMaturityDate = adblMaturityDate) || null ==
+			(_adblInitialForward = adblInitialForward) || 0 == _adblMaturityDate.length ||
+				_adblMaturityDate.length != _adblInitialForward.length ||
+					!org.drip.quant.common.NumberUtil.IsValid (_adblMaturityDate) ||
+						!org.drip.quant.common.NumberUtil.IsValid (_adblInitialForward))
+			throw new java.lang.Exception ("MultiFactorPathBlockDynamics ctr: Invalid Inputs");
+
+		int iNumStep = numStep();
+
+		int iNumMaturity = _adblMaturityDate.length;
+
+		double[] adblFactorStandardDeviation = FactorStandardDeviation (_mfv.msg());
+
+		if (null == adblFactorStandardDeviation)
+			throw new java.lang.Exception ("MultiFactorPathBlockDynamics ctr: Invalid Factors");
+
+		org.drip.dynamics.hjm.MultiFactorVolatility mfvGrid = IntegralGridVolatility (_mfv, adblStepDate,
+			_adblMaturityDate);
+
+		_iNumFactor = adblFactorStandardDeviation.length;
+		_aadblDrift = new double[iNumStep][iNumMaturity];
+		_aadblLoading = new double[iNumStep][iNumMaturity * _iNumFactor];
+
+		for (int iStep = 0; iStep < iNumStep; ++iStep) {
+			double dblViewDate = stepDate (iStep);
+
+			double dblTimeIncrement = timeIncrement (iStep);
+
+			double dblTimeIncrementSQRT = java.lang.Math.sqrt (dblTimeIncrement);
+
+			for (int k = 0; k < iNumMaturity; ++k) {
+				if (_adblMaturityDate[k] <= dblViewDate) continue;
+
+				for (int i = 0; i < _iNumFactor; ++i) {
+					double dblWeightedFactorPointVolatility = _mfv.weightedFactorPointVolatility (i,
+						dblViewDate, _adblMaturityDate[k]);
+
+					_aadblDrift[iStep][k] += mfvGrid.volatilityIntegral (i, dblViewDate,
+						_adblMaturityDate[k]) * dblWeightedFactorPointVolatility * dblTimeIncrement;
+					_aadblLoading[iStep][k * _iNumFactor + i] = dblWeightedFactorPointVolatility *
+						dblTimeIncrementSQRT * adblFactorStandardDeviation[i];
+				}
+
+				if (!org.drip.quant.common.NumberUtil.IsValid (_aadblDrift[iStep][k]))
+					throw new java.lang.Exception ("MultiFactorPathBlockDynamics ctr: Invalid Drift");
+			}
+		}
+	}
+
+	/**
+	 * Retrieve the Multi-Factor Volatility
+	 * 
+	 * @return The Multi-Factor Volatility
+	 */
+
+	public org.drip.dynamics.hjm.MultiFactorVolatility mfv()
+	{
+		return _mfv;
+	}
+
+	/**
+	 * Retrieve the Forward Maturity Dates
+	 * 
+	 * @return The Forward Maturity Dates
+	 */
+
+	public double[] maturityDate()
+	{
+		return _adblMaturityDate;
+	}
+
+	@Override public int numState()
+	{
+		return _adblMaturityDate.length;
+	}
+
+	@Override public int numFactor()
+	{
+		return _iNumFactor;
+	}
+
+	@Override public double[] initialState()
+	{
+		return _adblInitialForward.clone();
+	}
+
+	@Override public boolean advance (
+		final int iStep,
+		final double[][] aadblState,
+		final double[][] aadblRandom,
+		final int iNumPath)
+	{
+		if (0 > iStep || iStep >= _aadblDrift.length || null == aadblState || null == aadblRandom)
+			return false;
+
+		double[] adblDrift = _aadblDrift[iStep];
+		double[] adblLoading = _aadblLoading[iStep];
+		int iNumMaturity = adblDrift.length;
+
+		for (int iPath = 0; iPath < iNumPath; ++iPath) {
+			double[] adblState = aadblState[iPath];
+			double[] adblRandom = aadblRandom[iPath];
+
+			for (int k = 0, iLoading = 0; k < iNumMaturity; ++k) {
+				double dblIncrement = adblDrift[k];
+
+				for (int i = 0; i < _iNumFactor; ++i)
+					dblIncrement += adblLoading[iLoading++] * adblRandom[i];
+
+				adblState[k] += dblIncrement;
+			}
+		}
+
+		return true;
+	}
+}
@@ -30,12 +30,21 @@ package org.drip.dynamics.hjm;
 
 /**
  * MultiFactorVolatility implements the Volatility of the Multi-factor Stochastic Evolutionary Process. The
- * 	Factors may come from the Underlying Stochastic Variables, or from Principal Components.
+ * 	Factors may come from the Underlying Stochastic Variables, or from Principal Components. The Factor
+ * 	Volatility Integrals may optionally be served off of a Cumulative Integral Grid over the Simulation Dates.
  *
  * @author Lakshmi Krishnamurthy
  */
 
 public class MultiFactorVolatility {
+
+	/**
+	 * Default Absolute Tolerance of the Adaptive Volatility Integration
+	 */
+
+	public static final double DEFAULT_INTEGRAL_TOLERANCE = 1.e-08;
+
+	private org.drip.dynamics.hjm.VolatilityIntegralGrid _vig = null;
 	private org.drip.analytics.definition.MarketSurface[] _aMSVolatility = null;
 	private org.drip.sequence.random.PrincipalFactorSequenceGenerator _pfsg = null;
 
@@ -62,6 +71,29 @@ public class MultiFactorVolatility {
 			throw new java.lang.Exception ("MultiFactorVolatility ctr: Invalid Inputs");
 	}
 
+	/**
+	 * MultiFactorVolatility Constructor
+	 * 
+	 * @param aMSVolatility Array of the Multi-Factor Volatility Surfaces
+	 * @param pfsg Principal Factor Sequence Generator
+	 * @param adblIntegralDateGrid Array of Simulation Dates over which the Cumulative Volatility Integrals
+	 * 	are held
+	 * 
+	 * @throws java.lang.Exception Thrown if Inputs are Invalid
+	 */
+
+	public MultiFactorVolatility (
+		final org.drip.analytics.definition.MarketSurface[] aMSVolatility,
+		final org.drip.sequence.random.PrincipalFactorSequenceGenerator pfsg,
+		final double[] adblIntegralDateGrid)
+		throws java.lang.Exception
+	{
+		this (aMSVolatility, pfsg);
+
+		_vig = new org.drip.dynamics.hjm.VolatilityIntegralGrid (this, adblIntegralDateGrid,
+			DEFAULT_INTEGRAL_TOLERANCE);
+	}
+
 	/**
 	 * Retrieve the Array of Volatility Surfaces
 	 * 
@@ -84,6 +116,17 @@ public class MultiFactorVolatility {
 		return _pfsg;
 	}
 
+	/**
+	 * Retrieve the Cumulative Volatility Integral Grid
+	 * 
+	 * @return The Cumulative Volatility Integral Grid (null if the Integrals are computed on demand)
+	 */
+
+	public org.drip.dynamics.hjm.VolatilityIntegralGrid integralGrid()
+	{
+		return _vig;
+	}
+
 	/**
 	 * Retrieve the Factor-Specific Univariate Volatility Function for the Specified Date
 	 * 
@@ -103,6 +146,15 @@ public class MultiFactorVolatility {
 
 		final int iNumVariate = _aMSVolatility.length;
 
+		final double[] adblFactor = _pfsg.factors()[iFactorIndex];
+
+		final double dblFactorWeight = _pfsg.factorWeight()[iFactorIndex];
+
+		final org.drip.analytics.definition.TermStructure tsVolatilityXDate =
+			_aMSVolatility[iFactorIndex].xAnchorTermStructure (dblXDate);
+
+		if (null == tsVolatilityXDate) return null;
+
 		return new org.drip.function.deterministic.R1ToR1 (null) {
 			@Override public double evaluate (
 				final double dblX)
@@ -110,16 +162,12 @@ public class MultiFactorVolatility {
 			{
 				double dblMultiFactorVol = 0.;
 
-				double[] adblFactor = _pfsg.factors()[iFactorIndex];
+				double dblVolatilityNode = tsVolatilityXDate.node (dblX);
 
-				for (int i = 0; i < iNumVariate; ++i) {
-					org.drip.analytics.definition.TermStructure tsVolatilityXDate =
-						_aMSVolatility[iFactorIndex].xAnchorTermStructure (dblXDate);
+				for (int i = 0; i < iNumVariate; ++i)
+					dblMultiFactorVol += adblFactor[i] * dblVolatilityNode;
 
-					dblMultiFactorVol += adblFactor[i] * tsVolatilityXDate.node (dblX);
-				}
-
-				return _pfsg.factorWeight()[iFactorIndex] * dblMultiFactorVol;
+				return dblFactorWeight * dblMultiFactorVol;
 			}
 		};
 	}
@@ -142,6 +190,8 @@ public class MultiFactorVolatility {
 		final double dblYDate)
 		throws java.lang.Exception
 	{
+		if (null != _vig) return _vig.volatilityIntegral (iFactorIndex, dblXDate, dblYDate);
+
 		org.drip.function.deterministic.R1ToR1 auVolatilityFunction = xDateVolatilityFunction
 			(iFactorIndex, dblXDate);
 
@@ -149,7 +199,8 @@ public class MultiFactorVolatility {
 			throw new java.lang.Exception
 				("MultiFactorVolatility::volatilityIntegral => Cannot extract X Date Volatility Function");
 
-		return auVolatilityFunction.integrate (dblXDate, dblYDate) / 365.25;
+		return org.drip.quant.calculus.R1ToR1Integrator.AdaptiveSimpson (auVolatilityFunction, dblXDate,
+			dblYDate, DEFAULT_INTEGRAL_TOLERANCE) / 365.25;
 	}
 
 	/**
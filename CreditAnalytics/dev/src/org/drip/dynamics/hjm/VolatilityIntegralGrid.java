@@ -0,0 +1,258 @@
+
+package org.drip.dynamics.hjm;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * VolatilityIntegralGrid holds the Per-Factor Cumulative Volatility Integrals over a Simulation Date Grid.
+ * 	For each Factor and each Anchor Grid Date the Cumulative Integral to every later Grid Date is built once
+ * 	(on first use) using the Adaptive Simpson Scheme, so that the Integral between two Grid Dates is an O(1)
+ * 	Lookup. Off-Grid End Dates integrate only the Stub past the last Grid Date adaptively, and Off-Grid
+ * 	Anchor Dates are integrated adaptively end to end. Built Rows are published through Atomic Reference
+ * 	Slots, so Readers take no Lock; only a Miss locks, to build the Row once.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class VolatilityIntegralGrid {
+	private int _iNumFactor = -1;
+	private double[] _adblDate = null;
+	private double _dblTolerance = java.lang.Double.NaN;
+	private org.drip.dynamics.hjm.MultiFactorVolatility _mfv = null;
+	private java.util.concurrent.atomic.AtomicReferenceArray<double[]> _aradblCumulativeIntegral = null;
+	private java.util.concurrent.atomic.AtomicReferenceArray<org.drip.function.deterministic.R1ToR1>
+		_arAnchorVolatilityFunction = null;
+
+	/**
+	 * VolatilityIntegralGrid Constructor
+	 * 
+	 * @param mfv The Multi-Factor Volatility
+	 * @param adblDate Array of Strictly Increasing Simulation Grid Dates
+	 * @param dblTolerance Absolute Tolerance of the Adaptive Panel Integration
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public VolatilityIntegralGrid (
+		final org.drip.dynamics.hjm.MultiFactorVolatility mfv,
+		final double[] adblDate,
+		final double dblTolerance)
+		throws java.lang.Exception
+	{
+		if (null == (_mfv = mfv) || null == (_adblDate = adblDate) || !org.drip.quant.common.NumberUtil.IsValid
+			(_dblTolerance = dblTolerance) || 0. >= _dblTolerance)
+			throw new java.lang.Exception ("VolatilityIntegralGrid ctr: Invalid Inputs");
+
+		int iNumDate = _adblDate.length;
+
+		if (0 == iNumDate || !org.drip.quant.common.NumberUtil.IsValid (_adblDate[0]))
+			throw new java.lang.Exception ("VolatilityIntegralGrid ctr: Invalid Inputs");
+
+		for (int i = 1; i < iNumDate; ++i) {
+			if (!org.drip.quant.common.NumberUtil.IsValid (_adblDate[i]) || _adblDate[i] <= _adblDate[i - 1])
+				throw new java.lang.Exception ("VolatilityIntegralGrid ctr: Invalid Grid Dates");
+		}
+
+		_iNumFactor = _mfv.msg().numFactor();
+
+		_aradblCumulativeIntegral = new java.util.concurrent.atomic.AtomicReferenceArray<double[]>
+			(_iNumFactor * iNumDate);
+
+		_arAnchorVolatilityFunction = new
+			java.util.concurrent.atomic.AtomicReferenceArray<org.drip.function.deterministic.R1ToR1>
+				(_iNumFactor * iNumDate);
+	}
+
+	/**
+	 * Retrieve the Simulation Grid Dates
+	 * 
+	 * @return The Simulation Grid Dates
+	 */
+
+	public double[] dateGrid()
+	{
+		return _adblDate;
+	}
+
+	/**
+	 * Retrieve the Absolute Tolerance of the Adaptive Panel Integration
+	 * 
+	 * @return The Absolute Tolerance of the Adaptive Panel Integration
+	 */
+
+	public double tolerance()
+	{
+		return _dblTolerance;
+	}
+
+	/**
+	 * Retrieve the Index of the Date in the Grid
+	 * 
+	 * @param dblDate The Date
+	 * 
+	 * @return Index of the Date in the Grid; -1 if the Date is not a Grid Date
+	 */
+
+	public int gridIndex (
+		final double dblDate)
+	{
+		int iIndex = java.util.Arrays.binarySearch (_adblDate, dblDate);
+
+		return 0 > iIndex ? -1 : iIndex;
+	}
+
+	private org.drip.function.deterministic.R1ToR1 anchorVolatilityFunction (
+		final int iFactorIndex,
+		final int iAnchorIndex)
+		throws java.lang.Exception
+	{
+		int iSlot = iFactorIndex * _adblDate.length + iAnchorIndex;
+
+		org.drip.function.deterministic.R1ToR1 auVolatility = _arAnchorVolatilityFunction.get (iSlot);
+
+		if (null != auVolatility) return auVolatility;
+
+		synchronized (this) {
+			if (null != (auVolatility = _arAnchorVolatilityFunction.get (iSlot))) return auVolatility;
+
+			if (null == (auVolatility = _mfv.xDateVolatilityFunction (iFactorIndex,
+				_adblDate[iAnchorIndex])))
+				throw new java.lang.Exception
+					("VolatilityIntegralGrid::anchorVolatilityFunction => Cannot extract X Date Volatility Function");
+
+			_arAnchorVolatilityFunction.set (iSlot, auVolatility);
+		}
+
+		return auVolatility;
+	}
+
+	private double[] cumulativeIntegralRow (
+		final int iFactorIndex,
+		final int iAnchorIndex)
+		throws java.lang.Exception
+	{
+		int iSlot = iFactorIndex * _adblDate.length + iAnchorIndex;
+
+		double[] adblCumulativeIntegral = _aradblCumulativeIntegral.get (iSlot);
+
+		if (null != adblCumulativeIntegral) return adblCumulativeIntegral;
+
+		synchronized (this) {
+			if (null != (adblCumulativeIntegral = _aradblCumulativeIntegral.get (iSlot)))
+				return adblCumulativeIntegral;
+
+			org.drip.function.deterministic.R1ToR1 auVolatility = anchorVolatilityFunction (iFactorIndex,
+				iAnchorIndex);
+
+			int iNumDate = _adblDate.length;
+			adblCumulativeIntegral = new double[iNumDate];
+
+			for (int i = iAnchorIndex + 1; i < iNumDate; ++i)
+				adblCumulativeIntegral[i] = adblCumulativeIntegral[i - 1] +
+					org.drip.quant.calculus.R1ToR1Integrator.AdaptiveSimpson (auVolatility, _adblDate[i - 1],
+						_adblDate[i], _dblTolerance);
+
+			_aradblCumulativeIntegral.set (iSlot, adblCumulativeIntegral);
+		}
+
+		return adblCumulativeIntegral;
+	}
+
+	/**
+	 * Compute the Factor Volatility Integral between two Grid Dates
+	 * 
+	 * @param iFactorIndex The Factor Index
+	 * @param iXDateIndex Grid Index of the X Date
+	 * @param iYDateIndex Grid Index of the Y Date
+	 * 
+	 * @return The Factor Volatility Integral
+	 * 
+	 * @throws java.lang.Exception Thrown if the Factor Volatility Integral cannot be computed
+	 */
+
+	public double gridVolatilityIntegral (
+		final int iFactorIndex,
+		final int iXDateIndex,
+		final int iYDateIndex)
+		throws java.lang.Exception
+	{
+		if (0 > iFactorIndex || iFactorIndex >= _iNumFactor || 0 > iXDateIndex ||
+			iXDateIndex > iYDateIndex || iYDateIndex >= _adblDate.length)
+			throw new java.lang.Exception ("VolatilityIntegralGrid::gridVolatilityIntegral => Invalid Inputs");
+
+		return cumulativeIntegralRow (iFactorIndex, iXDateIndex)[iYDateIndex] / 365.25;
+	}
+
+	/**
+	 * Compute the Factor Volatility Integral
+	 * 
+	 * @param iFactorIndex The Factor Index
+	 * @param dblXDate The X Date
+	 * @param dblYDate The Y Date
+	 * 
+	 * @return The Factor Volatility Integral
+	 * 
+	 * @throws java.lang.Exception Thrown if the Factor Volatility Integral cannot be computed
+	 */
+
+	public double volatilityIntegral (
+		final int iFactorIndex,
+		final double dblXDate,
+		final double dblYDate)
+		throws java.lang.Exception
+	{
+		if (0 > iFactorIndex || iFactorIndex >= _iNumFactor ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblXDate) || !org.drip.quant.common.NumberUtil.IsValid
+				(dblYDate) || dblXDate > dblYDate)
+			throw new java.lang.Exception ("VolatilityIntegralGrid::volatilityIntegral => Invalid Inputs");
+
+		int iXDateIndex = gridIndex (dblXDate);
+
+		if (0 > iXDateIndex) {
+			org.drip.function.deterministic.R1ToR1 auVolatility = _mfv.xDateVolatilityFunction
+				(iFactorIndex, dblXDate);
+
+			if (null == auVolatility)
+				throw new java.lang.Exception
+					("VolatilityIntegralGrid::volatilityIntegral => Cannot extract X Date Volatility Function");
+
+			return org.drip.quant.calculus.R1ToR1Integrator.AdaptiveSimpson (auVolatility, dblXDate,
+				dblYDate, _dblTolerance) / 365.25;
+		}
+
+		int iYDateIndex = java.util.Arrays.binarySearch (_adblDate, dblYDate);
+
+		if (0 <= iYDateIndex) return cumulativeIntegralRow (iFactorIndex, iXDateIndex)[iYDateIndex] / 365.25;
+
+		iYDateIndex = -iYDateIndex - 2;
+
+		return (cumulativeIntegralRow (iFactorIndex, iXDateIndex)[iYDateIndex] +
+			org.drip.quant.calculus.R1ToR1Integrator.AdaptiveSimpson (anchorVolatilityFunction (iFactorIndex,
+				iXDateIndex), _adblDate[iYDateIndex], dblYDate, _dblTolerance)) / 365.25;
+	}
+}
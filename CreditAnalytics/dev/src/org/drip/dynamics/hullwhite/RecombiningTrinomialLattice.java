@@ -0,0 +1,580 @@
+
+package org.drip.dynamics.hullwhite;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * RecombiningTrinomialLattice implements the Hull-White Recombining Trinomial Lattice of the One-Factor
+ * 	Short Rate. The Lattice is built in two Stages:
+ * 	- The X = r - alpha Process is laid out on the uniformly spaced Nodes j * dx, dx = sqrt (3 * V), with
+ * 		the Standard Branching inside, and the pruned (Down/Up) Branching at the Edges |j| = jMax.
+ * 	- The Slice Alpha is fit forward to the Discount Factors of the Initial Instantaneous Forward Rate Term
+ * 		Structure, using the Arrow-Debreu Prices of the Slice Nodes.
+ * 
+ * The Node Count is linear per Slice (at most 2 * jMax + 1), and the Nodes, the Transition Probabilities,
+ * 	the Alphas, and the Arrow-Debreu Prices are all held in primitive Arrays. The Backward Induction
+ * 	Functionality for Pricing sits on top of the Lattice.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class RecombiningTrinomialLattice {
+	private int _iNumSlice = 0;
+	private int _iMaxNodeIndex = 0;
+	private int _iDayIncrement = 0;
+	private int[] _aiBranchCenter = null;
+	private double[] _adblAlpha = null;
+	private double[] _adblXDiscount = null;
+	private double[] _adblAlphaDiscount = null;
+	private double[] _adblProbabilityUp = null;
+	private double[] _adblProbabilityDown = null;
+	private double[] _adblProbabilityStay = null;
+	private double[][] _aadblArrowDebreu = null;
+	private double _dblSpotDate = java.lang.Double.NaN;
+	private double _dblXSpacing = java.lang.Double.NaN;
+	private double _dblTimeIncrement = java.lang.Double.NaN;
+
+	private final int sliceMaxNodeIndex (
+		final int iSlice)
+	{
+		return iSlice < _iMaxNodeIndex ? iSlice : _iMaxNodeIndex;
+	}
+
+	private final boolean validNode (
+		final int iSlice,
+		final int iNode)
+	{
+		return 0 <= iSlice && iSlice < _iNumSlice && 0 <= iNode && iNode <= 2 * sliceMaxNodeIndex (iSlice);
+	}
+
+	/**
+	 * RecombiningTrinomialLattice Constructor
+	 * 
+	 * @param dblSpotDate The Spot Date
+	 * @param iDayIncrement The Day Increment of each Time Step
+	 * @param iNumIncrement The Number of Time Steps
+	 * @param dblA The Hull-White Mean Reversion A (must be strictly positive - the Edge Pruning that bounds
+	 * 	the Slice Width relies on it)
+	 * @param dblSigma The Hull-White Sigma
+	 * @param auIFRInitial The Initial Instantaneous Forward Rate Term Structure
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public RecombiningTrinomialLattice (
+		final double dblSpotDate,
+		final int iDayIncrement,
+		final int iNumIncrement,
+		final double dblA,
+		final double dblSigma,
+		final org.drip.function.deterministic.R1ToR1 auIFRInitial)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (_dblSpotDate = dblSpotDate) || 0 >= (_iDayIncrement =
+			iDayIncrement) || 0 >= iNumIncrement || !org.drip.quant.common.NumberUtil.IsValid (dblA) || 0. >=
+				dblA || !org.drip.quant.common.NumberUtil.IsValid (dblSigma) || 0. >= dblSigma || null ==
+					auIFRInitial)
+			throw new java.lang.Exception ("RecombiningTrinomialLattice ctr: Invalid Inputs");
+
+		_iNumSlice = iNumIncrement + 1;
+		_dblTimeIncrement = _iDayIncrement / 365.25;
+
+		double dblADF = java.lang.Math.exp (-1. * dblA * _dblTimeIncrement);
+
+		double dblM = dblADF - 1.;
+
+		double dblV = 0.5 * dblSigma * dblSigma * (1. - dblADF * dblADF) / dblA;
+
+		_dblXSpacing = java.lang.Math.sqrt (3. * dblV);
+
+		_iMaxNodeIndex = (int) java.lang.Math.ceil (0.184 / -dblM);
+
+		if (_iMaxNodeIndex > iNumIncrement) _iMaxNodeIndex = iNumIncrement;
+
+		int iMaxNodeCount = 2 * _iMaxNodeIndex + 1;
+		_aiBranchCenter = new int[iMaxNodeCount];
+		_adblXDiscount = new double[iMaxNodeCount];
+		_adblProbabilityUp = new double[iMaxNodeCount];
+		_adblProbabilityDown = new double[iMaxNodeCount];
+		_adblProbabilityStay = new double[iMaxNodeCount];
+
+		for (int j = -_iMaxNodeIndex; j <= _iMaxNodeIndex; ++j) {
+			int i = j + _iMaxNodeIndex;
+			double dblJM = j * dblM;
+			double dblJM2 = dblJM * dblJM;
+
+			_adblXDiscount[i] = java.lang.Math.exp (-1. * j * _dblXSpacing * _dblTimeIncrement);
+
+			if (j == _iMaxNodeIndex && 0 < j && iNumIncrement > _iMaxNodeIndex) {
+				_aiBranchCenter[i] = j - 1;
+				_adblProbabilityUp[i] = 7. / 6. + 0.5 * (dblJM2 + 3. * dblJM);
+				_adblProbabilityStay[i] = -1. / 3. - dblJM2 - 2. * dblJM;
+				_adblProbabilityDown[i] = 1. / 6. + 0.5 * (dblJM2 + dblJM);
+			} else if (j == -_iMaxNodeIndex && 0 > j && iNumIncrement > _iMaxNodeIndex) {
+				_aiBranchCenter[i] = j + 1;
+				_adblProbabilityUp[i] = 1. / 6. + 0.5 * (dblJM2 - dblJM);
+				_adblProbabilityStay[i] = -1. / 3. - dblJM2 + 2. * dblJM;
+				_adblProbabilityDown[i] = 7. / 6. + 0.5 * (dblJM2 - 3. * dblJM);
+			} else {
+				_aiBranchCenter[i] = j;
+				_adblProbabilityUp[i] = 1. / 6. + 0.5 * (dblJM2 + dblJM);
+				_adblProbabilityStay[i] = 2. / 3. - dblJM2;
+				_adblProbabilityDown[i] = 1. / 6. + 0.5 * (dblJM2 - dblJM);
+			}
+		}
+
+		_adblAlpha = new double[_iNumSlice];
+		_adblAlphaDiscount = new double[_iNumSlice];
+		_aadblArrowDebreu = new double[_iNumSlice][];
+		double dblLogDiscountFactor = 0.;
+		_aadblArrowDebreu[0] = new double[] {1.};
+
+		for (int iSlice = 0; iSlice < _iNumSlice; ++iSlice) {
+			int iSliceMaxNodeIndex = sliceMaxNodeIndex (iSlice);
+
+			double[] adblArrowDebreu = _aadblArrowDebreu[iSlice];
+			double dblSliceDate = _dblSpotDate + iSlice * _iDayIncrement;
+			double dblXDiscountSum = 0.;
+
+			dblLogDiscountFactor -= auIFRInitial.integrate (dblSliceDate, dblSliceDate + _iDayIncrement) /
+				365.25;
+
+			for (int iNode = 0; iNode <= 2 * iSliceMaxNodeIndex; ++iNode)
+				dblXDiscountSum += adblArrowDebreu[iNode] * _adblXDiscount[iNode - iSliceMaxNodeIndex +
+					_iMaxNodeIndex];
+
+			if (!org.drip.quant.common.NumberUtil.IsValid (_adblAlpha[iSlice] = (java.lang.Math.log
+				(dblXDiscountSum) - dblLogDiscountFactor) / _dblTimeIncrement))
+				throw new java.lang.Exception ("RecombiningTrinomialLattice ctr: Cannot fit Alpha at Slice " +
+					iSlice);
+
+			_adblAlphaDiscount[iSlice] = java.lang.Math.exp (-1. * _adblAlpha[iSlice] * _dblTimeIncrement);
+
+			if (iSlice == _iNumSlice - 1) break;
+
+			int iNextSliceMaxNodeIndex = sliceMaxNodeIndex (iSlice + 1);
+
+			double[] adblNextArrowDebreu = _aadblArrowDebreu[iSlice + 1] = new double[2 *
+				iNextSliceMaxNodeIndex + 1];
+
+			for (int iNode = 0; iNode <= 2 * iSliceMaxNodeIndex; ++iNode) {
+				int i = iNode - iSliceMaxNodeIndex + _iMaxNodeIndex;
+
+				double dblNodeFlow = adblArrowDebreu[iNode] * _adblAlphaDiscount[iSlice] * _adblXDiscount[i];
+
+				int iNextCenter = _aiBranchCenter[i] + iNextSliceMaxNodeIndex;
+
+				adblNextArrowDebreu[iNextCenter + 1] += dblNodeFlow * _adblProbabilityUp[i];
+				adblNextArrowDebreu[iNextCenter] += dblNodeFlow * _adblProbabilityStay[i];
+				adblNextArrowDebreu[iNextCenter - 1] += dblNodeFlow * _adblProbabilityDown[i];
+			}
+		}
+	}
+
+	/**
+	 * Retrieve the Spot Date
+	 * 
+	 * @return The Spot Date
+	 */
+
+	public double spotDate()
+	{
+		return _dblSpotDate;
+	}
+
+	/**
+	 * Retrieve the Day Increment of each Time Step
+	 * 
+	 * @return The Day Increment
+	 */
+
+	public int dayIncrement()
+	{
+		return _iDayIncrement;
+	}
+
+	/**
+	 * Retrieve the Year Fraction of each Time Step
+	 * 
+	 * @return The Year Fraction of each Time Step
+	 */
+
+	public double timeIncrement()
+	{
+		return _dblTimeIncrement;
+	}
+
+	/**
+	 * Retrieve the Number of Time Slices (including the Spot Slice)
+	 * 
+	 * @return The Number of Time Slices
+	 */
+
+	public int numSlice()
+	{
+		return _iNumSlice;
+	}
+
+	/**
+	 * Retrieve the X Node Spacing
+	 * 
+	 * @return The X Node Spacing
+	 */
+
+	public double xSpacing()
+	{
+		return _dblXSpacing;
+	}
+
+	/**
+	 * Retrieve the Maximal Node Index jMax at which the Branching is pruned
+	 * 
+	 * @return The Maximal Node Index
+	 */
+
+	public int maxNodeIndex()
+	{
+		return _iMaxNodeIndex;
+	}
+
+	/**
+	 * Retrieve the Number of Nodes in the Time Slice
+	 * 
+	 * @param iSlice The Time Slice Index
+	 * 
+	 * @return The Number of Nodes in the Time Slice
+	 */
+
+	public int sliceWidth (
+		final int iSlice)
+	{
+		return 0 > iSlice || iSlice >= _iNumSlice ? 0 : 2 * sliceMaxNodeIndex (iSlice) + 1;
+	}
+
+	/**
+	 * Retrieve the Date of the Time Slice
+	 * 
+	 * @param iSlice The Time Slice Index
+	 * 
+	 * @return The Date of the Time Slice
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public double sliceDate (
+		final int iSlice)
+		throws java.lang.Exception
+	{
+		if (0 > iSlice || iSlice >= _iNumSlice)
+			throw new java.lang.Exception ("RecombiningTrinomialLattice::sliceDate => Invalid Inputs");
+
+		return _dblSpotDate + iSlice * _iDayIncrement;
+	}
+
+	/**
+	 * Retrieve the Alpha fit at the Time Slice
+	 * 
+	 * @param iSlice The Time Slice Index
+	 * 
+	 * @return The Slice Alpha
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public double alpha (
+		final int iSlice)
+		throws java.lang.Exception
+	{
+		if (0 > iSlice || iSlice >= _iNumSlice)
+			throw new java.lang.Exception ("RecombiningTrinomialLattice::alpha => Invalid Inputs");
+
+		return _adblAlpha[iSlice];
+	}
+
+	/**
+	 * Retrieve the X of the Node
+	 * 
+	 * @param iSlice The Time Slice Index
+	 * @param iNode The Node Index in the Time Slice
+	 * 
+	 * @return The Node X
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public double x (
+		final int iSlice,
+		final int iNode)
+		throws java.lang.Exception
+	{
+		if (!validNode (iSlice, iNode))
+			throw new java.lang.Exception ("RecombiningTrinomialLattice::x => Invalid Inputs");
+
+		return (iNode - sliceMaxNodeIndex (iSlice)) * _dblXSpacing;
+	}
+
+	/**
+	 * Retrieve the Short Rate of the Node
+	 * 
+	 * @param iSlice The Time Slice Index
+	 * @param iNode The Node Index in the Time Slice
+	 * 
+	 * @return The Node Short Rate
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public double shortRate (
+		final int iSlice,
+		final int iNode)
+		throws java.lang.Exception
+	{
+		if (!validNode (iSlice, iNode))
+			throw new java.lang.Exception ("RecombiningTrinomialLattice::shortRate => Invalid Inputs");
+
+		return _adblAlpha[iSlice] + (iNode - sliceMaxNodeIndex (iSlice)) * _dblXSpacing;
+	}
+
+	/**
+	 * Retrieve the Index (in the Next Time Slice) of the Center Successor of the Node. The Up and the Down
+	 * 	Successors are one Index above/below it.
+	 * 
+	 * @param iSlice The Time Slice Index
+	 * @param iNode The Node Index in the Time Slice
+	 * 
+	 * @return The Center Successor Node Index
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public int centerSuccessor (
+		final int iSlice,
+		final int iNode)
+		throws java.lang.Exception
+	{
+		if (!validNode (iSlice, iNode) || iSlice == _iNumSlice - 1)
+			throw new java.lang.Exception
+				("RecombiningTrinomialLattice::centerSuccessor => Invalid Inputs");
+
+		return _aiBranchCenter[iNode - sliceMaxNodeIndex (iSlice) + _iMaxNodeIndex] + sliceMaxNodeIndex
+			(iSlice + 1);
+	}
+
+	/**
+	 * Retrieve the Transition Probabilities of the Node onto its Up, Center, and Down Successors
+	 * 
+	 * @param iSlice The Time Slice Index
+	 * @param iNode The Node Index in the Time Slice
+	 * 
+	 * @return The Up/Center/Down Transition Probabilities
+	 */
+
+	public double[] transitionProbability (
+		final int iSlice,
+		final int iNode)
+	{
+		if (!validNode (iSlice, iNode)) return null;
+
+		int i = iNode - sliceMaxNodeIndex (iSlice) + _iMaxNodeIndex;
+
+		return new double[] {_adblProbabilityUp[i], _adblProbabilityStay[i], _adblProbabilityDown[i]};
+	}
+
+	/**
+	 * Retrieve the Arrow-Debreu Prices of the Time Slice Nodes
+	 * 
+	 * @param iSlice The Time Slice Index
+	 * 
+	 * @return The Arrow-Debreu Prices of the Time Slice Nodes
+	 */
+
+	public double[] arrowDebreu (
+		final int iSlice)
+	{
+		return 0 > iSlice || iSlice >= _iNumSlice ? null : _aadblArrowDebreu[iSlice];
+	}
+
+	/**
+	 * Compute the Lattice Discount Factor to the Time Slice, i.e., the Sum of its Arrow-Debreu Prices
+	 * 
+	 * @param iSlice The Time Slice Index
+	 * 
+	 * @return The Lattice Discount Factor
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public double discountFactor (
+		final int iSlice)
+		throws java.lang.Exception
+	{
+		if (0 > iSlice || iSlice >= _iNumSlice)
+			throw new java.lang.Exception ("RecombiningTrinomialLattice::discountFactor => Invalid Inputs");
+
+		double dblDiscountFactor = 0.;
+		double[] adblArrowDebreu = _aadblArrowDebreu[iSlice];
+
+		for (int iNode = 0; iNode < adblArrowDebreu.length; ++iNode)
+			dblDiscountFactor += adblArrowDebreu[iNode];
+
+		return dblDiscountFactor;
+	}
+
+	/**
+	 * Compute the Discounted Expectation of the Next Slice Node Values onto the Nodes of the given Slice
+	 * 
+	 * @param iSlice The Time Slice Index
+	 * @param adblNextValue The Node Values at the Next Time Slice
+	 * 
+	 * @return The Node Values at the given Time Slice
+	 */
+
+	public double[] backwardStep (
+		final int iSlice,
+		final double[] adblNextValue)
+	{
+		if (0 > iSlice || iSlice >= _iNumSlice - 1 || null == adblNextValue || adblNextValue.length !=
+			sliceWidth (iSlice + 1))
+			return null;
+
+		int iSliceMaxNodeIndex = sliceMaxNodeIndex (iSlice);
+
+		int iNextSliceMaxNodeIndex = sliceMaxNodeIndex (iSlice + 1);
+
+		double dblAlphaDiscount = _adblAlphaDiscount[iSlice];
+		double[] adblValue = new double[2 * iSliceMaxNodeIndex + 1];
+
+		for (int iNode = 0; iNode < adblValue.length; ++iNode) {
+			int i = iNode - iSliceMaxNodeIndex + _iMaxNodeIndex;
+			int iNextCenter = _aiBranchCenter[i] + iNextSliceMaxNodeIndex;
+
+			adblValue[iNode] = dblAlphaDiscount * _adblXDiscount[i] * (_adblProbabilityUp[i] *
+				adblNextValue[iNextCenter + 1] + _adblProbabilityStay[i] * adblNextValue[iNextCenter] +
+					_adblProbabilityDown[i] * adblNextValue[iNextCenter - 1]);
+		}
+
+		return adblValue;
+	}
+
+	/**
+	 * Roll the Node Values back from the Later Time Slice onto the Earlier One, applying the Node Adjuster
+	 * 	at each Intermediate Slice and at the Earlier Slice
+	 * 
+	 * @param adblValue The Node Values at the Later Time Slice
+	 * @param iFromSlice The Later Time Slice Index
+	 * @param iToSlice The Earlier Time Slice Index
+	 * @param tlna The Node Adjuster (null => No Adjustment)
+	 * 
+	 * @return The Node Values at the Earlier Time Slice
+	 */
+
+	public double[] rollback (
+		final double[] adblValue,
+		final int iFromSlice,
+		final int iToSlice,
+		final org.drip.dynamics.hullwhite.TrinomialLatticeNodeAdjuster tlna)
+	{
+		if (null == adblValue || 0 > iToSlice || iToSlice > iFromSlice || iFromSlice >= _iNumSlice ||
+			adblValue.length != sliceWidth (iFromSlice))
+			return null;
+
+		double[] adblRolledValue = adblValue;
+
+		for (int iSlice = iFromSlice - 1; iSlice >= iToSlice; --iSlice) {
+			if (null == (adblRolledValue = backwardStep (iSlice, adblRolledValue))) return null;
+
+			if (null == tlna) continue;
+
+			int iSliceMaxNodeIndex = sliceMaxNodeIndex (iSlice);
+
+			try {
+				for (int iNode = 0; iNode < adblRolledValue.length; ++iNode)
+					adblRolledValue[iNode] = tlna.adjust (iSlice, iNode, _adblAlpha[iSlice] + (iNode -
+						iSliceMaxNodeIndex) * _dblXSpacing, adblRolledValue[iNode]);
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+
+				return null;
+			}
+		}
+
+		return adblRolledValue;
+	}
+
+	/**
+	 * Price the Claim whose Node Values at the Terminal Time Slice are given by Backward Induction onto the
+	 * 	Spot Node
+	 * 
+	 * @param adblTerminalValue The Node Values at the Terminal Time Slice
+	 * @param iTerminalSlice The Terminal Time Slice Index
+	 * @param tlna The Node Adjuster (null => No Adjustment)
+	 * 
+	 * @return The Claim Price
+	 * 
+	 * @throws java.lang.Exception Thrown if the Claim cannot be priced
+	 */
+
+	public double price (
+		final double[] adblTerminalValue,
+		final int iTerminalSlice,
+		final org.drip.dynamics.hullwhite.TrinomialLatticeNodeAdjuster tlna)
+		throws java.lang.Exception
+	{
+		double[] adblSpotValue = rollback (adblTerminalValue, iTerminalSlice, 0, tlna);
+
+		if (null == adblSpotValue)
+			throw new java.lang.Exception ("RecombiningTrinomialLattice::price => Cannot Roll back");
+
+		return adblSpotValue[0];
+	}
+
+	/**
+	 * Compute the Node Prices of the Zero Coupon Bond maturing at the Maturity Slice across the Nodes of the
+	 * 	given Time Slice
+	 * 
+	 * @param iSlice The Time Slice Index
+	 * @param iMaturitySlice The Maturity Time Slice Index
+	 * 
+	 * @return The Node Prices of the Zero Coupon Bond
+	 */
+
+	public double[] zeroCouponBondPrice (
+		final int iSlice,
+		final int iMaturitySlice)
+	{
+		int iMaturitySliceWidth = sliceWidth (iMaturitySlice);
+
+		if (0 == iMaturitySliceWidth) return null;
+
+		double[] adblUnit = new double[iMaturitySliceWidth];
+
+		java.util.Arrays.fill (adblUnit, 1.);
+
+		return rollback (adblUnit, iMaturitySlice, iSlice, null);
+	}
+}
@@ -0,0 +1,187 @@
+
+package org.drip.dynamics.hullwhite;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * SingleFactorPathBlockDynamics evolves Blocks of Hull-White Short Rate Paths using the exact Gaussian
+ * 	Transition of the Mean Reverting Factor x (r = x + alpha). The State of each Path is made up of x, the
+ * 	Short Rate, and the Trapezoidal Path Deflator exp (-Integral of r). The Transition Decay/Volatility and
+ * 	the Alpha of each Step are computed once at Construction.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class SingleFactorPathBlockDynamics extends org.drip.dynamics.evolution.PathBlockDynamics {
+
+	/**
+	 * State Index of the Mean Reverting Factor x
+	 */
+
+	public static final int FACTOR = 0;
+
+	/**
+	 * State Index of the Short Rate
+	 */
+
+	public static final int SHORT_RATE = 1;
+
+	/**
+	 * State Index of the Path Deflator
+	 */
+
+	public static final int DEFLATOR = 2;
+
+	private double[] _adblAlpha = null;
+	private double[] _adblDecay = null;
+	private double[] _adblVolatility = null;
+	private org.drip.dynamics.hullwhite.SingleFactorStateEvolver _hw = null;
+
+	/**
+	 * SingleFactorPathBlockDynamics Constructor
+	 * 
+	 * @param hw The Hull-White Single Factor State Evolver
+	 * @param adblStepDate Array of the Step Dates (the first is the Spot Date)
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public SingleFactorPathBlockDynamics (
+		final org.drip.dynamics.hullwhite.SingleFactorStateEvolver hw,
+		final double[] adblStepDate)
+		throws java.lang.Exception
+	{
+		super (adblStepDate);
+
+		if (null == (_hw = hw))
+			throw new java.lang.Exception ("SingleFactorPathBlockDynamics ctr: Invalid Inputs");
+
+		double dblA = _hw.a();
+
+		double dblSigma = _hw.sigma();
+
+		int iNumStep = numStep();
+
+		double dblSpotDate = stepDate (0);
+
+		org.drip.function.deterministic.R1ToR1 auIFR = _hw.ifrInitialTermStructure();
+
+		_adblAlpha = new double[iNumStep + 1];
+		_adblDecay = new double[iNumStep];
+		_adblVolatility = new double[iNumStep];
+
+		for (int i = 0; i <= iNumStep; ++i) {
+			double dblStepDate = stepDate (i);
+
+			double dblTime = (dblStepDate - dblSpotDate) / 365.25;
+
+			double dblAlphaVol = 0. == dblA ? dblSigma * dblTime : dblSigma * (1. - java.lang.Math.exp (-1. *
+				dblA * dblTime)) / dblA;
+
+			if (!org.drip.quant.common.NumberUtil.IsValid (_adblAlpha[i] = auIFR.evaluate (dblStepDate) + 0.5
+				* dblAlphaVol * dblAlphaVol))
+				throw new java.lang.Exception ("SingleFactorPathBlockDynamics ctr: Invalid Alpha");
+
+			if (i == iNumStep) break;
+
+			double dblTimeIncrement = timeIncrement (i);
+
+			_adblDecay[i] = java.lang.Math.exp (-1. * dblA * dblTimeIncrement);
+
+			_adblVolatility[i] = java.lang.Math.sqrt (0. == dblA ? dblSigma * dblSigma * dblTimeIncrement :
+				0.5 * dblSigma * dblSigma * (1. - _adblDecay[i] * _adblDecay[i]) / dblA);
+		}
+	}
+
+	/**
+	 * Retrieve the Hull-White Single Factor State Evolver
+	 * 
+	 * @return The Hull-White Single Factor State Evolver
+	 */
+
+	public org.drip.dynamics.hullwhite.SingleFactorStateEvolver evolver()
+	{
+		return _hw;
+	}
+
+	/**
+	 * Retrieve the Alpha at the specified Step
+	 * 
+	 * @param iStep The Step Index
+	 * 
+	 * @return The Alpha
+	 */
+
+	public double alpha (
+		final int iStep)
+	{
+		return _adblAlpha[iStep];
+	}
+
+	@Override public int numState()
+	{
+		return 3;
+	}
+
+	@Override public int numFactor()
+	{
+		return 1;
+	}
+
+	@Override public double[] initialState()
+	{
+		return new double[] {0., _adblAlpha[0], 1.};
+	}
+
+	@Override public boolean advance (
+		final int iStep,
+		final double[][] aadblState,
+		final double[][] aadblRandom,
+		final int iNumPath)
+	{
+		if (0 > iStep || iStep >= _adblDecay.length || null == aadblState || null == aadblRandom) return false;
+
+		double dblDecay = _adblDecay[iStep];
+		double dblAlpha = _adblAlpha[iStep + 1];
+		double dblVolatility = _adblVolatility[iStep];
+
+		double dblHalfTimeIncrement = 0.5 * timeIncrement (iStep);
+
+		for (int iPath = 0; iPath < iNumPath; ++iPath) {
+			double[] adblState = aadblState[iPath];
+			double dblShortRate = adblState[SHORT_RATE];
+
+			adblState[FACTOR] = adblState[FACTOR] * dblDecay + dblVolatility * aadblRandom[iPath][0];
+			adblState[SHORT_RATE] = adblState[FACTOR] + dblAlpha;
+			adblState[DEFLATOR] *= java.lang.Math.exp (-1. * dblHalfTimeIncrement * (dblShortRate +
+				adblState[SHORT_RATE]));
+		}
+
+		return true;
+	}
+}
@@ -313,7 +313,8 @@ public class SingleFactorStateEvolver implements org.drip.dynamics.evolution.Poi
 	}
 
 	/**
-	 * Evolve the Trinomial Tree Sequence
+	 * Evolve the Trinomial Tree Sequence. The Tree does not recombine, so the Node Count grows as 3^N - use
+	 * 	the recombiningTrinomialLattice for anything beyond a handful of Steps.
 	 * 
 	 * @param dblSpotDate The Spot Date
 	 * @param dblInitialDate The Initial Date
@@ -390,4 +391,30 @@ public class SingleFactorStateEvolver implements org.drip.dynamics.evolution.Poi
 		return evolveTrinomialTreeSequence (dblSpotDate, dblSpotDate, iDayIncrement, iNumIncrement, null,
 			hwsm) ? hwsm : null;
 	}
+
+	/**
+	 * Build the Recombining Trinomial Lattice of the Short Rate, with the Alpha fit to the Initial
+	 * 	Instantaneous Forward Rate Term Structure
+	 * 
+	 * @param dblSpotDate The Spot Date
+	 * @param iDayIncrement The Day Increment of each Time Step
+	 * @param iNumIncrement The Number of Time Steps
+	 * 
+	 * @return The Recombining Trinomial Lattice
+	 */
+
+	public org.drip.dynamics.hullwhite.RecombiningTrinomialLattice recombiningTrinomialLattice (
+		final double dblSpotDate,
+		final int iDayIncrement,
+		final int iNumIncrement)
+	{
+		try {
+			return new org.drip.dynamics.hullwhite.RecombiningTrinomialLattice (dblSpotDate, iDayIncrement,
+				iNumIncrement, _dblA, _dblSigma, _auIFRInitial);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
 }
@@ -0,0 +1,60 @@
+
+package org.drip.dynamics.hullwhite;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * TrinomialLatticeNodeAdjuster adjusts the Continuation Value at a Node of the Recombining Trinomial Lattice
+ * 	during the Backward Induction - e.g., to add the Coupon Cash Flows, or to apply the Call/Exercise
+ * 	Decision of the Bermudan Swaption and the Callable Bond.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public interface TrinomialLatticeNodeAdjuster {
+
+	/**
+	 * Adjust the Continuation Value at the Node
+	 * 
+	 * @param iSlice The Time Slice Index
+	 * @param iNode The Node Index in the Time Slice
+	 * @param dblShortRate The Node Short Rate
+	 * @param dblContinuationValue The Node Continuation Value
+	 * 
+	 * @return The Adjusted Node Value
+	 * 
+	 * @throws java.lang.Exception Thrown if the Adjustment cannot be computed
+	 */
+
+	public abstract double adjust (
+		final int iSlice,
+		final int iNode,
+		final double dblShortRate,
+		final double dblContinuationValue)
+		throws java.lang.Exception;
+}
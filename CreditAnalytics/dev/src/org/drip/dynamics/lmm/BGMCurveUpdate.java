@@ -30,15 +30,93 @@ package org.drip.dynamics.lmm;
 
 /**
  * BGMCurveUpdate contains the Instantaneous Snapshot of the Evolving Discount Curve Latent State
- *  Quantification Metrics Updated using the BGM LIBOR Update Dynamics.
+ *  Quantification Metrics Updated using the BGM LIBOR Update Dynamics. Updates created off of the Tenor
+ *  Node Sequence hold on to the raw Node Arrays, and calibrate each Curve/Span only on its first Access.
  *
  * @author Lakshmi Krishnamurthy
  */
 
 public class BGMCurveUpdate extends org.drip.dynamics.evolution.LSQMCurveUpdate {
+	private boolean _bMaterialized = false;
 	private org.drip.state.identifier.ForwardLabel _lslForward = null;
 	private org.drip.state.identifier.FundingLabel _lslFunding = null;
 	private org.drip.dynamics.lmm.LognormalLIBORVolatility _llv = null;
+	private org.drip.dynamics.lmm.BGMTenorNodeSequence _btns = null;
+	private org.drip.dynamics.lmm.LognormalLIBORCurveEvolver _llce = null;
+
+	private final org.drip.spline.grid.OverlappingStretchSpan nodeSpan (
+		final java.lang.String strName,
+		final double[] adblNodeResponse,
+		final org.drip.spline.params.SegmentCustomBuilderControl scbc)
+		throws java.lang.Exception
+	{
+		double[] adblNodeDate = _btns.dates();
+
+		org.drip.spline.params.SegmentCustomBuilderControl[] aSCBC = new
+			org.drip.spline.params.SegmentCustomBuilderControl[adblNodeDate.length - 1];
+
+		for (int i = 0; i < aSCBC.length; ++i)
+			aSCBC[i] = scbc;
+
+		return new org.drip.spline.grid.OverlappingStretchSpan
+			(org.drip.spline.stretch.MultiSegmentSequenceBuilder.CreateCalibratedStretchEstimator (strName,
+				adblNodeDate, adblNodeResponse, aSCBC, null,
+					org.drip.spline.stretch.BoundarySettings.NaturalStandard(),
+						org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE));
+	}
+
+	private final synchronized org.drip.spline.grid.Span lazySpan (
+		final org.drip.state.identifier.LatentStateLabel lsl,
+		final java.lang.String strQM,
+		final java.lang.String strSpanName,
+		final double[] adblNodeResponse,
+		final org.drip.spline.params.SegmentCustomBuilderControl scbc)
+	{
+		org.drip.dynamics.evolution.LSQMCurveIncrement increment = super.increment();
+
+		if (null == _btns || increment.containsQM (lsl, strQM)) return increment.span (lsl, strQM);
+
+		try {
+			org.drip.spline.grid.Span span = nodeSpan (lsl.fullyQualifiedName() + strSpanName,
+				adblNodeResponse, scbc);
+
+			_bMaterialized = true;
+
+			return increment.setQMSpan (lsl, strQM, span) ? span : null;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	private final synchronized org.drip.analytics.definition.Curve lazyCurve (
+		final org.drip.state.identifier.LatentStateLabel lsl,
+		final java.lang.String strQM)
+	{
+		org.drip.dynamics.evolution.LSQMCurveSnapshot snapshot = super.snapshot();
+
+		if (null == _btns || snapshot.containsQM (lsl, strQM)) return snapshot.qm (lsl, strQM);
+
+		try {
+			org.drip.analytics.definition.Curve curve =
+				org.drip.analytics.definition.LatentStateStatic.FORWARD_QM_LIBOR_RATE.equals (strQM) ? new
+					org.drip.state.curve.BasisSplineForwardRate (_lslForward, nodeSpan
+						(_lslForward.fullyQualifiedName() + "_QM_LIBOR", _btns.liborRates(),
+							_llce.scbcLIBOR())) : new org.drip.state.curve.DiscountFactorDiscountCurve
+								(_lslForward.currency(), null, nodeSpan (_lslFunding.fullyQualifiedName() +
+									"_QM_DISCOUNTFACTOR", _btns.discountFactors(),
+										_llce.scbcDiscountFactor()));
+
+			_bMaterialized = true;
+
+			return snapshot.setQMCurve (strQM, curve) ? curve : null;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
 
 	/**
 	 * Construct an Instance of BGMCurveUpdate
@@ -126,6 +204,47 @@ public class BGMCurveUpdate extends org.drip.dynamics.evolution.LSQMCurveUpdate
 		return null;
 	}
 
+	/**
+	 * Construct an Instance of BGMCurveUpdate off of the Tenor Node Sequence. The Curves and the Increment
+	 * 	Spans are calibrated over the Tenor Nodes lazily, on their first Access.
+	 * 
+	 * @param lslFunding The Funding Latent State Label
+	 * @param lslForward The Forward Latent State Label
+	 * @param dblInitialDate The Initial Date
+	 * @param dblFinalDate The Final Date
+	 * @param btns The Evolved Tenor Node Sequence
+	 * @param llce The LognormalLIBORCurveEvolver supplying the Span Segment Builder Controls
+	 * @param llv The Log-normal LIBOR Rate Volatility
+	 * 
+	 * @return Instance of BGMCurveUpdate
+	 */
+
+	public static final BGMCurveUpdate Create (
+		final org.drip.state.identifier.FundingLabel lslFunding,
+		final org.drip.state.identifier.ForwardLabel lslForward,
+		final double dblInitialDate,
+		final double dblFinalDate,
+		final org.drip.dynamics.lmm.BGMTenorNodeSequence btns,
+		final org.drip.dynamics.lmm.LognormalLIBORCurveEvolver llce,
+		final org.drip.dynamics.lmm.LognormalLIBORVolatility llv)
+	{
+		if (null == btns || null == llce) return null;
+
+		try {
+			BGMCurveUpdate bgmcu = new BGMCurveUpdate (lslFunding, lslForward, dblInitialDate, dblFinalDate,
+				new org.drip.dynamics.evolution.LSQMCurveSnapshot(), new
+					org.drip.dynamics.evolution.LSQMCurveIncrement(), llv);
+
+			bgmcu._btns = btns;
+			bgmcu._llce = llce;
+			return bgmcu;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
 	private BGMCurveUpdate (
 		final org.drip.state.identifier.FundingLabel lslFunding,
 		final org.drip.state.identifier.ForwardLabel lslForward,
@@ -150,7 +269,7 @@ public class BGMCurveUpdate extends org.drip.dynamics.evolution.LSQMCurveUpdate
 
 	public org.drip.analytics.rates.ForwardCurve forwardCurve()
 	{
-		return (org.drip.analytics.rates.ForwardCurve) snapshot().qm (_lslForward,
+		return (org.drip.analytics.rates.ForwardCurve) lazyCurve (_lslForward,
 			org.drip.analytics.definition.LatentStateStatic.FORWARD_QM_LIBOR_RATE);
 	}
 
@@ -162,8 +281,9 @@ public class BGMCurveUpdate extends org.drip.dynamics.evolution.LSQMCurveUpdate
 
 	public org.drip.spline.grid.Span forwardCurveIncrement()
 	{
-		return increment().span (_lslForward,
-			org.drip.analytics.definition.LatentStateStatic.FORWARD_QM_LIBOR_RATE);
+		return lazySpan (_lslForward, org.drip.analytics.definition.LatentStateStatic.FORWARD_QM_LIBOR_RATE,
+			"_INCREMENT", null == _btns ? null : _btns.liborRateIncrements(), null == _llce ? null :
+				_llce.scbcLIBORIncrement());
 	}
 
 	/**
@@ -174,8 +294,10 @@ public class BGMCurveUpdate extends org.drip.dynamics.evolution.LSQMCurveUpdate
 
 	public org.drip.spline.grid.Span continuousForwardRateIncrement()
 	{
-		return increment().span (_lslForward,
-			org.drip.analytics.definition.LatentStateStatic.FORWARD_QM_CONTINUOUSLY_COMPOUNDED_FORWARD_RATE);
+		return lazySpan (_lslForward,
+			org.drip.analytics.definition.LatentStateStatic.FORWARD_QM_CONTINUOUSLY_COMPOUNDED_FORWARD_RATE,
+				"_CONT_FWD_INCREMENT", null == _btns ? null : _btns.continuousForwardRateIncrements(), null ==
+					_llce ? null : _llce.scbcContinuousForwardIncrement());
 	}
 
 	/**
@@ -186,8 +308,11 @@ public class BGMCurveUpdate extends org.drip.dynamics.evolution.LSQMCurveUpdate
 
 	public org.drip.spline.grid.Span instantaneousEffectiveForwardRate()
 	{
-		return increment().span (_lslForward,
-			org.drip.analytics.definition.LatentStateStatic.FORWARD_QM_INSTANTANEOUS_EFFECTIVE_FORWARD_RATE);
+		return lazySpan (_lslForward,
+			org.drip.analytics.definition.LatentStateStatic.FORWARD_QM_INSTANTANEOUS_EFFECTIVE_FORWARD_RATE,
+				"_EFFECTIVE_ANNUAL_FORWARD", null == _btns ? null :
+					_btns.instantaneousEffectiveForwardRates(), null == _llce ? null :
+						_llce.scbcInstantaneousEffectiveForward());
 	}
 
 	/**
@@ -198,8 +323,10 @@ public class BGMCurveUpdate extends org.drip.dynamics.evolution.LSQMCurveUpdate
 
 	public org.drip.spline.grid.Span instantaneousNominalForwardRate()
 	{
-		return increment().span (_lslForward,
-			org.drip.analytics.definition.LatentStateStatic.FORWARD_QM_INSTANTANEOUS_NOMINAL_FORWARD_RATE);
+		return lazySpan (_lslForward,
+			org.drip.analytics.definition.LatentStateStatic.FORWARD_QM_INSTANTANEOUS_NOMINAL_FORWARD_RATE,
+				"_NOMINAL_ANNUAL_FORWARD", null == _btns ? null : _btns.instantaneousNominalForwardRates(),
+					null == _llce ? null : _llce.scbcInstantaneousNominalForward());
 	}
 
 	/**
@@ -210,7 +337,7 @@ public class BGMCurveUpdate extends org.drip.dynamics.evolution.LSQMCurveUpdate
 
 	public org.drip.analytics.rates.DiscountCurve discountCurve()
 	{
-		return (org.drip.analytics.rates.DiscountCurve) snapshot().qm (_lslFunding,
+		return (org.drip.analytics.rates.DiscountCurve) lazyCurve (_lslFunding,
 			org.drip.analytics.definition.LatentStateStatic.DISCOUNT_QM_DISCOUNT_FACTOR);
 	}
 
@@ -222,8 +349,10 @@ public class BGMCurveUpdate extends org.drip.dynamics.evolution.LSQMCurveUpdate
 
 	public org.drip.spline.grid.Span discountCurveIncrement()
 	{
-		return increment().span (_lslFunding,
-			org.drip.analytics.definition.LatentStateStatic.DISCOUNT_QM_DISCOUNT_FACTOR);
+		return lazySpan (_lslFunding,
+			org.drip.analytics.definition.LatentStateStatic.DISCOUNT_QM_DISCOUNT_FACTOR, "_INCREMENT", null
+				== _btns ? null : _btns.discountFactorIncrements(), null == _llce ? null :
+					_llce.scbcDiscountFactorIncrement());
 	}
 
 	/**
@@ -234,8 +363,9 @@ public class BGMCurveUpdate extends org.drip.dynamics.evolution.LSQMCurveUpdate
 
 	public org.drip.spline.grid.Span spotRateIncrement()
 	{
-		return increment().span (_lslFunding,
-			org.drip.analytics.definition.LatentStateStatic.DISCOUNT_QM_ZERO_RATE);
+		return lazySpan (_lslFunding, org.drip.analytics.definition.LatentStateStatic.DISCOUNT_QM_ZERO_RATE,
+			"_SPOT_RATE_INCREMENT", null == _btns ? null : _btns.spotRateIncrements(), null == _llce ? null
+				: _llce.scbcSpotRateIncrement());
 	}
 
 	/**
@@ -248,4 +378,56 @@ public class BGMCurveUpdate extends org.drip.dynamics.evolution.LSQMCurveUpdate
 	{
 		return _llv;
 	}
+
+	/**
+	 * Retrieve the Evolved Tenor Node Sequence underlying the Lazily Calibrated Curves/Spans
+	 * 
+	 * @return The Evolved Tenor Node Sequence (null => The Update was created off of the Curves/Spans)
+	 */
+
+	public org.drip.dynamics.lmm.BGMTenorNodeSequence tenorNodeSequence()
+	{
+		return _btns;
+	}
+
+	/**
+	 * Indicate if any Curve/Span has been calibrated over the Tenor Nodes so far
+	 * 
+	 * @return TRUE => At least one Curve/Span has been calibrated over the Tenor Nodes
+	 */
+
+	public synchronized boolean materialized()
+	{
+		return _bMaterialized;
+	}
+
+	@Override public org.drip.dynamics.evolution.LSQMCurveSnapshot snapshot()
+	{
+		if (null != _btns) {
+			forwardCurve();
+
+			discountCurve();
+		}
+
+		return super.snapshot();
+	}
+
+	@Override public org.drip.dynamics.evolution.LSQMCurveIncrement increment()
+	{
+		if (null != _btns) {
+			forwardCurveIncrement();
+
+			continuousForwardRateIncrement();
+
+			discountCurveIncrement();
+
+			spotRateIncrement();
+
+			instantaneousEffectiveForwardRate();
+
+			instantaneousNominalForwardRate();
+		}
+
+		return super.increment();
+	}
 }
@@ -202,6 +202,102 @@ public class BGMTenorNodeSequence {
 		return _adblSpotRateIncrement;
 	}
 
+	/**
+	 * Interpolate the LIBOR Rate off of the Tenor Nodes - Linearly between the Nodes, and Flat beyond the
+	 * 	Edge Nodes
+	 * 
+	 * @param dblDate The Date
+	 * 
+	 * @return The LIBOR Rate
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public double liborRate (
+		final double dblDate)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate))
+			throw new java.lang.Exception ("BGMTenorNodeSequence::liborRate => Invalid Inputs");
+
+		int iNumNode = _adblDate.length;
+
+		if (dblDate <= _adblDate[0]) return _adblLIBOR[0];
+
+		if (dblDate >= _adblDate[iNumNode - 1]) return _adblLIBOR[iNumNode - 1];
+
+		int i = 1;
+
+		while (dblDate > _adblDate[i]) ++i;
+
+		return _adblLIBOR[i - 1] + (_adblLIBOR[i] - _adblLIBOR[i - 1]) * (dblDate - _adblDate[i - 1]) /
+			(_adblDate[i] - _adblDate[i - 1]);
+	}
+
+	/**
+	 * Interpolate the Discount Factor off of the Tenor Nodes - Unit on/before the First Node, Log-linearly
+	 * 	between the Nodes, and at the Flat Forward Rate beyond the Last Node
+	 * 
+	 * @param dblDate The Date
+	 * 
+	 * @return The Discount Factor
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public double discountFactor (
+		final double dblDate)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate))
+			throw new java.lang.Exception ("BGMTenorNodeSequence::discountFactor => Invalid Inputs");
+
+		int iNumNode = _adblDate.length;
+		double dblLeftDate = _adblDate[0];
+		double dblRightDate = _adblDate[iNumNode - 1];
+
+		if (dblDate <= dblLeftDate) return 1.;
+
+		if (dblDate >= dblRightDate)
+			return 1 == iNumNode ? _adblDiscountFactor[0] : java.lang.Math.exp (java.lang.Math.log
+				(_adblDiscountFactor[iNumNode - 1]) * (dblDate - dblLeftDate) / (dblRightDate -
+					dblLeftDate));
+
+		int i = 1;
+
+		while (dblDate > _adblDate[i]) ++i;
+
+		return _adblDiscountFactor[i - 1] * java.lang.Math.pow (_adblDiscountFactor[i] /
+			_adblDiscountFactor[i - 1], (dblDate - _adblDate[i - 1]) / (_adblDate[i] - _adblDate[i - 1]));
+	}
+
+	/**
+	 * Compute the Continuously Compounded Forward Rate between the Dates off of the Interpolated Tenor Node
+	 * 	Discount Factors
+	 * 
+	 * @param dblDate1 The First Date
+	 * @param dblDate2 The Second Date
+	 * 
+	 * @return The Continuously Compounded Forward Rate (Zero if either Date precedes the First Node)
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public double discountForward (
+		final double dblDate1,
+		final double dblDate2)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate1) || !org.drip.quant.common.NumberUtil.IsValid
+			(dblDate2) || dblDate1 == dblDate2)
+			throw new java.lang.Exception ("BGMTenorNodeSequence::discountForward => Invalid Inputs");
+
+		if (dblDate1 < _adblDate[0] || dblDate2 < _adblDate[0]) return 0.;
+
+		return 365.25 / (dblDate2 - dblDate1) * java.lang.Math.log (discountFactor (dblDate1) /
+			discountFactor (dblDate2));
+	}
+
 	@Override public java.lang.String toString()
 	{
 		int iNumTenor = _adblDate.length;
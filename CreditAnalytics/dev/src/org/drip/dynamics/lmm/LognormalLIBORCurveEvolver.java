@@ -86,7 +86,7 @@ public class LognormalLIBORCurveEvolver implements org.drip.dynamics.evolution.C
 	}
 
 	private double forwardDerivative (
-		final org.drip.analytics.rates.ForwardCurve fc,
+		final org.drip.analytics.rates.ForwardRateEstimator fc,
 		final double dblTargetPointDate)
 		throws java.lang.Exception
 	{
@@ -107,7 +107,7 @@ public class LognormalLIBORCurveEvolver implements org.drip.dynamics.evolution.C
 		final double dblViewDate,
 		final double dblViewTimeIncrement,
 		final double dblViewTimeIncrementSQRT,
-		final org.drip.analytics.rates.ForwardCurve fc,
+		final org.drip.analytics.rates.ForwardRateEstimator fc,
 		final double[] adblMultivariateRandom,
 		final org.drip.dynamics.lmm.LognormalLIBORVolatility llv)
 		throws java.lang.Exception
@@ -183,8 +183,10 @@ public class LognormalLIBORCurveEvolver implements org.drip.dynamics.evolution.C
 		final double dblViewTimeIncrement,
 		final double dblViewTimeIncrementSQRT,
 		final java.lang.String strForwardTenor,
-		final org.drip.analytics.rates.ForwardCurve fc,
-		final org.drip.analytics.rates.DiscountCurve dc,
+		final org.drip.analytics.rates.ForwardRateEstimator fc,
+		final double dblDiscountFactor,
+		final double dblSpotRate,
+		final org.drip.analytics.rates.ForwardRateEstimator freSpotRate,
 		final org.drip.dynamics.lmm.LognormalLIBORVolatility llv)
 	{
 		double[] adblLognormalFactorPointVolatility = llv.factorPointVolatility (dblSpotDate,
@@ -217,10 +219,6 @@ public class LognormalLIBORCurveEvolver implements org.drip.dynamics.evolution.C
 		try {
 			double dblLIBOR = fc.forward (dblTargetPointDate);
 
-			double dblDiscountFactor = dc.df (dblTargetPointDate);
-
-			double dblSpotRate = dc.forward (dblSpotDate, dblSpotDate + 1.);
-
 			double dblContinuousForwardRate = fc.forward (dblTargetPointDate);
 
 			double dblDCF = org.drip.analytics.support.AnalyticsHelper.TenorToYearFraction (strForwardTenor);
@@ -238,8 +236,7 @@ public class LognormalLIBORCurveEvolver implements org.drip.dynamics.evolution.C
 				dblViewTimeIncrement, dblViewTimeIncrementSQRT, fc, adblMultivariateRandom, llv);
 
 			double dblSpotRateIncrement = spotRateIncrement (dblTargetPointDate, dblViewTimeIncrement,
-				dblViewTimeIncrementSQRT, dc.forwardRateEstimator (dblTargetPointDate, _lslForward),
-					adblMultivariateRandom, llv);
+				dblViewTimeIncrementSQRT, freSpotRate, adblMultivariateRandom, llv);
 
 			double dblContinuousForwardRateEvolved = dblContinuousForwardRate +
 				dblContinuousForwardRateIncrement;
@@ -258,6 +255,127 @@ public class LognormalLIBORCurveEvolver implements org.drip.dynamics.evolution.C
 		return null;
 	}
 
+	private org.drip.analytics.rates.ForwardRateEstimator nodeLIBOREstimator (
+		final org.drip.dynamics.lmm.BGMTenorNodeSequence btns)
+	{
+		return new org.drip.analytics.rates.ForwardRateEstimator() {
+			@Override public org.drip.state.identifier.ForwardLabel index()
+			{
+				return _lslForward;
+			}
+
+			@Override public java.lang.String tenor()
+			{
+				return _lslForward.tenor();
+			}
+
+			@Override public double forward (
+				final double dblDate)
+				throws java.lang.Exception
+			{
+				return btns.liborRate (dblDate);
+			}
+
+			@Override public double forward (
+				final org.drip.analytics.date.JulianDate dt)
+				throws java.lang.Exception
+			{
+				if (null == dt)
+					throw new java.lang.Exception ("LognormalLIBORCurveEvolver::forward => Invalid Inputs");
+
+				return btns.liborRate (dt.julian());
+			}
+
+			@Override public double forward (
+				final java.lang.String strTenor)
+				throws java.lang.Exception
+			{
+				return btns.liborRate (new org.drip.analytics.date.JulianDate (btns.dates()[0]).addTenor
+					(strTenor).julian());
+			}
+		};
+	}
+
+	private org.drip.analytics.rates.ForwardRateEstimator nodeSpotRateEstimator (
+		final org.drip.dynamics.lmm.BGMTenorNodeSequence btns)
+	{
+		return new org.drip.analytics.rates.ForwardRateEstimator() {
+			@Override public org.drip.state.identifier.ForwardLabel index()
+			{
+				return _lslForward;
+			}
+
+			@Override public java.lang.String tenor()
+			{
+				return _lslForward.tenor();
+			}
+
+			@Override public double forward (
+				final double dblDate)
+				throws java.lang.Exception
+			{
+				return forward (new org.drip.analytics.date.JulianDate (dblDate));
+			}
+
+			@Override public double forward (
+				final org.drip.analytics.date.JulianDate dt)
+				throws java.lang.Exception
+			{
+				if (null == dt)
+					throw new java.lang.Exception ("LognormalLIBORCurveEvolver::forward => Invalid Inputs");
+
+				return btns.discountForward (dt.subtractTenor (_lslForward.tenor()).julian(), dt.julian());
+			}
+
+			@Override public double forward (
+				final java.lang.String strTenor)
+				throws java.lang.Exception
+			{
+				return forward (new org.drip.analytics.date.JulianDate (btns.dates()[0]).addTenor
+					(strTenor));
+			}
+		};
+	}
+
+	private org.drip.dynamics.lmm.BGMTenorNodeSequence evolveNodes (
+		final double dblSpotDate,
+		final double dblViewDate,
+		final double dblViewTimeIncrement,
+		final org.drip.analytics.rates.ForwardRateEstimator fc,
+		final org.drip.function.deterministic.R1ToR1 auDiscountFactor,
+		final double dblSpotRate,
+		final org.drip.analytics.rates.ForwardRateEstimator freSpotRate,
+		final org.drip.dynamics.lmm.LognormalLIBORVolatility llv)
+	{
+		org.drip.dynamics.lmm.BGMForwardTenorSnap[] aBGMTS = new
+			org.drip.dynamics.lmm.BGMForwardTenorSnap[_iNumForwardTenor + 1];
+
+		double dblViewTimeIncrementSQRT = java.lang.Math.sqrt (dblViewTimeIncrement);
+
+		java.lang.String strForwardTenor = _lslForward.tenor();
+
+		try {
+			org.drip.analytics.date.JulianDate dtTargetPoint = new org.drip.analytics.date.JulianDate
+				(dblViewDate);
+
+			for (int i = 0; i <= _iNumForwardTenor; ++i) {
+				double dblTargetPointDate = dtTargetPoint.julian();
+
+				if (null == (aBGMTS[i] = timeSnap (dblSpotDate, dblTargetPointDate, dblViewTimeIncrement,
+					dblViewTimeIncrementSQRT, strForwardTenor, fc, auDiscountFactor.evaluate
+						(dblTargetPointDate), dblSpotRate, freSpotRate, llv)) || null == (dtTargetPoint =
+							dtTargetPoint.addTenor (strForwardTenor)))
+					return null;
+			}
+
+			return new org.drip.dynamics.lmm.BGMTenorNodeSequence (aBGMTS);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
 	/**
 	 * LognormalLIBORCurveEvolver Constructor
 	 * 
@@ -453,7 +571,64 @@ public class LognormalLIBORCurveEvolver implements org.drip.dynamics.evolution.C
 		return _aSCBCInstantaneousNominalForward[0];
 	}
 
-	@Override public org.drip.dynamics.lmm.BGMCurveUpdate evolve (
+	/**
+	 * Evolve the Tenor Nodes off of the Previous Tenor Node Sequence. The LIBOR Rates and the Discount
+	 * 	Factors are read straight off of the Previous Nodes, so Chained Steps never calibrate a Curve/Span.
+	 * 
+	 * @param dblSpotDate The Spot Date
+	 * @param dblViewDate The View Date
+	 * @param dblViewTimeIncrement The View Time Increment
+	 * @param btnsPrev The Previous Tenor Node Sequence
+	 * @param llv The Log-normal LIBOR Rate Volatility
+	 * 
+	 * @return The Evolved Tenor Node Sequence
+	 */
+
+	public org.drip.dynamics.lmm.BGMTenorNodeSequence evolveNodes (
+		final double dblSpotDate,
+		final double dblViewDate,
+		final double dblViewTimeIncrement,
+		final org.drip.dynamics.lmm.BGMTenorNodeSequence btnsPrev,
+		final org.drip.dynamics.lmm.LognormalLIBORVolatility llv)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblSpotDate) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblViewDate) || dblSpotDate > dblViewDate ||
+				!org.drip.quant.common.NumberUtil.IsValid (dblViewTimeIncrement) || null == btnsPrev || null
+					== llv)
+			return null;
+
+		try {
+			return evolveNodes (dblSpotDate, dblViewDate, dblViewTimeIncrement, nodeLIBOREstimator
+				(btnsPrev), new org.drip.function.deterministic.R1ToR1 (null) {
+				@Override public double evaluate (
+					final double dblDate)
+					throws java.lang.Exception
+				{
+					return btnsPrev.discountFactor (dblDate);
+				}
+			}, btnsPrev.discountForward (dblSpotDate, dblSpotDate + 1.), nodeSpotRateEstimator (btnsPrev),
+				llv);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Evolve the Tenor Nodes alone, without calibrating any Curve/Span over them. This is the Node-only
+	 * 	Mode for the Path Simulations that only consume the Node Arrays. Updates created off of a Tenor Node
+	 * 	Sequence are chained off of their Nodes; the others are evolved off of their Curves.
+	 * 
+	 * @param dblSpotDate The Spot Date
+	 * @param dblViewDate The View Date
+	 * @param dblViewTimeIncrement The View Time Increment
+	 * @param lsqmPrev The Previous Curve Update
+	 * 
+	 * @return The Evolved Tenor Node Sequence
+	 */
+
+	public org.drip.dynamics.lmm.BGMTenorNodeSequence evolveNodes (
 		final double dblSpotDate,
 		final double dblViewDate,
 		final double dblViewTimeIncrement,
@@ -466,108 +641,52 @@ public class LognormalLIBORCurveEvolver implements org.drip.dynamics.evolution.C
 			return null;
 
 		org.drip.dynamics.lmm.BGMCurveUpdate bgmPrev = (org.drip.dynamics.lmm.BGMCurveUpdate) lsqmPrev;
-		org.drip.dynamics.lmm.BGMForwardTenorSnap[] aBGMTS = new
-			org.drip.dynamics.lmm.BGMForwardTenorSnap[_iNumForwardTenor + 1];
 
-		double dblViewTimeIncrementSQRT = java.lang.Math.sqrt (dblViewTimeIncrement);
+		org.drip.dynamics.lmm.BGMTenorNodeSequence btnsPrev = bgmPrev.tenorNodeSequence();
 
-		org.drip.analytics.rates.ForwardCurve fc = bgmPrev.forwardCurve();
+		org.drip.dynamics.lmm.LognormalLIBORVolatility llv = bgmPrev.lognormalLIBORVolatility();
 
-		org.drip.analytics.rates.DiscountCurve dc = bgmPrev.discountCurve();
+		if (null != btnsPrev)
+			return evolveNodes (dblSpotDate, dblViewDate, dblViewTimeIncrement, btnsPrev, llv);
 
-		org.drip.dynamics.lmm.LognormalLIBORVolatility llv = bgmPrev.lognormalLIBORVolatility();
+		org.drip.analytics.rates.ForwardCurve fc = bgmPrev.forwardCurve();
 
-		java.lang.String strForwardTenor = _lslForward.tenor();
+		final org.drip.analytics.rates.DiscountCurve dc = bgmPrev.discountCurve();
 
-		try {
-			org.drip.analytics.date.JulianDate dtTargetPoint = new org.drip.analytics.date.JulianDate
-				(dblViewDate);
+		if (null == fc || null == dc) return null;
 
-			for (int i = 0; i <= _iNumForwardTenor; ++i) {
-				if (null == (aBGMTS[i] = timeSnap (dblSpotDate, dtTargetPoint.julian(), dblViewTimeIncrement,
-					dblViewTimeIncrementSQRT, strForwardTenor, fc, dc, llv)) || null == (dtTargetPoint =
-						dtTargetPoint.addTenor (strForwardTenor)))
-					return null;
-			}
+		org.drip.analytics.rates.ForwardRateEstimator freSpotRate = dc.forwardRateEstimator (dblViewDate,
+			_lslForward);
 
-			org.drip.dynamics.lmm.BGMTenorNodeSequence btns = new org.drip.dynamics.lmm.BGMTenorNodeSequence
-				(aBGMTS);
-
-			org.drip.spline.stretch.BoundarySettings bs =
-				org.drip.spline.stretch.BoundarySettings.NaturalStandard();
-
-			java.lang.String strForwardLabelName = _lslForward.fullyQualifiedName();
-
-			java.lang.String strFundingLabelName = _lslFunding.fullyQualifiedName();
-
-			double[] adblTenorDate = btns.dates();
-
-			org.drip.state.curve.BasisSplineForwardRate fcLIBOR = new
-				org.drip.state.curve.BasisSplineForwardRate (_lslForward, new
-					org.drip.spline.grid.OverlappingStretchSpan
-						(org.drip.spline.stretch.MultiSegmentSequenceBuilder.CreateCalibratedStretchEstimator
-							(strForwardLabelName + "_QM_LIBOR", adblTenorDate, btns.liborRates(),
-								_aSCBCLIBOR, null, bs,
-									org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE)));
-
-			org.drip.state.curve.DiscountFactorDiscountCurve dcDiscountFactor = new
-				org.drip.state.curve.DiscountFactorDiscountCurve (_lslForward.currency(), null, new
-					org.drip.spline.grid.OverlappingStretchSpan
-						(org.drip.spline.stretch.MultiSegmentSequenceBuilder.CreateCalibratedStretchEstimator
-							(strFundingLabelName + "_QM_DISCOUNTFACTOR", adblTenorDate,
-								btns.discountFactors(), _aSCBCDiscountFactor, null, bs,
-									org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE)));
-
-			org.drip.spline.stretch.MultiSegmentSequence mssDiscountFactorIncrement =
-				org.drip.spline.stretch.MultiSegmentSequenceBuilder.CreateCalibratedStretchEstimator
-					(strFundingLabelName + "_INCREMENT", adblTenorDate, btns.discountFactorIncrements(),
-						_aSCBCDiscountFactorIncrement, null, bs,
-							org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE);
-
-			org.drip.spline.stretch.MultiSegmentSequence mssContinuousForwardRateIncrement =
-				org.drip.spline.stretch.MultiSegmentSequenceBuilder.CreateCalibratedStretchEstimator
-					(strForwardLabelName + "_CONT_FWD_INCREMENT", adblTenorDate,
-						btns.continuousForwardRateIncrements(), _aSCBCContinuousForwardIncrement, null, bs,
-							org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE);
-
-			org.drip.spline.stretch.MultiSegmentSequence mssSpotRateIncrement =
-				org.drip.spline.stretch.MultiSegmentSequenceBuilder.CreateCalibratedStretchEstimator
-					(strForwardLabelName + "_SPOT_RATE_INCREMENT", adblTenorDate, btns.spotRateIncrements(),
-						_aSCBCSpotRateIncrement, null, bs,
-							org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE);
-
-			org.drip.spline.stretch.MultiSegmentSequence mssInstantaneousEffectiveForwardRate =
-				org.drip.spline.stretch.MultiSegmentSequenceBuilder.CreateCalibratedStretchEstimator
-					(strForwardLabelName + "_EFFECTIVE_ANNUAL_FORWARD", adblTenorDate,
-						btns.instantaneousEffectiveForwardRates(), _aSCBCInstantaneousEffectiveForward, null,
-							bs, org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE);
-
-			org.drip.spline.stretch.MultiSegmentSequence mssInstantaneousNominalForwardRate =
-				org.drip.spline.stretch.MultiSegmentSequenceBuilder.CreateCalibratedStretchEstimator
-					(strForwardLabelName + "_NOMINAL_ANNUAL_FORWARD", adblTenorDate,
-						btns.instantaneousNominalForwardRates(), _aSCBCInstantaneousNominalForward, null, bs,
-							org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE);
-
-			return org.drip.dynamics.lmm.BGMCurveUpdate.Create (_lslFunding, _lslForward, dblViewDate,
-				dblViewDate + dblViewTimeIncrement, fcLIBOR, new org.drip.spline.grid.OverlappingStretchSpan
-					(org.drip.spline.stretch.MultiSegmentSequenceBuilder.CreateCalibratedStretchEstimator
-						(strForwardLabelName + "_INCREMENT", adblTenorDate, btns.liborRateIncrements(),
-							_aSCBCLIBORIncrement, null, bs,
-								org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE)), dcDiscountFactor,
-									new org.drip.spline.grid.OverlappingStretchSpan
-										(mssDiscountFactorIncrement), new
-											org.drip.spline.grid.OverlappingStretchSpan
-												(mssContinuousForwardRateIncrement), new
-													org.drip.spline.grid.OverlappingStretchSpan
-														(mssSpotRateIncrement), new
-															org.drip.spline.grid.OverlappingStretchSpan
-																(mssInstantaneousEffectiveForwardRate), new
-																	org.drip.spline.grid.OverlappingStretchSpan
-				(mssInstantaneousNominalForwardRate), bgmPrev.lognormalLIBORVolatility());
+		try {
+			return evolveNodes (dblSpotDate, dblViewDate, dblViewTimeIncrement, fc, new
+				org.drip.function.deterministic.R1ToR1 (null) {
+				@Override public double evaluate (
+					final double dblDate)
+					throws java.lang.Exception
+				{
+					return dc.df (dblDate);
+				}
+			}, dc.forward (dblSpotDate, dblSpotDate + 1.), null != freSpotRate ? freSpotRate : new
+				org.drip.analytics.rates.DiscountForwardEstimator (dc, _lslForward), llv);
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
 
 		return null;
 	}
+
+	@Override public org.drip.dynamics.lmm.BGMCurveUpdate evolve (
+		final double dblSpotDate,
+		final double dblViewDate,
+		final double dblViewTimeIncrement,
+		final org.drip.dynamics.evolution.LSQMCurveUpdate lsqmPrev)
+	{
+		org.drip.dynamics.lmm.BGMTenorNodeSequence btns = evolveNodes (dblSpotDate, dblViewDate,
+			dblViewTimeIncrement, lsqmPrev);
+
+		return null == btns ? null : org.drip.dynamics.lmm.BGMCurveUpdate.Create (_lslFunding, _lslForward,
+			dblViewDate, dblViewDate + dblViewTimeIncrement, btns, this,
+				((org.drip.dynamics.lmm.BGMCurveUpdate) lsqmPrev).lognormalLIBORVolatility());
+	}
 }
@@ -0,0 +1,278 @@
+
+package org.drip.dynamics.lmm;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * LognormalLIBORPathBlockDynamics evolves Blocks of LIBOR Market Model Paths of the Forward Rates spanning a
+ * 	Tenor Date Grid under the Spot LIBOR Measure, using the Log-Euler Discretization. The per-Factor
+ * 	Lognormal Volatility Loadings of each Forward at each Step are computed once at Construction; the
+ * 	State-dependent Spot Measure Drift is accumulated as a running Sum across the Forwards of each Path.
+ * 	Forwards whose Tenor Start has been reached stay fixed. The last State Slot holds the Discrete Spot
+ * 	Numeraire Deflator, rolled over at each Tenor Date crossed.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class LognormalLIBORPathBlockDynamics extends org.drip.dynamics.evolution.PathBlockDynamics {
+	private int _iNumFactor = 0;
+	private int[] _aiFirstLive = null;
+	private int[] _aiRollStart = null;
+	private int[] _aiRollEnd = null;
+	private double[] _adblTenorDate = null;
+	private double[] _adblAccrual = null;
+	private double[][] _aadblVolatility = null;
+	private double[][] _aadblConvexity = null;
+	private double[] _adblInitialLIBOR = null;
+	private org.drip.dynamics.hjm.MultiFactorVolatility _mfv = null;
+
+	/**
+	 * Construct the LognormalLIBORPathBlockDynamics Instance with the Initial Forward Rates implied off of
+	 * 	the Discount Curve
+	 * 
+	 * @param mfv The Lognormal Multi-Factor Volatility
+	 * @param adblStepDate Array of the Step Dates (the first is the Spot Date)
+	 * @param adblTenorDate Array of the Tenor Dates
+	 * @param dc The Discount Curve
+	 * 
+	 * @return The LognormalLIBORPathBlockDynamics Instance
+	 */
+
+	public static final LognormalLIBORPathBlockDynamics Standard (
+		final org.drip.dynamics.hjm.MultiFactorVolatility mfv,
+		final double[] adblStepDate,
+		final double[] adblTenorDate,
+		final org.drip.analytics.rates.DiscountCurve dc)
+	{
+		if (null == adblTenorDate || 2 > adblTenorDate.length || null == dc) return null;
+
+		int iNumForward = adblTenorDate.length - 1;
+		double[] adblInitialLIBOR = new double[iNumForward];
+
+		try {
+			for (int k = 0; k < iNumForward; ++k)
+				adblInitialLIBOR[k] = (dc.df (adblTenorDate[k]) / dc.df (adblTenorDate[k + 1]) - 1.) * 365.25
+					/ (adblTenorDate[k + 1] - adblTenorDate[k]);
+
+			return new LognormalLIBORPathBlockDynamics (mfv, adblStepDate, adblTenorDate, adblInitialLIBOR);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * LognormalLIBORPathBlockDynamics Constructor
+	 * 
+	 * @param mfv The Lognormal Multi-Factor Volatility
+	 * @param adblStepDate Array of the Step Dates (the first is the Spot Date)
+	 * @param adblTenorDate Array of the Tenor Dates (the Forward k spans Tenor Dates k and k + 1)
+	 * @param adblInitialLIBOR Array of the Initial Forward Rates
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public LognormalLIBORPathBlockDynamics (
+		final org.drip.dynamics.hjm.MultiFactorVolatility mfv,
+		final double[] adblStepDate,
+		final double[] adblTenorDate,
+		final double[] adblInitialLIBOR)
+		throws java.lang.Exception
+	{
+		super (adblStepDate);
+
+		if (null == (_mfv = mfv) || null == (_adblTenorDate = adblTenorDate) || null == (_adblInitialLIBOR =
+			adblInitialLIBOR) || 0 == _adblInitialLIBOR.length || _adblTenorDate.length !=
+				_adblInitialLIBOR.length + 1 || !org.drip.quant.common.NumberUtil.IsValid (_adblTenorDate) ||
+					!org.drip.quant.common.NumberUtil.IsValid (_adblInitialLIBOR) || _adblTenorDate[0] <
+						stepDate (0))
+			throw new java.lang.Exception ("LognormalLIBORPathBlockDynamics ctr: Invalid Inputs");
+
+		int iNumStep = numStep();
+
+		int iNumForward = _adblInitialLIBOR.length;
+
+		double[] adblFactorStandardDeviation = FactorStandardDeviation (_mfv.msg());
+
+		if (null == adblFactorStandardDeviation)
+			throw new java.lang.Exception ("LognormalLIBORPathBlockDynamics ctr: Invalid Factors");
+
+		_iNumFactor = adblFactorStandardDeviation.length;
+		_adblAccrual = new double[iNumForward];
+		_aiFirstLive = new int[iNumStep];
+		_aiRollStart = new int[iNumStep];
+		_aiRollEnd = new int[iNumStep];
+		_aadblConvexity = new double[iNumStep][iNumForward];
+		_aadblVolatility = new double[iNumStep][iNumForward * _iNumFactor];
+
+		for (int k = 0; k < iNumForward; ++k) {
+			if (0. >= (_adblAccrual[k] = (_adblTenorDate[k + 1] - _adblTenorDate[k]) / 365.25))
+				throw new java.lang.Exception ("LognormalLIBORPathBlockDynamics ctr: Invalid Tenor Dates");
+		}
+
+		for (int iStep = 0, iRoll = 0; iStep < iNumStep; ++iStep) {
+			double dblViewDate = stepDate (iStep);
+
+			double dblNextStepDate = stepDate (iStep + 1);
+
+			int iFirstLive = 0;
+
+			while (iFirstLive < iNumForward && _adblTenorDate[iFirstLive] <= dblViewDate) ++iFirstLive;
+
+			_aiFirstLive[iStep] = iFirstLive;
+			_aiRollStart[iStep] = iRoll;
+
+			while (iRoll < iNumForward && _adblTenorDate[iRoll + 1] <= dblNextStepDate) ++iRoll;
+
+			_aiRollEnd[iStep] = iRoll;
+
+			double dblTimeIncrement = timeIncrement (iStep);
+
+			for (int k = iFirstLive; k < iNumForward; ++k) {
+				double[] adblFactorPointVolatility = _mfv.factorPointVolatility (dblViewDate,
+					_adblTenorDate[k]);
+
+				if (null == adblFactorPointVolatility || _iNumFactor != adblFactorPointVolatility.length)
+					throw new java.lang.Exception
+						("LognormalLIBORPathBlockDynamics ctr: Invalid Point Volatility");
+
+				for (int i = 0; i < _iNumFactor; ++i) {
+					double dblVolatility = adblFactorPointVolatility[i] * adblFactorStandardDeviation[i];
+					_aadblVolatility[iStep][k * _iNumFactor + i] = dblVolatility;
+					_aadblConvexity[iStep][k] += 0.5 * dblVolatility * dblVolatility * dblTimeIncrement;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Retrieve the Lognormal Multi-Factor Volatility
+	 * 
+	 * @return The Lognormal Multi-Factor Volatility
+	 */
+
+	public org.drip.dynamics.hjm.MultiFactorVolatility mfv()
+	{
+		return _mfv;
+	}
+
+	/**
+	 * Retrieve the Tenor Dates
+	 * 
+	 * @return The Tenor Dates
+	 */
+
+	public double[] tenorDate()
+	{
+		return _adblTenorDate;
+	}
+
+	/**
+	 * Retrieve the Number of Forward Rates
+	 * 
+	 * @return The Number of Forward Rates
+	 */
+
+	public int numForward()
+	{
+		return _adblInitialLIBOR.length;
+	}
+
+	@Override public int numState()
+	{
+		return _adblInitialLIBOR.length + 1;
+	}
+
+	@Override public int numFactor()
+	{
+		return _iNumFactor;
+	}
+
+	@Override public double[] initialState()
+	{
+		int iNumForward = _adblInitialLIBOR.length;
+		double[] adblInitialState = new double[iNumForward + 1];
+		adblInitialState[iNumForward] = 1.;
+
+		java.lang.System.arraycopy (_adblInitialLIBOR, 0, adblInitialState, 0, iNumForward);
+
+		return adblInitialState;
+	}
+
+	@Override public boolean advance (
+		final int iStep,
+		final double[][] aadblState,
+		final double[][] aadblRandom,
+		final int iNumPath)
+	{
+		if (0 > iStep || iStep >= _aiFirstLive.length || null == aadblState || null == aadblRandom)
+			return false;
+
+		int iRollEnd = _aiRollEnd[iStep];
+		int iFirstLive = _aiFirstLive[iStep];
+		int iRollStart = _aiRollStart[iStep];
+		double[] adblConvexity = _aadblConvexity[iStep];
+		double[] adblVolatility = _aadblVolatility[iStep];
+		int iNumForward = _adblInitialLIBOR.length;
+		double[] adblDriftSum = new double[_iNumFactor];
+
+		double dblTimeIncrement = timeIncrement (iStep);
+
+		double dblTimeIncrementSQRT = java.lang.Math.sqrt (dblTimeIncrement);
+
+		for (int iPath = 0; iPath < iNumPath; ++iPath) {
+			double[] adblState = aadblState[iPath];
+			double[] adblRandom = aadblRandom[iPath];
+
+			java.util.Arrays.fill (adblDriftSum, 0.);
+
+			for (int k = iFirstLive, iLoading = k * _iNumFactor; k < iNumForward; ++k) {
+				double dblAccrualLIBOR = _adblAccrual[k] * adblState[k];
+				double dblDriftWeight = dblAccrualLIBOR / (1. + dblAccrualLIBOR);
+				double dblDrift = 0.;
+				double dblDiffusion = 0.;
+
+				for (int i = 0; i < _iNumFactor; ++i) {
+					double dblVolatility = adblVolatility[iLoading++];
+					adblDriftSum[i] += dblDriftWeight * dblVolatility;
+					dblDrift += dblVolatility * adblDriftSum[i];
+					dblDiffusion += dblVolatility * adblRandom[i];
+				}
+
+				adblState[k] *= java.lang.Math.exp (dblDrift * dblTimeIncrement - adblConvexity[k] +
+					dblDiffusion * dblTimeIncrementSQRT);
+			}
+
+			for (int j = iRollStart; j < iRollEnd; ++j)
+				adblState[iNumForward] /= 1. + _adblAccrual[j] * adblState[j];
+		}
+
+		return true;
+	}
+}
@@ -69,41 +69,13 @@ class CreditStaticAndMarks {
 		return sb.toString();
 	}
 
-	private static java.lang.String makeSQLClearMarksForBondDate (
-		final java.lang.String[] astrRecord)
-	{
-		if (null == astrRecord || 0 == astrRecord.length) return null;
-
-		java.lang.String strIDType = astrRecord[6];
-
-		if (null == strIDType || 0 == strIDType.length() || (!"ISIN".equalsIgnoreCase (strIDType) &&
-			!"CUSIP".equalsIgnoreCase (strIDType))) {
-			System.out.println ("Unknown ID Type: " + strIDType);
-
-			return null;
-		}
-
-		java.lang.String strID = astrRecord[1];
-		java.lang.String strORAMarkDate = "";
-
-		try {
-			strORAMarkDate = org.drip.analytics.date.DateUtil.MakeOracleDateFromBBGDate
-				(astrRecord[3].trim());
-		} catch (java.lang.Exception e) {
-			System.out.println ("Bad mark date " + astrRecord[1] + " for " + strIDType + " " + strID);
-
-			return null;
-		}
+	private static final java.lang.String BOND_MARKS_DELETE_SQL =
+		"delete from BondMarks where ID = ? and MarkDate = ?";
 
-		java.lang.StringBuilder sb = new java.lang.StringBuilder();
-
-		sb.append ("delete from BondMarks where ID = '").append (strID).append ("' and MarkDate = '").append
-			(strORAMarkDate).append ("'");
-
-		return sb.toString();
-	}
+	private static final java.lang.String BOND_MARKS_INSERT_SQL =
+		"insert into BondMarks values(?, ?, ?, ?)";
 
-	private static java.lang.String makeSQLBondMarksInsert (
+	private static java.lang.Object[] makeBondMarksKey (
 		final java.lang.String[] astrRecord)
 	{
 		if (null == astrRecord || 0 == astrRecord.length) return null;
@@ -128,22 +100,24 @@ class CreditStaticAndMarks {
 			return null;
 		}
 
+		return new java.lang.Object[] {strID, strORAMarkDate};
+	}
+
+	private static java.lang.Object[] makeBondMarksRow (
+		final java.lang.String[] astrRecord,
+		final java.lang.Object[] aobjKey)
+	{
 		double dblMarkValue = java.lang.Double.NaN;
 
 		try {
 			dblMarkValue = new java.lang.Double (astrRecord[2].trim()).doubleValue();
 		} catch (java.lang.Exception e) {
-			System.out.println ("Bad mark " + astrRecord[2] + " for " + strIDType + " " + strID);
+			System.out.println ("Bad mark " + astrRecord[2] + " for " + astrRecord[6] + " " + aobjKey[0]);
 
 			return null;
 		}
 
-		java.lang.StringBuilder sb = new java.lang.StringBuilder();
-
-		sb.append ("insert into BondMarks values('").append (strIDType).append ("', '").append (strID).append
-			("', '").append (strORAMarkDate).append ("', ").append (dblMarkValue).append (")");
-
-		return sb.toString();
+		return new java.lang.Object[] {astrRecord[6], aobjKey[0], aobjKey[1], dblMarkValue};
 	}
 
 	/* private static java.lang.String makeSQLInsert (
@@ -1583,39 +1557,58 @@ class CreditStaticAndMarks {
 			return;
 		}
 
-		while (null != (strMarksLine = inMarks.readLine())) {
-			int iNumMarksRecord = 0;
-			java.lang.String astrMarks[] = new java.lang.String[9];
+		boolean bMarksWritten = false;
+		org.drip.service.env.BatchedTableWriter btw = null;
 
-			java.util.StringTokenizer stMarks = new java.util.StringTokenizer (strMarksLine, ",");
+		try {
+			btw = new org.drip.service.env.BatchedTableWriter (stmt.getConnection());
 
-			while (stMarks.hasMoreTokens()) {
-				java.lang.String strMarks = stMarks.nextToken();
+			while (null != (strMarksLine = inMarks.readLine())) {
+				int iNumMarksRecord = 0;
+				java.lang.String astrMarks[] = new java.lang.String[9];
 
-				astrMarks[iNumMarksRecord++] = strMarks;
-			}
+				java.util.StringTokenizer stMarks = new java.util.StringTokenizer (strMarksLine, ",");
 
-			java.lang.String strSQLClearMarks = makeSQLClearMarksForBondDate (astrMarks);
+				while (stMarks.hasMoreTokens()) {
+					java.lang.String strMarks = stMarks.nextToken();
 
-			if (null != strSQLClearMarks) {
-				if (m_bBlog) System.out.println ("SQL[" + iNumMarks + "]: " + strSQLClearMarks);
+					astrMarks[iNumMarksRecord++] = strMarks;
+				}
 
-				stmt.executeUpdate (strSQLClearMarks);
-			}
+				java.lang.Object[] aobjMarksKey = makeBondMarksKey (astrMarks);
+
+				/*
+				 * The Key is cleared even when the Mark itself is bad, so a stale Mark never survives a
+				 * 	Reload.
+				 */
 
-			java.lang.String strSQLInsertMarks = makeSQLBondMarksInsert (astrMarks);
+				if (null != aobjMarksKey) {
+					java.lang.Object[] aobjMarksRow = makeBondMarksRow (astrMarks, aobjMarksKey);
 
-			if (null != strSQLInsertMarks) {
-				if (m_bBlog) System.out.println ("SQL[" + iNumMarks + "]: " + strSQLInsertMarks);
+					if (m_bBlog)
+						System.out.println ("Marks[" + iNumMarks + "]: " + aobjMarksKey[0] + " " +
+							aobjMarksKey[1] + " " + (null == aobjMarksRow ? "<cleared>" : aobjMarksRow[3]));
 
-				stmt.executeUpdate (strSQLInsertMarks);
+					if (!btw.write (BOND_MARKS_DELETE_SQL, aobjMarksKey, null == aobjMarksRow ? null :
+						BOND_MARKS_INSERT_SQL, aobjMarksRow))
+						throw new java.lang.Exception
+							("CreditStaticAndMarks::LoadBondMarks => Cannot write " + aobjMarksKey[0]);
+				}
+
+				++iNumMarks;
 			}
 
-			++iNumMarks;
+			bMarksWritten = true;
+		} finally {
+			try {
+				inMarks.close();
+			} finally {
+				if (null != btw && !btw.close() && bMarksWritten)
+					throw new java.lang.Exception
+						("CreditStaticAndMarks::LoadBondMarks => Cannot commit the Marks");
+			}
 		}
 
-		inMarks.close();
-
 		System.out.println ("Loaded " + iNumMarks + " into BondMark.");
 	}
 
@@ -51,6 +51,7 @@ public abstract class ExecutionInitializationOutput {
 	private int _iNumOFDerivCalcs = 0;
 	private double _dblTime = java.lang.Double.NaN;
 	private double _dblStartingVariate = java.lang.Double.NaN;
+	private double _dblOFToleranceBase = java.lang.Double.NaN;
 
 	protected ExecutionInitializationOutput()
 	{
@@ -71,6 +72,7 @@ public abstract class ExecutionInitializationOutput {
 		_iNumOFDerivCalcs = eiopOther._iNumOFDerivCalcs;
 		_dblTime = eiopOther._dblTime;
 		_dblStartingVariate = eiopOther._dblStartingVariate;
+		_dblOFToleranceBase = eiopOther._dblOFToleranceBase;
 	}
 
 	protected boolean done()
@@ -199,6 +201,36 @@ public abstract class ExecutionInitializationOutput {
 		return _dblStartingVariate;
 	}
 
+	/**
+	 * Set the OF Base off of which the Convergence Tolerance is to be scaled, in place of the OF at the
+	 * 	Starting Variate
+	 * 
+	 * @param dblOFToleranceBase The OF Tolerance Base
+	 * 
+	 * @return TRUE => OF Tolerance Base set successfully
+	 */
+
+	public boolean setOFToleranceBase (
+		final double dblOFToleranceBase)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblOFToleranceBase)) return false;
+
+		_dblOFToleranceBase = dblOFToleranceBase;
+		return true;
+	}
+
+	/**
+	 * Return the OF Base off of which the Convergence Tolerance is to be scaled (NaN => Use the OF at the
+	 * 	Starting Variate)
+	 * 
+	 * @return The OF Tolerance Base
+	 */
+
+	public double getOFToleranceBase()
+	{
+		return _dblOFToleranceBase;
+	}
+
 	/**
 	 * Return a string form of the Initializer output
 	 * 
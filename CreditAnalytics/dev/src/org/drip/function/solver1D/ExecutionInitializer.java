@@ -43,6 +43,13 @@ package org.drip.function.solver1D;
  * 	- Convergence Zone initialization: This generates a variate that lies within the convergence zone for the
  * 		iterative determination of the fixed point using the Newton's method. Convergence Zone Determination
  * 		is controlled by the parameters in ConvergenceControlParams.
+ * 	- Warm Start Bracketing initialization: This steps out of a prior root using the derivative callback (or
+ * 		the secant) with a slight overshoot and a capped step growth, and terminates as soon as the fixed
+ * 		point is bracketed - the tight bracket is refined through secant estimates (bisecting whenever an
+ * 		estimate fails to halve the OF deviation), and the in-bracket point with the smallest OF deviation
+ * 		is handed over as the starting variate. The convergence tolerance is scaled off of the smallest OF
+ * 		deviation seen, so a stale prior root does not loosen it. If the warm start is unsuccessful, the
+ * 		generic bracketing initialization is kicked off from the prior root.
  *
  * ExecutionInitializer behavior can be customized/optimized through several of the initialization heuristics
  * 	techniques implemented in the InitializationHeuristics class. 
@@ -67,6 +74,10 @@ public class ExecutionInitializer {
 		}
 	}
 
+	private static final double WARM_START_OVERSHOOT = 1.25;
+	private static final int WARM_START_MAX_REFINEMENTS = 8;
+	private static final double WARM_START_MAX_STEP_GROWTH = 4.;
+
 	private boolean _bTrendBracketRight = false;
 	private org.drip.function.deterministic.R1ToR1 _of = null;
 	private org.drip.function.solver1D.ConvergenceControlParams _ccp = null;
@@ -87,6 +98,234 @@ public class ExecutionInitializer {
 		return dblOF;
 	}
 
+	private double evaluateOF (
+		final double dblVariate,
+		final org.drip.function.solver1D.ExecutionInitializationOutput eiop)
+		throws java.lang.Exception
+	{
+		if (!_mapOFMap.containsKey (dblVariate) && !eiop.incrOFCalcs())
+			throw new java.lang.Exception ("ExecutionInitializer::evaluateOF => Cannot increment OF count");
+
+		return evaluateOF (dblVariate);
+	}
+
+	private double[] tightestWarmStartBracket (
+		final java.util.SortedMap<java.lang.Double, java.lang.Double> mapTrialOF)
+	{
+		double[] adblBracket = null;
+		double dblOFPrev = java.lang.Double.NaN;
+		double dblVariatePrev = java.lang.Double.NaN;
+
+		for (java.util.Map.Entry<java.lang.Double, java.lang.Double> me : mapTrialOF.entrySet()) {
+			double dblVariate = me.getKey();
+
+			double dblOF = me.getValue();
+
+			if (org.drip.quant.common.NumberUtil.IsValid (dblVariatePrev) && 0. >= dblOF * dblOFPrev &&
+				(null == adblBracket || dblVariate - dblVariatePrev < adblBracket[1] - adblBracket[0]))
+				adblBracket = new double[] {dblVariatePrev, dblVariate, dblOFPrev, dblOF};
+
+			dblOFPrev = dblOF;
+			dblVariatePrev = dblVariate;
+		}
+
+		return adblBracket;
+	}
+
+	private double warmStartVariate (
+		final java.util.SortedMap<java.lang.Double, java.lang.Double> mapTrialOF,
+		final double[] adblBracket)
+		throws java.lang.Exception
+	{
+		if (0. == adblBracket[2]) return adblBracket[0];
+
+		if (0. == adblBracket[3]) return adblBracket[1];
+
+		double dblOFBest = java.lang.Double.NaN;
+		double dblOFNextBest = java.lang.Double.NaN;
+		double dblVariateBest = java.lang.Double.NaN;
+		double dblVariateNextBest = java.lang.Double.NaN;
+
+		for (java.util.Map.Entry<java.lang.Double, java.lang.Double> me : mapTrialOF.entrySet()) {
+			double dblOF = me.getValue();
+
+			if (!(java.lang.Math.abs (dblOF) >= java.lang.Math.abs (dblOFBest))) {
+				dblOFNextBest = dblOFBest;
+				dblVariateNextBest = dblVariateBest;
+				dblOFBest = dblOF;
+				dblVariateBest = me.getKey();
+			} else if (!(java.lang.Math.abs (dblOF) >= java.lang.Math.abs (dblOFNextBest))) {
+				dblOFNextBest = dblOF;
+				dblVariateNextBest = me.getKey();
+			}
+		}
+
+		double dblVariate = dblOFBest == dblOFNextBest ? java.lang.Double.NaN :
+			org.drip.function.solver1D.VariateIteratorPrimitive.FalsePosition (dblVariateBest,
+				dblVariateNextBest, dblOFBest, dblOFNextBest);
+
+		return dblVariate > adblBracket[0] && dblVariate < adblBracket[1] ? dblVariate :
+			org.drip.function.solver1D.VariateIteratorPrimitive.FalsePosition (adblBracket[0],
+				adblBracket[1], adblBracket[2], adblBracket[3]);
+	}
+
+	private boolean warmStartBracketDone (
+		final java.util.SortedMap<java.lang.Double, java.lang.Double> mapTrialOF,
+		final double[] adblBracketIn,
+		final double dblOFGoal,
+		final org.drip.function.solver1D.BracketingOutput bop)
+	{
+		boolean bBisect = false;
+		double[] adblBracket = adblBracketIn;
+
+		try {
+			for (int i = 0; i < WARM_START_MAX_REFINEMENTS && 0. != adblBracket[2] && 0. != adblBracket[3];
+				++i) {
+				double dblOFBest = java.lang.Math.min (java.lang.Math.abs (adblBracket[2]), java.lang.Math.abs
+					(adblBracket[3]));
+
+				double dblVariate = bBisect ? 0.5 * (adblBracket[0] + adblBracket[1]) : warmStartVariate
+					(mapTrialOF, adblBracket);
+
+				if (dblVariate <= adblBracket[0] || dblVariate >= adblBracket[1]) break;
+
+				double dblOF = evaluateOF (dblVariate, bop) - dblOFGoal;
+
+				if (!org.drip.quant.common.NumberUtil.IsValid (dblOF)) break;
+
+				mapTrialOF.put (dblVariate, dblOF);
+
+				adblBracket = tightestWarmStartBracket (mapTrialOF);
+
+				bBisect = !(java.lang.Math.abs (dblOF) < 0.5 * dblOFBest);
+			}
+		} catch (java.lang.Exception e) {
+		}
+
+		double dblOFSmallest = java.lang.Double.NaN;
+		double dblVariateStart = java.lang.Double.NaN;
+		double dblOFStartSmallest = java.lang.Double.NaN;
+
+		for (java.util.Map.Entry<java.lang.Double, java.lang.Double> me : mapTrialOF.entrySet()) {
+			double dblVariate = me.getKey();
+
+			double dblOFAbsolute = java.lang.Math.abs (me.getValue());
+
+			if (!(dblOFAbsolute >= dblOFSmallest)) dblOFSmallest = dblOFAbsolute;
+
+			if (dblVariate >= adblBracket[0] && dblVariate <= adblBracket[1] && !(dblOFAbsolute >=
+				dblOFStartSmallest)) {
+				dblOFStartSmallest = dblOFAbsolute;
+				dblVariateStart = dblVariate;
+			}
+		}
+
+		return bop.setOFToleranceBase (dblOFSmallest) && bop.done (adblBracket[0], adblBracket[1],
+			adblBracket[2] + dblOFGoal, adblBracket[3] + dblOFGoal, dblVariateStart);
+	}
+
+	private boolean warmStartBracket (
+		final org.drip.function.solver1D.InitializationHeuristics ih,
+		final double dblOFGoal,
+		final int iNumExpansions,
+		final org.drip.function.solver1D.BracketingOutput bop)
+	{
+		double dblVariate = ih.getPriorRoot();
+
+		double dblStep = ih.getWarmStartStep();
+
+		double dblBracketFloor = ih.getBracketFloor();
+
+		double dblBracketCeiling = ih.getBracketCeiling();
+
+		double dblOF = java.lang.Double.NaN;
+
+		java.util.SortedMap<java.lang.Double, java.lang.Double> mapTrialOF = new
+			java.util.TreeMap<java.lang.Double, java.lang.Double>();
+
+		try {
+			dblOF = evaluateOF (dblVariate, bop) - dblOFGoal;
+		} catch (java.lang.Exception e) {
+			return false;
+		}
+
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblOF)) return false;
+
+		mapTrialOF.put (dblVariate, dblOF);
+
+		if (0. == dblOF)
+			return bop.setOFToleranceBase (0.) && bop.done (dblVariate, dblVariate, dblOFGoal, dblOFGoal,
+				dblVariate);
+
+		org.drip.function.deterministic.R1ToR1 ofDerivative = ih.getDerivative();
+
+		if (null != ofDerivative && bop.incrOFDerivCalcs()) {
+			try {
+				double dblSlope = ofDerivative.evaluate (dblVariate);
+
+				if (org.drip.quant.common.NumberUtil.IsValid (dblSlope) && 0. != dblSlope)
+					dblStep = -1. * WARM_START_OVERSHOOT * dblOF / dblSlope;
+			} catch (java.lang.Exception e) {
+			}
+		}
+
+		for (int i = 0; i < iNumExpansions; ++i) {
+			if (!bop.incrIterations()) return false;
+
+			double dblVariateTrial = dblVariate + dblStep;
+
+			if (org.drip.quant.common.NumberUtil.IsValid (dblBracketFloor) && dblVariateTrial <
+				dblBracketFloor)
+				dblVariateTrial = dblBracketFloor;
+
+			if (org.drip.quant.common.NumberUtil.IsValid (dblBracketCeiling) && dblVariateTrial >
+				dblBracketCeiling)
+				dblVariateTrial = dblBracketCeiling;
+
+			if (dblVariateTrial == dblVariate) {
+				if (0 != i) return false;
+
+				dblStep = -1. * dblStep;
+				continue;
+			}
+
+			double dblOFTrial = java.lang.Double.NaN;
+
+			try {
+				dblOFTrial = evaluateOF (dblVariateTrial, bop) - dblOFGoal;
+			} catch (java.lang.Exception e) {
+				dblOFTrial = java.lang.Double.NaN;
+			}
+
+			if (!org.drip.quant.common.NumberUtil.IsValid (dblOFTrial)) {
+				dblStep = 0.5 * (dblVariateTrial - dblVariate);
+				continue;
+			}
+
+			mapTrialOF.put (dblVariateTrial, dblOFTrial);
+
+			double[] adblBracket = tightestWarmStartBracket (mapTrialOF);
+
+			if (null != adblBracket) return warmStartBracketDone (mapTrialOF, adblBracket, dblOFGoal, bop);
+
+			double dblMaxStep = WARM_START_MAX_STEP_GROWTH * java.lang.Math.abs (dblVariateTrial -
+				dblVariate);
+
+			dblStep = dblOFTrial == dblOF ? 0. : -1. * WARM_START_OVERSHOOT * dblOFTrial * (dblVariateTrial -
+				dblVariate) / (dblOFTrial - dblOF);
+
+			if (!org.drip.quant.common.NumberUtil.IsValid (dblStep) || 0. == dblStep)
+				dblStep = 2. * (dblVariateTrial - dblVariate);
+			else if (java.lang.Math.abs (dblStep) > dblMaxStep)
+				dblStep = dblStep > 0. ? dblMaxStep : -1. * dblMaxStep;
+
+			dblOF = dblOFTrial;
+			dblVariate = dblVariateTrial;
+		}
+
+		return false;
+	}
+
 	private StartingVariateOF validateVariate (
 		final double dblVariate,
 		final org.drip.function.solver1D.BracketingOutput bop)
@@ -337,6 +576,10 @@ public class ExecutionInitializer {
 
 		org.drip.function.solver1D.BracketingOutput bop = new org.drip.function.solver1D.BracketingOutput();
 
+		if (null != ih && org.drip.function.solver1D.InitializationHeuristics.BRACKETING_WARM_START ==
+			ih.getDeterminant() && warmStartBracket (ih, dblOFGoal, iNumExpansions, bop))
+			return bop;
+
 		StartingVariateOF sv = initializeBracketingVariate (iNumExpansions, getStartingBracketVariate (bcp,
 			ih), getStartingBracketWidth (bcp, ih), bcp.getBracketWidthExpansionFactor(), bop);
 
@@ -367,7 +610,7 @@ public class ExecutionInitializer {
 
 				try {
 					if (bracketingDone (dblVariateLeft, dblVariateRight, dblOFLeft = evaluateOF
-						(dblVariateLeft), dblOFRight, dblOFGoal, bop) && bop.incrOFCalcs())
+						(dblVariateLeft, bop), dblOFRight, dblOFGoal, bop))
 						return bop;
 				} catch (java.lang.Exception e) {
 					dblOFLeft = java.lang.Double.NaN;
@@ -386,7 +629,7 @@ public class ExecutionInitializer {
 
 				try {
 					if (bracketingDone (dblVariateLeft, dblVariateRight, dblOFLeft, dblOFRight = evaluateOF
-						(dblVariateRight), dblOFGoal, bop) && bop.incrOFCalcs())
+						(dblVariateRight, bop), dblOFGoal, bop))
 						return bop;
 				} catch (java.lang.Exception e) {
 					dblOFRight = java.lang.Double.NaN;
@@ -484,8 +727,7 @@ public class ExecutionInitializer {
 			org.drip.function.solver1D.BracketingOutput bop = new org.drip.function.solver1D.BracketingOutput();
 
 			if (bracketingDone (ih.getSearchStartLeft(), ih.getSearchStartRight(), evaluateOF
-				(ih.getSearchStartLeft()), evaluateOF (ih.getSearchStartRight()), dblOFGoal, bop) &&
-					bop.incrOFCalcs())
+				(ih.getSearchStartLeft(), bop), evaluateOF (ih.getSearchStartRight(), bop), dblOFGoal, bop))
 				return bop;
 		} catch (java.lang.Exception e) {
 		}
@@ -53,10 +53,20 @@ package org.drip.function.solver1D;
  * 	- Variate Iteration: Variates are iterated using a) any of the standard primitive built-in variate
  * 		iterators (or custom ones), or b) a variate selector scheme for each iteration.
  *
+ * The Per-Solve Counts are recorded onto the process-wide Cold Start/Warm Start FixedPointFinderMetrics,
+ * 	depending upon whether the Solve was kicked off from a Prior Root. A Prior Root that already meets the
+ * 	absolute OF Tolerance is returned off of a single Evaluation.
+ *
  * @author Lakshmi Krishnamurthy
  */
 
 public abstract class FixedPointFinder {
+	private static final org.drip.function.solver1D.FixedPointFinderMetrics s_fpfmColdStart = new
+		org.drip.function.solver1D.FixedPointFinderMetrics();
+
+	private static final org.drip.function.solver1D.FixedPointFinderMetrics s_fpfmWarmStart = new
+		org.drip.function.solver1D.FixedPointFinderMetrics();
+
 	protected boolean _bWhine = false;
 	protected double _dblOFGoal = java.lang.Double.NaN;
 	protected org.drip.function.solver1D.ExecutionControl _ec = null;
@@ -85,18 +95,62 @@ public abstract class FixedPointFinder {
 		final org.drip.function.solver1D.InitializationHeuristics ih);
 
 	/**
-	 * Invoke the solution 1D root finding sequence
+	 * Retrieve the Metrics accumulated across the Solves not kicked off from a Prior Root
 	 * 
-	 * @param ih Optional Initialization Heuristics
+	 * @return The Cold Start Metrics
+	 */
+
+	public static final org.drip.function.solver1D.FixedPointFinderMetrics ColdStartMetrics()
+	{
+		return s_fpfmColdStart;
+	}
+
+	/**
+	 * Retrieve the Metrics accumulated across the Solves kicked off from a Prior Root
 	 * 
-	 * @return Root finder Solution Object for the variate
+	 * @return The Warm Start Metrics
 	 */
 
-	public org.drip.function.solver1D.FixedPointFinderOutput findRoot (
+	public static final org.drip.function.solver1D.FixedPointFinderMetrics WarmStartMetrics()
+	{
+		return s_fpfmWarmStart;
+	}
+
+	private org.drip.function.solver1D.FixedPointFinderOutput priorRootOutput (
+		final double dblPriorRoot)
+	{
+		org.drip.function.solver1D.BracketingOutput bop = new org.drip.function.solver1D.BracketingOutput();
+
+		try {
+			if (!bop.incrOFCalcs()) return null;
+
+			double dblOF = _of.evaluate (dblPriorRoot);
+
+			if (!_ec.hasOFReachedGoal (_ec.calcAbsoluteOFTolerance (dblOF - _dblOFGoal), dblOF, _dblOFGoal)
+				|| !bop.done (dblPriorRoot, dblPriorRoot, dblOF, dblOF, dblPriorRoot))
+				return null;
+
+			org.drip.function.solver1D.FixedPointFinderOutput rfop = new
+				org.drip.function.solver1D.FixedPointFinderOutput (bop);
+
+			return rfop.setRoot (dblPriorRoot) ? rfop : null;
+		} catch (java.lang.Exception e) {
+			if (_bWhine) e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	private org.drip.function.solver1D.FixedPointFinderOutput iterateToRoot (
 		final org.drip.function.solver1D.InitializationHeuristics ih)
 	{
 		org.drip.function.solver1D.FixedPointFinderOutput rfop = null;
 
+		boolean bIsWarmStart = null != ih &&
+			org.drip.function.solver1D.InitializationHeuristics.BRACKETING_WARM_START == ih.getDeterminant();
+
+		if (bIsWarmStart && null != (rfop = priorRootOutput (ih.getPriorRoot()))) return rfop;
+
 		org.drip.function.solver1D.ExecutionInitializationOutput eiop = initializeVariateZone (ih);
 
 		if (null == eiop || !eiop.isDone()) return null;
@@ -104,11 +158,14 @@ public abstract class FixedPointFinder {
 		try {
 			rfop = new org.drip.function.solver1D.FixedPointFinderOutput (eiop);
 
-			if (!rfop.incrOFCalcs()) return rfop;
+			if ((bIsWarmStart && !rfop.incrOFCalcs()) || !rfop.incrOFCalcs()) return rfop;
 
 			double dblOF = _of.evaluate (eiop.getStartingVariate());
 
-			double dblAbsoluteTolerance = _ec.calcAbsoluteOFTolerance (dblOF);
+			double dblOFToleranceBase = eiop.getOFToleranceBase();
+
+			double dblAbsoluteTolerance = _ec.calcAbsoluteOFTolerance
+				(org.drip.quant.common.NumberUtil.IsValid (dblOFToleranceBase) ? dblOFToleranceBase : dblOF);
 
 			double dblAbsoluteConvergence = _ec.calcAbsoluteVariateConvergence (eiop.getStartingVariate());
 
@@ -136,6 +193,25 @@ public abstract class FixedPointFinder {
 		return rfop;
 	}
 
+	/**
+	 * Invoke the solution 1D root finding sequence
+	 * 
+	 * @param ih Optional Initialization Heuristics
+	 * 
+	 * @return Root finder Solution Object for the variate
+	 */
+
+	public org.drip.function.solver1D.FixedPointFinderOutput findRoot (
+		final org.drip.function.solver1D.InitializationHeuristics ih)
+	{
+		org.drip.function.solver1D.FixedPointFinderOutput rfop = iterateToRoot (ih);
+
+		(null != ih && org.drip.function.solver1D.InitializationHeuristics.BRACKETING_WARM_START ==
+			ih.getDeterminant() ? s_fpfmWarmStart : s_fpfmColdStart).record (rfop);
+
+		return rfop;
+	}
+
 	/**
 	 * Invoke the solution 1D root finding sequence
 	 * 
@@ -0,0 +1,191 @@
+
+package org.drip.function.solver1D;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * FixedPointFinderMetrics accumulates the Per-Solve Counts from the FixedPointFinderOutput across many
+ * 	Solves, so that the Cost of the Calibrations (and the Saving from the Warm Starts) can be monitored. It
+ * 	provides the following functionality:
+ * 	- Record the Output of a Solve (null => Failed Initialization)
+ * 	- Retrieve the Number of Solves, Roots, Objective Function Calculations, and Iterations
+ * 	- Retrieve the Average Number of Objective Function Calculations per Solve
+ * 	- Reset the Counts, and Display the Metrics
+ *
+ * The Counts are held in LongAdders, so the Solves running concurrently record without contending on a Lock.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class FixedPointFinderMetrics {
+	private java.util.concurrent.atomic.LongAdder _laNumRoot = new java.util.concurrent.atomic.LongAdder();
+
+	private java.util.concurrent.atomic.LongAdder _laNumSolve = new java.util.concurrent.atomic.LongAdder();
+
+	private java.util.concurrent.atomic.LongAdder _laNumOFCalcs = new java.util.concurrent.atomic.LongAdder();
+
+	private java.util.concurrent.atomic.LongAdder _laNumIterations = new
+		java.util.concurrent.atomic.LongAdder();
+
+	private java.util.concurrent.atomic.LongAdder _laNumOFDerivCalcs = new
+		java.util.concurrent.atomic.LongAdder();
+
+	/**
+	 * Empty FixedPointFinderMetrics constructor
+	 */
+
+	public FixedPointFinderMetrics()
+	{
+	}
+
+	/**
+	 * Record the Output of a Solve
+	 * 
+	 * @param fpfo The Fixed Point Finder Output (null => The Initialization Failed)
+	 * 
+	 * @return TRUE => The Output successfully recorded
+	 */
+
+	public boolean record (
+		final org.drip.function.solver1D.FixedPointFinderOutput fpfo)
+	{
+		_laNumSolve.increment();
+
+		if (null == fpfo) return true;
+
+		org.drip.function.solver1D.ExecutionInitializationOutput eiop = fpfo.getEIOP();
+
+		if (fpfo.containsRoot()) _laNumRoot.increment();
+
+		_laNumOFCalcs.add (fpfo.getNumTotalOFCalcs());
+
+		_laNumIterations.add (fpfo.getNumIterations() + eiop.getNumIterations());
+
+		_laNumOFDerivCalcs.add (fpfo.getNumOFDerivCalcs() + eiop.getNumOFDerivCalcs());
+
+		return true;
+	}
+
+	/**
+	 * Reset the Counts. Solves recorded concurrently with the Reset may be partially retained.
+	 */
+
+	public void reset()
+	{
+		_laNumRoot.reset();
+
+		_laNumSolve.reset();
+
+		_laNumOFCalcs.reset();
+
+		_laNumIterations.reset();
+
+		_laNumOFDerivCalcs.reset();
+	}
+
+	/**
+	 * Retrieve the Number of Solves
+	 * 
+	 * @return The Number of Solves
+	 */
+
+	public long numSolve()
+	{
+		return _laNumSolve.sum();
+	}
+
+	/**
+	 * Retrieve the Number of Solves that found the Root
+	 * 
+	 * @return The Number of Solves that found the Root
+	 */
+
+	public long numRoot()
+	{
+		return _laNumRoot.sum();
+	}
+
+	/**
+	 * Retrieve the Number of Objective Function Calculations, including those of the Initialization
+	 * 
+	 * @return The Number of Objective Function Calculations
+	 */
+
+	public long numOFCalcs()
+	{
+		return _laNumOFCalcs.sum();
+	}
+
+	/**
+	 * Retrieve the Number of Objective Function Derivative Calculations
+	 * 
+	 * @return The Number of Objective Function Derivative Calculations
+	 */
+
+	public long numOFDerivCalcs()
+	{
+		return _laNumOFDerivCalcs.sum();
+	}
+
+	/**
+	 * Retrieve the Number of Iterations, including those of the Initialization
+	 * 
+	 * @return The Number of Iterations
+	 */
+
+	public long numIterations()
+	{
+		return _laNumIterations.sum();
+	}
+
+	/**
+	 * Retrieve the Average Number of Objective Function Calculations per Solve
+	 * 
+	 * @return The Average Number of Objective Function Calculations per Solve
+	 */
+
+	public double averageOFCalcs()
+	{
+		long lNumSolve = numSolve();
+
+		return 0L == lNumSolve ? 0. : ((double) numOFCalcs()) / lNumSolve;
+	}
+
+	/**
+	 * Return a String Form of the Metrics
+	 * 
+	 * @return String Form of the Metrics
+	 */
+
+	public java.lang.String displayString()
+	{
+		return "Solves: " + numSolve() + " | Roots: " + numRoot() + " | OF Calcs: " + numOFCalcs() +
+			" | OF Deriv Calcs: " + numOFDerivCalcs() + " | Iterations: " + numIterations() +
+				" | OF Calcs/Solve: " + averageOFCalcs();
+	}
+}
@@ -168,6 +168,18 @@ public class FixedPointFinderOutput {
 		return _iNumOFCalcs;
 	}
 
+	/**
+	 * Retrieve the total number of objective function calculations, i.e., including those needed by the
+	 * 	initialization
+	 * 
+	 * @return Total number of objective function calculations
+	 */
+
+	public int getNumTotalOFCalcs()
+	{
+		return _iNumOFCalcs + _eiop.getNumOFCalcs();
+	}
+
 	/**
 	 * Increment the number of Objective Function Derivative evaluations
 	 * 
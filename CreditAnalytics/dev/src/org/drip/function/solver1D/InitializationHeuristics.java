@@ -46,6 +46,9 @@ package org.drip.function.solver1D;
  * 		the bracketing.
  * 	- Hard Search Boundaries: A pair of hard left and right boundaries are specified to kick-off the final
  * 		fixed point search.
+ * 	- Warm Start: A prior root (e.g., yesterday's yield, or the previous node's hazard rate) is used to
+ * 		step into a tight bracket using the optional derivative callback (or the secant), within the
+ * 		optional hard floor/ceiling.
  * 
  * These heuristics are further interpreted and developed inside the ExecutionInitializer and the
  * 	ExecutionControl implementations.
@@ -91,6 +94,24 @@ public class InitializationHeuristics {
 
 	public static final int BRACKETING_CUSTOM_BCP = 16;
 
+	/**
+	 * Start bracket initialization by stepping out of a Prior Root
+	 */
+
+	public static final int BRACKETING_WARM_START = 32;
+
+	/**
+	 * Default Warm Start Step, relative to the Prior Root
+	 */
+
+	public static final double WARM_START_RELATIVE_STEP = 1.e-03;
+
+	/**
+	 * Default Warm Start Step Floor
+	 */
+
+	public static final double WARM_START_ABSOLUTE_STEP = 1.e-06;
+
 	private int _iDeterminant = BRACKETING_GENERIC_BCP;
 	private double _dblBracketFloor = java.lang.Double.NaN;
 	private double _dblBracketCeiling = java.lang.Double.NaN;
@@ -99,6 +120,8 @@ public class InitializationHeuristics {
 	private double _dblStartingBracketMid = java.lang.Double.NaN;
 	private double _dblStartingBracketLeft = java.lang.Double.NaN;
 	private double _dblStartingBracketRight = java.lang.Double.NaN;
+	private double _dblWarmStartStep = java.lang.Double.NaN;
+	private org.drip.function.deterministic.R1ToR1 _ofDerivative = null;
 	private org.drip.function.solver1D.BracketingControlParams _bcpCustom = null;
 
 	/**
@@ -217,6 +240,85 @@ public class InitializationHeuristics {
 		return null;
 	}
 
+	/**
+	 * Construct an Initialization Heuristics Instance from the Prior Root
+	 * 
+	 * @param dblPriorRoot The Prior Root
+	 * 
+	 * @return InitializationHeuristics instance
+	 */
+
+	public static final InitializationHeuristics FromWarmStart (
+		final double dblPriorRoot)
+	{
+		return FromWarmStart (dblPriorRoot, java.lang.Double.NaN, java.lang.Double.NaN, null);
+	}
+
+	/**
+	 * Construct an Initialization Heuristics Instance from the Prior Root, the optional hard Floor/Ceiling,
+	 * 	and the optional Derivative Callback
+	 * 
+	 * @param dblPriorRoot The Prior Root
+	 * @param dblBracketFloor Optional Hard Left Bracketing Floor (NaN => None)
+	 * @param dblBracketCeiling Optional Hard Right Bracketing Ceiling (NaN => None)
+	 * @param ofDerivative Optional First Derivative of the Objective Function (null => Secant)
+	 * 
+	 * @return InitializationHeuristics instance
+	 */
+
+	public static final InitializationHeuristics FromWarmStart (
+		final double dblPriorRoot,
+		final double dblBracketFloor,
+		final double dblBracketCeiling,
+		final org.drip.function.deterministic.R1ToR1 ofDerivative)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblPriorRoot)) return null;
+
+		try {
+			return new InitializationHeuristics (dblPriorRoot, java.lang.Math.max (WARM_START_ABSOLUTE_STEP,
+				WARM_START_RELATIVE_STEP * java.lang.Math.abs (dblPriorRoot)), dblBracketFloor,
+					dblBracketCeiling, ofDerivative);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Construct a Warm Start Initialization Heuristics Instance
+	 * 
+	 * @param dblPriorRoot The Prior Root
+	 * @param dblWarmStartStep The Warm Start Step used when the Derivative Callback is absent
+	 * @param dblBracketFloor Optional Hard Left Bracketing Floor (NaN => None)
+	 * @param dblBracketCeiling Optional Hard Right Bracketing Ceiling (NaN => None)
+	 * @param ofDerivative Optional First Derivative of the Objective Function (null => Secant)
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public InitializationHeuristics (
+		final double dblPriorRoot,
+		final double dblWarmStartStep,
+		final double dblBracketFloor,
+		final double dblBracketCeiling,
+		final org.drip.function.deterministic.R1ToR1 ofDerivative)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (_dblStartingBracketMid = dblPriorRoot) ||
+			!org.drip.quant.common.NumberUtil.IsValid (_dblWarmStartStep = dblWarmStartStep) || 0. >=
+				_dblWarmStartStep || (org.drip.quant.common.NumberUtil.IsValid (dblBracketFloor) &&
+					dblBracketFloor > dblPriorRoot) || (org.drip.quant.common.NumberUtil.IsValid
+						(dblBracketCeiling) && dblBracketCeiling < dblPriorRoot))
+			throw new java.lang.Exception
+				("InitializationHeuristics constructor: Invalid BRACKETING_WARM_START params!");
+
+		_ofDerivative = ofDerivative;
+		_dblBracketFloor = dblBracketFloor;
+		_dblBracketCeiling = dblBracketCeiling;
+		_iDeterminant = BRACKETING_WARM_START;
+	}
+
 	/**
 	 * Construct an Initialization Heuristics Instance from the set of Heuristics Parameters
 	 * 
@@ -372,4 +474,37 @@ public class InitializationHeuristics {
 	{
 		return _bcpCustom;
 	}
+
+	/**
+	 * Retrieve the Prior Root used for the Warm Start
+	 * 
+	 * @return The Prior Root
+	 */
+
+	public double getPriorRoot()
+	{
+		return BRACKETING_WARM_START == _iDeterminant ? _dblStartingBracketMid : java.lang.Double.NaN;
+	}
+
+	/**
+	 * Retrieve the Warm Start Step
+	 * 
+	 * @return The Warm Start Step
+	 */
+
+	public double getWarmStartStep()
+	{
+		return _dblWarmStartStep;
+	}
+
+	/**
+	 * Retrieve the Derivative Callback
+	 * 
+	 * @return The Derivative Callback
+	 */
+
+	public org.drip.function.deterministic.R1ToR1 getDerivative()
+	{
+		return _ofDerivative;
+	}
 }
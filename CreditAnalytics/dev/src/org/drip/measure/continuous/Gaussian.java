@@ -38,6 +38,30 @@ package org.drip.measure.continuous;
  */
 
 public class Gaussian {
+    private static final double LOW_TAIL = 0.02425;
+    private static final double HIGH_TAIL = 1. - LOW_TAIL;
+
+    private static final double[] A = new double[] {-3.969683028665376e+01, 2.209460984245205e+02,
+    	-2.759285104469687e+02, 1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+
+    private static final double[] B = new double[] {-5.447609879822406e+01, 1.615858368580409e+02,
+    	-1.556989798598866e+02, 6.680131188771972e+01, -1.328068155288572e+01};
+
+    private static final double[] C = new double[] {-7.784894002430293e-03, -3.223964580411365e-01,
+    	-2.400758277161838e+00, -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+
+    private static final double[] D = new double[] {7.784695709041462e-03, 3.224671290700398e-01,
+    	2.445134137142996e+00, 3.754408661907416e+00};
+
+    private static final double TailInverseCDF (
+    	final double dblP)
+    {
+        double dblQ = java.lang.Math.sqrt (-2. * java.lang.Math.log (dblP));
+
+        return (((((C[0] * dblQ + C[1]) * dblQ + C[2]) * dblQ + C[3]) * dblQ + C[4]) * dblQ + C[5]) /
+        	((((D[0] * dblQ + D[1]) * dblQ + D[2]) * dblQ + D[3]) * dblQ + 1.);
+    }
+
     private static final double InverseCDF (
     	final double dblY,
     	final double dblTolerance,
@@ -104,6 +128,62 @@ public class Gaussian {
         return 0.5 + dblSum * Density (dblX);
     }
 
+    /**
+     * Compute the Mills Ratio, i.e., the Ratio of the Upper Tail Probability to the Density, at the
+     * 	specified non-negative Variate. The Ratio is accurate to Machine Precision across the whole Range, so
+     * 	the Upper Tail Probability may be recovered well beyond the Cut-offs of the CDF.
+     * 
+     * @param dblX The Variate
+     * 
+     * @return The Mills Ratio
+     * 
+     * @throws java.lang.Exception thrown if the Inputs are Invalid
+     */
+
+    public static final double MillsRatio (
+    	final double dblX)
+    	throws java.lang.Exception
+    {
+    	if (java.lang.Double.isNaN (dblX) || 0. > dblX)
+    		throw new java.lang.Exception ("Gaussian::MillsRatio => Invalid Inputs");
+
+    	if (java.lang.Double.isInfinite (dblX)) return 0.;
+
+        if (dblX <= 2.) {
+            double dblSum = 0.;
+            double dblTerm = dblX;
+
+            for (int i = 3; dblSum + dblTerm != dblSum; i += 2) {
+                dblSum = dblSum + dblTerm;
+                dblTerm = dblTerm * dblX * dblX / i;
+            }
+
+            return java.lang.Math.sqrt (0.5 * java.lang.Math.PI) * java.lang.Math.exp (0.5 * dblX * dblX) -
+            	dblSum;
+        }
+
+        double dblXSquared = dblX * dblX;
+        double dblFraction = dblXSquared + 1.;
+        double dblC = dblFraction;
+        double dblD = 0.;
+
+        for (int i = 1; i < 1000; ++i) {
+            double dblA = -1. * (2. * i - 1.) * (2. * i);
+            double dblB = dblXSquared + 4. * i + 1.;
+
+            dblD = 1. / (dblB + dblA * dblD);
+            dblC = dblB + dblA / dblC;
+
+            double dblDelta = dblC * dblD;
+
+            dblFraction *= dblDelta;
+
+            if (java.lang.Math.abs (dblDelta - 1.) < 1.e-16) break;
+        }
+
+        return dblX / dblFraction;
+    }
+
     /**
      * Compute the Inverse CDF of the Distribution up to the specified Y
      * 
@@ -122,5 +202,35 @@ public class Gaussian {
     		throw new java.lang.Exception ("Gaussian::InverseCDF => Invalid Inputs");
 
         return InverseCDF (dblY, .00000001, -8., 8.);
-    } 
+    }
+
+    /**
+     * Compute the Inverse CDF of the Distribution up to the specified Probability using the Rational
+     * 	Approximation of Acklam (2003). The Relative Error is below 1.15e-09 across (0, 1), and no Iteration
+     * 	is needed, so this is the Variant to use in the Hot Loops (Quasi-random Normals, Initial Guesses).
+     * 
+     * @param dblP The Probability
+     * 
+     * @return The Inverse CDF of the Distribution up to the specified Probability
+     * 
+     * @throws java.lang.Exception Thrown if the Probability is not inside (0, 1)
+     */
+
+    public static final double RationalInverseCDF (
+    	final double dblP)
+    	throws java.lang.Exception
+    {
+    	if (!org.drip.quant.common.NumberUtil.IsValid (dblP) || 0. >= dblP || 1. <= dblP)
+    		throw new java.lang.Exception ("Gaussian::RationalInverseCDF => Invalid Inputs");
+
+        if (dblP < LOW_TAIL) return TailInverseCDF (dblP);
+
+        if (dblP > HIGH_TAIL) return -TailInverseCDF (1. - dblP);
+
+        double dblQ = dblP - 0.5;
+        double dblR = dblQ * dblQ;
+
+        return (((((A[0] * dblR + A[1]) * dblR + A[2]) * dblR + A[3]) * dblR + A[4]) * dblR + A[5]) * dblQ /
+        	(((((B[0] * dblR + B[1]) * dblR + B[2]) * dblR + B[3]) * dblR + B[4]) * dblR + 1.);
+    }
 }
@@ -95,4 +95,85 @@ public class CreditScenarioCurveBuilder {
 
 		return ccsc.base();
 	}
+
+	/**
+	 * Cook the Scenario Credit Curves of several Credit Names, running the Names on the specified
+	 * 	ScenarioCurveCooker. Each Name is cooked (and published into its Container) independently of the
+	 * 	others.
+	 * 
+	 * @param scc The Scenario Curve Cooker
+	 * @param accsc Array of the Scenario Credit Curve Containers, one per Name
+	 * @param astrName Array of the Credit Curve Names
+	 * @param valParams ValuationParams
+	 * @param dc Base Discount Curve
+	 * @param dcTSY Treasury Discount Curve
+	 * @param aastrCalibMeasure Array of the Calibration Measures of each Name
+	 * @param aadblQuote Array of the Quotes of each Name
+	 * @param adblRecovery Array of the Recovery of each Name
+	 * @param lsfc Latent State Fixings Container
+	 * @param vcp Valuation Customization Parameters
+	 * @param bFlat Whether the calibration is to a flat curve
+	 * @param iScenario One of the values in the CC_ enum listed in ScenarioCreditCurve
+	 * 
+	 * @return Array of the Cook Success Flags in Name Order (null => Invalid Inputs)
+	 */
+
+	public static final boolean[] CookScenarioCC (
+		final org.drip.param.market.ScenarioCurveCooker scc,
+		final org.drip.param.definition.ScenarioCreditCurve[] accsc,
+		final java.lang.String[] astrName,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final java.lang.String[][] aastrCalibMeasure,
+		final double[][] aadblQuote,
+		final double[] adblRecovery,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final boolean bFlat,
+		final int iScenario)
+	{
+		if (null == scc || null == accsc || null == astrName || null == aastrCalibMeasure || null ==
+			aadblQuote || null == adblRecovery)
+			return null;
+
+		int iNumName = accsc.length;
+
+		if (iNumName != astrName.length || iNumName != aastrCalibMeasure.length || iNumName !=
+			aadblQuote.length || iNumName != adblRecovery.length)
+			return null;
+
+		java.util.List<java.util.concurrent.Callable<java.lang.Boolean>> lsCook = new
+			java.util.ArrayList<java.util.concurrent.Callable<java.lang.Boolean>>();
+
+		for (int i = 0; i < iNumName; ++i) {
+			final int iName = i;
+
+			lsCook.add (new java.util.concurrent.Callable<java.lang.Boolean>() {
+				@Override public java.lang.Boolean call()
+				{
+					try {
+						return null != accsc[iName] && accsc[iName].cookScenarioCC (astrName[iName], valParams,
+							dc, dcTSY, aastrCalibMeasure[iName], aadblQuote[iName], adblRecovery[iName], lsfc,
+								vcp, bFlat, iScenario);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+					}
+
+					return false;
+				}
+			});
+		}
+
+		java.util.List<java.lang.Boolean> lsCooked = scc.cook (lsCook);
+
+		if (null == lsCooked) return null;
+
+		boolean[] abCooked = new boolean[iNumName];
+
+		for (int i = 0; i < iNumName; ++i)
+			abCooked[i] = lsCooked.get (i);
+
+		return abCooked;
+	}
 }
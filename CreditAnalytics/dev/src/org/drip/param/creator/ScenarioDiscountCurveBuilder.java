@@ -151,6 +151,29 @@ public class ScenarioDiscountCurveBuilder {
 		final java.lang.String strCurrency,
 		final java.lang.String strBootstrapMode,
 		final org.drip.product.definition.CalibratableFixedIncomeComponent[] aCalibInst)
+	{
+		return FromIRCSG (strCurrency, strBootstrapMode, aCalibInst, java.lang.Double.NaN);
+	}
+
+	/**
+	 * Create an ScenarioDiscountCurveBuilder Instance from the currency and the array of the calibration
+	 * 	instruments, with the Tenor Bumped Curves linearized off of the Base Curve for Bumps up to the
+	 * 	specified Tolerance
+	 * 
+	 * @param strCurrency Currency
+	 * @param strBootstrapMode Bootstrap Mode - one of the choices in DiscountCurveBuilder.BOOTSTRAP_MODE_xxx
+	 * @param aCalibInst Array of the calibration instruments
+	 * @param dblLinearizedBumpTolerance The Largest (Absolute) Bump for which the Tenor Bumped Curves are
+	 * 	linearized (NaN => Always re-calibrate)
+	 * 
+	 * @return The RatesScenarioCurve instance
+	 */
+
+	public static final org.drip.param.definition.ScenarioDiscountCurve FromIRCSG (
+		final java.lang.String strCurrency,
+		final java.lang.String strBootstrapMode,
+		final org.drip.product.definition.CalibratableFixedIncomeComponent[] aCalibInst,
+		final double dblLinearizedBumpTolerance)
 	{
 		if (null == strCurrency || strCurrency.isEmpty() || null == aCalibInst || 0 == aCalibInst.length)
 			return null;
@@ -158,7 +181,7 @@ public class ScenarioDiscountCurveBuilder {
 		try {
 			return new org.drip.param.market.RatesCurveScenarioContainer (new
 				org.drip.state.estimator.RatesCurveScenarioGenerator (strCurrency, strBootstrapMode,
-					aCalibInst));
+					aCalibInst, dblLinearizedBumpTolerance));
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
@@ -200,6 +223,79 @@ public class ScenarioDiscountCurveBuilder {
 		return irsg.base();
 	}
 
+	/**
+	 * Cook the Scenario Discount Curves of several Currencies/Curves, running the Curves on the specified
+	 * 	ScenarioCurveCooker. Each Curve is cooked (and published into its Container) independently of the
+	 * 	others.
+	 * 
+	 * @param scc The Scenario Curve Cooker
+	 * @param asdc Array of the Scenario Discount Curve Containers
+	 * @param valParams Valuation Parameters
+	 * @param adcTSY Array of the Treasury Discount Curve of each Curve (may be null)
+	 * @param aastrCalibMeasure Array of the Calibration Measures of each Curve
+	 * @param aadblQuote Array of the Calibration Quotes of each Curve
+	 * @param dblBump Amount of Bump to be applied
+	 * @param lsfc Latent State Fixings Container
+	 * @param vcp Valuation Customization Parameters
+	 * @param iDCMode One of the values in the DC_ enum listed in ScenarioDiscountCurve
+	 * 
+	 * @return Array of the Cook Success Flags in Curve Order (null => Invalid Inputs)
+	 */
+
+	public static final boolean[] CookScenarioDC (
+		final org.drip.param.market.ScenarioCurveCooker scc,
+		final org.drip.param.definition.ScenarioDiscountCurve[] asdc,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve[] adcTSY,
+		final java.lang.String[][] aastrCalibMeasure,
+		final double[][] aadblQuote,
+		final double dblBump,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final int iDCMode)
+	{
+		if (null == scc || null == asdc || null == aastrCalibMeasure || null == aadblQuote) return null;
+
+		int iNumCurve = asdc.length;
+
+		if (iNumCurve != aastrCalibMeasure.length || iNumCurve != aadblQuote.length || (null != adcTSY &&
+			iNumCurve != adcTSY.length))
+			return null;
+
+		java.util.List<java.util.concurrent.Callable<java.lang.Boolean>> lsCook = new
+			java.util.ArrayList<java.util.concurrent.Callable<java.lang.Boolean>>();
+
+		for (int i = 0; i < iNumCurve; ++i) {
+			final int iCurve = i;
+
+			lsCook.add (new java.util.concurrent.Callable<java.lang.Boolean>() {
+				@Override public java.lang.Boolean call()
+				{
+					try {
+						return null != asdc[iCurve] && asdc[iCurve].cookScenarioDC (valParams, null == adcTSY
+							? null : adcTSY[iCurve], aastrCalibMeasure[iCurve], aadblQuote[iCurve], dblBump,
+								lsfc, vcp, iDCMode);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+					}
+
+					return false;
+				}
+			});
+		}
+
+		java.util.List<java.lang.Boolean> lsCooked = scc.cook (lsCook);
+
+		if (null == lsCooked) return null;
+
+		boolean[] abCooked = new boolean[iNumCurve];
+
+		for (int i = 0; i < iNumCurve; ++i)
+			abCooked[i] = lsCooked.get (i);
+
+		return abCooked;
+	}
+
 	/**
 	 * Build the Shape Preserving Discount Curve using the Custom Parameters
 	 * 
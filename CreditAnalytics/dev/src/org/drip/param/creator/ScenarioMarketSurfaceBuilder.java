@@ -549,7 +549,6 @@ public class ScenarioMarketSurfaceBuilder {
 					null == astrTenor || null == fphp)
 			return null;
 
-		int iStrike = 0;
 		int iNumTenor = astrTenor.length;
 		int iNumStrike = adblStrike.length;
 		double[][] aadblImpliedNode = new double[iNumStrike][iNumTenor];
@@ -565,30 +564,41 @@ public class ScenarioMarketSurfaceBuilder {
 
 		if (0 == iNumTenor || 0 == iNumStrike) return null;
 
-		for (double dblStrike : adblStrike) {
-			int iTenor = 0;
+		/*
+		 * The Strike Ladder of each Tenor is priced in a single Carr-Madan Pass; the per-Strike Quadrature is
+		 * 	used only when the Ladder is unavailable (e.g., Strikes off of the FFT Log Strike Grid).
+		 */
 
-			for (java.lang.String strTenor : astrTenor) {
-				try {
-					double dblTimeToExpiry = org.drip.analytics.support.AnalyticsHelper.TenorToYearFraction
-						(strTenor);
+		for (int iTenor = 0; iTenor < iNumTenor; ++iTenor) {
+			try {
+				double dblTimeToExpiry = org.drip.analytics.support.AnalyticsHelper.TenorToYearFraction
+					(astrTenor[iTenor]);
+
+				double[] adblCallPrice = hsva.callPriceLadder (adblStrike, dblTimeToExpiry, dblRiskFreeRate,
+					dblUnderlier, bIsForward, dblInitialVolatility);
 
-					if (!hsva.compute (dblStrike, dblTimeToExpiry, dblRiskFreeRate, dblUnderlier, bIsForward,
-						dblInitialVolatility, false))
-						return null;
+				for (int iStrike = 0; iStrike < iNumStrike; ++iStrike) {
+					double dblCallPrice = java.lang.Double.NaN;
 
-					aadblImpliedNode[iStrike][iTenor++] = bPriceSurface ? hsva.callPrice() : new
-						org.drip.pricer.option.BlackScholesAlgorithm().implyBlackScholesVolatility
-							(dblStrike, dblTimeToExpiry, dblRiskFreeRate, dblUnderlier, false,
-								hsva.callPrice());
-				} catch (java.lang.Exception e) {
-					e.printStackTrace();
+					if (null != adblCallPrice)
+						dblCallPrice = adblCallPrice[iStrike];
+					else {
+						if (!hsva.compute (adblStrike[iStrike], dblTimeToExpiry, dblRiskFreeRate,
+							dblUnderlier, bIsForward, dblInitialVolatility, false))
+							return null;
 
-					return null;
+						dblCallPrice = hsva.callPrice();
+					}
+
+					aadblImpliedNode[iStrike][iTenor] = bPriceSurface ? dblCallPrice :
+						org.drip.pricer.option.BlackScholesImpliedVolatility.Imply (adblStrike[iStrike],
+							dblTimeToExpiry, dblRiskFreeRate, dblUnderlier, false, false, dblCallPrice);
 				}
-			}
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
 
-			++iStrike;
+				return null;
+			}
 		}
 
 		return CustomWireSurface (strName, dtStart, strCurrency, collatParams, adblStrike, astrTenor,
@@ -45,18 +45,20 @@ package org.drip.param.market;
 public class CreditCurveScenarioContainer extends org.drip.param.definition.ScenarioCreditCurve {
 	private double _dblCouponBump = java.lang.Double.NaN;
 	private double _dblRecoveryBump = java.lang.Double.NaN;
-	private org.drip.analytics.definition.CreditCurve _ccBase = null;
-	private org.drip.analytics.definition.CreditCurve _ccBumpUp = null;
-	private org.drip.analytics.definition.CreditCurve _ccBumpDn = null;
-	private org.drip.analytics.definition.CreditCurve _ccRecoveryUp = null;
-	private org.drip.analytics.definition.CreditCurve _ccRecoveryDn = null;
+	private volatile org.drip.analytics.definition.CreditCurve _ccBase = null;
+	private volatile org.drip.analytics.definition.CreditCurve _ccBumpUp = null;
+	private volatile org.drip.analytics.definition.CreditCurve _ccBumpDn = null;
+	private volatile org.drip.analytics.definition.CreditCurve _ccRecoveryUp = null;
+	private volatile org.drip.analytics.definition.CreditCurve _ccRecoveryDn = null;
 	private org.drip.state.estimator.CreditCurveScenarioGenerator _ccsg = null;
 	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>
 		_mapCustomCC = null;
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>
-		_mapTenorCCBumpUp = null;
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>
-		_mapTenorCCBumpDn = null;
+	private volatile
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>
+			_mapTenorCCBumpUp = null;
+	private volatile
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>
+			_mapTenorCCBumpDn = null;
 
 	/**
 	 * Construct CreditCurveScenarioContainer from the array of calibration instruments, the coupon bump
@@ -74,14 +76,115 @@ public class CreditCurveScenarioContainer extends org.drip.param.definition.Scen
 		final double dblCouponBump,
 		final double dblRecoveryBump)
 		throws java.lang.Exception
+	{
+		this (aCalibInst, dblCouponBump, dblRecoveryBump, java.lang.Double.NaN);
+	}
+
+	/**
+	 * Construct CreditCurveScenarioContainer from the array of calibration instruments, the coupon bump
+	 * 	parameter, the recovery bump parameter, and the linearized tenor bump tolerance
+	 * 
+	 * @param aCalibInst Array of calibration instruments
+	 * @param dblCouponBump Coupon Bump
+	 * @param dblRecoveryBump Recovery Bump
+	 * @param dblLinearizedBumpTolerance The Largest (Absolute) Bump for which the Tenor Bumped Curves are
+	 * 	linearized (NaN => Always re-calibrate)
+	 * 
+	 * @throws java.lang.Exception Thrown if inputs are invalid
+	 */
+
+	public CreditCurveScenarioContainer (
+		final org.drip.product.definition.CalibratableFixedIncomeComponent[] aCalibInst,
+		final double dblCouponBump,
+		final double dblRecoveryBump,
+		final double dblLinearizedBumpTolerance)
+		throws java.lang.Exception
 	{
 		if (null == aCalibInst || 0 == aCalibInst.length || !org.drip.quant.common.NumberUtil.IsValid
 			(_dblCouponBump = dblCouponBump) || !org.drip.quant.common.NumberUtil.IsValid (_dblRecoveryBump =
 				dblRecoveryBump) || null == (_ccsg = new
-					org.drip.state.estimator.CreditCurveScenarioGenerator (aCalibInst)))
+					org.drip.state.estimator.CreditCurveScenarioGenerator (aCalibInst,
+						dblLinearizedBumpTolerance)))
 			throw new java.lang.Exception ("CreditCurveScenarioContainer ctr => Invalid Inputs!");
 	}
 
+	private java.util.concurrent.Callable<org.drip.analytics.definition.CreditCurve[]> flatCalibration (
+		final java.lang.String strName,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final java.lang.String[] astrCalibMeasure,
+		final double[] adblQuote,
+		final double dblRecovery,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final boolean bFlat)
+	{
+		return new java.util.concurrent.Callable<org.drip.analytics.definition.CreditCurve[]>() {
+			@Override public org.drip.analytics.definition.CreditCurve[] call()
+			{
+				org.drip.analytics.definition.CreditCurve cc = _ccsg.createCC (strName, valParams, dc, dcTSY,
+					adblQuote, dblRecovery, astrCalibMeasure, lsfc, vcp, bFlat);
+
+				return null == cc ? null : new org.drip.analytics.definition.CreditCurve[] {cc};
+			}
+		};
+	}
+
+	private void addTenorCalibrations (
+		final java.util.List<java.util.concurrent.Callable<org.drip.analytics.definition.CreditCurve[]>>
+			lsCalibration,
+		final java.lang.String strName,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final java.lang.String[] astrCalibMeasure,
+		final double[] adblQuote,
+		final double dblBump,
+		final double dblRecovery,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final boolean bFlat)
+	{
+		if (_ccsg.linearizedTenorBump (dblBump, astrCalibMeasure, bFlat)) {
+			lsCalibration.add (new java.util.concurrent.Callable<org.drip.analytics.definition.CreditCurve[]>()
+			{
+				@Override public org.drip.analytics.definition.CreditCurve[] call()
+				{
+					return _ccsg.createTenorCC (strName, valParams, dc, dcTSY, adblQuote, dblBump, dblRecovery,
+						astrCalibMeasure, lsfc, vcp, bFlat);
+				}
+			});
+
+			return;
+		}
+
+		for (int i = 0; i < adblQuote.length; ++i) {
+			double[] adblTenorQuote = new double[adblQuote.length];
+
+			for (int j = 0; j < adblQuote.length; ++j)
+				adblTenorQuote[j] = j == i ? adblQuote[j] + dblBump : adblQuote[j];
+
+			lsCalibration.add (flatCalibration (strName, valParams, dc, dcTSY, astrCalibMeasure,
+				adblTenorQuote, dblRecovery, lsfc, vcp, bFlat));
+		}
+	}
+
+	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>
+		tenorMap (
+			final java.util.Iterator<org.drip.analytics.definition.CreditCurve> iterCC)
+	{
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>
+			mapTenorCC = new
+				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>();
+
+		for (org.drip.product.definition.FixedIncomeComponent comp : _ccsg.getInstruments())
+			mapTenorCC.put (org.drip.analytics.date.DateUtil.FromJulian (comp.maturityDate().julian()),
+				iterCC.next());
+
+		return mapTenorCC;
+	}
+
 	@Override public boolean cookScenarioCC (
 		final java.lang.String strName,
 		final org.drip.param.valuation.ValuationParams valParams,
@@ -94,53 +197,118 @@ public class CreditCurveScenarioContainer extends org.drip.param.definition.Scen
 		final org.drip.param.valuation.ValuationCustomizationParams vcp,
 		final boolean bFlat,
 		final int iScenario)
+	{
+		return cookScenarioCC (strName, valParams, dc, dcTSY, astrCalibMeasure, adblQuote, dblRecovery, lsfc,
+			vcp, bFlat, iScenario, null);
+	}
+
+	/**
+	 * Cook the Scenario Curves, running the independent Calibrations of the Base, the Flat/Recovery Bumped,
+	 * 	and the Tenor Bumped Curves on the specified ScenarioCurveCooker. The Curves are published into the
+	 * 	Container only once all of them have been successfully calibrated, and are visible to the other
+	 * 	Threads once the Last of them is.
+	 * 
+	 * @param strName Credit Curve Name
+	 * @param valParams ValuationParams
+	 * @param dc Base Discount Curve
+	 * @param dcTSY Treasury Discount Curve
+	 * @param astrCalibMeasure Matched array of Calibration measures
+	 * @param adblQuote Matched array of Quotes
+	 * @param dblRecovery Curve Recovery
+	 * @param lsfc Latent State Fixings Container
+	 * @param vcp Valuation Customization Parameters
+	 * @param bFlat Whether the calibration is to a flat curve
+	 * @param iScenario One of the values in the CC_ enum listed in ScenarioCreditCurve
+	 * @param scc The Scenario Curve Cooker (null => Calibrate in-line)
+	 * 
+	 * @return Success (true), failure (false)
+	 */
+
+	public boolean cookScenarioCC (
+		final java.lang.String strName,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final java.lang.String[] astrCalibMeasure,
+		final double[] adblQuote,
+		final double dblRecovery,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final boolean bFlat,
+		final int iScenario,
+		final org.drip.param.market.ScenarioCurveCooker scc)
 	{
 		if (null == _ccsg || null == dc || null == adblQuote || 0 == adblQuote.length ||
 			!org.drip.quant.common.NumberUtil.IsValid (dblRecovery) || null == astrCalibMeasure || 0 ==
 				astrCalibMeasure.length || astrCalibMeasure.length != adblQuote.length)
 			return false;
 
-		if (null == (_ccBase = _ccsg.createCC (strName, valParams, dc, dcTSY, adblQuote, dblRecovery,
-			astrCalibMeasure, lsfc, vcp, bFlat)))
-			return false;
+		boolean bFlatUp = 0 != (org.drip.param.definition.ScenarioCreditCurve.CC_FLAT_UP & iScenario);
+		boolean bFlatDn = 0 != (org.drip.param.definition.ScenarioCreditCurve.CC_FLAT_DN & iScenario);
+		boolean bTenorUp = 0 != (org.drip.param.definition.ScenarioCreditCurve.CC_TENOR_UP & iScenario);
+		boolean bTenorDn = 0 != (org.drip.param.definition.ScenarioCreditCurve.CC_TENOR_DN & iScenario);
+		boolean bRecoveryUp = 0 != (org.drip.param.definition.ScenarioCreditCurve.CC_RR_FLAT_UP & iScenario);
+		boolean bRecoveryDn = 0 != (org.drip.param.definition.ScenarioCreditCurve.CC_RR_FLAT_DN & iScenario);
+
+		java.util.List<java.util.concurrent.Callable<org.drip.analytics.definition.CreditCurve[]>>
+			lsCalibration = new
+				java.util.ArrayList<java.util.concurrent.Callable<org.drip.analytics.definition.CreditCurve[]>>();
+
+		lsCalibration.add (flatCalibration (strName, valParams, dc, dcTSY, astrCalibMeasure, adblQuote,
+			dblRecovery, lsfc, vcp, bFlat));
 
-		if (0 != (org.drip.param.definition.ScenarioCreditCurve.CC_FLAT_UP & iScenario)) {
-			if (null == (_ccBumpUp = _ccsg.createCC (strName, valParams, dc, dcTSY,
+		if (bFlatUp)
+			lsCalibration.add (flatCalibration (strName, valParams, dc, dcTSY, astrCalibMeasure,
 				org.drip.analytics.support.AnalyticsHelper.BumpQuotes (adblQuote, _dblCouponBump, false),
-					dblRecovery, astrCalibMeasure, lsfc, vcp, bFlat)))
-				return false;
-		}
+					dblRecovery, lsfc, vcp, bFlat));
 
-		if (0 != (org.drip.param.definition.ScenarioCreditCurve.CC_FLAT_DN & iScenario)) {
-			if (null == (_ccBumpDn = _ccsg.createCC (strName, valParams, dc, dcTSY,
+		if (bFlatDn)
+			lsCalibration.add (flatCalibration (strName, valParams, dc, dcTSY, astrCalibMeasure,
 				org.drip.analytics.support.AnalyticsHelper.BumpQuotes (adblQuote, -_dblCouponBump, false),
-					dblRecovery, astrCalibMeasure, lsfc, vcp, bFlat)))
-				return false;
-		}
+					dblRecovery, lsfc, vcp, bFlat));
 
-		if (0 != (org.drip.param.definition.ScenarioCreditCurve.CC_TENOR_UP & iScenario)) {
-			if (null == (_mapTenorCCBumpUp = _ccsg.createTenorCCMap (strName, valParams, dc, dcTSY,
-				adblQuote, _dblCouponBump, dblRecovery, astrCalibMeasure, lsfc, vcp, bFlat)))
-				return false;
-		}
+		if (bTenorUp)
+			addTenorCalibrations (lsCalibration, strName, valParams, dc, dcTSY, astrCalibMeasure, adblQuote,
+				_dblCouponBump, dblRecovery, lsfc, vcp, bFlat);
 
-		if (0 != (org.drip.param.definition.ScenarioCreditCurve.CC_TENOR_DN & iScenario)) {
-			if (null == (_mapTenorCCBumpDn = _ccsg.createTenorCCMap (strName, valParams, dc, dcTSY,
-				adblQuote, -_dblCouponBump, dblRecovery, astrCalibMeasure, lsfc, vcp, bFlat)))
-				return false;
-		}
+		if (bTenorDn)
+			addTenorCalibrations (lsCalibration, strName, valParams, dc, dcTSY, astrCalibMeasure, adblQuote,
+				-_dblCouponBump, dblRecovery, lsfc, vcp, bFlat);
 
-		if (0 != (org.drip.param.definition.ScenarioCreditCurve.CC_RR_FLAT_UP & iScenario)) {
-			if (null == (_ccRecoveryUp = _ccsg.createCC (strName, valParams, dc, dcTSY, adblQuote,
-				dblRecovery + _dblRecoveryBump, astrCalibMeasure, lsfc, vcp, bFlat)))
-				return false;
-		}
+		if (bRecoveryUp)
+			lsCalibration.add (flatCalibration (strName, valParams, dc, dcTSY, astrCalibMeasure, adblQuote,
+				dblRecovery + _dblRecoveryBump, lsfc, vcp, bFlat));
 
-		if (0 != (org.drip.param.definition.ScenarioCreditCurve.CC_RR_FLAT_DN & iScenario)) {
-			if (null == (_ccRecoveryDn = _ccsg.createCC (strName, valParams, dc, dcTSY, adblQuote,
-				dblRecovery - _dblRecoveryBump, astrCalibMeasure, lsfc, vcp, bFlat)))
-				return false;
-		}
+		if (bRecoveryDn)
+			lsCalibration.add (flatCalibration (strName, valParams, dc, dcTSY, astrCalibMeasure, adblQuote,
+				dblRecovery - _dblRecoveryBump, lsfc, vcp, bFlat));
+
+		java.util.List<org.drip.analytics.definition.CreditCurve[]> lsResult = null == scc ?
+			org.drip.param.market.ScenarioCurveCooker.InLine (lsCalibration) : scc.cook (lsCalibration);
+
+		if (null == lsResult) return false;
+
+		java.util.List<org.drip.analytics.definition.CreditCurve> lsCC = new
+			java.util.ArrayList<org.drip.analytics.definition.CreditCurve>();
+
+		for (org.drip.analytics.definition.CreditCurve[] aCC : lsResult)
+			lsCC.addAll (java.util.Arrays.asList (aCC));
+
+		java.util.Iterator<org.drip.analytics.definition.CreditCurve> iterCC = lsCC.iterator();
+
+		_ccBase = iterCC.next();
+
+		if (bFlatUp) _ccBumpUp = iterCC.next();
+
+		if (bFlatDn) _ccBumpDn = iterCC.next();
+
+		if (bTenorUp) _mapTenorCCBumpUp = tenorMap (iterCC);
+
+		if (bTenorDn) _mapTenorCCBumpDn = tenorMap (iterCC);
+
+		if (bRecoveryUp) _ccRecoveryUp = iterCC.next();
+
+		if (bRecoveryDn) _ccRecoveryDn = iterCC.next();
 
 		return true;
 	}
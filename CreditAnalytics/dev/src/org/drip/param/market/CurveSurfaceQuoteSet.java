@@ -353,6 +353,107 @@ public class CurveSurfaceQuoteSet {
 	{
 	}
 
+	/**
+	 * Construct a Light-weight Overlay View of the Current CurveSurfaceQuoteSet where the specified Credit
+	 *  Curve is over-ridden locally. All the other Curves, Surfaces, Quotes, and Fixings are shared by
+	 *  reference with this CurveSurfaceQuoteSet, and are to be treated as Read-only through the Overlay.
+	 *  Credit Curves (re)-set on the Overlay are never seen by this CurveSurfaceQuoteSet, so an Overlay may
+	 *  be used by a Calibration running concurrently with other Consumers of this Instance.
+	 * 
+	 * @param cc The Credit Curve to be over-ridden in the Overlay (may be null)
+	 * 
+	 * @return The Overlay CurveSurfaceQuoteSet
+	 */
+
+	public CurveSurfaceQuoteSet creditCurveOverlay (
+		final org.drip.analytics.definition.CreditCurve cc)
+	{
+		org.drip.param.market.CurveSurfaceQuoteSet csqsOverlay = new
+			org.drip.param.market.CurveSurfaceQuoteSet();
+
+		csqsOverlay._mapPayCurrencyForeignCollateralDC = _mapPayCurrencyForeignCollateralDC;
+		csqsOverlay._mapEquityCurve = _mapEquityCurve;
+		csqsOverlay._mapForwardCurve = _mapForwardCurve;
+		csqsOverlay._mapFundingCurve = _mapFundingCurve;
+		csqsOverlay._mapFXCurve = _mapFXCurve;
+		csqsOverlay._mapGovvieCurve = _mapGovvieCurve;
+		csqsOverlay._mapPaydownCurve = _mapPaydownCurve;
+		csqsOverlay._mapRecoveryCurve = _mapRecoveryCurve;
+		csqsOverlay._mapCollateralVolatilitySurface = _mapCollateralVolatilitySurface;
+		csqsOverlay._mapCreditVolatilitySurface = _mapCreditVolatilitySurface;
+		csqsOverlay._mapCustomMetricVolatilitySurface = _mapCustomMetricVolatilitySurface;
+		csqsOverlay._mapEquityVolatilitySurface = _mapEquityVolatilitySurface;
+		csqsOverlay._mapForwardVolatilitySurface = _mapForwardVolatilitySurface;
+		csqsOverlay._mapFundingVolatilitySurface = _mapFundingVolatilitySurface;
+		csqsOverlay._mapFXVolatilitySurface = _mapFXVolatilitySurface;
+		csqsOverlay._mapGovvieVolatilitySurface = _mapGovvieVolatilitySurface;
+		csqsOverlay._mapPaydownVolatilitySurface = _mapPaydownVolatilitySurface;
+		csqsOverlay._mapRecoveryVolatilitySurface = _mapRecoveryVolatilitySurface;
+		csqsOverlay._mapCollateralCollateralCorrelationSurface = _mapCollateralCollateralCorrelationSurface;
+		csqsOverlay._mapCollateralCreditCorrelationSurface = _mapCollateralCreditCorrelationSurface;
+		csqsOverlay._mapCollateralCustomMetricCorrelationSurface = _mapCollateralCustomMetricCorrelationSurface;
+		csqsOverlay._mapCollateralEquityCorrelationSurface = _mapCollateralEquityCorrelationSurface;
+		csqsOverlay._mapCollateralForwardCorrelationSurface = _mapCollateralForwardCorrelationSurface;
+		csqsOverlay._mapCollateralFundingCorrelationSurface = _mapCollateralFundingCorrelationSurface;
+		csqsOverlay._mapCollateralFXCorrelationSurface = _mapCollateralFXCorrelationSurface;
+		csqsOverlay._mapCollateralGovvieCorrelationSurface = _mapCollateralGovvieCorrelationSurface;
+		csqsOverlay._mapCollateralPaydownCorrelationSurface = _mapCollateralPaydownCorrelationSurface;
+		csqsOverlay._mapCollateralRecoveryCorrelationSurface = _mapCollateralRecoveryCorrelationSurface;
+		csqsOverlay._mapCreditCreditCorrelationSurface = _mapCreditCreditCorrelationSurface;
+		csqsOverlay._mapCreditCustomMetricCorrelationSurface = _mapCreditCustomMetricCorrelationSurface;
+		csqsOverlay._mapCreditEquityCorrelationSurface = _mapCreditEquityCorrelationSurface;
+		csqsOverlay._mapCreditForwardCorrelationSurface = _mapCreditForwardCorrelationSurface;
+		csqsOverlay._mapCreditFundingCorrelationSurface = _mapCreditFundingCorrelationSurface;
+		csqsOverlay._mapCreditFXCorrelationSurface = _mapCreditFXCorrelationSurface;
+		csqsOverlay._mapCreditGovvieCorrelationSurface = _mapCreditGovvieCorrelationSurface;
+		csqsOverlay._mapCreditPaydownCorrelationSurface = _mapCreditPaydownCorrelationSurface;
+		csqsOverlay._mapCreditRecoveryCorrelationSurface = _mapCreditRecoveryCorrelationSurface;
+		csqsOverlay._mapCustomMetricCustomMetricCorrelationSurface = _mapCustomMetricCustomMetricCorrelationSurface;
+		csqsOverlay._mapCustomMetricEquityCorrelationSurface = _mapCustomMetricEquityCorrelationSurface;
+		csqsOverlay._mapCustomMetricForwardCorrelationSurface = _mapCustomMetricForwardCorrelationSurface;
+		csqsOverlay._mapCustomMetricFundingCorrelationSurface = _mapCustomMetricFundingCorrelationSurface;
+		csqsOverlay._mapCustomMetricFXCorrelationSurface = _mapCustomMetricFXCorrelationSurface;
+		csqsOverlay._mapCustomMetricGovvieCorrelationSurface = _mapCustomMetricGovvieCorrelationSurface;
+		csqsOverlay._mapCustomMetricPaydownCorrelationSurface = _mapCustomMetricPaydownCorrelationSurface;
+		csqsOverlay._mapCustomMetricRecoveryCorrelationSurface = _mapCustomMetricRecoveryCorrelationSurface;
+		csqsOverlay._mapEquityEquityCorrelationSurface = _mapEquityEquityCorrelationSurface;
+		csqsOverlay._mapEquityForwardCorrelationSurface = _mapEquityForwardCorrelationSurface;
+		csqsOverlay._mapEquityFundingCorrelationSurface = _mapEquityFundingCorrelationSurface;
+		csqsOverlay._mapEquityFXCorrelationSurface = _mapEquityFXCorrelationSurface;
+		csqsOverlay._mapEquityGovvieCorrelationSurface = _mapEquityGovvieCorrelationSurface;
+		csqsOverlay._mapEquityPaydownCorrelationSurface = _mapEquityPaydownCorrelationSurface;
+		csqsOverlay._mapEquityRecoveryCorrelationSurface = _mapEquityRecoveryCorrelationSurface;
+		csqsOverlay._mapForwardForwardCorrelationSurface = _mapForwardForwardCorrelationSurface;
+		csqsOverlay._mapForwardFundingCorrelationSurface = _mapForwardFundingCorrelationSurface;
+		csqsOverlay._mapForwardFXCorrelationSurface = _mapForwardFXCorrelationSurface;
+		csqsOverlay._mapForwardGovvieCorrelationSurface = _mapForwardGovvieCorrelationSurface;
+		csqsOverlay._mapForwardPaydownCorrelationSurface = _mapForwardPaydownCorrelationSurface;
+		csqsOverlay._mapForwardRecoveryCorrelationSurface = _mapForwardRecoveryCorrelationSurface;
+		csqsOverlay._mapFundingFundingCorrelationSurface = _mapFundingFundingCorrelationSurface;
+		csqsOverlay._mapFundingFXCorrelationSurface = _mapFundingFXCorrelationSurface;
+		csqsOverlay._mapFundingGovvieCorrelationSurface = _mapFundingGovvieCorrelationSurface;
+		csqsOverlay._mapFundingPaydownCorrelationSurface = _mapFundingPaydownCorrelationSurface;
+		csqsOverlay._mapFundingRecoveryCorrelationSurface = _mapFundingRecoveryCorrelationSurface;
+		csqsOverlay._mapFXFXCorrelationSurface = _mapFXFXCorrelationSurface;
+		csqsOverlay._mapFXGovvieCorrelationSurface = _mapFXGovvieCorrelationSurface;
+		csqsOverlay._mapFXPaydownCorrelationSurface = _mapFXPaydownCorrelationSurface;
+		csqsOverlay._mapFXRecoveryCorrelationSurface = _mapFXRecoveryCorrelationSurface;
+		csqsOverlay._mapGovvieGovvieCorrelationSurface = _mapGovvieGovvieCorrelationSurface;
+		csqsOverlay._mapGovviePaydownCorrelationSurface = _mapGovviePaydownCorrelationSurface;
+		csqsOverlay._mapGovvieRecoveryCorrelationSurface = _mapGovvieRecoveryCorrelationSurface;
+		csqsOverlay._mapPaydownPaydownCorrelationSurface = _mapPaydownPaydownCorrelationSurface;
+		csqsOverlay._mapPaydownRecoveryCorrelationSurface = _mapPaydownRecoveryCorrelationSurface;
+		csqsOverlay._mapRecoveryRecoveryCorrelationSurface = _mapRecoveryRecoveryCorrelationSurface;
+		csqsOverlay._mapProductQuote = _mapProductQuote;
+		csqsOverlay._lsfc = _lsfc;
+
+		csqsOverlay._mapCreditCurve.putAll (_mapCreditCurve);
+
+		if (null != cc) csqsOverlay._mapCreditCurve.put (cc.label().fullyQualifiedName(), cc);
+
+		return csqsOverlay;
+	}
+
 	/**
 	 * Retrieve the Discount Curve associated with the Pay Cash-flow Collateralized using a different
 	 * 	Collateral Currency Numeraire
@@ -43,15 +43,15 @@ package org.drip.param.market;
  */
 
 public class RatesCurveScenarioContainer extends org.drip.param.definition.ScenarioDiscountCurve {
-	private org.drip.analytics.rates.DiscountCurve _dcBase = null;
-	private org.drip.analytics.rates.DiscountCurve _dcBumpUp = null;
-	private org.drip.analytics.rates.DiscountCurve _dcBumpDn = null;
+	private volatile org.drip.analytics.rates.DiscountCurve _dcBase = null;
+	private volatile org.drip.analytics.rates.DiscountCurve _dcBumpUp = null;
+	private volatile org.drip.analytics.rates.DiscountCurve _dcBumpDn = null;
 	private org.drip.state.estimator.RatesCurveScenarioGenerator _irsg = null;
 	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>
 		_mapCustomDC = null;
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>
+	private volatile org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>
 		_mapDCBumpUp = null;
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>
+	private volatile org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>
 		_mapDCBumpDn = null;
 
 	/**
@@ -70,6 +70,75 @@ public class RatesCurveScenarioContainer extends org.drip.param.definition.Scena
 			throw new java.lang.Exception ("RatesCurveScenarioContainer ctr => Invalid Inputs");
 	}
 
+	private java.util.concurrent.Callable<org.drip.analytics.rates.DiscountCurve[]> flatCalibration (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final java.lang.String[] astrCalibMeasure,
+		final double[] adblQuote,
+		final double dblBump,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp)
+	{
+		return new java.util.concurrent.Callable<org.drip.analytics.rates.DiscountCurve[]>() {
+			@Override public org.drip.analytics.rates.DiscountCurve[] call()
+			{
+				org.drip.analytics.rates.DiscountCurve dc = _irsg.createIRCurve (valParams, dcTSY, adblQuote,
+					dblBump, astrCalibMeasure, lsfc, vcp);
+
+				return null == dc ? null : new org.drip.analytics.rates.DiscountCurve[] {dc};
+			}
+		};
+	}
+
+	private void addTenorCalibrations (
+		final java.util.List<java.util.concurrent.Callable<org.drip.analytics.rates.DiscountCurve[]>>
+			lsCalibration,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final java.lang.String[] astrCalibMeasure,
+		final double[] adblQuote,
+		final double dblBump,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp)
+	{
+		if (_irsg.linearizedTenorBump (dblBump)) {
+			lsCalibration.add (new java.util.concurrent.Callable<org.drip.analytics.rates.DiscountCurve[]>() {
+				@Override public org.drip.analytics.rates.DiscountCurve[] call()
+				{
+					return _irsg.createTenorIRCurves (valParams, dcTSY, adblQuote, dblBump, astrCalibMeasure,
+						lsfc, vcp);
+				}
+			});
+
+			return;
+		}
+
+		for (int i = 0; i < adblQuote.length; ++i) {
+			double[] adblTenorQuote = new double[adblQuote.length];
+
+			for (int j = 0; j < adblQuote.length; ++j)
+				adblTenorQuote[j] = j == i ? adblQuote[j] + dblBump : adblQuote[j];
+
+			lsCalibration.add (flatCalibration (valParams, dcTSY, astrCalibMeasure, adblTenorQuote, 0., lsfc,
+				vcp));
+		}
+	}
+
+	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>
+		tenorMap (
+			final java.util.Iterator<org.drip.analytics.rates.DiscountCurve> iterDC)
+	{
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve> mapTenorDC
+			= new
+				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>();
+
+		for (org.drip.product.definition.FixedIncomeComponent comp : _irsg.getInstruments())
+			mapTenorDC.put (org.drip.analytics.date.DateUtil.FromJulian (comp.maturityDate().julian()),
+				iterDC.next());
+
+		return mapTenorDC;
+	}
+
 	@Override public boolean cookScenarioDC (
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.analytics.rates.DiscountCurve dcTSY,
@@ -79,39 +148,94 @@ public class RatesCurveScenarioContainer extends org.drip.param.definition.Scena
 		final org.drip.param.market.LatentStateFixingsContainer lsfc,
 		final org.drip.param.valuation.ValuationCustomizationParams vcp,
 		final int iDCMode)
+	{
+		return cookScenarioDC (valParams, dcTSY, astrCalibMeasure, adblQuote, dblBump, lsfc, vcp, iDCMode,
+			null);
+	}
+
+	/**
+	 * Cook the Scenario Curves, running the independent Calibrations of the Base, the Flat Bumped, and the
+	 * 	Tenor Bumped Curves on the specified ScenarioCurveCooker. The Curves are published into the Container
+	 * 	only once all of them have been successfully calibrated, and are visible to the other Threads once
+	 * 	the Last of them is.
+	 * 
+	 * @param valParams Valuation Parameters
+	 * @param dcTSY Treasury Discount Curve
+	 * @param astrCalibMeasure Array of Calibration Measures
+	 * @param adblQuote Array of Calibration Quotes
+	 * @param dblBump Amount of Bump to be applied
+	 * @param lsfc Latent State Fixings Container
+	 * @param vcp Valuation Customization Parameters
+	 * @param iDCMode One of the values in the DC_ enum listed in ScenarioDiscountCurve
+	 * @param scc The Scenario Curve Cooker (null => Calibrate in-line)
+	 * 
+	 * @return TRUE => Successful creation of the Scenario Curves
+	 */
+
+	public boolean cookScenarioDC (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final java.lang.String[] astrCalibMeasure,
+		final double[] adblQuote,
+		final double dblBump,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final int iDCMode,
+		final org.drip.param.market.ScenarioCurveCooker scc)
 	{
 		if (null == valParams || null == adblQuote || null == astrCalibMeasure || 0 == adblQuote.length || 0
 			== astrCalibMeasure.length || adblQuote.length != astrCalibMeasure.length ||
 				!org.drip.quant.common.NumberUtil.IsValid (dblBump) || null == _irsg)
 			return false;
 
-		if (null == (_dcBase = _irsg.createIRCurve (valParams, dcTSY, adblQuote, 0., astrCalibMeasure, lsfc,
-			vcp)))
-			return false;
+		boolean bFlatUp = 0 != (org.drip.param.definition.ScenarioDiscountCurve.DC_FLAT_UP & iDCMode);
+		boolean bFlatDn = 0 != (org.drip.param.definition.ScenarioDiscountCurve.DC_FLAT_DN & iDCMode);
+		boolean bTenorUp = 0 != (org.drip.param.definition.ScenarioDiscountCurve.DC_TENOR_UP & iDCMode);
+		boolean bTenorDn = 0 != (org.drip.param.definition.ScenarioDiscountCurve.DC_TENOR_DN & iDCMode);
 
-		if (0 != (org.drip.param.definition.ScenarioDiscountCurve.DC_FLAT_UP & iDCMode)) {
-			if (null == (_dcBumpUp = _irsg.createIRCurve (valParams, dcTSY, adblQuote, dblBump,
-				astrCalibMeasure, lsfc, vcp)))
-				return false;
-		}
+		java.util.List<java.util.concurrent.Callable<org.drip.analytics.rates.DiscountCurve[]>> lsCalibration
+			= new java.util.ArrayList<java.util.concurrent.Callable<org.drip.analytics.rates.DiscountCurve[]>>();
 
-		if (0 != (org.drip.param.definition.ScenarioDiscountCurve.DC_FLAT_DN & iDCMode)) {
-			if (null == (_dcBumpDn = _irsg.createIRCurve (valParams, dcTSY, adblQuote, -dblBump,
-				astrCalibMeasure, lsfc, vcp)))
-				return false;
-		}
+		lsCalibration.add (flatCalibration (valParams, dcTSY, astrCalibMeasure, adblQuote, 0., lsfc, vcp));
 
-		if (0 != (org.drip.param.definition.ScenarioDiscountCurve.DC_TENOR_UP & iDCMode)) {
-			if (null == (_mapDCBumpUp = _irsg.createTenorIRCurveMap (valParams, dcTSY, adblQuote, dblBump,
-				astrCalibMeasure, lsfc, vcp)))
-				return false;
-		}
+		if (bFlatUp)
+			lsCalibration.add (flatCalibration (valParams, dcTSY, astrCalibMeasure, adblQuote, dblBump, lsfc,
+				vcp));
 
-		if (0 != (org.drip.param.definition.ScenarioDiscountCurve.DC_TENOR_DN & iDCMode)) {
-			if (null == (_mapDCBumpDn = _irsg.createTenorIRCurveMap (valParams, dcTSY, adblQuote, -dblBump,
-				astrCalibMeasure, lsfc, vcp)))
-				return false;
-		}
+		if (bFlatDn)
+			lsCalibration.add (flatCalibration (valParams, dcTSY, astrCalibMeasure, adblQuote, -dblBump, lsfc,
+				vcp));
+
+		if (bTenorUp)
+			addTenorCalibrations (lsCalibration, valParams, dcTSY, astrCalibMeasure, adblQuote, dblBump, lsfc,
+				vcp);
+
+		if (bTenorDn)
+			addTenorCalibrations (lsCalibration, valParams, dcTSY, astrCalibMeasure, adblQuote, -dblBump,
+				lsfc, vcp);
+
+		java.util.List<org.drip.analytics.rates.DiscountCurve[]> lsResult = null == scc ?
+			org.drip.param.market.ScenarioCurveCooker.InLine (lsCalibration) : scc.cook (lsCalibration);
+
+		if (null == lsResult) return false;
+
+		java.util.List<org.drip.analytics.rates.DiscountCurve> lsDC = new
+			java.util.ArrayList<org.drip.analytics.rates.DiscountCurve>();
+
+		for (org.drip.analytics.rates.DiscountCurve[] aDC : lsResult)
+			lsDC.addAll (java.util.Arrays.asList (aDC));
+
+		java.util.Iterator<org.drip.analytics.rates.DiscountCurve> iterDC = lsDC.iterator();
+
+		_dcBase = iterDC.next();
+
+		if (bFlatUp) _dcBumpUp = iterDC.next();
+
+		if (bFlatDn) _dcBumpDn = iterDC.next();
+
+		if (bTenorUp) _mapDCBumpUp = tenorMap (iterDC);
+
+		if (bTenorDn) _mapDCBumpDn = tenorMap (iterDC);
 
 		return true;
 	}
@@ -0,0 +1,242 @@
+
+package org.drip.param.market;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * ScenarioCurveCooker runs the independent Calibrations of a Scenario Curve Cook (the Base, the Flat Bumped,
+ * 	and the Tenor Bumped Curves, or entire Credit Names) on a configurable Executor. It bounds the Number of
+ * 	Calibrations in flight, and returns the Results in Submission Order regardless of the Completion Order.
+ * 	Calibrations submitted from inside a running Calibration are executed in-line on the calling Thread, so
+ * 	Cooks may be nested without starving a bounded Executor.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class ScenarioCurveCooker {
+	private int _iMaxInFlight = -1;
+	private java.util.concurrent.ExecutorService _es = null;
+
+	private static final java.lang.ThreadLocal<java.lang.Boolean> s_tlInCalibration = new
+		java.lang.ThreadLocal<java.lang.Boolean>();
+
+	/**
+	 * Construct a ScenarioCurveCooker backed by its own Pool of Daemon Threads
+	 *
+	 * @param iParallelism The Number of Calibration Threads
+	 *
+	 * @return The ScenarioCurveCooker Instance
+	 */
+
+	public static final ScenarioCurveCooker Standard (
+		final int iParallelism)
+	{
+		if (0 >= iParallelism) return null;
+
+		try {
+			return new ScenarioCurveCooker (java.util.concurrent.Executors.newFixedThreadPool (iParallelism,
+				new java.util.concurrent.ThreadFactory() {
+				@Override public java.lang.Thread newThread (
+					final java.lang.Runnable r)
+				{
+					java.lang.Thread t = new java.lang.Thread (r, "ScenarioCurveCooker");
+
+					t.setDaemon (true);
+
+					return t;
+				}
+			}), iParallelism);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Run the Calibrations one after the other on the calling Thread
+	 *
+	 * @param lsCalibration List of the Calibrations
+	 *
+	 * @return List of the Calibration Results in Submission Order (null => At least one Calibration threw or
+	 * 	returned null)
+	 */
+
+	public static final <T> java.util.List<T> InLine (
+		final java.util.List<java.util.concurrent.Callable<T>> lsCalibration)
+	{
+		if (null == lsCalibration) return null;
+
+		java.util.List<T> lsResult = new java.util.ArrayList<T> (lsCalibration.size());
+
+		try {
+			for (java.util.concurrent.Callable<T> calibration : lsCalibration) {
+				T result = calibration.call();
+
+				if (null == result) return null;
+
+				lsResult.add (result);
+			}
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		}
+
+		return lsResult;
+	}
+
+	/**
+	 * ScenarioCurveCooker constructor
+	 *
+	 * @param es The Executor Service the Calibrations are submitted to
+	 * @param iMaxInFlight The Maximum Number of Calibrations in flight at any time
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public ScenarioCurveCooker (
+		final java.util.concurrent.ExecutorService es,
+		final int iMaxInFlight)
+		throws java.lang.Exception
+	{
+		if (null == (_es = es) || 0 >= (_iMaxInFlight = iMaxInFlight))
+			throw new java.lang.Exception ("ScenarioCurveCooker ctr: Invalid Inputs");
+	}
+
+	/**
+	 * Retrieve the Executor Service
+	 *
+	 * @return The Executor Service
+	 */
+
+	public java.util.concurrent.ExecutorService executor()
+	{
+		return _es;
+	}
+
+	/**
+	 * Retrieve the Maximum Number of Calibrations in flight
+	 *
+	 * @return The Maximum Number of Calibrations in flight
+	 */
+
+	public int maxInFlight()
+	{
+		return _iMaxInFlight;
+	}
+
+	/**
+	 * Run the Calibrations, and collect their Results in Submission Order
+	 *
+	 * @param lsCalibration List of the Calibrations
+	 *
+	 * @return List of the Calibration Results in Submission Order (null => At least one Calibration threw or
+	 * 	returned null)
+	 */
+
+	public <T> java.util.List<T> cook (
+		final java.util.List<java.util.concurrent.Callable<T>> lsCalibration)
+	{
+		if (null == lsCalibration) return null;
+
+		if (1 >= lsCalibration.size() || java.lang.Boolean.TRUE.equals (s_tlInCalibration.get()))
+			return InLine (lsCalibration);
+
+		java.util.List<T> lsResult = new java.util.ArrayList<T> (lsCalibration.size());
+
+		final java.util.concurrent.Semaphore semInFlight = new java.util.concurrent.Semaphore (_iMaxInFlight);
+
+		java.util.List<java.util.concurrent.Future<T>> lsFuture = new
+			java.util.ArrayList<java.util.concurrent.Future<T>> (lsCalibration.size());
+
+		try {
+			for (final java.util.concurrent.Callable<T> calibration : lsCalibration) {
+				semInFlight.acquire();
+
+				try {
+					lsFuture.add (_es.submit (new java.util.concurrent.Callable<T>() {
+						@Override public T call()
+							throws java.lang.Exception
+						{
+							s_tlInCalibration.set (java.lang.Boolean.TRUE);
+
+							try {
+								return calibration.call();
+							} finally {
+								s_tlInCalibration.remove();
+
+								semInFlight.release();
+							}
+						}
+					}));
+				} catch (java.util.concurrent.RejectedExecutionException e) {
+					semInFlight.release();
+
+					throw e;
+				}
+			}
+
+			for (java.util.concurrent.Future<T> future : lsFuture) {
+				T result = future.get();
+
+				if (null == result) {
+					cancel (lsFuture);
+
+					return null;
+				}
+
+				lsResult.add (result);
+			}
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			cancel (lsFuture);
+
+			return null;
+		}
+
+		return lsResult;
+	}
+
+	/**
+	 * Shut down the Executor Service
+	 */
+
+	public void shutdown()
+	{
+		_es.shutdown();
+	}
+
+	private static final <T> void cancel (
+		final java.util.List<java.util.concurrent.Future<T>> lsFuture)
+	{
+		for (java.util.concurrent.Future<T> future : lsFuture)
+			future.cancel (false);
+	}
+}
@@ -69,6 +69,13 @@ public class PricerParams {
 
 	public static final int PERIOD_DISCRETIZATION_FULL_COUPON = 3;
 
+	/**
+	 * Exact Integration of the Loss and the Accrual-on-Default Legs across the Merged Credit/Funding Knots,
+	 * 	assuming piece-wise flat Hazard and Forward Rates in between (ISDA Standard Model style)
+	 */
+
+	public static final int PERIOD_DISCRETIZATION_EXACT = 4;
+
 	private int _iUnitSize = 7;
 	private boolean _bSurvToPayDate = false;
 	private int _iDiscretizationScheme = PERIOD_DISCRETIZATION_DAY_STEP;
@@ -284,29 +284,7 @@ public class BlackNormalAlgorithm implements org.drip.pricer.option.FokkerPlanck
 		final double dblCallPrice)
 		throws java.lang.Exception
 	{
-		org.drip.function.deterministic.R1ToR1 au = new org.drip.function.deterministic.R1ToR1
-			(null)
-		{
-			@Override public double evaluate (
-				final double dblSpotVolatility)
-				throws java.lang.Exception
-			{
-				if (!compute (dblStrike, dbTimeToExpiry, dblRiskFreeRate, dblUnderlier, bIsForward,
-					java.lang.Math.abs (dblSpotVolatility), true))
-					throw new java.lang.Exception
-						("BlackNormalAlgorithm::implyBlackScholesVolatility => Cannot compute Measure");
-
-				return callPrice() - dblCallPrice;
-			}
-		};
-
-		org.drip.function.solver1D.FixedPointFinderOutput fpop = new
-			org.drip.function.solver1D.FixedPointFinderBrent (0., au, true).findRoot();
-
-		if (null == fpop || !fpop.containsRoot())
-			throw new java.lang.Exception
-				("BlackNormalAlgorithm::implyVolatility => Cannot compute Measure");
-
-		return java.lang.Math.abs (fpop.getRoot());
+		return org.drip.pricer.option.BlackNormalImpliedVolatility.Imply (dblStrike, dbTimeToExpiry,
+			dblRiskFreeRate, dblUnderlier, bIsForward, false, dblCallPrice);
 	}
 }
@@ -0,0 +1,381 @@
+
+package org.drip.pricer.option;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BlackNormalImpliedVolatility implies the Black Normal (Bachelier) Volatility from the European Option
+ * 	Price to Machine Precision. The Time Value is written as Total Volatility x Density x (1 - u x Mills
+ * 	Ratio), where u is the Moneyness in Units of the Total Volatility; the last Factor is evaluated off of
+ * 	the Tail of the Mills Ratio Continued Fraction, so the Time Value of deep Out-of-the-Money Options
+ * 	retains full relative Precision. The Root is found using Householder (3rd Order) Steps on the Logarithm
+ * 	of the Time Value, starting from the Asymptotic Initial Guess of the relevant Moneyness Regime.
+ * 
+ * Only the Price is computed - none of the Greeks - and the Class is stateless, so it may be shared freely
+ * 	across Threads.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BlackNormalImpliedVolatility {
+	private static final int MAXIMUM_ITERATION = 32;
+	private static final double POLISH_THRESHOLD = 1.e-06;
+	private static final double LARGE_MONEYNESS_TIME_VALUE = 0.0833;
+	private static final double SQRT_TWO_PI = java.lang.Math.sqrt (2. * java.lang.Math.PI);
+
+	/*
+	 * Compute 1 - u x Mills Ratio (u), from the Tail of the Even Continued Fraction for u above 2
+	 */
+
+	private static final double MillsRatioComplement (
+		final double dblU)
+		throws java.lang.Exception
+	{
+		if (dblU <= 2.) return 1. - dblU * org.drip.measure.continuous.Gaussian.MillsRatio (dblU);
+
+		double dblUSquared = dblU * dblU;
+		double dblTail = dblUSquared + 5.;
+		double dblC = dblTail;
+		double dblD = 0.;
+
+		for (int i = 2; i < 1000; ++i) {
+			double dblA = -1. * (2. * i - 1.) * (2. * i);
+			double dblB = dblUSquared + 4. * i + 1.;
+
+			dblD = 1. / (dblB + dblA * dblD);
+			dblC = dblB + dblA / dblC;
+
+			double dblDelta = dblC * dblD;
+
+			dblTail *= dblDelta;
+
+			if (java.lang.Math.abs (dblDelta - 1.) < 1.e-16) break;
+		}
+
+		double dblW = 2. / dblTail;
+
+		return (1. - dblW) / (dblUSquared + 1. - dblW);
+	}
+
+	/**
+	 * Compute the Normalized Time Value, i.e., the Forward Option Price less the Intrinsic, as a Function of
+	 * 	the absolute Moneyness |F - K| and the Total Volatility
+	 * 
+	 * @param dblMoneyness The absolute Moneyness |F - K|
+	 * @param dblTotalVolatility The Total Volatility (Volatility x Square Root of the Time to Expiry)
+	 * 
+	 * @return The Normalized Time Value
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public static final double NormalizedTimeValue (
+		final double dblMoneyness,
+		final double dblTotalVolatility)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblMoneyness) || 0. > dblMoneyness ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblTotalVolatility) || 0. > dblTotalVolatility)
+			throw new java.lang.Exception ("BlackNormalImpliedVolatility::NormalizedTimeValue => Invalid Inputs");
+
+		if (0. == dblTotalVolatility) return 0.;
+
+		double dblU = dblMoneyness / dblTotalVolatility;
+
+		return dblTotalVolatility * java.lang.Math.exp (-0.5 * dblU * dblU) / SQRT_TWO_PI *
+			MillsRatioComplement (dblU);
+	}
+
+	/**
+	 * Compute the Black Normal Price of the European Option off of the Forward - no Greeks are computed
+	 * 
+	 * @param dblStrike The Strike
+	 * @param dblTimeToExpiry The Time to Expiry
+	 * @param dblForward The Forward
+	 * @param dblDiscountFactor The Discount Factor to the Expiry
+	 * @param bIsPut TRUE => Put, FALSE => Call
+	 * @param dblVolatility The Normal Volatility
+	 * 
+	 * @return The Black Normal Option Price
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public static final double Price (
+		final double dblStrike,
+		final double dblTimeToExpiry,
+		final double dblForward,
+		final double dblDiscountFactor,
+		final boolean bIsPut,
+		final double dblVolatility)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblStrike) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblTimeToExpiry) || 0. > dblTimeToExpiry ||
+				!org.drip.quant.common.NumberUtil.IsValid (dblForward) ||
+					!org.drip.quant.common.NumberUtil.IsValid (dblDiscountFactor) || 0. >= dblDiscountFactor
+						|| !org.drip.quant.common.NumberUtil.IsValid (dblVolatility) || 0. > dblVolatility)
+			throw new java.lang.Exception ("BlackNormalImpliedVolatility::Price => Invalid Inputs");
+
+		return dblDiscountFactor * (java.lang.Math.max (bIsPut ? dblStrike - dblForward : dblForward -
+			dblStrike, 0.) + NormalizedTimeValue (java.lang.Math.abs (dblForward - dblStrike), dblVolatility *
+				java.lang.Math.sqrt (dblTimeToExpiry)));
+	}
+
+	/**
+	 * Imply the Total Volatility from the Normalized Time Value
+	 * 
+	 * @param dblMoneyness The absolute Moneyness |F - K|
+	 * @param dblTimeValue The Normalized Time Value
+	 * 
+	 * @return The Total Volatility (Volatility x Square Root of the Time to Expiry)
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid, or the Time Value is Negative
+	 */
+
+	public static final double ImplyTotalVolatility (
+		final double dblMoneyness,
+		final double dblTimeValue)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblMoneyness) || 0. > dblMoneyness ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblTimeValue))
+			throw new java.lang.Exception
+				("BlackNormalImpliedVolatility::ImplyTotalVolatility => Invalid Inputs");
+
+		if (0. >= dblTimeValue) {
+			if (dblTimeValue < -1.e-14 * java.lang.Math.max (dblMoneyness, 1.))
+				throw new java.lang.Exception
+					("BlackNormalImpliedVolatility::ImplyTotalVolatility => Price below the Intrinsic");
+
+			return 0.;
+		}
+
+		if (0. == dblMoneyness) return dblTimeValue * SQRT_TWO_PI;
+
+		double dblTotalVolatility = (dblTimeValue + 0.5 * dblMoneyness) * SQRT_TWO_PI;
+
+		if (dblTimeValue < LARGE_MONEYNESS_TIME_VALUE * dblMoneyness) {
+			double dblU = 1.;
+
+			double dblLogScale = java.lang.Math.log (dblMoneyness / (dblTimeValue * SQRT_TWO_PI));
+
+			for (int i = 0; i < 4; ++i) {
+				double dblExponent = dblLogScale - 3. * java.lang.Math.log (dblU);
+
+				if (0. >= dblExponent) break;
+
+				dblU = java.lang.Math.sqrt (2. * dblExponent);
+			}
+
+			dblTotalVolatility = dblMoneyness / dblU;
+		}
+
+		boolean bPolish = false;
+		double dblLowerBracket = 0.;
+		double dblUpperBracket = java.lang.Double.POSITIVE_INFINITY;
+
+		double dblLogTarget = java.lang.Math.log (dblTimeValue);
+
+		for (int i = 0; i < MAXIMUM_ITERATION; ++i) {
+			double dblU = dblMoneyness / dblTotalVolatility;
+
+			double dblVega = java.lang.Math.exp (-0.5 * dblU * dblU) / SQRT_TWO_PI;
+
+			double dblLevel = dblTotalVolatility * dblVega * MillsRatioComplement (dblU);
+
+			if (0. >= dblLevel) {
+				dblLowerBracket = dblTotalVolatility;
+				dblTotalVolatility = java.lang.Double.isInfinite (dblUpperBracket) ? 2. * dblLowerBracket : 0.5
+					* (dblLowerBracket + dblUpperBracket);
+				continue;
+			}
+
+			double dblObjective = java.lang.Math.log (dblLevel) - dblLogTarget;
+
+			if (0. == dblObjective) return dblTotalVolatility;
+
+			if (0. > dblObjective)
+				dblLowerBracket = dblTotalVolatility;
+			else
+				dblUpperBracket = dblTotalVolatility;
+
+			double dblUSquared = dblU * dblU;
+			double dblLambda = dblVega / dblLevel;
+			double dblNewton = -1. * dblObjective / dblLambda;
+			double dblGamma = dblUSquared / dblTotalVolatility;
+			double dblSecondRatio = dblGamma - dblLambda;
+			double dblThirdRatio = dblUSquared * (dblUSquared - 3.) / (dblTotalVolatility * dblTotalVolatility)
+				- 3. * dblGamma * dblLambda + 2. * dblLambda * dblLambda;
+
+			double dblStep = dblNewton * (1. + 0.5 * dblSecondRatio * dblNewton) / (1. + dblNewton *
+				(dblSecondRatio + dblThirdRatio * dblNewton / 6.));
+
+			if (bPolish || java.lang.Math.abs (dblStep) <= 4. * java.lang.Math.ulp (dblTotalVolatility))
+				return dblTotalVolatility + dblStep;
+
+			bPolish = java.lang.Math.abs (dblStep) < POLISH_THRESHOLD * dblTotalVolatility;
+
+			double dblNextVolatility = dblTotalVolatility + dblStep;
+
+			dblTotalVolatility = org.drip.quant.common.NumberUtil.IsValid (dblNextVolatility) &&
+				dblNextVolatility > dblLowerBracket && dblNextVolatility < dblUpperBracket ? dblNextVolatility
+					: (java.lang.Double.isInfinite (dblUpperBracket) ? 2. * dblLowerBracket : 0.5 *
+						(dblLowerBracket + dblUpperBracket));
+		}
+
+		return dblTotalVolatility;
+	}
+
+	/**
+	 * Imply the Black Normal Volatility from the European Option Price off of the Forward
+	 * 
+	 * @param dblStrike The Strike
+	 * @param dblTimeToExpiry The Time to Expiry
+	 * @param dblForward The Forward
+	 * @param dblDiscountFactor The Discount Factor to the Expiry
+	 * @param bIsPut TRUE => Put, FALSE => Call
+	 * @param dblPrice The Option Price
+	 * 
+	 * @return The Implied Black Normal Volatility
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid, or the Price is below the Intrinsic
+	 */
+
+	public static final double Imply (
+		final double dblStrike,
+		final double dblTimeToExpiry,
+		final double dblForward,
+		final double dblDiscountFactor,
+		final boolean bIsPut,
+		final double dblPrice)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblStrike) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblTimeToExpiry) || 0. >= dblTimeToExpiry ||
+				!org.drip.quant.common.NumberUtil.IsValid (dblForward) ||
+					!org.drip.quant.common.NumberUtil.IsValid (dblDiscountFactor) || 0. >= dblDiscountFactor
+						|| !org.drip.quant.common.NumberUtil.IsValid (dblPrice))
+			throw new java.lang.Exception ("BlackNormalImpliedVolatility::Imply => Invalid Inputs");
+
+		return ImplyTotalVolatility (java.lang.Math.abs (dblForward - dblStrike), dblPrice / dblDiscountFactor
+			- java.lang.Math.max (bIsPut ? dblStrike - dblForward : dblForward - dblStrike, 0.)) /
+				java.lang.Math.sqrt (dblTimeToExpiry);
+	}
+
+	/**
+	 * Imply the Black Normal Volatility from the European Option Price off of the Risk Free Rate and the
+	 * 	Underlier
+	 * 
+	 * @param dblStrike The Strike
+	 * @param dblTimeToExpiry The Time to Expiry
+	 * @param dblRiskFreeRate The Risk Free Rate
+	 * @param dblUnderlier The Underlier
+	 * @param bIsForward TRUE => The Underlier represents the Forward, FALSE => it represents Spot
+	 * @param bIsPut TRUE => Put, FALSE => Call
+	 * @param dblPrice The Option Price
+	 * 
+	 * @return The Implied Black Normal Volatility
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid, or the Price is below the Intrinsic
+	 */
+
+	public static final double Imply (
+		final double dblStrike,
+		final double dblTimeToExpiry,
+		final double dblRiskFreeRate,
+		final double dblUnderlier,
+		final boolean bIsForward,
+		final boolean bIsPut,
+		final double dblPrice)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblRiskFreeRate) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblTimeToExpiry))
+			throw new java.lang.Exception ("BlackNormalImpliedVolatility::Imply => Invalid Inputs");
+
+		double dblDiscountFactor = java.lang.Math.exp (-1. * dblRiskFreeRate * dblTimeToExpiry);
+
+		return Imply (dblStrike, dblTimeToExpiry, bIsForward ? dblUnderlier : dblUnderlier /
+			dblDiscountFactor, dblDiscountFactor, bIsPut, dblPrice);
+	}
+
+	/**
+	 * Imply the Black Normal Volatility Grid from the Grid of European Option Prices over the Expiries and
+	 * 	the Strikes, typically the Out-of-the-Money Puts and Calls. Quotes that cannot be implied are left as
+	 * 	NaN.
+	 * 
+	 * @param adblStrike Array of the Strikes
+	 * @param adblTimeToExpiry Array of the Times to Expiry
+	 * @param adblForward Array of the Forwards, one per Expiry
+	 * @param adblDiscountFactor Array of the Discount Factors, one per Expiry
+	 * @param abIsPut Array of the Put (TRUE)/Call (FALSE) Flags, one per Strike (null => All Calls)
+	 * @param aadblPrice The [Expiry x Strike] Grid of the Option Prices
+	 * 
+	 * @return The [Expiry x Strike] Grid of the Implied Black Normal Volatilities
+	 */
+
+	public static final double[][] ImplyGrid (
+		final double[] adblStrike,
+		final double[] adblTimeToExpiry,
+		final double[] adblForward,
+		final double[] adblDiscountFactor,
+		final boolean[] abIsPut,
+		final double[][] aadblPrice)
+	{
+		if (null == adblStrike || null == adblTimeToExpiry || null == adblForward || null ==
+			adblDiscountFactor || null == aadblPrice)
+			return null;
+
+		int iNumStrike = adblStrike.length;
+		int iNumExpiry = adblTimeToExpiry.length;
+
+		if (0 == iNumStrike || 0 == iNumExpiry || iNumExpiry != adblForward.length || iNumExpiry !=
+			adblDiscountFactor.length || iNumExpiry != aadblPrice.length || (null != abIsPut && iNumStrike !=
+				abIsPut.length))
+			return null;
+
+		double[][] aadblVolatility = new double[iNumExpiry][iNumStrike];
+
+		for (int iExpiry = 0; iExpiry < iNumExpiry; ++iExpiry) {
+			if (null == aadblPrice[iExpiry] || iNumStrike != aadblPrice[iExpiry].length) return null;
+
+			for (int iStrike = 0; iStrike < iNumStrike; ++iStrike) {
+				try {
+					aadblVolatility[iExpiry][iStrike] = Imply (adblStrike[iStrike], adblTimeToExpiry[iExpiry],
+						adblForward[iExpiry], adblDiscountFactor[iExpiry], null != abIsPut &&
+							abIsPut[iStrike], aadblPrice[iExpiry][iStrike]);
+				} catch (java.lang.Exception e) {
+					aadblVolatility[iExpiry][iStrike] = java.lang.Double.NaN;
+				}
+			}
+		}
+
+		return aadblVolatility;
+	}
+}
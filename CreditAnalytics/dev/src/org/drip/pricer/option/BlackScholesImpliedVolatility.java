@@ -0,0 +1,414 @@
+
+package org.drip.pricer.option;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BlackScholesImpliedVolatility implies the Black Scholes Volatility from the European Option Price to
+ * 	Machine Precision, in the Spirit of Jaeckel's "Let's be Rational". The Price is normalized onto the
+ * 	Out-of-the-Money Normalized Black Function of the Log-Moneyness and the Total Volatility, which is in turn
+ * 	evaluated off of the Gaussian Mills Ratio so that the Tails retain full relative Precision. The Root is
+ * 	found using Householder (3rd Order) Steps on the Logarithm of the Normalized Price below the Inflection
+ * 	Point, and on the Logarithm of the Distance to the Price Ceiling above it, starting from a Rational
+ * 	Initial Guess.
+ * 
+ * Only the Price is computed - none of the Greeks - and the Class is stateless, so it may be shared freely
+ * 	across Threads.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BlackScholesImpliedVolatility {
+	private static final int MAXIMUM_ITERATION = 32;
+	private static final double POLISH_THRESHOLD = 1.e-06;
+	private static final double ONE_OVER_SQRT_TWO_PI = 1. / java.lang.Math.sqrt (2. * java.lang.Math.PI);
+
+	/*
+	 * Sum of the Mills Ratios at (h + t) and (t - h), scaled by the common Gaussian Factor - this is the
+	 * 	Distance of the Normalized Price to its Ceiling when (h + t) is positive
+	 */
+
+	private static final double NormalizedCeilingDistance (
+		final double dblX,
+		final double dblTotalVolatility)
+		throws java.lang.Exception
+	{
+		double dblH = dblX / dblTotalVolatility;
+		double dblT = 0.5 * dblTotalVolatility;
+
+		double dblScale = ONE_OVER_SQRT_TWO_PI * java.lang.Math.exp (-0.5 * (dblH * dblH + dblT * dblT));
+
+		if (0. >= dblH + dblT)
+			return java.lang.Math.exp (0.5 * dblX) - dblScale *
+				(org.drip.measure.continuous.Gaussian.MillsRatio (-1. * dblH - dblT) -
+					org.drip.measure.continuous.Gaussian.MillsRatio (dblT - dblH));
+
+		return dblScale * (org.drip.measure.continuous.Gaussian.MillsRatio (dblH + dblT) +
+			org.drip.measure.continuous.Gaussian.MillsRatio (dblT - dblH));
+	}
+
+	/**
+	 * Compute the Normalized Black Call Price, i.e., the Forward Call Price divided by the Square Root of
+	 * 	(Forward x Strike), as a Function of the Log-Moneyness ln (F/K) and the Total Volatility
+	 * 
+	 * @param dblX The Log-Moneyness ln (F/K)
+	 * @param dblTotalVolatility The Total Volatility (Volatility x Square Root of the Time to Expiry)
+	 * 
+	 * @return The Normalized Black Call Price
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public static final double NormalizedPrice (
+		final double dblX,
+		final double dblTotalVolatility)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblX) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblTotalVolatility) || 0. > dblTotalVolatility)
+			throw new java.lang.Exception ("BlackScholesImpliedVolatility::NormalizedPrice => Invalid Inputs");
+
+		double dblIntrinsic = java.lang.Math.max (java.lang.Math.exp (0.5 * dblX) - java.lang.Math.exp (-0.5 *
+			dblX), 0.);
+
+		if (0. == dblTotalVolatility) return dblIntrinsic;
+
+		double dblOTMX = -1. * java.lang.Math.abs (dblX);
+
+		double dblH = dblOTMX / dblTotalVolatility;
+		double dblT = 0.5 * dblTotalVolatility;
+
+		if (0. >= dblH + dblT)
+			return dblIntrinsic + ONE_OVER_SQRT_TWO_PI * java.lang.Math.exp (-0.5 * (dblH * dblH + dblT *
+				dblT)) * (org.drip.measure.continuous.Gaussian.MillsRatio (-1. * dblH - dblT) -
+					org.drip.measure.continuous.Gaussian.MillsRatio (dblT - dblH));
+
+		return dblIntrinsic + java.lang.Math.exp (0.5 * dblOTMX) - NormalizedCeilingDistance (dblOTMX,
+			dblTotalVolatility);
+	}
+
+	/**
+	 * Compute the Black Scholes Price of the European Option off of the Forward - no Greeks are computed
+	 * 
+	 * @param dblStrike The Strike
+	 * @param dblTimeToExpiry The Time to Expiry
+	 * @param dblForward The Forward
+	 * @param dblDiscountFactor The Discount Factor to the Expiry
+	 * @param bIsPut TRUE => Put, FALSE => Call
+	 * @param dblVolatility The Volatility
+	 * 
+	 * @return The Black Scholes Option Price
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public static final double Price (
+		final double dblStrike,
+		final double dblTimeToExpiry,
+		final double dblForward,
+		final double dblDiscountFactor,
+		final boolean bIsPut,
+		final double dblVolatility)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblStrike) || 0. >= dblStrike ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblTimeToExpiry) || 0. > dblTimeToExpiry ||
+				!org.drip.quant.common.NumberUtil.IsValid (dblForward) || 0. >= dblForward ||
+					!org.drip.quant.common.NumberUtil.IsValid (dblDiscountFactor) || 0. >= dblDiscountFactor
+						|| !org.drip.quant.common.NumberUtil.IsValid (dblVolatility) || 0. > dblVolatility)
+			throw new java.lang.Exception ("BlackScholesImpliedVolatility::Price => Invalid Inputs");
+
+		double dblX = java.lang.Math.log (dblForward / dblStrike);
+
+		return dblDiscountFactor * java.lang.Math.sqrt (dblForward * dblStrike) * NormalizedPrice (bIsPut ?
+			-1. * dblX : dblX, dblVolatility * java.lang.Math.sqrt (dblTimeToExpiry));
+	}
+
+	/**
+	 * Imply the Total Volatility from the Normalized Black Call Price
+	 * 
+	 * @param dblX The Log-Moneyness ln (F/K)
+	 * @param dblNormalizedPrice The Normalized Black Call Price
+	 * 
+	 * @return The Total Volatility (Volatility x Square Root of the Time to Expiry)
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid, or the Price is outside of the
+	 * 	Arbitrage Bounds
+	 */
+
+	public static final double ImplyTotalVolatility (
+		final double dblX,
+		final double dblNormalizedPrice)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblX) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblNormalizedPrice))
+			throw new java.lang.Exception
+				("BlackScholesImpliedVolatility::ImplyTotalVolatility => Invalid Inputs");
+
+		double dblOTMX = -1. * java.lang.Math.abs (dblX);
+
+		double dblCeiling = java.lang.Math.exp (0.5 * dblOTMX);
+
+		double dblTarget = dblNormalizedPrice - java.lang.Math.max (java.lang.Math.exp (0.5 * dblX) -
+			java.lang.Math.exp (-0.5 * dblX), 0.);
+
+		if (dblTarget >= dblCeiling)
+			throw new java.lang.Exception
+				("BlackScholesImpliedVolatility::ImplyTotalVolatility => Price above the Ceiling");
+
+		if (0. >= dblTarget) {
+			if (dblTarget < -1.e-14 * java.lang.Math.max (dblNormalizedPrice, 1.))
+				throw new java.lang.Exception
+					("BlackScholesImpliedVolatility::ImplyTotalVolatility => Price below the Intrinsic");
+
+			return 0.;
+		}
+
+		double dblCriticalVolatility = java.lang.Math.sqrt (-2. * dblOTMX);
+
+		boolean bLowerBranch = 0. != dblOTMX && dblTarget < NormalizedPrice (dblOTMX, dblCriticalVolatility);
+
+		double dblTotalVolatility = dblCriticalVolatility;
+		double dblLowerBracket = bLowerBranch ? 0. : dblCriticalVolatility;
+		double dblUpperBracket = bLowerBranch ? dblCriticalVolatility : java.lang.Double.POSITIVE_INFINITY;
+
+		double dblLogTarget = java.lang.Math.log (bLowerBranch ? dblTarget : dblCeiling - dblTarget);
+
+		if (bLowerBranch) {
+			double dblAsymptoticVolatility = dblCriticalVolatility;
+
+			double dblLogScale = java.lang.Math.log (ONE_OVER_SQRT_TWO_PI / (dblOTMX * dblOTMX)) - dblLogTarget;
+
+			for (int i = 0; i < 4; ++i) {
+				double dblExponent = dblLogScale + 3. * java.lang.Math.log (dblAsymptoticVolatility) - 0.125 *
+					dblAsymptoticVolatility * dblAsymptoticVolatility;
+
+				if (0. >= dblExponent) break;
+
+				dblAsymptoticVolatility = -1. * dblOTMX / java.lang.Math.sqrt (2. * dblExponent);
+			}
+
+			if (dblAsymptoticVolatility < dblCriticalVolatility) dblTotalVolatility = dblAsymptoticVolatility;
+		} else {
+			double dblCeilingVolatility = -2. * org.drip.measure.continuous.Gaussian.RationalInverseCDF (0.5 *
+				(dblCeiling - dblTarget) / dblCeiling);
+
+			if (dblCeilingVolatility > dblCriticalVolatility) dblTotalVolatility = dblCeilingVolatility;
+		}
+
+		boolean bPolish = false;
+
+		for (int i = 0; i < MAXIMUM_ITERATION; ++i) {
+			double dblH = dblOTMX / dblTotalVolatility;
+			double dblT = 0.5 * dblTotalVolatility;
+
+			double dblVega = ONE_OVER_SQRT_TWO_PI * java.lang.Math.exp (-0.5 * (dblH * dblH + dblT * dblT));
+
+			double dblLevel = bLowerBranch ? NormalizedPrice (dblOTMX, dblTotalVolatility) :
+				NormalizedCeilingDistance (dblOTMX, dblTotalVolatility);
+
+			if (0. >= dblLevel) {
+				if (bLowerBranch)
+					dblLowerBracket = dblTotalVolatility;
+				else
+					dblUpperBracket = dblTotalVolatility;
+
+				dblTotalVolatility = java.lang.Double.isInfinite (dblUpperBracket) ? 2. * dblLowerBracket : 0.5
+					* (dblLowerBracket + dblUpperBracket);
+				continue;
+			}
+
+			double dblObjective = java.lang.Math.log (dblLevel) - dblLogTarget;
+
+			if (0. == dblObjective) return dblTotalVolatility;
+
+			if ((0. > dblObjective) == bLowerBranch)
+				dblLowerBracket = dblTotalVolatility;
+			else
+				dblUpperBracket = dblTotalVolatility;
+
+			double dblGamma = dblOTMX * dblOTMX / (dblTotalVolatility * dblTotalVolatility *
+				dblTotalVolatility) - 0.25 * dblTotalVolatility;
+			double dblGammaDerivative = -3. * dblOTMX * dblOTMX / (dblTotalVolatility * dblTotalVolatility *
+				dblTotalVolatility * dblTotalVolatility) - 0.25;
+			double dblLambda = (bLowerBranch ? 1. : -1.) * dblVega / dblLevel;
+			double dblNewton = -1. * dblObjective / dblLambda;
+			double dblSecondRatio = dblGamma - dblLambda;
+			double dblThirdRatio = dblGamma * dblGamma + dblGammaDerivative - 3. * dblGamma * dblLambda + 2. *
+				dblLambda * dblLambda;
+
+			double dblStep = dblNewton * (1. + 0.5 * dblSecondRatio * dblNewton) / (1. + dblNewton *
+				(dblSecondRatio + dblThirdRatio * dblNewton / 6.));
+
+			if (bPolish || java.lang.Math.abs (dblStep) <= 4. * java.lang.Math.ulp (dblTotalVolatility))
+				return dblTotalVolatility + dblStep;
+
+			bPolish = java.lang.Math.abs (dblStep) < POLISH_THRESHOLD * dblTotalVolatility;
+
+			double dblNextVolatility = dblTotalVolatility + dblStep;
+
+			dblTotalVolatility = org.drip.quant.common.NumberUtil.IsValid (dblNextVolatility) &&
+				dblNextVolatility > dblLowerBracket && dblNextVolatility < dblUpperBracket ? dblNextVolatility
+					: (java.lang.Double.isInfinite (dblUpperBracket) ? 2. * dblLowerBracket : 0.5 *
+						(dblLowerBracket + dblUpperBracket));
+		}
+
+		return dblTotalVolatility;
+	}
+
+	/**
+	 * Imply the Black Scholes Volatility from the European Option Price off of the Forward
+	 * 
+	 * @param dblStrike The Strike
+	 * @param dblTimeToExpiry The Time to Expiry
+	 * @param dblForward The Forward
+	 * @param dblDiscountFactor The Discount Factor to the Expiry
+	 * @param bIsPut TRUE => Put, FALSE => Call
+	 * @param dblPrice The Option Price
+	 * 
+	 * @return The Implied Black Scholes Volatility
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid, or the Price is outside of the
+	 * 	Arbitrage Bounds
+	 */
+
+	public static final double Imply (
+		final double dblStrike,
+		final double dblTimeToExpiry,
+		final double dblForward,
+		final double dblDiscountFactor,
+		final boolean bIsPut,
+		final double dblPrice)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblStrike) || 0. >= dblStrike ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblTimeToExpiry) || 0. >= dblTimeToExpiry ||
+				!org.drip.quant.common.NumberUtil.IsValid (dblForward) || 0. >= dblForward ||
+					!org.drip.quant.common.NumberUtil.IsValid (dblDiscountFactor) || 0. >= dblDiscountFactor
+						|| !org.drip.quant.common.NumberUtil.IsValid (dblPrice))
+			throw new java.lang.Exception ("BlackScholesImpliedVolatility::Imply => Invalid Inputs");
+
+		double dblX = java.lang.Math.log (dblForward / dblStrike);
+
+		return ImplyTotalVolatility (bIsPut ? -1. * dblX : dblX, dblPrice / (dblDiscountFactor *
+			java.lang.Math.sqrt (dblForward * dblStrike))) / java.lang.Math.sqrt (dblTimeToExpiry);
+	}
+
+	/**
+	 * Imply the Black Scholes Volatility from the European Option Price off of the Risk Free Rate and the
+	 * 	Underlier
+	 * 
+	 * @param dblStrike The Strike
+	 * @param dblTimeToExpiry The Time to Expiry
+	 * @param dblRiskFreeRate The Risk Free Rate
+	 * @param dblUnderlier The Underlier
+	 * @param bIsForward TRUE => The Underlier represents the Forward, FALSE => it represents Spot
+	 * @param bIsPut TRUE => Put, FALSE => Call
+	 * @param dblPrice The Option Price
+	 * 
+	 * @return The Implied Black Scholes Volatility
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid, or the Price is outside of the
+	 * 	Arbitrage Bounds
+	 */
+
+	public static final double Imply (
+		final double dblStrike,
+		final double dblTimeToExpiry,
+		final double dblRiskFreeRate,
+		final double dblUnderlier,
+		final boolean bIsForward,
+		final boolean bIsPut,
+		final double dblPrice)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblRiskFreeRate) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblTimeToExpiry))
+			throw new java.lang.Exception ("BlackScholesImpliedVolatility::Imply => Invalid Inputs");
+
+		double dblDiscountFactor = java.lang.Math.exp (-1. * dblRiskFreeRate * dblTimeToExpiry);
+
+		return Imply (dblStrike, dblTimeToExpiry, bIsForward ? dblUnderlier : dblUnderlier /
+			dblDiscountFactor, dblDiscountFactor, bIsPut, dblPrice);
+	}
+
+	/**
+	 * Imply the Black Scholes Volatility Grid from the Grid of European Option Prices over the Expiries and
+	 * 	the Strikes, typically the Out-of-the-Money Puts and Calls. Quotes that cannot be implied are left as
+	 * 	NaN.
+	 * 
+	 * @param adblStrike Array of the Strikes
+	 * @param adblTimeToExpiry Array of the Times to Expiry
+	 * @param adblForward Array of the Forwards, one per Expiry
+	 * @param adblDiscountFactor Array of the Discount Factors, one per Expiry
+	 * @param abIsPut Array of the Put (TRUE)/Call (FALSE) Flags, one per Strike (null => All Calls)
+	 * @param aadblPrice The [Expiry x Strike] Grid of the Option Prices
+	 * 
+	 * @return The [Expiry x Strike] Grid of the Implied Black Scholes Volatilities
+	 */
+
+	public static final double[][] ImplyGrid (
+		final double[] adblStrike,
+		final double[] adblTimeToExpiry,
+		final double[] adblForward,
+		final double[] adblDiscountFactor,
+		final boolean[] abIsPut,
+		final double[][] aadblPrice)
+	{
+		if (null == adblStrike || null == adblTimeToExpiry || null == adblForward || null ==
+			adblDiscountFactor || null == aadblPrice)
+			return null;
+
+		int iNumStrike = adblStrike.length;
+		int iNumExpiry = adblTimeToExpiry.length;
+
+		if (0 == iNumStrike || 0 == iNumExpiry || iNumExpiry != adblForward.length || iNumExpiry !=
+			adblDiscountFactor.length || iNumExpiry != aadblPrice.length || (null != abIsPut && iNumStrike !=
+				abIsPut.length))
+			return null;
+
+		double[][] aadblVolatility = new double[iNumExpiry][iNumStrike];
+
+		for (int iExpiry = 0; iExpiry < iNumExpiry; ++iExpiry) {
+			if (null == aadblPrice[iExpiry] || iNumStrike != aadblPrice[iExpiry].length) return null;
+
+			for (int iStrike = 0; iStrike < iNumStrike; ++iStrike) {
+				try {
+					aadblVolatility[iExpiry][iStrike] = Imply (adblStrike[iStrike], adblTimeToExpiry[iExpiry],
+						adblForward[iExpiry], adblDiscountFactor[iExpiry], null != abIsPut &&
+							abIsPut[iStrike], aadblPrice[iExpiry][iStrike]);
+				} catch (java.lang.Exception e) {
+					aadblVolatility[iExpiry][iStrike] = java.lang.Double.NaN;
+				}
+			}
+		}
+
+		return aadblVolatility;
+	}
+}
@@ -53,6 +53,10 @@ public class HestonStochasticVolatilityAlgorithm implements org.drip.pricer.opti
 	private static final double FOURIER_FREQ_INIT = 0.01;
 	private static final double FOURIER_FREQ_INCREMENT = 0.1;
 	private static final double FOURIER_FREQ_FINAL = 25.;
+	private static final double CARR_MADAN_DAMPING = 0.75;
+	private static final int CARR_MADAN_GRID_SIZE = 4096;
+	private static final double CARR_MADAN_FREQ_INCREMENT = 0.1;
+	private static final double CARR_MADAN_TAIL_TOLERANCE = 1.e-14;
 
 	private org.drip.param.pricer.HestonOptionPricerParams _fphp = null;
 
@@ -63,340 +67,179 @@ public class HestonStochasticVolatilityAlgorithm implements org.drip.pricer.opti
 	private double _dblCallProb2 = java.lang.Double.NaN;
 	private double _dblPutPriceFromParity = java.lang.Double.NaN;
 
-	class PhaseCorrectedF {
-		double _dblCorrectedPhase = java.lang.Double.NaN;
-		org.drip.quant.fourier.ComplexNumber _cnF = null;
-
-		PhaseCorrectedF (
-			final double dblCorrectedPhase,
-			final org.drip.quant.fourier.ComplexNumber cnF)
-		{
-			_cnF = cnF;
-			_dblCorrectedPhase = dblCorrectedPhase;
-		}
-	}
+	/*
+	 * The Log of the Characteristic Function of the Scheme at the (possibly Complex) Frequency, i.e.,
+	 * 	C + D * v0 + i * Freq * log (Spot), laid out in adblLogF as [Real, Imaginary, Corrected Phase]. The
+	 * 	Complex Arithmetic is carried out on the Real/Imaginary Components in place, so nothing is
+	 * 	allocated per Frequency.
+	 */
 
-	private PhaseCorrectedF fourierTransformHeston93 (
-		final double dblStrike,
+	private boolean logCharacteristic (
 		final double dbTimeToExpiry,
 		final double dblRiskFreeRate,
-		final double dblSpot,
+		final double dblLogSpot,
 		final double dblInitialVolatility,
 		final double dblA,
-		final double dblFreq,
+		final double dblFreqReal,
+		final double dblFreqImaginary,
 		final double dblB,
 		final double dblU,
-		final org.drip.quant.fourier.RotationCountPhaseTracker rcpt)
+		final org.drip.quant.fourier.RotationCountPhaseTracker rcpt,
+		final double[] adblLogF)
 	{
-		try {
-			org.drip.quant.fourier.ComplexNumber cnSmallDLHS = new org.drip.quant.fourier.ComplexNumber (dblB,
-				-1. * _fphp.rho() * _fphp.sigma() * dblFreq);
-
-			org.drip.quant.fourier.ComplexNumber cnSmallD = org.drip.quant.fourier.ComplexNumber.Square
-				(cnSmallDLHS);
-
-			if (null == cnSmallD) return null;
-
-			double dblSigmaScaler = _fphp.sigma() * _fphp.sigma();
-
-			if (null == (cnSmallD = org.drip.quant.fourier.ComplexNumber.Add (cnSmallD, new
-				org.drip.quant.fourier.ComplexNumber (dblSigmaScaler * dblFreq * dblFreq, -2. * dblSigmaScaler
-					* dblFreq * dblU))))
-				return null;
-
-			if (null == (cnSmallD = org.drip.quant.fourier.ComplexNumber.SquareRoot (cnSmallD))) return null;
-
-			org.drip.quant.fourier.ComplexNumber cnGNumerator = org.drip.quant.fourier.ComplexNumber.Subtract
-				(cnSmallDLHS, cnSmallD);
-
-			if (null == cnGNumerator) return null;
-
-			org.drip.quant.fourier.ComplexNumber cnG = org.drip.quant.fourier.ComplexNumber.Add (cnSmallDLHS,
-				cnSmallD);
-
-			if (null == cnG) return null;
-
-			if (null == (cnG = org.drip.quant.fourier.ComplexNumber.Divide (cnGNumerator, cnG))) return null;
-
-			int iM = 0;
-			int iN = 0;
-
-			if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_POWER_PHASE_TRACKER_KAHL_JACKEL ==
-				_fphp.phaseTrackerType()) {
-				iM = (int) ((cnG.argument() + java.lang.Math.PI) / (2. * java.lang.Math.PI));
-
-				iN = (int) ((cnG.argument() + (dbTimeToExpiry * cnSmallD.argument()) + java.lang.Math.PI) /
-					(2. * java.lang.Math.PI));
-			}
-
-			org.drip.quant.fourier.ComplexNumber cnExpTTEScaledSmallD =
-				org.drip.quant.fourier.ComplexNumber.Scale (cnSmallD, -1. * dbTimeToExpiry);
-
-			if (null == cnExpTTEScaledSmallD) return null;
+		int iPhaseTrackerType = _fphp.phaseTrackerType();
 
-			if (null == (cnExpTTEScaledSmallD = org.drip.quant.fourier.ComplexNumber.Exponentiate
-				(cnExpTTEScaledSmallD)))
-				return null;
-
-			org.drip.quant.fourier.ComplexNumber cnD = new org.drip.quant.fourier.ComplexNumber (1. -
-				cnExpTTEScaledSmallD.real(), -1. * cnExpTTEScaledSmallD.imaginary());
-
-			org.drip.quant.fourier.ComplexNumber cnInvGExpTTEScaledSmallD =
-				org.drip.quant.fourier.ComplexNumber.Multiply (cnExpTTEScaledSmallD, cnG);
-
-			if (null == cnInvGExpTTEScaledSmallD) return null;
-
-			cnInvGExpTTEScaledSmallD = new org.drip.quant.fourier.ComplexNumber (1. -
-				cnInvGExpTTEScaledSmallD.real(), -1. * cnInvGExpTTEScaledSmallD.imaginary());
-
-			if (null == (cnD = org.drip.quant.fourier.ComplexNumber.Divide (cnD, cnInvGExpTTEScaledSmallD)))
-				return null;
-
-			if (null == (cnD = org.drip.quant.fourier.ComplexNumber.Multiply (cnGNumerator, cnD)))
-				return null;
-
-			dblSigmaScaler = 1. / dblSigmaScaler;
-
-			if (null == (cnD = org.drip.quant.fourier.ComplexNumber.Scale (cnD, dblSigmaScaler))) return null;
-
-			org.drip.quant.fourier.ComplexNumber cnC = new org.drip.quant.fourier.ComplexNumber (1. -
-				cnG.real(), -1. * cnG.imaginary());
-
-			if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_POWER_PHASE_TRACKER_KAHL_JACKEL ==
-				_fphp.phaseTrackerType()) {
-				if (null == (cnC = org.drip.quant.fourier.PhaseAdjuster.PowerLogPhaseTracker
-					(cnInvGExpTTEScaledSmallD, cnC, iN, iM)))
-					return null;
-			} else if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_PHASE_TRACKER_ROTATION_COUNT
-				== _fphp.phaseTrackerType()) {
-				if (null == (cnC = org.drip.quant.fourier.ComplexNumber.Logarithm (cnC))) return null;
-
-				cnC = new org.drip.quant.fourier.ComplexNumber (cnC.real(), rcpt.updateAndApply
-					(cnC.argument(), true));
-			}
-
-			double dblCorrectedPhase = cnC.argument();
+		if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_PHASE_TRACKER_ROTATION_COUNT ==
+			iPhaseTrackerType && null == rcpt)
+			return false;
 
-			if (null == (cnC = org.drip.quant.fourier.ComplexNumber.Scale (cnC, -2.))) return null;
+		boolean bHeston93 = PAYOFF_TRANSFORM_SCHEME_HESTON_1993 == _fphp.payoffTransformScheme();
 
-			org.drip.quant.fourier.ComplexNumber cnTTEScaledGNumerator =
-				org.drip.quant.fourier.ComplexNumber.Scale (cnGNumerator, dbTimeToExpiry);
+		if (!bHeston93 && PAYOFF_TRANSFORM_SCHEME_AMST_2007 != _fphp.payoffTransformScheme()) return false;
 
-			if (null == cnTTEScaledGNumerator) return null;
+		double dblRho = _fphp.rho();
 
-			if (null == (cnC = org.drip.quant.fourier.ComplexNumber.Add (cnTTEScaledGNumerator, cnC)))
-				return null;
+		double dblSigma = _fphp.sigma();
 
-			if (null == (cnC = org.drip.quant.fourier.ComplexNumber.Scale (cnC, dblA * dblSigmaScaler)))
-				return null;
+		double dblIFreqReal = -1. * dblFreqImaginary;
+		double dblIFreqImaginary = dblFreqReal;
+		double dblSigmaScaler = dblSigma * dblSigma;
+		double dblSmallDLHSReal = dblB - dblRho * dblSigma * dblIFreqReal;
+		double dblSmallDLHSImaginary = -1. * dblRho * dblSigma * dblIFreqImaginary;
 
-			if (null == (cnC = org.drip.quant.fourier.ComplexNumber.Add (new
-				org.drip.quant.fourier.ComplexNumber (0., dblRiskFreeRate * dbTimeToExpiry * dblFreq),
-					cnC)))
-				return null;
+		double dblSmallDReal = dblSmallDLHSReal * dblSmallDLHSReal - dblSmallDLHSImaginary *
+			dblSmallDLHSImaginary + (dblSigmaScaler * dblFreqReal * dblFreqReal - dblSigmaScaler *
+				dblFreqImaginary * dblFreqImaginary - 2. * dblSigmaScaler * dblIFreqReal * dblU);
 
-			org.drip.quant.fourier.ComplexNumber cnF = org.drip.quant.fourier.ComplexNumber.Scale (cnD,
-				dblInitialVolatility);
+		double dblSmallDImaginary = 2. * dblSmallDLHSReal * dblSmallDLHSImaginary + (2. * dblSigmaScaler *
+			dblFreqReal * dblFreqImaginary - 2. * dblSigmaScaler * dblIFreqImaginary * dblU);
 
-			if (null == cnF) return null;
+		double dblSmallDModulus = dblSmallDReal * dblSmallDReal + dblSmallDImaginary * dblSmallDImaginary;
 
-			if (null == (cnF = org.drip.quant.fourier.ComplexNumber.Add (cnF, new
-				org.drip.quant.fourier.ComplexNumber (0., java.lang.Math.log (dblSpot) * dblFreq))))
-				return null;
+		if (0. == dblSmallDModulus)
+			dblSmallDReal = dblSmallDImaginary = 0.;
+		else {
+			double dblSquareRootReal = java.lang.Math.sqrt (0.5 * (dblSmallDReal + java.lang.Math.sqrt
+				(dblSmallDModulus)));
 
-			if (null == (cnF = org.drip.quant.fourier.ComplexNumber.Add (cnF, cnC))) return null;
+			/*
+			 * The Negative Real Axis (reached off of the Complex Frequencies) maps onto the Positive
+			 * 	Imaginary Axis.
+			 */
 
-			if (null == (cnF = org.drip.quant.fourier.ComplexNumber.Add (cnF, new
-				org.drip.quant.fourier.ComplexNumber (0., -1. * java.lang.Math.log (dblStrike) * dblFreq))))
-				return null;
-
-			if (null == (cnF = org.drip.quant.fourier.ComplexNumber.Exponentiate (cnF))) return null;
-
-			if (null == (cnF = org.drip.quant.fourier.ComplexNumber.Divide (cnF, new
-				org.drip.quant.fourier.ComplexNumber (0., dblFreq))))
-				return null;
-
-			return new PhaseCorrectedF (dblCorrectedPhase, cnF);
-		} catch (java.lang.Exception e) {
-			e.printStackTrace();
+			dblSmallDImaginary = 0. == dblSquareRootReal ? java.lang.Math.sqrt (java.lang.Math.sqrt
+				(dblSmallDModulus)) : 0.5 * dblSmallDImaginary / dblSquareRootReal;
+			dblSmallDReal = dblSquareRootReal;
 		}
 
-		return null;
-	}
-
-	private PhaseCorrectedF fourierTransformAMST07 (
-		final double dblStrike,
-		final double dbTimeToExpiry,
-		final double dblRiskFreeRate,
-		final double dblSpot,
-		final double dblInitialVolatility,
-		final double dblA,
-		final double dblFreq,
-		final double dblB,
-		final double dblU,
-		final org.drip.quant.fourier.RotationCountPhaseTracker rcpt)
-	{
-		try {
-			org.drip.quant.fourier.ComplexNumber cnSmallDLHS = new org.drip.quant.fourier.ComplexNumber (dblB,
-				-1. * _fphp.rho() * _fphp.sigma() * dblFreq);
-
-			org.drip.quant.fourier.ComplexNumber cnSmallD = org.drip.quant.fourier.ComplexNumber.Square
-				(cnSmallDLHS);
+		double dblGNumeratorReal = bHeston93 ? dblSmallDLHSReal - dblSmallDReal : dblSmallDLHSReal +
+			dblSmallDReal;
+		double dblGNumeratorImaginary = bHeston93 ? dblSmallDLHSImaginary - dblSmallDImaginary :
+			dblSmallDLHSImaginary + dblSmallDImaginary;
+		double dblGDenominatorReal = bHeston93 ? dblSmallDLHSReal + dblSmallDReal : dblSmallDLHSReal -
+			dblSmallDReal;
+		double dblGDenominatorImaginary = bHeston93 ? dblSmallDLHSImaginary + dblSmallDImaginary :
+			dblSmallDLHSImaginary - dblSmallDImaginary;
 
-			if (null == cnSmallD) return null;
+		if (0. == dblGDenominatorReal && 0. == dblGDenominatorImaginary) return false;
 
-			double dblSigmaScaler = _fphp.sigma() * _fphp.sigma();
+		double dblInverseGDenominatorModulus = 1. / (dblGDenominatorReal * dblGDenominatorReal +
+			dblGDenominatorImaginary * dblGDenominatorImaginary);
 
-			if (null == (cnSmallD = org.drip.quant.fourier.ComplexNumber.Add (cnSmallD, new
-				org.drip.quant.fourier.ComplexNumber (dblSigmaScaler * dblFreq * dblFreq, -2. * dblSigmaScaler
-					* dblFreq * dblU))))
-				return null;
+		double dblGReal = (dblGNumeratorReal * dblGDenominatorReal + dblGNumeratorImaginary *
+			dblGDenominatorImaginary) * dblInverseGDenominatorModulus;
 
-			if (null == (cnSmallD = org.drip.quant.fourier.ComplexNumber.SquareRoot (cnSmallD))) return null;
+		double dblGImaginary = (dblGDenominatorReal * dblGNumeratorImaginary - dblGNumeratorReal *
+			dblGDenominatorImaginary) * dblInverseGDenominatorModulus;
 
-			org.drip.quant.fourier.ComplexNumber cnGNumerator = org.drip.quant.fourier.ComplexNumber.Add
-				(cnSmallDLHS, cnSmallD);
+		int iM = 0;
+		int iN = 0;
 
-			if (null == cnGNumerator) return null;
+		if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_POWER_PHASE_TRACKER_KAHL_JACKEL ==
+			iPhaseTrackerType) {
+			double dblGArgument = java.lang.Math.atan (dblGImaginary / dblGReal);
 
-			org.drip.quant.fourier.ComplexNumber cnG = org.drip.quant.fourier.ComplexNumber.Subtract
-				(cnSmallDLHS, cnSmallD);
+			iM = (int) ((dblGArgument + java.lang.Math.PI) / (2. * java.lang.Math.PI));
 
-			if (null == cnG) return null;
+			iN = (int) ((dblGArgument + (dbTimeToExpiry * java.lang.Math.atan (dblSmallDImaginary /
+				dblSmallDReal)) + java.lang.Math.PI) / (2. * java.lang.Math.PI));
+		}
 
-			if (null == (cnG = org.drip.quant.fourier.ComplexNumber.Divide (cnGNumerator, cnG))) return null;
+		double dblExponentScaler = bHeston93 ? -1. * dbTimeToExpiry : dbTimeToExpiry;
 
-			int iM = 0;
-			int iN = 0;
+		double dblExpCoefficient = java.lang.Math.exp (dblExponentScaler * dblSmallDReal);
 
-			if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_POWER_PHASE_TRACKER_KAHL_JACKEL ==
-				_fphp.phaseTrackerType()) {
-				iM = (int) ((cnG.argument() + java.lang.Math.PI) / (2. * java.lang.Math.PI));
+		double dblExpReal = dblExpCoefficient * java.lang.Math.cos (dblExponentScaler * dblSmallDImaginary);
 
-				iN = (int) ((cnG.argument() + (dbTimeToExpiry * cnSmallD.argument()) + java.lang.Math.PI) /
-					(2. * java.lang.Math.PI));
-			}
+		double dblExpImaginary = dblExpCoefficient * java.lang.Math.sin (dblExponentScaler *
+			dblSmallDImaginary);
 
-			org.drip.quant.fourier.ComplexNumber cnExpTTEScaledSmallD =
-				org.drip.quant.fourier.ComplexNumber.Scale (cnSmallD, dbTimeToExpiry);
+		double dblInvGExpReal = 1. - (dblExpReal * dblGReal - dblExpImaginary * dblGImaginary);
+		double dblInvGExpImaginary = -1. * (dblExpReal * dblGImaginary + dblGReal * dblExpImaginary);
 
-			if (null == cnExpTTEScaledSmallD) return null;
-
-			if (null == (cnExpTTEScaledSmallD = org.drip.quant.fourier.ComplexNumber.Exponentiate
-				(cnExpTTEScaledSmallD)))
-				return null;
+		if (0. == dblInvGExpReal && 0. == dblInvGExpImaginary) return false;
 
-			org.drip.quant.fourier.ComplexNumber cnD = new org.drip.quant.fourier.ComplexNumber (1. -
-				cnExpTTEScaledSmallD.real(), -1. * cnExpTTEScaledSmallD.imaginary());
+		double dblInverseInvGExpModulus = 1. / (dblInvGExpReal * dblInvGExpReal + dblInvGExpImaginary *
+			dblInvGExpImaginary);
 
-			org.drip.quant.fourier.ComplexNumber cnInvGExpTTEScaledSmallD =
-				org.drip.quant.fourier.ComplexNumber.Multiply (cnG, cnExpTTEScaledSmallD);
+		double dblDReal = ((1. - dblExpReal) * dblInvGExpReal + (-1. * dblExpImaginary) *
+			dblInvGExpImaginary) * dblInverseInvGExpModulus;
 
-			if (null == cnInvGExpTTEScaledSmallD) return null;
+		double dblDImaginary = (dblInvGExpReal * (-1. * dblExpImaginary) - (1. - dblExpReal) *
+			dblInvGExpImaginary) * dblInverseInvGExpModulus;
 
-			cnInvGExpTTEScaledSmallD = new org.drip.quant.fourier.ComplexNumber (1. -
-				cnInvGExpTTEScaledSmallD.real(), -1. * cnInvGExpTTEScaledSmallD.imaginary());
+		double dblDRealUnscaled = dblGNumeratorReal * dblDReal - dblGNumeratorImaginary * dblDImaginary;
+		dblDImaginary = dblGNumeratorReal * dblDImaginary + dblDReal * dblGNumeratorImaginary;
+		dblDReal = dblDRealUnscaled;
+		dblSigmaScaler = 1. / dblSigmaScaler;
+		dblDReal = dblSigmaScaler * dblDReal;
+		dblDImaginary = dblSigmaScaler * dblDImaginary;
+		double dblCReal = 1. - dblGReal;
+		double dblCImaginary = -1. * dblGImaginary;
 
-			if (null == (cnD = org.drip.quant.fourier.ComplexNumber.Divide (cnD, cnInvGExpTTEScaledSmallD)))
-				return null;
+		if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_POWER_PHASE_TRACKER_KAHL_JACKEL ==
+			iPhaseTrackerType) {
+			if (!org.drip.quant.fourier.PhaseAdjuster.PowerLogPhaseTracker (dblInvGExpReal,
+				dblInvGExpImaginary, dblCReal, dblCImaginary, iN, iM, adblLogF))
+				return false;
 
-			if (null == (cnD = org.drip.quant.fourier.ComplexNumber.Multiply (cnGNumerator, cnD)))
-				return null;
+			dblCReal = adblLogF[0];
+			dblCImaginary = adblLogF[1];
+		} else if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_PHASE_TRACKER_ROTATION_COUNT ==
+			iPhaseTrackerType) {
+			double dblCModulus = dblCReal * dblCReal + dblCImaginary * dblCImaginary;
 
-			dblSigmaScaler = 1. / dblSigmaScaler;
+			if (0. == dblCModulus) return false;
 
-			if (null == (cnD = org.drip.quant.fourier.ComplexNumber.Scale (cnD, dblSigmaScaler))) return null;
+			double dblLogCReal = 0.5 * java.lang.Math.log (dblCModulus);
 
-			org.drip.quant.fourier.ComplexNumber cnC = new org.drip.quant.fourier.ComplexNumber (1. -
-				cnG.real(), -1. * cnG.imaginary());
+			double dblLogCImaginary = java.lang.Math.atan (dblCImaginary / dblCReal);
 
-			if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_POWER_PHASE_TRACKER_KAHL_JACKEL ==
-				_fphp.phaseTrackerType()) {
-				if (null == (cnC = org.drip.quant.fourier.PhaseAdjuster.PowerLogPhaseTracker
-					(cnInvGExpTTEScaledSmallD, cnC, iN, iM)))
-					return null;
-			} else if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_PHASE_TRACKER_ROTATION_COUNT
-				== _fphp.phaseTrackerType()) {
-				if (null == (cnC = org.drip.quant.fourier.ComplexNumber.Logarithm (cnC))) return null;
+			try {
+				dblCImaginary = rcpt.updateAndApply (java.lang.Math.atan (dblLogCImaginary / dblLogCReal),
+					true);
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
 
-				cnC = new org.drip.quant.fourier.ComplexNumber (cnC.real(), rcpt.updateAndApply
-					(cnC.argument(), true));
+				return false;
 			}
 
-			double dblCorrectedPhase = cnC.argument();
-
-			if (null == (cnC = org.drip.quant.fourier.ComplexNumber.Scale (cnC, -2.))) return null;
-
-			org.drip.quant.fourier.ComplexNumber cnTTEScaledGNumerator =
-				org.drip.quant.fourier.ComplexNumber.Scale (cnGNumerator, dbTimeToExpiry);
-
-			if (null == cnTTEScaledGNumerator) return null;
-
-			if (null == (cnC = org.drip.quant.fourier.ComplexNumber.Add (cnTTEScaledGNumerator, cnC)))
-				return null;
-
-			if (null == (cnC = org.drip.quant.fourier.ComplexNumber.Scale (cnC, dblA * dblSigmaScaler)))
-				return null;
-
-			if (null == (cnC = org.drip.quant.fourier.ComplexNumber.Add (new
-				org.drip.quant.fourier.ComplexNumber (0., dblRiskFreeRate * dbTimeToExpiry * dblFreq),
-					cnC)))
-				return null;
-
-			org.drip.quant.fourier.ComplexNumber cnF = org.drip.quant.fourier.ComplexNumber.Scale (cnD,
-				dblInitialVolatility);
-
-			if (null == cnF) return null;
-
-			if (null == (cnF = org.drip.quant.fourier.ComplexNumber.Add (cnF, new
-				org.drip.quant.fourier.ComplexNumber (0., java.lang.Math.log (dblSpot) * dblFreq))))
-				return null;
-
-			if (null == (cnF = org.drip.quant.fourier.ComplexNumber.Add (cnF, cnC))) return null;
-
-			if (null == (cnF = org.drip.quant.fourier.ComplexNumber.Add (cnF, new
-				org.drip.quant.fourier.ComplexNumber (0., -1. * java.lang.Math.log (dblStrike) * dblFreq))))
-				return null;
-
-			if (null == (cnF = org.drip.quant.fourier.ComplexNumber.Exponentiate (cnF))) return null;
-
-			if (null == (cnF = org.drip.quant.fourier.ComplexNumber.Divide (cnF, new
-				org.drip.quant.fourier.ComplexNumber (0., dblFreq))))
-				return null;
-
-			return new PhaseCorrectedF (dblCorrectedPhase, cnF);
-		} catch (java.lang.Exception e) {
-			e.printStackTrace();
+			dblCReal = dblLogCReal;
 		}
 
-		return null;
-	}
+		adblLogF[2] = java.lang.Math.atan (dblCImaginary / dblCReal);
 
-	private PhaseCorrectedF payoffTransform (
-		final double dblStrike,
-		final double dbTimeToExpiry,
-		final double dblRiskFreeRate,
-		final double dblSpot,
-		final double dblInitialVolatility,
-		final double dblA,
-		final double dblFreq,
-		final double dblB,
-		final double dblU,
-		final org.drip.quant.fourier.RotationCountPhaseTracker rcpt)
-	{
-		if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_PHASE_TRACKER_ROTATION_COUNT ==
-			_fphp.phaseTrackerType() && null == rcpt)
-			return null;
+		double dblCScaler = dblA * dblSigmaScaler;
 
-		if (PAYOFF_TRANSFORM_SCHEME_HESTON_1993 == _fphp.payoffTransformScheme())
-			return fourierTransformHeston93 (dblStrike, dbTimeToExpiry, dblRiskFreeRate, dblSpot,
-				dblInitialVolatility, dblA, dblFreq, dblB, dblU, rcpt);
+		dblCReal = dblCScaler * (dbTimeToExpiry * dblGNumeratorReal + -2. * dblCReal);
+		dblCImaginary = dblCScaler * (dbTimeToExpiry * dblGNumeratorImaginary + -2. * dblCImaginary);
+		dblCReal = dblRiskFreeRate * dbTimeToExpiry * dblIFreqReal + dblCReal;
+		dblCImaginary = dblRiskFreeRate * dbTimeToExpiry * dblIFreqImaginary + dblCImaginary;
 
-		if (PAYOFF_TRANSFORM_SCHEME_AMST_2007 == _fphp.payoffTransformScheme())
-			return fourierTransformAMST07 (dblStrike, dbTimeToExpiry, dblRiskFreeRate, dblSpot,
-				dblInitialVolatility, dblA, dblFreq, dblB, dblU, rcpt);
+		adblLogF[0] = dblInitialVolatility * dblDReal + dblLogSpot * dblIFreqReal + dblCReal;
+		adblLogF[1] = dblInitialVolatility * dblDImaginary + dblLogSpot * dblIFreqImaginary + dblCImaginary;
 
-		return null;
+		return org.drip.quant.common.NumberUtil.IsValid (adblLogF);
 	}
 
 	/**
@@ -457,15 +300,18 @@ public class HestonStochasticVolatilityAlgorithm implements org.drip.pricer.opti
 
 		double dblB1 = dblB2 - _fphp.rho() * _fphp.sigma();
 
+		double[] adblLogF = new double[3];
+
+		double dblLogSpot = java.lang.Math.log (dblSpot);
+
 		java.util.Map<java.lang.Double, java.lang.Double> mapPhaseRun = new
 			java.util.TreeMap<java.lang.Double, java.lang.Double>();
 
 		for (double dblFreq = FOURIER_FREQ_INIT; dblFreq <= FOURIER_FREQ_FINAL; dblFreq +=
 			FOURIER_FREQ_INCREMENT, ++i) {
-			PhaseCorrectedF pcf = bLeft ? payoffTransform (dblStrike, dbTimeToExpiry, dblRiskFreeRate,
-				dblSpot, dblInitialVolatility, dblA, dblFreq, dblB1, dblU1, rcpt) : payoffTransform
-					(dblStrike, dbTimeToExpiry, dblRiskFreeRate, dblSpot, dblInitialVolatility, dblA,
-						dblFreq, dblB2, dblU2, rcpt);
+			if (!logCharacteristic (dbTimeToExpiry, dblRiskFreeRate, dblLogSpot, dblInitialVolatility, dblA,
+				dblFreq, 0., bLeft ? dblB1 : dblB2, bLeft ? dblU1 : dblU2, rcpt, adblLogF))
+				return null;
 
 			if (null != rcpt) {
 				if (0 == i)
@@ -486,7 +332,7 @@ public class HestonStochasticVolatilityAlgorithm implements org.drip.pricer.opti
 				}
 			}
 
-			mapPhaseRun.put (dblFreq, pcf._dblCorrectedPhase);
+			mapPhaseRun.put (dblFreq, adblLogF[2]);
 		}
 
 		return mapPhaseRun;
@@ -529,12 +375,19 @@ public class HestonStochasticVolatilityAlgorithm implements org.drip.pricer.opti
 		double dblU1 = 0.5;
 		double dblU2 = -0.5;
 		double dblPreviousPhase = 0.;
+		double[] adblLogF1 = new double[3];
+		double[] adblLogF2 = new double[3];
 		double dblSpot = bIsForward ? dblUnderlier * _dblDF : dblUnderlier;
 
+		double dblLogSpot = java.lang.Math.log (dblSpot);
+
+		double dblLogStrike = java.lang.Math.log (dblStrike);
+
 		for (double dblFreq = FOURIER_FREQ_INIT; dblFreq <= FOURIER_FREQ_FINAL; dblFreq +=
 			FOURIER_FREQ_INCREMENT, ++i) {
-			PhaseCorrectedF pcf1 = payoffTransform (dblStrike, dbTimeToExpiry, dblRiskFreeRate, dblSpot,
-				dblInitialVolatility, dblA, dblFreq, dblB1, dblU1, rcpt1);
+			if (!logCharacteristic (dbTimeToExpiry, dblRiskFreeRate, dblLogSpot, dblInitialVolatility, dblA,
+				dblFreq, 0., dblB1, dblU1, rcpt1, adblLogF1))
+				return false;
 
 			if (null != rcpt1) {
 				if (0 == i)
@@ -555,8 +408,9 @@ public class HestonStochasticVolatilityAlgorithm implements org.drip.pricer.opti
 				}
 			}
 
-			PhaseCorrectedF pcf2 = payoffTransform (dblStrike, dbTimeToExpiry, dblRiskFreeRate, dblSpot,
-				dblInitialVolatility, dblA, dblFreq, dblB2, dblU2, rcpt2);
+			if (!logCharacteristic (dbTimeToExpiry, dblRiskFreeRate, dblLogSpot, dblInitialVolatility, dblA,
+				dblFreq, 0., dblB2, dblU2, rcpt2, adblLogF2))
+				return false;
 
 			if (null != rcpt2) {
 				if (0 == i)
@@ -577,9 +431,15 @@ public class HestonStochasticVolatilityAlgorithm implements org.drip.pricer.opti
 				}
 			}
 
-			_dblCallProb1 += pcf1._cnF.real() * FOURIER_FREQ_INCREMENT;
+			/*
+			 * Re [exp (LogF - i * Freq * log (Strike)) / (i * Freq)]
+			 */
+
+			_dblCallProb1 += java.lang.Math.exp (adblLogF1[0]) * java.lang.Math.sin (adblLogF1[1] - dblLogStrike
+				* dblFreq) / dblFreq * FOURIER_FREQ_INCREMENT;
 
-			_dblCallProb2 += pcf2._cnF.real() * FOURIER_FREQ_INCREMENT;
+			_dblCallProb2 += java.lang.Math.exp (adblLogF2[0]) * java.lang.Math.sin (adblLogF2[1] - dblLogStrike
+				* dblFreq) / dblFreq * FOURIER_FREQ_INCREMENT;
 		}
 
 		double dblPIScaler = 1. / java.lang.Math.PI;
@@ -591,6 +451,164 @@ public class HestonStochasticVolatilityAlgorithm implements org.drip.pricer.opti
 		return true;
 	}
 
+	/**
+	 * Price the European Calls across the Strike Ladder of a single Expiry in one Carr-Madan (1999) FFT Pass.
+	 * 	The Damped Call Transform is built off of a single Sweep of Characteristic Function Evaluations
+	 * 	(Simpson weighted), transformed onto a Log Strike Grid centered on the Log Forward, and the Ladder
+	 * 	Strikes are read off the Grid using 4 Point Lagrange Interpolation in Log Strike. The Interpolant can
+	 * 	dip marginally below zero for the Far Out-of-the-Money Strikes, so the Prices are floored at zero.
+	 * 
+	 * @param adblStrike Array of the Option Strikes
+	 * @param dbTimeToExpiry Option Time To Expiry
+	 * @param dblRiskFreeRate Option Risk Free Rate
+	 * @param dblUnderlier Option Underlier Value
+	 * @param bIsForward TRUE => The Underlier represents the Forward, FALSE => it represents Spot
+	 * @param dblInitialVolatility Option Initial Volatility Value
+	 * 
+	 * @return Array of the Call Prices, one for each Strike (null => Invalid Inputs, or Strike off the Grid)
+	 */
+
+	public double[] callPriceLadder (
+		final double[] adblStrike,
+		final double dbTimeToExpiry,
+		final double dblRiskFreeRate,
+		final double dblUnderlier,
+		final boolean bIsForward,
+		final double dblInitialVolatility)
+	{
+		if (null == adblStrike || 0 == adblStrike.length || !org.drip.quant.common.NumberUtil.IsValid
+			(dblUnderlier) || 0. >= dblUnderlier || !org.drip.quant.common.NumberUtil.IsValid
+				(dblInitialVolatility) || !org.drip.quant.common.NumberUtil.IsValid (dbTimeToExpiry) || 0. >=
+					dbTimeToExpiry || !org.drip.quant.common.NumberUtil.IsValid (dblRiskFreeRate))
+			return null;
+
+		org.drip.quant.fourier.RotationCountPhaseTracker rcpt =
+			org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_PHASE_TRACKER_ROTATION_COUNT ==
+				_fphp.phaseTrackerType() ? new org.drip.quant.fourier.RotationCountPhaseTracker() : null;
+
+		double dblA = _fphp.kappa() * _fphp.theta();
+
+		double dblB2 = _fphp.kappa() + _fphp.lambda();
+
+		double dblDF = java.lang.Math.exp (-1. * dblRiskFreeRate * dbTimeToExpiry);
+
+		double dblSpot = bIsForward ? dblUnderlier * dblDF : dblUnderlier;
+
+		double dblLogSpot = java.lang.Math.log (dblSpot);
+
+		double dblU2 = -0.5;
+		double dblPreviousPhase = 0.;
+		double[] adblLogF = new double[3];
+		double[] adblTransformReal = new double[CARR_MADAN_GRID_SIZE];
+		double[] adblTransformImaginary = new double[CARR_MADAN_GRID_SIZE];
+		double dblLogStrikeIncrement = 2. * java.lang.Math.PI / (CARR_MADAN_GRID_SIZE *
+			CARR_MADAN_FREQ_INCREMENT);
+		double dblLogStrikeStart = dblLogSpot + dblRiskFreeRate * dbTimeToExpiry - 0.5 *
+			CARR_MADAN_GRID_SIZE * dblLogStrikeIncrement;
+		double dblHeadNumeratorScaler = java.lang.Double.NaN;
+		double dblDampedDenominatorReal = CARR_MADAN_DAMPING * CARR_MADAN_DAMPING + CARR_MADAN_DAMPING;
+
+		/*
+		 * psi (v) = DF * phi (v - (alpha + 1) * i) / (alpha^2 + alpha - v^2 + i * (2 * alpha + 1) * v),
+		 * 	where phi is the Characteristic Function of log (S_T) - the Scheme Probability 2 Transform. The
+		 * 	Sweep stops once |psi| falls below the Tail Tolerance relative to |psi (0)|; the Tail is left at
+		 * 	zero.
+		 */
+
+		for (int j = 0; j < CARR_MADAN_GRID_SIZE; ++j) {
+			double dblFreq = j * CARR_MADAN_FREQ_INCREMENT;
+
+			if (!logCharacteristic (dbTimeToExpiry, dblRiskFreeRate, dblLogSpot, dblInitialVolatility, dblA,
+				dblFreq, -1. * (CARR_MADAN_DAMPING + 1.), dblB2, dblU2, rcpt, adblLogF))
+				return null;
+
+			if (null != rcpt) {
+				if (0 == j)
+					dblPreviousPhase = rcpt.getPreviousPhase();
+				else if (1 == j) {
+					double dblCurrentPhase = rcpt.getPreviousPhase();
+
+					if (dblCurrentPhase < dblPreviousPhase) {
+						if (!rcpt.setDirection
+							(org.drip.quant.fourier.RotationCountPhaseTracker.APPLY_BACKWARD))
+							return null;
+					} else if (dblCurrentPhase > dblPreviousPhase) {
+						if (!rcpt.setDirection
+							(org.drip.quant.fourier.RotationCountPhaseTracker.APPLY_FORWARD))
+							return null;
+					} else
+						return null;
+				}
+			}
+
+			double dblDenominatorReal = dblDampedDenominatorReal - dblFreq * dblFreq;
+			double dblDenominatorImaginary = (2. * CARR_MADAN_DAMPING + 1.) * dblFreq;
+			double dblSimpsonWeight = (0 == j ? 1. : (1 == j % 2 ? 4. : 2.)) * CARR_MADAN_FREQ_INCREMENT / 3.;
+
+			/*
+			 * The Numerator folds in the Grid Start Shift exp (-i * v * k_0) alongside the Simpson Weight. At
+			 * 	v = 0 the Characteristic Function is the (real, positive) Moment E [S_T^(alpha + 1)], so its
+			 * 	Phase is set to zero - the Branch Counts are ambiguous on the Imaginary Axis.
+			 */
+
+			double dblNumeratorScaler = dblDF * dblSimpsonWeight * java.lang.Math.exp (adblLogF[0]) /
+				(dblDenominatorReal * dblDenominatorReal + dblDenominatorImaginary * dblDenominatorImaginary);
+
+			if (0 == j)
+				dblHeadNumeratorScaler = dblNumeratorScaler;
+			else if (dblNumeratorScaler < CARR_MADAN_TAIL_TOLERANCE * dblHeadNumeratorScaler)
+				break;
+
+			double dblNumeratorPhase = 0 == j ? 0. : adblLogF[1] - dblFreq * dblLogStrikeStart;
+
+			double dblNumeratorReal = dblNumeratorScaler * java.lang.Math.cos (dblNumeratorPhase);
+
+			double dblNumeratorImaginary = dblNumeratorScaler * java.lang.Math.sin (dblNumeratorPhase);
+
+			adblTransformReal[j] = dblNumeratorReal * dblDenominatorReal + dblNumeratorImaginary *
+				dblDenominatorImaginary;
+			adblTransformImaginary[j] = dblNumeratorImaginary * dblDenominatorReal - dblNumeratorReal *
+				dblDenominatorImaginary;
+		}
+
+		if (!org.drip.quant.fourier.FastFourierTransform.Forward (adblTransformReal, adblTransformImaginary))
+			return null;
+
+		int iNumStrike = adblStrike.length;
+		double[] adblCallPrice = new double[iNumStrike];
+
+		for (int iStrike = 0; iStrike < iNumStrike; ++iStrike) {
+			if (!org.drip.quant.common.NumberUtil.IsValid (adblStrike[iStrike]) || 0. >= adblStrike[iStrike])
+				return null;
+
+			double dblGridLocation = (java.lang.Math.log (adblStrike[iStrike]) - dblLogStrikeStart) /
+				dblLogStrikeIncrement;
+
+			int iGridLeft = (int) java.lang.Math.floor (dblGridLocation) - 1;
+
+			if (0 > iGridLeft || CARR_MADAN_GRID_SIZE - 4 < iGridLeft) return null;
+
+			double dblCallPrice = 0.;
+
+			for (int i = 0; i < 4; ++i) {
+				double dblLagrangeWeight = 1.;
+
+				for (int k = 0; k < 4; ++k) {
+					if (k != i)
+						dblLagrangeWeight *= (dblGridLocation - iGridLeft - k) / (i - k);
+				}
+
+				dblCallPrice += dblLagrangeWeight * java.lang.Math.exp (-1. * CARR_MADAN_DAMPING *
+					(dblLogStrikeStart + (iGridLeft + i) * dblLogStrikeIncrement)) *
+						adblTransformReal[iGridLeft + i] / java.lang.Math.PI;
+			}
+
+			adblCallPrice[iStrike] = java.lang.Math.max (dblCallPrice, 0.);
+		}
+
+		return adblCallPrice;
+	}
+
 	@Override public double df()
 	{
 		return _dblDF;
@@ -1660,6 +1660,209 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		return 0.;
 	}
 
+	/**
+	 * Generate the Z Spread Cash Flow Kernel, i.e., the (Time, Cash Flow, Base Zero Rate) Vectors of the Bond
+	 * 	Cash Flows to the Work-out. The Kernel prices the Bond off of the Shifted Zero Rates identically to
+	 * 	the Zero Curve derived from the Base Discount Curve, since that Curve is only ever evaluated at its
+	 * 	Knots, i.e., the Cash Flow, the Work-out, and the Cash Pay Dates.
+	 * 
+	 * @param valParams ValuationParams
+	 * @param csqs Bond Market Parameters
+	 * @param vcp Valuation Customization Parameters
+	 * @param iZeroCurveBaseDC The Discount Curve to derive the Zero Curve off of
+	 * @param dblWorkoutDate JulianDate Work-out
+	 * @param dblWorkoutFactor Work-out factor
+	 * 
+	 * @return The Z Spread Cash Flow Kernel
+	 */
+
+	public org.drip.analytics.support.ZSpreadCashflowKernel zSpreadKernel (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final int iZeroCurveBaseDC,
+		final double dblWorkoutDate,
+		final double dblWorkoutFactor)
+	{
+		if (null == valParams || null == csqs || !org.drip.quant.common.NumberUtil.IsValid (dblWorkoutDate)
+			|| !org.drip.quant.common.NumberUtil.IsValid (dblWorkoutFactor))
+			return null;
+
+		double dblValueDate = valParams.valueDate();
+
+		if (dblValueDate >= dblWorkoutDate + LEFT_EOS_SNIP) return null;
+
+		org.drip.analytics.rates.DiscountCurve dcBase = null;
+
+		if (ZERO_OFF_OF_RATES_INSTRUMENTS_DISCOUNT_CURVE == iZeroCurveBaseDC)
+			dcBase = csqs.fundingCurve (fundingLabel());
+		else if (ZERO_OFF_OF_TREASURIES_DISCOUNT_CURVE == iZeroCurveBaseDC)
+			dcBase = csqs.govvieCurve (org.drip.state.identifier.GovvieLabel.Standard (payCurrency()));
+
+		java.util.List<org.drip.analytics.cashflow.CompositePeriod> lsCompositePeriod = couponPeriods();
+
+		if (null == dcBase || null == lsCompositePeriod || 2 > lsCompositePeriod.size()) return null;
+
+		int iFreq = freq();
+
+		java.lang.String strCalendar = currency();
+
+		java.lang.String strDC = couponDC();
+
+		boolean bApplyCpnEOMAdj = _stream.couponEOMAdjustment();
+
+		org.drip.param.valuation.ValuationCustomizationParams vcpZC = null == vcp ? (null ==
+			_marketConvention ? null : _marketConvention.valuationCustomizationParams()) : vcp;
+
+		if (null == strDC || strDC.isEmpty()) strDC = "30/360";
+
+		if (null != vcpZC) {
+			strDC = vcpZC.yieldDayCount();
+
+			iFreq = vcpZC.yieldFreq();
+
+			bApplyCpnEOMAdj = vcpZC.applyYieldEOMAdj();
+
+			strCalendar = vcpZC.yieldCalendar();
+		}
+
+		double dblEpochDate = dcBase.epoch().julian();
+
+		double dblCashPayDate = java.lang.Double.NaN;
+		double dblScalingNotional = java.lang.Double.NaN;
+
+		java.util.List<java.lang.Double> lsCashflowDate = new java.util.ArrayList<java.lang.Double>();
+
+		java.util.List<java.lang.Double> lsCashflow = new java.util.ArrayList<java.lang.Double>();
+
+		try {
+			dblCashPayDate = _marketConvention.settleDate (valParams);
+		} catch (java.lang.Exception e) {
+			if (!s_bSuppressErrors) e.printStackTrace();
+
+			dblCashPayDate = valParams.cashPayDate();
+		}
+
+		if (null != _notionalSetting && _notionalSetting.priceOffOfOriginalNotional())
+			dblScalingNotional = 1.;
+
+		try {
+			org.drip.analytics.output.CompositePeriodCouponMetrics pcm = couponMetrics (dblValueDate,
+				valParams, csqs);
+
+			if (null == pcm) return null;
+
+			double dblCoupon = pcm.rate();
+
+			for (org.drip.analytics.cashflow.CompositePeriod period : lsCompositePeriod) {
+				double dblPeriodPayDate = period.payDate();
+
+				if (dblPeriodPayDate < dblValueDate) continue;
+
+				boolean bTerminateCouponFlow = false;
+
+				double dblPeriodStartDate = period.startDate();
+
+				if (!org.drip.quant.common.NumberUtil.IsValid (dblScalingNotional))
+					dblScalingNotional = notional (dblPeriodStartDate);
+
+				double dblAccrualEndDate = period.endDate();
+
+				double dblNotionalEndDate = period.endDate();
+
+				if (dblAccrualEndDate >= dblWorkoutDate) {
+					bTerminateCouponFlow = true;
+					dblAccrualEndDate = dblWorkoutDate;
+					dblNotionalEndDate = dblWorkoutDate;
+				}
+
+				lsCashflowDate.add (dblPeriodPayDate);
+
+				lsCashflow.add (kernelCashflow (period, dblAccrualEndDate, dblNotionalEndDate, dblCoupon));
+
+				if (bTerminateCouponFlow) break;
+			}
+
+			lsCashflowDate.add (dblWorkoutDate);
+
+			lsCashflow.add (dblWorkoutFactor * notional (dblWorkoutDate));
+
+			int iNumNode = lsCashflowDate.size();
+
+			double[] adblTime = new double[iNumNode];
+			double[] adblCashflow = new double[iNumNode];
+			double[] adblBaseZeroRate = new double[iNumNode];
+
+			for (int i = 0; i < iNumNode; ++i) {
+				double[] adblTimeZeroRate = zeroRateNode (lsCashflowDate.get (i), dblEpochDate, dcBase,
+					iFreq, strDC, bApplyCpnEOMAdj, strCalendar);
+
+				if (null == adblTimeZeroRate) return null;
+
+				adblTime[i] = adblTimeZeroRate[0];
+				adblCashflow[i] = lsCashflow.get (i);
+				adblBaseZeroRate[i] = adblTimeZeroRate[1];
+			}
+
+			double[] adblCashPayTimeZeroRate = zeroRateNode (dblCashPayDate, dblEpochDate, dcBase, iFreq,
+				strDC, bApplyCpnEOMAdj, strCalendar);
+
+			return null == adblCashPayTimeZeroRate ? null : new
+				org.drip.analytics.support.ZSpreadCashflowKernel (iFreq, adblTime, adblCashflow,
+					adblBaseZeroRate, adblCashPayTimeZeroRate[0], adblCashPayTimeZeroRate[1], accrued
+						(dblValueDate, csqs), dblScalingNotional);
+		} catch (java.lang.Exception e) {
+			if (!s_bSuppressErrors) e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	private double kernelCashflow (
+		final org.drip.analytics.cashflow.CompositePeriod period,
+		final double dblAccrualEndDate,
+		final double dblNotionalEndDate,
+		final double dblCoupon)
+		throws java.lang.Exception
+	{
+		double dblPeriodStartDate = period.startDate();
+
+		double dblCouponNotional = notional (dblPeriodStartDate);
+
+		if (org.drip.product.params.NotionalSetting.PERIOD_AMORT_AT_END ==
+			_notionalSetting.periodAmortizationMode())
+			dblCouponNotional = notional (dblNotionalEndDate);
+		else if (org.drip.product.params.NotionalSetting.PERIOD_AMORT_EFFECTIVE ==
+			_notionalSetting.periodAmortizationMode())
+			dblCouponNotional = notional (dblPeriodStartDate, dblNotionalEndDate);
+
+		return period.accrualDCF (dblAccrualEndDate) * dblCoupon * dblCouponNotional + notional
+			(dblPeriodStartDate) - notional (dblNotionalEndDate);
+	}
+
+	private double[] zeroRateNode (
+		final double dblDate,
+		final double dblEpochDate,
+		final org.drip.analytics.rates.DiscountCurve dcBase,
+		final int iFreq,
+		final java.lang.String strDC,
+		final boolean bApplyCpnEOMAdj,
+		final java.lang.String strCalendar)
+		throws java.lang.Exception
+	{
+		if (dblDate <= dblEpochDate) return new double[] {0., 0.};
+
+		double dblYearFraction = org.drip.analytics.daycount.Convention.YearFraction (dblEpochDate, dblDate,
+			strDC, bApplyCpnEOMAdj, null, strCalendar);
+
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblYearFraction) || 0. > dblYearFraction) return null;
+
+		if (0. == dblYearFraction) return new double[] {0., 0.};
+
+		return new double[] {dblYearFraction, org.drip.analytics.support.AnalyticsHelper.DF2Yield (iFreq,
+			dcBase.df (dblDate), dblYearFraction)};
+	}
+
 	@Override public double priceFromBumpedZC (
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
@@ -1709,6 +1912,11 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 
 		java.util.List<org.drip.analytics.cashflow.CompositePeriod> lsCompositePeriod = couponPeriods();
 
+		org.drip.analytics.output.CompositePeriodCouponMetrics pcm = couponMetrics (dblValueDate, valParams,
+			csqs);
+
+		if (null == pcm) throw new java.lang.Exception ("BondComponent::priceFromBumpedZC => No PCM");
+
 		try {
 			zc = org.drip.state.creator.ZeroCurveBuilder.CreateZeroCurve (freq(), couponDC(), currency(),
 				_stream.couponEOMAdjustment(), lsCompositePeriod, dblWorkoutDate, dblCashPayDate, dcBase,
@@ -1748,11 +1956,6 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 				dblNotionalEndDate = dblWorkoutDate;
 			}
 
-			org.drip.analytics.output.CompositePeriodCouponMetrics pcm = couponMetrics (dblValueDate,
-				valParams, csqs);
-
-			if (null == pcm) throw new java.lang.Exception ("BondComponent::priceFromBumpedZC => No PCM");
-
 			double dblZCDF = zc.df (dblPeriodPayDate);
 
 			double dblCouponNotional = notional (dblPeriodStartDate);
@@ -6250,6 +6453,12 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			strCalendar = _marketConvention.valuationCustomizationParams().yieldCalendar();
 		}
 
+		org.drip.analytics.output.CompositePeriodCouponMetrics pcm = couponMetrics (dblValueDate, valParams,
+			csqs);
+
+		if (null == pcm)
+			throw new java.lang.Exception ("BondComponent::calcMacaulayDurationFromYield => No PCM");
+
 		for (org.drip.analytics.cashflow.CompositePeriod period : couponPeriods()) {
 			double dblPeriodPayDate = period.payDate();
 
@@ -6273,12 +6482,6 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 				dblPeriodEndDate = dblWorkoutDate;
 			}
 
-			org.drip.analytics.output.CompositePeriodCouponMetrics pcm = couponMetrics (dblValueDate,
-				valParams, csqs);
-
-			if (null == pcm)
-				throw new java.lang.Exception ("BondComponent::calcMacaulayDurationFromYield => No PCM");
-
 			aap = new org.drip.analytics.daycount.ActActDCParams (iFrequency, dblPeriodStartDate,
 				dblPeriodEndDate);
 
@@ -8238,6 +8441,171 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			dblTSYSpread);
 	}
 
+	/**
+	 * Compile the Yield Cash Flow Kernel, i.e., the Year Fractions and the Cash Flows of the Bond to the
+	 * 	Work-out, along with the Cash Pay Year Fraction, the Accrued, and the Scaling Notional, using the same
+	 * 	Yield Conventions as priceFromYield.
+	 * 
+	 * @param valParams ValuationParams
+	 * @param csqs Bond Market Parameters
+	 * @param vcp Valuation Customization Parameters
+	 * @param dblWorkoutDate JulianDate Work-out
+	 * @param dblWorkoutFactor Work-out factor
+	 * 
+	 * @return The Yield Cash Flow Kernel
+	 */
+
+	public org.drip.analytics.support.YieldCashflowKernel yieldKernel (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final double dblWorkoutDate,
+		final double dblWorkoutFactor)
+	{
+		if (null == valParams || !org.drip.quant.common.NumberUtil.IsValid (dblWorkoutDate) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblWorkoutFactor))
+			return null;
+
+		double dblValueDate = valParams.valueDate();
+
+		if (dblValueDate >= dblWorkoutDate + LEFT_EOS_SNIP) return null;
+
+		double dblCFPeriod = 0.;
+		boolean bFirstPeriod = true;
+		double dblCashPayDate = java.lang.Double.NaN;
+		double dblScalingNotional = java.lang.Double.NaN;
+		org.drip.analytics.daycount.ActActDCParams aap = null;
+
+		java.util.List<java.lang.Double> lsTime = new java.util.ArrayList<java.lang.Double>();
+
+		java.util.List<java.lang.Double> lsCashflow = new java.util.ArrayList<java.lang.Double>();
+
+		if (null != _notionalSetting && _notionalSetting.priceOffOfOriginalNotional())
+			dblScalingNotional = 1.;
+
+		int iFrequency = freq();
+
+		java.lang.String strDC = couponDC();
+
+		boolean bApplyCpnEOMAdj = _stream.couponEOMAdjustment();
+
+		java.lang.String strCalendar = currency();
+
+		if (null == strCalendar || strCalendar.isEmpty()) strCalendar = redemptionCurrency();
+
+		if (null != vcp) {
+			strDC = vcp.yieldDayCount();
+
+			iFrequency = vcp.yieldFreq();
+
+			bApplyCpnEOMAdj = vcp.applyYieldEOMAdj();
+
+			strCalendar = vcp.yieldCalendar();
+		} else if (null != _marketConvention && null != _marketConvention.valuationCustomizationParams()) {
+			strDC = _marketConvention.valuationCustomizationParams().yieldDayCount();
+
+			iFrequency = _marketConvention.valuationCustomizationParams().yieldFreq();
+
+			bApplyCpnEOMAdj = _marketConvention.valuationCustomizationParams().applyYieldEOMAdj();
+
+			strCalendar = _marketConvention.valuationCustomizationParams().yieldCalendar();
+		}
+
+		try {
+			org.drip.analytics.output.CompositePeriodCouponMetrics pcm = couponMetrics (dblValueDate,
+				valParams, csqs);
+
+			if (null == pcm) return null;
+
+			double dblPeriodCoupon = pcm.rate();
+
+			double dblCumulative = pcm.cumulative();
+
+			for (org.drip.analytics.cashflow.CompositePeriod period : couponPeriods()) {
+				double dblPayDate = period.payDate();
+
+				if (dblPayDate < dblValueDate) continue;
+
+				if (bFirstPeriod) {
+					bFirstPeriod = false;
+
+					dblCFPeriod = period.couponDCF() - period.accrualDCF (dblValueDate);
+				} else
+					dblCFPeriod += period.couponDCF();
+
+				boolean bTerminateCouponFlow = false;
+
+				double dblEndDate = period.endDate();
+
+				double dblStartDate = period.startDate();
+
+				if (dblEndDate >= dblWorkoutDate) {
+					dblEndDate = dblWorkoutDate;
+					bTerminateCouponFlow = true;
+				}
+
+				if (!org.drip.quant.common.NumberUtil.IsValid (dblScalingNotional))
+					dblScalingNotional = notional (dblStartDate);
+
+				aap = new org.drip.analytics.daycount.ActActDCParams (iFrequency, dblStartDate, dblEndDate);
+
+				if (null != vcp) {
+					if (null == (aap = vcp.yieldAAP()))
+						aap = new org.drip.analytics.daycount.ActActDCParams (vcp.yieldFreq(), dblStartDate,
+							dblEndDate);
+				} else if (null != _marketConvention && null !=
+					_marketConvention.valuationCustomizationParams()) {
+					if (null == (aap = _marketConvention.valuationCustomizationParams().yieldAAP()))
+						aap = new org.drip.analytics.daycount.ActActDCParams
+							(_marketConvention.valuationCustomizationParams().yieldFreq(), dblStartDate,
+								dblEndDate);
+				}
+
+				lsTime.add (s_bYieldDFOffofCouponAccrualDCF ? dblCFPeriod :
+					org.drip.analytics.daycount.Convention.YearFraction (dblValueDate, dblPayDate, strDC,
+						bApplyCpnEOMAdj, aap, strCalendar));
+
+				lsCashflow.add (kernelCashflow (period, dblEndDate, dblEndDate, dblPeriodCoupon) *
+					dblCumulative);
+
+				if (bTerminateCouponFlow) break;
+			}
+
+			try {
+				dblCashPayDate = _marketConvention.settleDate (valParams);
+			} catch (java.lang.Exception e) {
+				if (!s_bSuppressErrors) e.printStackTrace();
+
+				dblCashPayDate = valParams.cashPayDate();
+			}
+
+			lsTime.add (s_bYieldDFOffofCouponAccrualDCF ? dblCFPeriod :
+				org.drip.analytics.daycount.Convention.YearFraction (dblValueDate, dblWorkoutDate, strDC,
+					bApplyCpnEOMAdj, aap, strCalendar));
+
+			lsCashflow.add (dblWorkoutFactor * notional (dblWorkoutDate));
+
+			int iNumNode = lsTime.size();
+
+			double[] adblTime = new double[iNumNode];
+			double[] adblCashflow = new double[iNumNode];
+
+			for (int i = 0; i < iNumNode; ++i) {
+				adblTime[i] = lsTime.get (i);
+
+				adblCashflow[i] = lsCashflow.get (i);
+			}
+
+			return new org.drip.analytics.support.YieldCashflowKernel (iFrequency, adblTime, adblCashflow,
+				org.drip.analytics.daycount.Convention.YearFraction (dblValueDate, dblCashPayDate, strDC,
+					bApplyCpnEOMAdj, aap, strCalendar), accrued (dblValueDate, csqs), dblScalingNotional);
+		} catch (java.lang.Exception e) {
+			if (!s_bSuppressErrors) e.printStackTrace();
+		}
+
+		return null;
+	}
+
 	@Override public double priceFromYield (
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
@@ -8295,6 +8663,13 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			strCalendar = _marketConvention.valuationCustomizationParams().yieldCalendar();
 		}
 
+		org.drip.analytics.output.CompositePeriodCouponMetrics pcm = couponMetrics (dblValueDate, valParams,
+			csqs);
+
+		if (null == pcm) throw new java.lang.Exception ("BondComponent::priceFromYield => No PCM");
+
+		double dblPeriodCoupon = pcm.rate();
+
 		for (org.drip.analytics.cashflow.CompositePeriod period : couponPeriods()) {
 			double dblPayDate = period.payDate();
 
@@ -8319,13 +8694,6 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			if (!org.drip.quant.common.NumberUtil.IsValid (dblScalingNotional))
 				dblScalingNotional = notional (dblStartDate);
 
-			org.drip.analytics.output.CompositePeriodCouponMetrics pcm = couponMetrics (dblValueDate,
-				valParams, csqs);
-
-			if (null == pcm) throw new java.lang.Exception ("BondComponent::priceFromYield => No PCM");
-
-			double dblPeriodCoupon = pcm.rate();
-
 			aap = new org.drip.analytics.daycount.ActActDCParams (iFrequency, dblStartDate, dblEndDate);
 
 			if (null != vcp) {
@@ -11237,6 +11605,58 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		return mapMeasures;
 	}
 
+	@Override public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> value (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.PricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final java.util.Set<java.lang.String> setstrMeasure)
+	{
+		if (null == setstrMeasure || null == valParams || null == csqs || (null != pricerParams && null !=
+			pricerParams.calibParams()))
+			return super.value (valParams, pricerParams, csqs, vcp, setstrMeasure);
+
+		/*
+		 * The Market Workout Re-valuation overwrites the un-prefixed Measures, and generates the Par Spread/
+		 * 	Zero Discount Margin, so it is only skipped if there is no Market Quote, or if all the requested
+		 * 	Measures are the "Fair" Aliases.
+		 */
+
+		boolean bProductQuote = null != csqs.productQuote (name());
+
+		for (java.lang.String strMeasure : setstrMeasure) {
+			if (null == strMeasure) continue;
+
+			boolean bFairAlias = 4 < strMeasure.length() && strMeasure.regionMatches (true, 0, "Fair", 0, 4);
+
+			java.lang.String strBaseMeasure = bFairAlias ? strMeasure.substring (4) : strMeasure;
+
+			if ("ParSpread".equalsIgnoreCase (strBaseMeasure) || "ZeroDiscountMargin".equalsIgnoreCase
+				(strBaseMeasure) || (bProductQuote && !bFairAlias))
+				return super.value (valParams, pricerParams, csqs, vcp, setstrMeasure);
+		}
+
+		/*
+		 * The Cash Flow Workout Measures do not need the RV Measures (and their Yield/Spread Solves).
+		 */
+
+		org.drip.analytics.output.BondWorkoutMeasures bwmFair = workoutMeasures (valParams, pricerParams,
+			csqs, maturityDate().julian(), 1.);
+
+		if (null == bwmFair) return null;
+
+		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapWorkoutMeasures =
+			bwmFair.toMap ("");
+
+		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasures =
+			org.drip.quant.common.CollectionUtil.Subset (mapWorkoutMeasures, setstrMeasure, "Fair");
+
+		if (null != mapMeasures && mapMeasures.size() == setstrMeasure.size()) return mapMeasures;
+
+		return org.drip.quant.common.CollectionUtil.Subset (fairMeasures (valParams, pricerParams, csqs, vcp),
+			setstrMeasure, null);
+	}
+
 	@Override public java.util.Set<java.lang.String> measureNames()
 	{
 		java.util.Set<java.lang.String> setstrMeasureNames = new java.util.TreeSet<java.lang.String>();
@@ -11676,7 +12096,8 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 	/**
 	 * The BondCalibrator implements a calibrator that calibrates the yield, the credit basis, or the Z
 	 * 		Spread for the bond given the price input. Calibration happens via either Newton-Raphson method,
-	 * 		or via bracketing/root searching.
+	 * 		or via bracketing/root searching. Calibrations without an explicit Hint start cold - callers
+	 * 		holding a Prior Root (e.g., Yesterday's) warm start off of it through the Hinted variants.
 	 * 
 	 * @author Lakshmi Krishnamurthy
 	 *
@@ -11702,7 +12123,8 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		}
 
 		/**
-		 * Calibrate the bond yield from the market price using the root bracketing technique.
+		 * Calibrate the bond yield from the market price using Newton's Method on the Yield Cash Flow
+		 * 	Kernel, falling back to the root bracketing technique.
 		 * 
 		 * @param valParams Valuation Parameters
 		 * @param csqs Bond Market Parameters
@@ -11723,6 +12145,48 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			final double dblPrice)
 			throws java.lang.Exception
 		{
+			return calibrateYieldFromPrice (valParams, csqs, dblWorkoutDate, dblWorkoutFactor, dblPrice,
+				java.lang.Double.NaN);
+		}
+
+		/**
+		 * Calibrate the bond yield from the market price starting off of the Prior Yield (e.g., Yesterday's
+		 * 	Yield) using Newton's Method on the Yield Cash Flow Kernel, falling back to the root bracketing
+		 * 	technique warm started from the Prior Yield.
+		 * 
+		 * @param valParams Valuation Parameters
+		 * @param csqs Bond Market Parameters
+		 * @param dblWorkoutDate JulianDate Work-out
+		 * @param dblWorkoutFactor Work-out factor
+		 * @param dblPrice Price to be calibrated to
+		 * @param dblYieldHint The Prior Yield (NaN => Cold Start)
+		 * 
+		 * @return The calibrated Yield
+		 * 
+		 * @throws java.lang.Exception Thrown if the yield cannot be calibrated
+		 */
+
+		public double calibrateYieldFromPrice (
+			final org.drip.param.valuation.ValuationParams valParams,
+			final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+			final double dblWorkoutDate,
+			final double dblWorkoutFactor,
+			final double dblPrice,
+			final double dblYieldHint)
+			throws java.lang.Exception
+		{
+			org.drip.analytics.support.YieldCashflowKernel yck = _bond.yieldKernel (valParams, csqs, null,
+				dblWorkoutDate, dblWorkoutFactor);
+
+			if (null != yck) {
+				try {
+					return yck.yieldFromPrice (dblPrice, org.drip.quant.common.NumberUtil.IsValid
+						(dblYieldHint) ? dblYieldHint : 0.);
+				} catch (java.lang.Exception e) {
+					if (!s_bSuppressErrors) e.printStackTrace();
+				}
+			}
+
 			org.drip.function.deterministic.R1ToR1 ofYieldToPrice = new
 				org.drip.function.deterministic.R1ToR1 (null) {
 				@Override public double evaluate (
@@ -11735,11 +12199,13 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			};
 
 			org.drip.function.solver1D.FixedPointFinderOutput rfop = new
-				org.drip.function.solver1D.FixedPointFinderNewton (0., ofYieldToPrice, true).findRoot();
+				org.drip.function.solver1D.FixedPointFinderNewton (0., ofYieldToPrice, true).findRoot
+					(org.drip.function.solver1D.InitializationHeuristics.FromWarmStart (dblYieldHint));
 
 			if (null == rfop || !rfop.containsRoot()) {
 				rfop = new org.drip.function.solver1D.FixedPointFinderZheng (0., ofYieldToPrice,
-					true).findRoot();
+					true).findRoot (org.drip.function.solver1D.InitializationHeuristics.FromWarmStart
+						(dblYieldHint));
 
 				if (null == rfop || !rfop.containsRoot())
 					throw new java.lang.Exception
@@ -11750,7 +12216,8 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		}
 
 		/**
-		 * Calibrate the bond Z Spread from the market price using the root bracketing technique.
+		 * Calibrate the bond Z Spread from the market price using Newton's Method on the Z Spread Cash Flow
+		 * 	Kernel, falling back to the root bracketing technique on the Bumped Zero Curve.
 		 * 
 		 * @param valParams Valuation Parameters
 		 * @param csqs Bond Market Parameters
@@ -11772,11 +12239,55 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			final double dblWorkoutFactor,
 			final double dblPrice)
 			throws java.lang.Exception
+		{
+			return calibrateZSpreadFromPrice (valParams, csqs, iZeroCurveBaseDC, dblWorkoutDate,
+				dblWorkoutFactor, dblPrice, java.lang.Double.NaN);
+		}
+
+		/**
+		 * Calibrate the bond Z Spread from the market price starting off of the Prior Z Spread using
+		 * 	Newton's Method on the Z Spread Cash Flow Kernel, falling back to the root bracketing technique
+		 * 	on the Bumped Zero Curve warm started from the Prior Z Spread.
+		 * 
+		 * @param valParams Valuation Parameters
+		 * @param csqs Bond Market Parameters
+		 * @param iZeroCurveBaseDC The Discount Curve to derive the zero curve off of
+		 * @param dblWorkoutDate JulianDate Work-out
+		 * @param dblWorkoutFactor Work-out factor
+		 * @param dblPrice Price to be calibrated to
+		 * @param dblZSpreadHint The Prior Z Spread (NaN => Cold Start)
+		 * 
+		 * @return The calibrated Z Spread
+		 * 
+		 * @throws java.lang.Exception Thrown if the Z Spread cannot be calibrated
+		 */
+
+		public double calibrateZSpreadFromPrice (
+			final org.drip.param.valuation.ValuationParams valParams,
+			final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+			final int iZeroCurveBaseDC,
+			final double dblWorkoutDate,
+			final double dblWorkoutFactor,
+			final double dblPrice,
+			final double dblZSpreadHint)
+			throws java.lang.Exception
 		{
 			if (null != _floaterSetting)
 				throw new java.lang.Exception
 					("BondComponent::BondCalibrator::calibZSpreadFromPrice => Z Spread Calculation turned off for floaters!");
 
+			org.drip.analytics.support.ZSpreadCashflowKernel zsck = _bond.zSpreadKernel (valParams, csqs,
+				null, iZeroCurveBaseDC, dblWorkoutDate, dblWorkoutFactor);
+
+			if (null != zsck) {
+				try {
+					return zsck.zSpreadFromPrice (dblPrice, org.drip.quant.common.NumberUtil.IsValid
+						(dblZSpreadHint) ? dblZSpreadHint : 0.);
+				} catch (java.lang.Exception e) {
+					if (!s_bSuppressErrors) e.printStackTrace();
+				}
+			}
+
 			org.drip.function.deterministic.R1ToR1 ofZSpreadToPrice = new
 				org.drip.function.deterministic.R1ToR1 (null) {
 				@Override public double evaluate (
@@ -11789,7 +12300,8 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			};
 
 			org.drip.function.solver1D.FixedPointFinderOutput rfop = new
-				org.drip.function.solver1D.FixedPointFinderBrent (0., ofZSpreadToPrice, true).findRoot();
+				org.drip.function.solver1D.FixedPointFinderBrent (0., ofZSpreadToPrice, true).findRoot
+					(org.drip.function.solver1D.InitializationHeuristics.FromWarmStart (dblZSpreadHint));
 
 			if (null == rfop || !rfop.containsRoot())
 				throw new java.lang.Exception
@@ -11820,6 +12332,35 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			final double dblWorkoutFactor,
 			final double dblPriceCalib)
 			throws java.lang.Exception
+		{
+			return calibDiscCurveSpreadFromPrice (valParams, csqs, dblWorkoutDate, dblWorkoutFactor,
+				dblPriceCalib, java.lang.Double.NaN);
+		}
+
+		/**
+		 * Calibrate the bond Z Spread from the market price starting off of the Prior Z Spread. Calibration is
+		 * 	done by bumping the discount curve.
+		 * 
+		 * @param valParams Valuation Parameters
+		 * @param csqs Bond Market Parameters
+		 * @param dblWorkoutDate JulianDate Work-out
+		 * @param dblWorkoutFactor Work-out factor
+		 * @param dblPriceCalib Price to be calibrated to
+		 * @param dblZSpreadHint The Prior Z Spread (NaN => Cold Start)
+		 * 
+		 * @return The calibrated Z Spread
+		 * 
+		 * @throws java.lang.Exception Thrown if the yield cannot be calibrated
+		 */
+
+		public double calibDiscCurveSpreadFromPrice (
+			final org.drip.param.valuation.ValuationParams valParams,
+			final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+			final double dblWorkoutDate,
+			final double dblWorkoutFactor,
+			final double dblPriceCalib,
+			final double dblZSpreadHint)
+			throws java.lang.Exception
 		{
 			org.drip.function.deterministic.R1ToR1 ofZSpreadToPrice = new
 				org.drip.function.deterministic.R1ToR1 (null) {
@@ -11833,7 +12374,8 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			};
 
 			org.drip.function.solver1D.FixedPointFinderOutput rfop = new
-				org.drip.function.solver1D.FixedPointFinderBrent (0., ofZSpreadToPrice, true).findRoot();
+				org.drip.function.solver1D.FixedPointFinderBrent (0., ofZSpreadToPrice, true).findRoot
+					(org.drip.function.solver1D.InitializationHeuristics.FromWarmStart (dblZSpreadHint));
 
 			if (null == rfop || !rfop.containsRoot())
 				throw new java.lang.Exception
@@ -11865,6 +12407,37 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			final double dblWorkoutFactor,
 			final double dblPriceCalib)
 			throws java.lang.Exception
+		{
+			return calibZeroCurveSpreadFromPrice (valParams, csqs, vcp, dblWorkoutDate, dblWorkoutFactor,
+				dblPriceCalib, java.lang.Double.NaN);
+		}
+
+		/**
+		 * Calibrate the bond Z Spread from the market price starting off of the Prior Z Spread. Calibration is
+		 * 	done by bumping the Zero Curve.
+		 * 
+		 * @param valParams Valuation Parameters
+		 * @param csqs Bond Market Parameters
+		 * @param vcp Quoting Parameters
+		 * @param dblWorkoutDate JulianDate Work-out
+		 * @param dblWorkoutFactor Work-out factor
+		 * @param dblPriceCalib Price to be calibrated to
+		 * @param dblZSpreadHint The Prior Z Spread (NaN => Cold Start)
+		 * 
+		 * @return The calibrated Z Spread
+		 * 
+		 * @throws java.lang.Exception Thrown if the yield cannot be calibrated
+		 */
+
+		public double calibZeroCurveSpreadFromPrice (
+			final org.drip.param.valuation.ValuationParams valParams,
+			final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+			final org.drip.param.valuation.ValuationCustomizationParams vcp,
+			final double dblWorkoutDate,
+			final double dblWorkoutFactor,
+			final double dblPriceCalib,
+			final double dblZSpreadHint)
+			throws java.lang.Exception
 		{
 			if (null != _floaterSetting)
 				throw new java.lang.Exception
@@ -11882,7 +12455,8 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			};
 
 			org.drip.function.solver1D.FixedPointFinderOutput rfop = new
-				org.drip.function.solver1D.FixedPointFinderBrent (0., ofZSpreadToPrice, true).findRoot();
+				org.drip.function.solver1D.FixedPointFinderBrent (0., ofZSpreadToPrice, true).findRoot
+					(org.drip.function.solver1D.InitializationHeuristics.FromWarmStart (dblZSpreadHint));
 
 			if (null == rfop || !rfop.containsRoot())
 				throw new java.lang.Exception
@@ -11913,6 +12487,35 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			final double dblPriceCalib,
 			final boolean bFlatCalib)
 			throws java.lang.Exception
+		{
+			return calibrateCreditBasisFromPrice (valParams, csqs, dblWorkoutDate, dblWorkoutFactor,
+				dblPriceCalib, bFlatCalib, java.lang.Double.NaN);
+		}
+
+		/**
+		 * Calibrate the bond Credit Basis from the market price starting off of the Prior Credit Basis
+		 * 
+		 * @param valParams Valuation Parameters
+		 * @param csqs Bond Market Parameters
+		 * @param dblWorkoutDate JulianDate Work-out
+		 * @param dblWorkoutFactor Work-out factor
+		 * @param dblPriceCalib Price to be calibrated to
+		 * @param dblCreditBasisHint The Prior Credit Basis (NaN => Cold Start)
+		 * 
+		 * @return The calibrated Credit Basis
+		 * 
+		 * @throws java.lang.Exception Thrown if the Credit Basis cannot be calibrated
+		 */
+
+		public double calibrateCreditBasisFromPrice (
+			final org.drip.param.valuation.ValuationParams valParams,
+			final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+			final double dblWorkoutDate,
+			final double dblWorkoutFactor,
+			final double dblPriceCalib,
+			final boolean bFlatCalib,
+			final double dblCreditBasisHint)
+			throws java.lang.Exception
 		{
 			org.drip.function.deterministic.R1ToR1 ofCreditBasisToPrice = new
 				org.drip.function.deterministic.R1ToR1 (null) {
@@ -11926,7 +12529,9 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			};
 
 			org.drip.function.solver1D.FixedPointFinderOutput rfop = new
-				org.drip.function.solver1D.FixedPointFinderBrent (0., ofCreditBasisToPrice, true).findRoot();
+				org.drip.function.solver1D.FixedPointFinderBrent (0., ofCreditBasisToPrice,
+					true).findRoot (org.drip.function.solver1D.InitializationHeuristics.FromWarmStart
+						(dblCreditBasisHint));
 
 			if (null == rfop || !rfop.containsRoot())
 				throw new java.lang.Exception
@@ -47,6 +47,56 @@ package org.drip.product.credit;
  */
 
 public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap {
+	private static final int MEASURE_ACCRUAL_DAYS = 0;
+	private static final int MEASURE_ACCRUED = 1;
+	private static final int MEASURE_ACCRUED01 = 2;
+	private static final int MEASURE_CLEAN_DV01 = 3;
+	private static final int MEASURE_CLEAN_PV = 4;
+	private static final int MEASURE_DV01 = 5;
+	private static final int MEASURE_DIRTY_DV01 = 6;
+	private static final int MEASURE_DIRTY_PV = 7;
+	private static final int MEASURE_EXP_LOSS = 8;
+	private static final int MEASURE_EXP_LOSS_NO_REC = 9;
+	private static final int MEASURE_FAIR_PREMIUM = 10;
+	private static final int MEASURE_LOSS_NO_REC_PV = 11;
+	private static final int MEASURE_LOSS_PV = 12;
+	private static final int MEASURE_PAR_SPREAD = 13;
+	private static final int MEASURE_PREMIUM_PV = 14;
+	private static final int MEASURE_PV = 15;
+	private static final int MEASURE_UPFRONT = 16;
+	private static final int MEASURE_CLEAN_PRICE = 17;
+	private static final int MEASURE_DIRTY_PRICE = 18;
+	private static final int MEASURE_LOSS_ON_INSTANTANEOUS_DEFAULT = 19;
+	private static final int MEASURE_PRICE = 20;
+	private static final int MEASURE_CALC_TIME = 21;
+
+	private static final java.lang.String[] MEASURE_NAME = new java.lang.String[] {"AccrualDays", "Accrued",
+		"Accrued01", "CleanDV01", "CleanPV", "DV01", "DirtyDV01", "DirtyPV", "ExpLoss", "ExpLossNoRec",
+			"FairPremium", "LossNoRecPV", "LossPV", "ParSpread", "PremiumPV", "PV", "Upfront", "CleanPrice",
+				"DirtyPrice", "LossOnInstantaneousDefault", "Price", "CalcTime"};
+
+	private static final java.lang.String[] MARKET_INPUT_TYPE = new java.lang.String[] {"Price", "CleanPrice",
+		"Upfront", "FairPremium", "PV", "CleanPV", "ParSpread"};
+
+	/*
+	 * The Measure each Market Input Type is calibrated against - the Spread Quotes are matched to the Fair
+	 * 	Premium, the Price/PV Quotes to the corresponding Measure.
+	 */
+
+	private static final java.lang.String[] MARKET_CALIB_MEASURE = new java.lang.String[] {"Price",
+		"CleanPrice", "Upfront", "FairPremium", "PV", "CleanPV", "FairPremium"};
+
+	private static final int FAIR_MEASURE_BLOCK = MEASURE_NAME.length;
+	private static final int MARKET_MEASURE_BLOCK = 2 * MEASURE_NAME.length;
+	private static final int MARKET_INPUT_TYPE_SLOT = 3 * MEASURE_NAME.length;
+	private static final int MARKET_CREDIT_BASIS_SLOT = MARKET_INPUT_TYPE_SLOT + MARKET_INPUT_TYPE.length;
+
+	private static final org.drip.analytics.output.MeasureSchema MEASURE_SCHEMA =
+		org.drip.analytics.output.MeasureSchema.Create (MEASURE_NAME, new java.lang.String[] {"", "Fair",
+			"Market"}, new java.lang.String[] {"MarketInputType=Price", "MarketInputType=CleanPrice",
+				"MarketInputType=Upfront", "MarketInputType=FairPremium", "MarketInputType=PV",
+					"MarketInputType=CleanPV", "MarketInputType=ParSpread", "MarketCreditBasis"});
+
 	private double _dblNotional = 100.;
 	private java.lang.String _strCode = "";
 	private java.lang.String _strName = "";
@@ -70,20 +120,21 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 		return null;
 	}
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> measures (
-		final java.lang.String strMeasureSetPrefix,
+	private boolean measures (
+		final org.drip.analytics.output.MeasureVector mv,
+		final int iBlockSlot,
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.param.pricer.PricerParams pricerParams,
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
 		final org.drip.param.valuation.ValuationCustomizationParams vcp)
 	{
-		if (null == valParams || null == pricerParams || null == csqs) return null;
+		if (null == mv || null == valParams || null == pricerParams || null == csqs) return false;
 
 		org.drip.analytics.definition.CreditCurve cc = csqs.creditCurve (creditLabel());
 
 		org.drip.analytics.rates.DiscountCurve dcFunding = csqs.fundingCurve (fundingLabel());
 
-		if (null == cc || null == dcFunding) return null;
+		if (null == cc || null == dcFunding) return false;
 
 		long lStart = System.nanoTime();
 
@@ -132,20 +183,13 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 					valParams, pricerParams, dblEndDate, csqs)) {
 					if (null == lp) continue;
 
-					double dblSubPeriodEnd = lp.end();
-
-					double dblSubPeriodStart = lp.start();
-
-					double dblSubPeriodDF = dcFunding.effectiveDF (dblSubPeriodStart +
-						_crValParams.lossPayLag(), dblSubPeriodEnd + _crValParams.lossPayLag());
+					double dblSubPeriodDF = lp.effectiveDF();
 
-					double dblSubPeriodNotional = notional (dblSubPeriodStart, dblSubPeriodEnd);
+					double dblSubPeriodNotional = lp.effectiveNotional();
 
-					double dblSubPeriodSurvival = cc.survival (dblSubPeriodStart) - cc.survival
-						(dblSubPeriodEnd);
+					double dblSubPeriodSurvival = lp.startSurvival() - lp.endSurvival();
 
-					double dblRec = _crValParams.useCurveRecovery() ? cc.effectiveRecovery (dblSubPeriodStart,
-						dblSubPeriodEnd) : _crValParams.recovery();
+					double dblRec = lp.effectiveRecovery();
 
 					double dblSubPeriodExpLoss = (1. - dblRec) * 100. * dblSubPeriodSurvival *
 						dblSubPeriodNotional;
@@ -162,7 +206,7 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 
-			return null;
+			return false;
 		}
 
 		try {
@@ -171,7 +215,7 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 
-			return null;
+			return false;
 		}
 
 		dblLossPV /= dblCashPayDF;
@@ -182,64 +226,61 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 		double dblCleanPV = dblCleanDV01 * 10000. * _dblCoupon - dblLossPV;
 		double dblDirtyPV = dblDirtyDV01 * 10000. * _dblCoupon - dblLossPV;
 
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapResult = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
+		mv.set (iBlockSlot + MEASURE_ACCRUAL_DAYS, dblAccrualDays);
 
-		mapResult.put (strMeasureSetPrefix + "AccrualDays", dblAccrualDays);
+		mv.set (iBlockSlot + MEASURE_ACCRUED, dblAccrued01 * _dblCoupon * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "Accrued", dblAccrued01 * _dblCoupon * dblNotlFactor);
+		mv.set (iBlockSlot + MEASURE_ACCRUED01, dblAccrued01 * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "Accrued01", dblAccrued01 * dblNotlFactor);
+		mv.set (iBlockSlot + MEASURE_CLEAN_DV01, dblCleanDV01 * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "CleanDV01", dblCleanDV01 * dblNotlFactor);
+		mv.set (iBlockSlot + MEASURE_CLEAN_PV, dblCleanPV * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "CleanPV", dblCleanPV * dblNotlFactor);
+		mv.set (iBlockSlot + MEASURE_DV01, dblDirtyDV01 * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "DV01", dblDirtyDV01 * dblNotlFactor);
+		mv.set (iBlockSlot + MEASURE_DIRTY_DV01, dblDirtyDV01 * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "DirtyDV01", dblDirtyDV01 * dblNotlFactor);
+		mv.set (iBlockSlot + MEASURE_DIRTY_PV, dblDirtyPV * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "DirtyPV", dblDirtyPV * dblNotlFactor);
+		mv.set (iBlockSlot + MEASURE_EXP_LOSS, dblExpLoss * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "ExpLoss", dblExpLoss * dblNotlFactor);
+		mv.set (iBlockSlot + MEASURE_EXP_LOSS_NO_REC, dblExpLossNoRec * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "ExpLossNoRec", dblExpLossNoRec * dblNotlFactor);
+		mv.set (iBlockSlot + MEASURE_FAIR_PREMIUM, dblLossPV / dblCleanDV01);
 
-		mapResult.put (strMeasureSetPrefix + "FairPremium", dblLossPV / dblCleanDV01);
+		mv.set (iBlockSlot + MEASURE_LOSS_NO_REC_PV, dblLossNoRecPV * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "LossNoRecPV", dblLossNoRecPV * dblNotlFactor);
+		mv.set (iBlockSlot + MEASURE_LOSS_PV, dblLossPV * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "LossPV", dblLossPV * dblNotlFactor);
+		mv.set (iBlockSlot + MEASURE_PAR_SPREAD, dblLossPV / dblCleanDV01);
 
-		mapResult.put (strMeasureSetPrefix + "ParSpread", dblLossPV / dblCleanDV01);
+		mv.set (iBlockSlot + MEASURE_PREMIUM_PV, dblDirtyDV01 * _dblCoupon * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "PremiumPV", dblDirtyDV01 * _dblCoupon * dblNotlFactor);
+		mv.set (iBlockSlot + MEASURE_PV, dblDirtyPV * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "PV", dblDirtyPV * dblNotlFactor);
-
-		mapResult.put (strMeasureSetPrefix + "Upfront", dblCleanPV * dblNotlFactor);
+		mv.set (iBlockSlot + MEASURE_UPFRONT, dblCleanPV * dblNotlFactor);
 
 		try {
 			double dblValueNotional = notional (dblValueDate);
 
-			mapResult.put (strMeasureSetPrefix + "CleanPrice", 100. * (1. + (dblCleanPV / _dblNotional /
+			mv.set (iBlockSlot + MEASURE_CLEAN_PRICE, 100. * (1. + (dblCleanPV / _dblNotional /
 				dblValueNotional)));
 
-			mapResult.put (strMeasureSetPrefix + "DirtyPrice", 100. * (1. + (dblDirtyPV / _dblNotional /
+			mv.set (iBlockSlot + MEASURE_DIRTY_PRICE, 100. * (1. + (dblDirtyPV / _dblNotional /
 				dblValueNotional)));
 
-			mapResult.put (strMeasureSetPrefix + "LossOnInstantaneousDefault", _dblNotional * (1. -
+			mv.set (iBlockSlot + MEASURE_LOSS_ON_INSTANTANEOUS_DEFAULT, _dblNotional * (1. -
 				cc.recovery (dblValueDate)));
 
-			mapResult.put (strMeasureSetPrefix + "Price", 100. * (1. + (dblCleanPV / _dblNotional /
+			mv.set (iBlockSlot + MEASURE_PRICE, 100. * (1. + (dblCleanPV / _dblNotional /
 				dblValueNotional)));
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
 
-		mapResult.put (strMeasureSetPrefix + "CalcTime", (System.nanoTime() - lStart) * 1.e-09);
+		mv.set (iBlockSlot + MEASURE_CALC_TIME, (System.nanoTime() - lStart) * 1.e-09);
 
-		return mapResult;
+		return true;
 	}
 
 	private org.drip.quant.calculus.WengertJacobian calcPeriodOnDefaultPVDFMicroJack (
@@ -697,43 +738,94 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
 		final org.drip.param.valuation.ValuationCustomizationParams vcp)
 	{
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapFairMeasures = measures ("",
-			valParams, pricerParams, csqs, vcp);
+		org.drip.analytics.output.MeasureVector mv = valueVector (valParams, pricerParams, csqs, vcp, null);
+
+		return null == mv ? null : mv.toMap();
+	}
+
+	@Override public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> value (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.PricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final java.util.Set<java.lang.String> setstrMeasure)
+	{
+		org.drip.analytics.output.MeasureVector mv = valueVector (valParams, pricerParams, csqs, vcp,
+			setstrMeasure);
+
+		return null == mv ? null : mv.toMap();
+	}
+
+	@Override public org.drip.analytics.output.MeasureVector valueVector (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.PricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final java.util.Set<java.lang.String> setstrMeasure)
+	{
+		org.drip.analytics.output.MeasureVector mv = null;
+
+		try {
+			mv = new org.drip.analytics.output.MeasureVector (MEASURE_SCHEMA);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		}
 
-		if (null == mapFairMeasures) return null;
+		if (!measures (mv, 0, valParams, pricerParams, csqs, vcp)) return null;
 
-		org.drip.quant.common.CollectionUtil.MergeWithMain (mapFairMeasures,
-			org.drip.quant.common.CollectionUtil.PrefixKeys (mapFairMeasures, "Fair"));
+		mv.merge (0, FAIR_MEASURE_BLOCK, MEASURE_NAME.length);
 
 		java.lang.String strName = name();
 
 		org.drip.param.definition.ProductQuote cq = csqs.productQuote (strName);
 
-		if ((null != pricerParams && null != pricerParams.calibParams()) || null == mapFairMeasures || null
-			== cq)
-			return mapFairMeasures;
+		/*
+		 * Calibration Re-valuations (e.g., the Spread Calibrator's "Upfront") stop at the Fair Block. The
+		 * 	Fair Premium and the Upfront need the Loss and the Premium Legs across every Period, so the
+		 * 	Period Pass itself is not pruned.
+		 */
+
+		if ((null != pricerParams && null != pricerParams.calibParams()) || null == cq)
+			return mv.subset (setstrMeasure);
+
+		/*
+		 * The Market Re-valuation overwrites the un-prefixed Measures, so it is only skipped if all the
+		 * 	requested Measures are in the "Fair" Block.
+		 */
+
+		if (null != setstrMeasure) {
+			boolean bFairBlockOnly = true;
+
+			for (java.lang.String strMeasure : setstrMeasure) {
+				int iSlot = MEASURE_SCHEMA.slot (strMeasure);
+
+				if (FAIR_MEASURE_BLOCK > iSlot || MARKET_MEASURE_BLOCK <= iSlot) {
+					bFairBlockOnly = false;
+					break;
+				}
+			}
 
+			if (bFairBlockOnly) return mv.subset (setstrMeasure);
+		}
+
+		java.lang.String strCalibMeasure = null;
 		double dblCreditBasis = java.lang.Double.NaN;
 		double dblMarketMeasure = java.lang.Double.NaN;
 		org.drip.analytics.definition.CreditCurve ccMarket = null;
 
-		if (cq.containsQuote ("Price"))
-			mapFairMeasures.put ("MarketInputType=Price", dblMarketMeasure = cq.quote ("Price").value
-				("mid"));
-		else if (cq.containsQuote ("CleanPrice"))
-			mapFairMeasures.put ("MarketInputType=CleanPrice", dblMarketMeasure = cq.quote
-				("CleanPrice").value ("mid"));
-		else if (cq.containsQuote ("Upfront"))
-			mapFairMeasures.put ("MarketInputType=Upfront", dblMarketMeasure = cq.quote ("Upfront").value
-				("mid"));
-		else if (cq.containsQuote ("FairPremium"))
-			mapFairMeasures.put ("MarketInputType=FairPremium", dblMarketMeasure = cq.quote
-				("FairPremium").value ("mid"));
-		else if (cq.containsQuote ("PV"))
-			mapFairMeasures.put ("MarketInputType=PV", dblMarketMeasure = cq.quote ("PV").value ("mid"));
-		else if (cq.containsQuote ("CleanPV"))
-			mapFairMeasures.put ("MarketInputType=CleanPV", dblMarketMeasure = cq.quote ("CleanPV").value
-				("mid"));
+		for (int i = 0; i < MARKET_INPUT_TYPE.length; ++i) {
+			if (cq.containsQuote (MARKET_INPUT_TYPE[i])) {
+				mv.set (MARKET_INPUT_TYPE_SLOT + i, dblMarketMeasure = cq.quote (MARKET_INPUT_TYPE[i]).value
+					("mid"));
+
+				strCalibMeasure = MARKET_CALIB_MEASURE[i];
+				break;
+			}
+		}
+
+		if (null == strCalibMeasure) return mv.subset (setstrMeasure);
 
 		try {
 			SpreadCalibOP scop = new SpreadCalibrator (this,
@@ -741,7 +833,7 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 					new org.drip.param.pricer.PricerParams (7,
 						org.drip.param.definition.CalibrationParams.Standard(), false,
 							org.drip.param.pricer.PricerParams.PERIOD_DISCRETIZATION_DAY_STEP), csqs, vcp,
-								dblMarketMeasure);
+								strCalibMeasure, dblMarketMeasure, 0.);
 
 			if (null != scop) {
 				ccMarket = scop._ccCalib;
@@ -752,7 +844,7 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 		}
 
 		if (org.drip.quant.common.NumberUtil.IsValid (dblCreditBasis)) {
-			mapFairMeasures.put ("MarketCreditBasis", dblCreditBasis);
+			mv.set (MARKET_CREDIT_BASIS_SLOT, dblCreditBasis);
 
 			org.drip.analytics.definition.CreditCurve cc = csqs.creditCurve (creditLabel());
 
@@ -766,28 +858,18 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 			}
 		}
 
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasures = mapFairMeasures;
-
 		if (null != ccMarket) {
 			org.drip.param.market.CurveSurfaceQuoteSet csqsMarket =
 				org.drip.param.creator.MarketParamsBuilder.Create (csqs.fundingCurve (fundingLabel()),
 					csqs.govvieCurve (org.drip.state.identifier.GovvieLabel.Standard (payCurrency())),
 						ccMarket, strName, csqs.productQuote (strName), csqs.quoteMap(), csqs.fixings());
 
-			if (null != csqsMarket) {
-				org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMarketMeasures =
-					measures ("", valParams, pricerParams, csqsMarket, vcp);
-
-				if (null != mapMarketMeasures) {
-					org.drip.quant.common.CollectionUtil.MergeWithMain (mapMarketMeasures,
-						org.drip.quant.common.CollectionUtil.PrefixKeys (mapMarketMeasures, "Market"));
-
-					org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures, mapMarketMeasures);
-				}
-			}
+			if (null != csqsMarket && measures (mv, MARKET_MEASURE_BLOCK, valParams, pricerParams,
+				csqsMarket, vcp))
+				mv.merge (MARKET_MEASURE_BLOCK, 0, MEASURE_NAME.length);
 		}
 
-		return mapMeasures;
+		return mv.subset (setstrMeasure);
 	}
 
 	@Override public java.util.Set<java.lang.String> measureNames()
@@ -1192,10 +1274,37 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
 		final org.drip.param.valuation.ValuationCustomizationParams vcp)
 		throws java.lang.Exception
+	{
+		return calibFlatSpread (valParams, pricerParams, csqs, vcp, java.lang.Double.NaN);
+	}
+
+	/**
+	 * Calibrate the CDS's flat spread from the calculated up-front points, starting off of the Prior Flat
+	 * 	Spread
+	 * 
+	 * @param valParams ValuationParams
+	 * @param pricerParams PricerParams
+	 * @param csqs ComponentMarketParams
+	 * @param vcp Valuation Customization Parameters
+	 * @param dblFlatSpreadHint The Prior Flat Spread (NaN => Cold Start)
+	 * 
+	 * @return Calibrated flat spread
+	 * 
+	 * @throws java.lang.Exception Thrown if cannot calibrate
+	 */
+
+	@Override public double calibFlatSpread (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.PricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final double dblFlatSpreadHint)
+		throws java.lang.Exception
 	{
 		SpreadCalibOP scop = new SpreadCalibrator (this,
 			SpreadCalibrator.CALIBRATION_TYPE_FLAT_CURVE_NODES).calibrateHazardFromPrice (valParams,
-				pricerParams, csqs, vcp, measureValue (valParams, pricerParams, csqs, vcp, "Upfront"));
+				pricerParams, csqs, vcp, measureValue (valParams, pricerParams, csqs, vcp, "Upfront"),
+					dblFlatSpreadHint);
 
 		if (null == scop)
 			throw new java.lang.Exception ("CDSComponent::calibFlatSpread => Cannot calibrate flat spread!");
@@ -1286,11 +1395,74 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 			final org.drip.param.valuation.ValuationCustomizationParams vcp,
 			final double dblPriceCalib)
 		{
-			if (null == valParams || null == pricerParams || null == csqs ||
-				!org.drip.quant.common.NumberUtil.IsValid (dblPriceCalib))
+			return calibrateHazardFromPrice (valParams, pricerParams, csqs, vcp, dblPriceCalib,
+				java.lang.Double.NaN);
+		}
+
+		/**
+		 * Calibrate the hazard rate from calibration price starting off of the Prior Calibration Result
+		 * 	(e.g., Yesterday's Flat Spread, or the Prior Parallel Bump)
+		 * 
+		 * @param valParams ValuationParams
+		 * @param pricerParams PricerParams
+		 * @param csqs ComponentMarketParams
+		 * @param dblPriceCalib Market price to be calibrated
+		 * @param vcp Valuation Customization Parameters
+		 * @param dblCalibHint The Prior Calibration Result (NaN => Cold Start)
+		 * 
+		 * @return Calibrated hazard
+		 */
+
+		public SpreadCalibOP calibrateHazardFromPrice (
+			final org.drip.param.valuation.ValuationParams valParams,
+			final org.drip.param.pricer.PricerParams pricerParams,
+			final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+			final org.drip.param.valuation.ValuationCustomizationParams vcp,
+			final double dblPriceCalib,
+			final double dblCalibHint)
+		{
+			return calibrateHazardFromPrice (valParams, pricerParams, csqs, vcp, "Upfront", dblPriceCalib,
+				dblCalibHint);
+		}
+
+		/**
+		 * Calibrate the hazard rate to the Value of the specified Calibration Measure starting off of the
+		 * 	Prior Calibration Result
+		 * 
+		 * @param valParams ValuationParams
+		 * @param pricerParams PricerParams
+		 * @param csqs ComponentMarketParams
+		 * @param vcp Valuation Customization Parameters
+		 * @param strCalibMeasure The Calibration Measure (e.g., "Upfront", "FairPremium", "CleanPrice")
+		 * @param dblCalibValue The Market Value of the Calibration Measure
+		 * @param dblCalibHint The Prior Calibration Result (NaN => Cold Start)
+		 * 
+		 * @return Calibrated hazard
+		 */
+
+		public SpreadCalibOP calibrateHazardFromPrice (
+			final org.drip.param.valuation.ValuationParams valParams,
+			final org.drip.param.pricer.PricerParams pricerParams,
+			final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+			final org.drip.param.valuation.ValuationCustomizationParams vcp,
+			final java.lang.String strCalibMeasure,
+			final double dblCalibValue,
+			final double dblCalibHint)
+		{
+			if (null == valParams || null == pricerParams || null == csqs || null == strCalibMeasure ||
+				strCalibMeasure.isEmpty() || !org.drip.quant.common.NumberUtil.IsValid (dblCalibValue))
 				return null;
 
-			final org.drip.analytics.definition.CreditCurve ccOld = csqs.creditCurve (creditLabel());
+			final org.drip.analytics.definition.CreditCurve ccBase = csqs.creditCurve (creditLabel());
+
+			if (null == ccBase) return null;
+
+			/*
+			 * The Trial Credit Curves are set only on a Per-Call Overlay of the Market Set, so csqs is never
+			 * 	mutated, and may be shared across Threads calibrating different CDS on the same Name.
+			 */
+
+			final org.drip.param.market.CurveSurfaceQuoteSet csqsOverlay = csqs.creditCurveOverlay (ccBase);
 
 			org.drip.function.deterministic.R1ToR1 ofCDSPriceFromFlatSpread = new
 				org.drip.function.deterministic.R1ToR1 (null) {
@@ -1298,33 +1470,47 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 					final double dblFlatSpread)
 					throws java.lang.Exception
 				{
-					if (CALIBRATION_TYPE_NODE_PARALLEL_BUMP != _iCalibType)
-						csqs.setCreditCurve (ccOld.flatCurve (dblFlatSpread,
-							CALIBRATION_TYPE_FLAT_CURVE_NODES == _iCalibType, java.lang.Double.NaN));
-					else
-						csqs.setCreditCurve ((org.drip.analytics.definition.CreditCurve)
-							ccOld.customTweakManifestMeasure ("FairPremium", new
-								org.drip.param.definition.ResponseValueTweakParams
-									(org.drip.param.definition.ResponseValueTweakParams.MANIFEST_MEASURE_FLAT_TWEAK,
-										false, dblFlatSpread)));
-
-					return _cds.measureValue (valParams, pricerParams, csqs, vcp, "Upfront") - dblPriceCalib;
+					if (!csqsOverlay.setCreditCurve (trialCurve (ccBase, dblFlatSpread)))
+						throw new java.lang.Exception
+							("CDSComponent::SpreadCalibrator::calibrateHazardFromPrice => Invalid Trial Curve");
+
+					return _cds.measureValue (valParams, pricerParams, csqsOverlay, vcp, strCalibMeasure) -
+						dblCalibValue;
 				}
 			};
 
 			try {
 				org.drip.function.solver1D.FixedPointFinderOutput rfop = new
 					org.drip.function.solver1D.FixedPointFinderBrent (0., ofCDSPriceFromFlatSpread,
-						true).findRoot();
+						true).findRoot (org.drip.function.solver1D.InitializationHeuristics.FromWarmStart
+							(dblCalibHint));
+
+				if (null == rfop || !rfop.containsRoot()) return null;
 
-				if (null == rfop || !rfop.containsRoot() && !csqs.setCreditCurve (ccOld))
-					return new SpreadCalibOP (rfop.getRoot(), ccOld);
+				double dblCalibSpread = rfop.getRoot();
+
+				return new SpreadCalibOP (dblCalibSpread, trialCurve (ccBase, dblCalibSpread));
 			} catch (java.lang.Exception e) {
 				e.printStackTrace();
 			}
 
 			return null;
 		}
+
+		private org.drip.analytics.definition.CreditCurve trialCurve (
+			final org.drip.analytics.definition.CreditCurve ccBase,
+			final double dblFlatSpread)
+			throws java.lang.Exception
+		{
+			if (CALIBRATION_TYPE_NODE_PARALLEL_BUMP != _iCalibType)
+				return ccBase.flatCurve (dblFlatSpread, CALIBRATION_TYPE_FLAT_CURVE_NODES == _iCalibType,
+					java.lang.Double.NaN);
+
+			return (org.drip.analytics.definition.CreditCurve) ccBase.customTweakManifestMeasure
+				("FairPremium", new org.drip.param.definition.ResponseValueTweakParams
+					(org.drip.param.definition.ResponseValueTweakParams.MANIFEST_MEASURE_FLAT_TWEAK, false,
+						dblFlatSpread));
+		}
 	}
 
 	class PeriodLossMicroJack {
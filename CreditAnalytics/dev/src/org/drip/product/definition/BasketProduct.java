@@ -45,6 +45,26 @@ public abstract class BasketProduct implements org.drip.product.definition.Baske
 	protected static final int MEASURE_AGGREGATION_TYPE_UNIT_ACCUMULATE = 4;
 	protected static final int MEASURE_AGGREGATION_TYPE_IGNORE = 4;
 
+	private java.util.Map<org.drip.analytics.output.MeasureSchema, MeasureAggregationSlots>
+		_mapAggregationSlots = java.util.Collections.synchronizedMap (new
+			java.util.WeakHashMap<org.drip.analytics.output.MeasureSchema, MeasureAggregationSlots>());
+
+	class MeasureAggregationSlots {
+		int[] _aiCumulative = null;
+		int[] _aiUnitAccumulate = null;
+		int[] _aiWeightedCumulative = null;
+
+		MeasureAggregationSlots (
+			final int[] aiCumulative,
+			final int[] aiWeightedCumulative,
+			final int[] aiUnitAccumulate)
+		{
+			_aiCumulative = aiCumulative;
+			_aiUnitAccumulate = aiUnitAccumulate;
+			_aiWeightedCumulative = aiWeightedCumulative;
+		}
+	}
+
 	class ComponentCurve {
 		java.lang.String _strName = null;
 		org.drip.analytics.definition.CreditCurve _cc = null;
@@ -215,34 +235,15 @@ public abstract class BasketProduct implements org.drip.product.definition.Baske
 
 			org.drip.param.market.CurveSurfaceQuoteSet csqsTenorDown = mapTenorDownCSQS.get (strTenorKey);
 
-			org.drip.analytics.definition.CreditCurve ccVirginUp = null;
-			org.drip.analytics.definition.CreditCurve ccVirginDown = null;
-
 			if (null != csqsTenorUp && null != compCurve && null != compCurve._cc && null !=
 				compCurve._strName && !compCurve._strName.isEmpty()) {
-				ccVirginUp = csqsTenorUp.creditCurve (org.drip.state.identifier.CreditLabel.Standard
-					(compCurve._strName));
+				csqsTenorUp = csqsTenorUp.creditCurveOverlay (compCurve._cc);
 
-				csqsTenorUp.setCreditCurve (compCurve._cc);
-
-				if (null != csqsTenorDown) {
-					ccVirginDown = csqsTenorDown.creditCurve (org.drip.state.identifier.CreditLabel.Standard
-						(compCurve._strName));
-
-					csqsTenorDown.setCreditCurve (compCurve._cc);
-				}
+				if (null != csqsTenorDown) csqsTenorDown = csqsTenorDown.creditCurveOverlay (compCurve._cc);
 			}
 
 			mapTenorDGMM.put (strTenorKey, accumulateDeltaGammaMeasures (valParams, pricerParams,
 				csqsTenorUp, csqsTenorDown, vcp, mapBaseMeasures));
-
-			if (null != csqsTenorUp && null != compCurve && null != compCurve._strName &&
-				!compCurve._strName.isEmpty() && null != ccVirginUp)
-				csqsTenorUp.setCreditCurve (ccVirginUp);
-
-			if (null != csqsTenorDown && null != compCurve && null != compCurve._strName &&
-				!compCurve._strName.isEmpty() && null != ccVirginDown)
-				csqsTenorDown.setCreditCurve (ccVirginDown);
 		}
 
 		if (0 == mapTenorDGMM.size()) return null;
@@ -892,53 +893,183 @@ public abstract class BasketProduct implements org.drip.product.definition.Baske
 		final org.drip.param.pricer.PricerParams pricerParams,
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
 		final org.drip.param.valuation.ValuationCustomizationParams vcp)
+	{
+		return aggregateComponentValue (valParams, pricerParams, csqs, vcp, null);
+	}
+
+	/**
+	 * Generate the requested subset of the basket product measures for the full input set of market
+	 * 	parameters. Only the requested measures (and, for the per-component "Name[Measure]" entries, the
+	 * 	underlying measure) are requested off of the components.
+	 * 
+	 * @param valParams ValuationParams
+	 * @param pricerParams PricerParams
+	 * @param csqs Market Parameters
+	 * @param vcp Valuation Customization Parameters
+	 * @param setstrMeasure Set of the requested Measure Names (null => All Measures)
+	 * 
+	 * @return Map of measure name and value
+	 */
+
+	public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> value (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.PricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final java.util.Set<java.lang.String> setstrMeasure)
+	{
+		if (null == setstrMeasure) return value (valParams, pricerParams, csqs, vcp);
+
+		java.util.Set<java.lang.String> setstrComponentMeasure = new java.util.HashSet<java.lang.String>();
+
+		for (java.lang.String strMeasure : setstrMeasure) {
+			if (null == strMeasure || strMeasure.isEmpty()) continue;
+
+			int iComponentMeasureStart = strMeasure.indexOf ('[');
+
+			setstrComponentMeasure.add (-1 != iComponentMeasureStart && strMeasure.endsWith ("]") ?
+				strMeasure.substring (iComponentMeasureStart + 1, strMeasure.length() - 1) : strMeasure);
+		}
+
+		return org.drip.quant.common.CollectionUtil.Subset (aggregateComponentValue (valParams, pricerParams,
+			csqs, vcp, setstrComponentMeasure), setstrMeasure, null);
+	}
+
+	private MeasureAggregationSlots aggregationSlots (
+		final org.drip.analytics.output.MeasureSchema ms)
+	{
+		MeasureAggregationSlots mas = _mapAggregationSlots.get (ms);
+
+		if (null != mas) return mas;
+
+		int iNumCumulative = 0;
+		int iNumUnitAccumulate = 0;
+		int iNumWeightedCumulative = 0;
+		int iNumSlot = ms.size();
+		int[] aiCumulative = new int[iNumSlot];
+		int[] aiUnitAccumulate = new int[iNumSlot];
+		int[] aiWeightedCumulative = new int[iNumSlot];
+
+		for (int iSlot = 0; iSlot < iNumSlot; ++iSlot) {
+			int iAggregationType = measureAggregationType (ms.name (iSlot));
+
+			if (MEASURE_AGGREGATION_TYPE_CUMULATIVE == iAggregationType)
+				aiCumulative[iNumCumulative++] = iSlot;
+			else if (MEASURE_AGGREGATION_TYPE_WEIGHTED_CUMULATIVE == iAggregationType)
+				aiWeightedCumulative[iNumWeightedCumulative++] = iSlot;
+			else if (MEASURE_AGGREGATION_TYPE_UNIT_ACCUMULATE == iAggregationType)
+				aiUnitAccumulate[iNumUnitAccumulate++] = iSlot;
+		}
+
+		_mapAggregationSlots.put (ms, mas = new MeasureAggregationSlots (java.util.Arrays.copyOf
+			(aiCumulative, iNumCumulative), java.util.Arrays.copyOf (aiWeightedCumulative,
+				iNumWeightedCumulative), java.util.Arrays.copyOf (aiUnitAccumulate, iNumUnitAccumulate)));
+
+		return mas;
+	}
+
+	private void seedFromMap (
+		final org.drip.analytics.output.MeasureVector mvBasket,
+		final int[] aiSlot,
+		final org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapBasketOP)
+	{
+		org.drip.analytics.output.MeasureSchema ms = mvBasket.schema();
+
+		for (int iSlot : aiSlot) {
+			java.lang.Double dblBasketValue = mapBasketOP.get (ms.name (iSlot));
+
+			if (null != dblBasketValue) mvBasket.set (iSlot, dblBasketValue);
+		}
+	}
+
+	private boolean foldOntoMap (
+		final org.drip.analytics.output.MeasureVector mvBasket,
+		final org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapBasketOP)
+	{
+		if (null == mvBasket) return true;
+
+		java.lang.String[] astrName = mvBasket.schema().names();
+
+		for (int iSlot = 0; iSlot < astrName.length; ++iSlot) {
+			if (!mvBasket.available (iSlot)) continue;
+
+			try {
+				mapBasketOP.put (astrName[iSlot], mvBasket.value (iSlot));
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> aggregateComponentValue (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.PricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final java.util.Set<java.lang.String> setstrComponentMeasure)
 	{
 		long lStart = System.nanoTime();
 
 		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapBasketOP = new
 			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
 
+		org.drip.analytics.output.MeasureVector mvBasket = null;
+
 		org.drip.product.definition.FixedIncomeComponent[] aComp = components();
 
 		double[] adblWeight = weights();
 
 		int iNumComp = aComp.length;
 
+		/*
+		 * Consecutive Components sharing a Schema are aggregated Slot-wise on a single Basket Vector - the
+		 * 	Measure Names are only visited when the Schema changes. The Vector of a new Schema starts off the
+		 * 	Totals aggregated so far, so the Components are always summed in the Basket Order.
+		 */
+
 		for (int i = 0; i < iNumComp; ++i) {
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapCompOP = aComp[i].value
-				(valParams, pricerParams, csqs, vcp);
+			org.drip.analytics.output.MeasureVector mvComp = aComp[i].valueVector (valParams, pricerParams,
+				csqs, vcp, setstrComponentMeasure);
 
-			if (null == mapCompOP || 0 == mapCompOP.size()) continue;
+			if (null == mvComp) continue;
 
-			java.util.Set<java.util.Map.Entry<java.lang.String, java.lang.Double>> mapCompOPES =
-				mapCompOP.entrySet();
+			org.drip.analytics.output.MeasureSchema ms = mvComp.schema();
 
-			if (null == mapCompOPES) continue;
+			MeasureAggregationSlots mas = aggregationSlots (ms);
 
-			for (java.util.Map.Entry<java.lang.String, java.lang.Double> meCompOP : mapCompOPES) {
-				if (null == meCompOP) continue;
+			try {
+				if (null == mvBasket || ms != mvBasket.schema()) {
+					if (!foldOntoMap (mvBasket, mapBasketOP)) return null;
+
+					mvBasket = new org.drip.analytics.output.MeasureVector (ms);
 
-				java.lang.String strKey = meCompOP.getKey();
+					seedFromMap (mvBasket, mas._aiCumulative, mapBasketOP);
 
-				if (null == strKey || strKey.isEmpty()) continue;
+					seedFromMap (mvBasket, mas._aiWeightedCumulative, mapBasketOP);
+				}
 
-				java.lang.Double dblCompValue = mapCompOP.get (strKey);
+				mvBasket.accumulate (mvComp, mas._aiCumulative, 1.);
 
-				java.lang.Double dblBasketValue = mapBasketOP.get (strKey);
+				if (null != adblWeight)
+					mvBasket.accumulate (mvComp, mas._aiWeightedCumulative, adblWeight[i]);
 
-				if (MEASURE_AGGREGATION_TYPE_CUMULATIVE == measureAggregationType (strKey))
-					mapBasketOP.put (strKey, (null == dblCompValue ? 0. : dblCompValue) + (null ==
-						dblBasketValue ? 0. : dblBasketValue));
-				else if (MEASURE_AGGREGATION_TYPE_WEIGHTED_CUMULATIVE == measureAggregationType (strKey) &&
-					null != adblWeight)
-					mapBasketOP.put (strKey, (null == dblCompValue ? 0. : adblWeight[i] * dblCompValue) +
-						(null == dblBasketValue ? 0. : dblBasketValue));
-				else if (MEASURE_AGGREGATION_TYPE_UNIT_ACCUMULATE == measureAggregationType (strKey))
-					mapBasketOP.put (aComp[i].name() + "[" + strKey + "]", (null == dblCompValue ? 0. :
-						dblCompValue));
+				for (int iSlot : mas._aiUnitAccumulate) {
+					if (mvComp.available (iSlot))
+						mapBasketOP.put (aComp[i].name() + "[" + ms.name (iSlot) + "]", mvComp.value (iSlot));
+				}
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+
+				return null;
 			}
 		}
 
+		if (!foldOntoMap (mvBasket, mapBasketOP)) return null;
+
 		mapBasketOP.put ("CalcTime", (System.nanoTime() - lStart) * 1.e-09);
 
 		return mapBasketOP;
@@ -966,7 +1097,8 @@ public abstract class BasketProduct implements org.drip.product.definition.Baske
 		final java.lang.String strMeasure)
 		throws java.lang.Exception
 	{
-		return measureValue (strMeasure, value (valParams, pricerParams, csqs, vcp));
+		return measureValue (strMeasure, value (valParams, pricerParams, csqs, vcp,
+			java.util.Collections.singleton (strMeasure)));
 	}
 
 	/**
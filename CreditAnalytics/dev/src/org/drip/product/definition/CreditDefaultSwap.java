@@ -75,6 +75,32 @@ public abstract class CreditDefaultSwap extends org.drip.product.definition.Cred
 		final org.drip.param.valuation.ValuationCustomizationParams vcp)
 		throws java.lang.Exception;
 
+	/**
+	 * Calibrate the CDS's flat spread from the calculated up-front points, starting off of the Prior Flat
+	 * 	Spread. The Hint is ignored unless the Implementation overrides this to use it.
+	 * 
+	 * @param valParams ValuationParams
+	 * @param pricerParams PricerParams
+	 * @param csqs ComponentMarketParams
+	 * @param vcp Valuation Customization Parameters
+	 * @param dblFlatSpreadHint The Prior Flat Spread (NaN => Cold Start)
+	 * 
+	 * @return Calibrated flat spread
+	 * 
+	 * @throws java.lang.Exception Thrown if cannot calibrate
+	 */
+
+	public double calibFlatSpread (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.PricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final double dblFlatSpreadHint)
+		throws java.lang.Exception
+	{
+		return calibFlatSpread (valParams, pricerParams, csqs, vcp);
+	}
+
 	/**
 	 * Value the CDS from the Quoted Spread
 	 * 
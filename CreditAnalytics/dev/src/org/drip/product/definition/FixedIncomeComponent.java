@@ -224,6 +224,59 @@ public abstract class FixedIncomeComponent implements org.drip.product.definitio
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
 		final org.drip.param.valuation.ValuationCustomizationParams vcp);
 
+	/**
+	 * Generate the requested subset of the Product measures for the full input set of market parameters. The
+	 * 	default extracts the requested measures from the full measure map - products override this to
+	 * 	compute only the measures the request depends on.
+	 * 
+	 * @param valParams ValuationParams
+	 * @param pricerParams PricerParams
+	 * @param csqs Market Parameters
+	 * @param vcp Valuation Customization Parameters
+	 * @param setstrMeasure Set of the requested Measure Names (null => All Measures)
+	 * 
+	 * @return Map of measure name and value
+	 */
+
+	public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> value (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.PricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final java.util.Set<java.lang.String> setstrMeasure)
+	{
+		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasures = value (valParams,
+			pricerParams, csqs, vcp);
+
+		return null == setstrMeasure ? mapMeasures : org.drip.quant.common.CollectionUtil.Subset
+			(mapMeasures, setstrMeasure, null);
+	}
+
+	/**
+	 * Generate the requested subset of the Product measures as a Slot-indexed Measure Vector. The default
+	 * 	adapts the measure map - products that write their measures by Slot override this to avoid the map
+	 * 	look-ups and the boxing.
+	 * 
+	 * @param valParams ValuationParams
+	 * @param pricerParams PricerParams
+	 * @param csqs Market Parameters
+	 * @param vcp Valuation Customization Parameters
+	 * @param setstrMeasure Set of the requested Measure Names (null => All Measures)
+	 * 
+	 * @return The Measure Vector
+	 */
+
+	public org.drip.analytics.output.MeasureVector valueVector (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.PricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final java.util.Set<java.lang.String> setstrMeasure)
+	{
+		return org.drip.analytics.output.MeasureVector.FromMap (value (valParams, pricerParams, csqs, vcp,
+			setstrMeasure));
+	}
+
 	/**
 	 * Retrieve the ordered set of the measure names whose values will be calculated
 	 * 
@@ -273,7 +326,8 @@ public abstract class FixedIncomeComponent implements org.drip.product.definitio
 		final java.lang.String strMeasure)
 		throws java.lang.Exception
 	{
-		return measureValue (strMeasure, value (valParams, pricerParams, csqs, vcp));
+		return measureValue (strMeasure, value (valParams, pricerParams, csqs, vcp,
+			java.util.Collections.singleton (strMeasure)));
 	}
 
 	/**
@@ -444,4 +444,18 @@ public class ComponentPair extends org.drip.product.definition.BasketProduct {
 
 		return mapOutput;
 	}
+
+	@Override public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> value (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.PricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final java.util.Set<java.lang.String> setstrMeasure)
+	{
+		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapOutput = value (valParams,
+			pricerParams, csqs, vcp);
+
+		return null == setstrMeasure ? mapOutput : org.drip.quant.common.CollectionUtil.Subset (mapOutput,
+			setstrMeasure, null);
+	}
 }
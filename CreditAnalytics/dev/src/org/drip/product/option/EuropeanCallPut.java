@@ -134,9 +134,8 @@ public class EuropeanCallPut {
 		double dblCallPrice = fpg.callPrice();
 
 		try {
-			dblImpliedCallVolatility = new
-				org.drip.pricer.option.BlackScholesAlgorithm().implyBlackScholesVolatility (_dblStrike,
-					dblTTE, dblRiskFreeRate, dblUnderlier, bIsForward, dblCallPrice);
+			dblImpliedCallVolatility = org.drip.pricer.option.BlackScholesImpliedVolatility.Imply
+				(_dblStrike, dblTTE, dblRiskFreeRate, dblUnderlier, bIsForward, false, dblCallPrice);
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 
@@ -253,8 +252,8 @@ public class EuropeanCallPut {
 
 		double dblTTE = (dblMaturity - dblValueDate) / 365.25;
 
-		return new org.drip.pricer.option.BlackScholesAlgorithm().implyBlackScholesVolatility (_dblStrike,
-			dblTTE, dc.zero (dblMaturity), dblUnderlier, bIsForward, dblCallPrice);
+		return org.drip.pricer.option.BlackScholesImpliedVolatility.Imply (_dblStrike, dblTTE, dc.zero
+			(dblMaturity), dblUnderlier, bIsForward, false, dblCallPrice);
 	}
 
 	/**
@@ -37,12 +37,54 @@ package org.drip.quant.calculus;
  * 	- Trapezoidal Scheme
  * 	- Simpson/Simpson38 schemes
  * 	- Boole Scheme
+ * 	- Error-controlled Adaptive Simpson Scheme
  *
  * @author Lakshmi Krishnamurthy
  */
 
 public class R1ToR1Integrator {
 	private final static int NUM_QUAD = 10000;
+	private final static int ADAPTIVE_MAX_DEPTH = 24;
+
+	private static final double AdaptiveSimpsonPanel (
+		final org.drip.function.deterministic.R1ToR1 funcR1ToR1,
+		final double dblLeft,
+		final double dblRight,
+		final double dblYLeft,
+		final double dblYMid,
+		final double dblYRight,
+		final double dblPanelSimpson,
+		final double dblTolerance,
+		final int iDepth)
+		throws java.lang.Exception
+	{
+		double dblXMid = 0.5 * (dblLeft + dblRight);
+		double dblXLeftMid = 0.5 * (dblLeft + dblXMid);
+		double dblXRightMid = 0.5 * (dblXMid + dblRight);
+
+		double dblYLeftMid = funcR1ToR1.evaluate (dblXLeftMid);
+
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblYLeftMid))
+			throw new java.lang.Exception ("R1ToR1Integrator::AdaptiveSimpson => Cannot calculate Y at " +
+				dblXLeftMid);
+
+		double dblYRightMid = funcR1ToR1.evaluate (dblXRightMid);
+
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblYRightMid))
+			throw new java.lang.Exception ("R1ToR1Integrator::AdaptiveSimpson => Cannot calculate Y at " +
+				dblXRightMid);
+
+		double dblLeftSimpson = (dblXMid - dblLeft) / 6. * (dblYLeft + 4. * dblYLeftMid + dblYMid);
+		double dblRightSimpson = (dblRight - dblXMid) / 6. * (dblYMid + 4. * dblYRightMid + dblYRight);
+		double dblError = dblLeftSimpson + dblRightSimpson - dblPanelSimpson;
+
+		if (0 >= iDepth || java.lang.Math.abs (dblError) <= 15. * dblTolerance)
+			return dblLeftSimpson + dblRightSimpson + dblError / 15.;
+
+		return AdaptiveSimpsonPanel (funcR1ToR1, dblLeft, dblXMid, dblYLeft, dblYLeftMid, dblYMid,
+			dblLeftSimpson, 0.5 * dblTolerance, iDepth - 1) + AdaptiveSimpsonPanel (funcR1ToR1, dblXMid,
+				dblRight, dblYMid, dblYRightMid, dblYRight, dblRightSimpson, 0.5 * dblTolerance, iDepth - 1);
+	}
 
 	/**
 	 * Compute the function's integral within the specified limits using the LinearQuadrature technique.
@@ -313,6 +355,59 @@ public class R1ToR1Integrator {
 		return (dblRight - dblLeft) / 90 * (7 * dblY0 + 32 * dblY1 + 12 * dblY2 + 32 * dblY3 + 7 * dblY4);
 	}
 
+	/**
+	 * Compute the function's integral within the specified limits using the Adaptive Simpson Scheme - the
+	 * 	Panels are bisected recursively until the Richardson Error Estimate of each falls within its share of
+	 * 	the Absolute Tolerance.
+	 * 
+	 * @param funcR1ToR1 R1ToR1 Function
+	 * @param dblLeft Left Variate
+	 * @param dblRight Right Variate
+	 * @param dblTolerance Absolute Error Tolerance
+	 * 
+	 * @return The Integral
+	 * 
+	 * @throws java.lang.Exception Thrown if the error cannot be computed
+	 */
+
+	public static final double AdaptiveSimpson (
+		final org.drip.function.deterministic.R1ToR1 funcR1ToR1,
+		final double dblLeft,
+		final double dblRight,
+		final double dblTolerance)
+		throws java.lang.Exception
+	{
+		if (null == funcR1ToR1 || !org.drip.quant.common.NumberUtil.IsValid (dblLeft) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblRight) || dblLeft > dblRight ||
+				!org.drip.quant.common.NumberUtil.IsValid (dblTolerance) || 0. >= dblTolerance)
+			throw new java.lang.Exception ("R1ToR1Integrator::AdaptiveSimpson => Invalid Inputs");
+
+		if (dblLeft == dblRight) return 0.;
+
+		double dblYLeft = funcR1ToR1.evaluate (dblLeft);
+
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblYLeft))
+			throw new java.lang.Exception ("R1ToR1Integrator::AdaptiveSimpson => Cannot calculate Y at " +
+				dblLeft);
+
+		double dblXMid = 0.5 * (dblLeft + dblRight);
+
+		double dblYMid = funcR1ToR1.evaluate (dblXMid);
+
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblYMid))
+			throw new java.lang.Exception ("R1ToR1Integrator::AdaptiveSimpson => Cannot calculate Y at " +
+				dblXMid);
+
+		double dblYRight = funcR1ToR1.evaluate (dblRight);
+
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblYRight))
+			throw new java.lang.Exception ("R1ToR1Integrator::AdaptiveSimpson => Cannot calculate Y at " +
+				dblRight);
+
+		return AdaptiveSimpsonPanel (funcR1ToR1, dblLeft, dblRight, dblYLeft, dblYMid, dblYRight, (dblRight
+			- dblLeft) / 6. * (dblYLeft + 4. * dblYMid + dblYRight), dblTolerance, ADAPTIVE_MAX_DEPTH);
+	}
+
 	/**
 	 * Integrate Numerically over [-infinity, +infinity] using a Change of Variables
 	 * 
@@ -104,6 +104,44 @@ public class CollectionUtil {
 		return mapOut;
 	}
 
+	/**
+	 * Extract the Entries for the requested Keys from the input map. A Key not present in the map is looked
+	 * 	up (if an Alias Prefix is specified) under the Key stripped of the Alias Prefix.
+	 * 
+	 * @param mapIn Input map
+	 * @param setstrKey Set of the requested Keys
+	 * @param strAliasPrefix The Alias Prefix (may be null)
+	 * 
+	 * @return Map containing the requested entries that are available
+	 */
+
+	public static final org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> Subset (
+		final org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapIn,
+		final java.util.Set<java.lang.String> setstrKey,
+		final java.lang.String strAliasPrefix)
+	{
+		if (null == mapIn || null == setstrKey) return null;
+
+		int iAliasPrefixLength = null == strAliasPrefix ? 0 : strAliasPrefix.length();
+
+		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapOut = new
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
+
+		for (java.lang.String strKey : setstrKey) {
+			if (null == strKey || strKey.isEmpty()) continue;
+
+			java.lang.Double dblValue = mapIn.get (strKey);
+
+			if (null == dblValue && 0 != iAliasPrefixLength && strKey.length() > iAliasPrefixLength &&
+				strKey.regionMatches (true, 0, strAliasPrefix, 0, iAliasPrefixLength))
+				dblValue = mapIn.get (strKey.substring (iAliasPrefixLength));
+
+			if (null != dblValue) mapOut.put (strKey, dblValue);
+		}
+
+		return mapOut;
+	}
+
 	/**
 	 * Merge the secondary map onto the main map
 	 * 
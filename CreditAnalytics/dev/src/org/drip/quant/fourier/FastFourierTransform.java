@@ -0,0 +1,141 @@
+
+package org.drip.quant.fourier;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * FastFourierTransform implements the in-place iterative Radix-2 Cooley-Tukey Discrete Fourier Transform
+ * 	on the Real/Imaginary Component Arrays, i.e.,
+ * 
+ * 		X_k = Sum_{j = 0..N-1} x_j * exp (-2 * PI * i * j * k / N)
+ * 
+ * 	for Sizes that are Powers of 2.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class FastFourierTransform {
+
+	/**
+	 * Indicate if the Size is a valid Transform Size, i.e., a Power of 2
+	 * 
+	 * @param iSize The Size
+	 * 
+	 * @return TRUE => The Size is a Power of 2
+	 */
+
+	public static final boolean IsValidSize (
+		final int iSize)
+	{
+		return 0 < iSize && 0 == (iSize & (iSize - 1));
+	}
+
+	/**
+	 * Carry out the Forward Transform in Place
+	 * 
+	 * @param adblReal Array of the Real Components
+	 * @param adblImaginary Array of the Imaginary Components
+	 * 
+	 * @return TRUE => The Transform successfully carried out
+	 */
+
+	public static final boolean Forward (
+		final double[] adblReal,
+		final double[] adblImaginary)
+	{
+		if (null == adblReal || null == adblImaginary) return false;
+
+		int iSize = adblReal.length;
+
+		if (!IsValidSize (iSize) || iSize != adblImaginary.length) return false;
+
+		/*
+		 * Bit-reversal Permutation
+		 */
+
+		for (int i = 1, j = 0; i < iSize; ++i) {
+			int iBit = iSize >> 1;
+
+			for (; 0 != (j & iBit); iBit >>= 1)
+				j ^= iBit;
+
+			j ^= iBit;
+
+			if (i < j) {
+				double dblSwap = adblReal[i];
+				adblReal[i] = adblReal[j];
+				adblReal[j] = dblSwap;
+				dblSwap = adblImaginary[i];
+				adblImaginary[i] = adblImaginary[j];
+				adblImaginary[j] = dblSwap;
+			}
+		}
+
+		/*
+		 * Butterflies - the Twiddle Factors are generated by Recurrence off of the Half Span Rotation
+		 */
+
+		for (int iSpan = 2; iSpan <= iSize; iSpan <<= 1) {
+			double dblAngle = -2. * java.lang.Math.PI / iSpan;
+
+			double dblRotationReal = java.lang.Math.cos (dblAngle);
+
+			double dblRotationImaginary = java.lang.Math.sin (dblAngle);
+
+			int iHalfSpan = iSpan >> 1;
+
+			for (int iStart = 0; iStart < iSize; iStart += iSpan) {
+				double dblTwiddleReal = 1.;
+				double dblTwiddleImaginary = 0.;
+
+				for (int k = 0; k < iHalfSpan; ++k) {
+					int iUpper = iStart + k;
+					int iLower = iUpper + iHalfSpan;
+
+					double dblLowerReal = adblReal[iLower] * dblTwiddleReal - adblImaginary[iLower] *
+						dblTwiddleImaginary;
+					double dblLowerImaginary = adblReal[iLower] * dblTwiddleImaginary + adblImaginary[iLower]
+						* dblTwiddleReal;
+
+					adblReal[iLower] = adblReal[iUpper] - dblLowerReal;
+					adblImaginary[iLower] = adblImaginary[iUpper] - dblLowerImaginary;
+					adblReal[iUpper] += dblLowerReal;
+					adblImaginary[iUpper] += dblLowerImaginary;
+
+					double dblTwiddleRealNext = dblTwiddleReal * dblRotationReal - dblTwiddleImaginary *
+						dblRotationImaginary;
+					dblTwiddleImaginary = dblTwiddleReal * dblRotationImaginary + dblTwiddleImaginary *
+						dblRotationReal;
+					dblTwiddleReal = dblTwiddleRealNext;
+				}
+			}
+		}
+
+		return true;
+	}
+}
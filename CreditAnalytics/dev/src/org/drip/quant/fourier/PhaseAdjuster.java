@@ -90,4 +90,47 @@ public class PhaseAdjuster {
 
 		return null;
 	}
+
+	/**
+	 * Handling the Branch Switching of the Complex Power Function according Kahl-Jackel algorithm, carried
+	 * 	out on the Real/Imaginary Components in Place (no Complex Number Instances are allocated)
+	 * 
+	 * @param dblGNumeratorReal Real Component of the Log G Numerator
+	 * @param dblGNumeratorImaginary Imaginary Component of the Log G Numerator
+	 * @param dblGDenominatorReal Real Component of the Log G Denominator
+	 * @param dblGDenominatorImaginary Imaginary Component of the Log G Denominator
+	 * @param iN Number of Numerator Counted rotations
+	 * @param iM Number of Numerator Counted rotations
+	 * @param adblLogAdjustment Array that receives the Real/Imaginary Components of the Branch Switching Log
+	 * 	Adjustment
+	 * 
+	 * @return TRUE => The Branch Switching Log Adjustment successfully computed
+	 */
+
+	public static final boolean PowerLogPhaseTracker (
+		final double dblGNumeratorReal,
+		final double dblGNumeratorImaginary,
+		final double dblGDenominatorReal,
+		final double dblGDenominatorImaginary,
+		final int iN,
+		final int iM,
+		final double[] adblLogAdjustment)
+	{
+		if (null == adblLogAdjustment || 2 > adblLogAdjustment.length || iN < 0 || iM < 0) return false;
+
+		double dblAbsDenominator = java.lang.Math.sqrt (dblGDenominatorReal * dblGDenominatorReal +
+			dblGDenominatorImaginary * dblGDenominatorImaginary);
+
+		if (0. == dblAbsDenominator) return false;
+
+		adblLogAdjustment[0] = java.lang.Math.log (java.lang.Math.sqrt (dblGNumeratorReal * dblGNumeratorReal
+			+ dblGNumeratorImaginary * dblGNumeratorImaginary) / dblAbsDenominator);
+
+		adblLogAdjustment[1] = java.lang.Math.atan (dblGNumeratorImaginary / dblGNumeratorReal) -
+			java.lang.Math.atan (dblGDenominatorImaginary / dblGDenominatorReal) + 2. * java.lang.Math.PI *
+				(iN - iM);
+
+		return org.drip.quant.common.NumberUtil.IsValid (adblLogAdjustment[0]) &&
+			org.drip.quant.common.NumberUtil.IsValid (adblLogAdjustment[1]);
+	}
 }
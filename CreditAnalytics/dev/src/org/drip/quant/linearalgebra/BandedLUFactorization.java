@@ -0,0 +1,335 @@
+
+package org.drip.quant.linearalgebra;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BandedLUFactorization holds the LU Factorization (with Partial Pivoting) of a Square Banded Matrix with
+ * 	kl Sub-diagonals and ku Super-diagonals. Only the Band (widened by kl to accommodate the Pivoting Fill-in)
+ * 	is stored, so the Factorization costs O(n kl (kl + ku)) and each Solve O(n (kl + ku)). It provides the
+ * 	following:
+ * 	- Factor a Banded Matrix given in Dense Form, with explicit or inferred Band Widths
+ * 	- Factor a Tridiagonal Matrix given by its Diagonals
+ * 	- Solve for a single RHS, or for an Array of RHS
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BandedLUFactorization {
+	private int[] _aiPivot = null;
+	private int _iLowerBandwidth = -1;
+	private int _iUpperBandwidth = -1;
+	private double[][] _aadblL = null;
+	private double[][] _aadblU = null;
+
+	/**
+	 * Factor the Dense Matrix, inferring the Band Widths from the Location of its Non-zero Entries
+	 * 
+	 * @param aadblA The Square Matrix
+	 * 
+	 * @return The BandedLUFactorization Instance (null => Invalid or Singular Matrix)
+	 */
+
+	public static final BandedLUFactorization FromDense (
+		final double[][] aadblA)
+	{
+		if (null == aadblA || 0 == aadblA.length) return null;
+
+		int iLowerBandwidth = 0;
+		int iUpperBandwidth = 0;
+
+		for (int i = 0; i < aadblA.length; ++i) {
+			if (null == aadblA[i]) return null;
+
+			for (int j = 0; j < aadblA[i].length; ++j) {
+				if (0. == aadblA[i][j]) continue;
+
+				if (i - j > iLowerBandwidth) iLowerBandwidth = i - j;
+
+				if (j - i > iUpperBandwidth) iUpperBandwidth = j - i;
+			}
+		}
+
+		try {
+			return new BandedLUFactorization (aadblA, iLowerBandwidth, iUpperBandwidth);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Factor the Tridiagonal Matrix specified by its Diagonals
+	 * 
+	 * @param adblSubDiagonal The Sub-diagonal (Entry i is A[i + 1][i])
+	 * @param adblDiagonal The Diagonal
+	 * @param adblSuperDiagonal The Super-diagonal (Entry i is A[i][i + 1])
+	 * 
+	 * @return The BandedLUFactorization Instance (null => Invalid or Singular Matrix)
+	 */
+
+	public static final BandedLUFactorization Tridiagonal (
+		final double[] adblSubDiagonal,
+		final double[] adblDiagonal,
+		final double[] adblSuperDiagonal)
+	{
+		if (null == adblSubDiagonal || null == adblDiagonal || null == adblSuperDiagonal) return null;
+
+		int iSize = adblDiagonal.length;
+
+		if (0 == iSize || iSize - 1 != adblSubDiagonal.length || iSize - 1 != adblSuperDiagonal.length)
+			return null;
+
+		try {
+			BandedLUFactorization blu = new BandedLUFactorization (iSize, 1, 1);
+
+			for (int i = 0; i < iSize; ++i) {
+				blu._aadblU[i][1] = adblDiagonal[i];
+
+				if (0 < i) blu._aadblU[i][0] = adblSubDiagonal[i - 1];
+
+				if (iSize - 1 > i) blu._aadblU[i][2] = adblSuperDiagonal[i];
+			}
+
+			return blu.factorize() ? blu : null;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	private BandedLUFactorization (
+		final int iSize,
+		final int iLowerBandwidth,
+		final int iUpperBandwidth)
+		throws java.lang.Exception
+	{
+		if (0 >= iSize || 0 > (_iLowerBandwidth = iLowerBandwidth) || 0 > (_iUpperBandwidth =
+			iUpperBandwidth))
+			throw new java.lang.Exception ("BandedLUFactorization ctr: Invalid Inputs!");
+
+		_aiPivot = new int[iSize];
+		_aadblL = new double[iSize][_iLowerBandwidth];
+		_aadblU = new double[iSize][2 * _iLowerBandwidth + _iUpperBandwidth + 1];
+	}
+
+	/**
+	 * BandedLUFactorization constructor
+	 * 
+	 * @param aadblA The Square Banded Matrix in Dense Form
+	 * @param iLowerBandwidth Number of Sub-diagonals (kl)
+	 * @param iUpperBandwidth Number of Super-diagonals (ku)
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid, the Matrix has Entries outside the Band,
+	 * 	or the Matrix is Singular
+	 */
+
+	public BandedLUFactorization (
+		final double[][] aadblA,
+		final int iLowerBandwidth,
+		final int iUpperBandwidth)
+		throws java.lang.Exception
+	{
+		this (null == aadblA ? 0 : aadblA.length, iLowerBandwidth, iUpperBandwidth);
+
+		int iSize = aadblA.length;
+
+		for (int i = 0; i < iSize; ++i) {
+			if (null == aadblA[i] || iSize != aadblA[i].length)
+				throw new java.lang.Exception ("BandedLUFactorization ctr: Matrix not Square!");
+
+			for (int j = 0; j < iSize; ++j) {
+				if (j - i < -_iLowerBandwidth || j - i > _iUpperBandwidth) {
+					if (0. != aadblA[i][j])
+						throw new java.lang.Exception ("BandedLUFactorization ctr: Entry [" + i + "][" + j +
+							"] outside the Band!");
+				} else
+					_aadblU[i][j - i + _iLowerBandwidth] = aadblA[i][j];
+			}
+		}
+
+		if (!factorize())
+			throw new java.lang.Exception ("BandedLUFactorization ctr: Singular Matrix!");
+	}
+
+	private boolean factorize()
+	{
+		int iSize = _aadblU.length;
+
+		for (int k = 0; k < iSize; ++k) {
+			int iPivotRow = k;
+
+			int iLastRow = java.lang.Math.min (iSize - 1, k + _iLowerBandwidth);
+
+			int iLastColumn = java.lang.Math.min (iSize - 1, k + _iLowerBandwidth + _iUpperBandwidth);
+
+			double dblPivotMagnitude = java.lang.Math.abs (_aadblU[k][_iLowerBandwidth]);
+
+			for (int i = k + 1; i <= iLastRow; ++i) {
+				double dblMagnitude = java.lang.Math.abs (_aadblU[i][k - i + _iLowerBandwidth]);
+
+				if (dblMagnitude > dblPivotMagnitude) {
+					iPivotRow = i;
+					dblPivotMagnitude = dblMagnitude;
+				}
+			}
+
+			if (0. == dblPivotMagnitude || !org.drip.quant.common.NumberUtil.IsValid (dblPivotMagnitude))
+				return false;
+
+			_aiPivot[k] = iPivotRow;
+
+			if (iPivotRow != k) {
+				for (int j = k; j <= iLastColumn; ++j) {
+					double dblEntry = _aadblU[k][j - k + _iLowerBandwidth];
+					_aadblU[k][j - k + _iLowerBandwidth] = _aadblU[iPivotRow][j - iPivotRow + _iLowerBandwidth];
+					_aadblU[iPivotRow][j - iPivotRow + _iLowerBandwidth] = dblEntry;
+				}
+			}
+
+			double dblPivot = _aadblU[k][_iLowerBandwidth];
+
+			for (int i = k + 1; i <= iLastRow; ++i) {
+				double dblMultiplier = _aadblU[i][k - i + _iLowerBandwidth] / dblPivot;
+				_aadblL[k][i - k - 1] = dblMultiplier;
+				_aadblU[i][k - i + _iLowerBandwidth] = 0.;
+
+				if (0. == dblMultiplier) continue;
+
+				for (int j = k + 1; j <= iLastColumn; ++j)
+					_aadblU[i][j - i + _iLowerBandwidth] -= dblMultiplier * _aadblU[k][j - k +
+						_iLowerBandwidth];
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Retrieve the Size of the Factored Matrix
+	 * 
+	 * @return Size of the Factored Matrix
+	 */
+
+	public int size()
+	{
+		return _aadblU.length;
+	}
+
+	/**
+	 * Retrieve the Number of Sub-diagonals
+	 * 
+	 * @return The Number of Sub-diagonals
+	 */
+
+	public int lowerBandwidth()
+	{
+		return _iLowerBandwidth;
+	}
+
+	/**
+	 * Retrieve the Number of Super-diagonals
+	 * 
+	 * @return The Number of Super-diagonals
+	 */
+
+	public int upperBandwidth()
+	{
+		return _iUpperBandwidth;
+	}
+
+	/**
+	 * Solve the Linear System Ax = b
+	 * 
+	 * @param adblB The RHS b
+	 * 
+	 * @return The Solution x
+	 */
+
+	public double[] solve (
+		final double[] adblB)
+	{
+		int iSize = _aadblU.length;
+
+		if (null == adblB || iSize != adblB.length) return null;
+
+		double[] adblX = adblB.clone();
+
+		for (int k = 0; k < iSize; ++k) {
+			int iPivotRow = _aiPivot[k];
+
+			if (iPivotRow != k) {
+				double dblEntry = adblX[k];
+				adblX[k] = adblX[iPivotRow];
+				adblX[iPivotRow] = dblEntry;
+			}
+
+			int iLastRow = java.lang.Math.min (iSize - 1, k + _iLowerBandwidth);
+
+			for (int i = k + 1; i <= iLastRow; ++i)
+				adblX[i] -= _aadblL[k][i - k - 1] * adblX[k];
+		}
+
+		for (int i = iSize - 1; i >= 0; --i) {
+			double dblSum = adblX[i];
+
+			int iLastColumn = java.lang.Math.min (iSize - 1, i + _iLowerBandwidth + _iUpperBandwidth);
+
+			for (int j = i + 1; j <= iLastColumn; ++j)
+				dblSum -= _aadblU[i][j - i + _iLowerBandwidth] * adblX[j];
+
+			adblX[i] = dblSum / _aadblU[i][_iLowerBandwidth];
+		}
+
+		return adblX;
+	}
+
+	/**
+	 * Solve the Linear System Ax = b for each of the RHS
+	 * 
+	 * @param aadblB Array of the RHS b
+	 * 
+	 * @return Array of the Solutions x, one for each RHS
+	 */
+
+	public double[][] solve (
+		final double[][] aadblB)
+	{
+		if (null == aadblB) return null;
+
+		double[][] aadblX = new double[aadblB.length][];
+
+		for (int i = 0; i < aadblB.length; ++i) {
+			if (null == (aadblX[i] = solve (aadblB[i]))) return null;
+		}
+
+		return aadblX;
+	}
+}
@@ -0,0 +1,271 @@
+
+package org.drip.quant.linearalgebra;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * LUFactorization holds the LU Factorization (with Partial Pivoting) of a Square Matrix, i.e., PA = LU,
+ * 	with L Unit Lower Triangular and U Upper Triangular. The Matrix is factored once, and the Factorization
+ * 	is then re-used to solve for any Number of Right Hand Sides at O(n^2) each. It provides the following:
+ * 	- Solve for a single RHS, or for an Array of RHS
+ * 	- Compute (and cache) the Inverse and the Determinant
+ * 	- Check whether a given Matrix is the one that was factored
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class LUFactorization {
+	private int[] _aiPivot = null;
+	private double[][] _aadblA = null;
+	private double[][] _aadblLU = null;
+	private double[][] _aadblInverse = null;
+	private boolean _bEvenPermutation = true;
+
+	/**
+	 * LUFactorization constructor
+	 * 
+	 * @param aadblA The Square Matrix to be factored
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid, or the Matrix is Singular
+	 */
+
+	public LUFactorization (
+		final double[][] aadblA)
+		throws java.lang.Exception
+	{
+		if (null == aadblA || 0 == aadblA.length)
+			throw new java.lang.Exception ("LUFactorization ctr: Invalid Inputs!");
+
+		int iSize = aadblA.length;
+		_aiPivot = new int[iSize];
+		_aadblA = new double[iSize][];
+		_aadblLU = new double[iSize][];
+
+		for (int i = 0; i < iSize; ++i) {
+			if (null == aadblA[i] || iSize != aadblA[i].length)
+				throw new java.lang.Exception ("LUFactorization ctr: Matrix not Square!");
+
+			_aiPivot[i] = i;
+
+			_aadblA[i] = aadblA[i].clone();
+
+			_aadblLU[i] = aadblA[i].clone();
+		}
+
+		for (int k = 0; k < iSize; ++k) {
+			int iPivotRow = k;
+
+			double dblPivotMagnitude = java.lang.Math.abs (_aadblLU[k][k]);
+
+			for (int i = k + 1; i < iSize; ++i) {
+				double dblMagnitude = java.lang.Math.abs (_aadblLU[i][k]);
+
+				if (dblMagnitude > dblPivotMagnitude) {
+					iPivotRow = i;
+					dblPivotMagnitude = dblMagnitude;
+				}
+			}
+
+			if (0. == dblPivotMagnitude || !org.drip.quant.common.NumberUtil.IsValid (dblPivotMagnitude))
+				throw new java.lang.Exception ("LUFactorization ctr: Singular Matrix at Column " + k);
+
+			if (iPivotRow != k) {
+				double[] adblRow = _aadblLU[k];
+				_aadblLU[k] = _aadblLU[iPivotRow];
+				_aadblLU[iPivotRow] = adblRow;
+				int iPivot = _aiPivot[k];
+				_aiPivot[k] = _aiPivot[iPivotRow];
+				_aiPivot[iPivotRow] = iPivot;
+				_bEvenPermutation = !_bEvenPermutation;
+			}
+
+			double[] adblPivotRow = _aadblLU[k];
+			double dblPivot = adblPivotRow[k];
+
+			for (int i = k + 1; i < iSize; ++i) {
+				double[] adblRow = _aadblLU[i];
+
+				if (0. == adblRow[k]) continue;
+
+				double dblMultiplier = adblRow[k] /= dblPivot;
+
+				for (int j = k + 1; j < iSize; ++j)
+					adblRow[j] -= dblMultiplier * adblPivotRow[j];
+			}
+		}
+	}
+
+	/**
+	 * Retrieve the Size of the Factored Matrix
+	 * 
+	 * @return Size of the Factored Matrix
+	 */
+
+	public int size()
+	{
+		return _aadblLU.length;
+	}
+
+	/**
+	 * Retrieve the Row Permutation, i.e., Row i of PA is Row pivot()[i] of A
+	 * 
+	 * @return The Row Permutation
+	 */
+
+	public int[] pivot()
+	{
+		return _aiPivot;
+	}
+
+	/**
+	 * Indicate if the specified Matrix is the Matrix that was factored
+	 * 
+	 * @param aadblA The Matrix
+	 * 
+	 * @return TRUE => The specified Matrix is the Matrix that was factored
+	 */
+
+	public boolean factors (
+		final double[][] aadblA)
+	{
+		if (null == aadblA || aadblA.length != _aadblA.length) return false;
+
+		for (int i = 0; i < _aadblA.length; ++i) {
+			if (!java.util.Arrays.equals (_aadblA[i], aadblA[i])) return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Solve the Linear System Ax = b
+	 * 
+	 * @param adblB The RHS b
+	 * 
+	 * @return The Solution x
+	 */
+
+	public double[] solve (
+		final double[] adblB)
+	{
+		int iSize = _aadblLU.length;
+
+		if (null == adblB || iSize != adblB.length) return null;
+
+		double[] adblX = new double[iSize];
+
+		for (int i = 0; i < iSize; ++i) {
+			double[] adblRow = _aadblLU[i];
+			double dblSum = adblB[_aiPivot[i]];
+
+			for (int j = 0; j < i; ++j)
+				dblSum -= adblRow[j] * adblX[j];
+
+			adblX[i] = dblSum;
+		}
+
+		for (int i = iSize - 1; i >= 0; --i) {
+			double[] adblRow = _aadblLU[i];
+			double dblSum = adblX[i];
+
+			for (int j = i + 1; j < iSize; ++j)
+				dblSum -= adblRow[j] * adblX[j];
+
+			adblX[i] = dblSum / adblRow[i];
+		}
+
+		return adblX;
+	}
+
+	/**
+	 * Solve the Linear System Ax = b for each of the RHS
+	 * 
+	 * @param aadblB Array of the RHS b
+	 * 
+	 * @return Array of the Solutions x, one for each RHS
+	 */
+
+	public double[][] solve (
+		final double[][] aadblB)
+	{
+		if (null == aadblB) return null;
+
+		double[][] aadblX = new double[aadblB.length][];
+
+		for (int i = 0; i < aadblB.length; ++i) {
+			if (null == (aadblX[i] = solve (aadblB[i]))) return null;
+		}
+
+		return aadblX;
+	}
+
+	/**
+	 * Compute the Inverse of the Factored Matrix. The Inverse is computed on the first Invocation, and
+	 * 	cached for the subsequent ones.
+	 * 
+	 * @return The Inverse
+	 */
+
+	public double[][] inverse()
+	{
+		if (null != _aadblInverse) return _aadblInverse;
+
+		int iSize = _aadblLU.length;
+		double[] adblUnit = new double[iSize];
+		double[][] aadblInverse = new double[iSize][iSize];
+
+		for (int j = 0; j < iSize; ++j) {
+			adblUnit[j] = 1.;
+
+			double[] adblColumn = solve (adblUnit);
+
+			adblUnit[j] = 0.;
+
+			for (int i = 0; i < iSize; ++i)
+				aadblInverse[i][j] = adblColumn[i];
+		}
+
+		return _aadblInverse = aadblInverse;
+	}
+
+	/**
+	 * Compute the Determinant of the Factored Matrix
+	 * 
+	 * @return The Determinant
+	 */
+
+	public double determinant()
+	{
+		double dblDeterminant = _bEvenPermutation ? 1. : -1.;
+
+		for (int i = 0; i < _aadblLU.length; ++i)
+			dblDeterminant *= _aadblLU[i][i];
+
+		return dblDeterminant;
+	}
+}
@@ -734,6 +734,26 @@ public class Matrix {
 		return null;
 	}
 
+	/**
+	 * Perform a LU Decomposition (with Partial Pivoting) on the Input Matrix
+	 * 
+	 * @param aadblA The Input Matrix
+	 * 
+	 * @return The Output of LU Decomposition
+	 */
+
+	public static final org.drip.quant.linearalgebra.LUFactorization LUDecomposition (
+		final double[][] aadblA)
+	{
+		try {
+			return new org.drip.quant.linearalgebra.LUFactorization (aadblA);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
 	/**
 	 * Retrieve the Triangular Type of the Matrix
 	 * 
@@ -0,0 +1,405 @@
+
+package org.drip.regression.curve;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * CollateralChoiceCurveRegressor reconciles the Cheapest-to-Deliver Discount Factors the
+ * 	DeterministicCollateralChoiceDiscountCurve serves off of its cached Node Table against the ones stepped
+ * 	through afresh from the Epoch, Increment by Increment, for every Query. It regresses the following
+ * 	scenarios:
+ * 	- #1: Cached against un-cached DF on, and either side of, every Node Date, queried in Descending and
+ * 		then in Random Order, so that the Table is both extended in one go and looked up.
+ * 	- #2: Concurrent First Access - Threads released together onto a fresh Curve, each querying the Dates in
+ * 		its own Random Order, so that the Table is extended and read concurrently.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CollateralChoiceCurveRegressor implements org.drip.regression.core.RegressorSet {
+	private static final int NUM_THREAD = 8;
+	private static final int NUM_CONCURRENT_TRIAL = 20;
+	private static final long RANDOM_SEED = 20150101L;
+	private static final java.lang.String COLLATERAL_TENOR = "10Y";
+	private static final int DISCRETE_COLLATERALIZATION_INCREMENT = 30;
+
+	private static final java.lang.String[] FOREIGN_CURRENCY = new java.lang.String[] {"JPY", "EUR"};
+
+	private static final double[] FOREIGN_COLLATERAL_RATE = new double[] {0.02, 0.025};
+
+	private static final double[] COLLATERALIZED_FX_RATE = new double[] {0.01, 0.004};
+
+	private java.lang.String _strRegressionScenario =
+		"org.drip.state.curve.DeterministicCollateralChoiceDiscountCurve";
+
+	private java.util.List<org.drip.regression.core.UnitRegressor> _setRegressors = new
+		java.util.ArrayList<org.drip.regression.core.UnitRegressor>();
+
+	private org.drip.analytics.rates.DiscountCurve _dcDomestic = null;
+	private org.drip.state.curve.ForeignCollateralizedDiscountCurve[] _aFCDC = null;
+
+	/*
+	 * The Cheapest-to-Deliver DF stepped through from the Epoch for every Query, with no Table.
+	 */
+
+	private static final double UncachedDF (
+		final org.drip.analytics.rates.DiscountCurve dcDomestic,
+		final org.drip.state.curve.ForeignCollateralizedDiscountCurve[] aFCDC,
+		final double dblDate)
+		throws java.lang.Exception
+	{
+		double dblStartDate = dcDomestic.epoch().julian();
+
+		if (dblDate <= dblStartDate) return 1.;
+
+		double dblDF = 1.;
+		double dblWorkoutDate = dblStartDate;
+
+		while (dblWorkoutDate < dblDate) {
+			double dblWorkoutEndDate = dblDate - dblWorkoutDate > DISCRETE_COLLATERALIZATION_INCREMENT ?
+				dblWorkoutDate + DISCRETE_COLLATERALIZATION_INCREMENT : dblDate;
+
+			double dblDFIncrement = dcDomestic.df (dblWorkoutEndDate) / dcDomestic.df (dblWorkoutDate);
+
+			for (org.drip.state.curve.ForeignCollateralizedDiscountCurve fcdc : aFCDC) {
+				double dblCollateralizerDFIncrement = fcdc.df (dblWorkoutEndDate) / fcdc.df (dblWorkoutDate);
+
+				if (dblCollateralizerDFIncrement < dblDFIncrement)
+					dblDFIncrement = dblCollateralizerDFIncrement;
+			}
+
+			dblDF *= dblDFIncrement;
+			dblWorkoutDate = dblWorkoutEndDate;
+		}
+
+		return dblDF;
+	}
+
+	/*
+	 * A Date before the Epoch, and every Node Date with Half a Day either side of it - in Ascending Order.
+	 */
+
+	private static final double[] QueryDates (
+		final org.drip.analytics.date.JulianDate dtEpoch)
+		throws java.lang.Exception
+	{
+		double dblStartDate = dtEpoch.julian();
+
+		int iNumNode = (int) ((dtEpoch.addTenor (COLLATERAL_TENOR).julian() - dblStartDate) /
+			DISCRETE_COLLATERALIZATION_INCREMENT);
+
+		double[] adblQueryDate = new double[3 * iNumNode + 1];
+		adblQueryDate[0] = dblStartDate - 1.;
+
+		for (int i = 0; i < iNumNode; ++i) {
+			double dblNodeDate = dblStartDate + (i + 1) * DISCRETE_COLLATERALIZATION_INCREMENT;
+
+			adblQueryDate[3 * i + 1] = dblNodeDate - 0.5;
+			adblQueryDate[3 * i + 2] = dblNodeDate;
+			adblQueryDate[3 * i + 3] = dblNodeDate + 0.5;
+		}
+
+		return adblQueryDate;
+	}
+
+	private static final double[] Shuffle (
+		final double[] adblDate,
+		final java.util.Random r)
+	{
+		double[] adblShuffled = adblDate.clone();
+
+		for (int i = adblShuffled.length - 1; i > 0; --i) {
+			int j = r.nextInt (i + 1);
+
+			double dblDate = adblShuffled[i];
+			adblShuffled[i] = adblShuffled[j];
+			adblShuffled[j] = dblDate;
+		}
+
+		return adblShuffled;
+	}
+
+	private org.drip.state.curve.DeterministicCollateralChoiceDiscountCurve freshCurve()
+		throws java.lang.Exception
+	{
+		return new org.drip.state.curve.DeterministicCollateralChoiceDiscountCurve (_dcDomestic, _aFCDC,
+			DISCRETE_COLLATERALIZATION_INCREMENT);
+	}
+
+	private boolean setupCurves()
+	{
+		org.drip.analytics.date.JulianDate dtEpoch = org.drip.analytics.date.DateUtil.CreateFromYMD (2015,
+			org.drip.analytics.date.DateUtil.JANUARY, 15);
+
+		_aFCDC = new org.drip.state.curve.ForeignCollateralizedDiscountCurve[FOREIGN_CURRENCY.length];
+
+		try {
+			if (null == (_dcDomestic = org.drip.state.creator.DiscountCurveBuilder.CreateFromFlatRate
+				(dtEpoch, "USD", new org.drip.param.valuation.CollateralizationParams ("OVERNIGHT_INDEX",
+					"USD"), 0.03)))
+				return false;
+
+			for (int i = 0; i < FOREIGN_CURRENCY.length; ++i) {
+				org.drip.analytics.rates.DiscountCurve dcForeign =
+					org.drip.state.creator.DiscountCurveBuilder.CreateFromFlatRate (dtEpoch,
+						FOREIGN_CURRENCY[i], new org.drip.param.valuation.CollateralizationParams
+							("OVERNIGHT_INDEX", FOREIGN_CURRENCY[i]), FOREIGN_COLLATERAL_RATE[i]);
+
+				if (null == dcForeign) return false;
+
+				_aFCDC[i] = new org.drip.state.curve.ForeignCollateralizedDiscountCurve ("USD", dcForeign, new
+					org.drip.function.deterministic1D.ExponentialDecay (dtEpoch.julian(),
+						COLLATERALIZED_FX_RATE[i] / 365.25), new
+							org.drip.function.deterministic1D.FlatUnivariate (0.20), new
+								org.drip.function.deterministic1D.FlatUnivariate (0.10), new
+									org.drip.function.deterministic1D.FlatUnivariate (0.30));
+			}
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public boolean setupRegressors()
+	{
+		if (!setupCurves()) return false;
+
+		try {
+			/*
+			 * Cached vs. Un-cached Collateral Choice DF - implements the pre-regression, the
+			 * 	post-regression, and the actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("CachedVersusUncached",
+				_strRegressionScenario)
+			{
+				private int _iNumQuery = -1;
+				private double[] _adblQueryDate = null;
+				private double[] _adblUncachedDF = null;
+				private double _dblMaxDeviation = java.lang.Double.NaN;
+				private org.drip.state.curve.DeterministicCollateralChoiceDiscountCurve _dccdc = null;
+
+				@Override public boolean preRegression()
+				{
+					try {
+						_dccdc = freshCurve();
+
+						_adblQueryDate = QueryDates (_dcDomestic.epoch());
+
+						_adblUncachedDF = new double[_adblQueryDate.length];
+
+						for (int i = 0; i < _adblQueryDate.length; ++i)
+							_adblUncachedDF[i] = UncachedDF (_dcDomestic, _aFCDC, _adblQueryDate[i]);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					_iNumQuery = 0;
+					_dblMaxDeviation = 0.;
+
+					java.util.Random r = new java.util.Random (RANDOM_SEED);
+
+					int[] aiRandomOrder = new int[_adblQueryDate.length];
+
+					for (int i = 0; i < aiRandomOrder.length; ++i)
+						aiRandomOrder[i] = r.nextInt (aiRandomOrder.length);
+
+					try {
+						for (int i = _adblQueryDate.length - 1; i >= 0; --i) {
+							_dblMaxDeviation = java.lang.Math.max (_dblMaxDeviation, java.lang.Math.abs
+								(_dccdc.df (_adblQueryDate[i]) - _adblUncachedDF[i]));
+
+							++_iNumQuery;
+						}
+
+						for (int i : aiRandomOrder) {
+							_dblMaxDeviation = java.lang.Math.max (_dblMaxDeviation, java.lang.Math.abs
+								(_dccdc.df (_adblQueryDate[i]) - _adblUncachedDF[i]));
+
+							++_iNumQuery;
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxDFDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDeviation, 1, 16, 1.));
+
+					rnvd.set ("NumQuery", "" + _iNumQuery);
+
+					return 0. == _dblMaxDeviation;
+				}
+			});
+
+			/*
+			 * Concurrent First Access vs. Un-cached Collateral Choice DF - implements the pre-regression,
+			 * 	the post-regression, and the actual regression functionality of the UnitRegressorExecutor
+			 * 	class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("ConcurrentFirstAccess", _strRegressionScenario)
+			{
+				private double[] _adblQueryDate = null;
+				private double[] _adblUncachedDF = null;
+				private double _dblMaxDeviation = java.lang.Double.NaN;
+				private java.util.concurrent.atomic.AtomicInteger _aiNumFailure = null;
+
+				@Override public boolean preRegression()
+				{
+					try {
+						_adblQueryDate = QueryDates (_dcDomestic.epoch());
+
+						_adblUncachedDF = new double[_adblQueryDate.length];
+
+						for (int i = 0; i < _adblQueryDate.length; ++i)
+							_adblUncachedDF[i] = UncachedDF (_dcDomestic, _aFCDC, _adblQueryDate[i]);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					_dblMaxDeviation = 0.;
+					_aiNumFailure = new java.util.concurrent.atomic.AtomicInteger();
+
+					final double[] adblThreadMaxDeviation = new double[NUM_THREAD];
+
+					java.util.Random r = new java.util.Random (RANDOM_SEED);
+
+					try {
+						for (int iTrial = 0; iTrial < NUM_CONCURRENT_TRIAL; ++iTrial) {
+							final org.drip.state.curve.DeterministicCollateralChoiceDiscountCurve dccdc =
+								freshCurve();
+
+							final java.util.concurrent.CountDownLatch cdlStart = new
+								java.util.concurrent.CountDownLatch (1);
+
+							java.lang.Thread[] aThread = new java.lang.Thread[NUM_THREAD];
+
+							for (int iThread = 0; iThread < NUM_THREAD; ++iThread) {
+								final int iThreadIndex = iThread;
+
+								final double[] adblDate = Shuffle (_adblQueryDate, r);
+
+								aThread[iThread] = new java.lang.Thread (new java.lang.Runnable() {
+									@Override public void run()
+									{
+										try {
+											cdlStart.await();
+
+											for (double dblDate : adblDate) {
+												int iQuery = java.util.Arrays.binarySearch (_adblQueryDate,
+													dblDate);
+
+												adblThreadMaxDeviation[iThreadIndex] = java.lang.Math.max
+													(adblThreadMaxDeviation[iThreadIndex],
+														java.lang.Math.abs (dccdc.df (dblDate) -
+															_adblUncachedDF[iQuery]));
+											}
+										} catch (java.lang.Exception e) {
+											e.printStackTrace();
+
+											_aiNumFailure.incrementAndGet();
+										}
+									}
+								});
+
+								aThread[iThread].start();
+							}
+
+							cdlStart.countDown();
+
+							for (java.lang.Thread t : aThread)
+								t.join();
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					for (double dblThreadMaxDeviation : adblThreadMaxDeviation)
+						_dblMaxDeviation = java.lang.Math.max (_dblMaxDeviation, dblThreadMaxDeviation);
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxDFDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDeviation, 1, 16, 1.));
+
+					rnvd.set ("NumFailure", "" + _aiNumFailure.get());
+
+					return 0. == _dblMaxDeviation && 0 == _aiNumFailure.get();
+				}
+			});
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public java.util.List<org.drip.regression.core.UnitRegressor> getRegressorSet()
+	{
+		return _setRegressors;
+	}
+
+	@Override public java.lang.String getSetName()
+	{
+		return _strRegressionScenario;
+	}
+}
@@ -33,8 +33,9 @@ package org.drip.regression.curve;
 
 /**
  * CreditAnalyticsRegressionEngine implements the RegressionEngine for the curve regression. It adds the
- * 	CreditCurveRegressor, DiscountCurveRegressor, FXCurveRegressor, and ZeroCurveRegressor, and launches the
- * 	regression engine.
+ * 	CreditCurveRegressor, DiscountCurveRegressor, FXCurveRegressor, ZeroCurveRegressor,
+ * 	ScenarioCurveRegressor, ScenarioCurveCookerRegressor, and CollateralChoiceCurveRegressor, and
+ * 	launches the regression engine.
  *
  * @author Lakshmi Krishnamurthy
  */
@@ -84,6 +85,12 @@ public class CreditAnalyticsRegressionEngine extends org.drip.regression.core.Re
 
 		care.addRegressorSet (new ZeroCurveRegressor());
 
+		care.addRegressorSet (new ScenarioCurveRegressor());
+
+		care.addRegressorSet (new ScenarioCurveCookerRegressor());
+
+		care.addRegressorSet (new CollateralChoiceCurveRegressor());
+
 		/*
 		 * Launch regression - and that's it!
 		 */
@@ -33,7 +33,7 @@ package org.drip.regression.curve;
 
 /**
  * CreditCurveRegressor implements the regression set analysis for the Credit Curve. CreditCurveRegressor
- *  regresses 12 scenarios:
+ *  regresses 14 scenarios:
  * 	- #1: Create an SNAC CDS.
  * 	- #2: Create the credit curve from a set of CDS instruments.
  * 	- #3: Create the credit curve from a flat hazard rate.
@@ -46,6 +46,8 @@ package org.drip.regression.curve;
  * 	- #10: Set a specific default date on the credit curve.
  * 	- #11: Compute the effective survival probability between 2 dates.
  * 	- #12: Compute the effective hazard rate between 2 dates.
+ * 	- #13: Reconcile the analytic CDS loss/accrual-on-default legs against the day step quadrature.
+ * 	- #14: Re-value a CDS off of the Credit Basis implied from its Fair Premium Market Quote.
  *
  * @author Lakshmi Krishnamurthy
  */
@@ -744,6 +746,172 @@ public class CreditCurveRegressor implements org.drip.regression.core.RegressorS
 					return true;
 				}
 			});
+
+			/*
+			 * Testing the analytic (knot point) CDS loss and accrual-on-default legs against the daily step
+			 * 	quadrature - implements the pre-regression, the post-regression, and the actual regression
+			 * 	functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("AnalyticLossLegs",
+				_strRegressionScenario)
+			{
+				private static final int NUM_CDS = 5;
+
+				private final java.lang.String[] _astrMeasure = new java.lang.String[] {"FairPremium", "LossPV",
+					"DV01"};
+
+				private double[][] _aadblExactMeasure = new double[NUM_CDS][_astrMeasure.length];
+				private double[][] _aadblDayStepMeasure = new double[NUM_CDS][_astrMeasure.length];
+				private org.drip.product.definition.CreditDefaultSwap[] _aCDS = new
+					org.drip.product.definition.CreditDefaultSwap[NUM_CDS];
+
+				@Override public boolean preRegression()
+				{
+					for (int i = 0; i < NUM_CDS; ++i) {
+						if (null == (_aCDS[i] = org.drip.product.creator.CDSBuilder.CreateSNAC (_dtStart, (i +
+							1) + "Y", 0.01, "CORP")))
+							return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					org.drip.param.valuation.ValuationParams valParams =
+						org.drip.param.valuation.ValuationParams.Spot (_dtStart, 0, "",
+							org.drip.analytics.daycount.Convention.DATE_ROLL_ACTUAL);
+
+					org.drip.param.market.CurveSurfaceQuoteSet csqs =
+						org.drip.param.creator.MarketParamsBuilder.Credit (_dc, _cc);
+
+					org.drip.param.pricer.PricerParams pricerParamsExact = new
+						org.drip.param.pricer.PricerParams (7, null, false,
+							org.drip.param.pricer.PricerParams.PERIOD_DISCRETIZATION_EXACT);
+
+					org.drip.param.pricer.PricerParams pricerParamsDayStep = new
+						org.drip.param.pricer.PricerParams (1, null, false,
+							org.drip.param.pricer.PricerParams.PERIOD_DISCRETIZATION_DAY_STEP);
+
+					for (int i = 0; i < NUM_CDS; ++i) {
+						for (int j = 0; j < _astrMeasure.length; ++j) {
+							try {
+								if (!org.drip.quant.common.NumberUtil.IsValid (_aadblExactMeasure[i][j] =
+									_aCDS[i].measureValue (valParams, pricerParamsExact, csqs, null,
+										_astrMeasure[j])) || !org.drip.quant.common.NumberUtil.IsValid
+											(_aadblDayStepMeasure[i][j] = _aCDS[i].measureValue (valParams,
+												pricerParamsDayStep, csqs, null, _astrMeasure[j])))
+									return false;
+							} catch (java.lang.Exception e) {
+								e.printStackTrace();
+
+								return false;
+							}
+						}
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					for (int i = 0; i < NUM_CDS; ++i) {
+						for (int j = 0; j < _astrMeasure.length; ++j) {
+							java.lang.String strKey = _astrMeasure[j] + "[" + (i + 1) + "Y]";
+
+							rnvd.set ("Exact" + strKey, org.drip.quant.common.FormatUtil.FormatDouble
+								(_aadblExactMeasure[i][j], 1, 6, 1));
+
+							rnvd.set ("DayStep" + strKey, org.drip.quant.common.FormatUtil.FormatDouble
+								(_aadblDayStepMeasure[i][j], 1, 6, 1));
+
+							if (!org.drip.quant.common.NumberUtil.WithinTolerance (_aadblExactMeasure[i][j],
+								_aadblDayStepMeasure[i][j], 1.e-06, 1.e-04))
+								return false;
+						}
+					}
+
+					return true;
+				}
+			});
+
+			/*
+			 * Testing the Market Measures of a CDS calibrated off of its Fair Premium Quote - implements the
+			 * 	pre-regression, the post-regression, and the actual regression functionality of the
+			 * 	UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("MarketFairPremium",
+				_strRegressionScenario)
+			{
+				private static final double MARKET_FAIR_PREMIUM = 175.;
+
+				private double _dblFairPremium = java.lang.Double.NaN;
+				private double _dblCreditBasis = java.lang.Double.NaN;
+				private double _dblMarketFairPremium = java.lang.Double.NaN;
+				private org.drip.product.definition.CreditDefaultSwap _cds = null;
+				private org.drip.param.market.CurveSurfaceQuoteSet _csqs = null;
+
+				@Override public boolean preRegression()
+				{
+					if (null == (_cds = org.drip.product.creator.CDSBuilder.CreateSNAC (_dtStart, "3Y", 0.01,
+						"CORP")))
+						return false;
+
+					org.drip.param.definition.ProductQuote cq =
+						org.drip.param.creator.QuoteBuilder.CreateProductQuote();
+
+					if (null == cq) return false;
+
+					cq.addQuote ("FairPremium", org.drip.param.creator.QuoteBuilder.CreateQuote ("mid",
+						MARKET_FAIR_PREMIUM, java.lang.Double.NaN), false);
+
+					return null != (_csqs = org.drip.param.creator.MarketParamsBuilder.Create (_dc, null, _cc,
+						_cds.name(), cq, null, null));
+				}
+
+				@Override public boolean execRegression()
+				{
+					org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasure = _cds.value
+						(org.drip.param.valuation.ValuationParams.Spot (_dtStart, 0, "",
+							org.drip.analytics.daycount.Convention.DATE_ROLL_ACTUAL), new
+								org.drip.param.pricer.PricerParams (7, null, false,
+									org.drip.param.pricer.PricerParams.PERIOD_DISCRETIZATION_DAY_STEP), _csqs,
+										null);
+
+					if (null == mapMeasure || !mapMeasure.containsKey ("FairFairPremium") ||
+						!mapMeasure.containsKey ("MarketFairPremium") || !mapMeasure.containsKey
+							("MarketCreditBasis"))
+						return false;
+
+					_dblFairPremium = mapMeasure.get ("FairFairPremium");
+
+					_dblCreditBasis = mapMeasure.get ("MarketCreditBasis");
+
+					_dblMarketFairPremium = mapMeasure.get ("MarketFairPremium");
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("FairFairPremium", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblFairPremium, 1, 6, 1));
+
+					rnvd.set ("MarketFairPremium", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMarketFairPremium, 1, 6, 1));
+
+					rnvd.set ("MarketCreditBasis", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblCreditBasis, 1, 6, 1));
+
+					return org.drip.quant.common.NumberUtil.WithinTolerance (_dblMarketFairPremium,
+						MARKET_FAIR_PREMIUM, 1.e-04, 1.e-06) && 0. < _dblCreditBasis && _dblFairPremium <
+							MARKET_FAIR_PREMIUM;
+				}
+			});
 		} catch (Exception e) {
 			e.printStackTrace();
 
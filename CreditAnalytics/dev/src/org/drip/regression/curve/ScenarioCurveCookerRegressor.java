@@ -0,0 +1,617 @@
+
+package org.drip.regression.curve;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * ScenarioCurveCookerRegressor reconciles the Scenario Curves cooked concurrently on a ScenarioCurveCooker
+ * 	against the ones cooked in-line on the calling Thread. It regresses the following scenarios:
+ * 	- #1: Concurrent against in-line Base, Flat Bumped, and Tenor Bumped Discount Curves off of a Deposit
+ * 		Strip, with the published Curves read off of a separate Thread.
+ * 	- #2: Concurrent against in-line Base, Flat Bumped, Tenor Bumped, and Recovery Bumped Credit Curves off
+ * 		of a CDS Strip, with the published Curves read off of a separate Thread.
+ * 	- #3: Nested Cooks - Discount Curve Cooks submitted from inside the Calibrations of an outer Cook on a
+ * 		Cooker with fewer Threads than outer Calibrations, verifying that the nested Calibrations run in-line
+ * 		on the Calibrating Thread and that the nested Curves match the in-line ones.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class ScenarioCurveCookerRegressor implements org.drip.regression.core.RegressorSet {
+	private static final int NUM_GRID_DATE = 60;
+	private static final int NUM_NESTED_COOK = 4;
+	private static final int COOKER_PARALLELISM = 4;
+	private static final int NESTED_COOKER_PARALLELISM = 2;
+	private static final double IR_BUMP = 0.0001;
+	private static final double CREDIT_BUMP = 1.;
+	private static final double CREDIT_RECOVERY = 0.4;
+	private static final double CREDIT_RECOVERY_BUMP = 0.05;
+	private static final long READER_TIMEOUT_MILLIS = 60000L;
+
+	private static final int DC_SCENARIO = org.drip.param.definition.ScenarioDiscountCurve.DC_FLAT_UP |
+		org.drip.param.definition.ScenarioDiscountCurve.DC_FLAT_DN |
+			org.drip.param.definition.ScenarioDiscountCurve.DC_TENOR_UP |
+				org.drip.param.definition.ScenarioDiscountCurve.DC_TENOR_DN;
+
+	private static final int CC_SCENARIO = org.drip.param.definition.ScenarioCreditCurve.CC_FLAT_UP |
+		org.drip.param.definition.ScenarioCreditCurve.CC_FLAT_DN |
+			org.drip.param.definition.ScenarioCreditCurve.CC_TENOR_UP |
+				org.drip.param.definition.ScenarioCreditCurve.CC_TENOR_DN |
+					org.drip.param.definition.ScenarioCreditCurve.CC_RR_FLAT_UP |
+						org.drip.param.definition.ScenarioCreditCurve.CC_RR_FLAT_DN;
+
+	private static final int[] DEPOSIT_MONTHS = new int[] {1, 2, 3, 6, 9, 12};
+
+	private static final double[] DEPOSIT_RATE = new double[] {0.0020, 0.0023, 0.0026, 0.0035, 0.0042,
+		0.0050};
+
+	private static final double[] CDS_FAIR_PREMIUM = new double[] {50., 100., 150., 200., 250.};
+
+	private java.lang.String _strRegressionScenario = "org.drip.param.market.ScenarioCurveCooker";
+
+	private java.util.List<org.drip.regression.core.UnitRegressor> _setRegressors = new
+		java.util.ArrayList<org.drip.regression.core.UnitRegressor>();
+
+	private static final org.drip.analytics.date.JulianDate SpotDate()
+	{
+		return org.drip.analytics.date.DateUtil.CreateFromYMD (2010, org.drip.analytics.date.DateUtil.MAY,
+			12);
+	}
+
+	private static final org.drip.param.valuation.ValuationParams ValuationParams()
+	{
+		return org.drip.param.valuation.ValuationParams.Spot (SpotDate(), 0, "",
+			org.drip.analytics.daycount.Convention.DATE_ROLL_ACTUAL);
+	}
+
+	private static final double[] GridDates (
+		final org.drip.product.definition.CalibratableFixedIncomeComponent[] aCalibInst)
+	{
+		double dblStartDate = SpotDate().julian();
+
+		double[] adblGridDate = new double[NUM_GRID_DATE];
+
+		double dblGridWidth = (aCalibInst[aCalibInst.length - 1].maturityDate().julian() - dblStartDate) /
+			NUM_GRID_DATE;
+
+		for (int i = 0; i < NUM_GRID_DATE; ++i)
+			adblGridDate[i] = dblStartDate + (i + 1) * dblGridWidth;
+
+		return adblGridDate;
+	}
+
+	private static final org.drip.product.definition.CalibratableFixedIncomeComponent[] Deposits()
+		throws java.lang.Exception
+	{
+		org.drip.analytics.date.JulianDate dtStart = SpotDate();
+
+		org.drip.product.definition.CalibratableFixedIncomeComponent[] aDeposit = new
+			org.drip.product.definition.CalibratableFixedIncomeComponent[DEPOSIT_MONTHS.length];
+
+		for (int i = 0; i < DEPOSIT_MONTHS.length; ++i)
+			aDeposit[i] = org.drip.product.creator.SingleStreamComponentBuilder.Deposit (dtStart.addDays (2),
+				dtStart.addMonths (DEPOSIT_MONTHS[i]), org.drip.state.identifier.ForwardLabel.Create ("USD",
+					"3M"));
+
+		return aDeposit;
+	}
+
+	private static final java.lang.String[] CalibMeasures (
+		final java.lang.String strCalibMeasure,
+		final int iNumInstrument)
+	{
+		java.lang.String[] astrCalibMeasure = new java.lang.String[iNumInstrument];
+
+		for (int i = 0; i < iNumInstrument; ++i)
+			astrCalibMeasure[i] = strCalibMeasure;
+
+		return astrCalibMeasure;
+	}
+
+	private static final org.drip.param.market.RatesCurveScenarioContainer RatesContainer (
+		final org.drip.product.definition.CalibratableFixedIncomeComponent[] aDeposit)
+		throws java.lang.Exception
+	{
+		return new org.drip.param.market.RatesCurveScenarioContainer (new
+			org.drip.state.estimator.RatesCurveScenarioGenerator ("USD",
+				org.drip.state.creator.DiscountCurveBuilder.BOOTSTRAP_MODE_CONSTANT_FORWARD, aDeposit));
+	}
+
+	private static final boolean CookRates (
+		final org.drip.param.market.RatesCurveScenarioContainer rcsc,
+		final org.drip.param.market.ScenarioCurveCooker scc)
+	{
+		return rcsc.cookScenarioDC (ValuationParams(), null, CalibMeasures ("Rate", DEPOSIT_RATE.length),
+			DEPOSIT_RATE, IR_BUMP, null, null, DC_SCENARIO, scc);
+	}
+
+	private static final boolean CookCredit (
+		final org.drip.param.market.CreditCurveScenarioContainer ccsc,
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final org.drip.param.market.ScenarioCurveCooker scc)
+	{
+		return ccsc.cookScenarioCC ("CORP", ValuationParams(), dc, null, CalibMeasures ("FairPremium",
+			CDS_FAIR_PREMIUM.length), CDS_FAIR_PREMIUM, CREDIT_RECOVERY, null, null, false, CC_SCENARIO, scc);
+	}
+
+	private static final double MaxDFDeviation (
+		final org.drip.analytics.rates.DiscountCurve dc1,
+		final org.drip.analytics.rates.DiscountCurve dc2,
+		final double[] adblGridDate)
+		throws java.lang.Exception
+	{
+		if (null == dc1 || null == dc2) return java.lang.Double.POSITIVE_INFINITY;
+
+		double dblMaxDeviation = 0.;
+
+		for (double dblGridDate : adblGridDate)
+			dblMaxDeviation = java.lang.Math.max (dblMaxDeviation, java.lang.Math.abs (dc1.df (dblGridDate) -
+				dc2.df (dblGridDate)));
+
+		return dblMaxDeviation;
+	}
+
+	private static final double MaxDFDeviation (
+		final org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve> map1,
+		final org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve> map2,
+		final double[] adblGridDate)
+		throws java.lang.Exception
+	{
+		if (null == map1 || null == map2 || map1.size() != map2.size())
+			return java.lang.Double.POSITIVE_INFINITY;
+
+		double dblMaxDeviation = 0.;
+
+		for (java.util.Map.Entry<java.lang.String, org.drip.analytics.rates.DiscountCurve> me :
+			map1.entrySet())
+			dblMaxDeviation = java.lang.Math.max (dblMaxDeviation, MaxDFDeviation (me.getValue(), map2.get
+				(me.getKey()), adblGridDate));
+
+		return dblMaxDeviation;
+	}
+
+	private static final double MaxDFDeviation (
+		final org.drip.param.market.RatesCurveScenarioContainer rcsc1,
+		final org.drip.param.market.RatesCurveScenarioContainer rcsc2,
+		final double[] adblGridDate)
+		throws java.lang.Exception
+	{
+		return java.lang.Math.max (java.lang.Math.max (MaxDFDeviation (rcsc1.base(), rcsc2.base(),
+			adblGridDate), java.lang.Math.max (MaxDFDeviation (rcsc1.bumpUp(), rcsc2.bumpUp(), adblGridDate),
+				MaxDFDeviation (rcsc1.bumpDown(), rcsc2.bumpDown(), adblGridDate))), java.lang.Math.max
+					(MaxDFDeviation (rcsc1.tenorBumpUp(), rcsc2.tenorBumpUp(), adblGridDate), MaxDFDeviation
+						(rcsc1.tenorBumpDown(), rcsc2.tenorBumpDown(), adblGridDate)));
+	}
+
+	private static final double MaxSurvivalDeviation (
+		final org.drip.analytics.definition.CreditCurve cc1,
+		final org.drip.analytics.definition.CreditCurve cc2,
+		final double[] adblGridDate)
+		throws java.lang.Exception
+	{
+		if (null == cc1 || null == cc2) return java.lang.Double.POSITIVE_INFINITY;
+
+		double dblMaxDeviation = 0.;
+
+		for (double dblGridDate : adblGridDate)
+			dblMaxDeviation = java.lang.Math.max (dblMaxDeviation, java.lang.Math.abs (cc1.survival
+				(dblGridDate) - cc2.survival (dblGridDate)));
+
+		return dblMaxDeviation;
+	}
+
+	private static final double MaxSurvivalDeviation (
+		final org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>
+			map1,
+		final org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>
+			map2,
+		final double[] adblGridDate)
+		throws java.lang.Exception
+	{
+		if (null == map1 || null == map2 || map1.size() != map2.size())
+			return java.lang.Double.POSITIVE_INFINITY;
+
+		double dblMaxDeviation = 0.;
+
+		for (java.util.Map.Entry<java.lang.String, org.drip.analytics.definition.CreditCurve> me :
+			map1.entrySet())
+			dblMaxDeviation = java.lang.Math.max (dblMaxDeviation, MaxSurvivalDeviation (me.getValue(),
+				map2.get (me.getKey()), adblGridDate));
+
+		return dblMaxDeviation;
+	}
+
+	private static final double MaxSurvivalDeviation (
+		final org.drip.param.market.CreditCurveScenarioContainer ccsc1,
+		final org.drip.param.market.CreditCurveScenarioContainer ccsc2,
+		final double[] adblGridDate)
+		throws java.lang.Exception
+	{
+		double dblMaxDeviation = MaxSurvivalDeviation (ccsc1.base(), ccsc2.base(), adblGridDate);
+
+		dblMaxDeviation = java.lang.Math.max (dblMaxDeviation, MaxSurvivalDeviation (ccsc1.bumpUp(),
+			ccsc2.bumpUp(), adblGridDate));
+
+		dblMaxDeviation = java.lang.Math.max (dblMaxDeviation, MaxSurvivalDeviation (ccsc1.bumpDown(),
+			ccsc2.bumpDown(), adblGridDate));
+
+		dblMaxDeviation = java.lang.Math.max (dblMaxDeviation, MaxSurvivalDeviation (ccsc1.bumpRecoveryUp(),
+			ccsc2.bumpRecoveryUp(), adblGridDate));
+
+		dblMaxDeviation = java.lang.Math.max (dblMaxDeviation, MaxSurvivalDeviation
+			(ccsc1.bumpRecoveryDown(), ccsc2.bumpRecoveryDown(), adblGridDate));
+
+		dblMaxDeviation = java.lang.Math.max (dblMaxDeviation, MaxSurvivalDeviation (ccsc1.tenorBumpUp(),
+			ccsc2.tenorBumpUp(), adblGridDate));
+
+		return java.lang.Math.max (dblMaxDeviation, MaxSurvivalDeviation (ccsc1.tenorBumpDown(),
+			ccsc2.tenorBumpDown(), adblGridDate));
+	}
+
+	/*
+	 * Spin until the Last Curve the Container publishes becomes visible, and check that every Curve
+	 * 	published before it is visible too.
+	 */
+
+	private static final java.lang.Thread PublicationReader (
+		final org.drip.param.definition.ScenarioDiscountCurve sdc,
+		final org.drip.param.definition.ScenarioCreditCurve scc,
+		final boolean[] abPublished)
+	{
+		java.lang.Thread t = new java.lang.Thread (new java.lang.Runnable() {
+			@Override public void run()
+			{
+				long lDeadline = java.lang.System.currentTimeMillis() + READER_TIMEOUT_MILLIS;
+
+				while (java.lang.System.currentTimeMillis() < lDeadline) {
+					if (null != sdc && null != sdc.tenorBumpDown()) {
+						abPublished[0] = null != sdc.base() && null != sdc.bumpUp() && null !=
+							sdc.bumpDown() && null != sdc.tenorBumpUp();
+
+						return;
+					}
+
+					if (null != scc && null != scc.bumpRecoveryDown()) {
+						abPublished[0] = null != scc.base() && null != scc.bumpUp() && null !=
+							scc.bumpDown() && null != scc.tenorBumpUp() && null != scc.tenorBumpDown() &&
+								null != scc.bumpRecoveryUp();
+
+						return;
+					}
+
+					java.lang.Thread.yield();
+				}
+			}
+		}, "ScenarioCurvePublicationReader");
+
+		t.setDaemon (true);
+
+		t.start();
+
+		return t;
+	}
+
+	/*
+	 * Each Outer Cook probes the Cooker with more nested Calibrations than it has Threads, counting the ones
+	 * 	not run on the Outer Thread, before cooking its own Container on the same Cooker and returning its
+	 * 	Deviation from the in-line Container.
+	 */
+
+	private static final java.util.List<java.util.concurrent.Callable<java.lang.Double>> NestedCooks (
+		final org.drip.param.market.ScenarioCurveCooker scc,
+		final org.drip.product.definition.CalibratableFixedIncomeComponent[] aDeposit,
+		final org.drip.param.market.RatesCurveScenarioContainer rcscInLine,
+		final java.util.concurrent.atomic.AtomicInteger aiNumOffThread)
+	{
+		final double[] adblGridDate = GridDates (aDeposit);
+
+		java.util.List<java.util.concurrent.Callable<java.lang.Double>> lsOuterCook = new
+			java.util.ArrayList<java.util.concurrent.Callable<java.lang.Double>>();
+
+		for (int i = 0; i < NUM_NESTED_COOK; ++i)
+			lsOuterCook.add (new java.util.concurrent.Callable<java.lang.Double>() {
+				@Override public java.lang.Double call()
+					throws java.lang.Exception
+				{
+					final java.lang.Thread tOuter = java.lang.Thread.currentThread();
+
+					java.util.List<java.util.concurrent.Callable<java.lang.Boolean>> lsProbe = new
+						java.util.ArrayList<java.util.concurrent.Callable<java.lang.Boolean>>();
+
+					for (int j = 0; j < NESTED_COOKER_PARALLELISM + 1; ++j)
+						lsProbe.add (new java.util.concurrent.Callable<java.lang.Boolean>() {
+							@Override public java.lang.Boolean call()
+							{
+								if (tOuter != java.lang.Thread.currentThread())
+									aiNumOffThread.incrementAndGet();
+
+								return java.lang.Boolean.TRUE;
+							}
+						});
+
+					if (null == scc.cook (lsProbe)) return null;
+
+					org.drip.param.market.RatesCurveScenarioContainer rcsc = RatesContainer (aDeposit);
+
+					return CookRates (rcsc, scc) ? MaxDFDeviation (rcsc, rcscInLine, adblGridDate) : null;
+				}
+			});
+
+		return lsOuterCook;
+	}
+
+	@Override public boolean setupRegressors()
+	{
+		try {
+			/*
+			 * Concurrent vs. In-line Discount Curve Cook - implements the pre-regression, the
+			 * 	post-regression, and the actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("RatesConcurrentVersusInLine", _strRegressionScenario)
+			{
+				private boolean _bReaderPublished = false;
+				private double _dblMaxDFDeviation = java.lang.Double.NaN;
+				private org.drip.param.market.ScenarioCurveCooker _scc = null;
+				private org.drip.product.definition.CalibratableFixedIncomeComponent[] _aDeposit = null;
+
+				@Override public boolean preRegression()
+				{
+					try {
+						_aDeposit = Deposits();
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return null != (_scc = org.drip.param.market.ScenarioCurveCooker.Standard
+						(COOKER_PARALLELISM));
+				}
+
+				@Override public boolean execRegression()
+				{
+					boolean[] abPublished = new boolean[] {false};
+
+					try {
+						org.drip.param.market.RatesCurveScenarioContainer rcscConcurrent = RatesContainer
+							(_aDeposit);
+
+						org.drip.param.market.RatesCurveScenarioContainer rcscInLine = RatesContainer
+							(_aDeposit);
+
+						java.lang.Thread tReader = PublicationReader (rcscConcurrent, null, abPublished);
+
+						if (!CookRates (rcscConcurrent, _scc) || !CookRates (rcscInLine, null)) return false;
+
+						tReader.join (READER_TIMEOUT_MILLIS);
+
+						_bReaderPublished = abPublished[0];
+
+						_dblMaxDFDeviation = MaxDFDeviation (rcscConcurrent, rcscInLine, GridDates
+							(_aDeposit));
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					_scc.shutdown();
+
+					rnvd.set ("MaxDFDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDFDeviation, 1, 16, 1.));
+
+					rnvd.set ("ReaderPublished", "" + _bReaderPublished);
+
+					return 0. == _dblMaxDFDeviation && _bReaderPublished;
+				}
+			});
+
+			/*
+			 * Concurrent vs. In-line Credit Curve Cook - implements the pre-regression, the post-regression,
+			 * 	and the actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("CreditConcurrentVersusInLine", _strRegressionScenario)
+			{
+				private boolean _bReaderPublished = false;
+				private double _dblMaxSurvivalDeviation = java.lang.Double.NaN;
+				private org.drip.analytics.rates.DiscountCurve _dc = null;
+				private org.drip.param.market.ScenarioCurveCooker _scc = null;
+				private org.drip.product.definition.CalibratableFixedIncomeComponent[] _aCDS = new
+					org.drip.product.definition.CalibratableFixedIncomeComponent[CDS_FAIR_PREMIUM.length];
+
+				@Override public boolean preRegression()
+				{
+					org.drip.analytics.date.JulianDate dtStart = SpotDate();
+
+					if (null == (_dc = org.drip.state.creator.DiscountCurveBuilder.CreateFromFlatRate
+						(dtStart, "USD", null, 0.04)))
+						return false;
+
+					for (int i = 0; i < CDS_FAIR_PREMIUM.length; ++i) {
+						if (null == (_aCDS[i] = org.drip.product.creator.CDSBuilder.CreateSNAC (dtStart, (i
+							+ 1) + "Y", 0.01, "CORP")))
+							return false;
+					}
+
+					return null != (_scc = org.drip.param.market.ScenarioCurveCooker.Standard
+						(COOKER_PARALLELISM));
+				}
+
+				@Override public boolean execRegression()
+				{
+					boolean[] abPublished = new boolean[] {false};
+
+					try {
+						org.drip.param.market.CreditCurveScenarioContainer ccscConcurrent = new
+							org.drip.param.market.CreditCurveScenarioContainer (_aCDS, CREDIT_BUMP,
+								CREDIT_RECOVERY_BUMP);
+
+						org.drip.param.market.CreditCurveScenarioContainer ccscInLine = new
+							org.drip.param.market.CreditCurveScenarioContainer (_aCDS, CREDIT_BUMP,
+								CREDIT_RECOVERY_BUMP);
+
+						java.lang.Thread tReader = PublicationReader (null, ccscConcurrent, abPublished);
+
+						if (!CookCredit (ccscConcurrent, _dc, _scc) || !CookCredit (ccscInLine, _dc, null))
+							return false;
+
+						tReader.join (READER_TIMEOUT_MILLIS);
+
+						_bReaderPublished = abPublished[0];
+
+						_dblMaxSurvivalDeviation = MaxSurvivalDeviation (ccscConcurrent, ccscInLine,
+							GridDates (_aCDS));
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					_scc.shutdown();
+
+					rnvd.set ("MaxSurvivalDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxSurvivalDeviation, 1, 16, 1.));
+
+					rnvd.set ("ReaderPublished", "" + _bReaderPublished);
+
+					return 0. == _dblMaxSurvivalDeviation && _bReaderPublished;
+				}
+			});
+
+			/*
+			 * Nested vs. In-line Discount Curve Cook - implements the pre-regression, the post-regression,
+			 * 	and the actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("NestedCook",
+				_strRegressionScenario)
+			{
+				private int _iNumOffThread = -1;
+				private int _iNumNestedCook = -1;
+				private double _dblMaxDFDeviation = java.lang.Double.NaN;
+				private org.drip.param.market.ScenarioCurveCooker _scc = null;
+				private org.drip.product.definition.CalibratableFixedIncomeComponent[] _aDeposit = null;
+
+				@Override public boolean preRegression()
+				{
+					try {
+						_aDeposit = Deposits();
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return null != (_scc = org.drip.param.market.ScenarioCurveCooker.Standard
+						(NESTED_COOKER_PARALLELISM));
+				}
+
+				@Override public boolean execRegression()
+				{
+					java.util.concurrent.atomic.AtomicInteger aiNumOffThread = new
+						java.util.concurrent.atomic.AtomicInteger();
+
+					try {
+						org.drip.param.market.RatesCurveScenarioContainer rcscInLine = RatesContainer
+							(_aDeposit);
+
+						if (!CookRates (rcscInLine, null)) return false;
+
+						java.util.List<java.lang.Double> lsNested = _scc.cook (NestedCooks (_scc, _aDeposit,
+							rcscInLine, aiNumOffThread));
+
+						if (null == lsNested) return false;
+
+						_dblMaxDFDeviation = 0.;
+
+						for (double dblNestedDeviation : lsNested)
+							_dblMaxDFDeviation = java.lang.Math.max (_dblMaxDFDeviation, dblNestedDeviation);
+
+						_iNumNestedCook = lsNested.size();
+
+						_iNumOffThread = aiNumOffThread.get();
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					_scc.shutdown();
+
+					rnvd.set ("MaxDFDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDFDeviation, 1, 16, 1.));
+
+					rnvd.set ("NumNestedCook", "" + _iNumNestedCook);
+
+					rnvd.set ("NumOffThread", "" + _iNumOffThread);
+
+					return 0. == _dblMaxDFDeviation && NUM_NESTED_COOK == _iNumNestedCook && 0 ==
+						_iNumOffThread;
+				}
+			});
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public java.util.List<org.drip.regression.core.UnitRegressor> getRegressorSet()
+	{
+		return _setRegressors;
+	}
+
+	@Override public java.lang.String getSetName()
+	{
+		return _strRegressionScenario;
+	}
+}
@@ -0,0 +1,334 @@
+
+package org.drip.regression.curve;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * ScenarioCurveRegressor reconciles the Tenor Bumped Curves the Scenario Generators linearize off of the
+ * 	Base Curve against the ones re-boot-strapped off of the Tenor Bumped Quotes. It regresses the following
+ * 	scenarios:
+ * 	- #1: Linearized against re-boot-strapped Tenor Bumped Discount Curves off of a Deposit Strip, along with
+ * 		the Re-pricing of the Bumped Quote by each re-boot-strapped Curve.
+ * 	- #2: Linearized against re-boot-strapped Tenor Bumped Credit Curves off of a CDS Strip, along with the
+ * 		Re-pricing of the Bumped Quote by each re-boot-strapped Curve.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class ScenarioCurveRegressor implements org.drip.regression.core.RegressorSet {
+	private static final int NUM_GRID_DATE = 60;
+	private static final double IR_BUMP = 0.0001;
+	private static final double IR_LINEARIZED_BUMP_TOLERANCE = 0.001;
+	private static final double IR_DF_TOLERANCE = 1.e-08;
+	private static final double IR_REPRICE_TOLERANCE = 1.e-07;
+	private static final double CREDIT_BUMP = 1.;
+	private static final double CREDIT_LINEARIZED_BUMP_TOLERANCE = 10.;
+	private static final double CREDIT_RECOVERY = 0.4;
+	private static final double CREDIT_SURVIVAL_TOLERANCE = 1.e-06;
+	private static final double CREDIT_REPRICE_TOLERANCE = 1.e-07;
+
+	private static final int[] DEPOSIT_MONTHS = new int[] {1, 2, 3, 6, 9, 12};
+
+	private static final double[] DEPOSIT_RATE = new double[] {0.0020, 0.0023, 0.0026, 0.0035, 0.0042,
+		0.0050};
+
+	private static final double[] CDS_FAIR_PREMIUM = new double[] {50., 100., 150., 200., 250.};
+
+	private java.lang.String _strRegressionScenario = "org.drip.state.estimator.ScenarioGenerator";
+
+	private java.util.List<org.drip.regression.core.UnitRegressor> _setRegressors = new
+		java.util.ArrayList<org.drip.regression.core.UnitRegressor>();
+
+	private static final org.drip.analytics.date.JulianDate SpotDate()
+	{
+		return org.drip.analytics.date.DateUtil.CreateFromYMD (2010, org.drip.analytics.date.DateUtil.MAY,
+			12);
+	}
+
+	private static final org.drip.param.valuation.ValuationParams ValuationParams()
+	{
+		return org.drip.param.valuation.ValuationParams.Spot (SpotDate(), 0, "",
+			org.drip.analytics.daycount.Convention.DATE_ROLL_ACTUAL);
+	}
+
+	private static final double[] GridDates (
+		final org.drip.product.definition.CalibratableFixedIncomeComponent[] aCalibInst)
+	{
+		double dblStartDate = SpotDate().julian();
+
+		double[] adblGridDate = new double[NUM_GRID_DATE];
+
+		double dblGridWidth = (aCalibInst[aCalibInst.length - 1].maturityDate().julian() - dblStartDate) /
+			NUM_GRID_DATE;
+
+		for (int i = 0; i < NUM_GRID_DATE; ++i)
+			adblGridDate[i] = dblStartDate + (i + 1) * dblGridWidth;
+
+		return adblGridDate;
+	}
+
+	@Override public boolean setupRegressors()
+	{
+		try {
+			/*
+			 * Linearized vs. Re-boot-strapped Tenor Bumped Discount Curves - implements the pre-regression,
+			 * 	the post-regression, and the actual regression functionality of the UnitRegressorExecutor
+			 * 	class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("LinearizedIRTenorBump",
+				_strRegressionScenario)
+			{
+				private double _dblMaxDFDeviation = java.lang.Double.NaN;
+				private double _dblMaxRepriceError = java.lang.Double.NaN;
+				private double _dblMinTenorDFShift = java.lang.Double.NaN;
+				private java.lang.String[] _astrCalibMeasure = new java.lang.String[DEPOSIT_MONTHS.length];
+				private org.drip.product.definition.CalibratableFixedIncomeComponent[] _aDeposit = new
+					org.drip.product.definition.CalibratableFixedIncomeComponent[DEPOSIT_MONTHS.length];
+
+				@Override public boolean preRegression()
+				{
+					org.drip.analytics.date.JulianDate dtStart = SpotDate();
+
+					for (int i = 0; i < DEPOSIT_MONTHS.length; ++i) {
+						_astrCalibMeasure[i] = "Rate";
+
+						try {
+							_aDeposit[i] = org.drip.product.creator.SingleStreamComponentBuilder.Deposit
+								(dtStart.addDays (2), dtStart.addMonths (DEPOSIT_MONTHS[i]),
+									org.drip.state.identifier.ForwardLabel.Create ("USD", "3M"));
+						} catch (java.lang.Exception e) {
+							e.printStackTrace();
+
+							return false;
+						}
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					org.drip.param.valuation.ValuationParams valParams = ValuationParams();
+
+					double[] adblGridDate = GridDates (_aDeposit);
+
+					_dblMaxDFDeviation = 0.;
+					_dblMaxRepriceError = 0.;
+					_dblMinTenorDFShift = java.lang.Double.POSITIVE_INFINITY;
+
+					try {
+						org.drip.state.estimator.RatesCurveScenarioGenerator rcsgFull = new
+							org.drip.state.estimator.RatesCurveScenarioGenerator ("USD",
+								org.drip.state.creator.DiscountCurveBuilder.BOOTSTRAP_MODE_CONSTANT_FORWARD,
+									_aDeposit);
+
+						org.drip.state.estimator.RatesCurveScenarioGenerator rcsgLinearized = new
+							org.drip.state.estimator.RatesCurveScenarioGenerator ("USD",
+								org.drip.state.creator.DiscountCurveBuilder.BOOTSTRAP_MODE_CONSTANT_FORWARD,
+									_aDeposit, IR_LINEARIZED_BUMP_TOLERANCE);
+
+						org.drip.analytics.rates.DiscountCurve dcBase = rcsgFull.createIRCurve (valParams,
+							null, DEPOSIT_RATE, 0., _astrCalibMeasure, null, null);
+
+						org.drip.analytics.rates.DiscountCurve[] aDCFull = rcsgFull.createTenorIRCurves
+							(valParams, null, DEPOSIT_RATE, IR_BUMP, _astrCalibMeasure, null, null);
+
+						org.drip.analytics.rates.DiscountCurve[] aDCLinearized =
+							rcsgLinearized.createTenorIRCurves (valParams, null, DEPOSIT_RATE, IR_BUMP,
+								_astrCalibMeasure, null, null);
+
+						if (null == dcBase || null == aDCFull || null == aDCLinearized) return false;
+
+						for (int i = 0; i < _aDeposit.length; ++i) {
+							if (null == aDCFull[i] || null == aDCLinearized[i]) return false;
+
+							double dblMaturity = _aDeposit[i].maturityDate().julian();
+
+							_dblMinTenorDFShift = java.lang.Math.min (_dblMinTenorDFShift, java.lang.Math.abs
+								(aDCFull[i].df (dblMaturity) - dcBase.df (dblMaturity)));
+
+							_dblMaxRepriceError = java.lang.Math.max (_dblMaxRepriceError, java.lang.Math.abs
+								(_aDeposit[i].measureValue (valParams, null,
+									org.drip.param.creator.MarketParamsBuilder.Create (aDCFull[i], null, null,
+										null, null, null, null), null, "Rate") - DEPOSIT_RATE[i] - IR_BUMP));
+
+							for (double dblGridDate : adblGridDate)
+								_dblMaxDFDeviation = java.lang.Math.max (_dblMaxDFDeviation,
+									java.lang.Math.abs (aDCFull[i].df (dblGridDate) - aDCLinearized[i].df
+										(dblGridDate)));
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxDFDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDFDeviation, 1, 12, 1.));
+
+					rnvd.set ("MaxRepriceError", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxRepriceError, 1, 12, 1.));
+
+					rnvd.set ("MinTenorDFShift", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMinTenorDFShift, 1, 12, 1.));
+
+					/*
+					 * A zero Deviation would mean the Linearized Generator fell back onto the re-boot-strap.
+					 */
+
+					return 0. < _dblMaxDFDeviation && IR_DF_TOLERANCE > _dblMaxDFDeviation &&
+						IR_REPRICE_TOLERANCE > _dblMaxRepriceError && 0. < _dblMinTenorDFShift;
+				}
+			});
+
+			/*
+			 * Linearized vs. Re-boot-strapped Tenor Bumped Credit Curves - implements the pre-regression,
+			 * 	the post-regression, and the actual regression functionality of the UnitRegressorExecutor
+			 * 	class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("LinearizedCreditTenorBump", _strRegressionScenario)
+			{
+				private double _dblMaxRepriceError = java.lang.Double.NaN;
+				private double _dblMaxSurvivalDeviation = java.lang.Double.NaN;
+				private org.drip.analytics.rates.DiscountCurve _dc = null;
+				private java.lang.String[] _astrCalibMeasure = new java.lang.String[CDS_FAIR_PREMIUM.length];
+				private org.drip.product.definition.CalibratableFixedIncomeComponent[] _aCDS = new
+					org.drip.product.definition.CalibratableFixedIncomeComponent[CDS_FAIR_PREMIUM.length];
+
+				@Override public boolean preRegression()
+				{
+					org.drip.analytics.date.JulianDate dtStart = SpotDate();
+
+					if (null == (_dc = org.drip.state.creator.DiscountCurveBuilder.CreateFromFlatRate
+						(dtStart, "USD", null, 0.04)))
+						return false;
+
+					for (int i = 0; i < CDS_FAIR_PREMIUM.length; ++i) {
+						_astrCalibMeasure[i] = "FairPremium";
+
+						if (null == (_aCDS[i] = org.drip.product.creator.CDSBuilder.CreateSNAC (dtStart, (i
+							+ 1) + "Y", 0.01, "CORP")))
+							return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					org.drip.param.valuation.ValuationParams valParams = ValuationParams();
+
+					org.drip.param.pricer.PricerParams pricerParams = new org.drip.param.pricer.PricerParams
+						(7, null, false, org.drip.param.pricer.PricerParams.PERIOD_DISCRETIZATION_DAY_STEP);
+
+					double[] adblGridDate = GridDates (_aCDS);
+
+					_dblMaxRepriceError = 0.;
+					_dblMaxSurvivalDeviation = 0.;
+
+					try {
+						org.drip.state.estimator.CreditCurveScenarioGenerator ccsgFull = new
+							org.drip.state.estimator.CreditCurveScenarioGenerator (_aCDS);
+
+						org.drip.state.estimator.CreditCurveScenarioGenerator ccsgLinearized = new
+							org.drip.state.estimator.CreditCurveScenarioGenerator (_aCDS,
+								CREDIT_LINEARIZED_BUMP_TOLERANCE);
+
+						org.drip.analytics.definition.CreditCurve[] aCCFull = ccsgFull.createTenorCC ("CORP",
+							valParams, _dc, null, CDS_FAIR_PREMIUM, CREDIT_BUMP, CREDIT_RECOVERY,
+								_astrCalibMeasure, null, null, false);
+
+						org.drip.analytics.definition.CreditCurve[] aCCLinearized =
+							ccsgLinearized.createTenorCC ("CORP", valParams, _dc, null, CDS_FAIR_PREMIUM,
+								CREDIT_BUMP, CREDIT_RECOVERY, _astrCalibMeasure, null, null, false);
+
+						if (null == aCCFull || null == aCCLinearized) return false;
+
+						for (int i = 0; i < _aCDS.length; ++i) {
+							if (null == aCCFull[i] || null == aCCLinearized[i]) return false;
+
+							_dblMaxRepriceError = java.lang.Math.max (_dblMaxRepriceError, java.lang.Math.abs
+								(_aCDS[i].measureValue (valParams, pricerParams,
+									org.drip.param.creator.MarketParamsBuilder.Credit (_dc, aCCFull[i]), null,
+										"FairPremium") - CDS_FAIR_PREMIUM[i] - CREDIT_BUMP));
+
+							for (double dblGridDate : adblGridDate)
+								_dblMaxSurvivalDeviation = java.lang.Math.max (_dblMaxSurvivalDeviation,
+									java.lang.Math.abs (aCCFull[i].survival (dblGridDate) -
+										aCCLinearized[i].survival (dblGridDate)));
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxSurvivalDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxSurvivalDeviation, 1, 12, 1.));
+
+					rnvd.set ("MaxRepriceError", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxRepriceError, 1, 12, 1.));
+
+					return 0. < _dblMaxSurvivalDeviation && CREDIT_SURVIVAL_TOLERANCE >
+						_dblMaxSurvivalDeviation && CREDIT_REPRICE_TOLERANCE > _dblMaxRepriceError;
+				}
+			});
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public java.util.List<org.drip.regression.core.UnitRegressor> getRegressorSet()
+	{
+		return _setRegressors;
+	}
+
+	@Override public java.lang.String getSetName()
+	{
+		return _strRegressionScenario;
+	}
+}
@@ -0,0 +1,378 @@
+
+package org.drip.regression.dynamics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * HJMRegressorSet implements the regression set for the HJM Multi-Factor Dynamics. It regresses the
+ * 	following scenarios:
+ * 	- #1: Reconcile the Cumulative Volatility Integral Grid against the Adaptive Quadrature on Grid/Off-Grid
+ * 		Dates.
+ * 	- #2: Reconcile the Grid Volatility Integrals of Concurrent Readers racing to build the Rows against those
+ * 		off of a Single Reader.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class HJMRegressorSet implements org.drip.regression.core.RegressorSet {
+	private static final int NUM_READER = 4;
+	private static final int NUM_GRID_DATE = 61;
+	private static final double INTEGRAL_TOLERANCE = 1.e-08;
+
+	private java.lang.String _strRegressionScenario = "org.drip.dynamics.hjm.MultiFactorVolatility";
+
+	private java.util.List<org.drip.regression.core.UnitRegressor> _setRegressors = new
+		java.util.ArrayList<org.drip.regression.core.UnitRegressor>();
+
+	/**
+	 * Create the Volatility Surface whose Nodes vary across both the View and the Target Dates
+	 * 
+	 * @param dtStart The Start Date
+	 * @param dblBaseVol The Base Volatility
+	 * 
+	 * @return The Volatility Surface
+	 */
+
+	public static final org.drip.analytics.definition.MarketSurface VolatilitySurface (
+		final org.drip.analytics.date.JulianDate dtStart,
+		final double dblBaseVol)
+	{
+		double[] adblDate = new double[6];
+		double[][] aadblNode = new double[6][6];
+
+		for (int i = 0; i < 6; ++i) {
+			adblDate[i] = dtStart.addYears (2 * i).julian();
+
+			for (int j = 0; j < 6; ++j)
+				aadblNode[i][j] = dblBaseVol * (1. + 0.1 * i - 0.05 * j + 0.02 * i * j);
+		}
+
+		try {
+			org.drip.spline.params.SegmentCustomBuilderControl scbc = new
+				org.drip.spline.params.SegmentCustomBuilderControl
+					(org.drip.spline.stretch.MultiSegmentSequenceBuilder.BASIS_SPLINE_POLYNOMIAL, new
+						org.drip.spline.basis.PolynomialFunctionSetParams (4),
+							org.drip.spline.params.SegmentInelasticDesignControl.Create (2, 2), null, null);
+
+			return org.drip.param.creator.ScenarioMarketSurfaceBuilder.CustomSplineWireSurface
+				("VIEW_TARGET_VOLATILITY_SURFACE", dtStart, "USD", null, adblDate, adblDate, aadblNode, scbc,
+					scbc);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Create the Three Factor Volatility off of the Term Structure Varying Volatility Surfaces
+	 * 
+	 * @param dtStart The Start Date
+	 * @param adblIntegralDateGrid Array of the Integral Grid Dates (null => Adaptive Quadrature on Demand)
+	 * 
+	 * @return The Multi-Factor Volatility
+	 */
+
+	public static final org.drip.dynamics.hjm.MultiFactorVolatility ThreeFactorVolatility (
+		final org.drip.analytics.date.JulianDate dtStart,
+		final double[] adblIntegralDateGrid)
+	{
+		try {
+			org.drip.analytics.definition.MarketSurface[] aMSVolatility = new
+				org.drip.analytics.definition.MarketSurface[] {VolatilitySurface (dtStart, 0.010),
+					VolatilitySurface (dtStart, 0.008), VolatilitySurface (dtStart, 0.006)};
+
+			org.drip.sequence.random.PrincipalFactorSequenceGenerator pfsg = new
+				org.drip.sequence.random.PrincipalFactorSequenceGenerator (new
+					org.drip.sequence.random.UnivariateSequenceGenerator[] {new
+						org.drip.sequence.random.BoxMullerGaussian (0., 1.), new
+							org.drip.sequence.random.BoxMullerGaussian (0., 1.), new
+								org.drip.sequence.random.BoxMullerGaussian (0., 1.)}, new double[][] {{1.0,
+									0.1, 0.2}, {0.1, 1.0, 0.2}, {0.2, 0.1, 1.0}}, 3);
+
+			return null == adblIntegralDateGrid ? new org.drip.dynamics.hjm.MultiFactorVolatility
+				(aMSVolatility, pfsg) : new org.drip.dynamics.hjm.MultiFactorVolatility (aMSVolatility, pfsg,
+					adblIntegralDateGrid);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Create the Simulation Grid Dates
+	 * 
+	 * @param dtStart The Start Date
+	 * 
+	 * @return Array of the Simulation Grid Dates
+	 */
+
+	public static final double[] GridDates (
+		final org.drip.analytics.date.JulianDate dtStart)
+	{
+		double[] adblGridDate = new double[NUM_GRID_DATE];
+
+		for (int i = 0; i < NUM_GRID_DATE; ++i)
+			adblGridDate[i] = dtStart.julian() + 30. * i;
+
+		return adblGridDate;
+	}
+
+	/**
+	 * Compute the Grid Volatility Integrals for all the Factors between every Pair of the Grid Dates
+	 * 
+	 * @param mfv The Multi-Factor Volatility
+	 * @param adblGridDate Array of the Grid Dates
+	 * 
+	 * @return The Grid Volatility Integrals, indexed as [Factor][Anchor][End]
+	 * 
+	 * @throws java.lang.Exception Thrown if the Volatility Integrals cannot be computed
+	 */
+
+	public static final double[][][] GridVolatilityIntegral (
+		final org.drip.dynamics.hjm.MultiFactorVolatility mfv,
+		final double[] adblGridDate)
+		throws java.lang.Exception
+	{
+		double[][][] aaadblIntegral = new double[3][adblGridDate.length][adblGridDate.length];
+
+		for (int iFactor = 0; iFactor < 3; ++iFactor) {
+			for (int i = 0; i < adblGridDate.length; ++i) {
+				for (int j = i; j < adblGridDate.length; ++j)
+					aaadblIntegral[iFactor][i][j] = mfv.volatilityIntegral (iFactor, adblGridDate[i],
+						adblGridDate[j]);
+			}
+		}
+
+		return aaadblIntegral;
+	}
+
+	@Override public boolean setupRegressors()
+	{
+		try {
+			/*
+			 * Reconcile the Grid Volatility Integrals against the Adaptive Quadrature - implements the
+			 * 	pre-regression, the post-regression, and the actual regression functionality of the
+			 * 	UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("VolatilityIntegralGrid", _strRegressionScenario)
+			{
+				private double _dblMaxGridDeviation = java.lang.Double.NaN;
+				private double _dblMaxOffGridDeviation = java.lang.Double.NaN;
+				private double[] _adblGridDate = null;
+				private org.drip.dynamics.hjm.MultiFactorVolatility _mfvGrid = null;
+				private org.drip.dynamics.hjm.MultiFactorVolatility _mfvQuadrature = null;
+
+				@Override public boolean preRegression()
+				{
+					org.drip.analytics.date.JulianDate dtStart =
+						org.drip.analytics.date.DateUtil.CreateFromYMD (2015,
+							org.drip.analytics.date.DateUtil.MAY, 12);
+
+					_adblGridDate = GridDates (dtStart);
+
+					return null != (_mfvGrid = ThreeFactorVolatility (dtStart, _adblGridDate)) && null !=
+						(_mfvQuadrature = ThreeFactorVolatility (dtStart, null));
+				}
+
+				@Override public boolean execRegression()
+				{
+					_dblMaxGridDeviation = 0.;
+					_dblMaxOffGridDeviation = 0.;
+
+					try {
+						for (int iFactor = 0; iFactor < 3; ++iFactor) {
+							for (int i = 0; i < NUM_GRID_DATE; i += 5) {
+								for (int j = i; j < NUM_GRID_DATE; j += 3) {
+									_dblMaxGridDeviation = java.lang.Math.max (_dblMaxGridDeviation,
+										java.lang.Math.abs (_mfvGrid.volatilityIntegral (iFactor,
+											_adblGridDate[i], _adblGridDate[j]) -
+												_mfvQuadrature.volatilityIntegral (iFactor, _adblGridDate[i],
+													_adblGridDate[j])));
+
+									double dblOffGridDate = _adblGridDate[j] + 7.;
+									double dblOffGridAnchor = _adblGridDate[i] + 3.;
+
+									double dblOffGridEndDeviation = java.lang.Math.abs
+										(_mfvGrid.volatilityIntegral (iFactor, _adblGridDate[i],
+											dblOffGridDate) - _mfvQuadrature.volatilityIntegral (iFactor,
+												_adblGridDate[i], dblOffGridDate));
+
+									double dblOffGridAnchorDeviation = java.lang.Math.abs
+										(_mfvGrid.volatilityIntegral (iFactor, dblOffGridAnchor,
+											dblOffGridDate) - _mfvQuadrature.volatilityIntegral (iFactor,
+												dblOffGridAnchor, dblOffGridDate));
+
+									_dblMaxOffGridDeviation = java.lang.Math.max (_dblMaxOffGridDeviation,
+										java.lang.Math.max (dblOffGridEndDeviation,
+											dblOffGridAnchorDeviation));
+								}
+							}
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxGridDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxGridDeviation, 1, 12, 1.));
+
+					rnvd.set ("MaxOffGridDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxOffGridDeviation, 1, 12, 1.));
+
+					return INTEGRAL_TOLERANCE > _dblMaxGridDeviation && INTEGRAL_TOLERANCE >
+						_dblMaxOffGridDeviation;
+				}
+			});
+
+			/*
+			 * Reconcile the Concurrently Built Grid Rows against the Single Reader Rows - implements the
+			 * 	pre-regression, the post-regression, and the actual regression functionality of the
+			 * 	UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("ConcurrentVolatilityIntegralGrid", _strRegressionScenario)
+			{
+				private int _iNumMismatch = -1;
+				private double[] _adblGridDate = null;
+				private double[][][] _aaadblSingleReaderIntegral = null;
+				private org.drip.analytics.date.JulianDate _dtStart = null;
+
+				@Override public boolean preRegression()
+				{
+					_adblGridDate = GridDates (_dtStart = org.drip.analytics.date.DateUtil.CreateFromYMD
+						(2015, org.drip.analytics.date.DateUtil.MAY, 12));
+
+					try {
+						_aaadblSingleReaderIntegral = GridVolatilityIntegral (ThreeFactorVolatility (_dtStart,
+							_adblGridDate), _adblGridDate);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					final org.drip.dynamics.hjm.MultiFactorVolatility mfvShared = ThreeFactorVolatility
+						(_dtStart, _adblGridDate);
+
+					if (null == mfvShared) return false;
+
+					final double[][][][] aaaadblReaderIntegral = new double[NUM_READER][][][];
+
+					java.lang.Thread[] aThreadReader = new java.lang.Thread[NUM_READER];
+
+					for (int i = 0; i < NUM_READER; ++i) {
+						final int iReader = i;
+
+						aThreadReader[i] = new java.lang.Thread() {
+							@Override public void run()
+							{
+								try {
+									aaaadblReaderIntegral[iReader] = GridVolatilityIntegral (mfvShared,
+										_adblGridDate);
+								} catch (java.lang.Exception e) {
+									e.printStackTrace();
+								}
+							}
+						};
+
+						aThreadReader[i].start();
+					}
+
+					try {
+						for (java.lang.Thread threadReader : aThreadReader)
+							threadReader.join();
+					} catch (java.lang.InterruptedException e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					_iNumMismatch = 0;
+
+					for (double[][][] aaadblReaderIntegral : aaaadblReaderIntegral) {
+						if (null == aaadblReaderIntegral) return false;
+
+						for (int iFactor = 0; iFactor < 3; ++iFactor) {
+							for (int i = 0; i < NUM_GRID_DATE; ++i) {
+								for (int j = i; j < NUM_GRID_DATE; ++j) {
+									if (_aaadblSingleReaderIntegral[iFactor][i][j] !=
+										aaadblReaderIntegral[iFactor][i][j])
+										++_iNumMismatch;
+								}
+							}
+						}
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("ConcurrentMismatch", "" + _iNumMismatch);
+
+					return 0 == _iNumMismatch;
+				}
+			});
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public java.util.List<org.drip.regression.core.UnitRegressor> getRegressorSet()
+	{
+		return _setRegressors;
+	}
+
+	@Override public java.lang.String getSetName()
+	{
+		return _strRegressionScenario;
+	}
+}
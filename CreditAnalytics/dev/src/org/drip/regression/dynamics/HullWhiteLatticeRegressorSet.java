@@ -0,0 +1,305 @@
+
+package org.drip.regression.dynamics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * HullWhiteLatticeRegressorSet implements the regression set for the Hull-White Recombining Trinomial
+ * 	Lattice. It regresses the following scenarios:
+ * 	- #1: Reconcile the Lattice Slice Discount Factors against the Initial Discount Curve.
+ * 	- #2: Reconcile the European Put on the Zero Coupon Bond against the Jamshidian Closed Form.
+ * 	- #3: Verify that the Lattice Construction rejects a Non-Positive Mean Reversion.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class HullWhiteLatticeRegressorSet implements org.drip.regression.core.RegressorSet {
+	private static final int DAY_INCREMENT = 7;
+	private static final int NUM_INCREMENT = 520;
+	private static final int EXPIRY_SLICE = 260;
+	private static final double SIGMA = 0.01;
+	private static final double MEAN_REVERSION = 0.1;
+	private static final double FORWARD_RATE = 0.03;
+	private static final double DISCOUNT_FACTOR_TOLERANCE = 1.e-12;
+	private static final double OPTION_PRICE_TOLERANCE = 1.e-04;
+	private static final double[] STRIKE = new double[] {0.86, 0.88, 0.90};
+
+	private java.lang.String _strRegressionScenario =
+		"org.drip.dynamics.hullwhite.RecombiningTrinomialLattice";
+
+	private java.util.List<org.drip.regression.core.UnitRegressor> _setRegressors = new
+		java.util.ArrayList<org.drip.regression.core.UnitRegressor>();
+
+	/**
+	 * Construct the Weekly 10Y Recombining Trinomial Lattice off of the Flat Initial Forward Rate
+	 * 
+	 * @param dblA The Hull-White Mean Reversion A
+	 * 
+	 * @return The Recombining Trinomial Lattice
+	 * 
+	 * @throws java.lang.Exception Thrown if the Lattice cannot be constructed
+	 */
+
+	public static final org.drip.dynamics.hullwhite.RecombiningTrinomialLattice Lattice (
+		final double dblA)
+		throws java.lang.Exception
+	{
+		return new org.drip.dynamics.hullwhite.RecombiningTrinomialLattice
+			(org.drip.analytics.date.DateUtil.CreateFromYMD (2011, org.drip.analytics.date.DateUtil.MAY,
+				18).julian(), DAY_INCREMENT, NUM_INCREMENT, dblA, SIGMA, new
+					org.drip.function.deterministic1D.FlatUnivariate (FORWARD_RATE));
+	}
+
+	/**
+	 * Compute the Jamshidian Closed Form Price of the European Put on the Zero Coupon Bond
+	 * 
+	 * @param dblExpiry The Option Expiry Time
+	 * @param dblMaturity The Bond Maturity Time
+	 * @param dblStrike The Option Strike
+	 * 
+	 * @return The Closed Form Put Price
+	 * 
+	 * @throws java.lang.Exception Thrown if the Price cannot be computed
+	 */
+
+	public static final double JamshidianPut (
+		final double dblExpiry,
+		final double dblMaturity,
+		final double dblStrike)
+		throws java.lang.Exception
+	{
+		double dblExpiryDF = java.lang.Math.exp (-1. * FORWARD_RATE * dblExpiry);
+
+		double dblMaturityDF = java.lang.Math.exp (-1. * FORWARD_RATE * dblMaturity);
+
+		double dblSigmaP = SIGMA / MEAN_REVERSION * (1. - java.lang.Math.exp (-1. * MEAN_REVERSION *
+			(dblMaturity - dblExpiry))) * java.lang.Math.sqrt ((1. - java.lang.Math.exp (-2. *
+				MEAN_REVERSION * dblExpiry)) / (2. * MEAN_REVERSION));
+
+		double dblH = java.lang.Math.log (dblMaturityDF / (dblExpiryDF * dblStrike)) / dblSigmaP + 0.5 *
+			dblSigmaP;
+
+		return dblStrike * dblExpiryDF * org.drip.measure.continuous.Gaussian.CDF (-1. * dblH + dblSigmaP) -
+			dblMaturityDF * org.drip.measure.continuous.Gaussian.CDF (-1. * dblH);
+	}
+
+	@Override public boolean setupRegressors()
+	{
+		try {
+			/*
+			 * Reconcile the Lattice Slice Discount Factors against the Initial Curve - implements the
+			 * 	pre-regression, the post-regression, and the actual regression functionality of the
+			 * 	UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("SliceDiscountFactor",
+				_strRegressionScenario)
+			{
+				private double _dblMaxDeviation = java.lang.Double.NaN;
+				private org.drip.dynamics.hullwhite.RecombiningTrinomialLattice _rtl = null;
+
+				@Override public boolean preRegression()
+				{
+					try {
+						return null != (_rtl = Lattice (MEAN_REVERSION));
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+					}
+
+					return false;
+				}
+
+				@Override public boolean execRegression()
+				{
+					_dblMaxDeviation = 0.;
+
+					double dblTimeIncrement = _rtl.timeIncrement();
+
+					try {
+						for (int iSlice = 0; iSlice <= NUM_INCREMENT; ++iSlice)
+							_dblMaxDeviation = java.lang.Math.max (_dblMaxDeviation, java.lang.Math.abs
+								(_rtl.discountFactor (iSlice) - java.lang.Math.exp (-1. * FORWARD_RATE *
+									iSlice * dblTimeIncrement)));
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxDiscountFactorDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDeviation, 1, 15, 1.));
+
+					return DISCOUNT_FACTOR_TOLERANCE > _dblMaxDeviation;
+				}
+			});
+
+			/*
+			 * Reconcile the Lattice European ZCB Put against the Jamshidian Closed Form - implements the
+			 * 	pre-regression, the post-regression, and the actual regression functionality of the
+			 * 	UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("EuropeanZCBPut",
+				_strRegressionScenario)
+			{
+				private double[] _adblLatticePut = null;
+				private double[] _adblClosedFormPut = null;
+				private org.drip.dynamics.hullwhite.RecombiningTrinomialLattice _rtl = null;
+
+				@Override public boolean preRegression()
+				{
+					_adblLatticePut = new double[STRIKE.length];
+					_adblClosedFormPut = new double[STRIKE.length];
+
+					try {
+						return null != (_rtl = Lattice (MEAN_REVERSION));
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+					}
+
+					return false;
+				}
+
+				@Override public boolean execRegression()
+				{
+					double dblTimeIncrement = _rtl.timeIncrement();
+
+					double[] adblZCB = _rtl.zeroCouponBondPrice (EXPIRY_SLICE, NUM_INCREMENT);
+
+					if (null == adblZCB) return false;
+
+					double[] adblPayoff = new double[adblZCB.length];
+
+					try {
+						for (int iStrike = 0; iStrike < STRIKE.length; ++iStrike) {
+							for (int iNode = 0; iNode < adblZCB.length; ++iNode)
+								adblPayoff[iNode] = java.lang.Math.max (STRIKE[iStrike] - adblZCB[iNode],
+									0.);
+
+							_adblLatticePut[iStrike] = _rtl.price (adblPayoff, EXPIRY_SLICE, null);
+
+							_adblClosedFormPut[iStrike] = JamshidianPut (EXPIRY_SLICE * dblTimeIncrement,
+								NUM_INCREMENT * dblTimeIncrement, STRIKE[iStrike]);
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					boolean bSuccess = true;
+
+					for (int iStrike = 0; iStrike < STRIKE.length; ++iStrike) {
+						java.lang.String strStrike = org.drip.quant.common.FormatUtil.FormatDouble
+							(STRIKE[iStrike], 1, 2, 1.);
+
+						rnvd.set ("LatticePut[" + strStrike + "]",
+							org.drip.quant.common.FormatUtil.FormatDouble (_adblLatticePut[iStrike], 1, 8,
+								1.));
+
+						rnvd.set ("ClosedFormPut[" + strStrike + "]",
+							org.drip.quant.common.FormatUtil.FormatDouble (_adblClosedFormPut[iStrike], 1, 8,
+								1.));
+
+						if (!org.drip.quant.common.NumberUtil.IsValid (_adblLatticePut[iStrike]) ||
+							OPTION_PRICE_TOLERANCE < java.lang.Math.abs (_adblLatticePut[iStrike] -
+								_adblClosedFormPut[iStrike]))
+							bSuccess = false;
+					}
+
+					return bSuccess;
+				}
+			});
+
+			/*
+			 * Verify that the Lattice rejects a Zero/Negative Mean Reversion - implements the
+			 * 	pre-regression, the post-regression, and the actual regression functionality of the
+			 * 	UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("NonPositiveMeanReversion", _strRegressionScenario)
+			{
+				private int _iNumRejected = 0;
+				private final double[] _adblMeanReversion = new double[] {0., -0.1};
+
+				@Override public boolean execRegression()
+				{
+					_iNumRejected = 0;
+
+					for (int i = 0; i < _adblMeanReversion.length; ++i) {
+						try {
+							Lattice (_adblMeanReversion[i]);
+						} catch (java.lang.Exception e) {
+							++_iNumRejected;
+						}
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("NumRejected", "" + _iNumRejected);
+
+					return _adblMeanReversion.length == _iNumRejected;
+				}
+			});
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public java.util.List<org.drip.regression.core.UnitRegressor> getRegressorSet()
+	{
+		return _setRegressors;
+	}
+
+	@Override public java.lang.String getSetName()
+	{
+		return _strRegressionScenario;
+	}
+}
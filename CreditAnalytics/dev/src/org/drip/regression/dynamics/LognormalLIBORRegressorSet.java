@@ -0,0 +1,323 @@
+
+package org.drip.regression.dynamics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * LognormalLIBORRegressorSet implements the regression set for the Chained Evolution of the Log-normal
+ * 	LIBOR Curve Nodes. It regresses the following scenarios:
+ * 	- #1: Chain several Steps off of the Tenor Node Sequences without calibrating any Curve/Span.
+ * 	- #2: Reconcile the Node-Chained Step against the Step chained off of the Calibrated Curves.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class LognormalLIBORRegressorSet implements org.drip.regression.core.RegressorSet {
+	private static final int NUM_STEP = 10;
+	private static final int NUM_FORWARD_TENOR = 5;
+	private static final double FLAT_RATE = 0.02;
+	private static final double LIBOR_TOLERANCE = 1.e-10;
+	private static final double DISCOUNT_FACTOR_TOLERANCE = 1.e-05;
+
+	private java.lang.String _strRegressionScenario = "org.drip.dynamics.lmm.LognormalLIBORCurveEvolver";
+
+	private java.util.List<org.drip.regression.core.UnitRegressor> _setRegressors = new
+		java.util.ArrayList<org.drip.regression.core.UnitRegressor>();
+
+	private static final org.drip.analytics.date.JulianDate SpotDate()
+	{
+		return org.drip.analytics.date.DateUtil.CreateFromYMD (2015, org.drip.analytics.date.DateUtil.MAY,
+			12);
+	}
+
+	/**
+	 * Construct the Two Factor Log-normal LIBOR Volatility off of the Term Structure Varying Surfaces
+	 * 
+	 * @param dtSpot The Spot Date
+	 * @param lslForward The Forward Latent State Label
+	 * @param dblBaseVol The Base Volatility
+	 * 
+	 * @return The Log-normal LIBOR Volatility
+	 */
+
+	public static final org.drip.dynamics.lmm.LognormalLIBORVolatility TwoFactorVolatility (
+		final org.drip.analytics.date.JulianDate dtSpot,
+		final org.drip.state.identifier.ForwardLabel lslForward,
+		final double dblBaseVol)
+	{
+		try {
+			return new org.drip.dynamics.lmm.LognormalLIBORVolatility (dtSpot.julian(), lslForward, new
+				org.drip.analytics.definition.MarketSurface[]
+					{org.drip.regression.dynamics.HJMRegressorSet.VolatilitySurface (dtSpot, dblBaseVol),
+						org.drip.regression.dynamics.HJMRegressorSet.VolatilitySurface (dtSpot, 0.8 *
+							dblBaseVol)}, new org.drip.sequence.random.PrincipalFactorSequenceGenerator (new
+								org.drip.sequence.random.UnivariateSequenceGenerator[] {new
+									org.drip.sequence.random.BoxMullerGaussian (0., 1.), new
+										org.drip.sequence.random.BoxMullerGaussian (0., 1.)}, new double[][]
+											{{1.0, 0.1}, {0.1, 1.0}}, 2));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Chain the Specified Number of Steps off of the Flat Initial Curves
+	 * 
+	 * @param llce The Log-normal LIBOR Curve Evolver
+	 * @param dblBaseVol The Base Volatility
+	 * @param iNumStep The Number of Steps
+	 * 
+	 * @return Array of the Chained Updates (the Initial Update at Index 0)
+	 */
+
+	public static final org.drip.dynamics.lmm.BGMCurveUpdate[] ChainedUpdates (
+		final org.drip.dynamics.lmm.LognormalLIBORCurveEvolver llce,
+		final double dblBaseVol,
+		final int iNumStep)
+	{
+		org.drip.analytics.date.JulianDate dtSpot = SpotDate();
+
+		org.drip.state.identifier.ForwardLabel lslForward = llce.forwardLabel();
+
+		double dblSpotDate = dtSpot.julian();
+
+		double dblViewDate = dtSpot.addYears (1).julian();
+
+		org.drip.dynamics.lmm.BGMCurveUpdate[] aBGMCU = new org.drip.dynamics.lmm.BGMCurveUpdate[iNumStep +
+			1];
+
+		if (null == (aBGMCU[0] = org.drip.dynamics.lmm.BGMCurveUpdate.Create (llce.fundingLabel(),
+			lslForward, dblSpotDate, dblSpotDate,
+				org.drip.param.creator.ScenarioForwardCurveBuilder.FlatForwardForwardCurve (dtSpot,
+					lslForward, FLAT_RATE, null), null,
+						org.drip.state.creator.DiscountCurveBuilder.CreateFromFlatRate (dtSpot,
+							lslForward.currency(), null, FLAT_RATE), null, null, null, null, null,
+								TwoFactorVolatility (dtSpot, lslForward, dblBaseVol))))
+			return null;
+
+		for (int i = 1; i <= iNumStep; ++i) {
+			if (null == (aBGMCU[i] = llce.evolve (dblSpotDate, dblViewDate + i, 1. / 365.25, aBGMCU[i -
+				1])))
+				return null;
+		}
+
+		return aBGMCU;
+	}
+
+	/**
+	 * Construct the Log-normal LIBOR Curve Evolver for the 3M USD LIBOR
+	 * 
+	 * @return The Log-normal LIBOR Curve Evolver
+	 */
+
+	public static final org.drip.dynamics.lmm.LognormalLIBORCurveEvolver Evolver()
+	{
+		try {
+			return org.drip.dynamics.lmm.LognormalLIBORCurveEvolver.Create
+				(org.drip.state.identifier.FundingLabel.Standard ("USD"),
+					org.drip.state.identifier.ForwardLabel.Create ("USD", "3M"), NUM_FORWARD_TENOR, new
+						org.drip.spline.params.SegmentCustomBuilderControl
+							(org.drip.spline.stretch.MultiSegmentSequenceBuilder.BASIS_SPLINE_POLYNOMIAL, new
+								org.drip.spline.basis.PolynomialFunctionSetParams (4),
+									org.drip.spline.params.SegmentInelasticDesignControl.Create (2, 2), null,
+										null));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	@Override public boolean setupRegressors()
+	{
+		try {
+			/*
+			 * Chain the Steps off of the Tenor Node Sequences - implements the pre-regression, the
+			 * 	post-regression, and the actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("NodeChainedEvolution",
+				_strRegressionScenario)
+			{
+				private int _iNumMaterialized = -1;
+				private int _iNumInvalidNode = -1;
+				private org.drip.dynamics.lmm.BGMCurveUpdate[] _aBGMCU = null;
+				private org.drip.dynamics.lmm.LognormalLIBORCurveEvolver _llce = null;
+
+				@Override public boolean preRegression()
+				{
+					_aBGMCU = null;
+
+					return null != (_llce = Evolver());
+				}
+
+				@Override public boolean execRegression()
+				{
+					if (null == (_aBGMCU = ChainedUpdates (_llce, 0.30, NUM_STEP))) return false;
+
+					_iNumInvalidNode = 0;
+					_iNumMaterialized = 0;
+
+					for (int i = 1; i <= NUM_STEP; ++i) {
+						if (_aBGMCU[i].materialized()) ++_iNumMaterialized;
+
+						org.drip.dynamics.lmm.BGMTenorNodeSequence btns = _aBGMCU[i].tenorNodeSequence();
+
+						double[] adblLIBOR = btns.liborRates();
+
+						double[] adblDiscountFactor = btns.discountFactors();
+
+						for (int j = 0; j < adblLIBOR.length; ++j) {
+							if (!org.drip.quant.common.NumberUtil.IsValid (adblLIBOR[j]) ||
+								!org.drip.quant.common.NumberUtil.IsValid (adblDiscountFactor[j]) || 0. >=
+									adblDiscountFactor[j])
+								++_iNumInvalidNode;
+						}
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("NumStep", "" + NUM_STEP);
+
+					rnvd.set ("NumMaterialized", "" + _iNumMaterialized);
+
+					rnvd.set ("NumInvalidNode", "" + _iNumInvalidNode);
+
+					return 0 == _iNumMaterialized && 0 == _iNumInvalidNode;
+				}
+			});
+
+			/*
+			 * Reconcile the Node-Chained Step against the Curve-Chained Step under Zero Volatility -
+			 * 	implements the pre-regression, the post-regression, and the actual regression functionality
+			 * 	of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("NodeVersusCurveChaining", _strRegressionScenario)
+			{
+				private boolean _bMaterializedOnAccess = false;
+				private double _dblMaxLIBORDeviation = java.lang.Double.NaN;
+				private double _dblMaxDiscountFactorDeviation = java.lang.Double.NaN;
+				private org.drip.dynamics.lmm.LognormalLIBORCurveEvolver _llce = null;
+
+				@Override public boolean preRegression()
+				{
+					return null != (_llce = Evolver());
+				}
+
+				@Override public boolean execRegression()
+				{
+					org.drip.dynamics.lmm.BGMCurveUpdate[] aBGMCU = ChainedUpdates (_llce, 0., NUM_STEP);
+
+					if (null == aBGMCU) return false;
+
+					org.drip.dynamics.lmm.BGMCurveUpdate bgmcuPrev = aBGMCU[NUM_STEP];
+
+					double dblSpotDate = SpotDate().julian();
+
+					double dblViewDate = SpotDate().addYears (1).julian() + NUM_STEP + 1;
+
+					org.drip.dynamics.lmm.BGMTenorNodeSequence btnsNode = _llce.evolveNodes (dblSpotDate,
+						dblViewDate, 1. / 365.25, bgmcuPrev.tenorNodeSequence(),
+							bgmcuPrev.lognormalLIBORVolatility());
+
+					org.drip.dynamics.lmm.BGMTenorNodeSequence btnsCurve = _llce.evolveNodes (dblSpotDate,
+						dblViewDate, 1. / 365.25, org.drip.dynamics.lmm.BGMCurveUpdate.Create
+							(_llce.fundingLabel(), _llce.forwardLabel(), bgmcuPrev.initialDate(),
+								bgmcuPrev.finalDate(), bgmcuPrev.forwardCurve(), null,
+									bgmcuPrev.discountCurve(), null, null, null, null, null,
+										bgmcuPrev.lognormalLIBORVolatility()));
+
+					if (null == btnsNode || null == btnsCurve) return false;
+
+					_bMaterializedOnAccess = bgmcuPrev.materialized();
+
+					_dblMaxLIBORDeviation = 0.;
+					_dblMaxDiscountFactorDeviation = 0.;
+
+					double[] adblNodeLIBOR = btnsNode.liborRates();
+
+					double[] adblCurveLIBOR = btnsCurve.liborRates();
+
+					double[] adblNodeDiscountFactor = btnsNode.discountFactors();
+
+					double[] adblCurveDiscountFactor = btnsCurve.discountFactors();
+
+					for (int i = 0; i < adblNodeLIBOR.length; ++i) {
+						_dblMaxLIBORDeviation = java.lang.Math.max (_dblMaxLIBORDeviation,
+							java.lang.Math.abs (adblNodeLIBOR[i] - adblCurveLIBOR[i]));
+
+						_dblMaxDiscountFactorDeviation = java.lang.Math.max (_dblMaxDiscountFactorDeviation,
+							java.lang.Math.abs (adblNodeDiscountFactor[i] - adblCurveDiscountFactor[i]));
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaterializedOnAccess", "" + _bMaterializedOnAccess);
+
+					rnvd.set ("MaxLIBORDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxLIBORDeviation, 1, 12, 1.));
+
+					rnvd.set ("MaxDiscountFactorDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDiscountFactorDeviation, 1, 8, 1.));
+
+					return _bMaterializedOnAccess && LIBOR_TOLERANCE > _dblMaxLIBORDeviation &&
+						DISCOUNT_FACTOR_TOLERANCE > _dblMaxDiscountFactorDeviation;
+				}
+			});
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public java.util.List<org.drip.regression.core.UnitRegressor> getRegressorSet()
+	{
+		return _setRegressors;
+	}
+
+	@Override public java.lang.String getSetName()
+	{
+		return _strRegressionScenario;
+	}
+}
@@ -0,0 +1,489 @@
+
+package org.drip.regression.dynamics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * PathBlockRegressorSet implements the regression set for the Path-Block Monte-Carlo Simulation of the
+ * 	Hull-White, the LMM, and the HJM Dynamics. It regresses the following scenarios:
+ * 	- #1: Verify that the Path Statistics are identical when simulated on one Thread and across several.
+ * 	- #2: Reconcile the Hull-White Path Deflator Means against the Initial Curve Discount Factors.
+ * 	- #3: Reconcile the LMM Spot Numeraire Deflator Means against the Initial Curve Discount Factors.
+ * 	- #4: Reconcile the HJM Short Rate Path Deflator Means against the Initial Curve Discount Factors.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class PathBlockRegressorSet implements org.drip.regression.core.RegressorSet {
+	private static final int NUM_PATH = 8192;
+	private static final int BLOCK_SIZE = 1024;
+	private static final int NUM_THREAD = 4;
+	private static final long SEED = 4711L;
+	private static final double FLAT_RATE = 0.03;
+	private static final double MAX_STANDARD_ERROR_MULTIPLE = 4.;
+
+	private java.lang.String _strRegressionScenario = "org.drip.dynamics.evolution.PathBlockSimulator";
+
+	private java.util.List<org.drip.regression.core.UnitRegressor> _setRegressors = new
+		java.util.ArrayList<org.drip.regression.core.UnitRegressor>();
+
+	private static final org.drip.analytics.date.JulianDate SpotDate()
+	{
+		return org.drip.analytics.date.DateUtil.CreateFromYMD (2015, org.drip.analytics.date.DateUtil.MAY,
+			12);
+	}
+
+	/**
+	 * Construct the Weekly 5Y Hull-White Path Block Dynamics off of the Flat Initial Forward Rate
+	 * 
+	 * @return The Hull-White Path Block Dynamics
+	 */
+
+	public static final org.drip.dynamics.hullwhite.SingleFactorPathBlockDynamics HullWhiteDynamics()
+	{
+		try {
+			return new org.drip.dynamics.hullwhite.SingleFactorPathBlockDynamics (new
+				org.drip.dynamics.hullwhite.SingleFactorStateEvolver
+					(org.drip.state.identifier.FundingLabel.Standard ("USD"), 0.01, 0.1, new
+						org.drip.function.deterministic1D.FlatUnivariate (FLAT_RATE), new
+							org.drip.sequence.random.BoxMullerGaussian (0., 1.)),
+								org.drip.dynamics.evolution.PathBlockDynamics.UniformStepDate
+									(SpotDate().julian(), 7, 260));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Construct the Weekly 5Y Two Factor LMM Path Block Dynamics over the Quarterly Tenor Grid off of the
+	 * 	Flat Discount Curve
+	 * 
+	 * @return The LMM Path Block Dynamics
+	 */
+
+	public static final org.drip.dynamics.lmm.LognormalLIBORPathBlockDynamics LMMDynamics()
+	{
+		org.drip.analytics.date.JulianDate dtSpot = SpotDate();
+
+		double dblSpotDate = dtSpot.julian();
+
+		double[] adblTenorDate = new double[21];
+
+		for (int i = 0; i < adblTenorDate.length; ++i)
+			adblTenorDate[i] = dblSpotDate + 91. * i;
+
+		try {
+			org.drip.sequence.random.PrincipalFactorSequenceGenerator pfsg = new
+				org.drip.sequence.random.PrincipalFactorSequenceGenerator (new
+					org.drip.sequence.random.UnivariateSequenceGenerator[] {new
+						org.drip.sequence.random.BoxMullerGaussian (0., 1.), new
+							org.drip.sequence.random.BoxMullerGaussian (0., 1.), new
+								org.drip.sequence.random.BoxMullerGaussian (0., 1.)}, new double[][] {{1.0,
+									0.1, 0.2}, {0.1, 1.0, 0.2}, {0.2, 0.1, 1.0}}, 2);
+
+			org.drip.analytics.definition.MarketSurface[] aMSVolatility = new
+				org.drip.analytics.definition.MarketSurface[]
+					{org.drip.regression.dynamics.HJMRegressorSet.VolatilitySurface (dtSpot, 0.20),
+						org.drip.regression.dynamics.HJMRegressorSet.VolatilitySurface (dtSpot, 0.16),
+							org.drip.regression.dynamics.HJMRegressorSet.VolatilitySurface (dtSpot, 0.12)};
+
+			return org.drip.dynamics.lmm.LognormalLIBORPathBlockDynamics.Standard (new
+				org.drip.dynamics.hjm.MultiFactorVolatility (aMSVolatility, pfsg),
+					org.drip.dynamics.evolution.PathBlockDynamics.UniformStepDate (dblSpotDate, 7, 260),
+						adblTenorDate, org.drip.state.creator.DiscountCurveBuilder.CreateFromFlatRate (dtSpot,
+							"USD", null, FLAT_RATE));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Construct the Monthly 5Y Three Factor HJM Path Block Dynamics whose Forward Maturities coincide with
+	 * 	the Step Dates, so that the Forward maturing at each Step is the Short Rate of that Step
+	 * 
+	 * @return The HJM Path Block Dynamics
+	 */
+
+	public static final org.drip.dynamics.hjm.MultiFactorPathBlockDynamics HJMDynamics()
+	{
+		org.drip.analytics.date.JulianDate dtSpot = SpotDate();
+
+		double[] adblStepDate = org.drip.dynamics.evolution.PathBlockDynamics.UniformStepDate
+			(dtSpot.julian(), 30, 60);
+
+		double[] adblInitialForward = new double[adblStepDate.length];
+
+		java.util.Arrays.fill (adblInitialForward, FLAT_RATE);
+
+		try {
+			return new org.drip.dynamics.hjm.MultiFactorPathBlockDynamics
+				(org.drip.regression.dynamics.HJMRegressorSet.ThreeFactorVolatility (dtSpot, null),
+					adblStepDate, adblStepDate, adblInitialForward);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Construct the Observer that discounts the HJM Paths along their Short Rates, and hands the resulting
+	 * 	Path Deflators over to the Statistics
+	 * 
+	 * @param hjm The HJM Path Block Dynamics
+	 * @param pbsDeflator The Single State Statistics of the Path Deflator
+	 * 
+	 * @return The Discounting Observer
+	 */
+
+	public static final org.drip.dynamics.evolution.PathBlockObserver DiscountingObserver (
+		final org.drip.dynamics.hjm.MultiFactorPathBlockDynamics hjm,
+		final org.drip.dynamics.evolution.PathBlockStatistics pbsDeflator)
+	{
+		final java.util.Map<java.lang.Integer, double[]> mapBlockRateIntegral = new
+			java.util.HashMap<java.lang.Integer, double[]>();
+
+		return new org.drip.dynamics.evolution.PathBlockObserver() {
+			@Override public boolean observe (
+				final int iBlock,
+				final int iStep,
+				final double[][] aadblState,
+				final int iNumPath)
+			{
+				double[] adblRateIntegral = null;
+
+				synchronized (mapBlockRateIntegral) {
+					if (null == (adblRateIntegral = mapBlockRateIntegral.get (iBlock)))
+						mapBlockRateIntegral.put (iBlock, adblRateIntegral = new double[iNumPath]);
+				}
+
+				double[][] aadblDeflator = new double[iNumPath][1];
+
+				for (int iPath = 0; iPath < iNumPath; ++iPath) {
+					aadblDeflator[iPath][0] = java.lang.Math.exp (-1. * adblRateIntegral[iPath]);
+
+					if (iStep < hjm.numStep())
+						adblRateIntegral[iPath] += aadblState[iPath][iStep] * hjm.timeIncrement (iStep);
+				}
+
+				return pbsDeflator.observe (iBlock, iStep, aadblDeflator, iNumPath);
+			}
+		};
+	}
+
+	/**
+	 * Compute the Largest Deviation of the Path Deflator Mean from the Flat Curve Discount Factor, in Units
+	 * 	of the Monte-Carlo Standard Error, across the specified Steps
+	 * 
+	 * @param pbd The Path Block Dynamics
+	 * @param pbs The Path Block Statistics
+	 * @param iDeflatorState The State Index of the Path Deflator
+	 * @param iStepStride The Stride of the Steps to be checked
+	 * 
+	 * @return The Largest Standardized Deviation
+	 */
+
+	public static final double MaxStandardizedDeviation (
+		final org.drip.dynamics.evolution.PathBlockDynamics pbd,
+		final org.drip.dynamics.evolution.PathBlockStatistics pbs,
+		final int iDeflatorState,
+		final int iStepStride)
+	{
+		double dblMaxStandardizedDeviation = 0.;
+
+		double dblSpotDate = pbd.stepDate (0);
+
+		for (int iStep = iStepStride; iStep <= pbd.numStep(); iStep += iStepStride) {
+			double dblStandardError = java.lang.Math.sqrt (pbs.variance (iStep, iDeflatorState) / pbs.count
+				(iStep));
+
+			dblMaxStandardizedDeviation = java.lang.Math.max (dblMaxStandardizedDeviation, java.lang.Math.abs
+				(pbs.mean (iStep, iDeflatorState) - java.lang.Math.exp (-1. * FLAT_RATE * (pbd.stepDate
+					(iStep) - dblSpotDate) / 365.25)) / dblStandardError);
+		}
+
+		return dblMaxStandardizedDeviation;
+	}
+
+	private static final int NumStatisticsMismatch (
+		final org.drip.dynamics.evolution.PathBlockDynamics pbd)
+		throws java.lang.Exception
+	{
+		int iNumStep = pbd.numStep();
+
+		int iNumState = pbd.numState();
+
+		int iNumMismatch = 0;
+
+		org.drip.dynamics.evolution.PathBlockSimulator pbsim = new
+			org.drip.dynamics.evolution.PathBlockSimulator (pbd, NUM_PATH, BLOCK_SIZE, SEED);
+
+		org.drip.dynamics.evolution.PathBlockStatistics pbsSingleThread = new
+			org.drip.dynamics.evolution.PathBlockStatistics (iNumStep, iNumState);
+
+		org.drip.dynamics.evolution.PathBlockStatistics pbsMultiThread = new
+			org.drip.dynamics.evolution.PathBlockStatistics (iNumStep, iNumState);
+
+		if (!pbsim.run (pbsSingleThread, 1) || !pbsim.run (pbsMultiThread, NUM_THREAD))
+			throw new java.lang.Exception ("PathBlockRegressorSet::NumStatisticsMismatch => Cannot Simulate");
+
+		for (int iStep = 0; iStep <= iNumStep; ++iStep) {
+			for (int iState = 0; iState < iNumState; ++iState) {
+				if (pbsSingleThread.mean (iStep, iState) != pbsMultiThread.mean (iStep, iState) ||
+					pbsSingleThread.variance (iStep, iState) != pbsMultiThread.variance (iStep, iState))
+					++iNumMismatch;
+			}
+		}
+
+		return iNumMismatch;
+	}
+
+	@Override public boolean setupRegressors()
+	{
+		try {
+			/*
+			 * Verify the Thread Count Invariance of the Path Statistics - implements the pre-regression,
+			 * 	the post-regression, and the actual regression functionality of the UnitRegressorExecutor
+			 * 	class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("ThreadCountInvariance", _strRegressionScenario)
+			{
+				private int _iNumHJMMismatch = -1;
+				private int _iNumLMMMismatch = -1;
+				private int _iNumHullWhiteMismatch = -1;
+				private org.drip.dynamics.hjm.MultiFactorPathBlockDynamics _hjm = null;
+				private org.drip.dynamics.lmm.LognormalLIBORPathBlockDynamics _lmm = null;
+				private org.drip.dynamics.hullwhite.SingleFactorPathBlockDynamics _hw = null;
+
+				@Override public boolean preRegression()
+				{
+					return null != (_hw = HullWhiteDynamics()) && null != (_lmm = LMMDynamics()) && null !=
+						(_hjm = HJMDynamics());
+				}
+
+				@Override public boolean execRegression()
+				{
+					try {
+						_iNumHullWhiteMismatch = NumStatisticsMismatch (_hw);
+
+						_iNumLMMMismatch = NumStatisticsMismatch (_lmm);
+
+						_iNumHJMMismatch = NumStatisticsMismatch (_hjm);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("NumThread", "" + NUM_THREAD);
+
+					rnvd.set ("NumHullWhiteMismatch", "" + _iNumHullWhiteMismatch);
+
+					rnvd.set ("NumLMMMismatch", "" + _iNumLMMMismatch);
+
+					rnvd.set ("NumHJMMismatch", "" + _iNumHJMMismatch);
+
+					return 0 == _iNumHullWhiteMismatch && 0 == _iNumLMMMismatch && 0 == _iNumHJMMismatch;
+				}
+			});
+
+			/*
+			 * Reconcile the Hull-White Path Deflator against the Initial Curve - implements the
+			 * 	pre-regression, the post-regression, and the actual regression functionality of the
+			 * 	UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("HullWhiteZeroCouponBond", _strRegressionScenario)
+			{
+				private double _dblMaxStandardizedDeviation = java.lang.Double.NaN;
+				private org.drip.dynamics.hullwhite.SingleFactorPathBlockDynamics _hw = null;
+
+				@Override public boolean preRegression()
+				{
+					return null != (_hw = HullWhiteDynamics());
+				}
+
+				@Override public boolean execRegression()
+				{
+					try {
+						org.drip.dynamics.evolution.PathBlockStatistics pbs = new
+							org.drip.dynamics.evolution.PathBlockStatistics (_hw.numStep(), _hw.numState());
+
+						if (!new org.drip.dynamics.evolution.PathBlockSimulator (_hw, NUM_PATH, BLOCK_SIZE,
+							SEED).run (pbs, NUM_THREAD))
+							return false;
+
+						_dblMaxStandardizedDeviation = MaxStandardizedDeviation (_hw, pbs,
+							org.drip.dynamics.hullwhite.SingleFactorPathBlockDynamics.DEFLATOR, 52);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxStandardizedDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxStandardizedDeviation, 1, 4, 1.));
+
+					return MAX_STANDARD_ERROR_MULTIPLE > _dblMaxStandardizedDeviation;
+				}
+			});
+
+			/*
+			 * Reconcile the LMM Spot Numeraire Deflator against the Initial Curve - implements the
+			 * 	pre-regression, the post-regression, and the actual regression functionality of the
+			 * 	UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("LMMZeroCouponBond",
+				_strRegressionScenario)
+			{
+				private double _dblMaxStandardizedDeviation = java.lang.Double.NaN;
+				private org.drip.dynamics.lmm.LognormalLIBORPathBlockDynamics _lmm = null;
+
+				@Override public boolean preRegression()
+				{
+					return null != (_lmm = LMMDynamics());
+				}
+
+				@Override public boolean execRegression()
+				{
+					try {
+						org.drip.dynamics.evolution.PathBlockStatistics pbs = new
+							org.drip.dynamics.evolution.PathBlockStatistics (_lmm.numStep(),
+								_lmm.numState());
+
+						if (!new org.drip.dynamics.evolution.PathBlockSimulator (_lmm, NUM_PATH, BLOCK_SIZE,
+							SEED).run (pbs, NUM_THREAD))
+							return false;
+
+						_dblMaxStandardizedDeviation = MaxStandardizedDeviation (_lmm, pbs,
+							_lmm.numForward(), 52);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxStandardizedDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxStandardizedDeviation, 1, 4, 1.));
+
+					return MAX_STANDARD_ERROR_MULTIPLE > _dblMaxStandardizedDeviation;
+				}
+			});
+
+			/*
+			 * Reconcile the HJM Short Rate Path Deflator against the Initial Curve - implements the
+			 * 	pre-regression, the post-regression, and the actual regression functionality of the
+			 * 	UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("HJMZeroCouponBond",
+				_strRegressionScenario)
+			{
+				private double _dblMaxStandardizedDeviation = java.lang.Double.NaN;
+				private org.drip.dynamics.hjm.MultiFactorPathBlockDynamics _hjm = null;
+
+				@Override public boolean preRegression()
+				{
+					return null != (_hjm = HJMDynamics());
+				}
+
+				@Override public boolean execRegression()
+				{
+					try {
+						org.drip.dynamics.evolution.PathBlockStatistics pbs = new
+							org.drip.dynamics.evolution.PathBlockStatistics (_hjm.numStep(), 1);
+
+						if (!new org.drip.dynamics.evolution.PathBlockSimulator (_hjm, NUM_PATH, BLOCK_SIZE,
+							SEED).run (DiscountingObserver (_hjm, pbs), NUM_THREAD))
+							return false;
+
+						_dblMaxStandardizedDeviation = MaxStandardizedDeviation (_hjm, pbs, 0, 12);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxStandardizedDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxStandardizedDeviation, 1, 4, 1.));
+
+					return MAX_STANDARD_ERROR_MULTIPLE > _dblMaxStandardizedDeviation;
+				}
+			});
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public java.util.List<org.drip.regression.core.UnitRegressor> getRegressorSet()
+	{
+		return _setRegressors;
+	}
+
+	@Override public java.lang.String getSetName()
+	{
+		return _strRegressionScenario;
+	}
+}
@@ -33,8 +33,8 @@ package org.drip.regression.fixedpointfinder;
 
 /**
  * FixedPointFinderRegressionEngine implements the RegressionEngine for the Fixed Point Finder regression.
- *  It adds the OpenRegressorSet, the BracketingRegressorSet, and the CompoundBracketingRegressorSet, and
- *  launches the regression engine.
+ *  It adds the OpenRegressorSet, the BracketingRegressorSet, the CompoundBracketingRegressorSet, and the
+ *  WarmStartRegressorSet, and launches the regression engine.
  *
  * @author Lakshmi Krishnamurthy
  */
@@ -61,6 +61,8 @@ public class FixedPointFinderRegressionEngine extends org.drip.regression.core.R
 
 		fpfre.addRegressorSet (new org.drip.regression.fixedpointfinder.CompoundBracketingRegressorSet());
 
+		fpfre.addRegressorSet (new org.drip.regression.fixedpointfinder.WarmStartRegressorSet());
+
 		fpfre.launch();
 	}
 }
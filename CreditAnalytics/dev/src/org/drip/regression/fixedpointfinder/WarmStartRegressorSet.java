@@ -0,0 +1,512 @@
+
+package org.drip.regression.fixedpointfinder;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * WarmStartRegressorSet implements the regression run for the Warm Start Initialization of the Fixed Point
+ * 	Search off of a Prior Root. The Objective Function is a Bond-like Price less its Target, and it
+ * 	implements the following scenarios:
+ * 	- #1: Exact Hint - the Prior Root is the Root, so both Brent and Newton finish off of it directly.
+ * 	- #2: Near Hint - the Prior Root is 1 bp off, so the Root is found within a few Evaluations.
+ * 	- #3: Stale Hint - the Prior Root is far off, so the Root must still be found with the full Accuracy,
+ * 		and never at the Cost of a Cold Start.
+ * 	- #4: Floor/Ceiling Clamping - no Evaluation may leave the Hard Floor/Ceiling, including the Prior Roots
+ * 		that sit on the Floor or the Ceiling.
+ * 	- #5: Warm Start Metrics - every Solve is recorded onto the Warm Start Metrics.
+ * 	- #6: Concurrent Metrics Recording - no Count is lost when Threads record concurrently.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class WarmStartRegressorSet implements org.drip.regression.core.RegressorSet {
+	private static final double ROOT_TOLERANCE = 1.e-09;
+	private static final double OF_TOLERANCE = 1.e-07;
+	private static final int EXACT_HINT_OF_CALCS = 2;
+	private static final int NEAR_HINT_OF_CALCS = 10;
+	private static final int NUM_RECORDING_THREAD = 4;
+	private static final int NUM_RECORDING_PER_THREAD = 10000;
+
+	private static final double[] STALE_HINT = new double[] {0.5, 0.2, -0.3, 2.};
+
+	private double _dblMaxVariate = java.lang.Double.NaN;
+	private double _dblMinVariate = java.lang.Double.NaN;
+	private org.drip.function.deterministic.R1ToR1 _of = null;
+	private java.lang.String _strRegressionScenario = "org.drip.function.solver1D.InitializationHeuristics";
+
+	private java.util.List<org.drip.regression.core.UnitRegressor> _setRegressors = new
+		java.util.ArrayList<org.drip.regression.core.UnitRegressor>();
+
+	private org.drip.function.solver1D.FixedPointFinderOutput warmStart (
+		final boolean bNewton,
+		final double dblPriorRoot,
+		final double dblBracketFloor,
+		final double dblBracketCeiling)
+		throws java.lang.Exception
+	{
+		org.drip.function.solver1D.InitializationHeuristics ih =
+			org.drip.function.solver1D.InitializationHeuristics.FromWarmStart (dblPriorRoot, dblBracketFloor,
+				dblBracketCeiling, null);
+
+		_dblMinVariate = java.lang.Double.MAX_VALUE;
+		_dblMaxVariate = -1. * java.lang.Double.MAX_VALUE;
+
+		if (bNewton)
+			return new org.drip.function.solver1D.FixedPointFinderNewton (0., _of, false).findRoot (ih);
+
+		return new org.drip.function.solver1D.FixedPointFinderBrent (0., _of, false).findRoot (ih);
+	}
+
+	private org.drip.function.solver1D.FixedPointFinderOutput warmStart (
+		final boolean bNewton,
+		final double dblPriorRoot)
+		throws java.lang.Exception
+	{
+		return warmStart (bNewton, dblPriorRoot, java.lang.Double.NaN, java.lang.Double.NaN);
+	}
+
+	private boolean hasConverged (
+		final org.drip.function.solver1D.FixedPointFinderOutput fpfo,
+		final double dblRoot)
+		throws java.lang.Exception
+	{
+		return null != fpfo && fpfo.containsRoot() && ROOT_TOLERANCE > java.lang.Math.abs (fpfo.getRoot() -
+			dblRoot) && OF_TOLERANCE > java.lang.Math.abs (_of.evaluate (fpfo.getRoot()));
+	}
+
+	/**
+	 * WarmStartRegressorSet constructor
+	 */
+
+	public WarmStartRegressorSet()
+	{
+		_of = new org.drip.function.deterministic.R1ToR1 (null)
+		{
+			@Override public double evaluate (
+				final double dblVariate)
+				throws java.lang.Exception
+			{
+				if (java.lang.Double.isNaN (dblVariate))
+					throw new java.lang.Exception ("WarmStartRegressorSet::evaluate => Invalid variate!");
+
+				_dblMinVariate = java.lang.Math.min (_dblMinVariate, dblVariate);
+
+				_dblMaxVariate = java.lang.Math.max (_dblMaxVariate, dblVariate);
+
+				double dblPrice = 100. * java.lang.Math.exp (-10. * dblVariate);
+
+				for (int i = 1; i <= 5; ++i)
+					dblPrice += 5. * java.lang.Math.exp (-1. * i * dblVariate);
+
+				return dblPrice - 80.;
+			}
+		};
+	}
+
+	/**
+	 * Compute the Root from a Cold Start
+	 * 
+	 * @return The Cold Start Root Output
+	 */
+
+	public org.drip.function.solver1D.FixedPointFinderOutput coldStart()
+	{
+		try {
+			return new org.drip.function.solver1D.FixedPointFinderBrent (0., _of, false).findRoot();
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	@Override public boolean setupRegressors()
+	{
+		try {
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("ExactHint",
+				_strRegressionScenario)
+			{
+				private int _iMaxOFCalcs = 0;
+				private double _dblRoot = java.lang.Double.NaN;
+
+				@Override public boolean preRegression()
+				{
+					org.drip.function.solver1D.FixedPointFinderOutput fpfo = coldStart();
+
+					if (null == fpfo || !fpfo.containsRoot()) return false;
+
+					_dblRoot = fpfo.getRoot();
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					_iMaxOFCalcs = 0;
+
+					try {
+						for (boolean bNewton : new boolean[] {false, true}) {
+							org.drip.function.solver1D.FixedPointFinderOutput fpfo = warmStart (bNewton,
+								_dblRoot);
+
+							if (!hasConverged (fpfo, _dblRoot)) return false;
+
+							_iMaxOFCalcs = java.lang.Math.max (_iMaxOFCalcs, fpfo.getNumTotalOFCalcs());
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxOFCalcs", "" + _iMaxOFCalcs);
+
+					return EXACT_HINT_OF_CALCS >= _iMaxOFCalcs;
+				}
+			});
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("NearHint",
+				_strRegressionScenario)
+			{
+				private int _iMaxOFCalcs = 0;
+				private double _dblRoot = java.lang.Double.NaN;
+
+				@Override public boolean preRegression()
+				{
+					org.drip.function.solver1D.FixedPointFinderOutput fpfo = coldStart();
+
+					if (null == fpfo || !fpfo.containsRoot()) return false;
+
+					_dblRoot = fpfo.getRoot();
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					_iMaxOFCalcs = 0;
+
+					try {
+						for (boolean bNewton : new boolean[] {false, true}) {
+							for (double dblShift : new double[] {-1.e-04, 1.e-04}) {
+								org.drip.function.solver1D.FixedPointFinderOutput fpfo = warmStart (bNewton,
+									_dblRoot + dblShift);
+
+								if (!hasConverged (fpfo, _dblRoot)) return false;
+
+								_iMaxOFCalcs = java.lang.Math.max (_iMaxOFCalcs, fpfo.getNumTotalOFCalcs());
+							}
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxOFCalcs", "" + _iMaxOFCalcs);
+
+					return NEAR_HINT_OF_CALCS >= _iMaxOFCalcs;
+				}
+			});
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("StaleHint",
+				_strRegressionScenario)
+			{
+				private int _iMaxOFCalcs = 0;
+				private int _iColdStartOFCalcs = 0;
+				private double _dblRoot = java.lang.Double.NaN;
+				private double _dblMaxAbsoluteOF = java.lang.Double.NaN;
+
+				@Override public boolean preRegression()
+				{
+					org.drip.function.solver1D.FixedPointFinderOutput fpfo = coldStart();
+
+					if (null == fpfo || !fpfo.containsRoot()) return false;
+
+					_dblRoot = fpfo.getRoot();
+
+					_iColdStartOFCalcs = fpfo.getNumTotalOFCalcs();
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					_iMaxOFCalcs = 0;
+					_dblMaxAbsoluteOF = 0.;
+
+					try {
+						for (boolean bNewton : new boolean[] {false, true}) {
+							for (double dblPriorRoot : STALE_HINT) {
+								org.drip.function.solver1D.FixedPointFinderOutput fpfo = warmStart (bNewton,
+									dblPriorRoot);
+
+								if (!hasConverged (fpfo, _dblRoot)) return false;
+
+								_iMaxOFCalcs = java.lang.Math.max (_iMaxOFCalcs, fpfo.getNumTotalOFCalcs());
+
+								_dblMaxAbsoluteOF = java.lang.Math.max (_dblMaxAbsoluteOF, java.lang.Math.abs
+									(_of.evaluate (fpfo.getRoot())));
+							}
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxOFCalcs", "" + _iMaxOFCalcs);
+
+					rnvd.set ("ColdStartOFCalcs", "" + _iColdStartOFCalcs);
+
+					rnvd.set ("MaxAbsoluteOF", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxAbsoluteOF, 1, 12, 1.));
+
+					return _iColdStartOFCalcs > _iMaxOFCalcs;
+				}
+			});
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("FloorCeilingClamp",
+				_strRegressionScenario)
+			{
+				private double _dblRoot = java.lang.Double.NaN;
+				private double _dblMaxOutsideDistance = java.lang.Double.NaN;
+
+				private double[][] _aadblHintFloorCeiling = new double[][] {
+					{0.5, 0.05, 0.6},
+					{-0.3, -0.5, 0.06},
+					{0.3, 0., 0.3},
+					{0., 0., 0.3}
+				};
+
+				@Override public boolean preRegression()
+				{
+					org.drip.function.solver1D.FixedPointFinderOutput fpfo = coldStart();
+
+					if (null == fpfo || !fpfo.containsRoot()) return false;
+
+					_dblRoot = fpfo.getRoot();
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					_dblMaxOutsideDistance = 0.;
+
+					try {
+						for (double[] adblHintFloorCeiling : _aadblHintFloorCeiling) {
+							org.drip.function.solver1D.FixedPointFinderOutput fpfo = warmStart (false,
+								adblHintFloorCeiling[0], adblHintFloorCeiling[1], adblHintFloorCeiling[2]);
+
+							_dblMaxOutsideDistance = java.lang.Math.max (_dblMaxOutsideDistance,
+								java.lang.Math.max (adblHintFloorCeiling[1] - _dblMinVariate, _dblMaxVariate -
+									adblHintFloorCeiling[2]));
+
+							if (!hasConverged (fpfo, _dblRoot)) return false;
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxOutsideDistance", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxOutsideDistance, 1, 8, 1.));
+
+					return 0. >= _dblMaxOutsideDistance;
+				}
+			});
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("WarmStartMetrics",
+				_strRegressionScenario)
+			{
+				private long _lNumRoot = 0L;
+				private long _lNumSolve = 0L;
+				private long _lNumOFCalcs = 0L;
+				private long _lExpectedNumOFCalcs = 0L;
+
+				@Override public boolean execRegression()
+				{
+					org.drip.function.solver1D.FixedPointFinderMetrics fpfm =
+						org.drip.function.solver1D.FixedPointFinder.WarmStartMetrics();
+
+					long lNumRootStart = fpfm.numRoot();
+
+					long lNumSolveStart = fpfm.numSolve();
+
+					long lNumOFCalcsStart = fpfm.numOFCalcs();
+
+					_lExpectedNumOFCalcs = 0L;
+
+					try {
+						for (boolean bNewton : new boolean[] {false, true}) {
+							for (double dblPriorRoot : STALE_HINT) {
+								org.drip.function.solver1D.FixedPointFinderOutput fpfo = warmStart (bNewton,
+									dblPriorRoot);
+
+								if (null == fpfo) return false;
+
+								_lExpectedNumOFCalcs += fpfo.getNumTotalOFCalcs();
+							}
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					_lNumRoot = fpfm.numRoot() - lNumRootStart;
+					_lNumSolve = fpfm.numSolve() - lNumSolveStart;
+					_lNumOFCalcs = fpfm.numOFCalcs() - lNumOFCalcsStart;
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("NumSolve", "" + _lNumSolve);
+
+					rnvd.set ("NumRoot", "" + _lNumRoot);
+
+					rnvd.set ("NumOFCalcs", "" + _lNumOFCalcs);
+
+					return 2L * STALE_HINT.length == _lNumSolve && _lNumSolve == _lNumRoot &&
+						_lExpectedNumOFCalcs == _lNumOFCalcs;
+				}
+			});
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("ConcurrentMetricsRecording", _strRegressionScenario)
+			{
+				private int _iNumOFCalcs = 0;
+				private org.drip.function.solver1D.FixedPointFinderOutput _fpfo = null;
+				private org.drip.function.solver1D.FixedPointFinderMetrics _fpfm = null;
+
+				@Override public boolean preRegression()
+				{
+					try {
+						if (null == (_fpfo = warmStart (false, STALE_HINT[0]))) return false;
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					_iNumOFCalcs = _fpfo.getNumTotalOFCalcs();
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					_fpfm = new org.drip.function.solver1D.FixedPointFinderMetrics();
+
+					java.lang.Thread[] aThread = new java.lang.Thread[NUM_RECORDING_THREAD];
+
+					for (int i = 0; i < NUM_RECORDING_THREAD; ++i) {
+						aThread[i] = new java.lang.Thread()
+						{
+							@Override public void run()
+							{
+								for (int j = 0; j < NUM_RECORDING_PER_THREAD; ++j)
+									_fpfm.record (_fpfo);
+							}
+						};
+
+						aThread[i].start();
+					}
+
+					try {
+						for (java.lang.Thread thread : aThread)
+							thread.join();
+					} catch (java.lang.InterruptedException e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					long lNumRecording = (long) NUM_RECORDING_THREAD * NUM_RECORDING_PER_THREAD;
+
+					rnvd.set ("NumSolve", "" + _fpfm.numSolve());
+
+					rnvd.set ("NumOFCalcs", "" + _fpfm.numOFCalcs());
+
+					return lNumRecording == _fpfm.numSolve() && lNumRecording == _fpfm.numRoot() &&
+						lNumRecording * _iNumOFCalcs == _fpfm.numOFCalcs();
+				}
+			});
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public java.util.List<org.drip.regression.core.UnitRegressor> getRegressorSet()
+	{
+		return _setRegressors;
+	}
+
+	@Override public java.lang.String getSetName()
+	{
+		return _strRegressionScenario;
+	}
+}
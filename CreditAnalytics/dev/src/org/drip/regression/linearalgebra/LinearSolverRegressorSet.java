@@ -0,0 +1,593 @@
+
+package org.drip.regression.linearalgebra;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * LinearSolverRegressorSet reconciles the LU and the Banded LU Factorization Solves against the Dense
+ * 	Gaussian Elimination Inverse they replaced. It implements the following scenarios:
+ * 	- #1: LU Solve of Random Dense Systems with zeroed Diagonals against the Dense Inverse times the RHS,
+ * 		along with the Residual of the LU Solve.
+ * 	- #2: LU Pivoting and Determinant of a Row-reversed Upper Triangular Matrix, whose Pivot Sequence and
+ * 		Determinant are known up-front.
+ * 	- #3: LU Factorization Re-use - factors() against Copies and Perturbations of the factored Matrix, the
+ * 		Multi-RHS Solve against the Single-RHS one, and the cached Inverse against the Dense Inverse.
+ * 	- #4: Hagan-West Minimal Quadratic Banded Solve against the Dense Solve of the original (un-interleaved)
+ * 		Equation Layout, for 2 through 16 Segments, including the 3+ Segment Cases the un-pivoted Gaussian
+ * 		Elimination returned NaN for.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class LinearSolverRegressorSet implements org.drip.regression.core.RegressorSet {
+	private static final long RANDOM_SEED = 20150101L;
+	private static final double HAGAN_WEST_WEIGHT = 0.5;
+	private static final double LU_SOLVE_TOLERANCE = 1.e-12;
+	private static final double LU_RESIDUAL_TOLERANCE = 1.e-12;
+	private static final double DETERMINANT_TOLERANCE = 1.e-14;
+	private static final double INVERSE_TOLERANCE = 1.e-12;
+	private static final double HAGAN_WEST_TOLERANCE = 1.e-15;
+	private static final double CONSERVED_TOLERANCE = 1.e-15;
+	private static final int HAGAN_WEST_RESPONSE_STEP = 8;
+	private static final int TRIANGULAR_SIZE = 7;
+	private static final int REUSE_SIZE = 12;
+	private static final int NUM_REUSE_RHS = 5;
+
+	private static final int[] LU_SIZE = new int[] {4, 8, 16, 32};
+
+	private static final int[] HAGAN_WEST_SEGMENTS = new int[] {2, 3, 5, 8, 16};
+
+	private java.lang.String _strRegressionScenario = "org.drip.quant.linearalgebra.LinearSolver";
+
+	private java.util.List<org.drip.regression.core.UnitRegressor> _setRegressors = new
+		java.util.ArrayList<org.drip.regression.core.UnitRegressor>();
+
+	/*
+	 * Random Entries in [-1, 1), with every other Diagonal Entry zeroed so the Factorization has to pivot.
+	 */
+
+	private static final double[][] RandomMatrix (
+		final java.util.Random r,
+		final int iSize)
+	{
+		double[][] aadblA = new double[iSize][iSize];
+
+		for (int i = 0; i < iSize; ++i) {
+			for (int j = 0; j < iSize; ++j)
+				aadblA[i][j] = 0 == i % 2 && i == j ? 0. : 2. * r.nextDouble() - 1.;
+		}
+
+		return aadblA;
+	}
+
+	private static final double[] RandomVector (
+		final java.util.Random r,
+		final int iSize)
+	{
+		double[] adbl = new double[iSize];
+
+		for (int i = 0; i < iSize; ++i)
+			adbl[i] = 2. * r.nextDouble() - 1.;
+
+		return adbl;
+	}
+
+	private static final double[] Multiply (
+		final double[][] aadblA,
+		final double[] adblX)
+	{
+		double[] adblProduct = new double[aadblA.length];
+
+		for (int i = 0; i < aadblA.length; ++i) {
+			adblProduct[i] = 0.;
+
+			for (int j = 0; j < adblX.length; ++j)
+				adblProduct[i] += aadblA[i][j] * adblX[j];
+		}
+
+		return adblProduct;
+	}
+
+	private static final double MaxAbs (
+		final double[] adbl)
+	{
+		double dblMaxAbs = 0.;
+
+		for (double dbl : adbl)
+			dblMaxAbs = java.lang.Math.max (dblMaxAbs, java.lang.Math.abs (dbl));
+
+		return dblMaxAbs;
+	}
+
+	private static final double MaxDeviation (
+		final double[] adbl1,
+		final double[] adbl2)
+	{
+		if (null == adbl1 || null == adbl2 || adbl1.length != adbl2.length)
+			return java.lang.Double.POSITIVE_INFINITY;
+
+		double dblMaxDeviation = 0.;
+
+		for (int i = 0; i < adbl1.length; ++i)
+			dblMaxDeviation = java.lang.Math.max (dblMaxDeviation, java.lang.Math.abs (adbl1[i] -
+				adbl2[i]));
+
+		return dblMaxDeviation;
+	}
+
+	private static final double MaxDeviation (
+		final double[][] aadbl1,
+		final double[][] aadbl2)
+	{
+		if (null == aadbl1 || null == aadbl2 || aadbl1.length != aadbl2.length)
+			return java.lang.Double.POSITIVE_INFINITY;
+
+		double dblMaxDeviation = 0.;
+
+		for (int i = 0; i < aadbl1.length; ++i)
+			dblMaxDeviation = java.lang.Math.max (dblMaxDeviation, MaxDeviation (aadbl1[i], aadbl2[i]));
+
+		return dblMaxDeviation;
+	}
+
+	/*
+	 * The Minimal Quadratic Hagan-West Equations in their original Layout - all the Conserved Quantities,
+	 * 	then all the Continuity Constraints, then all the Derivative Penalties, then the Boundary Conditions.
+	 */
+
+	private static final double[][] HaganWestDenseMatrix (
+		final double[] adblPredictorOrdinate,
+		final double[] adblObservation,
+		final double[] adblRHS)
+	{
+		int iNumObservation = adblObservation.length;
+		double[][] aadblCoeffMatrix = new double[3 * iNumObservation][3 * iNumObservation];
+
+		for (int i = 0; i < iNumObservation; ++i) {
+			double dblH = adblPredictorOrdinate[i + 1] - adblPredictorOrdinate[i];
+
+			adblRHS[i] = adblObservation[i];
+			aadblCoeffMatrix[i][3 * i] = 1.;
+			aadblCoeffMatrix[i][3 * i + 1] = 0.5 * dblH;
+			aadblCoeffMatrix[i][3 * i + 2] = dblH * dblH / 3.;
+
+			if (iNumObservation - 1 == i) break;
+
+			int iContinuityEq = iNumObservation + i;
+			aadblCoeffMatrix[iContinuityEq][3 * i] = 1.;
+			aadblCoeffMatrix[iContinuityEq][3 * i + 1] = dblH;
+			aadblCoeffMatrix[iContinuityEq][3 * i + 2] = dblH * dblH;
+			aadblCoeffMatrix[iContinuityEq][3 * i + 3] = -1.;
+
+			int iPenaltyEq = 2 * iNumObservation - 1 + i;
+			aadblCoeffMatrix[iPenaltyEq][3 * i + 1] = HAGAN_WEST_WEIGHT;
+			aadblCoeffMatrix[iPenaltyEq][3 * i + 2] = 2. * dblH;
+			aadblCoeffMatrix[iPenaltyEq][3 * i + 4] = -1. * HAGAN_WEST_WEIGHT;
+		}
+
+		aadblCoeffMatrix[3 * iNumObservation - 2][1] = 1.;
+		aadblCoeffMatrix[3 * iNumObservation - 1][3 * iNumObservation - 2] = 1.;
+		return aadblCoeffMatrix;
+	}
+
+	@Override public boolean setupRegressors()
+	{
+		try {
+			/*
+			 * LU Solve vs. Dense Inverse - implements the pre-regression, the post-regression, and the
+			 * 	actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("LUSolveVersusDenseInverse", _strRegressionScenario)
+			{
+				private int _iNumPivotedRow = -1;
+				private double _dblMaxResidual = java.lang.Double.NaN;
+				private double _dblMaxDeviation = java.lang.Double.NaN;
+				private double[][] _aadblRHS = new double[LU_SIZE.length][];
+				private double[][][] _aaadblA = new double[LU_SIZE.length][][];
+
+				@Override public boolean preRegression()
+				{
+					java.util.Random r = new java.util.Random (RANDOM_SEED);
+
+					for (int i = 0; i < LU_SIZE.length; ++i) {
+						_aaadblA[i] = RandomMatrix (r, LU_SIZE[i]);
+
+						_aadblRHS[i] = RandomVector (r, LU_SIZE[i]);
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					_iNumPivotedRow = 0;
+					_dblMaxResidual = 0.;
+					_dblMaxDeviation = 0.;
+
+					for (int i = 0; i < LU_SIZE.length; ++i) {
+						org.drip.quant.linearalgebra.LUFactorization lu =
+							org.drip.quant.linearalgebra.Matrix.LUDecomposition (_aaadblA[i]);
+
+						double[][] aadblDenseInverse = org.drip.quant.linearalgebra.Matrix.Invert
+							(_aaadblA[i], "GaussianElimination");
+
+						if (null == lu || null == aadblDenseInverse) return false;
+
+						double[] adblX = lu.solve (_aadblRHS[i]);
+
+						if (null == adblX) return false;
+
+						double[] adblDenseX = Multiply (aadblDenseInverse, _aadblRHS[i]);
+
+						_dblMaxDeviation = java.lang.Math.max (_dblMaxDeviation, MaxDeviation (adblX,
+							adblDenseX) / MaxAbs (adblDenseX));
+
+						_dblMaxResidual = java.lang.Math.max (_dblMaxResidual, MaxDeviation (Multiply
+							(_aaadblA[i], adblX), _aadblRHS[i]));
+
+						int[] aiPivot = lu.pivot();
+
+						for (int j = 0; j < aiPivot.length; ++j) {
+							if (j != aiPivot[j]) ++_iNumPivotedRow;
+						}
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxRelativeDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDeviation, 1, 16, 1.));
+
+					rnvd.set ("MaxResidual", org.drip.quant.common.FormatUtil.FormatDouble (_dblMaxResidual,
+						1, 16, 1.));
+
+					rnvd.set ("NumPivotedRow", "" + _iNumPivotedRow);
+
+					return LU_SOLVE_TOLERANCE > _dblMaxDeviation && LU_RESIDUAL_TOLERANCE > _dblMaxResidual
+						&& 0 < _iNumPivotedRow;
+				}
+			});
+
+			/*
+			 * LU Pivoting and Determinant - implements the pre-regression, the post-regression, and the
+			 * 	actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("LUPivotingAndDeterminant", _strRegressionScenario)
+			{
+				private int _iNumPivotMismatch = -1;
+				private double _dblDeterminant = java.lang.Double.NaN;
+				private double _dblDeterminantError = java.lang.Double.NaN;
+				private double _dblExpectedDeterminant = java.lang.Double.NaN;
+				private double[][] _aadblA = new double[TRIANGULAR_SIZE][TRIANGULAR_SIZE];
+
+				@Override public boolean preRegression()
+				{
+					_dblExpectedDeterminant = 0 == (TRIANGULAR_SIZE / 2) % 2 ? 1. : -1.;
+
+					for (int i = 0; i < TRIANGULAR_SIZE; ++i) {
+						double[] adblRow = _aadblA[TRIANGULAR_SIZE - 1 - i];
+
+						for (int j = i; j < TRIANGULAR_SIZE; ++j)
+							adblRow[j] = i == j ? 2. + i : 1. / (1. + i + j);
+
+						_dblExpectedDeterminant *= 2. + i;
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					org.drip.quant.linearalgebra.LUFactorization lu =
+						org.drip.quant.linearalgebra.Matrix.LUDecomposition (_aadblA);
+
+					if (null == lu) return false;
+
+					int[] aiPivot = lu.pivot();
+
+					_iNumPivotMismatch = 0;
+
+					for (int i = 0; i < TRIANGULAR_SIZE; ++i) {
+						if (TRIANGULAR_SIZE - 1 - i != aiPivot[i]) ++_iNumPivotMismatch;
+					}
+
+					_dblDeterminantError = java.lang.Math.abs ((_dblDeterminant = lu.determinant()) -
+						_dblExpectedDeterminant) / java.lang.Math.abs (_dblExpectedDeterminant);
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("Determinant", org.drip.quant.common.FormatUtil.FormatDouble (_dblDeterminant,
+						1, 4, 1.));
+
+					rnvd.set ("ExpectedDeterminant", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblExpectedDeterminant, 1, 4, 1.));
+
+					rnvd.set ("DeterminantError", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblDeterminantError, 1, 16, 1.));
+
+					rnvd.set ("NumPivotMismatch", "" + _iNumPivotMismatch);
+
+					return 0 == _iNumPivotMismatch && DETERMINANT_TOLERANCE > _dblDeterminantError;
+				}
+			});
+
+			/*
+			 * LU Factorization Re-use - implements the pre-regression, the post-regression, and the actual
+			 * 	regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("LUReuse",
+				_strRegressionScenario)
+			{
+				private boolean _bFactorsCopy = false;
+				private boolean _bFactorsMutated = true;
+				private boolean _bFactorsPerturbed = true;
+				private boolean _bInverseCached = false;
+				private double[][] _aadblA = null;
+				private double[][] _aadblRHS = null;
+				private double _dblMaxMultiRHSDeviation = java.lang.Double.NaN;
+				private double _dblMaxInverseDeviation = java.lang.Double.NaN;
+
+				@Override public boolean preRegression()
+				{
+					java.util.Random r = new java.util.Random (RANDOM_SEED);
+
+					_aadblA = RandomMatrix (r, REUSE_SIZE);
+
+					_aadblRHS = new double[NUM_REUSE_RHS][];
+
+					for (int i = 0; i < NUM_REUSE_RHS; ++i)
+						_aadblRHS[i] = RandomVector (r, REUSE_SIZE);
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					double[][] aadblA = new double[REUSE_SIZE][];
+
+					for (int i = 0; i < REUSE_SIZE; ++i)
+						aadblA[i] = _aadblA[i].clone();
+
+					org.drip.quant.linearalgebra.LUFactorization lu =
+						org.drip.quant.linearalgebra.Matrix.LUDecomposition (aadblA);
+
+					if (null == lu) return false;
+
+					double[] adblX = lu.solve (_aadblRHS[0]);
+
+					_bFactorsCopy = lu.factors (_aadblA);
+
+					double[][] aadblPerturbed = new double[REUSE_SIZE][];
+
+					for (int i = 0; i < REUSE_SIZE; ++i)
+						aadblPerturbed[i] = _aadblA[i].clone();
+
+					aadblPerturbed[REUSE_SIZE - 1][REUSE_SIZE - 1] = java.lang.Math.nextUp
+						(aadblPerturbed[REUSE_SIZE - 1][REUSE_SIZE - 1]);
+
+					_bFactorsPerturbed = lu.factors (aadblPerturbed);
+
+					aadblA[0][0] += 1.;
+
+					_bFactorsMutated = lu.factors (aadblA);
+
+					double[][] aadblX = lu.solve (_aadblRHS);
+
+					if (null == adblX || null == aadblX) return false;
+
+					_dblMaxMultiRHSDeviation = MaxDeviation (adblX, aadblX[0]);
+
+					for (int i = 0; i < NUM_REUSE_RHS; ++i)
+						_dblMaxMultiRHSDeviation = java.lang.Math.max (_dblMaxMultiRHSDeviation,
+							MaxDeviation (lu.solve (_aadblRHS[i]), aadblX[i]));
+
+					double[][] aadblInverse = lu.inverse();
+
+					_bInverseCached = aadblInverse == lu.inverse();
+
+					_dblMaxInverseDeviation = MaxDeviation (aadblInverse,
+						org.drip.quant.linearalgebra.Matrix.Invert (_aadblA, "GaussianElimination"));
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("FactorsCopy", "" + _bFactorsCopy);
+
+					rnvd.set ("FactorsPerturbed", "" + _bFactorsPerturbed);
+
+					rnvd.set ("FactorsMutated", "" + _bFactorsMutated);
+
+					rnvd.set ("InverseCached", "" + _bInverseCached);
+
+					rnvd.set ("MaxMultiRHSDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxMultiRHSDeviation, 1, 16, 1.));
+
+					rnvd.set ("MaxInverseDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxInverseDeviation, 1, 16, 1.));
+
+					/*
+					 * The Factorization holds its own Copy of the Matrix, so mutating the Caller's Matrix
+					 * 	afterwards must neither change the Solve nor be mistaken for the factored Matrix.
+					 */
+
+					return _bFactorsCopy && !_bFactorsPerturbed && !_bFactorsMutated && _bInverseCached &&
+						0. == _dblMaxMultiRHSDeviation && INVERSE_TOLERANCE > _dblMaxInverseDeviation;
+				}
+			});
+
+			/*
+			 * Hagan-West Banded vs. Dense Solve - implements the pre-regression, the post-regression, and
+			 * 	the actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("HaganWestBandedVersusDense", _strRegressionScenario)
+			{
+				private int _iNumInvalid = -1;
+				private int _iNumDenseInverse = -1;
+				private double _dblMaxConservedError = java.lang.Double.NaN;
+				private double _dblMaxResponseDeviation = java.lang.Double.NaN;
+
+				@Override public boolean preRegression()
+				{
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					_iNumInvalid = 0;
+					_iNumDenseInverse = 0;
+					_dblMaxConservedError = 0.;
+					_dblMaxResponseDeviation = 0.;
+
+					try {
+						for (int iNumSegment : HAGAN_WEST_SEGMENTS) {
+							double[] adblRHS = new double[3 * iNumSegment];
+							double[] adblObservation = new double[iNumSegment];
+							double[] adblPredictorOrdinate = new double[iNumSegment + 1];
+
+							for (int i = 0; i <= iNumSegment; ++i)
+								adblPredictorOrdinate[i] = i;
+
+							for (int i = 0; i < iNumSegment; ++i)
+								adblObservation[i] = 0.02 + 0.003 * i + 0.001 * java.lang.Math.sin (i);
+
+							org.drip.spline.pchip.MinimalQuadraticHaganWest mqhw =
+								org.drip.spline.pchip.MinimalQuadraticHaganWest.Create (adblPredictorOrdinate,
+									adblObservation, HAGAN_WEST_WEIGHT);
+
+							if (null == mqhw) return false;
+
+							double[][] aadblDense = HaganWestDenseMatrix (adblPredictorOrdinate,
+								adblObservation, adblRHS);
+
+							/*
+							 * The Dense Inverse fails on the larger Systems - fall back onto the Dense
+							 * 	(pivoted) LU Solve of the same un-interleaved Layout for those.
+							 */
+
+							double[] adblCoeff = null;
+
+							double[][] aadblDenseInverse = org.drip.quant.linearalgebra.Matrix.Invert
+								(aadblDense, "GaussianElimination");
+
+							if (null != aadblDenseInverse) {
+								adblCoeff = Multiply (aadblDenseInverse, adblRHS);
+
+								++_iNumDenseInverse;
+							} else
+								adblCoeff = new org.drip.quant.linearalgebra.LUFactorization
+									(aadblDense).solve (adblRHS);
+
+							double[] adblConservedConstraint = mqhw.calcConservedConstraint();
+
+							for (int i = 0; i < iNumSegment; ++i) {
+								if (!org.drip.quant.common.NumberUtil.IsValid (adblConservedConstraint[i]))
+									++_iNumInvalid;
+
+								_dblMaxConservedError = java.lang.Math.max (_dblMaxConservedError,
+									java.lang.Math.abs (adblConservedConstraint[i] - adblObservation[i]));
+							}
+
+							for (int i = 0; i <= iNumSegment * HAGAN_WEST_RESPONSE_STEP; ++i) {
+								double dblX = ((double) i) / HAGAN_WEST_RESPONSE_STEP;
+
+								int iSegment = java.lang.Math.min ((int) dblX, iNumSegment - 1);
+
+								double dblDX = dblX - adblPredictorOrdinate[iSegment];
+
+								double dblResponse = mqhw.responseValue (dblX);
+
+								if (!org.drip.quant.common.NumberUtil.IsValid (dblResponse)) ++_iNumInvalid;
+
+								_dblMaxResponseDeviation = java.lang.Math.max (_dblMaxResponseDeviation,
+									java.lang.Math.abs (dblResponse - adblCoeff[3 * iSegment] -
+										adblCoeff[3 * iSegment + 1] * dblDX - adblCoeff[3 * iSegment + 2] *
+											dblDX * dblDX));
+							}
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxResponseDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxResponseDeviation, 1, 18, 1.));
+
+					rnvd.set ("MaxConservedError", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxConservedError, 1, 18, 1.));
+
+					rnvd.set ("NumDenseInverse", "" + _iNumDenseInverse);
+
+					rnvd.set ("NumInvalid", "" + _iNumInvalid);
+
+					return 0 == _iNumInvalid && 0 < _iNumDenseInverse && HAGAN_WEST_TOLERANCE >
+						_dblMaxResponseDeviation && CONSERVED_TOLERANCE > _dblMaxConservedError;
+				}
+			});
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public java.util.List<org.drip.regression.core.UnitRegressor> getRegressorSet()
+	{
+		return _setRegressors;
+	}
+
+	@Override public java.lang.String getSetName()
+	{
+		return _strRegressionScenario;
+	}
+}
@@ -0,0 +1,230 @@
+
+package org.drip.regression.pricer;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * HestonRegressorSet implements the regression set for the Heston Stochastic Volatility Pricer. It regresses
+ * 	the following scenarios:
+ * 	- #1: Reconcile the Carr-Madan Strike Ladder against the Black Scholes Prices as the Volatility of the
+ * 		Variance vanishes.
+ * 	- #2: Reconcile the Carr-Madan Strike Ladder against the per-Strike Quadrature of compute() around the
+ * 		Money, and verify that the Far Out-of-the-Money Ladder Prices are not negative.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class HestonRegressorSet implements org.drip.regression.core.RegressorSet {
+	private static final double RISK_FREE_RATE = 0.01;
+	private static final double INITIAL_VARIANCE = 0.04;
+	private static final double BLACK_SCHOLES_TOLERANCE = 1.e-05;
+	private static final double QUADRATURE_TOLERANCE = 5.e-03;
+
+	private static final double[] TIME_TO_EXPIRY = new double[] {0.25, 1., 2., 5.};
+
+	private java.lang.String _strRegressionScenario =
+		"org.drip.pricer.option.HestonStochasticVolatilityAlgorithm";
+
+	private java.util.List<org.drip.regression.core.UnitRegressor> _setRegressors = new
+		java.util.ArrayList<org.drip.regression.core.UnitRegressor>();
+
+	/**
+	 * Create the Heston Stochastic Volatility Algorithm with the Long Run Variance set to the Initial
+	 * 	Variance
+	 * 
+	 * @param dblSigma The Volatility of the Variance
+	 * 
+	 * @return The Heston Stochastic Volatility Algorithm
+	 */
+
+	public static final org.drip.pricer.option.HestonStochasticVolatilityAlgorithm Heston (
+		final double dblSigma)
+	{
+		int iPayoffTransformScheme =
+			org.drip.pricer.option.HestonStochasticVolatilityAlgorithm.PAYOFF_TRANSFORM_SCHEME_AMST_2007;
+		int iPhaseTrackerType =
+			org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_POWER_PHASE_TRACKER_KAHL_JACKEL;
+
+		try {
+			return new org.drip.pricer.option.HestonStochasticVolatilityAlgorithm (new
+				org.drip.param.pricer.HestonOptionPricerParams (iPayoffTransformScheme, -0.3, 1., dblSigma,
+					INITIAL_VARIANCE, 0., iPhaseTrackerType));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	@Override public boolean setupRegressors()
+	{
+		try {
+			/*
+			 * Reconcile the Strike Ladder against Black Scholes in the Vanishing Volatility of Variance
+			 * 	Limit - implements the pre-regression, the post-regression, and the actual regression
+			 * 	functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("LadderBlackScholesLimit", _strRegressionScenario)
+			{
+				private double _dblMaxDeviation = java.lang.Double.NaN;
+				private org.drip.pricer.option.HestonStochasticVolatilityAlgorithm _hsva = null;
+
+				private double[] _adblStrike = new double[] {0.5, 0.6, 0.7, 0.8, 0.9, 1.0, 1.1, 1.2, 1.3, 1.5,
+					1.8, 2.5};
+
+				@Override public boolean preRegression()
+				{
+					return null != (_hsva = Heston (1.e-06));
+				}
+
+				@Override public boolean execRegression()
+				{
+					_dblMaxDeviation = 0.;
+
+					try {
+						for (double dblTimeToExpiry : TIME_TO_EXPIRY) {
+							double[] adblCallPrice = _hsva.callPriceLadder (_adblStrike, dblTimeToExpiry,
+								RISK_FREE_RATE, 1., false, INITIAL_VARIANCE);
+
+							if (null == adblCallPrice) return false;
+
+							double dblDF = java.lang.Math.exp (-1. * RISK_FREE_RATE * dblTimeToExpiry);
+
+							for (int i = 0; i < _adblStrike.length; ++i)
+								_dblMaxDeviation = java.lang.Math.max (_dblMaxDeviation, java.lang.Math.abs
+									(adblCallPrice[i] -
+										org.drip.pricer.option.BlackScholesImpliedVolatility.Price
+											(_adblStrike[i], dblTimeToExpiry, 1. / dblDF, dblDF, false,
+												java.lang.Math.sqrt (INITIAL_VARIANCE))));
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxBlackScholesDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDeviation, 1, 10, 1.));
+
+					return BLACK_SCHOLES_TOLERANCE > _dblMaxDeviation;
+				}
+			});
+
+			/*
+			 * Reconcile the Strike Ladder against the per-Strike Quadrature - the truncated compute()
+			 * 	Quadrature is the coarser of the two, hence the looser Tolerance. Implements the
+			 * 	pre-regression, the post-regression, and the actual regression functionality of the
+			 * 	UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("LadderQuadratureReconciliation", _strRegressionScenario)
+			{
+				private double _dblMaxDeviation = java.lang.Double.NaN;
+				private double _dblMinFarOTMPrice = java.lang.Double.NaN;
+				private org.drip.pricer.option.HestonStochasticVolatilityAlgorithm _hsva = null;
+
+				private double[] _adblStrike = new double[] {0.8, 0.9, 1.0, 1.1, 1.2};
+
+				private double[] _adblFarOTMStrike = new double[] {2.0, 2.5, 3.0, 4.0};
+
+				@Override public boolean preRegression()
+				{
+					return null != (_hsva = Heston (0.5));
+				}
+
+				@Override public boolean execRegression()
+				{
+					_dblMaxDeviation = 0.;
+					_dblMinFarOTMPrice = java.lang.Double.MAX_VALUE;
+
+					for (double dblTimeToExpiry : TIME_TO_EXPIRY) {
+						double[] adblCallPrice = _hsva.callPriceLadder (_adblStrike, dblTimeToExpiry,
+							RISK_FREE_RATE, 1., false, INITIAL_VARIANCE);
+
+						double[] adblFarOTMCallPrice = _hsva.callPriceLadder (_adblFarOTMStrike,
+							dblTimeToExpiry, RISK_FREE_RATE, 1., false, INITIAL_VARIANCE);
+
+						if (null == adblCallPrice || null == adblFarOTMCallPrice) return false;
+
+						for (int i = 0; i < _adblStrike.length; ++i) {
+							if (!_hsva.compute (_adblStrike[i], dblTimeToExpiry, RISK_FREE_RATE, 1., false,
+								INITIAL_VARIANCE, false))
+								return false;
+
+							_dblMaxDeviation = java.lang.Math.max (_dblMaxDeviation, java.lang.Math.abs
+								(adblCallPrice[i] - _hsva.callPrice()));
+						}
+
+						for (double dblFarOTMCallPrice : adblFarOTMCallPrice)
+							_dblMinFarOTMPrice = java.lang.Math.min (_dblMinFarOTMPrice, dblFarOTMCallPrice);
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxQuadratureDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDeviation, 1, 10, 1.));
+
+					rnvd.set ("MinFarOTMPrice", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMinFarOTMPrice, 1, 10, 1.));
+
+					return QUADRATURE_TOLERANCE > _dblMaxDeviation && 0. <= _dblMinFarOTMPrice;
+				}
+			});
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public java.util.List<org.drip.regression.core.UnitRegressor> getRegressorSet()
+	{
+		return _setRegressors;
+	}
+
+	@Override public java.lang.String getSetName()
+	{
+		return _strRegressionScenario;
+	}
+}
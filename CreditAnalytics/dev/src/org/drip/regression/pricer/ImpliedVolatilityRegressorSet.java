@@ -0,0 +1,210 @@
+
+package org.drip.regression.pricer;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * ImpliedVolatilityRegressorSet implements the regression set for the Black Scholes and the Black Normal
+ * 	Implied Volatility Solvers. It regresses the following scenarios:
+ * 	- #1: Price a Strike x Expiry x Volatility Grid of Puts and Calls with Black Scholes, imply the
+ * 		Volatility back, and reconcile it against the Input Volatility.
+ * 	- #2: Do the same Round Trip with the Black Normal (Bachelier) Price and Implied Volatility.
+ * 	Quotes whose Time Value is below one Millionth of the Forward carry too little Volatility Information to
+ * 		be inverted, and are skipped.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class ImpliedVolatilityRegressorSet implements org.drip.regression.core.RegressorSet {
+	private static final double DISCOUNT_FACTOR = 0.95;
+	private static final double BLACK_SCHOLES_FORWARD = 100.;
+	private static final double BLACK_NORMAL_FORWARD = 0.03;
+	private static final double BLACK_SCHOLES_TOLERANCE = 1.e-13;
+	private static final double BLACK_NORMAL_TOLERANCE = 5.e-14;
+	private static final double MINIMUM_RELATIVE_TIME_VALUE = 1.e-06;
+
+	private static final double[] TIME_TO_EXPIRY = new double[] {0.1, 0.5, 1., 5., 10.};
+
+	private java.lang.String _strRegressionScenario = "org.drip.pricer.option";
+
+	private java.util.List<org.drip.regression.core.UnitRegressor> _setRegressors = new
+		java.util.ArrayList<org.drip.regression.core.UnitRegressor>();
+
+	/**
+	 * Price every Put and Call on the Strike x Expiry x Volatility Grid, imply the Volatility back from the
+	 * 	Price, and return the largest absolute Deviation from the Input Volatility
+	 * 
+	 * @param bIsNormal TRUE => Black Normal, FALSE => Black Scholes
+	 * @param dblForward The Forward
+	 * @param adblStrike Array of Strikes
+	 * @param adblVolatility Array of Volatilities
+	 * 
+	 * @return The largest absolute Implied Volatility Deviation
+	 * 
+	 * @throws java.lang.Exception Thrown if a Quote cannot be priced or implied
+	 */
+
+	public static final double MaxRoundTripDeviation (
+		final boolean bIsNormal,
+		final double dblForward,
+		final double[] adblStrike,
+		final double[] adblVolatility)
+		throws java.lang.Exception
+	{
+		double dblMaxDeviation = 0.;
+		boolean[] abIsPut = new boolean[] {false, true};
+
+		for (double dblStrike : adblStrike) {
+			for (double dblTimeToExpiry : TIME_TO_EXPIRY) {
+				for (double dblVolatility : adblVolatility) {
+					for (boolean bIsPut : abIsPut) {
+						double dblPrice = bIsNormal ?
+							org.drip.pricer.option.BlackNormalImpliedVolatility.Price (dblStrike,
+								dblTimeToExpiry, dblForward, DISCOUNT_FACTOR, bIsPut, dblVolatility) :
+									org.drip.pricer.option.BlackScholesImpliedVolatility.Price (dblStrike,
+										dblTimeToExpiry, dblForward, DISCOUNT_FACTOR, bIsPut, dblVolatility);
+
+						double dblTimeValue = dblPrice - DISCOUNT_FACTOR * java.lang.Math.max (bIsPut ?
+							dblStrike - dblForward : dblForward - dblStrike, 0.);
+
+						if (dblTimeValue < MINIMUM_RELATIVE_TIME_VALUE * dblForward) continue;
+
+						double dblImpliedVolatility = bIsNormal ?
+							org.drip.pricer.option.BlackNormalImpliedVolatility.Imply (dblStrike,
+								dblTimeToExpiry, dblForward, DISCOUNT_FACTOR, bIsPut, dblPrice) :
+									org.drip.pricer.option.BlackScholesImpliedVolatility.Imply (dblStrike,
+										dblTimeToExpiry, dblForward, DISCOUNT_FACTOR, bIsPut, dblPrice);
+
+						dblMaxDeviation = java.lang.Math.max (dblMaxDeviation, java.lang.Math.abs
+							(dblImpliedVolatility - dblVolatility));
+					}
+				}
+			}
+		}
+
+		return dblMaxDeviation;
+	}
+
+	@Override public boolean setupRegressors()
+	{
+		try {
+			/*
+			 * Black Scholes Price/Implied Volatility Round Trip - implements the pre-regression, the
+			 * 	post-regression, and the actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("BlackScholesRoundTrip", _strRegressionScenario)
+			{
+				private double _dblMaxDeviation = java.lang.Double.NaN;
+
+				private double[] _adblStrike = new double[] {50., 75., 90., 100., 110., 125., 150., 200.};
+
+				private double[] _adblVolatility = new double[] {0.05, 0.1, 0.2, 0.4, 0.8};
+
+				@Override public boolean execRegression()
+				{
+					try {
+						_dblMaxDeviation = MaxRoundTripDeviation (false, BLACK_SCHOLES_FORWARD, _adblStrike,
+							_adblVolatility);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxVolatilityDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDeviation, 1, 16, 1.));
+
+					return BLACK_SCHOLES_TOLERANCE > _dblMaxDeviation;
+				}
+			});
+
+			/*
+			 * Black Normal Price/Implied Volatility Round Trip - implements the pre-regression, the
+			 * 	post-regression, and the actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("BlackNormalRoundTrip", _strRegressionScenario)
+			{
+				private double _dblMaxDeviation = java.lang.Double.NaN;
+
+				private double[] _adblStrike = new double[] {0., 0.01, 0.02, 0.025, 0.03, 0.035, 0.04, 0.05,
+					0.06};
+
+				private double[] _adblVolatility = new double[] {0.002, 0.005, 0.01, 0.02};
+
+				@Override public boolean execRegression()
+				{
+					try {
+						_dblMaxDeviation = MaxRoundTripDeviation (true, BLACK_NORMAL_FORWARD, _adblStrike,
+							_adblVolatility);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxVolatilityDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDeviation, 1, 16, 1.));
+
+					return BLACK_NORMAL_TOLERANCE > _dblMaxDeviation;
+				}
+			});
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public java.util.List<org.drip.regression.core.UnitRegressor> getRegressorSet()
+	{
+		return _setRegressors;
+	}
+
+	@Override public java.lang.String getSetName()
+	{
+		return _strRegressionScenario;
+	}
+}
@@ -0,0 +1,528 @@
+
+package org.drip.regression.product;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * BondKernelRegressorSet reconciles the Bond Cash Flow Kernels used by the Bond Calibrators against the
+ * 	Period Walk Pricing Paths of BondComponent, across Coupon Day Counts, Frequencies, Front Stubs, Bullet
+ * 	and Amortizing Notional Schedules, and Work-outs at and ahead of the Maturity. It regresses the following
+ * 	scenarios:
+ * 	- #1: Price off of the Z Spread Kernel against priceFromBumpedZC.
+ * 	- #2: Price off of priceFromBumpedZC, calibrate the Z Spread back, and reconcile it against the Input.
+ * 	- #3: Price and Macaulay Duration off of the Yield Kernel against priceFromYield and
+ * 		macaulayDurationFromYield.
+ * 	- #4: First and Second Yield Derivatives off of the Yield Kernel against Richardson Extrapolated
+ * 		Central Differences of priceFromYield.
+ * 	- #5: Price off of priceFromYield, calibrate the Yield back, and reconcile it against the Input.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BondKernelRegressorSet implements org.drip.regression.core.RegressorSet {
+
+	/*
+	 * BondComponent's Zero Curve off of the Rates Instruments Discount Curve
+	 */
+
+	private static final int ZERO_OFF_OF_RATES_INSTRUMENTS_DISCOUNT_CURVE = 1;
+
+	private static final double WORKOUT_FACTOR = 1.02;
+	private static final double Z_SPREAD_PRICE_TOLERANCE = 1.e-13;
+	private static final double Z_SPREAD_ROUND_TRIP_TOLERANCE = 1.e-13;
+	private static final double YIELD_PRICE_TOLERANCE = 1.e-13;
+	private static final double YIELD_MACAULAY_TOLERANCE = 1.e-12;
+	private static final double YIELD_DIFFERENCE_BUMP = 1.e-03;
+	private static final double YIELD_DERIVATIVE_TOLERANCE = 1.e-07;
+	private static final double YIELD_ROUND_TRIP_TOLERANCE = 1.e-13;
+
+	private static final double[] YIELD = new double[] {0., 0.03, 0.08};
+
+	private static final int[] FREQUENCY = new int[] {1, 2, 4};
+
+	private static final double[] Z_SPREAD = new double[] {-0.005, 0., 0.02};
+
+	private static final java.lang.String[] DAY_COUNT = new java.lang.String[] {"30/360", "Act/365",
+		"Act/Act", "Act/360"};
+
+	private java.lang.String _strRegressionScenario = "org.drip.product.credit.BondComponent";
+
+	private java.util.List<org.drip.regression.core.UnitRegressor> _setRegressors = new
+		java.util.ArrayList<org.drip.regression.core.UnitRegressor>();
+
+	/**
+	 * Spot Date of the Regression Market
+	 * 
+	 * @return The Spot Date
+	 */
+
+	public static final org.drip.analytics.date.JulianDate SpotDate()
+	{
+		return org.drip.analytics.date.DateUtil.CreateFromYMD (2015, 6, 1);
+	}
+
+	/**
+	 * Construct the Regression Market, i.e., an upward sloping Piece-wise Flat Forward Funding Curve that
+	 * 	also serves as the Treasury Curve
+	 * 
+	 * @return The Regression Market Curve Surface Quote Set
+	 */
+
+	public static final org.drip.param.market.CurveSurfaceQuoteSet Market()
+	{
+		org.drip.analytics.date.JulianDate dtSpot = SpotDate();
+
+		org.drip.analytics.rates.DiscountCurve dc = org.drip.state.creator.DiscountCurveBuilder.CreateDC
+			(dtSpot, "USD", null, new double[] {dtSpot.addYears (1).julian(), dtSpot.addYears (3).julian(),
+				dtSpot.addYears (7).julian(), dtSpot.addYears (15).julian(), dtSpot.addYears (30).julian()},
+					new double[] {0.010, 0.015, 0.025, 0.032, 0.035}, null);
+
+		return null == dc ? null : org.drip.param.creator.MarketParamsBuilder.Govvie (dc, dc);
+	}
+
+	/**
+	 * Construct the Set of Fixed Coupon Bonds spanning the Day Count x Frequency x Front Stub x Notional
+	 * 	Schedule Grid
+	 * 
+	 * @return List of the Fixed Coupon Bonds
+	 */
+
+	public static final java.util.List<org.drip.product.credit.BondComponent> BondSet()
+	{
+		org.drip.analytics.date.JulianDate dtSpot = SpotDate();
+
+		org.drip.quant.common.Array2D[] aPrincipalSchedule = new org.drip.quant.common.Array2D[] {null,
+			org.drip.quant.common.Array2D.FromArray (new double[] {dtSpot.addYears (1).julian(),
+				dtSpot.addYears (3).julian(), dtSpot.addYears (5).julian()}, new double[] {1., 0.8, 0.5})};
+
+		java.util.List<org.drip.product.credit.BondComponent> lsBond = new
+			java.util.ArrayList<org.drip.product.credit.BondComponent>();
+
+		for (java.lang.String strDayCount : DAY_COUNT) {
+			for (int iFreq : FREQUENCY) {
+				for (int iStub = 0; iStub < 3; ++iStub) {
+					for (org.drip.quant.common.Array2D principalSchedule : aPrincipalSchedule) {
+						org.drip.product.credit.BondComponent bond =
+							org.drip.product.creator.BondBuilder.CreateSimpleFixed ("KERNEL" + lsBond.size(),
+								"USD", "", 0.045, iFreq, strDayCount, dtSpot.addYears (-2).addDays (41 *
+									iStub), dtSpot.addYears (7).addDays (17 * iStub), principalSchedule,
+										null);
+
+						if (null == bond) return null;
+
+						lsBond.add (bond);
+					}
+				}
+			}
+		}
+
+		return lsBond;
+	}
+
+	/**
+	 * Retrieve the Work-out Dates each Bond is reconciled to, i.e., the Maturity and a Call Ahead of it
+	 * 
+	 * @param bond The Bond
+	 * 
+	 * @return Array of the Work-out Dates
+	 */
+
+	public static final double[] WorkoutDates (
+		final org.drip.product.credit.BondComponent bond)
+	{
+		return new double[] {bond.maturityDate().julian(), SpotDate().addYears (4).addDays (10).julian()};
+	}
+
+	/**
+	 * Retrieve the Work-out Factor applicable to the Work-out Date of the Bond
+	 * 
+	 * @param bond The Bond
+	 * @param dblWorkoutDate The Work-out Date
+	 * 
+	 * @return The Work-out Factor
+	 */
+
+	public static final double WorkoutFactor (
+		final org.drip.product.credit.BondComponent bond,
+		final double dblWorkoutDate)
+	{
+		return bond.maturityDate().julian() == dblWorkoutDate ? 1. : WORKOUT_FACTOR;
+	}
+
+	@Override public boolean setupRegressors()
+	{
+		try {
+			/*
+			 * Z Spread Kernel Price vs. the Bumped Zero Curve Price - implements the pre-regression, the
+			 * 	post-regression, and the actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("ZSpreadKernelPrice",
+				_strRegressionScenario)
+			{
+				private double _dblMaxDeviation = java.lang.Double.NaN;
+
+				@Override public boolean execRegression()
+				{
+					org.drip.param.market.CurveSurfaceQuoteSet csqs = Market();
+
+					java.util.List<org.drip.product.credit.BondComponent> lsBond = BondSet();
+
+					if (null == csqs || null == lsBond) return false;
+
+					org.drip.param.valuation.ValuationParams valParams =
+						org.drip.param.valuation.ValuationParams.Spot (SpotDate(), 0, "",
+							org.drip.analytics.daycount.Convention.DATE_ROLL_ACTUAL);
+
+					_dblMaxDeviation = 0.;
+
+					try {
+						for (org.drip.product.credit.BondComponent bond : lsBond) {
+							for (double dblWorkoutDate : WorkoutDates (bond)) {
+								double dblWorkoutFactor = WorkoutFactor (bond, dblWorkoutDate);
+
+								org.drip.analytics.support.ZSpreadCashflowKernel zsck = bond.zSpreadKernel
+									(valParams, csqs, null, ZERO_OFF_OF_RATES_INSTRUMENTS_DISCOUNT_CURVE,
+										dblWorkoutDate, dblWorkoutFactor);
+
+								if (null == zsck) return false;
+
+								for (double dblZSpread : Z_SPREAD)
+									_dblMaxDeviation = java.lang.Math.max (_dblMaxDeviation,
+										java.lang.Math.abs (zsck.price (dblZSpread) - bond.priceFromBumpedZC
+											(valParams, csqs, null,
+												ZERO_OFF_OF_RATES_INSTRUMENTS_DISCOUNT_CURVE, dblWorkoutDate,
+													dblWorkoutFactor, dblZSpread)));
+							}
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxPriceDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDeviation, 1, 16, 1.));
+
+					return Z_SPREAD_PRICE_TOLERANCE > _dblMaxDeviation;
+				}
+			});
+
+			/*
+			 * Z Spread Price/Calibration Round Trip - implements the pre-regression, the post-regression, and
+			 * 	the actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("ZSpreadRoundTrip",
+				_strRegressionScenario)
+			{
+				private double _dblMaxDeviation = java.lang.Double.NaN;
+
+				@Override public boolean execRegression()
+				{
+					org.drip.param.market.CurveSurfaceQuoteSet csqs = Market();
+
+					java.util.List<org.drip.product.credit.BondComponent> lsBond = BondSet();
+
+					if (null == csqs || null == lsBond) return false;
+
+					org.drip.param.valuation.ValuationParams valParams =
+						org.drip.param.valuation.ValuationParams.Spot (SpotDate(), 0, "",
+							org.drip.analytics.daycount.Convention.DATE_ROLL_ACTUAL);
+
+					_dblMaxDeviation = 0.;
+
+					try {
+						for (org.drip.product.credit.BondComponent bond : lsBond) {
+							for (double dblWorkoutDate : WorkoutDates (bond)) {
+								double dblWorkoutFactor = WorkoutFactor (bond, dblWorkoutDate);
+
+								for (double dblZSpread : Z_SPREAD)
+									_dblMaxDeviation = java.lang.Math.max (_dblMaxDeviation,
+										java.lang.Math.abs (bond.zspreadFromPrice (valParams, csqs, null,
+											dblWorkoutDate, dblWorkoutFactor, bond.priceFromBumpedZC
+												(valParams, csqs, null,
+													ZERO_OFF_OF_RATES_INSTRUMENTS_DISCOUNT_CURVE,
+														dblWorkoutDate, dblWorkoutFactor, dblZSpread)) -
+															dblZSpread));
+							}
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxZSpreadDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDeviation, 1, 16, 1.));
+
+					return Z_SPREAD_ROUND_TRIP_TOLERANCE > _dblMaxDeviation;
+				}
+			});
+
+			/*
+			 * Yield Kernel Price and Macaulay Duration vs. the Period Walk - implements the pre-regression,
+			 * 	the post-regression, and the actual regression functionality of the UnitRegressorExecutor
+			 * 	class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("YieldKernelPrice",
+				_strRegressionScenario)
+			{
+				private double _dblMaxPriceDeviation = java.lang.Double.NaN;
+				private double _dblMaxMacaulayDeviation = java.lang.Double.NaN;
+
+				@Override public boolean execRegression()
+				{
+					org.drip.param.market.CurveSurfaceQuoteSet csqs = Market();
+
+					java.util.List<org.drip.product.credit.BondComponent> lsBond = BondSet();
+
+					if (null == csqs || null == lsBond) return false;
+
+					org.drip.param.valuation.ValuationParams valParams =
+						org.drip.param.valuation.ValuationParams.Spot (SpotDate(), 0, "",
+							org.drip.analytics.daycount.Convention.DATE_ROLL_ACTUAL);
+
+					_dblMaxPriceDeviation = 0.;
+					_dblMaxMacaulayDeviation = 0.;
+
+					try {
+						for (org.drip.product.credit.BondComponent bond : lsBond) {
+							for (double dblWorkoutDate : WorkoutDates (bond)) {
+								double dblWorkoutFactor = WorkoutFactor (bond, dblWorkoutDate);
+
+								org.drip.analytics.support.YieldCashflowKernel yck = bond.yieldKernel
+									(valParams, csqs, null, dblWorkoutDate, dblWorkoutFactor);
+
+								if (null == yck) return false;
+
+								for (double dblYield : YIELD) {
+									_dblMaxPriceDeviation = java.lang.Math.max (_dblMaxPriceDeviation,
+										java.lang.Math.abs (yck.price (dblYield) - bond.priceFromYield
+											(valParams, csqs, null, dblWorkoutDate, dblWorkoutFactor,
+												dblYield)));
+
+									_dblMaxMacaulayDeviation = java.lang.Math.max (_dblMaxMacaulayDeviation,
+										java.lang.Math.abs (yck.macaulayDuration (dblYield) -
+											bond.macaulayDurationFromYield (valParams, csqs, null,
+												dblWorkoutDate, dblWorkoutFactor, dblYield)));
+								}
+							}
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxPriceDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxPriceDeviation, 1, 16, 1.));
+
+					rnvd.set ("MaxMacaulayDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxMacaulayDeviation, 1, 16, 1.));
+
+					return YIELD_PRICE_TOLERANCE > _dblMaxPriceDeviation && YIELD_MACAULAY_TOLERANCE >
+						_dblMaxMacaulayDeviation;
+				}
+			});
+
+			/*
+			 * Yield Kernel Analytic Derivatives vs. Richardson Extrapolated Central Differences - implements
+			 * 	the pre-regression, the post-regression, and the actual regression functionality of the
+			 * 	UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("YieldKernelDerivatives", _strRegressionScenario)
+			{
+				private double _dblMaxDerivativeDeviation = java.lang.Double.NaN;
+
+				@Override public boolean execRegression()
+				{
+					org.drip.param.market.CurveSurfaceQuoteSet csqs = Market();
+
+					java.util.List<org.drip.product.credit.BondComponent> lsBond = BondSet();
+
+					if (null == csqs || null == lsBond) return false;
+
+					org.drip.param.valuation.ValuationParams valParams =
+						org.drip.param.valuation.ValuationParams.Spot (SpotDate(), 0, "",
+							org.drip.analytics.daycount.Convention.DATE_ROLL_ACTUAL);
+
+					_dblMaxDerivativeDeviation = 0.;
+
+					try {
+						for (org.drip.product.credit.BondComponent bond : lsBond) {
+							for (double dblWorkoutDate : WorkoutDates (bond)) {
+								double dblWorkoutFactor = WorkoutFactor (bond, dblWorkoutDate);
+
+								org.drip.analytics.support.YieldCashflowKernel yck = bond.yieldKernel
+									(valParams, csqs, null, dblWorkoutDate, dblWorkoutFactor);
+
+								if (null == yck) return false;
+
+								for (double dblYield : YIELD) {
+									double[] adblPriceDerivative = yck.priceDerivatives (dblYield, 2);
+
+									double[] adblPrice = new double[5];
+
+									for (int i = 0; i < 5; ++i)
+										adblPrice[i] = bond.priceFromYield (valParams, csqs, null,
+											dblWorkoutDate, dblWorkoutFactor, dblYield + 0.5 * (i - 2) *
+												YIELD_DIFFERENCE_BUMP);
+
+									double dblFirstDerivative = (8. * (adblPrice[3] - adblPrice[1]) -
+										(adblPrice[4] - adblPrice[0])) / (6. * YIELD_DIFFERENCE_BUMP);
+
+									double dblSecondDerivative = (16. * (adblPrice[3] + adblPrice[1]) -
+										(adblPrice[4] + adblPrice[0]) - 30. * adblPrice[2]) / (3. *
+											YIELD_DIFFERENCE_BUMP * YIELD_DIFFERENCE_BUMP);
+
+									_dblMaxDerivativeDeviation = java.lang.Math.max
+										(_dblMaxDerivativeDeviation, java.lang.Math.abs (dblFirstDerivative -
+											adblPriceDerivative[1]) / adblPrice[2]);
+
+									_dblMaxDerivativeDeviation = java.lang.Math.max
+										(_dblMaxDerivativeDeviation, java.lang.Math.abs (dblSecondDerivative -
+											adblPriceDerivative[2]) / adblPrice[2]);
+								}
+							}
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxRelativeDerivativeDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDerivativeDeviation, 1, 16, 1.));
+
+					return YIELD_DERIVATIVE_TOLERANCE > _dblMaxDerivativeDeviation;
+				}
+			});
+
+			/*
+			 * Yield Price/Calibration Round Trip - implements the pre-regression, the post-regression, and
+			 * 	the actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("YieldRoundTrip",
+				_strRegressionScenario)
+			{
+				private double _dblMaxDeviation = java.lang.Double.NaN;
+
+				@Override public boolean execRegression()
+				{
+					org.drip.param.market.CurveSurfaceQuoteSet csqs = Market();
+
+					java.util.List<org.drip.product.credit.BondComponent> lsBond = BondSet();
+
+					if (null == csqs || null == lsBond) return false;
+
+					org.drip.param.valuation.ValuationParams valParams =
+						org.drip.param.valuation.ValuationParams.Spot (SpotDate(), 0, "",
+							org.drip.analytics.daycount.Convention.DATE_ROLL_ACTUAL);
+
+					_dblMaxDeviation = 0.;
+
+					try {
+						for (org.drip.product.credit.BondComponent bond : lsBond) {
+							for (double dblWorkoutDate : WorkoutDates (bond)) {
+								double dblWorkoutFactor = WorkoutFactor (bond, dblWorkoutDate);
+
+								for (double dblYield : YIELD)
+									_dblMaxDeviation = java.lang.Math.max (_dblMaxDeviation,
+										java.lang.Math.abs (bond.yieldFromPrice (valParams, csqs, null,
+											dblWorkoutDate, dblWorkoutFactor, bond.priceFromYield (valParams,
+												csqs, null, dblWorkoutDate, dblWorkoutFactor, dblYield)) -
+													dblYield));
+							}
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("MaxYieldDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDeviation, 1, 16, 1.));
+
+					return YIELD_ROUND_TRIP_TOLERANCE > _dblMaxDeviation;
+				}
+			});
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public java.util.List<org.drip.regression.core.UnitRegressor> getRegressorSet()
+	{
+		return _setRegressors;
+	}
+
+	@Override public java.lang.String getSetName()
+	{
+		return _strRegressionScenario;
+	}
+}
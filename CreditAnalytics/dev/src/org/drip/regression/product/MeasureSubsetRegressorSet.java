@@ -0,0 +1,663 @@
+
+package org.drip.regression.product;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * MeasureSubsetRegressorSet reconciles the Measures generated off of the Demand-driven value (..., Set)
+ * 	Requests against the corresponding Entries of the Full Measure Map, for the Bonds, the CDS, and the
+ * 	Baskets built off of them, with and without the Market Quotes that trigger the Market Re-valuation. It
+ * 	also reconciles the Slot-wise Basket Aggregation against the Name-wise Aggregation of the Component
+ * 	Measure Maps. It regresses the following scenarios:
+ * 	- #1: Bond Subset Measures against the Full Bond Measure Map.
+ * 	- #2: CDS Subset Measures against the Full CDS Measure Map.
+ * 	- #3: Bond and CDS Basket Subset Measures against the Full Basket Measure Map.
+ * 	- #4: Basket Measure Vector Aggregation against the Component Measure Map Aggregation, and the Re-use
+ * 		of the Interned Schemas of the Adapted Component Maps.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class MeasureSubsetRegressorSet implements org.drip.regression.core.RegressorSet {
+	private static final int BOND_STRIDE = 6;
+	private static final int REQUEST_STRIPE = 7;
+	private static final int BASKET_SIZE = 4;
+	private static final double MARKET_BOND_YIELD = 0.04;
+	private static final double MARKET_CDS_FAIR_PREMIUM = 175.;
+	private static final double CDS_HAZARD_RATE = 0.02;
+	private static final double CDS_RECOVERY = 0.4;
+	private static final double MEASURE_TOLERANCE = 0.;
+
+	/*
+	 * BasketProduct's (protected) Measure Aggregation Types
+	 */
+
+	private static final int BASKET_AGGREGATION_CUMULATIVE = 1;
+	private static final int BASKET_AGGREGATION_WEIGHTED_CUMULATIVE = 2;
+	private static final int BASKET_AGGREGATION_UNIT_ACCUMULATE = 4;
+
+	private static final java.lang.String[] CDS_TENOR = new java.lang.String[] {"1Y", "3Y", "5Y", "7Y"};
+
+	private static final java.lang.String[] SINGLETON_MEASURE = new java.lang.String[] {"Price",
+		"CleanPrice", "Yield", "FairPrice", "FairYield", "Accrued", "DV01", "PV", "Upfront", "FairPremium",
+			"FairUpfront", "FairFairPremium", "MarketFairPremium", "MarketCreditBasis", "ParSpread"};
+
+	private java.lang.String _strRegressionScenario = "org.drip.product.definition.FixedIncomeComponent";
+
+	private java.util.List<org.drip.regression.core.UnitRegressor> _setRegressors = new
+		java.util.ArrayList<org.drip.regression.core.UnitRegressor>();
+
+	/**
+	 * Generate the Measure Requests off of the Full Measure Map - the Full Set of Measure Names is striped
+	 * 	across REQUEST_STRIPE Requests, and each Singleton Measure is requested on its own.
+	 * 
+	 * @param mapFullMeasure The Full Measure Map
+	 * 
+	 * @return List of the Measure Requests
+	 */
+
+	public static final java.util.List<java.util.Set<java.lang.String>> Requests (
+		final java.util.Map<java.lang.String, java.lang.Double> mapFullMeasure)
+	{
+		java.util.List<java.util.Set<java.lang.String>> lsRequest = new
+			java.util.ArrayList<java.util.Set<java.lang.String>>();
+
+		for (int i = 0; i < REQUEST_STRIPE; ++i)
+			lsRequest.add (new java.util.TreeSet<java.lang.String>());
+
+		int iMeasure = 0;
+
+		for (java.lang.String strMeasure : mapFullMeasure.keySet())
+			lsRequest.get (iMeasure++ % REQUEST_STRIPE).add (strMeasure);
+
+		for (java.lang.String strMeasure : SINGLETON_MEASURE)
+			lsRequest.add (java.util.Collections.singleton (strMeasure));
+
+		return lsRequest;
+	}
+
+	/**
+	 * Compute the Maximum Absolute Deviation of the Subset Measures from the Full Measure Map across the
+	 * 	Requested Measure Names. The Calculation Time Measures are excluded.
+	 * 
+	 * @param mapFullMeasure The Full Measure Map
+	 * @param mapSubsetMeasure The Subset Measure Map
+	 * @param setstrRequest The Requested Measure Names
+	 * 
+	 * @return The Maximum Absolute Deviation - Infinity if a Measure is present in only one of the Maps, if
+	 * 	only one of the Values is NaN, or if the Subset Map contains Measures that were not requested
+	 */
+
+	public static final double MaxDeviation (
+		final java.util.Map<java.lang.String, java.lang.Double> mapFullMeasure,
+		final java.util.Map<java.lang.String, java.lang.Double> mapSubsetMeasure,
+		final java.util.Set<java.lang.String> setstrRequest)
+	{
+		if (null == mapFullMeasure || null == mapSubsetMeasure) return java.lang.Double.POSITIVE_INFINITY;
+
+		java.util.Set<java.lang.String> setstrCaseInsensitiveRequest = new
+			java.util.TreeSet<java.lang.String> (java.lang.String.CASE_INSENSITIVE_ORDER);
+
+		setstrCaseInsensitiveRequest.addAll (setstrRequest);
+
+		for (java.lang.String strMeasure : mapSubsetMeasure.keySet()) {
+			if (!setstrCaseInsensitiveRequest.contains (strMeasure))
+				return java.lang.Double.POSITIVE_INFINITY;
+		}
+
+		double dblMaxDeviation = 0.;
+
+		for (java.lang.String strMeasure : setstrRequest) {
+			if (strMeasure.toLowerCase().contains ("calctime")) continue;
+
+			java.lang.Double dblFull = mapFullMeasure.get (strMeasure);
+
+			java.lang.Double dblSubset = mapSubsetMeasure.get (strMeasure);
+
+			if (null == dblFull && null == dblSubset) continue;
+
+			if (null == dblFull || null == dblSubset || dblFull.isNaN() != dblSubset.isNaN())
+				return java.lang.Double.POSITIVE_INFINITY;
+
+			if (!dblFull.isNaN())
+				dblMaxDeviation = java.lang.Math.max (dblMaxDeviation, java.lang.Math.abs (dblFull -
+					dblSubset));
+		}
+
+		return dblMaxDeviation;
+	}
+
+	/**
+	 * Aggregate the Basket Measures Name by Name off of the Component Measure Maps, in the Basket Order
+	 * 
+	 * @param basket The Basket
+	 * @param valParams ValuationParams
+	 * @param pricerParams PricerParams
+	 * @param csqs Market Parameters
+	 * 
+	 * @return Map of the Aggregated Basket Measures
+	 */
+
+	public static final java.util.Map<java.lang.String, java.lang.Double> MapAggregate (
+		final org.drip.product.definition.BasketProduct basket,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.PricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs)
+	{
+		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapBasketMeasure = new
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
+
+		org.drip.product.definition.FixedIncomeComponent[] aComp = basket.components();
+
+		double[] adblWeight = basket.weights();
+
+		for (int i = 0; i < aComp.length; ++i) {
+			java.util.Map<java.lang.String, java.lang.Double> mapComponentMeasure = aComp[i].value
+				(valParams, pricerParams, csqs, null);
+
+			if (null == mapComponentMeasure) continue;
+
+			for (java.util.Map.Entry<java.lang.String, java.lang.Double> me :
+				mapComponentMeasure.entrySet()) {
+				java.lang.String strMeasure = me.getKey();
+
+				double dblComponentValue = null == me.getValue() ? java.lang.Double.NaN : me.getValue();
+
+				java.lang.Double dblBasketValue = mapBasketMeasure.get (strMeasure);
+
+				int iAggregationType = basket.measureAggregationType (strMeasure);
+
+				if (BASKET_AGGREGATION_CUMULATIVE == iAggregationType)
+					mapBasketMeasure.put (strMeasure, dblComponentValue + (null == dblBasketValue ? 0. :
+						dblBasketValue));
+				else if (BASKET_AGGREGATION_WEIGHTED_CUMULATIVE == iAggregationType && null != adblWeight)
+					mapBasketMeasure.put (strMeasure, adblWeight[i] * dblComponentValue + (null ==
+						dblBasketValue ? 0. : dblBasketValue));
+				else if (BASKET_AGGREGATION_UNIT_ACCUMULATE == iAggregationType)
+					mapBasketMeasure.put (aComp[i].name() + "[" + strMeasure + "]", dblComponentValue);
+			}
+		}
+
+		return mapBasketMeasure;
+	}
+
+	/**
+	 * Construct the Regression Bonds, i.e., every BOND_STRIDE'th Bond of the Bond Kernel Set
+	 * 
+	 * @return Array of the Regression Bonds
+	 */
+
+	public static final org.drip.product.credit.BondComponent[] Bonds()
+	{
+		java.util.List<org.drip.product.credit.BondComponent> lsBond = BondKernelRegressorSet.BondSet();
+
+		if (null == lsBond) return null;
+
+		org.drip.product.credit.BondComponent[] aBond = new
+			org.drip.product.credit.BondComponent[(lsBond.size() + BOND_STRIDE - 1) / BOND_STRIDE];
+
+		for (int i = 0; i < aBond.length; ++i)
+			aBond[i] = lsBond.get (i * BOND_STRIDE);
+
+		return aBond;
+	}
+
+	/**
+	 * Construct the Regression CDS off of the Bond Kernel Spot Date
+	 * 
+	 * @return Array of the Regression CDS
+	 */
+
+	public static final org.drip.product.definition.CreditDefaultSwap[] CDS()
+	{
+		org.drip.product.definition.CreditDefaultSwap[] aCDS = new
+			org.drip.product.definition.CreditDefaultSwap[CDS_TENOR.length];
+
+		for (int i = 0; i < CDS_TENOR.length; ++i) {
+			if (null == (aCDS[i] = org.drip.product.creator.CDSBuilder.CreateSNAC
+				(BondKernelRegressorSet.SpotDate(), CDS_TENOR[i], 0.01, "CORP")))
+				return null;
+		}
+
+		return aCDS;
+	}
+
+	/**
+	 * Construct the Regression Market - the Bond Kernel Funding/Treasury Curve, a Flat Hazard "CORP" Credit
+	 * 	Curve, and Market Quotes on every other Bond/CDS, so both the Fair and the Market Re-valuation Paths
+	 * 	are exercised
+	 * 
+	 * @param aBond Array of the Regression Bonds
+	 * @param aCDS Array of the Regression CDS
+	 * 
+	 * @return The Regression Market
+	 */
+
+	public static final org.drip.param.market.CurveSurfaceQuoteSet Market (
+		final org.drip.product.credit.BondComponent[] aBond,
+		final org.drip.product.definition.CreditDefaultSwap[] aCDS)
+	{
+		org.drip.param.market.CurveSurfaceQuoteSet csqs = BondKernelRegressorSet.Market();
+
+		if (null == csqs || null == aBond || null == aCDS || !csqs.setCreditCurve
+			(org.drip.state.creator.CreditCurveBuilder.FromFlatHazard
+				(BondKernelRegressorSet.SpotDate().julian(), "CORP", "USD", CDS_HAZARD_RATE, CDS_RECOVERY)))
+			return null;
+
+		for (int i = 1; i < aBond.length; i += 2) {
+			org.drip.param.definition.ProductQuote pq =
+				org.drip.param.creator.QuoteBuilder.CreateProductQuote();
+
+			if (null == pq) return null;
+
+			pq.addQuote ("Yield", org.drip.param.creator.QuoteBuilder.CreateQuote ("mid", MARKET_BOND_YIELD,
+				java.lang.Double.NaN), false);
+
+			if (!csqs.setProductQuote (aBond[i].name(), pq)) return null;
+		}
+
+		for (int i = 1; i < aCDS.length; i += 2) {
+			org.drip.param.definition.ProductQuote pq =
+				org.drip.param.creator.QuoteBuilder.CreateProductQuote();
+
+			if (null == pq) return null;
+
+			pq.addQuote ("FairPremium", org.drip.param.creator.QuoteBuilder.CreateQuote ("mid",
+				MARKET_CDS_FAIR_PREMIUM, java.lang.Double.NaN), false);
+
+			if (!csqs.setProductQuote (aCDS[i].name(), pq)) return null;
+		}
+
+		return csqs;
+	}
+
+	/**
+	 * Construct the Regression Valuation Parameters
+	 * 
+	 * @return The Regression Valuation Parameters
+	 */
+
+	public static final org.drip.param.valuation.ValuationParams ValuationParams()
+	{
+		return org.drip.param.valuation.ValuationParams.Spot (BondKernelRegressorSet.SpotDate(), 0, "",
+			org.drip.analytics.daycount.Convention.DATE_ROLL_ACTUAL);
+	}
+
+	/**
+	 * Construct the Regression Pricer Parameters
+	 * 
+	 * @return The Regression Pricer Parameters
+	 */
+
+	public static final org.drip.param.pricer.PricerParams PricerParams()
+	{
+		return new org.drip.param.pricer.PricerParams (7, null, false,
+			org.drip.param.pricer.PricerParams.PERIOD_DISCRETIZATION_DAY_STEP);
+	}
+
+	@Override public boolean setupRegressors()
+	{
+		try {
+			/*
+			 * Bond Subset Measures vs. the Full Bond Measure Map - implements the pre-regression, the
+			 * 	post-regression, and the actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("BondSubset",
+				_strRegressionScenario)
+			{
+				private int _iNumRequest = 0;
+				private double _dblMaxDeviation = java.lang.Double.NaN;
+				private org.drip.product.credit.BondComponent[] _aBond = null;
+				private org.drip.param.market.CurveSurfaceQuoteSet _csqs = null;
+
+				@Override public boolean preRegression()
+				{
+					return null != (_aBond = Bonds()) && null != (_csqs = Market (_aBond, CDS()));
+				}
+
+				@Override public boolean execRegression()
+				{
+					org.drip.param.valuation.ValuationParams valParams = ValuationParams();
+
+					_iNumRequest = 0;
+					_dblMaxDeviation = 0.;
+
+					for (org.drip.product.credit.BondComponent bond : _aBond) {
+						java.util.Map<java.lang.String, java.lang.Double> mapFullMeasure = bond.value
+							(valParams, null, _csqs, null);
+
+						if (null == mapFullMeasure) return false;
+
+						for (java.util.Set<java.lang.String> setstrRequest : Requests (mapFullMeasure)) {
+							++_iNumRequest;
+
+							_dblMaxDeviation = java.lang.Math.max (_dblMaxDeviation, MaxDeviation
+								(mapFullMeasure, bond.value (valParams, null, _csqs, null, setstrRequest),
+									setstrRequest));
+						}
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("NumRequest", "" + _iNumRequest);
+
+					rnvd.set ("MaxDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDeviation, 1, 16, 1.));
+
+					return MEASURE_TOLERANCE >= _dblMaxDeviation;
+				}
+			});
+
+			/*
+			 * CDS Subset Measures vs. the Full CDS Measure Map - implements the pre-regression, the
+			 * 	post-regression, and the actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("CDSSubset",
+				_strRegressionScenario)
+			{
+				private int _iNumRequest = 0;
+				private double _dblMaxDeviation = java.lang.Double.NaN;
+				private org.drip.param.market.CurveSurfaceQuoteSet _csqs = null;
+				private org.drip.product.definition.CreditDefaultSwap[] _aCDS = null;
+
+				@Override public boolean preRegression()
+				{
+					return null != (_aCDS = CDS()) && null != (_csqs = Market (Bonds(), _aCDS));
+				}
+
+				@Override public boolean execRegression()
+				{
+					org.drip.param.valuation.ValuationParams valParams = ValuationParams();
+
+					org.drip.param.pricer.PricerParams pricerParams = PricerParams();
+
+					_iNumRequest = 0;
+					_dblMaxDeviation = 0.;
+
+					for (org.drip.product.definition.CreditDefaultSwap cds : _aCDS) {
+						java.util.Map<java.lang.String, java.lang.Double> mapFullMeasure = cds.value
+							(valParams, pricerParams, _csqs, null);
+
+						if (null == mapFullMeasure) return false;
+
+						for (java.util.Set<java.lang.String> setstrRequest : Requests (mapFullMeasure)) {
+							++_iNumRequest;
+
+							_dblMaxDeviation = java.lang.Math.max (_dblMaxDeviation, MaxDeviation
+								(mapFullMeasure, cds.value (valParams, pricerParams, _csqs, null,
+									setstrRequest), setstrRequest));
+						}
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("NumRequest", "" + _iNumRequest);
+
+					rnvd.set ("MaxDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDeviation, 1, 16, 1.));
+
+					return MEASURE_TOLERANCE >= _dblMaxDeviation;
+				}
+			});
+
+			/*
+			 * Basket Subset Measures vs. the Full Basket Measure Map - implements the pre-regression, the
+			 * 	post-regression, and the actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("BasketSubset",
+				_strRegressionScenario)
+			{
+				private int _iNumRequest = 0;
+				private double _dblMaxDeviation = java.lang.Double.NaN;
+				private org.drip.param.market.CurveSurfaceQuoteSet _csqs = null;
+				private org.drip.product.definition.BasketProduct[] _aBasket = null;
+
+				@Override public boolean preRegression()
+				{
+					org.drip.product.credit.BondComponent[] aBond = Bonds();
+
+					org.drip.product.definition.CreditDefaultSwap[] aCDS = CDS();
+
+					if (null == aBond || BASKET_SIZE > aBond.length || null == aCDS || null == (_csqs = Market
+						(aBond, aCDS)))
+						return false;
+
+					double[] adblWeight = new double[BASKET_SIZE];
+					double[] adblCDSWeight = new double[aCDS.length];
+
+					for (int i = 0; i < BASKET_SIZE; ++i)
+						adblWeight[i] = 1. / (i + 1);
+
+					for (int i = 0; i < aCDS.length; ++i)
+						adblCDSWeight[i] = 1.;
+
+					try {
+						_aBasket = new org.drip.product.definition.BasketProduct[] {new
+							org.drip.product.credit.BondBasket ("BONDBASKET", java.util.Arrays.copyOf (aBond,
+								BASKET_SIZE), adblWeight), new org.drip.product.credit.CDSBasket (aCDS,
+									adblCDSWeight, "CDSBASKET")};
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					org.drip.param.valuation.ValuationParams valParams = ValuationParams();
+
+					org.drip.param.pricer.PricerParams pricerParams = PricerParams();
+
+					_iNumRequest = 0;
+					_dblMaxDeviation = 0.;
+
+					for (org.drip.product.definition.BasketProduct basket : _aBasket) {
+						java.util.Map<java.lang.String, java.lang.Double> mapFullMeasure = basket.value
+							(valParams, pricerParams, _csqs, null);
+
+						if (null == mapFullMeasure) return false;
+
+						for (java.util.Set<java.lang.String> setstrRequest : Requests (mapFullMeasure)) {
+							++_iNumRequest;
+
+							_dblMaxDeviation = java.lang.Math.max (_dblMaxDeviation, MaxDeviation
+								(mapFullMeasure, basket.value (valParams, pricerParams, _csqs, null,
+									setstrRequest), setstrRequest));
+						}
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("NumRequest", "" + _iNumRequest);
+
+					rnvd.set ("MaxDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDeviation, 1, 16, 1.));
+
+					return MEASURE_TOLERANCE >= _dblMaxDeviation;
+				}
+			});
+
+			/*
+			 * Basket Measure Vector Aggregation vs. the Component Measure Map Aggregation - implements the
+			 * 	pre-regression, the post-regression, and the actual regression functionality of the
+			 * 	UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("BasketAggregation",
+				_strRegressionScenario)
+			{
+				private int _iNumSchemaMiss = 0;
+				private int _iNumMeasure = 0;
+				private double _dblMaxDeviation = java.lang.Double.NaN;
+				private org.drip.param.market.CurveSurfaceQuoteSet _csqs = null;
+				private org.drip.product.credit.BondComponent[] _aBond = null;
+				private org.drip.product.definition.BasketProduct[] _aBasket = null;
+
+				@Override public boolean preRegression()
+				{
+					org.drip.product.definition.CreditDefaultSwap[] aCDS = CDS();
+
+					if (null == (_aBond = Bonds()) || null == aCDS || null == (_csqs = Market (_aBond,
+						aCDS)))
+						return false;
+
+					double[] adblBondWeight = new double[_aBond.length];
+					double[] adblCDSWeight = new double[aCDS.length];
+
+					for (int i = 0; i < _aBond.length; ++i)
+						adblBondWeight[i] = 1. / (i + 1);
+
+					for (int i = 0; i < aCDS.length; ++i)
+						adblCDSWeight[i] = 1.;
+
+					try {
+						_aBasket = new org.drip.product.definition.BasketProduct[] {new
+							org.drip.product.credit.BondBasket ("BONDBASKET", _aBond, adblBondWeight), new
+								org.drip.product.credit.CDSBasket (aCDS, adblCDSWeight, "CDSBASKET")};
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					org.drip.param.valuation.ValuationParams valParams = ValuationParams();
+
+					org.drip.param.pricer.PricerParams pricerParams = PricerParams();
+
+					_iNumMeasure = 0;
+					_iNumSchemaMiss = 0;
+					_dblMaxDeviation = 0.;
+
+					for (org.drip.product.credit.BondComponent bond : _aBond) {
+						org.drip.analytics.output.MeasureVector mvFirst = bond.valueVector (valParams, null,
+							_csqs, null, null);
+
+						org.drip.analytics.output.MeasureVector mvSecond = bond.valueVector (valParams, null,
+							_csqs, null, null);
+
+						if (null == mvFirst || null == mvSecond) return false;
+
+						if (mvFirst.schema() != mvSecond.schema()) ++_iNumSchemaMiss;
+					}
+
+					for (org.drip.product.definition.BasketProduct basket : _aBasket) {
+						java.util.Map<java.lang.String, java.lang.Double> mapVectorAggregate = basket.value
+							(valParams, pricerParams, _csqs, null);
+
+						java.util.Map<java.lang.String, java.lang.Double> mapMapAggregate = MapAggregate
+							(basket, valParams, pricerParams, _csqs);
+
+						if (null == mapVectorAggregate) return false;
+
+						mapVectorAggregate.remove ("CalcTime");
+
+						if (!mapVectorAggregate.keySet().equals (mapMapAggregate.keySet())) {
+							_dblMaxDeviation = java.lang.Double.POSITIVE_INFINITY;
+							continue;
+						}
+
+						_iNumMeasure += mapVectorAggregate.size();
+
+						for (java.util.Map.Entry<java.lang.String, java.lang.Double> me :
+							mapVectorAggregate.entrySet()) {
+							java.lang.String strMeasure = me.getKey();
+
+							if (strMeasure.toLowerCase().contains ("calctime")) continue;
+
+							double dblVectorValue = me.getValue();
+
+							double dblMapValue = mapMapAggregate.get (strMeasure);
+
+							if (java.lang.Double.doubleToLongBits (dblVectorValue) !=
+								java.lang.Double.doubleToLongBits (dblMapValue))
+								_dblMaxDeviation = java.lang.Math.max (_dblMaxDeviation,
+									java.lang.Double.isNaN (dblVectorValue) || java.lang.Double.isNaN
+										(dblMapValue) ? java.lang.Double.POSITIVE_INFINITY :
+											java.lang.Math.abs (dblVectorValue - dblMapValue));
+						}
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("NumMeasure", "" + _iNumMeasure);
+
+					rnvd.set ("NumSchemaMiss", "" + _iNumSchemaMiss);
+
+					rnvd.set ("MaxDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDeviation, 1, 16, 1.));
+
+					return 0 == _iNumSchemaMiss && MEASURE_TOLERANCE >= _dblMaxDeviation;
+				}
+			});
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public java.util.List<org.drip.regression.core.UnitRegressor> getRegressorSet()
+	{
+		return _setRegressors;
+	}
+
+	@Override public java.lang.String getSetName()
+	{
+		return _strRegressionScenario;
+	}
+}
@@ -0,0 +1,78 @@
+
+package org.drip.regression.product;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * ProductRegressionEngine implements the RegressionEngine for the Product Valuation regression. It adds the
+ * 	BondKernelRegressorSet and the MeasureSubsetRegressorSet, and launches the regression engine.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class ProductRegressionEngine extends org.drip.regression.core.RegressionEngine {
+
+	/**
+	 * Initialize the Product Regression Engine
+	 * 
+	 * @param iNumRuns Number of runs to be initialized with
+	 * @param iRegressionDetail Detail of the regression run
+	 * 
+	 * @throws java.lang.Exception Thrown from the super
+	 */
+
+	public ProductRegressionEngine (
+		final int iNumRuns,
+		final int iRegressionDetail)
+		throws java.lang.Exception
+	{
+		super (iNumRuns, iRegressionDetail);
+	}
+
+	@Override public boolean initRegressionEnv()
+	{
+		org.drip.service.api.CreditAnalytics.Init ("");
+
+		return super.initRegressionEnv();
+	}
+
+	public static void main (
+		final java.lang.String[] astrArgs)
+		throws java.lang.Exception
+	{
+		ProductRegressionEngine pre = new ProductRegressionEngine (2,
+			org.drip.regression.core.RegressionEngine.REGRESSION_DETAIL_MODULE_UNIT_DECOMPOSED);
+
+		pre.addRegressorSet (new org.drip.regression.product.BondKernelRegressorSet());
+
+		pre.addRegressorSet (new org.drip.regression.product.MeasureSubsetRegressorSet());
+
+		pre.launch();
+	}
+}
@@ -0,0 +1,568 @@
+
+package org.drip.regression.sequence;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * RandomSequenceRegressorSet implements the regression set for the Random and the Quasi-Random Sequence
+ * 	Generators. It regresses the following scenarios:
+ * 	- #1: The Moments of the Ziggurat Gaussian Draws.
+ * 	- #2: The Sample Covariance of the Principal Factor Draws generated off of the Generator Buffer and off
+ * 		of random().
+ * 	- #3: The Sample Covariance of the Multivariate Draws generated concurrently off of a shared Generator.
+ * 	- #4: The Reproducibility (Sequential vs. Seek) and the Moments of the Sobol Sequence.
+ * 	- #5: The Reproducibility (Sequential vs. Seek) and the Moments of the Sobol Brownian Bridge
+ * 		Increments.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class RandomSequenceRegressorSet implements org.drip.regression.core.RegressorSet {
+	private static final double MOMENT_TOLERANCE = 1.e-02;
+	private static final double COVARIANCE_TOLERANCE = 1.5e-02;
+	private static final double SOBOL_MOMENT_TOLERANCE = 1.e-03;
+
+	private static final double[][] CORRELATION = new double[][] {{1.0, 0.3, 0.5}, {0.3, 1.0, 0.2}, {0.5,
+		0.2, 1.0}};
+
+	private java.lang.String _strRegressionScenario = "org.drip.sequence.random";
+
+	private java.util.List<org.drip.regression.core.UnitRegressor> _setRegressors = new
+		java.util.ArrayList<org.drip.regression.core.UnitRegressor>();
+
+	/**
+	 * Compute the Mean, the Variance, the Skewness, and the Excess Kurtosis of the Sample
+	 * 
+	 * @param adblSample The Sample
+	 * 
+	 * @return The Array of the Mean, the Variance, the Skewness, and the Excess Kurtosis
+	 */
+
+	public static final double[] Moments (
+		final double[] adblSample)
+	{
+		double dblMean = 0.;
+		double dblVariance = 0.;
+		double dblThirdMoment = 0.;
+		double dblFourthMoment = 0.;
+		int iNumSample = adblSample.length;
+
+		for (double dblSample : adblSample)
+			dblMean += dblSample;
+
+		dblMean /= iNumSample;
+
+		for (double dblSample : adblSample) {
+			double dblDeviation = dblSample - dblMean;
+			double dblDeviationSquared = dblDeviation * dblDeviation;
+			dblVariance += dblDeviationSquared;
+			dblThirdMoment += dblDeviationSquared * dblDeviation;
+			dblFourthMoment += dblDeviationSquared * dblDeviationSquared;
+		}
+
+		dblVariance /= iNumSample;
+		dblThirdMoment /= iNumSample;
+		dblFourthMoment /= iNumSample;
+		return new double[] {dblMean, dblVariance, dblThirdMoment / java.lang.Math.pow (dblVariance, 1.5),
+			dblFourthMoment / (dblVariance * dblVariance) - 3.};
+	}
+
+	/**
+	 * Compute the Maximum Deviation of the Sample Covariance of the Draws from the Target Covariance
+	 * 
+	 * @param aadblDraw The Draws ([Draw][Variate])
+	 * @param aadblTargetCovariance The Target Covariance Matrix
+	 * 
+	 * @return The Maximum Deviation of the Sample Covariance
+	 */
+
+	public static final double MaxCovarianceDeviation (
+		final double[][] aadblDraw,
+		final double[][] aadblTargetCovariance)
+	{
+		int iNumDraw = aadblDraw.length;
+		int iNumVariate = aadblTargetCovariance.length;
+		double dblMaxDeviation = 0.;
+		double[] adblMean = new double[iNumVariate];
+		double[][] aadblCovariance = new double[iNumVariate][iNumVariate];
+
+		for (double[] adblDraw : aadblDraw) {
+			for (int i = 0; i < iNumVariate; ++i)
+				adblMean[i] += adblDraw[i] / iNumDraw;
+		}
+
+		for (double[] adblDraw : aadblDraw) {
+			for (int i = 0; i < iNumVariate; ++i) {
+				for (int j = 0; j < iNumVariate; ++j)
+					aadblCovariance[i][j] += (adblDraw[i] - adblMean[i]) * (adblDraw[j] - adblMean[j]) /
+						iNumDraw;
+			}
+		}
+
+		for (int i = 0; i < iNumVariate; ++i) {
+			for (int j = 0; j < iNumVariate; ++j)
+				dblMaxDeviation = java.lang.Math.max (dblMaxDeviation, java.lang.Math.abs
+					(aadblCovariance[i][j] - aadblTargetCovariance[i][j]));
+		}
+
+		return dblMaxDeviation;
+	}
+
+	@Override public boolean setupRegressors()
+	{
+		try {
+			/*
+			 * Ziggurat Gaussian Moments - implements the pre-regression, the post-regression, and the actual
+			 * 	regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("ZigguratGaussianMoments", _strRegressionScenario)
+			{
+				private double[] _adblMoment = null;
+				private double[] _adblDraw = new double[1 << 20];
+				private org.drip.sequence.random.ZigguratGaussian _zg = null;
+
+				@Override public boolean preRegression()
+				{
+					try {
+						_zg = new org.drip.sequence.random.ZigguratGaussian (0., 1., 20150512L);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					return _zg.fill (_adblDraw) && null != (_adblMoment = Moments (_adblDraw));
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("Mean", org.drip.quant.common.FormatUtil.FormatDouble (_adblMoment[0], 1, 6,
+						1.));
+
+					rnvd.set ("Variance", org.drip.quant.common.FormatUtil.FormatDouble (_adblMoment[1], 1,
+						6, 1.));
+
+					rnvd.set ("Skewness", org.drip.quant.common.FormatUtil.FormatDouble (_adblMoment[2], 1,
+						6, 1.));
+
+					rnvd.set ("ExcessKurtosis", org.drip.quant.common.FormatUtil.FormatDouble
+						(_adblMoment[3], 1, 6, 1.));
+
+					return MOMENT_TOLERANCE > java.lang.Math.abs (_adblMoment[0]) && MOMENT_TOLERANCE >
+						java.lang.Math.abs (_adblMoment[1] - 1.) && MOMENT_TOLERANCE > java.lang.Math.abs
+							(_adblMoment[2]) && 2. * MOMENT_TOLERANCE > java.lang.Math.abs (_adblMoment[3]);
+				}
+			});
+
+			/*
+			 * Principal Factor Covariance off of the Generator Buffer and off of random() - implements the
+			 * 	pre-regression, the post-regression, and the actual regression functionality of the
+			 * 	UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("PrincipalFactorCovariance", _strRegressionScenario)
+			{
+				private static final int NUM_FACTOR = 2;
+
+				private double _dblFillDeviation = java.lang.Double.NaN;
+				private double _dblRandomDeviation = java.lang.Double.NaN;
+				private double[][] _aadblFactorCovariance = null;
+				private double[][] _aadblFillDraw = new double[1 << 17][NUM_FACTOR];
+				private double[][] _aadblRandomDraw = new double[1 << 17][];
+				private org.drip.sequence.random.PrincipalFactorSequenceGenerator _pfsg = null;
+
+				@Override public boolean preRegression()
+				{
+					try {
+						org.drip.sequence.random.SplittableStream ss = new
+							org.drip.sequence.random.SplittableStream (20150512L);
+
+						_pfsg = new org.drip.sequence.random.PrincipalFactorSequenceGenerator (new
+							org.drip.sequence.random.UnivariateSequenceGenerator[] {new
+								org.drip.sequence.random.ZigguratGaussian (0., 1., ss.substream (1L)), new
+									org.drip.sequence.random.ZigguratGaussian (0., 1., ss.substream (2L)),
+										new org.drip.sequence.random.ZigguratGaussian (0., 1., ss.substream
+											(3L))}, new double[][] {{1.0, 0.1, 0.2}, {0.1, 1.0, 0.2}, {0.2,
+												0.1, 1.0}}, NUM_FACTOR);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					/*
+					 * Factor Covariance = F * L * L^T * F^T, F being the Principal Factors, and L the
+					 * 	Cholesky Factorial
+					 */
+
+					double[][] aadblFactor = _pfsg.factors();
+
+					double[][] aadblCholesky = _pfsg.cholesky();
+
+					int iNumVariate = aadblCholesky.length;
+					_aadblFactorCovariance = new double[NUM_FACTOR][NUM_FACTOR];
+					double[][] aadblFactorCholesky = new double[NUM_FACTOR][iNumVariate];
+
+					for (int i = 0; i < NUM_FACTOR; ++i) {
+						for (int k = 0; k < iNumVariate; ++k) {
+							for (int j = 0; j < iNumVariate; ++j)
+								aadblFactorCholesky[i][k] += aadblFactor[i][j] * aadblCholesky[j][k];
+						}
+					}
+
+					for (int i = 0; i < NUM_FACTOR; ++i) {
+						for (int j = 0; j < NUM_FACTOR; ++j) {
+							for (int k = 0; k < iNumVariate; ++k)
+								_aadblFactorCovariance[i][j] += aadblFactorCholesky[i][k] *
+									aadblFactorCholesky[j][k];
+						}
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					for (int i = 0; i < _aadblFillDraw.length; ++i) {
+						if (!_pfsg.fill (_aadblFillDraw[i]) || null == (_aadblRandomDraw[i] =
+							_pfsg.random()))
+							return false;
+					}
+
+					_dblFillDeviation = MaxCovarianceDeviation (_aadblFillDraw, _aadblFactorCovariance);
+
+					_dblRandomDeviation = MaxCovarianceDeviation (_aadblRandomDraw, _aadblFactorCovariance);
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("FillCovarianceDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblFillDeviation, 1, 6, 1.));
+
+					rnvd.set ("RandomCovarianceDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblRandomDeviation, 1, 6, 1.));
+
+					return COVARIANCE_TOLERANCE > _dblFillDeviation && COVARIANCE_TOLERANCE >
+						_dblRandomDeviation;
+				}
+			});
+
+			/*
+			 * Multivariate Covariance of the Draws generated concurrently off of a shared Generator -
+			 * 	implements the pre-regression, the post-regression, and the actual regression functionality
+			 * 	of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("ConcurrentMultivariateCovariance", _strRegressionScenario)
+			{
+				private static final int NUM_THREAD = 4;
+				private static final int NUM_DRAW_PER_THREAD = 1 << 15;
+
+				private double _dblDeviation = java.lang.Double.NaN;
+				private org.drip.sequence.random.MultivariateSequenceGenerator _msg = null;
+				private double[][] _aadblDraw = new double[NUM_THREAD * NUM_DRAW_PER_THREAD][];
+
+				@Override public boolean preRegression()
+				{
+					try {
+						_msg = new org.drip.sequence.random.MultivariateSequenceGenerator (new
+							org.drip.sequence.random.UnivariateSequenceGenerator[] {new
+								org.drip.sequence.random.BoxMullerGaussian (0., 1.), new
+									org.drip.sequence.random.BoxMullerGaussian (0., 1.), new
+										org.drip.sequence.random.BoxMullerGaussian (0., 1.)}, CORRELATION);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					java.lang.Thread[] aThread = new java.lang.Thread[NUM_THREAD];
+
+					for (int iThread = 0; iThread < NUM_THREAD; ++iThread) {
+						final int iDrawStart = iThread * NUM_DRAW_PER_THREAD;
+
+						(aThread[iThread] = new java.lang.Thread() {
+							@Override public void run()
+							{
+								for (int i = iDrawStart; i < iDrawStart + NUM_DRAW_PER_THREAD; ++i)
+									_aadblDraw[i] = _msg.random();
+							}
+						}).start();
+					}
+
+					try {
+						for (java.lang.Thread thr : aThread)
+							thr.join();
+					} catch (java.lang.InterruptedException e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					for (double[] adblDraw : _aadblDraw) {
+						if (null == adblDraw) return false;
+					}
+
+					_dblDeviation = MaxCovarianceDeviation (_aadblDraw, CORRELATION);
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("CovarianceDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblDeviation, 1, 6, 1.));
+
+					return COVARIANCE_TOLERANCE > _dblDeviation;
+				}
+			});
+
+			/*
+			 * Sobol Sequence Reproducibility and Moments - implements the pre-regression, the
+			 * 	post-regression, and the actual regression functionality of the UnitRegressorExecutor
+			 * 	class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("SobolReproducibility",
+				_strRegressionScenario)
+			{
+				private static final int NUM_POINT = 1 << 14;
+				private static final int NUM_DIMENSION = 8;
+				private static final long SEEK_INDEX = 1000L;
+
+				private boolean _bReproduced = false;
+				private double _dblMaxMeanDeviation = java.lang.Double.NaN;
+				private double _dblMaxVarianceDeviation = java.lang.Double.NaN;
+				private org.drip.sequence.random.SobolSequence _ssSeek = null;
+				private org.drip.sequence.random.SobolSequence _ssSequential = null;
+				private double[][] _aadblPoint = new double[NUM_DIMENSION][NUM_POINT];
+
+				@Override public boolean preRegression()
+				{
+					try {
+						_ssSeek = new org.drip.sequence.random.SobolSequence (NUM_DIMENSION);
+
+						_ssSequential = new org.drip.sequence.random.SobolSequence (NUM_DIMENSION);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					_bReproduced = true;
+					_dblMaxMeanDeviation = 0.;
+					_dblMaxVarianceDeviation = 0.;
+					double[] adblPoint = new double[NUM_DIMENSION];
+
+					if (!_ssSequential.seek (1L) || !_ssSeek.seek (SEEK_INDEX)) return false;
+
+					for (int i = 0; i < NUM_POINT; ++i) {
+						if (!_ssSequential.fill (adblPoint)) return false;
+
+						for (int d = 0; d < NUM_DIMENSION; ++d)
+							_aadblPoint[d][i] = adblPoint[d];
+
+						if (SEEK_INDEX <= i + 1L) {
+							double[] adblSeekPoint = _ssSeek.next();
+
+							if (null == adblSeekPoint) return false;
+
+							for (int d = 0; d < NUM_DIMENSION; ++d)
+								_bReproduced = _bReproduced && adblSeekPoint[d] == adblPoint[d];
+						}
+					}
+
+					for (int d = 0; d < NUM_DIMENSION; ++d) {
+						double[] adblMoment = Moments (_aadblPoint[d]);
+
+						_dblMaxMeanDeviation = java.lang.Math.max (_dblMaxMeanDeviation, java.lang.Math.abs
+							(adblMoment[0] - 0.5));
+
+						_dblMaxVarianceDeviation = java.lang.Math.max (_dblMaxVarianceDeviation,
+							java.lang.Math.abs (adblMoment[1] - 1. / 12.));
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("Reproduced", "" + _bReproduced);
+
+					rnvd.set ("MaxMeanDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxMeanDeviation, 1, 8, 1.));
+
+					rnvd.set ("MaxVarianceDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxVarianceDeviation, 1, 8, 1.));
+
+					return _bReproduced && SOBOL_MOMENT_TOLERANCE > _dblMaxMeanDeviation &&
+						SOBOL_MOMENT_TOLERANCE > _dblMaxVarianceDeviation;
+				}
+			});
+
+			/*
+			 * Sobol Brownian Bridge Reproducibility and Moments - implements the pre-regression, the
+			 * 	post-regression, and the actual regression functionality of the UnitRegressorExecutor
+			 * 	class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("SobolBrownianBridgeReproducibility", _strRegressionScenario)
+			{
+				private static final int NUM_PATH = 1 << 12;
+				private static final int NUM_FACTOR = 2;
+				private static final long SEEK_PATH = 513L;
+
+				private boolean _bReproduced = false;
+				private double _dblMaxMeanDeviation = java.lang.Double.NaN;
+				private double _dblMaxVarianceDeviation = java.lang.Double.NaN;
+				private org.drip.sequence.random.SobolBrownianBridge _sbbSeek = null;
+				private org.drip.sequence.random.SobolBrownianBridge _sbbSequential = null;
+
+				private double[] _adblTime = new double[] {0.25, 0.5, 1., 2., 3., 5., 7., 10.};
+
+				@Override public boolean preRegression()
+				{
+					try {
+						_sbbSeek = new org.drip.sequence.random.SobolBrownianBridge (NUM_FACTOR, _adblTime);
+
+						_sbbSequential = new org.drip.sequence.random.SobolBrownianBridge (NUM_FACTOR,
+							_adblTime);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					int iNumStep = _adblTime.length;
+					_bReproduced = true;
+					_dblMaxMeanDeviation = 0.;
+					_dblMaxVarianceDeviation = 0.;
+					double[][] aadblIncrement = new double[NUM_FACTOR][iNumStep];
+					double[][] aadblSeekIncrement = new double[NUM_FACTOR][iNumStep];
+					double[][][] aaadblSample = new double[NUM_FACTOR][iNumStep][NUM_PATH];
+
+					if (!_sbbSequential.seek (1L) || !_sbbSeek.seek (SEEK_PATH)) return false;
+
+					for (int iPath = 0; iPath < NUM_PATH; ++iPath) {
+						if (!_sbbSequential.fill (aadblIncrement, true)) return false;
+
+						for (int f = 0; f < NUM_FACTOR; ++f) {
+							for (int i = 0; i < iNumStep; ++i)
+								aaadblSample[f][i][iPath] = aadblIncrement[f][i];
+						}
+
+						if (SEEK_PATH <= iPath + 1L) {
+							if (!_sbbSeek.fill (aadblSeekIncrement, true)) return false;
+
+							for (int f = 0; f < NUM_FACTOR; ++f)
+								_bReproduced = _bReproduced && java.util.Arrays.equals (aadblSeekIncrement[f],
+									aadblIncrement[f]);
+						}
+					}
+
+					for (int f = 0; f < NUM_FACTOR; ++f) {
+						for (int i = 0; i < iNumStep; ++i) {
+							double[] adblMoment = Moments (aaadblSample[f][i]);
+
+							_dblMaxMeanDeviation = java.lang.Math.max (_dblMaxMeanDeviation,
+								java.lang.Math.abs (adblMoment[0]));
+
+							_dblMaxVarianceDeviation = java.lang.Math.max (_dblMaxVarianceDeviation,
+								java.lang.Math.abs (adblMoment[1] - 1.));
+						}
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("Reproduced", "" + _bReproduced);
+
+					rnvd.set ("MaxMeanDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxMeanDeviation, 1, 8, 1.));
+
+					rnvd.set ("MaxVarianceDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxVarianceDeviation, 1, 8, 1.));
+
+					return _bReproduced && MOMENT_TOLERANCE > _dblMaxMeanDeviation && MOMENT_TOLERANCE >
+						_dblMaxVarianceDeviation;
+				}
+			});
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public java.util.List<org.drip.regression.core.UnitRegressor> getRegressorSet()
+	{
+		return _setRegressors;
+	}
+
+	@Override public java.lang.String getSetName()
+	{
+		return _strRegressionScenario;
+	}
+}
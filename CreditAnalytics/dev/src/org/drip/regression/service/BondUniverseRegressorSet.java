@@ -0,0 +1,419 @@
+
+package org.drip.regression.service;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BondUniverseRegressorSet implements the regression set for the Fork-Join Bond Universe Valuator. It
+ * 	regresses the following scenarios:
+ * 	- #1: The Bid/Ask RV Measures streamed off of the Fork-Join Valuation, across Pool Parallelisms and Leaf
+ * 		Partition Sizes, cover every Bond, and match those off of a Sequential BondManager.CalcBondMeasures
+ * 		Walk over the Universe.
+ * 	- #2: The Run Names carry the Ticker, the Current Coupon (read as of the Valuation Date), and the
+ * 		Maturity Year of each Bond.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BondUniverseRegressorSet implements org.drip.regression.core.RegressorSet {
+	private static final int[] PARALLELISM = new int[] {1, 4, 4};
+	private static final int[] PARTITION_SIZE = new int[] {1000, 1, 5};
+
+	private java.lang.String _strRegressionScenario = "org.drip.service.env.BondUniverseValuator";
+
+	private java.util.List<org.drip.regression.core.UnitRegressor> _setRegressors = new
+		java.util.ArrayList<org.drip.regression.core.UnitRegressor>();
+
+	/**
+	 * Construct the Scenario Market Parameters whose Base Funding/Treasury Curve is the Bond Kernel
+	 * 	Regression Market Curve
+	 * 
+	 * @return The Scenario Market Parameters
+	 */
+
+	public static final org.drip.param.definition.ScenarioMarketParams Market()
+	{
+		org.drip.param.market.CurveSurfaceQuoteSet csqs =
+			org.drip.regression.product.BondKernelRegressorSet.Market();
+
+		if (null == csqs) return null;
+
+		final org.drip.analytics.rates.DiscountCurve dc = csqs.fundingCurve
+			(org.drip.state.identifier.FundingLabel.Standard ("USD"));
+
+		org.drip.param.definition.ScenarioMarketParams mpc =
+			org.drip.param.creator.MarketParamsBuilder.CreateMarketParams();
+
+		return mpc.addScenarioDiscountCurve ("USD", new org.drip.param.definition.ScenarioDiscountCurve() {
+			@Override public boolean cookScenarioDC (
+				final org.drip.param.valuation.ValuationParams valParams,
+				final org.drip.analytics.rates.DiscountCurve dcTSY,
+				final java.lang.String[] astrCalibMeasure,
+				final double[] adblQuote,
+				final double dblBump,
+				final org.drip.param.market.LatentStateFixingsContainer lsfc,
+				final org.drip.param.valuation.ValuationCustomizationParams vcp,
+				final int iDCMode)
+			{
+				return false;
+			}
+
+			@Override public boolean cookCustomDC (
+				final java.lang.String strCurveName,
+				final java.lang.String strCustomName,
+				final org.drip.param.valuation.ValuationParams valParams,
+				final org.drip.analytics.rates.DiscountCurve dcTSY,
+				final java.lang.String[] astrCalibMeasure,
+				final double[] adblQuote,
+				final org.drip.param.market.LatentStateFixingsContainer lsfc,
+				final org.drip.param.valuation.ValuationCustomizationParams vcp,
+				final org.drip.param.definition.ResponseValueTweakParams rvtpTSY,
+				final org.drip.param.definition.ResponseValueTweakParams rvtpDC)
+			{
+				return false;
+			}
+
+			@Override public org.drip.analytics.rates.DiscountCurve base()
+			{
+				return dc;
+			}
+
+			@Override public org.drip.analytics.rates.DiscountCurve bumpUp()
+			{
+				return null;
+			}
+
+			@Override public org.drip.analytics.rates.DiscountCurve bumpDown()
+			{
+				return null;
+			}
+
+			@Override public
+				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>
+					tenorBumpUp()
+			{
+				return null;
+			}
+
+			@Override public
+				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>
+					tenorBumpDown()
+			{
+				return null;
+			}
+		}) ? mpc : null;
+	}
+
+	/**
+	 * Flatten the Bid/Ask RV Measures of a Bond into a single Measure Map, keyed off of the Side and the
+	 * 	Measure Name
+	 * 
+	 * @param strRunName The Bond Run Name
+	 * @param mapBMRV Map of the Bid/Ask RV Measures
+	 * 
+	 * @return The Flattened Measure Map
+	 */
+
+	public static final java.util.Map<java.lang.String, java.lang.Double> FlattenMeasures (
+		final java.lang.String strRunName,
+		final org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.output.BondRVMeasures>
+			mapBMRV)
+	{
+		java.util.Map<java.lang.String, java.lang.Double> mapMeasure = new
+			java.util.TreeMap<java.lang.String, java.lang.Double>();
+
+		if (null == mapBMRV) return mapMeasure;
+
+		for (java.util.Map.Entry<java.lang.String, org.drip.analytics.output.BondRVMeasures> meBMRV :
+			mapBMRV.entrySet()) {
+			org.drip.analytics.output.BondRVMeasures bmrv = meBMRV.getValue();
+
+			mapMeasure.put (strRunName + "/" + meBMRV.getKey() + "/WorkoutDate", bmrv.wi().date());
+
+			mapMeasure.put (strRunName + "/" + meBMRV.getKey() + "/WorkoutYield", bmrv.wi().yield());
+
+			mapMeasure.putAll (bmrv.toMap (strRunName + "/" + meBMRV.getKey() + "/"));
+		}
+
+		return mapMeasure;
+	}
+
+	/*
+	 * Bond Measures Sink that collects the Flattened Measures of each Bond, keyed off of the Bond Identifier
+	 */
+
+	private static class CollectingSink implements org.drip.service.env.BondMeasuresSink {
+		private java.util.Map<java.lang.String, java.util.Map<java.lang.String, java.lang.Double>>
+			_mapFlattenedMeasure = new java.util.concurrent.ConcurrentHashMap<java.lang.String,
+				java.util.Map<java.lang.String, java.lang.Double>>();
+
+		@Override public boolean accept (
+			final java.lang.String strBondID,
+			final java.lang.String strRunName,
+			final org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.output.BondRVMeasures>
+				mapBMRV)
+		{
+			return null == _mapFlattenedMeasure.put (strBondID, FlattenMeasures (strRunName, mapBMRV));
+		}
+
+		@Override public boolean flush()
+		{
+			return true;
+		}
+	}
+
+	/**
+	 * Compute the Maximum Absolute Deviation between two Flattened Measure Maps
+	 * 
+	 * @param mapMeasure1 The First Flattened Measure Map
+	 * @param mapMeasure2 The Second Flattened Measure Map
+	 * 
+	 * @return The Maximum Absolute Deviation (Infinity if the Measure Names or the NaN Measures differ)
+	 */
+
+	public static final double MaxDeviation (
+		final java.util.Map<java.lang.String, java.lang.Double> mapMeasure1,
+		final java.util.Map<java.lang.String, java.lang.Double> mapMeasure2)
+	{
+		if (null == mapMeasure1 || null == mapMeasure2 || !mapMeasure1.keySet().equals
+			(mapMeasure2.keySet()))
+			return java.lang.Double.POSITIVE_INFINITY;
+
+		double dblMaxDeviation = 0.;
+
+		for (java.util.Map.Entry<java.lang.String, java.lang.Double> meMeasure1 : mapMeasure1.entrySet()) {
+			double dblMeasure1 = meMeasure1.getValue();
+
+			double dblMeasure2 = mapMeasure2.get (meMeasure1.getKey());
+
+			if (java.lang.Double.isNaN (dblMeasure1) || java.lang.Double.isNaN (dblMeasure2)) {
+				if (java.lang.Double.isNaN (dblMeasure1) != java.lang.Double.isNaN (dblMeasure2))
+					return java.lang.Double.POSITIVE_INFINITY;
+			} else
+				dblMaxDeviation = java.lang.Math.max (dblMaxDeviation, java.lang.Math.abs (dblMeasure1 -
+					dblMeasure2));
+		}
+
+		return dblMaxDeviation;
+	}
+
+	@Override public boolean setupRegressors()
+	{
+		try {
+			/*
+			 * Fork-Join Universe Valuation versus the Sequential Walk - implements the pre-regression, the
+			 * 	post-regression, and the actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("ForkJoinVersusSequential", _strRegressionScenario)
+			{
+				private int _iNumMismatch = -1;
+				private int _iNumMeasure = -1;
+				private double _dblMaxDeviation = java.lang.Double.NaN;
+				private double[] _adblBidPrice = null;
+				private double[] _adblAskPrice = null;
+				private java.lang.String[] _astrBondID = null;
+				private org.drip.product.definition.Bond[] _aBond = null;
+				private org.drip.param.definition.ScenarioMarketParams _mpc = null;
+				private java.util.Map<java.lang.String, java.util.Map<java.lang.String, java.lang.Double>>
+					_mapSequential = null;
+
+				@Override public boolean preRegression()
+				{
+					java.util.List<org.drip.product.credit.BondComponent> lsBond =
+						org.drip.regression.product.BondKernelRegressorSet.BondSet();
+
+					if (null == lsBond || null == (_mpc = Market())) return false;
+
+					int iNumBond = lsBond.size();
+
+					_astrBondID = new java.lang.String[iNumBond];
+					_adblBidPrice = new double[iNumBond];
+					_adblAskPrice = new double[iNumBond];
+					_aBond = new org.drip.product.definition.Bond[iNumBond];
+
+					for (int i = 0; i < iNumBond; ++i) {
+						_aBond[i] = lsBond.get (i);
+
+						_astrBondID[i] = _aBond[i].name();
+
+						_adblBidPrice[i] = 0.98 + 0.001 * i;
+						_adblAskPrice[i] = _adblBidPrice[i] + 0.005;
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					_iNumMeasure = 0;
+					_iNumMismatch = 0;
+					_dblMaxDeviation = 0.;
+
+					_mapSequential = new java.util.HashMap<java.lang.String, java.util.Map<java.lang.String,
+						java.lang.Double>>();
+
+					try {
+						org.drip.param.valuation.ValuationParams valParams = new
+							org.drip.service.env.BondUniverseValuator (_mpc,
+								org.drip.regression.product.BondKernelRegressorSet.SpotDate(), 1,
+									1).valuationParams();
+
+						for (int i = 0; i < _aBond.length; ++i) {
+							java.lang.String strRunName = org.drip.service.env.BondUniverseValuator.RunName
+								(_aBond[i], valParams);
+
+							_mapSequential.put (_astrBondID[i], FlattenMeasures (strRunName,
+								org.drip.service.env.BondManager.CalcBondMeasures (strRunName, _aBond[i],
+									valParams, _mpc, _adblBidPrice[i], _adblAskPrice[i])));
+
+							_iNumMeasure += _mapSequential.get (_astrBondID[i]).size();
+						}
+
+						for (int j = 0; j < PARALLELISM.length; ++j) {
+							CollectingSink cs = new CollectingSink();
+
+							int iNumProcessed = new org.drip.service.env.BondUniverseValuator (_mpc,
+								org.drip.regression.product.BondKernelRegressorSet.SpotDate(), PARALLELISM[j],
+									PARTITION_SIZE[j]).value (_astrBondID, _aBond, _adblBidPrice,
+										_adblAskPrice, cs);
+
+							if (iNumProcessed != _aBond.length || cs._mapFlattenedMeasure.size() !=
+								_aBond.length)
+								++_iNumMismatch;
+
+							for (java.util.Map.Entry<java.lang.String, java.util.Map<java.lang.String,
+								java.lang.Double>> meSequential : _mapSequential.entrySet())
+								_dblMaxDeviation = java.lang.Math.max (_dblMaxDeviation, MaxDeviation
+									(meSequential.getValue(), cs._mapFlattenedMeasure.get
+										(meSequential.getKey())));
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("NumBond", "" + _aBond.length);
+
+					rnvd.set ("NumMeasure", "" + _iNumMeasure);
+
+					rnvd.set ("NumCountMismatch", "" + _iNumMismatch);
+
+					rnvd.set ("MaxDeviation", org.drip.quant.common.FormatUtil.FormatDouble
+						(_dblMaxDeviation, 1, 16, 1.));
+
+					return 0 < _iNumMeasure && 0 == _iNumMismatch && 0. == _dblMaxDeviation;
+				}
+			});
+
+			/*
+			 * Bond Run Names - implements the pre-regression, the post-regression, and the actual regression
+			 * 	functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("RunName",
+				_strRegressionScenario)
+			{
+				private int _iNumMismatch = -1;
+				private java.lang.String _strRunName = "";
+
+				@Override public boolean execRegression()
+				{
+					_iNumMismatch = 0;
+
+					java.util.List<org.drip.product.credit.BondComponent> lsBond =
+						org.drip.regression.product.BondKernelRegressorSet.BondSet();
+
+					if (null == lsBond) return false;
+
+					try {
+						org.drip.param.valuation.ValuationParams valParams = new
+							org.drip.param.valuation.ValuationParams
+								(org.drip.regression.product.BondKernelRegressorSet.SpotDate(),
+									org.drip.regression.product.BondKernelRegressorSet.SpotDate(), "USD");
+
+						for (org.drip.product.credit.BondComponent bond : lsBond) {
+							_strRunName = org.drip.service.env.BondUniverseValuator.RunName (bond, valParams);
+
+							java.lang.String strTicker = bond.ticker();
+
+							while (strTicker.length() < 7)
+								strTicker += " ";
+
+							int iMaturityYear = org.drip.analytics.date.DateUtil.Year
+								(bond.maturityDate().julian());
+
+							if (!_strRunName.equals (strTicker + "  04.500 " + (iMaturityYear - 2000)))
+								++_iNumMismatch;
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("LastRunName", _strRunName);
+
+					rnvd.set ("NumMismatch", "" + _iNumMismatch);
+
+					return 0 == _iNumMismatch;
+				}
+			});
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public java.util.List<org.drip.regression.core.UnitRegressor> getRegressorSet()
+	{
+		return _setRegressors;
+	}
+
+	@Override public java.lang.String getSetName()
+	{
+		return _strRegressionScenario;
+	}
+}
@@ -0,0 +1,288 @@
+
+package org.drip.regression.service;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * RecordingConnection implements an in-memory java.sql.Connection (through java.lang.reflect.Proxy) that
+ * 	records the Prepared Statement Batches. Executed Batch Rows are held as uncommitted until a Commit, and
+ * 	discarded on a Rollback. An Execute Batch Failure may be injected at a chosen Execution Count, either
+ * 	as a java.sql.SQLException or as a java.lang.Error (which escapes the Writer's Exception Handling).
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class RecordingConnection implements java.lang.reflect.InvocationHandler {
+	private int _iNumCommit = 0;
+	private int _iNumRollback = 0;
+	private int _iNumExecuteBatch = 0;
+	private boolean _bAutoCommit = true;
+	private int _iFailingExecuteBatch = -1;
+	private boolean _bFailWithError = false;
+	private java.util.List<java.lang.Object[]> _lsCommitted = new java.util.ArrayList<java.lang.Object[]>();
+	private java.util.List<java.lang.Object[]> _lsUncommitted = new
+		java.util.ArrayList<java.lang.Object[]>();
+
+	private static final java.lang.Object DefaultReturn (
+		final java.lang.Class<?> clsReturn)
+	{
+		if (java.lang.Boolean.TYPE == clsReturn) return java.lang.Boolean.FALSE;
+
+		if (java.lang.Integer.TYPE == clsReturn) return 0;
+
+		if (java.lang.Long.TYPE == clsReturn) return 0L;
+
+		return null;
+	}
+
+	private class RecordingStatement implements java.lang.reflect.InvocationHandler {
+		private java.lang.String _strSQL = "";
+		private java.util.List<java.lang.Object[]> _lsBatch = new java.util.ArrayList<java.lang.Object[]>();
+		private java.util.Map<java.lang.Integer, java.lang.Object> _mapParam = new
+			java.util.TreeMap<java.lang.Integer, java.lang.Object>();
+
+		RecordingStatement (
+			final java.lang.String strSQL)
+		{
+			_strSQL = strSQL;
+		}
+
+		@Override public java.lang.Object invoke (
+			final java.lang.Object objProxy,
+			final java.lang.reflect.Method m,
+			final java.lang.Object[] aobjArg)
+			throws java.lang.Throwable
+		{
+			java.lang.String strMethod = m.getName();
+
+			if (strMethod.startsWith ("set") && null != aobjArg && 2 == aobjArg.length && aobjArg[0]
+				instanceof java.lang.Integer) {
+				_mapParam.put ((java.lang.Integer) aobjArg[0], "setNull".equals (strMethod) ? null :
+					aobjArg[1]);
+
+				return null;
+			}
+
+			if ("addBatch".equals (strMethod) && null == aobjArg) {
+				_lsBatch.add (new java.lang.Object[] {_strSQL, _mapParam.values().toArray()});
+
+				_mapParam.clear();
+
+				return null;
+			}
+
+			if ("clearBatch".equals (strMethod)) {
+				_lsBatch.clear();
+
+				return null;
+			}
+
+			if ("executeBatch".equals (strMethod)) return executeBatch (_lsBatch);
+
+			if ("hashCode".equals (strMethod)) return java.lang.System.identityHashCode (objProxy);
+
+			if ("equals".equals (strMethod)) return objProxy == aobjArg[0];
+
+			if ("toString".equals (strMethod)) return "RecordingStatement[" + _strSQL + "]";
+
+			return DefaultReturn (m.getReturnType());
+		}
+	}
+
+	private synchronized int[] executeBatch (
+		final java.util.List<java.lang.Object[]> lsBatch)
+		throws java.sql.SQLException
+	{
+		if (++_iNumExecuteBatch == _iFailingExecuteBatch) {
+			if (_bFailWithError)
+				throw new java.lang.Error ("RecordingConnection::executeBatch => Injected");
+
+			throw new java.sql.SQLException ("RecordingConnection::executeBatch => Injected");
+		}
+
+		int[] aiUpdateCount = new int[lsBatch.size()];
+
+		java.util.Arrays.fill (aiUpdateCount, 1);
+
+		_lsUncommitted.addAll (lsBatch);
+
+		lsBatch.clear();
+
+		return aiUpdateCount;
+	}
+
+	/**
+	 * RecordingConnection constructor
+	 *
+	 * @param iFailingExecuteBatch The (1-based) Execute Batch Count that fails (-1 => None fails)
+	 * @param bFailWithError TRUE => Fail with a java.lang.Error; FALSE => Fail with a java.sql.SQLException
+	 */
+
+	public RecordingConnection (
+		final int iFailingExecuteBatch,
+		final boolean bFailWithError)
+	{
+		_iFailingExecuteBatch = iFailingExecuteBatch;
+		_bFailWithError = bFailWithError;
+	}
+
+	/**
+	 * RecordingConnection constructor that does not inject any Failure
+	 */
+
+	public RecordingConnection()
+	{
+		this (-1, false);
+	}
+
+	/**
+	 * Create the java.sql.Connection Proxy backed by this Recorder
+	 *
+	 * @return The java.sql.Connection Proxy
+	 */
+
+	public java.sql.Connection connection()
+	{
+		return (java.sql.Connection) java.lang.reflect.Proxy.newProxyInstance
+			(java.sql.Connection.class.getClassLoader(), new java.lang.Class<?>[] {java.sql.Connection.class},
+				this);
+	}
+
+	@Override public synchronized java.lang.Object invoke (
+		final java.lang.Object objProxy,
+		final java.lang.reflect.Method m,
+		final java.lang.Object[] aobjArg)
+		throws java.lang.Throwable
+	{
+		java.lang.String strMethod = m.getName();
+
+		if ("prepareStatement".equals (strMethod) && 1 == aobjArg.length)
+			return java.lang.reflect.Proxy.newProxyInstance
+				(java.sql.PreparedStatement.class.getClassLoader(), new java.lang.Class<?>[]
+					{java.sql.PreparedStatement.class}, new RecordingStatement ((java.lang.String)
+						aobjArg[0]));
+
+		if ("getAutoCommit".equals (strMethod)) return _bAutoCommit;
+
+		if ("setAutoCommit".equals (strMethod)) {
+			_bAutoCommit = (java.lang.Boolean) aobjArg[0];
+			return null;
+		}
+
+		if ("commit".equals (strMethod)) {
+			++_iNumCommit;
+
+			_lsCommitted.addAll (_lsUncommitted);
+
+			_lsUncommitted.clear();
+
+			return null;
+		}
+
+		if ("rollback".equals (strMethod) && null == aobjArg) {
+			++_iNumRollback;
+
+			_lsUncommitted.clear();
+
+			return null;
+		}
+
+		if ("hashCode".equals (strMethod)) return java.lang.System.identityHashCode (objProxy);
+
+		if ("equals".equals (strMethod)) return objProxy == aobjArg[0];
+
+		if ("toString".equals (strMethod)) return "RecordingConnection";
+
+		return DefaultReturn (m.getReturnType());
+	}
+
+	/**
+	 * Retrieve the Auto Commit Mode
+	 *
+	 * @return The Auto Commit Mode
+	 */
+
+	public synchronized boolean autoCommit()
+	{
+		return _bAutoCommit;
+	}
+
+	/**
+	 * Retrieve the Number of Commits
+	 *
+	 * @return The Number of Commits
+	 */
+
+	public synchronized int numCommit()
+	{
+		return _iNumCommit;
+	}
+
+	/**
+	 * Retrieve the Number of Rollbacks
+	 *
+	 * @return The Number of Rollbacks
+	 */
+
+	public synchronized int numRollback()
+	{
+		return _iNumRollback;
+	}
+
+	/**
+	 * Retrieve the Committed Statements, in the Order of their Execution, as {SQL, Parameter Array} Pairs
+	 *
+	 * @return The Committed Statements
+	 */
+
+	public synchronized java.util.List<java.lang.Object[]> committed()
+	{
+		return new java.util.ArrayList<java.lang.Object[]> (_lsCommitted);
+	}
+
+	/**
+	 * Retrieve the Committed Statements of the specified SQL, in the Order of their Execution
+	 *
+	 * @param strSQL The SQL
+	 *
+	 * @return The Committed Parameter Arrays of the SQL
+	 */
+
+	public synchronized java.util.List<java.lang.Object[]> committed (
+		final java.lang.String strSQL)
+	{
+		java.util.List<java.lang.Object[]> lsParam = new java.util.ArrayList<java.lang.Object[]>();
+
+		for (java.lang.Object[] aobjStatement : _lsCommitted) {
+			if (aobjStatement[0].equals (strSQL)) lsParam.add ((java.lang.Object[]) aobjStatement[1]);
+		}
+
+		return lsParam;
+	}
+}
@@ -0,0 +1,574 @@
+
+package org.drip.regression.service;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * TableWriterRegressorSet implements the regression set for the Batched/Pipelined Table Writers, driven
+ * 	through the RecordingConnection. It regresses the following scenarios:
+ * 	- #1: BatchedTableWriter Commit Intervals, Delete-ahead-of-Insert Ordering for re-staged Keys, and the
+ * 		Restoration of the Auto Commit Mode.
+ * 	- #2: BatchedTableWriter Deletes of a Key with no Row to replace it (such as the Bond Marks whose Mark
+ * 		is bad) are committed in Order with the Delete/Insert Pairs of the same Key.
+ * 	- #3: PipelinedTableWriter Rows submitted concurrently from several Threads are all committed.
+ * 	- #4: A PipelinedTableWriter whose Writer Thread hits an unchecked Throwable (escaping the
+ * 		BatchedTableWriter) refuses further Submissions without blocking the Submitters, and fails the
+ * 		Close.
+ * 	- #5: JDBCBondMeasuresSink Rows (one per Side) are committed, with NaN Measures bound as SQL NULL.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class TableWriterRegressorSet implements org.drip.regression.core.RegressorSet {
+	private static final java.lang.String DELETE_SQL = "delete from TestTable where RowKey = ?";
+	private static final java.lang.String INSERT_SQL = "insert into TestTable values(?, ?, ?)";
+
+	private java.lang.String _strRegressionScenario = "org.drip.service.env";
+
+	private java.util.List<org.drip.regression.core.UnitRegressor> _setRegressors = new
+		java.util.ArrayList<org.drip.regression.core.UnitRegressor>();
+
+	private static final java.lang.Object[] InsertParam (
+		final int iKey)
+	{
+		return new java.lang.Object[] {"KEY" + iKey, 0.01 * iKey, 0 == iKey % 7 ? java.lang.Double.NaN :
+			1. * iKey};
+	}
+
+	private static final org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.output.BondRVMeasures>
+		BidAskMeasures (
+			final org.drip.param.valuation.WorkoutInfo wi)
+		throws java.lang.Exception
+	{
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.output.BondRVMeasures> mapBMRV =
+			new org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.output.BondRVMeasures>();
+
+		mapBMRV.put ("Bid", new org.drip.analytics.output.BondRVMeasures (1.01, 0.001, 0.01, 0.011, 0.012,
+			java.lang.Double.NaN, 0.013, 0.014, 0.015, 0.016, 0.017, 0.0004, 4.2, 4.4, 0.2, wi));
+
+		mapBMRV.put ("Ask", new org.drip.analytics.output.BondRVMeasures (1.02, 0.001, 0.01, 0.011, 0.012,
+			java.lang.Double.NaN, 0.013, 0.014, 0.015, 0.016, 0.017, 0.0004, 4.2, 4.4, 0.2, wi));
+
+		return mapBMRV;
+	}
+
+	@Override public boolean setupRegressors()
+	{
+		try {
+			/*
+			 * Batched Table Writer Commits and Ordering - implements the pre-regression, the post-regression,
+			 * 	and the actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("BatchedTableWriter",
+				_strRegressionScenario)
+			{
+				private static final int NUM_ROW = 1000;
+
+				private boolean _bClosed = false;
+				private java.lang.String _strRestagedOrder = "";
+				private org.drip.regression.service.RecordingConnection _rc = null;
+				private org.drip.service.env.BatchedTableWriter _btw = null;
+
+				@Override public boolean preRegression()
+				{
+					_rc = new org.drip.regression.service.RecordingConnection();
+
+					try {
+						_btw = new org.drip.service.env.BatchedTableWriter (_rc.connection(), 100, 250);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					for (int i = 0; i < NUM_ROW; ++i) {
+						if (!_btw.write (DELETE_SQL, new java.lang.Object[] {"KEY" + i}, INSERT_SQL,
+							InsertParam (i)))
+							return false;
+					}
+
+					/*
+					 * Re-stage a pending Key - forces a Flush ahead of the second Delete
+					 */
+
+					for (int i = 0; i < 2; ++i) {
+						if (!_btw.write (DELETE_SQL, new java.lang.Object[] {"KEY" + NUM_ROW}, INSERT_SQL,
+							InsertParam (NUM_ROW)))
+							return false;
+					}
+
+					_bClosed = _btw.close();
+
+					java.lang.StringBuilder sbRestagedOrder = new java.lang.StringBuilder();
+
+					for (java.lang.Object[] aobjStatement : _rc.committed()) {
+						if (("KEY" + NUM_ROW).equals (((java.lang.Object[]) aobjStatement[1])[0]))
+							sbRestagedOrder.append (DELETE_SQL.equals (aobjStatement[0]) ? "D" : "I");
+					}
+
+					_strRestagedOrder = sbRestagedOrder.toString();
+
+					return true;
+				}
+
+				/*
+				 * Commits at 300, 600, and 900 Rows (the Flushes every 100 Rows reach the Commit Interval of
+				 * 	250), and on Close
+				 */
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					int iNumInsert = _rc.committed (INSERT_SQL).size();
+
+					int iNumDelete = _rc.committed (DELETE_SQL).size();
+
+					rnvd.set ("Closed", "" + _bClosed);
+
+					rnvd.set ("NumWritten", "" + _btw.numWritten());
+
+					rnvd.set ("NumCommittedInsert", "" + iNumInsert);
+
+					rnvd.set ("NumCommittedDelete", "" + iNumDelete);
+
+					rnvd.set ("NumCommit", "" + _rc.numCommit());
+
+					rnvd.set ("RestagedOrder", _strRestagedOrder);
+
+					rnvd.set ("AutoCommitRestored", "" + _rc.autoCommit());
+
+					return _bClosed && NUM_ROW + 2 == _btw.numWritten() && NUM_ROW + 2 == iNumInsert &&
+						NUM_ROW + 2 == iNumDelete && 4 == _rc.numCommit() && "DIDI".equals (_strRestagedOrder)
+							&& _rc.autoCommit() && null == _rc.committed (INSERT_SQL).get (0)[2];
+				}
+			});
+
+			/*
+			 * Batched Table Writer Delete-only Writes - implements the pre-regression, the post-regression,
+			 * 	and the actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("BatchedTableWriterDeleteOnly", _strRegressionScenario)
+			{
+				private static final int NUM_ROW = 10;
+				private static final int CLEARED_KEY = 4;
+
+				private boolean _bClosed = false;
+				private boolean _bEmptyRefused = false;
+				private java.lang.String _strClearedOrder = "";
+				private org.drip.regression.service.RecordingConnection _rc = null;
+				private org.drip.service.env.BatchedTableWriter _btw = null;
+
+				@Override public boolean preRegression()
+				{
+					_rc = new org.drip.regression.service.RecordingConnection();
+
+					try {
+						_btw = new org.drip.service.env.BatchedTableWriter (_rc.connection(), 100, 250);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					for (int i = 0; i < NUM_ROW; ++i) {
+						if (!_btw.write (DELETE_SQL, new java.lang.Object[] {"KEY" + i}, INSERT_SQL,
+							InsertParam (i)))
+							return false;
+					}
+
+					/*
+					 * Clear a pending Key, then clear it and write it afresh - each forces a Flush ahead of
+					 * 	its Delete
+					 */
+
+					if (!_btw.delete (DELETE_SQL, new java.lang.Object[] {"KEY" + CLEARED_KEY}) || !_btw.write
+						(DELETE_SQL, new java.lang.Object[] {"KEY" + CLEARED_KEY}, INSERT_SQL, InsertParam
+							(CLEARED_KEY)))
+						return false;
+
+					_bEmptyRefused = !_btw.write (null, null, null, null) && !_btw.delete (null, null) &&
+						!_btw.delete (DELETE_SQL, null);
+
+					_bClosed = _btw.close();
+
+					java.lang.StringBuilder sbClearedOrder = new java.lang.StringBuilder();
+
+					for (java.lang.Object[] aobjStatement : _rc.committed()) {
+						if (("KEY" + CLEARED_KEY).equals (((java.lang.Object[]) aobjStatement[1])[0]))
+							sbClearedOrder.append (DELETE_SQL.equals (aobjStatement[0]) ? "D" : "I");
+					}
+
+					_strClearedOrder = sbClearedOrder.toString();
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					int iNumInsert = _rc.committed (INSERT_SQL).size();
+
+					int iNumDelete = _rc.committed (DELETE_SQL).size();
+
+					rnvd.set ("Closed", "" + _bClosed);
+
+					rnvd.set ("EmptyRefused", "" + _bEmptyRefused);
+
+					rnvd.set ("NumWritten", "" + _btw.numWritten());
+
+					rnvd.set ("NumCommittedInsert", "" + iNumInsert);
+
+					rnvd.set ("NumCommittedDelete", "" + iNumDelete);
+
+					rnvd.set ("ClearedOrder", _strClearedOrder);
+
+					return _bClosed && _bEmptyRefused && NUM_ROW + 2 == _btw.numWritten() && NUM_ROW + 1 ==
+						iNumInsert && NUM_ROW + 2 == iNumDelete && "DIDDI".equals (_strClearedOrder);
+				}
+			});
+
+			/*
+			 * Pipelined Table Writer Concurrent Submissions - implements the pre-regression, the
+			 * 	post-regression, and the actual regression functionality of the UnitRegressorExecutor
+			 * 	class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("PipelinedTableWriterConcurrentSubmit", _strRegressionScenario)
+			{
+				private static final int NUM_THREAD = 4;
+				private static final int NUM_ROW_PER_THREAD = 2500;
+
+				private boolean _bClosed = false;
+				private int _iNumDistinctKey = 0;
+				private org.drip.service.env.PipelinedTableWriter _ptw = null;
+				private org.drip.regression.service.RecordingConnection _rc = null;
+				private java.util.concurrent.atomic.AtomicInteger _aiNumRefused = new
+					java.util.concurrent.atomic.AtomicInteger();
+
+				@Override public boolean preRegression()
+				{
+					_rc = new org.drip.regression.service.RecordingConnection();
+
+					_aiNumRefused.set (0);
+
+					try {
+						_ptw = new org.drip.service.env.PipelinedTableWriter (new
+							org.drip.service.env.BatchedTableWriter (_rc.connection(), 64, 256), 32);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					java.lang.Thread[] aThread = new java.lang.Thread[NUM_THREAD];
+
+					for (int iThread = 0; iThread < NUM_THREAD; ++iThread) {
+						final int iKeyStart = iThread * NUM_ROW_PER_THREAD;
+
+						(aThread[iThread] = new java.lang.Thread() {
+							@Override public void run()
+							{
+								for (int i = iKeyStart; i < iKeyStart + NUM_ROW_PER_THREAD; ++i) {
+									if (!_ptw.submit (DELETE_SQL, new java.lang.Object[] {"KEY" + i},
+										INSERT_SQL, InsertParam (i)))
+										_aiNumRefused.incrementAndGet();
+								}
+							}
+						}).start();
+					}
+
+					try {
+						for (java.lang.Thread thr : aThread)
+							thr.join();
+					} catch (java.lang.InterruptedException e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					_bClosed = _ptw.close();
+
+					java.util.Set<java.lang.Object> setKey = new java.util.HashSet<java.lang.Object>();
+
+					for (java.lang.Object[] aobjParam : _rc.committed (INSERT_SQL))
+						setKey.add (aobjParam[0]);
+
+					_iNumDistinctKey = setKey.size();
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					int iNumInsert = _rc.committed (INSERT_SQL).size();
+
+					rnvd.set ("Closed", "" + _bClosed);
+
+					rnvd.set ("NumRefused", "" + _aiNumRefused.get());
+
+					rnvd.set ("NumCommittedInsert", "" + iNumInsert);
+
+					rnvd.set ("NumDistinctKey", "" + _iNumDistinctKey);
+
+					return _bClosed && 0 == _aiNumRefused.get() && NUM_THREAD * NUM_ROW_PER_THREAD ==
+						iNumInsert && NUM_THREAD * NUM_ROW_PER_THREAD == _iNumDistinctKey;
+				}
+			});
+
+			/*
+			 * Pipelined Table Writer Thread Failure - implements the pre-regression, the post-regression, and
+			 * 	the actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor
+				("PipelinedTableWriterFailure", _strRegressionScenario)
+			{
+				private static final int NUM_ROW = 5000;
+				private static final long SUBMITTER_TIMEOUT = 30000L;
+
+				private boolean _bClosed = true;
+				private boolean _bSubmitterDone = false;
+				private org.drip.service.env.PipelinedTableWriter _ptw = null;
+				private org.drip.regression.service.RecordingConnection _rc = null;
+				private java.util.concurrent.atomic.AtomicInteger _aiNumSubmitted = new
+					java.util.concurrent.atomic.AtomicInteger();
+
+				@Override public boolean preRegression()
+				{
+					_aiNumSubmitted.set (0);
+
+					_rc = new org.drip.regression.service.RecordingConnection (3, true);
+
+					try {
+						_ptw = new org.drip.service.env.PipelinedTableWriter (new
+							org.drip.service.env.BatchedTableWriter (_rc.connection(), 10, 100), 8);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					java.lang.Thread thrSubmitter = new java.lang.Thread() {
+						@Override public void run()
+						{
+							for (int i = 0; i < NUM_ROW; ++i) {
+								if (!_ptw.submit (DELETE_SQL, new java.lang.Object[] {"KEY" + i}, INSERT_SQL,
+									InsertParam (i)))
+									return;
+
+								_aiNumSubmitted.incrementAndGet();
+							}
+						}
+					};
+
+					thrSubmitter.setDaemon (true);
+
+					thrSubmitter.start();
+
+					try {
+						thrSubmitter.join (SUBMITTER_TIMEOUT);
+					} catch (java.lang.InterruptedException e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					if (_bSubmitterDone = !thrSubmitter.isAlive()) _bClosed = _ptw.close();
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("SubmitterDone", "" + _bSubmitterDone);
+
+					rnvd.set ("NumSubmitted", "" + _aiNumSubmitted.get());
+
+					rnvd.set ("Failed", "" + _ptw.failed());
+
+					rnvd.set ("Closed", "" + _bClosed);
+
+					rnvd.set ("NumCommittedInsert", "" + _rc.committed (INSERT_SQL).size());
+
+					rnvd.set ("NumRollback", "" + _rc.numRollback());
+
+					return _bSubmitterDone && NUM_ROW > _aiNumSubmitted.get() && _ptw.failed() && !_bClosed &&
+						0 == _rc.committed (INSERT_SQL).size();
+				}
+			});
+
+			/*
+			 * JDBC Bond Measures Sink Rows - implements the pre-regression, the post-regression, and the
+			 * 	actual regression functionality of the UnitRegressorExecutor class.
+			 */
+
+			_setRegressors.add (new org.drip.regression.core.UnitRegressionExecutor ("JDBCBondMeasuresSink",
+				_strRegressionScenario)
+			{
+				private static final int NUM_BOND = 3;
+
+				/*
+				 * BondID, RunName, Side, EOD, Price, Yield, WorkoutDate, WorkoutFactor, ZSpread, GSpread,
+				 * 	ISpread, TSYSpread, ASW, OAS, ...
+				 */
+
+				private static final int OAS_COLUMN = 13;
+
+				private boolean _bClosed = false;
+				private boolean _bAccepted = false;
+				private boolean _bNaNAsNull = false;
+				private boolean _bDeleteKeyed = false;
+				private org.drip.service.env.JDBCBondMeasuresSink _jbms = null;
+				private org.drip.regression.service.RecordingConnection _rc = null;
+
+				@Override public boolean preRegression()
+				{
+					_rc = new org.drip.regression.service.RecordingConnection();
+
+					try {
+						_jbms = new org.drip.service.env.JDBCBondMeasuresSink (_rc.connection(),
+							"BondMeasures", org.drip.analytics.date.DateUtil.CreateFromYMD (2015,
+								org.drip.analytics.date.DateUtil.MAY, 12));
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					return true;
+				}
+
+				@Override public boolean execRegression()
+				{
+					_bAccepted = true;
+
+					try {
+						org.drip.param.valuation.WorkoutInfo wi = new org.drip.param.valuation.WorkoutInfo
+							(org.drip.analytics.date.DateUtil.CreateFromYMD (2020,
+								org.drip.analytics.date.DateUtil.MAY, 12).julian(), 0.05, 1.,
+									org.drip.param.valuation.WorkoutInfo.WO_TYPE_MATURITY);
+
+						for (int iBond = 0; iBond < NUM_BOND; ++iBond) {
+							_bAccepted = _jbms.accept ("BOND" + iBond, " RUN ", BidAskMeasures (wi)) &&
+								_bAccepted;
+						}
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+
+						return false;
+					}
+
+					_bClosed = _jbms.close();
+
+					java.util.List<java.lang.Object[]> lsInsertParam = _rc.committed (_jbms.insertSQL());
+
+					java.util.List<java.lang.Object[]> lsDeleteParam = _rc.committed (_jbms.deleteSQL());
+
+					if (2 * NUM_BOND != lsInsertParam.size() || 2 * NUM_BOND != lsDeleteParam.size())
+						return true;
+
+					_bNaNAsNull = true;
+					_bDeleteKeyed = true;
+
+					for (int i = 0; i < 2 * NUM_BOND; ++i) {
+						java.lang.Object[] aobjInsertParam = lsInsertParam.get (i);
+
+						java.lang.Object[] aobjDeleteParam = lsDeleteParam.get (i);
+
+						_bNaNAsNull = _bNaNAsNull && null == aobjInsertParam[OAS_COLUMN];
+
+						_bDeleteKeyed = _bDeleteKeyed && 4 == aobjDeleteParam.length && "RUN".equals
+							(aobjDeleteParam[1]) && java.util.Arrays.equals (aobjDeleteParam,
+								java.util.Arrays.copyOf (aobjInsertParam, 4));
+					}
+
+					return true;
+				}
+
+				@Override public boolean postRegression (
+					final org.drip.regression.core.RegressionRunDetail rnvd)
+				{
+					rnvd.set ("Accepted", "" + _bAccepted);
+
+					rnvd.set ("Closed", "" + _bClosed);
+
+					rnvd.set ("NumRow", "" + _jbms.numRow());
+
+					rnvd.set ("NaNAsNull", "" + _bNaNAsNull);
+
+					rnvd.set ("DeleteKeyed", "" + _bDeleteKeyed);
+
+					return _bAccepted && _bClosed && 2 * NUM_BOND == _jbms.numRow() && _bNaNAsNull &&
+						_bDeleteKeyed;
+				}
+			});
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public java.util.List<org.drip.regression.core.UnitRegressor> getRegressorSet()
+	{
+		return _setRegressors;
+	}
+
+	@Override public java.lang.String getSetName()
+	{
+		return _strRegressionScenario;
+	}
+}
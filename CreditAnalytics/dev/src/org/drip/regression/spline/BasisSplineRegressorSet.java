@@ -55,6 +55,8 @@ package org.drip.regression.spline;
  * - #20: Kaklis-Pandelis Tension Spline, n = 4 basis functions, KP = 2, and Ck = 2.
  * - #21: C1 Hermite Local Spline, n = 4 basis functions, and Ck = 1.
  * - #21: Hermite Local Spline with Local, Catmull-Rom, and Cardinal Knots, n = 4 basis functions, and Ck = 1.
+ * - #22: Containing Segment Lookup and Batch Response Value against a Linear Scan over the Segments.
+ * - #23: Wire Surface Cached Cross-Section and Grid Response Values against Fresh Calibrations.
  *
  * @author Lakshmi Krishnamurthy
  */
@@ -189,6 +191,12 @@ public class BasisSplineRegressorSet implements org.drip.regression.core.Regress
 
 			_setRegressors.add (new org.drip.regression.spline.LagrangePolynomialStretchRegressor
 				("Lagrange_Polynomial_Stretch", _strRegressionScenario));
+
+			_setRegressors.add (new org.drip.regression.spline.SegmentLookupRegressor ("Segment_Lookup",
+				_strRegressionScenario));
+
+			_setRegressors.add (new org.drip.regression.spline.WireSurfaceStretchRegressor
+				("Wire_Surface_Stretch", _strRegressionScenario));
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 
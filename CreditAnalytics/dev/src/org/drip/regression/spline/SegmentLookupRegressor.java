@@ -0,0 +1,275 @@
+
+package org.drip.regression.spline;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * Copyright (C) 2014 Lakshmi Krishnamurthy
+ * Copyright (C) 2013 Lakshmi Krishnamurthy
+ * Copyright (C) 2012 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * SegmentLookupRegressor reconciles the Containing Segment Lookup and the Batch Response Value of a
+ * 	Calibratable Multi-Segment Sequence against a Linear Scan over its Segments. As part of the regression
+ * 	run, it executes the following:
+ *  - Locate the Knots and Random Predictor Ordinates in Ascending, Descending, and Random Order, for each of
+ *  	the Include-Left/Include-Right Combinations.
+ *  - Locate Random Predictor Ordinates from Concurrent Readers sharing the Stretch Cursor.
+ *  - Compare the Batch Response Values against the Point-wise Response Values.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class SegmentLookupRegressor extends org.drip.regression.core.UnitRegressionExecutor {
+	private static final int NUM_KNOT = 80;
+	private static final int NUM_READER = 4;
+	private static final int NUM_ORDINATE = 20000;
+	private static final long RANDOM_SEED = 20150601L;
+
+	private double[] _adblOrdinate = null;
+	private int _iNumIndexMismatch = -1;
+	private int _iNumValueMismatch = -1;
+	private int _iNumConcurrentMismatch = -1;
+	private org.drip.spline.stretch.MultiSegmentSequence _mss = null;
+
+	/*
+	 * Index of the first Segment containing the Predictor Ordinate off of a Linear Scan, -1 if none does
+	 */
+
+	private int linearScanIndex (
+		final double dblPredictorOrdinate,
+		final boolean bIncludeLeft,
+		final boolean bIncludeRight)
+	{
+		org.drip.spline.segment.LatentStateResponseModel[] aLSRM = _mss.segments();
+
+		for (int i = 0; i < aLSRM.length; ++i) {
+			boolean bLeftValid = bIncludeLeft ? aLSRM[i].left() <= dblPredictorOrdinate : aLSRM[i].left() <
+				dblPredictorOrdinate;
+
+			boolean bRightValid = bIncludeRight ? aLSRM[i].right() >= dblPredictorOrdinate :
+				aLSRM[i].right() > dblPredictorOrdinate;
+
+			if (bLeftValid && bRightValid) return i;
+		}
+
+		return -1;
+	}
+
+	/*
+	 * Containing Index off of the Stretch, -1 if the Stretch cannot locate one
+	 */
+
+	private int stretchIndex (
+		final double dblPredictorOrdinate,
+		final boolean bIncludeLeft,
+		final boolean bIncludeRight)
+	{
+		try {
+			return _mss.containingIndex (dblPredictorOrdinate, bIncludeLeft, bIncludeRight);
+		} catch (java.lang.Exception e) {
+		}
+
+		return -1;
+	}
+
+	/*
+	 * Number of Predictor Ordinates whose Stretch Containing Index differs from the Linear Scan
+	 */
+
+	private int indexMismatch (
+		final double[] adblPredictorOrdinate)
+	{
+		int iNumMismatch = 0;
+
+		for (int iFlag = 0; iFlag < 4; ++iFlag) {
+			boolean bIncludeLeft = 0 != (iFlag & 1);
+			boolean bIncludeRight = 0 != (iFlag & 2);
+
+			for (double dblPredictorOrdinate : adblPredictorOrdinate) {
+				if (linearScanIndex (dblPredictorOrdinate, bIncludeLeft, bIncludeRight) != stretchIndex
+					(dblPredictorOrdinate, bIncludeLeft, bIncludeRight))
+					++iNumMismatch;
+			}
+		}
+
+		return iNumMismatch;
+	}
+
+	/*
+	 * Number of Predictor Ordinates whose Batch Response Value differs from the Point-wise Response Value
+	 */
+
+	private int valueMismatch (
+		final double[] adblPredictorOrdinate)
+		throws java.lang.Exception
+	{
+		double[] adblResponseValue = new double[adblPredictorOrdinate.length];
+
+		if (!_mss.responseValue (adblPredictorOrdinate, adblResponseValue))
+			return adblPredictorOrdinate.length;
+
+		int iNumMismatch = 0;
+
+		for (int i = 0; i < adblPredictorOrdinate.length; ++i) {
+			if (adblResponseValue[i] != _mss.responseValue (adblPredictorOrdinate[i])) ++iNumMismatch;
+		}
+
+		return iNumMismatch;
+	}
+
+	private static final double[] Reverse (
+		final double[] adbl)
+	{
+		double[] adblReverse = new double[adbl.length];
+
+		for (int i = 0; i < adbl.length; ++i)
+			adblReverse[i] = adbl[adbl.length - 1 - i];
+
+		return adblReverse;
+	}
+
+	public SegmentLookupRegressor (
+		final java.lang.String strName,
+		final java.lang.String strScenarioName)
+		throws java.lang.Exception
+	{
+		super (strName, strScenarioName);
+	}
+
+	@Override public boolean preRegression()
+	{
+		java.util.Random rand = new java.util.Random (RANDOM_SEED);
+
+		double[] adblKnot = new double[NUM_KNOT];
+		double[] adblResponseValue = new double[NUM_KNOT];
+		org.drip.spline.params.SegmentCustomBuilderControl[] aSCBC = new
+			org.drip.spline.params.SegmentCustomBuilderControl[NUM_KNOT - 1];
+
+		try {
+			org.drip.spline.params.SegmentCustomBuilderControl scbc = new
+				org.drip.spline.params.SegmentCustomBuilderControl
+					(org.drip.spline.stretch.MultiSegmentSequenceBuilder.BASIS_SPLINE_POLYNOMIAL, new
+						org.drip.spline.basis.PolynomialFunctionSetParams (4),
+							org.drip.spline.params.SegmentInelasticDesignControl.Create (2, 2), null, null);
+
+			for (int i = 0; i < NUM_KNOT; ++i) {
+				adblKnot[i] = 0 == i ? 0. : adblKnot[i - 1] + 0.05 + rand.nextDouble();
+
+				adblResponseValue[i] = java.lang.Math.sin (adblKnot[i]) + 0.01 * adblKnot[i];
+
+				if (0 != i) aSCBC[i - 1] = scbc;
+			}
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		_mss = org.drip.spline.stretch.MultiSegmentSequenceBuilder.CreateCalibratedStretchEstimator
+			("SEGMENT_LOOKUP_STRETCH", adblKnot, adblResponseValue, aSCBC, null,
+				org.drip.spline.stretch.BoundarySettings.NaturalStandard(),
+					org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE);
+
+		if (null == _mss) return false;
+
+		_adblOrdinate = new double[NUM_ORDINATE + NUM_KNOT];
+
+		for (int i = 0; i < NUM_ORDINATE; ++i)
+			_adblOrdinate[i] = adblKnot[NUM_KNOT - 1] * rand.nextDouble();
+
+		for (int i = 0; i < NUM_KNOT; ++i)
+			_adblOrdinate[NUM_ORDINATE + i] = adblKnot[i];
+
+		return true;
+	}
+
+	@Override public boolean execRegression()
+	{
+		double[] adblAscending = new double[_adblOrdinate.length];
+
+		java.lang.System.arraycopy (_adblOrdinate, 0, adblAscending, 0, _adblOrdinate.length);
+
+		java.util.Arrays.sort (adblAscending);
+
+		double[] adblDescending = Reverse (adblAscending);
+
+		_iNumIndexMismatch = indexMismatch (_adblOrdinate) + indexMismatch (adblAscending) + indexMismatch
+			(adblDescending);
+
+		try {
+			_iNumValueMismatch = valueMismatch (_adblOrdinate) + valueMismatch (adblAscending) +
+				valueMismatch (adblDescending);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		final java.util.concurrent.atomic.AtomicInteger aiNumConcurrentMismatch = new
+			java.util.concurrent.atomic.AtomicInteger (0);
+
+		java.lang.Thread[] aThreadReader = new java.lang.Thread[NUM_READER];
+
+		for (int i = 0; i < NUM_READER; ++i) {
+			final double[] adblReaderOrdinate = 0 == i % 2 ? _adblOrdinate : adblAscending;
+
+			aThreadReader[i] = new java.lang.Thread() {
+				@Override public void run()
+				{
+					aiNumConcurrentMismatch.addAndGet (indexMismatch (adblReaderOrdinate));
+				}
+			};
+
+			aThreadReader[i].start();
+		}
+
+		try {
+			for (java.lang.Thread threadReader : aThreadReader)
+				threadReader.join();
+		} catch (java.lang.InterruptedException e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		_iNumConcurrentMismatch = aiNumConcurrentMismatch.get();
+
+		return true;
+	}
+
+	@Override public boolean postRegression (
+		final org.drip.regression.core.RegressionRunDetail rnvd)
+	{
+		if (!rnvd.set ("SLR_IndexMismatch", "" + _iNumIndexMismatch)) return false;
+
+		if (!rnvd.set ("SLR_ValueMismatch", "" + _iNumValueMismatch)) return false;
+
+		if (!rnvd.set ("SLR_ConcurrentMismatch", "" + _iNumConcurrentMismatch)) return false;
+
+		return 0 == _iNumIndexMismatch && 0 == _iNumValueMismatch && 0 == _iNumConcurrentMismatch;
+	}
+}
@@ -0,0 +1,252 @@
+
+package org.drip.regression.spline;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * Copyright (C) 2014 Lakshmi Krishnamurthy
+ * Copyright (C) 2013 Lakshmi Krishnamurthy
+ * Copyright (C) 2012 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * WireSurfaceStretchRegressor reconciles the Cross-Section Caching and the Grid Evaluation of the
+ * 	WireSurfaceStretch against a Surface that calibrates its Cross-Section afresh for every Query. As part of
+ * 	the regression run, it executes the following:
+ *  - Compare the Point Response Values, inside and off of the Surface, both on the Cache Miss and on the
+ *  	Cache Hit.
+ *  - Compare the Point Response Values off of a Cache small enough to evict, and verify its Bound.
+ *  - Compare the Grid Response Values and the Y Anchored Wire Spans.
+ *  - Compare the Point Response Values off of Concurrent Readers sharing the Cache.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class WireSurfaceStretchRegressor extends org.drip.regression.core.UnitRegressionExecutor {
+	private static final int NUM_READER = 4;
+	private static final int EVICTING_CACHE_SIZE = 2;
+
+	private static final double[] X_NODE = new double[] {0.8, 0.9, 1.0, 1.1, 1.2};
+	private static final double[] Y_NODE = new double[] {1., 2., 3., 4., 5.};
+
+	private static final double[][] Z_NODE = new double[][] {
+		{0.44, 0.38, 0.33, 0.27, 0.25},
+		{0.41, 0.34, 0.30, 0.22, 0.27},
+		{0.36, 0.31, 0.28, 0.30, 0.37},
+		{0.38, 0.31, 0.34, 0.40, 0.47},
+		{0.43, 0.46, 0.48, 0.52, 0.57}
+	};
+
+	private static final double[] X_QUERY = new double[] {0.70, 0.80, 0.85, 0.925, 1.00, 1.075, 1.15, 1.20,
+		1.30};
+
+	private static final double[] Y_QUERY = new double[] {0.50, 1.00, 1.50, 2.25, 3.00, 3.75, 4.50, 5.00,
+		5.50};
+
+	private int _iNumPointMismatch = -1;
+	private int _iNumGridMismatch = -1;
+	private int _iNumSpanMismatch = -1;
+	private int _iNumEvictionMismatch = -1;
+	private int _iNumConcurrentMismatch = -1;
+	private boolean _bCacheBounded = false;
+	private double[][] _aadblReference = null;
+
+	private static final org.drip.spline.multidimensional.WireSurfaceStretch Surface (
+		final int iCrossSectionCacheSize)
+		throws java.lang.Exception
+	{
+		org.drip.spline.params.SegmentCustomBuilderControl scbc = new
+			org.drip.spline.params.SegmentCustomBuilderControl
+				(org.drip.spline.stretch.MultiSegmentSequenceBuilder.BASIS_SPLINE_POLYNOMIAL, new
+					org.drip.spline.basis.PolynomialFunctionSetParams (4),
+						org.drip.spline.params.SegmentInelasticDesignControl.Create (2, 2), null, null);
+
+		org.drip.spline.params.SegmentCustomBuilderControl[] aSCBC = new
+			org.drip.spline.params.SegmentCustomBuilderControl[Y_NODE.length - 1];
+
+		for (int i = 0; i < aSCBC.length; ++i)
+			aSCBC[i] = scbc;
+
+		java.util.TreeMap<java.lang.Double, org.drip.spline.grid.Span> mapWireSpan = new
+			java.util.TreeMap<java.lang.Double, org.drip.spline.grid.Span>();
+
+		for (int i = 0; i < X_NODE.length; ++i)
+			mapWireSpan.put (X_NODE[i], new org.drip.spline.grid.OverlappingStretchSpan
+				(org.drip.spline.stretch.MultiSegmentSequenceBuilder.CreateCalibratedStretchEstimator
+					("WIRE@" + X_NODE[i], Y_NODE, Z_NODE[i], aSCBC, null,
+						org.drip.spline.stretch.BoundarySettings.NaturalStandard(),
+							org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE)));
+
+		return new org.drip.spline.multidimensional.WireSurfaceStretch ("WIRE_SURFACE", scbc, mapWireSpan,
+			iCrossSectionCacheSize);
+	}
+
+	/*
+	 * Number of the Query Grid Points whose Point Response Value differs from the Reference
+	 */
+
+	private int pointMismatch (
+		final org.drip.spline.multidimensional.WireSurfaceStretch wss)
+		throws java.lang.Exception
+	{
+		int iNumMismatch = 0;
+
+		for (int j = 0; j < Y_QUERY.length; ++j) {
+			for (int i = 0; i < X_QUERY.length; ++i) {
+				if (_aadblReference[i][j] != wss.responseValue (X_QUERY[i], Y_QUERY[j])) ++iNumMismatch;
+			}
+		}
+
+		return iNumMismatch;
+	}
+
+	public WireSurfaceStretchRegressor (
+		final java.lang.String strName,
+		final java.lang.String strScenarioName)
+		throws java.lang.Exception
+	{
+		super (strName, strScenarioName);
+	}
+
+	@Override public boolean preRegression()
+	{
+		_aadblReference = new double[X_QUERY.length][Y_QUERY.length];
+
+		try {
+			org.drip.spline.multidimensional.WireSurfaceStretch wssUncached = Surface (0);
+
+			for (int i = 0; i < X_QUERY.length; ++i) {
+				for (int j = 0; j < Y_QUERY.length; ++j)
+					_aadblReference[i][j] = wssUncached.responseValue (X_QUERY[i], Y_QUERY[j]);
+			}
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public boolean execRegression()
+	{
+		try {
+			org.drip.spline.multidimensional.WireSurfaceStretch wssCached = Surface
+				(org.drip.spline.multidimensional.WireSurfaceStretch.DEFAULT_CROSS_SECTION_CACHE_SIZE);
+
+			_iNumPointMismatch = pointMismatch (wssCached) + pointMismatch (wssCached);
+
+			org.drip.spline.multidimensional.WireSurfaceStretch wssEvicting = Surface (EVICTING_CACHE_SIZE);
+
+			_iNumEvictionMismatch = pointMismatch (wssEvicting) + pointMismatch (wssEvicting);
+
+			_bCacheBounded = EVICTING_CACHE_SIZE == wssEvicting.cachedCrossSectionCount();
+
+			wssEvicting.clearCrossSectionCache();
+
+			_bCacheBounded = _bCacheBounded && 0 == wssEvicting.cachedCrossSectionCount();
+
+			org.drip.spline.multidimensional.WireSurfaceStretch wssGrid = Surface
+				(org.drip.spline.multidimensional.WireSurfaceStretch.DEFAULT_CROSS_SECTION_CACHE_SIZE);
+
+			double[][] aadblGrid = wssGrid.responseValueGrid (X_QUERY, Y_QUERY);
+
+			if (null == aadblGrid) return false;
+
+			_iNumGridMismatch = 0;
+			_iNumSpanMismatch = 0;
+
+			for (int j = 0; j < Y_QUERY.length; ++j) {
+				org.drip.spline.grid.Span spanYAnchor = wssCached.wireSpanYAnchor (Y_QUERY[j]);
+
+				if (null == spanYAnchor) return false;
+
+				for (int i = 0; i < X_QUERY.length; ++i) {
+					if (_aadblReference[i][j] != aadblGrid[i][j]) ++_iNumGridMismatch;
+
+					double dblX = X_QUERY[i] <= spanYAnchor.left() ? spanYAnchor.left() : (X_QUERY[i] >=
+						spanYAnchor.right() ? spanYAnchor.right() : X_QUERY[i]);
+
+					if (_aadblReference[i][j] != spanYAnchor.calcResponseValue (dblX)) ++_iNumSpanMismatch;
+				}
+			}
+
+			final org.drip.spline.multidimensional.WireSurfaceStretch wssShared = Surface
+				(org.drip.spline.multidimensional.WireSurfaceStretch.DEFAULT_CROSS_SECTION_CACHE_SIZE);
+
+			final java.util.concurrent.atomic.AtomicInteger aiNumConcurrentMismatch = new
+				java.util.concurrent.atomic.AtomicInteger (0);
+
+			java.lang.Thread[] aThreadReader = new java.lang.Thread[NUM_READER];
+
+			for (int i = 0; i < NUM_READER; ++i) {
+				aThreadReader[i] = new java.lang.Thread() {
+					@Override public void run()
+					{
+						try {
+							aiNumConcurrentMismatch.addAndGet (pointMismatch (wssShared));
+						} catch (java.lang.Exception e) {
+							e.printStackTrace();
+
+							aiNumConcurrentMismatch.addAndGet (X_QUERY.length * Y_QUERY.length);
+						}
+					}
+				};
+
+				aThreadReader[i].start();
+			}
+
+			for (java.lang.Thread threadReader : aThreadReader)
+				threadReader.join();
+
+			_iNumConcurrentMismatch = aiNumConcurrentMismatch.get();
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override public boolean postRegression (
+		final org.drip.regression.core.RegressionRunDetail rnvd)
+	{
+		if (!rnvd.set ("WSSR_PointMismatch", "" + _iNumPointMismatch)) return false;
+
+		if (!rnvd.set ("WSSR_EvictionMismatch", "" + _iNumEvictionMismatch)) return false;
+
+		if (!rnvd.set ("WSSR_CacheBounded", "" + _bCacheBounded)) return false;
+
+		if (!rnvd.set ("WSSR_GridMismatch", "" + _iNumGridMismatch)) return false;
+
+		if (!rnvd.set ("WSSR_SpanMismatch", "" + _iNumSpanMismatch)) return false;
+
+		if (!rnvd.set ("WSSR_ConcurrentMismatch", "" + _iNumConcurrentMismatch)) return false;
+
+		return 0 == _iNumPointMismatch && 0 == _iNumEvictionMismatch && _bCacheBounded && 0 ==
+			_iNumGridMismatch && 0 == _iNumSpanMismatch && 0 == _iNumConcurrentMismatch;
+	}
+}
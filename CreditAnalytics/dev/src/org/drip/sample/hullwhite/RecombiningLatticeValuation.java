@@ -0,0 +1,168 @@
+
+package org.drip.sample.hullwhite;
+
+import org.drip.analytics.date.*;
+import org.drip.dynamics.hullwhite.*;
+import org.drip.function.deterministic1D.FlatUnivariate;
+import org.drip.quant.common.FormatUtil;
+import org.drip.sequence.random.BoxMullerGaussian;
+import org.drip.service.api.CreditAnalytics;
+import org.drip.state.identifier.FundingLabel;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * RecombiningLatticeValuation demonstrates the Construction of the Hull-White Recombining Trinomial Lattice
+ * 	fit to the Initial Forward Rate Term Structure, and the Backward Induction Valuation of the European and
+ * 	the Bermudan Options on a Zero Coupon Bond off of it.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class RecombiningLatticeValuation {
+
+	private static final SingleFactorStateEvolver HullWhiteEvolver (
+		final String strCurrency,
+		final double dblSigma,
+		final double dblA,
+		final double dblStartingForwardRate)
+		throws Exception
+	{
+		return new SingleFactorStateEvolver (
+			FundingLabel.Standard (strCurrency),
+			dblSigma,
+			dblA,
+			new FlatUnivariate (dblStartingForwardRate),
+			new BoxMullerGaussian (0., 1.)
+		);
+	}
+
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		JulianDate dtSpot = DateUtil.CreateFromYMD (
+			2011,
+			DateUtil.MAY,
+			18
+		);
+
+		double dblA = 0.1;
+		int iDayIncrement = 7;
+		double dblSigma = 0.01;
+		int iNumIncrement = 520;
+		final int iExerciseStep = 52;
+		String strCurrency = "USD";
+		double dblForwardRate = 0.03;
+		final int iLastExerciseSlice = 260;
+
+		SingleFactorStateEvolver hw = HullWhiteEvolver (
+			strCurrency,
+			dblSigma,
+			dblA,
+			dblForwardRate
+		);
+
+		long lStart = System.nanoTime();
+
+		final RecombiningTrinomialLattice rtl = hw.recombiningTrinomialLattice (
+			dtSpot.julian(),
+			iDayIncrement,
+			iNumIncrement
+		);
+
+		System.out.println ("\n\tLattice Construction: " + FormatUtil.FormatDouble ((System.nanoTime() - lStart) * 1.e-06, 1, 2, 1.) + " msec; jMax = " + rtl.maxNodeIndex());
+
+		System.out.println ("\n\t|-----------------------------------------|");
+
+		System.out.println ("\t|  SLICE  =>  LATTICE DF  |  INITIAL DF   |");
+
+		System.out.println ("\t|-----------------------------------------|");
+
+		for (int iSlice = 0; iSlice <= iNumIncrement; iSlice += iExerciseStep)
+			System.out.println ("\t|  " + FormatUtil.FormatDouble (iSlice, 3, 0, 1.) + "  =>  " +
+				FormatUtil.FormatDouble (rtl.discountFactor (iSlice), 1, 8, 1.) + "  |  " +
+				FormatUtil.FormatDouble (Math.exp (-1. * dblForwardRate * iSlice * rtl.timeIncrement()), 1, 8, 1.) + "  |"
+			);
+
+		System.out.println ("\t|-----------------------------------------|");
+
+		final double dblStrike = 0.88;
+
+		double[] adblZCBAtExpiry = rtl.zeroCouponBondPrice (
+			iLastExerciseSlice,
+			iNumIncrement
+		);
+
+		double[] adblPutPayoff = new double[adblZCBAtExpiry.length];
+
+		for (int iNode = 0; iNode < adblZCBAtExpiry.length; ++iNode)
+			adblPutPayoff[iNode] = Math.max (dblStrike - adblZCBAtExpiry[iNode], 0.);
+
+		lStart = System.nanoTime();
+
+		double dblEuropeanPut = rtl.price (
+			adblPutPayoff,
+			iLastExerciseSlice,
+			null
+		);
+
+		final double[][] aadblZCB = new double[iLastExerciseSlice + 1][];
+
+		for (int iSlice = iExerciseStep; iSlice < iLastExerciseSlice; iSlice += iExerciseStep)
+			aadblZCB[iSlice] = rtl.zeroCouponBondPrice (
+				iSlice,
+				iNumIncrement
+			);
+
+		double dblBermudanPut = rtl.price (
+			adblPutPayoff,
+			iLastExerciseSlice,
+			new TrinomialLatticeNodeAdjuster() {
+				@Override public double adjust (
+					final int iSlice,
+					final int iNode,
+					final double dblShortRate,
+					final double dblContinuationValue)
+				{
+					if (0 == iSlice || 0 != iSlice % iExerciseStep) return dblContinuationValue;
+
+					return Math.max (dblContinuationValue, dblStrike - aadblZCB[iSlice][iNode]);
+				}
+			}
+		);
+
+		System.out.println ("\n\tEuropean Put on the 10Y ZCB (5Y Expiry): " + FormatUtil.FormatDouble (dblEuropeanPut, 1, 8, 1.));
+
+		System.out.println ("\tBermudan Put on the 10Y ZCB (Annual)   : " + FormatUtil.FormatDouble (dblBermudanPut, 1, 8, 1.));
+
+		System.out.println ("\tValuation: " + FormatUtil.FormatDouble ((System.nanoTime() - lStart) * 1.e-06, 1, 2, 1.) + " msec");
+	}
+}
@@ -0,0 +1,117 @@
+package org.drip.sample.misc;
+
+import java.util.List;
+
+import org.drip.analytics.date.*;
+import org.drip.analytics.daycount.*;
+import org.drip.analytics.support.CompositePeriodBuilder;
+import org.drip.service.api.CreditAnalytics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BusinessCalendarThroughput contrasts the Schedule Generation and the Business Day Count Throughput of the
+ * 	Day-by-Day Holiday Walk against that of the Compiled Business Day Calendars, and verifies that both
+ * 	produce identical Results.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BusinessCalendarThroughput {
+	private static final String[] CALENDAR_SET = new String[] {"USD", "GBP", "EUR", "USD,GBP", "JPY,USD"};
+
+	private static final double ScheduleBuild (
+		final JulianDate dtEffective,
+		final int iNumSwap)
+		throws Exception
+	{
+		double dblChecksum = 0.;
+
+		for (int i = 0; i < iNumSwap; ++i) {
+			String strCalendar = CALENDAR_SET[i % CALENDAR_SET.length];
+
+			JulianDate dtStart = dtEffective.addBusDays (i % 30, strCalendar);
+
+			List<Double> lsEdgeDate = CompositePeriodBuilder.BackwardEdgeDates (
+				dtStart,
+				dtStart.addTenor ("30Y"),
+				"3M",
+				new DateAdjustParams (Convention.DATE_ROLL_MODIFIED_FOLLOWING, 1, strCalendar),
+				CompositePeriodBuilder.SHORT_STUB
+			);
+
+			for (double dblEdgeDate : lsEdgeDate)
+				dblChecksum += dblEdgeDate;
+
+			dblChecksum += Convention.BusinessDays (
+				dtStart.julian(),
+				lsEdgeDate.get (lsEdgeDate.size() - 1),
+				strCalendar
+			);
+		}
+
+		return dblChecksum;
+	}
+
+	private static final void RunScenario (
+		final String strScenario,
+		final boolean bUseCompiledCalendar,
+		final JulianDate dtEffective,
+		final int iNumSwap)
+		throws Exception
+	{
+		Convention.UseCompiledCalendar (bUseCompiledCalendar);
+
+		ScheduleBuild (dtEffective, iNumSwap / 10);
+
+		long lStart = System.nanoTime();
+
+		double dblChecksum = ScheduleBuild (dtEffective, iNumSwap);
+
+		double dblElapsed = (System.nanoTime() - lStart) * 1.e-09;
+
+		System.out.println ("\t" + strScenario + " => " + iNumSwap + " 30Y Swap Schedules in " +
+			dblElapsed + " sec (" + (int) (iNumSwap / dblElapsed) + " per sec) | Checksum: " +
+				dblChecksum);
+	}
+
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		JulianDate dtEffective = DateUtil.CreateFromYMD (2015, DateUtil.MARCH, 12);
+
+		int iNumSwap = 100;
+
+		RunScenario ("Day-by-Day Holiday Walk  ", false, dtEffective, iNumSwap);
+
+		RunScenario ("Compiled Business Calendar", true, dtEffective, iNumSwap);
+	}
+}
@@ -0,0 +1,227 @@
+
+package org.drip.sample.option;
+
+import org.drip.pricer.option.*;
+import org.drip.quant.common.FormatUtil;
+import org.drip.service.api.CreditAnalytics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * RationalImpliedVolatility illustrates the stateless Price-only Black Scholes and Black Normal Implied
+ * 	Volatility Solvers: the Round-trip Accuracy across a Grid of Expiries and Strikes, and the Throughput
+ * 	against a Brent Root Search over the BlackScholesAlgorithm.
+ * 
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class RationalImpliedVolatility {
+
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		double dblForward = 100.;
+		double dblNormalForward = 0.03;
+		double dblDiscountRate = 0.02;
+		double[] adblTimeToExpiry = new double[] {0.1, 0.25, 0.5, 1., 2., 5., 10.};
+		double[] adblStrike = new double[] {50., 70., 80., 90., 95., 100., 105., 110., 120., 140., 200.};
+		double[] adblNormalStrike = new double[] {-0.01, 0., 0.01, 0.02, 0.025, 0.03, 0.035, 0.04, 0.05, 0.06,
+			0.08};
+
+		int iNumStrike = adblStrike.length;
+		int iNumExpiry = adblTimeToExpiry.length;
+		double[] adblForward = new double[iNumExpiry];
+		double[] adblNormalForward = new double[iNumExpiry];
+		double[] adblDiscountFactor = new double[iNumExpiry];
+		double[][] aadblPrice = new double[iNumExpiry][iNumStrike];
+		double[][] aadblVolatility = new double[iNumExpiry][iNumStrike];
+		double[][] aadblNormalPrice = new double[iNumExpiry][iNumStrike];
+		double[][] aadblNormalVolatility = new double[iNumExpiry][iNumStrike];
+		boolean[] abIsPut = new boolean[iNumStrike];
+		boolean[] abIsNormalPut = new boolean[iNumStrike];
+
+		for (int iStrike = 0; iStrike < iNumStrike; ++iStrike) {
+			abIsPut[iStrike] = adblStrike[iStrike] < dblForward;
+			abIsNormalPut[iStrike] = adblNormalStrike[iStrike] < dblNormalForward;
+		}
+
+		for (int iExpiry = 0; iExpiry < iNumExpiry; ++iExpiry) {
+			adblForward[iExpiry] = dblForward;
+			adblNormalForward[iExpiry] = dblNormalForward;
+			adblDiscountFactor[iExpiry] = Math.exp (-1. * dblDiscountRate * adblTimeToExpiry[iExpiry]);
+
+			for (int iStrike = 0; iStrike < iNumStrike; ++iStrike) {
+				double dblMoneyness = Math.log (adblStrike[iStrike] / dblForward);
+
+				aadblVolatility[iExpiry][iStrike] = 0.2 + 0.3 * dblMoneyness * dblMoneyness - 0.1 *
+					dblMoneyness;
+
+				aadblPrice[iExpiry][iStrike] = BlackScholesImpliedVolatility.Price (
+					adblStrike[iStrike],
+					adblTimeToExpiry[iExpiry],
+					dblForward,
+					adblDiscountFactor[iExpiry],
+					abIsPut[iStrike],
+					aadblVolatility[iExpiry][iStrike]
+				);
+
+				aadblNormalVolatility[iExpiry][iStrike] = 0.006 + 0.05 * Math.abs (adblNormalStrike[iStrike] -
+					dblNormalForward);
+
+				aadblNormalPrice[iExpiry][iStrike] = BlackNormalImpliedVolatility.Price (
+					adblNormalStrike[iStrike],
+					adblTimeToExpiry[iExpiry],
+					dblNormalForward,
+					adblDiscountFactor[iExpiry],
+					abIsNormalPut[iStrike],
+					aadblNormalVolatility[iExpiry][iStrike]
+				);
+			}
+		}
+
+		double[][] aadblImpliedVolatility = BlackScholesImpliedVolatility.ImplyGrid (
+			adblStrike,
+			adblTimeToExpiry,
+			adblForward,
+			adblDiscountFactor,
+			abIsPut,
+			aadblPrice
+		);
+
+		double[][] aadblImpliedNormalVolatility = BlackNormalImpliedVolatility.ImplyGrid (
+			adblNormalStrike,
+			adblTimeToExpiry,
+			adblNormalForward,
+			adblDiscountFactor,
+			abIsNormalPut,
+			aadblNormalPrice
+		);
+
+		System.out.println ("\n\t|-------------------------------------------------------|");
+
+		System.out.println ("\t|  EXPIRY  =>  MAX LOGNORMAL ERROR  |  MAX NORMAL ERROR  |");
+
+		System.out.println ("\t|-------------------------------------------------------|");
+
+		for (int iExpiry = 0; iExpiry < iNumExpiry; ++iExpiry) {
+			double dblMaxError = 0.;
+			double dblMaxNormalError = 0.;
+
+			for (int iStrike = 0; iStrike < iNumStrike; ++iStrike) {
+				dblMaxError = Math.max (dblMaxError, Math.abs (aadblImpliedVolatility[iExpiry][iStrike] /
+					aadblVolatility[iExpiry][iStrike] - 1.));
+
+				dblMaxNormalError = Math.max (dblMaxNormalError, Math.abs
+					(aadblImpliedNormalVolatility[iExpiry][iStrike] / aadblNormalVolatility[iExpiry][iStrike]
+						- 1.));
+			}
+
+			System.out.println ("\t|  " + FormatUtil.FormatDouble (adblTimeToExpiry[iExpiry], 2, 2, 1.) +
+				"  =>      " + String.format ("%.3e", dblMaxError) + "      |     " + String.format ("%.3e",
+					dblMaxNormalError) + "      |");
+		}
+
+		System.out.println ("\t|-------------------------------------------------------|");
+
+		int iNumRepetition = 1000;
+		double dblVolatilityChecksum = 0.;
+
+		long lStart = System.nanoTime();
+
+		for (int i = 0; i < iNumRepetition; ++i) {
+			double[][] aadblGrid = BlackScholesImpliedVolatility.ImplyGrid (
+				adblStrike,
+				adblTimeToExpiry,
+				adblForward,
+				adblDiscountFactor,
+				abIsPut,
+				aadblPrice
+			);
+
+			dblVolatilityChecksum += aadblGrid[0][0];
+		}
+
+		double dblRationalTime = (System.nanoTime() - lStart) * 1.e-03 / (iNumRepetition * iNumExpiry *
+			iNumStrike);
+
+		BlackScholesAlgorithm bsa = new BlackScholesAlgorithm();
+
+		iNumRepetition = 20;
+
+		lStart = System.nanoTime();
+
+		for (int i = 0; i < iNumRepetition; ++i) {
+			for (int iExpiry = 0; iExpiry < iNumExpiry; ++iExpiry) {
+				for (int iStrike = 0; iStrike < iNumStrike; ++iStrike) {
+					org.drip.function.deterministic.R1ToR1 auPrice = null;
+
+					final int iExpiryIndex = iExpiry;
+					final int iStrikeIndex = iStrike;
+					final double dblRiskFreeRate = dblDiscountRate;
+					final double[] adblExpiry = adblTimeToExpiry;
+					final double[] adblStrikeGrid = adblStrike;
+					final double[][] aadblPriceGrid = aadblPrice;
+					final BlackScholesAlgorithm bsaBrent = bsa;
+					final boolean bPut = abIsPut[iStrike];
+
+					auPrice = new org.drip.function.deterministic.R1ToR1 (null) {
+						@Override public double evaluate (
+							final double dblVolatility)
+							throws Exception
+						{
+							bsaBrent.compute (adblStrikeGrid[iStrikeIndex], adblExpiry[iExpiryIndex],
+								dblRiskFreeRate, dblForward, true, Math.abs (dblVolatility), true);
+
+							return (bPut ? bsaBrent.putPrice() : bsaBrent.callPrice()) -
+								aadblPriceGrid[iExpiryIndex][iStrikeIndex];
+						}
+					};
+
+					org.drip.function.solver1D.FixedPointFinderOutput fpop = new
+						org.drip.function.solver1D.FixedPointFinderBrent (0., auPrice, true).findRoot();
+
+					if (null != fpop && fpop.containsRoot()) dblVolatilityChecksum += fpop.getRoot();
+				}
+			}
+		}
+
+		double dblBrentTime = (System.nanoTime() - lStart) * 1.e-03 / (iNumRepetition * iNumExpiry *
+			iNumStrike);
+
+		System.out.println ("\n\tRational Implied Volatility: " + FormatUtil.FormatDouble (dblRationalTime, 1,
+			2, 1.) + " micro-sec per Quote");
+
+		System.out.println ("\tBrent Root Search:           " + FormatUtil.FormatDouble (dblBrentTime, 1, 2,
+			1.) + " micro-sec per Quote");
+
+		System.out.println ("\tChecksum: " + FormatUtil.FormatDouble (dblVolatilityChecksum, 1, 4, 1.));
+	}
+}
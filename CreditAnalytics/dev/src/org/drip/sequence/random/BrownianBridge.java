@@ -0,0 +1,205 @@
+
+package org.drip.sequence.random;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BrownianBridge constructs the Wiener Path over the specified Time Grid off of a Vector of Independent
+ * 	Standard Normals in the Brownian Bridge Order: the first Normal sets the Terminal Value, and each of the
+ * 	subsequent ones fills the Mid-point of the widest remaining Gap conditional on its End Points. Paired
+ * 	with a Low Discrepancy Sequence, this concentrates most of the Path Variance onto its leading, best
+ * 	distributed, Dimensions.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BrownianBridge {
+	private int[] _aiLeftIndex = null;
+	private double[] _adblTime = null;
+	private int[] _aiRightIndex = null;
+	private int[] _aiBridgeIndex = null;
+	private double[] _adblStdDev = null;
+	private double[] _adblLeftWeight = null;
+	private double[] _adblRightWeight = null;
+
+	/**
+	 * BrownianBridge constructor
+	 *
+	 * @param adblTime Array of the strictly increasing, positive, Path Times (the Path starts at Time 0)
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public BrownianBridge (
+		final double[] adblTime)
+		throws java.lang.Exception
+	{
+		if (null == adblTime || 0 == adblTime.length || !org.drip.quant.common.NumberUtil.IsValid (adblTime))
+			throw new java.lang.Exception ("BrownianBridge ctr: Invalid Inputs");
+
+		int iNumStep = adblTime.length;
+
+		for (int i = 0; i < iNumStep; ++i) {
+			if (adblTime[i] <= (0 == i ? 0. : adblTime[i - 1]))
+				throw new java.lang.Exception ("BrownianBridge ctr: Invalid Inputs");
+		}
+
+		_adblTime = adblTime;
+		int[] aiMap = new int[iNumStep];
+		_aiLeftIndex = new int[iNumStep];
+		_aiRightIndex = new int[iNumStep];
+		_aiBridgeIndex = new int[iNumStep];
+		_adblStdDev = new double[iNumStep];
+		_adblLeftWeight = new double[iNumStep];
+		_adblRightWeight = new double[iNumStep];
+
+		aiMap[iNumStep - 1] = 1;
+		_aiBridgeIndex[0] = iNumStep - 1;
+		_adblStdDev[0] = java.lang.Math.sqrt (adblTime[iNumStep - 1]);
+
+		for (int i = 1, j = 0; i < iNumStep; ++i) {
+			while (0 != aiMap[j]) ++j;
+
+			int k = j;
+
+			while (0 == aiMap[k]) ++k;
+
+			int l = j + ((k - 1 - j) >> 1);
+			aiMap[l] = i;
+			_aiLeftIndex[i] = j;
+			_aiRightIndex[i] = k;
+			_aiBridgeIndex[i] = l;
+			double dblLeftTime = 0 == j ? 0. : adblTime[j - 1];
+			double dblGap = adblTime[k] - dblLeftTime;
+			_adblLeftWeight[i] = (adblTime[k] - adblTime[l]) / dblGap;
+			_adblRightWeight[i] = (adblTime[l] - dblLeftTime) / dblGap;
+
+			_adblStdDev[i] = java.lang.Math.sqrt ((adblTime[l] - dblLeftTime) * (adblTime[k] - adblTime[l]) /
+				dblGap);
+
+			if ((j = k + 1) >= iNumStep) j = 0;
+		}
+	}
+
+	/**
+	 * Retrieve the Path Times
+	 *
+	 * @return The Path Times
+	 */
+
+	public double[] time()
+	{
+		return _adblTime;
+	}
+
+	/**
+	 * Retrieve the Number of Path Steps
+	 *
+	 * @return The Number of Path Steps
+	 */
+
+	public int numStep()
+	{
+		return _adblTime.length;
+	}
+
+	/**
+	 * Construct the Wiener Path Values at the Path Times off of the Standard Normals
+	 *
+	 * @param adblNormal Array of the Independent Standard Normals in the Bridge Order
+	 * @param adblPath Array to be filled with the Wiener Path Values
+	 *
+	 * @return TRUE => The Path successfully constructed
+	 */
+
+	public boolean path (
+		final double[] adblNormal,
+		final double[] adblPath)
+	{
+		int iNumStep = _adblTime.length;
+
+		if (null == adblNormal || iNumStep != adblNormal.length || null == adblPath || iNumStep !=
+			adblPath.length)
+			return false;
+
+		adblPath[iNumStep - 1] = _adblStdDev[0] * adblNormal[0];
+
+		for (int i = 1; i < iNumStep; ++i) {
+			int j = _aiLeftIndex[i];
+			int l = _aiBridgeIndex[i];
+
+			adblPath[l] = (0 == j ? 0. : _adblLeftWeight[i] * adblPath[j - 1]) + _adblRightWeight[i] *
+				adblPath[_aiRightIndex[i]] + _adblStdDev[i] * adblNormal[i];
+		}
+
+		return true;
+	}
+
+	/**
+	 * Construct the Wiener Increments over the successive Path Time Intervals off of the Standard Normals
+	 *
+	 * @param adblNormal Array of the Independent Standard Normals in the Bridge Order
+	 * @param adblIncrement Array to be filled with the Wiener Increments
+	 *
+	 * @return TRUE => The Increments successfully constructed
+	 */
+
+	public boolean increments (
+		final double[] adblNormal,
+		final double[] adblIncrement)
+	{
+		if (!path (adblNormal, adblIncrement)) return false;
+
+		for (int i = adblIncrement.length - 1; i > 0; --i)
+			adblIncrement[i] -= adblIncrement[i - 1];
+
+		return true;
+	}
+
+	/**
+	 * Construct the Wiener Increments scaled to Unit Variance, i.e., Standard Normals in the Time Order,
+	 * 	suitable for Evolvers that scale the Draws by the Square Root of the Time Step themselves
+	 *
+	 * @param adblNormal Array of the Independent Standard Normals in the Bridge Order
+	 * @param adblStandardIncrement Array to be filled with the Unit Variance Increments
+	 *
+	 * @return TRUE => The Increments successfully constructed
+	 */
+
+	public boolean standardIncrements (
+		final double[] adblNormal,
+		final double[] adblStandardIncrement)
+	{
+		if (!increments (adblNormal, adblStandardIncrement)) return false;
+
+		for (int i = 0; i < adblStandardIncrement.length; ++i)
+			adblStandardIncrement[i] /= java.lang.Math.sqrt (_adblTime[i] - (0 == i ? 0. : _adblTime[i - 1]));
+
+		return true;
+	}
+}
@@ -37,6 +37,7 @@ package org.drip.sequence.random;
 public class MultivariateSequenceGenerator {
 	private double[][] _aadblCholesky = null;
 	private double[][] _aadblCorrelation = null;
+	private double[] _adblUncorrelatedRandom = null;
 	private org.drip.sequence.random.UnivariateSequenceGenerator[] _aUSG = null;
 
 	/**
@@ -120,8 +121,32 @@ public class MultivariateSequenceGenerator {
 		return _aUSG.length;
 	}
 
+	protected boolean correlatedFill (
+		final double[] adblRandom,
+		final double[] adblUncorrelatedRandom)
+	{
+		int iNumVariate = _aUSG.length;
+
+		if (null == adblRandom || iNumVariate != adblRandom.length || null == adblUncorrelatedRandom ||
+			iNumVariate != adblUncorrelatedRandom.length)
+			return false;
+
+		for (int i = 0; i < iNumVariate; ++i)
+			adblUncorrelatedRandom[i] = _aUSG[i].random();
+
+		for (int i = 0; i < iNumVariate; ++i) {
+			adblRandom[i] = 0.;
+
+			for (int j = 0; j <= i; ++j)
+				adblRandom[i] += _aadblCholesky[i][j] * adblUncorrelatedRandom[j];
+		}
+
+		return true;
+	}
+
 	/**
-	 * Generate the Set of Multivariate Random Numbers according to the specified rule
+	 * Generate the Set of Multivariate Random Numbers according to the specified rule. The Uncorrelated
+	 * 	Draws are staged in a Call-local Array, so concurrent Callers do not share any Scratch Space.
 	 * 
 	 * @return The Set of Multivariate Random Numbers
 	 */
@@ -130,18 +155,25 @@ public class MultivariateSequenceGenerator {
 	{
 		int iNumVariate = _aUSG.length;
 		double[] adblRandom = new double[iNumVariate];
-		double[] adblUncorrelatedRandom = new double[iNumVariate];
 
-		for (int i = 0; i < iNumVariate; ++i)
-			adblUncorrelatedRandom[i] = _aUSG[i].random();
+		return correlatedFill (adblRandom, new double[iNumVariate]) ? adblRandom : null;
+	}
 
-		for (int i = 0; i < iNumVariate; ++i) {
-			adblRandom[i] = 0.;
+	/**
+	 * Fill the Array with the Set of Multivariate Random Numbers generated according to the specified rule.
+	 * 	The Uncorrelated Draws are staged in a Buffer owned by this Generator, so no Arrays are allocated
+	 * 	per Draw; the Generator (like its Univariate Generators) is meant to be owned by a single Thread.
+	 * 
+	 * @param adblRandom The Array to be filled (One Entry per Variate)
+	 * 
+	 * @return TRUE => The Array successfully filled
+	 */
 
-			for (int j = 0; j < iNumVariate; ++j)
-				adblRandom[i] += _aadblCholesky[i][j] * adblUncorrelatedRandom[j];
-		}
+	public boolean fill (
+		final double[] adblRandom)
+	{
+		if (null == _adblUncorrelatedRandom) _adblUncorrelatedRandom = new double[_aUSG.length];
 
-		return adblRandom;
+		return correlatedFill (adblRandom, _adblUncorrelatedRandom);
 	}
 }
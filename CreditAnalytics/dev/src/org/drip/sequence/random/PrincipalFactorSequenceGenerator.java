@@ -38,6 +38,7 @@ package org.drip.sequence.random;
 public class PrincipalFactorSequenceGenerator extends org.drip.sequence.random.MultivariateSequenceGenerator
 {
 	private double[][] _aadblFactor = null;
+	private double[] _adblBaseRandom = null;
 	private double[] _adblFactorWeight = null;
 
 	/**
@@ -123,15 +124,15 @@ public class PrincipalFactorSequenceGenerator extends org.drip.sequence.random.M
 		return _adblFactorWeight;
 	}
 
-	@Override public double[] random()
+	private boolean project (
+		final double[] adblBaseRandom,
+		final double[] adblRandom)
 	{
-		double[] adblBaseRandom = super.random();
-
-		int iNumVariate = _aadblFactor[0].length;
 		int iNumFactor = _adblFactorWeight.length;
-		double[] adblRandom = new double[iNumFactor];
 
-		if (iNumFactor == iNumVariate) return adblBaseRandom;
+		if (null == adblRandom || iNumFactor != adblRandom.length) return false;
+
+		int iNumVariate = adblBaseRandom.length;
 
 		for (int i = 0; i < iNumFactor; ++i) {
 			adblRandom[i] = 0.;
@@ -140,6 +141,51 @@ public class PrincipalFactorSequenceGenerator extends org.drip.sequence.random.M
 				adblRandom[i] += _aadblFactor[i][j] * adblBaseRandom[j];
 		}
 
-		return adblRandom;
+		return true;
+	}
+
+	/**
+	 * Generate the Principal Factor Random Numbers (One Entry per Factor). The Base and the Uncorrelated
+	 * 	Draws are staged in Call-local Arrays, so concurrent Callers do not share any Scratch Space.
+	 * 
+	 * @return The Principal Factor Random Numbers
+	 */
+
+	@Override public double[] random()
+	{
+		int iNumVariate = _aadblFactor[0].length;
+		int iNumFactor = _adblFactorWeight.length;
+		double[] adblRandom = new double[iNumFactor];
+		double[] adblUncorrelatedRandom = new double[iNumVariate];
+
+		if (iNumFactor == iNumVariate)
+			return correlatedFill (adblRandom, adblUncorrelatedRandom) ? adblRandom : null;
+
+		double[] adblBaseRandom = new double[iNumVariate];
+
+		return correlatedFill (adblBaseRandom, adblUncorrelatedRandom) && project (adblBaseRandom,
+			adblRandom) ? adblRandom : null;
+	}
+
+	/**
+	 * Fill the Array with the Principal Factor Random Numbers (One Entry per Factor) off of a Buffer owned
+	 * 	by this Generator - the Generator is then meant to be owned by a single Thread
+	 * 
+	 * @param adblRandom The Array to be filled
+	 * 
+	 * @return TRUE => The Array successfully filled
+	 */
+
+	@Override public boolean fill (
+		final double[] adblRandom)
+	{
+		int iNumVariate = _aadblFactor[0].length;
+		int iNumFactor = _adblFactorWeight.length;
+
+		if (iNumFactor == iNumVariate) return super.fill (adblRandom);
+
+		if (null == _adblBaseRandom) _adblBaseRandom = new double[iNumVariate];
+
+		return super.fill (_adblBaseRandom) && project (_adblBaseRandom, adblRandom);
 	}
 }
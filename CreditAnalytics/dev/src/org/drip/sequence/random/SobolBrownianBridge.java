@@ -0,0 +1,175 @@
+
+package org.drip.sequence.random;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * SobolBrownianBridge generates the Quasi-random Multi-factor Wiener Increments over a Time Grid, by mapping
+ * 	the Points of a SobolSequence onto Standard Normals (using Gaussian.RationalInverseCDF, with Relative
+ * 	Error below 1.15e-09), and then feeding them to a per-Factor BrownianBridge. The Sobol Dimensions are
+ * 	laid out Bridge Step Major, so the leading Dimensions drive the Terminal Values of all the Factors.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class SobolBrownianBridge {
+	private int _iNumFactor = -1;
+	private double[] _adblPoint = null;
+	private double[] _adblNormal = null;
+	private org.drip.sequence.random.SobolSequence _ss = null;
+	private org.drip.sequence.random.BrownianBridge _bb = null;
+
+	/**
+	 * SobolBrownianBridge constructor
+	 *
+	 * @param iNumFactor The Number of Factors
+	 * @param adblTime Array of the strictly increasing, positive, Path Times
+	 * @param lDirectionSeed The Sobol Direction Seed beyond the Joe-Kuo Table
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public SobolBrownianBridge (
+		final int iNumFactor,
+		final double[] adblTime,
+		final long lDirectionSeed)
+		throws java.lang.Exception
+	{
+		if (0 >= (_iNumFactor = iNumFactor))
+			throw new java.lang.Exception ("SobolBrownianBridge ctr: Invalid Inputs");
+
+		_bb = new org.drip.sequence.random.BrownianBridge (adblTime);
+
+		int iNumStep = adblTime.length;
+		_adblNormal = new double[iNumStep];
+		_adblPoint = new double[iNumFactor * iNumStep];
+
+		_ss = new org.drip.sequence.random.SobolSequence (iNumFactor * iNumStep, lDirectionSeed);
+	}
+
+	/**
+	 * SobolBrownianBridge constructor using the Default Sobol Direction Seed
+	 *
+	 * @param iNumFactor The Number of Factors
+	 * @param adblTime Array of the strictly increasing, positive, Path Times
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public SobolBrownianBridge (
+		final int iNumFactor,
+		final double[] adblTime)
+		throws java.lang.Exception
+	{
+		this (iNumFactor, adblTime, org.drip.sequence.random.SobolSequence.DEFAULT_DIRECTION_SEED);
+	}
+
+	/**
+	 * Retrieve the Number of Factors
+	 *
+	 * @return The Number of Factors
+	 */
+
+	public int numFactor()
+	{
+		return _iNumFactor;
+	}
+
+	/**
+	 * Retrieve the Underlying Sobol Sequence
+	 *
+	 * @return The Underlying Sobol Sequence
+	 */
+
+	public org.drip.sequence.random.SobolSequence sobol()
+	{
+		return _ss;
+	}
+
+	/**
+	 * Retrieve the Brownian Bridge
+	 *
+	 * @return The Brownian Bridge
+	 */
+
+	public org.drip.sequence.random.BrownianBridge bridge()
+	{
+		return _bb;
+	}
+
+	/**
+	 * Position the Generator at the specified Path Index (e.g., the Start of a Path Block)
+	 *
+	 * @param lPathIndex The Path Index (Indices start at 1)
+	 *
+	 * @return TRUE => The Generator successfully positioned
+	 */
+
+	public boolean seek (
+		final long lPathIndex)
+	{
+		return 0L < lPathIndex && _ss.seek (lPathIndex);
+	}
+
+	/**
+	 * Fill the Factor Wiener Increments of the next Path
+	 *
+	 * @param aadblIncrement The Array of the Factor Increments to be filled ([Factor][Step])
+	 * @param bStandardize TRUE => Scale the Increments to Unit Variance
+	 *
+	 * @return TRUE => The Increments successfully filled
+	 */
+
+	public boolean fill (
+		final double[][] aadblIncrement,
+		final boolean bStandardize)
+	{
+		int iNumStep = _adblNormal.length;
+
+		if (null == aadblIncrement || _iNumFactor != aadblIncrement.length || !_ss.fill (_adblPoint))
+			return false;
+
+		try {
+			for (int f = 0; f < _iNumFactor; ++f) {
+				for (int i = 0; i < iNumStep; ++i)
+					_adblNormal[i] = org.drip.measure.continuous.Gaussian.RationalInverseCDF (_adblPoint[i *
+						_iNumFactor + f]);
+
+				if (bStandardize ? !_bb.standardIncrements (_adblNormal, aadblIncrement[f]) :
+					!_bb.increments (_adblNormal, aadblIncrement[f]))
+					return false;
+			}
+
+			return true;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,326 @@
+
+package org.drip.sequence.random;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * SobolSequence generates the Multi-dimensional Sobol Low Discrepancy Sequence (Sobol (1967)) in the Gray
+ * 	Code Order of Antonov and Saleev (1979), using 32 Bit Direction Numbers. The Primitive Polynomials are
+ * 	enumerated in the Order of increasing Degree; the Initial Direction Numbers of the first 21 Dimensions
+ * 	are those of Joe and Kuo (2008), and those of the higher Dimensions are Odd Integers drawn off of a
+ * 	seeded SplittableStream. The Origin is skipped, so the first Point is that of Index 1.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class SobolSequence {
+	private static final int BIT_COUNT = 32;
+	private static final long MAX_INDEX = 1L << BIT_COUNT;
+	private static final double POINT_UNIT = 1. / MAX_INDEX;
+
+	/**
+	 * Default Seed used for the Initial Direction Numbers beyond the Joe-Kuo Table
+	 */
+
+	public static final long DEFAULT_DIRECTION_SEED = 1L;
+
+	/*
+	 * Joe-Kuo Initial Direction Numbers m_1, ..., m_s of the Dimensions 2 through 21
+	 */
+
+	private static final int[][] JOE_KUO_INITIAL = new int[][] {
+		{1},
+		{1, 3},
+		{1, 3, 1},
+		{1, 1, 1},
+		{1, 1, 3, 3},
+		{1, 3, 5, 13},
+		{1, 1, 5, 5, 17},
+		{1, 1, 5, 5, 5},
+		{1, 1, 7, 11, 19},
+		{1, 1, 5, 1, 1},
+		{1, 1, 1, 3, 11},
+		{1, 3, 5, 5, 31},
+		{1, 3, 3, 9, 7, 49},
+		{1, 1, 1, 15, 21, 21},
+		{1, 3, 1, 13, 27, 49},
+		{1, 1, 1, 15, 7, 5},
+		{1, 3, 1, 15, 13, 25},
+		{1, 1, 5, 5, 19, 61},
+		{1, 3, 7, 11, 23, 15, 103},
+		{1, 3, 7, 13, 13, 15, 69}
+	};
+
+	private long _lIndex = -1L;
+	private int[] _aiPoint = null;
+	private int[][] _aaiDirection = null;
+
+	private static final long PolynomialMultiplyMod (
+		final long lA,
+		final long lB,
+		final long lModulus,
+		final int iDegree)
+	{
+		long lProduct = 0L;
+		long lShifted = lA;
+
+		for (int i = 0; i < iDegree; ++i) {
+			if (0L != ((lB >> i) & 1L)) lProduct ^= lShifted;
+
+			if (0L != ((lShifted <<= 1) & (1L << iDegree))) lShifted ^= lModulus;
+		}
+
+		return lProduct;
+	}
+
+	private static final long PolynomialPowerMod (
+		final long lExponent,
+		final long lModulus,
+		final int iDegree)
+	{
+		long lPower = 1L;
+		long lBase = 2L;
+		long lRemaining = lExponent;
+
+		while (0L != lRemaining) {
+			if (0L != (lRemaining & 1L)) lPower = PolynomialMultiplyMod (lPower, lBase, lModulus, iDegree);
+
+			lBase = PolynomialMultiplyMod (lBase, lBase, lModulus, iDegree);
+
+			lRemaining >>= 1;
+		}
+
+		return lPower;
+	}
+
+	private static final boolean IsPrimitive (
+		final long lModulus,
+		final int iDegree)
+	{
+		if (1 == iDegree) return true;
+
+		long lOrder = (1L << iDegree) - 1L;
+
+		if (1L != PolynomialPowerMod (lOrder, lModulus, iDegree)) return false;
+
+		long lRemaining = lOrder;
+
+		for (long lFactor = 2L; 1L != lRemaining; ++lFactor) {
+			if (lFactor * lFactor > lRemaining) lFactor = lRemaining;
+
+			if (0L != lRemaining % lFactor) continue;
+
+			if (1L == PolynomialPowerMod (lOrder / lFactor, lModulus, iDegree)) return false;
+
+			while (0L == lRemaining % lFactor)
+				lRemaining /= lFactor;
+		}
+
+		return true;
+	}
+
+	private static final int[][] DirectionNumbers (
+		final int iDimension,
+		final long lDirectionSeed)
+	{
+		int[][] aaiDirection = new int[iDimension][BIT_COUNT];
+
+		for (int k = 0; k < BIT_COUNT; ++k)
+			aaiDirection[0][k] = 1 << (BIT_COUNT - 1 - k);
+
+		int iDegree = 1;
+		int iInner = 0;
+
+		org.drip.sequence.random.SplittableStream ss = new org.drip.sequence.random.SplittableStream
+			(lDirectionSeed);
+
+		for (int d = 1; d < iDimension; ++d) {
+			while (true) {
+				if (iInner >= 1 << (iDegree - 1)) {
+					if (++iDegree >= BIT_COUNT) return null;
+
+					iInner = 0;
+				}
+
+				if (IsPrimitive ((1L << iDegree) | ((long) iInner << 1) | 1L, iDegree)) break;
+
+				++iInner;
+			}
+
+			int[] aiDirection = aaiDirection[d];
+
+			for (int k = 0; k < iDegree; ++k) {
+				int iInitial = d <= JOE_KUO_INITIAL.length ? JOE_KUO_INITIAL[d - 1][k] : (int) (ss.nextLong()
+					>>> (64 - k - 1)) | 1;
+
+				aiDirection[k] = iInitial << (BIT_COUNT - 1 - k);
+			}
+
+			for (int k = iDegree; k < BIT_COUNT; ++k) {
+				aiDirection[k] = aiDirection[k - iDegree] ^ (aiDirection[k - iDegree] >>> iDegree);
+
+				for (int j = 1; j < iDegree; ++j) {
+					if (0 != ((iInner >> (iDegree - 1 - j)) & 1)) aiDirection[k] ^= aiDirection[k - j];
+				}
+			}
+
+			++iInner;
+		}
+
+		return aaiDirection;
+	}
+
+	/**
+	 * SobolSequence constructor
+	 *
+	 * @param iDimension The Dimension of the Sequence
+	 * @param lDirectionSeed The Seed of the Initial Direction Numbers beyond the Joe-Kuo Table
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public SobolSequence (
+		final int iDimension,
+		final long lDirectionSeed)
+		throws java.lang.Exception
+	{
+		if (0 >= iDimension || null == (_aaiDirection = DirectionNumbers (iDimension, lDirectionSeed)))
+			throw new java.lang.Exception ("SobolSequence ctr: Invalid Inputs");
+
+		_aiPoint = new int[iDimension];
+
+		seek (1L);
+	}
+
+	/**
+	 * SobolSequence constructor using the Default Direction Seed
+	 *
+	 * @param iDimension The Dimension of the Sequence
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public SobolSequence (
+		final int iDimension)
+		throws java.lang.Exception
+	{
+		this (iDimension, DEFAULT_DIRECTION_SEED);
+	}
+
+	/**
+	 * Retrieve the Dimension of the Sequence
+	 *
+	 * @return The Dimension of the Sequence
+	 */
+
+	public int dimension()
+	{
+		return _aiPoint.length;
+	}
+
+	/**
+	 * Retrieve the Index of the next Point
+	 *
+	 * @return The Index of the next Point
+	 */
+
+	public long index()
+	{
+		return _lIndex;
+	}
+
+	/**
+	 * Position the Sequence at the specified Index, so that each Thread/Path Block may generate its own
+	 * 	Section of the Sequence
+	 *
+	 * @param lIndex The Index of the next Point
+	 *
+	 * @return TRUE => The Sequence successfully positioned
+	 */
+
+	public boolean seek (
+		final long lIndex)
+	{
+		if (0L > lIndex || MAX_INDEX <= lIndex) return false;
+
+		long lGrayCode = lIndex ^ (lIndex >> 1);
+
+		for (int d = 0; d < _aiPoint.length; ++d) {
+			int iPoint = 0;
+
+			for (int k = 0; k < BIT_COUNT; ++k) {
+				if (0L != ((lGrayCode >> k) & 1L)) iPoint ^= _aaiDirection[d][k];
+			}
+
+			_aiPoint[d] = iPoint;
+		}
+
+		_lIndex = lIndex;
+		return true;
+	}
+
+	/**
+	 * Fill the Array with the next Point of the Sequence, and advance the Sequence
+	 *
+	 * @param adblPoint The Array to be filled (One Entry per Dimension)
+	 *
+	 * @return TRUE => The Array successfully filled
+	 */
+
+	public boolean fill (
+		final double[] adblPoint)
+	{
+		int iDimension = _aiPoint.length;
+
+		if (null == adblPoint || iDimension != adblPoint.length || MAX_INDEX <= _lIndex) return false;
+
+		int iBit = java.lang.Long.numberOfTrailingZeros (~_lIndex);
+
+		for (int d = 0; d < iDimension; ++d) {
+			adblPoint[d] = (0xFFFFFFFFL & _aiPoint[d]) * POINT_UNIT;
+
+			if (BIT_COUNT > iBit) _aiPoint[d] ^= _aaiDirection[d][iBit];
+		}
+
+		++_lIndex;
+		return true;
+	}
+
+	/**
+	 * Generate the next Point of the Sequence
+	 *
+	 * @return The next Point of the Sequence
+	 */
+
+	public double[] next()
+	{
+		double[] adblPoint = new double[_aiPoint.length];
+
+		return fill (adblPoint) ? adblPoint : null;
+	}
+}
@@ -0,0 +1,145 @@
+
+package org.drip.sequence.random;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * SplittableStream implements a Seeded, Splittable Stream of 64 Bit Random Draws based on the SplitMix64
+ * 	Generator of Steele, Lea, and Flood (2014). Each Stream is meant to be owned by a single Thread (or Path
+ * 	Block); independent Child Streams are generated either off of the Draws of this Stream (split), or
+ * 	deterministically off of the Root Seed and a Stream Index (substream), so that a Simulation partitioned
+ * 	into Path Blocks draws the same Numbers regardless of how the Blocks are scheduled across Threads.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class SplittableStream {
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+	private static final double DOUBLE_UNIT = 1. / (1L << 53);
+
+	private long _lState = 0L;
+	private long _lRootSeed = 0L;
+
+	private static final long Mix64 (
+		final long l)
+	{
+		long z = (l ^ (l >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * SplittableStream Constructor
+	 * 
+	 * @param lSeed The Root Seed
+	 */
+
+	public SplittableStream (
+		final long lSeed)
+	{
+		_lState = _lRootSeed = lSeed;
+	}
+
+	/**
+	 * Retrieve the Root Seed
+	 * 
+	 * @return The Root Seed
+	 */
+
+	public long seed()
+	{
+		return _lRootSeed;
+	}
+
+	/**
+	 * Draw the next 64 Bit Random Long
+	 * 
+	 * @return The 64 Bit Random Long
+	 */
+
+	public long nextLong()
+	{
+		return Mix64 (_lState += GOLDEN_GAMMA);
+	}
+
+	/**
+	 * Draw the next Uniform Random Number in [0, 1)
+	 * 
+	 * @return The Uniform Random Number
+	 */
+
+	public double nextDouble()
+	{
+		return (nextLong() >>> 11) * DOUBLE_UNIT;
+	}
+
+	/**
+	 * Fill the Array with Uniform Random Numbers in [0, 1)
+	 * 
+	 * @param adblUniform The Array to be filled
+	 * 
+	 * @return TRUE => The Array successfully filled
+	 */
+
+	public boolean fill (
+		final double[] adblUniform)
+	{
+		if (null == adblUniform) return false;
+
+		for (int i = 0; i < adblUniform.length; ++i)
+			adblUniform[i] = (Mix64 (_lState += GOLDEN_GAMMA) >>> 11) * DOUBLE_UNIT;
+
+		return true;
+	}
+
+	/**
+	 * Split off a Child Stream seeded off of the next Draw of this Stream
+	 * 
+	 * @return The Child Stream
+	 */
+
+	public SplittableStream split()
+	{
+		return new SplittableStream (Mix64 (nextLong()));
+	}
+
+	/**
+	 * Generate the Child Stream at the specified Index. The Child depends only on the Root Seed and the
+	 * 	Index, and not on the Draws made off of this Stream.
+	 * 
+	 * @param lIndex The Stream Index (e.g., the Path Block Index)
+	 * 
+	 * @return The Child Stream
+	 */
+
+	public SplittableStream substream (
+		final long lIndex)
+	{
+		return new SplittableStream (Mix64 (_lRootSeed ^ Mix64 ((lIndex + 1L) * GOLDEN_GAMMA)));
+	}
+}
@@ -44,6 +44,25 @@ public abstract class UnivariateSequenceGenerator {
 
 	public abstract double random();
 
+	/**
+	 * Fill the Array with Random Numbers generated according to the specified rule
+	 * 
+	 * @param adblRandom The Array to be filled
+	 * 
+	 * @return TRUE => The Array successfully filled
+	 */
+
+	public boolean fill (
+		final double[] adblRandom)
+	{
+		if (null == adblRandom) return false;
+
+		for (int i = 0; i < adblRandom.length; ++i)
+			adblRandom[i] = random();
+
+		return true;
+	}
+
 	/**
 	 * Generate a Random Sequence
 	 * 
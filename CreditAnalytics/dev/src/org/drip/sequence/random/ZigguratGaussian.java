@@ -0,0 +1,214 @@
+
+package org.drip.sequence.random;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * ZigguratGaussian implements the Univariate Gaussian Random Number Generator using the 128 Layer Ziggurat
+ * 	Method of Marsaglia and Tsang (2000), in the Floating Point Form of Doornik (2005). Draws come off of a
+ * 	dedicated SplittableStream, and a single 64 Bit Draw supplies both the Layer and the Uniform in most
+ * 	Cases, so no Output is discarded.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class ZigguratGaussian extends org.drip.sequence.random.UnivariateSequenceGenerator {
+	private static final int LAYER_COUNT = 128;
+	private static final double TAIL_START = 3.442619855899;
+	private static final double LAYER_AREA = 9.91256303526217e-3;
+	private static final double DOUBLE_UNIT = 1. / (1L << 53);
+
+	private static final double[] LAYER_X = LayerX();
+
+	private static final double[] LAYER_RATIO = LayerRatio();
+
+	private double _dblMean = java.lang.Double.NaN;
+	private double _dblSigma = java.lang.Double.NaN;
+	private double _dblVariance = java.lang.Double.NaN;
+	private org.drip.sequence.random.SplittableStream _ss = null;
+
+	private static final double[] LayerX()
+	{
+		double[] adblX = new double[LAYER_COUNT + 1];
+
+		double dblF = java.lang.Math.exp (-0.5 * TAIL_START * TAIL_START);
+
+		adblX[0] = LAYER_AREA / dblF;
+		adblX[1] = TAIL_START;
+		adblX[LAYER_COUNT] = 0.;
+
+		for (int i = 2; i < LAYER_COUNT; ++i) {
+			adblX[i] = java.lang.Math.sqrt (-2. * java.lang.Math.log (LAYER_AREA / adblX[i - 1] + dblF));
+
+			dblF = java.lang.Math.exp (-0.5 * adblX[i] * adblX[i]);
+		}
+
+		return adblX;
+	}
+
+	private static final double[] LayerRatio()
+	{
+		double[] adblRatio = new double[LAYER_COUNT];
+
+		for (int i = 0; i < LAYER_COUNT; ++i)
+			adblRatio[i] = LAYER_X[i + 1] / LAYER_X[i];
+
+		return adblRatio;
+	}
+
+	private double tail (
+		final boolean bNegative)
+	{
+		double dblX = 0.;
+		double dblY = 0.;
+
+		do {
+			dblX = java.lang.Math.log (1. - _ss.nextDouble()) / TAIL_START;
+
+			dblY = java.lang.Math.log (1. - _ss.nextDouble());
+		} while (-2. * dblY < dblX * dblX);
+
+		return bNegative ? dblX - TAIL_START : TAIL_START - dblX;
+	}
+
+	private double standardNormal()
+	{
+		while (true) {
+			long lDraw = _ss.nextLong();
+
+			int iLayer = (int) (lDraw & (LAYER_COUNT - 1));
+
+			double dblU = 2. * (lDraw >>> 11) * DOUBLE_UNIT - 1.;
+
+			if (java.lang.Math.abs (dblU) < LAYER_RATIO[iLayer]) return dblU * LAYER_X[iLayer];
+
+			if (0 == iLayer) return tail (dblU < 0.);
+
+			double dblX = dblU * LAYER_X[iLayer];
+
+			double dblF0 = java.lang.Math.exp (-0.5 * (LAYER_X[iLayer] * LAYER_X[iLayer] - dblX * dblX));
+
+			double dblF1 = java.lang.Math.exp (-0.5 * (LAYER_X[iLayer + 1] * LAYER_X[iLayer + 1] - dblX *
+				dblX));
+
+			if (dblF1 + _ss.nextDouble() * (dblF0 - dblF1) < 1.) return dblX;
+		}
+	}
+
+	/**
+	 * ZigguratGaussian Constructor
+	 * 
+	 * @param dblMean The Mean
+	 * @param dblVariance The Variance
+	 * @param ss The Splittable Stream the Draws come off of
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public ZigguratGaussian (
+		final double dblMean,
+		final double dblVariance,
+		final org.drip.sequence.random.SplittableStream ss)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (_dblMean = dblMean) ||
+			!org.drip.quant.common.NumberUtil.IsValid (_dblVariance = dblVariance) || _dblVariance <= 0. ||
+				null == (_ss = ss))
+			throw new java.lang.Exception ("ZigguratGaussian ctr: Invalid Inputs");
+
+		_dblSigma = java.lang.Math.sqrt (_dblVariance);
+	}
+
+	/**
+	 * ZigguratGaussian Constructor off of a fresh Stream with the specified Seed
+	 * 
+	 * @param dblMean The Mean
+	 * @param dblVariance The Variance
+	 * @param lSeed The Stream Seed
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public ZigguratGaussian (
+		final double dblMean,
+		final double dblVariance,
+		final long lSeed)
+		throws java.lang.Exception
+	{
+		this (dblMean, dblVariance, new org.drip.sequence.random.SplittableStream (lSeed));
+	}
+
+	/**
+	 * Retrieve the Mean of the Ziggurat Gaussian
+	 * 
+	 * @return Mean of the Ziggurat Gaussian
+	 */
+
+	public double mean()
+	{
+		return _dblMean;
+	}
+
+	/**
+	 * Retrieve the Variance of the Ziggurat Gaussian
+	 * 
+	 * @return Variance of the Ziggurat Gaussian
+	 */
+
+	public double variance()
+	{
+		return _dblVariance;
+	}
+
+	/**
+	 * Retrieve the Underlying Splittable Stream
+	 * 
+	 * @return The Underlying Splittable Stream
+	 */
+
+	public org.drip.sequence.random.SplittableStream stream()
+	{
+		return _ss;
+	}
+
+	@Override public double random()
+	{
+		return _dblMean + _dblSigma * standardNormal();
+	}
+
+	@Override public boolean fill (
+		final double[] adblRandom)
+	{
+		if (null == adblRandom) return false;
+
+		for (int i = 0; i < adblRandom.length; ++i)
+			adblRandom[i] = _dblMean + _dblSigma * standardNormal();
+
+		return true;
+	}
+}
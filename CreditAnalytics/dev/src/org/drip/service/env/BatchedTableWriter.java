@@ -0,0 +1,402 @@
+
+package org.drip.service.env;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BatchedTableWriter writes (Delete Key, Insert Row) Pairs through Prepared Statements using JDBC Batching,
+ * 	instead of issuing one literal SQL Round-trip per Statement. Prepared Statements are cached by their SQL,
+ * 	Parameters are bound from their Java Types (NaN/null Doubles are bound as SQL NULL), and the pending
+ * 	Batches are executed in the Order their SQL was first staged, so the Deletes of a Flush run ahead of its
+ * 	Inserts. A Flush is forced ahead of a Delete Key that is already pending, so re-staged Keys retain their
+ * 	per-Statement Semantics. A Key may also be deleted on its own, with no Row to replace it. The Connection
+ * 	is switched to Manual Commit for the Life of the Writer, with a Commit issued every Commit Interval
+ * 	Rows, and on Close.
+ *
+ * BatchedTableWriter is not Thread Safe - use the PipelinedTableWriter to feed it from other Threads.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BatchedTableWriter {
+
+	/**
+	 * Default Number of Rows per JDBC Batch
+	 */
+
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	/**
+	 * Default Number of Rows per Commit
+	 */
+
+	public static final int DEFAULT_COMMIT_INTERVAL = 10000;
+
+	private int _iBatchSize = -1;
+	private int _iNumPending = 0;
+	private long _lNumWritten = 0L;
+	private int _iCommitInterval = -1;
+	private int _iNumUncommitted = 0;
+	private boolean _bAutoCommit = false;
+	private java.sql.Connection _conn = null;
+	private java.util.Set<java.util.List<java.lang.Object>> _setPendingKey = new
+		java.util.HashSet<java.util.List<java.lang.Object>>();
+	private java.util.Map<java.lang.String, java.sql.PreparedStatement> _mapStatement = new
+		java.util.LinkedHashMap<java.lang.String, java.sql.PreparedStatement>();
+	private java.util.Set<java.lang.String> _setPendingSQL = new java.util.HashSet<java.lang.String>();
+
+	private static final void Bind (
+		final java.sql.PreparedStatement ps,
+		final java.lang.Object[] aobjParam)
+		throws java.sql.SQLException
+	{
+		for (int i = 0; i < aobjParam.length; ++i) {
+			java.lang.Object objParam = aobjParam[i];
+
+			if (null == objParam)
+				ps.setNull (i + 1, java.sql.Types.VARCHAR);
+			else if (objParam instanceof java.lang.Double) {
+				double dblParam = (java.lang.Double) objParam;
+
+				if (java.lang.Double.isNaN (dblParam))
+					ps.setNull (i + 1, java.sql.Types.DOUBLE);
+				else
+					ps.setDouble (i + 1, dblParam);
+			} else if (objParam instanceof java.lang.String)
+				ps.setString (i + 1, (java.lang.String) objParam);
+			else
+				ps.setObject (i + 1, objParam);
+		}
+	}
+
+	private java.sql.PreparedStatement statement (
+		final java.lang.String strSQL)
+		throws java.sql.SQLException
+	{
+		java.sql.PreparedStatement ps = _mapStatement.get (strSQL);
+
+		if (null == ps) _mapStatement.put (strSQL, ps = _conn.prepareStatement (strSQL));
+
+		return ps;
+	}
+
+	private void stage (
+		final java.lang.String strSQL,
+		final java.lang.Object[] aobjParam)
+		throws java.sql.SQLException
+	{
+		java.sql.PreparedStatement ps = statement (strSQL);
+
+		Bind (ps, aobjParam);
+
+		ps.addBatch();
+
+		_setPendingSQL.add (strSQL);
+	}
+
+	/**
+	 * BatchedTableWriter constructor
+	 *
+	 * @param conn The JDBC Connection
+	 * @param iBatchSize Number of Rows per JDBC Batch
+	 * @param iCommitInterval Number of Rows per Commit (Rounded up to a Multiple of the Batch Size)
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public BatchedTableWriter (
+		final java.sql.Connection conn,
+		final int iBatchSize,
+		final int iCommitInterval)
+		throws java.lang.Exception
+	{
+		if (null == (_conn = conn) || 0 >= (_iBatchSize = iBatchSize) || 0 >= (_iCommitInterval =
+			iCommitInterval))
+			throw new java.lang.Exception ("BatchedTableWriter ctr: Invalid Inputs");
+
+		if (_bAutoCommit = _conn.getAutoCommit()) _conn.setAutoCommit (false);
+	}
+
+	/**
+	 * BatchedTableWriter constructor using the Default Batch Size and Commit Interval
+	 *
+	 * @param conn The JDBC Connection
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public BatchedTableWriter (
+		final java.sql.Connection conn)
+		throws java.lang.Exception
+	{
+		this (conn, DEFAULT_BATCH_SIZE, DEFAULT_COMMIT_INTERVAL);
+	}
+
+	/**
+	 * Retrieve the Batch Size
+	 *
+	 * @return The Batch Size
+	 */
+
+	public int batchSize()
+	{
+		return _iBatchSize;
+	}
+
+	/**
+	 * Retrieve the Commit Interval
+	 *
+	 * @return The Commit Interval
+	 */
+
+	public int commitInterval()
+	{
+		return _iCommitInterval;
+	}
+
+	/**
+	 * Retrieve the Number of Rows written (i.e., executed) so far
+	 *
+	 * @return The Number of Rows written
+	 */
+
+	public long numWritten()
+	{
+		return _lNumWritten;
+	}
+
+	/**
+	 * Stage a Row for the Write, preceded by the Delete of its Key
+	 *
+	 * @param strDeleteSQL The Parameterized Delete SQL (null => No Delete)
+	 * @param aobjDeleteParam Array of the Delete SQL Parameters
+	 * @param strInsertSQL The Parameterized Insert SQL (null => Delete only)
+	 * @param aobjInsertParam Array of the Insert SQL Parameters
+	 *
+	 * @return TRUE => The Row successfully staged (and the Batches flushed if full)
+	 */
+
+	public boolean write (
+		final java.lang.String strDeleteSQL,
+		final java.lang.Object[] aobjDeleteParam,
+		final java.lang.String strInsertSQL,
+		final java.lang.Object[] aobjInsertParam)
+	{
+		if ((null == strDeleteSQL && null == strInsertSQL) || (null != strDeleteSQL && (strDeleteSQL.isEmpty()
+			|| null == aobjDeleteParam)) || (null != strInsertSQL && (strInsertSQL.isEmpty() || null ==
+				aobjInsertParam)))
+			return false;
+
+		try {
+			if (null != strDeleteSQL) {
+				java.util.List<java.lang.Object> lsKey = new java.util.ArrayList<java.lang.Object>
+					(aobjDeleteParam.length + 1);
+
+				lsKey.add (strDeleteSQL);
+
+				lsKey.addAll (java.util.Arrays.asList (aobjDeleteParam));
+
+				if (_setPendingKey.contains (lsKey) && !flush()) return false;
+
+				_setPendingKey.add (lsKey);
+
+				stage (strDeleteSQL, aobjDeleteParam);
+			}
+
+			if (null != strInsertSQL) stage (strInsertSQL, aobjInsertParam);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return ++_iNumPending < _iBatchSize || flush();
+	}
+
+	/**
+	 * Stage a Row for the Write
+	 *
+	 * @param strInsertSQL The Parameterized Insert SQL
+	 * @param aobjInsertParam Array of the Insert SQL Parameters
+	 *
+	 * @return TRUE => The Row successfully staged (and the Batches flushed if full)
+	 */
+
+	public boolean write (
+		final java.lang.String strInsertSQL,
+		final java.lang.Object[] aobjInsertParam)
+	{
+		return write (null, null, strInsertSQL, aobjInsertParam);
+	}
+
+	/**
+	 * Stage the Delete of a Key, with no Row to replace it
+	 *
+	 * @param strDeleteSQL The Parameterized Delete SQL
+	 * @param aobjDeleteParam Array of the Delete SQL Parameters
+	 *
+	 * @return TRUE => The Delete successfully staged (and the Batches flushed if full)
+	 */
+
+	public boolean delete (
+		final java.lang.String strDeleteSQL,
+		final java.lang.Object[] aobjDeleteParam)
+	{
+		return null != strDeleteSQL && write (strDeleteSQL, aobjDeleteParam, null, null);
+	}
+
+	/**
+	 * Execute the pending Batches, and Commit if the Commit Interval has been reached. On Failure all the
+	 * 	uncommitted Rows (including those of earlier Flushes) are rolled back, and taken off the Written
+	 * 	Count.
+	 *
+	 * @return TRUE => The pending Batches successfully executed
+	 */
+
+	public boolean flush()
+	{
+		if (0 == _iNumPending) return true;
+
+		try {
+			for (java.util.Map.Entry<java.lang.String, java.sql.PreparedStatement> me :
+				_mapStatement.entrySet()) {
+				if (_setPendingSQL.contains (me.getKey())) me.getValue().executeBatch();
+			}
+
+			_lNumWritten += _iNumPending;
+			_iNumUncommitted += _iNumPending;
+			_iNumPending = 0;
+
+			_setPendingSQL.clear();
+
+			_setPendingKey.clear();
+
+			if (_iNumUncommitted >= _iCommitInterval) {
+				_conn.commit();
+
+				_iNumUncommitted = 0;
+			}
+
+			return true;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		discard();
+
+		return false;
+	}
+
+	private boolean discard()
+	{
+		boolean bSuccess = true;
+
+		try {
+			for (java.sql.PreparedStatement ps : _mapStatement.values())
+				ps.clearBatch();
+
+			_conn.rollback();
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			bSuccess = false;
+		}
+
+		_lNumWritten -= _iNumUncommitted;
+		_iNumPending = 0;
+		_iNumUncommitted = 0;
+
+		_setPendingSQL.clear();
+
+		_setPendingKey.clear();
+
+		return bSuccess;
+	}
+
+	private boolean release()
+	{
+		boolean bSuccess = true;
+
+		for (java.sql.PreparedStatement ps : _mapStatement.values()) {
+			try {
+				ps.close();
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+			}
+		}
+
+		_mapStatement.clear();
+
+		try {
+			if (_bAutoCommit) _conn.setAutoCommit (true);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			bSuccess = false;
+		}
+
+		return bSuccess;
+	}
+
+	/**
+	 * Flush and Commit the pending Rows, close the Prepared Statements, and restore the Commit Mode of the
+	 * 	Connection
+	 *
+	 * @return TRUE => The pending Rows successfully written and committed
+	 */
+
+	public boolean close()
+	{
+		boolean bSuccess = flush();
+
+		try {
+			if (bSuccess && 0 != _iNumUncommitted) _conn.commit();
+
+			_iNumUncommitted = 0;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			bSuccess = false;
+		}
+
+		return release() && bSuccess;
+	}
+
+	/**
+	 * Discard the pending Batches, roll back the uncommitted Rows, close the Prepared Statements, and
+	 * 	restore the Commit Mode of the Connection. Used in place of the Close once the Writes can no longer
+	 * 	be trusted (e.g., after a Writer Failure that escaped the Flush).
+	 *
+	 * @return TRUE => The Rollback and the Restoration succeeded
+	 */
+
+	public boolean abort()
+	{
+		return discard() & release();
+	}
+}
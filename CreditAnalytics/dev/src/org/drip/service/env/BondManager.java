@@ -417,74 +417,161 @@ public class BondManager {
 		return null;
 	}
 
-	/**
-	 * Calculate the full set of bond measures for all available bonds given the same bid and ask prices.
-	 *  Depending upon the setting, may also generate the runs.
-	 * 
-	 * @param mpc org.drip.param.market.MarketParamSet containing the curves
-	 * @param dt Valuation date
-	 * @param dblBidPrice Bid Price
-	 * @param dblAskPrice Ask Price
-	 * 
-	 * @return Number of bonds successfully processed (excludes matured bonds)
-	 */
-
-	public static int CalcFullBondAnalytics (
+	private static final int ValueBondUniverse (
 		final org.drip.param.definition.ScenarioMarketParams mpc,
 		final org.drip.analytics.date.JulianDate dt,
+		final boolean bFromMarks,
 		final double dblBidPrice,
-		final double dblAskPrice)
+		final double dblAskPrice,
+		final int iParallelism,
+		final org.drip.service.env.BondMeasuresSink bms)
 	{
-		if (null == mpc || null == dt || java.lang.Double.isNaN (dblBidPrice) || java.lang.Double.isNaN
-			(dblAskPrice)) {
-			System.out.println ("Bad params into CalcFullBondAnalytics");
-
-			return 0;
-		}
-
-		int iNumProcessed = 0;
-		org.drip.param.valuation.ValuationParams valParams = null;
+		org.drip.service.env.BondUniverseValuator buv = null;
 
 		try {
-			valParams = new org.drip.param.valuation.ValuationParams (dt, dt.addBusDays (3, "USD"), "USD");
+			buv = new org.drip.service.env.BondUniverseValuator (mpc, dt, iParallelism,
+				org.drip.service.env.BondUniverseValuator.DEFAULT_PARTITION_SIZE);
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 
 			return 0;
 		}
 
-		java.text.DecimalFormat df2_3p = new java.text.DecimalFormat ("#00.000");
+		int iNumMarksUnavailable = 0;
+
+		double dblValueDate = dt.julian();
+
+		double dblSettleDate = buv.valuationParams().valueDate();
+
+		java.util.List<java.lang.String> lsBondID = new java.util.ArrayList<java.lang.String>();
+
+		java.util.List<org.drip.product.definition.Bond> lsBond = new
+			java.util.ArrayList<org.drip.product.definition.Bond>();
+
+		java.util.List<java.lang.Double> lsBidPrice = new java.util.ArrayList<java.lang.Double>();
+
+		java.util.List<java.lang.Double> lsAskPrice = new java.util.ArrayList<java.lang.Double>();
+
+		java.util.Set<org.drip.product.definition.Bond> setBondSeen = java.util.Collections.newSetFromMap
+			(new java.util.IdentityHashMap<org.drip.product.definition.Bond, java.lang.Boolean>());
 
 		for (java.util.Map.Entry<java.lang.String, org.drip.product.credit.BondComponent> me :
 			s_mapBonds.entrySet()) {
 			org.drip.product.definition.Bond bond = me.getValue();
 
-			if (bond.maturityDate().julian() > dt.julian()) {
-				java.lang.String strRunTicker = bond.ticker();
+			if (bond.maturityDate().julian() <= dblValueDate || !setBondSeen.add (bond)) continue;
 
-				for (int i = bond.ticker().length() - 1; i < 6; ++i)
-					strRunTicker += " ";
-
-				try {
-					java.lang.String strRunName = strRunTicker + "  " + df2_3p.format (100. *
-						bond.couponMetrics (valParams.valueDate(), valParams, null).rate()) + " " +
-							(org.drip.analytics.date.DateUtil.Year (bond.maturityDate().julian()) - 2000);
+			double dblBondBidPrice = 0.01 * dblBidPrice;
+			double dblBondAskPrice = 0.01 * dblAskPrice;
 
-					if (bond.isFloater())
-						mpc.addFixing (bond.periodFixingDate (valParams.valueDate()),
-							bond.forwardLabel().get (0), 0.0042);
+			if (bFromMarks) {
+				java.lang.Double dblMidPrice = s_mapBondMarks.containsKey (bond.isin()) ? s_mapBondMarks.get
+					(bond.isin()) : s_mapBondMarks.get (bond.cusip());
 
-					CalcBondMeasures (strRunName, bond, valParams, mpc, 0.01 * dblBidPrice, 0.01 *
-						dblAskPrice);
+				if (null == dblMidPrice) {
+					if (s_bBlog) System.out.println ("No price entry found for " + bond.ticker());
 
-					++iNumProcessed;
-				} catch (java.lang.Exception e) {
-					e.printStackTrace();
+					++iNumMarksUnavailable;
+					continue;
 				}
+
+				if (java.lang.Double.isNaN (dblMidPrice)) continue;
+
+				dblBondBidPrice = 0.01 * (dblMidPrice - 0.25);
+				dblBondAskPrice = 0.01 * (dblMidPrice + 0.25);
+			}
+
+			try {
+				if (bond.isFloater())
+					mpc.addFixing (bond.periodFixingDate (dblSettleDate), bond.forwardLabel().get (0),
+						0.0042);
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+
+				continue;
 			}
+
+			lsBondID.add (me.getKey());
+
+			lsBond.add (bond);
+
+			lsBidPrice.add (dblBondBidPrice);
+
+			lsAskPrice.add (dblBondAskPrice);
 		}
 
-		return iNumProcessed;
+		if (0 != iNumMarksUnavailable)
+			System.out.println ("Marks unavailable for " + iNumMarksUnavailable + " bonds!");
+
+		int iNumBond = lsBond.size();
+
+		if (0 == iNumBond) return 0;
+
+		double[] adblBidPrice = new double[iNumBond];
+		double[] adblAskPrice = new double[iNumBond];
+
+		for (int i = 0; i < iNumBond; ++i) {
+			adblBidPrice[i] = lsBidPrice.get (i);
+
+			adblAskPrice[i] = lsAskPrice.get (i);
+		}
+
+		return buv.value (lsBondID.toArray (new java.lang.String[iNumBond]), lsBond.toArray (new
+			org.drip.product.definition.Bond[iNumBond]), adblBidPrice, adblAskPrice, bms);
+	}
+
+	/**
+	 * Calculate the full set of bond measures for all available bonds given the same bid and ask prices.
+	 *  Depending upon the setting, may also generate the runs.
+	 * 
+	 * @param mpc org.drip.param.market.MarketParamSet containing the curves
+	 * @param dt Valuation date
+	 * @param dblBidPrice Bid Price
+	 * @param dblAskPrice Ask Price
+	 * 
+	 * @return Number of bonds successfully processed (excludes matured bonds)
+	 */
+
+	public static int CalcFullBondAnalytics (
+		final org.drip.param.definition.ScenarioMarketParams mpc,
+		final org.drip.analytics.date.JulianDate dt,
+		final double dblBidPrice,
+		final double dblAskPrice)
+	{
+		return CalcFullBondAnalytics (mpc, dt, dblBidPrice, dblAskPrice,
+			java.lang.Runtime.getRuntime().availableProcessors(), null);
+	}
+
+	/**
+	 * Calculate the full set of bond measures for all available bonds given the same bid and ask prices on
+	 * 	a Fork-Join Pool, streaming the measures of each bond onto the Sink as they complete.
+	 * 
+	 * @param mpc org.drip.param.market.MarketParamSet containing the curves
+	 * @param dt Valuation date
+	 * @param dblBidPrice Bid Price
+	 * @param dblAskPrice Ask Price
+	 * @param iParallelism Fork-Join Pool Parallelism
+	 * @param bms Bond Measures Sink (may be null)
+	 * 
+	 * @return Number of bonds successfully processed (excludes matured bonds)
+	 */
+
+	public static int CalcFullBondAnalytics (
+		final org.drip.param.definition.ScenarioMarketParams mpc,
+		final org.drip.analytics.date.JulianDate dt,
+		final double dblBidPrice,
+		final double dblAskPrice,
+		final int iParallelism,
+		final org.drip.service.env.BondMeasuresSink bms)
+	{
+		if (null == mpc || null == dt || java.lang.Double.isNaN (dblBidPrice) || java.lang.Double.isNaN
+			(dblAskPrice)) {
+			System.out.println ("Bad params into CalcFullBondAnalytics");
+
+			return 0;
+		}
+
+		return ValueBondUniverse (mpc, dt, false, dblBidPrice, dblAskPrice, iParallelism, bms);
 	}
 
 	/**
@@ -500,6 +587,28 @@ public class BondManager {
 	public static int FullBondMarketAnalytics (
 		final org.drip.param.definition.ScenarioMarketParams mpc,
 		final org.drip.analytics.date.JulianDate dt)
+	{
+		return FullBondMarketAnalytics (mpc, dt, java.lang.Runtime.getRuntime().availableProcessors(), null);
+	}
+
+	/**
+	 * Calculate the complete set of bond measures for all the bonds from their closing bid/ask prices on a
+	 * 	Fork-Join Pool, streaming the measures of each bond onto the Sink as they complete.
+	 * 
+	 * @param mpc org.drip.param.market.MarketParamSet containing the curves
+	 * @param dt Valuation Date
+	 * @param iParallelism Fork-Join Pool Parallelism
+	 * @param bms Bond Measures Sink (may be null)
+	 * 
+	 * @return Number of bonds successfully processed (excludes matured bonds and bonds for which closing
+	 *  prices are not available).
+	 */
+
+	public static int FullBondMarketAnalytics (
+		final org.drip.param.definition.ScenarioMarketParams mpc,
+		final org.drip.analytics.date.JulianDate dt,
+		final int iParallelism,
+		final org.drip.service.env.BondMeasuresSink bms)
 	{
 		if (null == mpc || null == dt) {
 			System.out.println ("Bad params into FullBondMarketAnalytics");
@@ -507,64 +616,8 @@ public class BondManager {
 			return 0;
 		}
 
-		int iNumProcessed = 0;
-		int iNumMarksUnavailable = 0;
-
-        java.text.DecimalFormat df2_3p = new java.text.DecimalFormat ("#00.000");
-
-		for (java.util.Map.Entry<java.lang.String, org.drip.product.credit.BondComponent> me :
-			s_mapBonds.entrySet()) {
-			org.drip.product.definition.Bond bond = me.getValue();
-
-			if (bond.maturityDate().julian() > dt.julian()) {
-				java.lang.String strRunTicker = bond.ticker();
-
-				for (int i = bond.ticker().length() - 1; i < 6; ++i)
-					strRunTicker += " ";
-
-				try {
-					java.lang.String strRunName = strRunTicker + "  " + df2_3p.format (100. *
-						bond.couponMetrics (dt.julian(), null, null).rate()) + " " +
-							(org.drip.analytics.date.DateUtil.Year (bond.maturityDate().julian()) - 2000);
-
-					if (!s_mapBondMarks.containsKey (bond.isin()) && !s_mapBondMarks.containsKey
-						(bond.cusip())) {
-						if (s_bBlog) System.out.println ("No price entry found for " + strRunTicker);
-
-						++iNumMarksUnavailable;
-						continue;
-					}
-
-					org.drip.param.valuation.ValuationParams valParams = new
-						org.drip.param.valuation.ValuationParams (dt, dt.addBusDays (3, "USD"), "USD");
-
-					if (bond.isFloater())
-						mpc.addFixing (bond.periodFixingDate (valParams.valueDate()), bond.forwardLabel().get
-							(0), 0.0042);
-
-					double dblMidPrice = java.lang.Double.NaN;
-
-					if (s_mapBondMarks.containsKey (bond.isin()))
-						dblMidPrice = s_mapBondMarks.get (bond.isin());
-					else
-						dblMidPrice = s_mapBondMarks.get (bond.cusip());
-
-					if (!java.lang.Double.isNaN (dblMidPrice)) {
-						CalcBondMeasures (strRunName, bond, valParams, mpc, 0.01 * (dblMidPrice - 0.25), 0.01
-							* (dblMidPrice + 0.25));
-
-						++iNumProcessed;
-					}
-				} catch (java.lang.Exception e) {
-					e.printStackTrace();
-				}
-			}
-		}
-
-		if (0 != iNumMarksUnavailable)
-			System.out.println ("Marks unavailable for " + iNumMarksUnavailable + " bonds!");
-
-		return iNumProcessed;
+		return ValueBondUniverse (mpc, dt, true, java.lang.Double.NaN, java.lang.Double.NaN, iParallelism,
+			bms);
 	}
 
 	/**
@@ -1077,6 +1130,51 @@ public class BondManager {
 		return true;
 	}
 
+	private static final java.lang.String BOND_HIST_DELETE_SQL =
+		"delete from BondHist where (ISIN = ? or CUSIP = ?) and EOD = ?";
+
+	private static final java.lang.String BOND_HIST_INSERT_SQL =
+		"insert into BondHist values(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final java.lang.Object[] BondHistRow (
+		final org.drip.product.definition.Bond bond,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.definition.ScenarioMarketParams mpc,
+		final double dblPrice)
+	{
+		org.drip.param.valuation.WorkoutInfo wi = null;
+		org.drip.param.market.CurveSurfaceQuoteSet csqs = null;
+
+		try {
+			csqs = mpc.scenarioMarketParams (bond, "Base");
+
+			wi = bond.exerciseYieldFromPrice (valParams, csqs, null, dblPrice);
+		} catch (java.lang.Exception e) {
+			System.out.println (e.getMessage() + "; " + bond.name() + " for price=" + dblPrice);
+
+			e.printStackTrace();
+
+			return null;
+		}
+
+		try {
+			return new java.lang.Object[] {bond.isin(), bond.cusip(), (new org.drip.analytics.date.JulianDate
+				(valParams.valueDate())).toOracleDate(), dblPrice, wi.yield(), java.lang.Double.isNaN
+					(wi.date()) ? null : (new org.drip.analytics.date.JulianDate (wi.date())).toOracleDate(),
+						wi.factor(), bond.zspreadFromPrice (valParams, csqs, null, wi.date(), wi.factor(),
+							dblPrice), bond.gSpreadFromPrice (valParams, csqs, null, wi.date(), wi.factor(),
+								dblPrice), bond.gSpreadFromPrice (valParams, csqs, null, wi.date(), wi.factor(),
+									dblPrice), bond.gSpreadFromPrice (valParams, csqs, null, wi.date(),
+										wi.factor(), dblPrice), bond.aswFromPrice (valParams, csqs, null,
+											wi.date(), wi.factor(), dblPrice), bond.creditBasisFromPrice
+												(valParams, csqs, null, wi.date(), wi.factor(), dblPrice)};
+		} catch (java.lang.Exception e) {
+			System.out.println (e.getMessage() + "; " + bond.name() + " for price=" + dblPrice);
+		}
+
+		return null;
+	}
+
 	/**
 	 * Calculate the bond measures for the given bond and price, and loads them onto the DB
 	 * 
@@ -1103,23 +1201,16 @@ public class BondManager {
 			return false;
 		}
 
-		java.lang.String strOracleEOD = "";
-		double dblZSpread = java.lang.Double.NaN;
-		double dblGSpread = java.lang.Double.NaN;
-		double dblISpread = java.lang.Double.NaN;
-		double dblTSYSpread = java.lang.Double.NaN;
-		double dblASWSpread = java.lang.Double.NaN;
-		double dblCreditBasis = java.lang.Double.NaN;
-		org.drip.param.valuation.WorkoutInfo wi = null;
+		java.lang.Object[] aobjRow = BondHistRow (bond, valParams, mpc, dblPrice);
 
-		try {
-			strOracleEOD = (new org.drip.analytics.date.JulianDate (valParams.valueDate())).toOracleDate();
+		if (null == aobjRow) return false;
 
+		try {
 			stmt.executeQuery ("delete from BondHist where ISIN = '" + bond.isin() + "' and EOD = '" +
-				strOracleEOD + "'");
+				aobjRow[2] + "'");
 
 			stmt.executeQuery ("delete from BondHist where CUSIP = '" + bond.cusip() + "' and EOD = '" +
-				strOracleEOD + "'");
+				aobjRow[2] + "'");
 		} catch (java.lang.Exception e) {
 			System.out.println (e.getMessage() + "; " + bond.name() + " for price=" + dblPrice);
 
@@ -1130,66 +1221,16 @@ public class BondManager {
 
 		java.lang.StringBuilder sbSQLInsertBondClose = new java.lang.StringBuilder();
 
-		sbSQLInsertBondClose.append ("insert into BondHist values('").append (bond.isin()).append
-			("', '").append (bond.cusip()).append ("', '").append (strOracleEOD).append ("', ").append
+		sbSQLInsertBondClose.append ("insert into BondHist values('").append (aobjRow[0]).append
+			("', '").append (aobjRow[1]).append ("', '").append (aobjRow[2]).append ("', ").append
 				(dblPrice).append (", ");
 
-		try {
-			wi = bond.exerciseYieldFromPrice (valParams, mpc.scenarioMarketParams (bond, "Base"), null,
-				dblPrice);
-		} catch (java.lang.Exception e) {
-			System.out.println (e.getMessage() + "; " + bond.name() + " for price=" + dblPrice);
-
-			e.printStackTrace();
-
-			return false;
-		}
-
-		try {
-			dblZSpread = bond.zspreadFromPrice (valParams, mpc.scenarioMarketParams (bond, "Base"), null,
-				wi.date(), wi.factor(), dblPrice);
-
-			dblGSpread = bond.gSpreadFromPrice (valParams, mpc.scenarioMarketParams (bond, "Base"), null,
-				wi.date(), wi.factor(), dblPrice);
-
-			dblISpread = bond.gSpreadFromPrice (valParams, mpc.scenarioMarketParams (bond, "Base"), null,
-				wi.date(), wi.factor(), dblPrice);
-
-			dblTSYSpread = bond.gSpreadFromPrice (valParams, mpc.scenarioMarketParams (bond, "Base"), null,
-				wi.date(), wi.factor(), dblPrice);
-
-			dblASWSpread = bond.aswFromPrice (valParams, mpc.scenarioMarketParams (bond, "Base"), null,
-				wi.date(), wi.factor(), dblPrice);
-
-			dblCreditBasis = bond.creditBasisFromPrice (valParams, mpc.scenarioMarketParams (bond, "Base"),
-				null, wi.date(), wi.factor(), dblPrice);
-
-			AppendField (sbSQLInsertBondClose, wi.yield(), false);
-
-			if (java.lang.Double.isNaN (wi.date()))
-				sbSQLInsertBondClose.append ("'', ");
-			else
-				sbSQLInsertBondClose.append ("'" + (new org.drip.analytics.date.JulianDate
-					(wi.date()).toOracleDate()) + "', ");
-		} catch (java.lang.Exception e) {
-			System.out.println (e.getMessage() + "; " + bond.name() + " for price=" + dblPrice);
-
-			return false;
-		}
-
-		AppendField (sbSQLInsertBondClose, wi.factor(), false);
-
-		AppendField (sbSQLInsertBondClose, dblZSpread, false);
-
-		AppendField (sbSQLInsertBondClose, dblGSpread, false);
-
-		AppendField (sbSQLInsertBondClose, dblISpread, false);
+		AppendField (sbSQLInsertBondClose, (java.lang.Double) aobjRow[4], false);
 
-		AppendField (sbSQLInsertBondClose, dblTSYSpread, false);
+		sbSQLInsertBondClose.append ("'").append (null == aobjRow[5] ? "" : aobjRow[5]).append ("', ");
 
-		AppendField (sbSQLInsertBondClose, dblASWSpread, false);
-
-		AppendField (sbSQLInsertBondClose, dblCreditBasis, true);
+		for (int i = 6; i < aobjRow.length; ++i)
+			AppendField (sbSQLInsertBondClose, (java.lang.Double) aobjRow[i], aobjRow.length - 1 == i);
 
 		if (s_bBlog) System.out.println (sbSQLInsertBondClose.toString());
 
@@ -1205,17 +1246,23 @@ public class BondManager {
 	}
 
 	/**
-	 * Calculate and saves the measures for all the bonds form their market prices for a given EOD
+	 * Calculate and saves the measures for all the bonds form their market prices for a given EOD. The
+	 * 	Measures are computed on the calling Thread, and written through Batched Prepared Statements on a
+	 * 	separate Writer Thread.
 	 * 
 	 * @param stmt SQL Statement object representing the executable query
 	 * @param dtEOD EOD Date
+	 * @param iBatchSize Number of Rows per JDBC Batch
+	 * @param iCommitInterval Number of Rows per Commit
 	 * 
 	 * @return Integer representing the number of bonds calculated and saved
 	 */
 
 	public static int SaveBondCalcMeasures (
 		final java.sql.Statement stmt,
-		final org.drip.analytics.date.JulianDate dtEOD)
+		final org.drip.analytics.date.JulianDate dtEOD,
+		final int iBatchSize,
+		final int iCommitInterval)
 	{
 		if (null == stmt || null == dtEOD) {
 			System.out.println ("Bad inputs into BondManager.SaveBondCalcMeasures");
@@ -1226,6 +1273,7 @@ public class BondManager {
 		int iNumProcessed = 0;
 		int iNumMarksUnavailable = 0;
 		org.drip.param.valuation.ValuationParams valParams = null;
+		org.drip.service.env.PipelinedTableWriter ptw = null;
 
 		try {
 			valParams = new org.drip.param.valuation.ValuationParams (dtEOD, dtEOD.addBusDays (3, "USD"),
@@ -1243,6 +1291,15 @@ public class BondManager {
 
 		CDSManager.LoadFullCreditCurves (mpc, stmt, dtEOD);
 
+		try {
+			ptw = new org.drip.service.env.PipelinedTableWriter (new org.drip.service.env.BatchedTableWriter
+				(stmt.getConnection(), iBatchSize, iCommitInterval));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return 0;
+		}
+
 		for (java.util.Map.Entry<java.lang.String, org.drip.product.credit.BondComponent> me :
 			s_mapBonds.entrySet()) {
 			org.drip.product.definition.Bond bond = me.getValue();
@@ -1273,18 +1330,48 @@ public class BondManager {
 				else
 					dblMidPrice = 0.01 * s_mapBondMarks.get (bond.cusip());
 
-				CalcAndLoadBondMeasuresFromPrice (stmt, bond, valParams, mpc, dblMidPrice);
+				java.lang.Object[] aobjRow = BondHistRow (bond, valParams, mpc, dblMidPrice);
+
+				if (null != aobjRow) {
+					if (!ptw.submit (BOND_HIST_DELETE_SQL, new java.lang.Object[] {aobjRow[0], aobjRow[1],
+						aobjRow[2]}, BOND_HIST_INSERT_SQL, aobjRow))
+						break;
+				}
 
 				++iNumProcessed;
 			}
 		}
 
+		if (!ptw.close()) {
+			System.out.println ("BondManager.SaveBondCalcMeasures => BondHist Write failed for " + dtEOD);
+
+			return 0;
+		}
+
 		if (0 != iNumMarksUnavailable)
 			System.out.println ("Marks unavailable for " + iNumMarksUnavailable + " bonds!");
 
 		return iNumProcessed;
 	}
 
+	/**
+	 * Calculate and saves the measures for all the bonds form their market prices for a given EOD, using
+	 * 	the Default Batch Size and Commit Interval
+	 * 
+	 * @param stmt SQL Statement object representing the executable query
+	 * @param dtEOD EOD Date
+	 * 
+	 * @return Integer representing the number of bonds calculated and saved
+	 */
+
+	public static int SaveBondCalcMeasures (
+		final java.sql.Statement stmt,
+		final org.drip.analytics.date.JulianDate dtEOD)
+	{
+		return SaveBondCalcMeasures (stmt, dtEOD, org.drip.service.env.BatchedTableWriter.DEFAULT_BATCH_SIZE,
+			org.drip.service.env.BatchedTableWriter.DEFAULT_COMMIT_INTERVAL);
+	}
+
 	/**
 	 * Calculate and saves the measures for all the bonds from their market prices for all EODs between a
 	 * 	given pair of dates
@@ -0,0 +1,64 @@
+
+package org.drip.service.env;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BondMeasuresSink is the Interface through which the Bond Universe Valuator streams the Bid/Ask RV Measures
+ * 	of each Bond as soon as they are computed. Implementations are invoked concurrently from the Valuation
+ * 	Worker Threads, and must therefore be Thread Safe.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public interface BondMeasuresSink {
+
+	/**
+	 * Accept the Bid/Ask RV Measures computed for the specified Bond
+	 * 
+	 * @param strBondID The Bond Identifier
+	 * @param strRunName The Bond Run Name
+	 * @param mapBMRV Map of the Bid/Ask RV Measures
+	 * 
+	 * @return TRUE => The Measures have been successfully accepted
+	 */
+
+	public abstract boolean accept (
+		final java.lang.String strBondID,
+		final java.lang.String strRunName,
+		final org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.output.BondRVMeasures>
+			mapBMRV);
+
+	/**
+	 * Flush the Measures accepted so far
+	 * 
+	 * @return TRUE => The Measures have been successfully flushed
+	 */
+
+	public abstract boolean flush();
+}
@@ -0,0 +1,267 @@
+
+package org.drip.service.env;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * BondUniverseValuator computes the Bid/Ask RV Measures for a Universe of Bonds on a Fork-Join Pool. The
+ * 	Universe is split recursively into Partitions that are valued concurrently, and the Measures of each Bond
+ * 	are streamed onto the Bond Measures Sink as soon as they are available. The Valuation Parameters are
+ * 	computed once for the Valuation Date, and the Scenario Market Parameters are only read by the Workers -
+ * 	each Bond gets its own Market Parameters View onto the shared Curves - so they need to be fully populated
+ * 	(including the Floater Fixings) before the Valuation is started.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BondUniverseValuator {
+
+	/**
+	 * Default Number of Bonds in a Leaf Valuation Partition
+	 */
+
+	public static final int DEFAULT_PARTITION_SIZE = 8;
+
+	private int _iParallelism = -1;
+	private int _iPartitionSize = -1;
+	private org.drip.analytics.date.JulianDate _dtValue = null;
+	private org.drip.param.valuation.ValuationParams _valParams = null;
+	private org.drip.param.definition.ScenarioMarketParams _mpc = null;
+
+	/**
+	 * Construct the Run Name of the Bond. The Coupon is read as of the Valuation Date through the Valuation
+	 * 	Parameters, as the Coupon Metrics cannot be extracted without them.
+	 * 
+	 * @param bond The Bond
+	 * @param valParams The Valuation Parameters
+	 * 
+	 * @return The Run Name of the Bond
+	 * 
+	 * @throws java.lang.Exception Thrown if the Run Name cannot be constructed
+	 */
+
+	public static final java.lang.String RunName (
+		final org.drip.product.definition.Bond bond,
+		final org.drip.param.valuation.ValuationParams valParams)
+		throws java.lang.Exception
+	{
+		if (null == bond || null == valParams)
+			throw new java.lang.Exception ("BondUniverseValuator::RunName => Invalid Inputs");
+
+		java.lang.String strRunTicker = bond.ticker();
+
+		for (int i = bond.ticker().length() - 1; i < 6; ++i)
+			strRunTicker += " ";
+
+		return strRunTicker + "  " + new java.text.DecimalFormat ("#00.000").format (100. * bond.couponMetrics
+			(valParams.valueDate(), valParams, null).rate()) + " " + (org.drip.analytics.date.DateUtil.Year
+				(bond.maturityDate().julian()) - 2000);
+	}
+
+	/**
+	 * BondUniverseValuator Constructor
+	 * 
+	 * @param mpc The fully populated Scenario Market Parameters
+	 * @param dtValue The Valuation Date
+	 * @param iParallelism The Fork-Join Pool Parallelism
+	 * @param iPartitionSize Number of Bonds in a Leaf Valuation Partition
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public BondUniverseValuator (
+		final org.drip.param.definition.ScenarioMarketParams mpc,
+		final org.drip.analytics.date.JulianDate dtValue,
+		final int iParallelism,
+		final int iPartitionSize)
+		throws java.lang.Exception
+	{
+		if (null == (_mpc = mpc) || null == (_dtValue = dtValue) || 0 >= (_iParallelism = iParallelism) || 0
+			>= (_iPartitionSize = iPartitionSize))
+			throw new java.lang.Exception ("BondUniverseValuator ctr: Invalid Inputs");
+
+		_valParams = new org.drip.param.valuation.ValuationParams (_dtValue, _dtValue.addBusDays (3, "USD"),
+			"USD");
+	}
+
+	/**
+	 * Retrieve the Valuation Date
+	 * 
+	 * @return The Valuation Date
+	 */
+
+	public org.drip.analytics.date.JulianDate valueDate()
+	{
+		return _dtValue;
+	}
+
+	/**
+	 * Retrieve the Valuation Parameters
+	 * 
+	 * @return The Valuation Parameters
+	 */
+
+	public org.drip.param.valuation.ValuationParams valuationParams()
+	{
+		return _valParams;
+	}
+
+	/**
+	 * Retrieve the Fork-Join Pool Parallelism
+	 * 
+	 * @return The Fork-Join Pool Parallelism
+	 */
+
+	public int parallelism()
+	{
+		return _iParallelism;
+	}
+
+	/**
+	 * Retrieve the Number of Bonds in a Leaf Valuation Partition
+	 * 
+	 * @return The Number of Bonds in a Leaf Valuation Partition
+	 */
+
+	public int partitionSize()
+	{
+		return _iPartitionSize;
+	}
+
+	private int valuePartition (
+		final int iStart,
+		final int iEnd,
+		final java.lang.String[] astrBondID,
+		final org.drip.product.definition.Bond[] aBond,
+		final double[] adblBidPrice,
+		final double[] adblAskPrice,
+		final org.drip.service.env.BondMeasuresSink bms)
+	{
+		int iNumProcessed = 0;
+
+		double dblValueDate = _dtValue.julian();
+
+		for (int i = iStart; i < iEnd; ++i) {
+			org.drip.product.definition.Bond bond = aBond[i];
+
+			if (null == bond || bond.maturityDate().julian() <= dblValueDate) continue;
+
+			try {
+				java.lang.String strRunName = RunName (bond, _valParams);
+
+				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.output.BondRVMeasures>
+					mapBMRV = org.drip.service.env.BondManager.CalcBondMeasures (strRunName, bond, _valParams,
+						_mpc, adblBidPrice[i], adblAskPrice[i]);
+
+				if (null != bms && null != mapBMRV) bms.accept (astrBondID[i], strRunName, mapBMRV);
+
+				++iNumProcessed;
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+			}
+		}
+
+		return iNumProcessed;
+	}
+
+	private java.util.concurrent.RecursiveTask<java.lang.Integer> partitionTask (
+		final int iStart,
+		final int iEnd,
+		final java.lang.String[] astrBondID,
+		final org.drip.product.definition.Bond[] aBond,
+		final double[] adblBidPrice,
+		final double[] adblAskPrice,
+		final org.drip.service.env.BondMeasuresSink bms)
+	{
+		return new java.util.concurrent.RecursiveTask<java.lang.Integer>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override protected java.lang.Integer compute()
+			{
+				if (iEnd - iStart <= _iPartitionSize)
+					return valuePartition (iStart, iEnd, astrBondID, aBond, adblBidPrice, adblAskPrice, bms);
+
+				int iMid = (iStart + iEnd) >>> 1;
+
+				java.util.concurrent.RecursiveTask<java.lang.Integer> rtLeft = partitionTask (iStart, iMid,
+					astrBondID, aBond, adblBidPrice, adblAskPrice, bms);
+
+				rtLeft.fork();
+
+				int iNumProcessed = partitionTask (iMid, iEnd, astrBondID, aBond, adblBidPrice, adblAskPrice,
+					bms).invoke();
+
+				return iNumProcessed + rtLeft.join();
+			}
+		};
+	}
+
+	/**
+	 * Value the Bond Universe, streaming the Bid/Ask RV Measures of each Bond onto the Sink
+	 * 
+	 * @param astrBondID Array of the Bond Identifiers
+	 * @param aBond Array of the Bonds
+	 * @param adblBidPrice Array of the Bid Prices
+	 * @param adblAskPrice Array of the Ask Prices
+	 * @param bms The Bond Measures Sink (may be null)
+	 * 
+	 * @return Number of Bonds successfully processed (excludes matured bonds)
+	 */
+
+	public int value (
+		final java.lang.String[] astrBondID,
+		final org.drip.product.definition.Bond[] aBond,
+		final double[] adblBidPrice,
+		final double[] adblAskPrice,
+		final org.drip.service.env.BondMeasuresSink bms)
+	{
+		if (null == astrBondID || null == aBond || null == adblBidPrice || null == adblAskPrice) return 0;
+
+		int iNumBond = aBond.length;
+
+		if (0 == iNumBond || iNumBond != astrBondID.length || iNumBond != adblBidPrice.length || iNumBond !=
+			adblAskPrice.length)
+			return 0;
+
+		java.util.concurrent.ForkJoinPool fjp = new java.util.concurrent.ForkJoinPool (_iParallelism);
+
+		try {
+			return fjp.invoke (partitionTask (0, iNumBond, astrBondID, aBond, adblBidPrice, adblAskPrice,
+				bms));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		} finally {
+			fjp.shutdown();
+
+			if (null != bms) bms.flush();
+		}
+
+		return 0;
+	}
+}
@@ -77,32 +77,33 @@ public class CDSManager {
 		return null;
 	}
 
-	/**
-	 * Save the EOD CDS measures for a credit curve in a given EOD
-	 * 
-	 * @param stmt SQL Statement representing the executable query
-	 * @param mpc MarketParamContainer with all the closing discount/credit curves
-	 * @param strSPN Credit curve ID string
-	 * @param dtEOD EOD date
-	 * @param strCurrency Discount curve string
-	 * 
-	 * @return Success (true), failure (false)
-	 */
+	private static final java.lang.String CDS_HIST_DELETE_SQL =
+		"delete from CDSHist where SPN = ? and EOD = ?";
 
-	public static final boolean SaveSPNEOD (
-		final java.sql.Statement stmt,
+	private static final java.lang.String CDSHistInsertSQL (
+		final int iNumColumn)
+	{
+		java.lang.StringBuilder sbSQL = new java.lang.StringBuilder ("insert into CDSHist values(");
+
+		for (int i = 0; i < iNumColumn; ++i)
+			sbSQL.append (0 == i ? "?" : ", ?");
+
+		return sbSQL.append (")").toString();
+	}
+
+	private static final java.lang.Object[] CDSHistRow (
 		final org.drip.param.definition.ScenarioMarketParams mpc,
 		final java.lang.String strSPN,
 		final org.drip.analytics.date.JulianDate dtEOD,
 		final java.lang.String strCurrency)
 	{
-		if (null == stmt || null == dtEOD || null == strSPN || strSPN.isEmpty() || null == mpc || null ==
+		if (null == dtEOD || null == strSPN || strSPN.isEmpty() || null == mpc || null ==
 			mpc.scenarioCreditCurveMap() || null == mpc.scenarioCreditCurveMap().get (strSPN))
-			return false;
+			return null;
 
 		org.drip.param.definition.ScenarioCreditCurve scenarioCreditCurveMap = mpc.scenarioCreditCurveMap().get (strSPN);
 
-		if (null == scenarioCreditCurveMap.base() || null == scenarioCreditCurveMap.base().calibComp()) return false;
+		if (null == scenarioCreditCurveMap.base() || null == scenarioCreditCurveMap.base().calibComp()) return null;
 
 		org.drip.analytics.definition.CreditCurve cc = scenarioCreditCurveMap.base();
 
@@ -117,35 +118,26 @@ public class CDSManager {
 		try {
 			valParams = new org.drip.param.valuation.ValuationParams (dtEOD, dtEOD.addBusDays (3,
 				strCurrency), strCurrency);
-
-			stmt.executeQuery ("delete from CDSHist where SPN = '" + strSPN + "' and EOD = '" +
-				dtEOD.toOracleDate() + "'");
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 
-			return false;
+			return null;
 		}
 
-		java.lang.StringBuilder sbSQL = new java.lang.StringBuilder();
-
-		java.lang.StringBuilder sbDV01 = new java.lang.StringBuilder();
-
-		java.lang.StringBuilder sbParSpread = new java.lang.StringBuilder();
-
-		java.lang.StringBuilder sbUpfront100 = new java.lang.StringBuilder();
+		int iNumCDS = aCDS.length;
+		java.lang.Object[] aobjRow = new java.lang.Object[4 + 6 * iNumCDS];
 
-		java.lang.StringBuilder sbUpfront500 = new java.lang.StringBuilder();
+		aobjRow[0] = strSPN;
+		aobjRow[1] = dtEOD.toOracleDate();
+		aobjRow[2] = strCurrency;
+		aobjRow[3] = "ParSpread";
 
-		java.lang.StringBuilder sbFlatSpread100 = new java.lang.StringBuilder();
-
-		java.lang.StringBuilder sbFlatSpread500 = new java.lang.StringBuilder();
-
-		sbSQL.append ("insert into CDSHist values('").append (strSPN).append ("', '").append
-			(dtEOD.toOracleDate()).append ("', '").append (strCurrency).append ("', 'ParSpread', ");
+		for (int i = 4; i < aobjRow.length; ++i)
+			aobjRow[i] = java.lang.Double.NaN;
 
 		long lStart = System.nanoTime();
 
-		for (int i = 0; i < aCDS.length; ++i) {
+		for (int i = 0; i < iNumCDS; ++i) {
 			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapCalc = aCDS[1].value
 				(valParams, pricerParams, org.drip.param.creator.MarketParamsBuilder.Create
 					(mpc.scenarioMarketParams (aCDS[i], "Base").fundingCurve
@@ -176,33 +168,16 @@ public class CDSManager {
 				System.out.println ("dblFairPremium[" + i + "]=" + dblFairPremium);
 			}
 
-			if (java.lang.Double.isNaN (dblFairPremium))
-				sbParSpread.append ("null, ");
-			else
-				sbParSpread.append (dblFairPremium).append (", ");
-
-			if (java.lang.Double.isNaN (dblUpfront100))
-				sbUpfront100.append ("null, ");
-			else
-				sbUpfront100.append (dblUpfront100).append (", ");
-
-			if (java.lang.Double.isNaN (dblUpfront500))
-				sbUpfront500.append ("null, ");
-			else
-				sbUpfront500.append (dblUpfront500).append (", ");
-
-			if (java.lang.Double.isNaN (dblDV01))
-				sbDV01.append ("null");
-			else
-				sbDV01.append (dblDV01);
-
-			if (i != aCDS.length - 1) sbDV01.append (", ");
+			aobjRow[4 + i] = dblFairPremium;
+			aobjRow[4 + iNumCDS + i] = dblUpfront100;
+			aobjRow[4 + 2 * iNumCDS + i] = dblUpfront500;
+			aobjRow[4 + 5 * iNumCDS + i] = dblDV01;
 		}
 
 		if (s_bLocalTS)
 			System.out.println ("Par Spreads in " + (System.nanoTime() - lStart) * 1.e-06 + " msec");
 
-		for (int i = 0; i < aCDS.length; ++i) {
+		for (int i = 0; i < iNumCDS; ++i) {
 			double dblOldCoupon = java.lang.Double.NaN;
 			double dblFlatSpread100 = java.lang.Double.NaN;
 
@@ -211,7 +186,7 @@ public class CDSManager {
 			} catch (java.lang.Exception e) {
 				e.printStackTrace();
 
-				return false;
+				return null;
 			}
 
 			if (s_bCalcFlatSpread) {
@@ -230,10 +205,7 @@ public class CDSManager {
 
 			if (s_bBlog) System.out.println ("FlatSpread100[" + i + "]=" + dblFlatSpread100);
 
-			if (java.lang.Double.isNaN (dblFlatSpread100))
-				sbFlatSpread100.append ("null, ");
-			else
-				sbFlatSpread100.append (dblFlatSpread100).append (", ");
+			aobjRow[4 + 3 * iNumCDS + i] = dblFlatSpread100;
 
 			if (s_bLocalTS)
 				System.out.println ("FlatSpread100[" + i + "]=" + (System.nanoTime() - lStart) * 1.e-06 +
@@ -244,7 +216,7 @@ public class CDSManager {
 			} catch (java.lang.Exception e) {
 				e.printStackTrace();
 
-				return false;
+				return null;
 			}
 		}
 
@@ -254,7 +226,7 @@ public class CDSManager {
 			lStart = System.nanoTime();
 		}
 
-		for (int i = 0; i < aCDS.length; ++i) {
+		for (int i = 0; i < iNumCDS; ++i) {
 			double dblOldCoupon = java.lang.Double.NaN;
 			double dblFlatSpread500 = java.lang.Double.NaN;
 
@@ -263,7 +235,7 @@ public class CDSManager {
 			} catch (java.lang.Exception e) {
 				e.printStackTrace();
 
-				return false;
+				return null;
 			}
 
 			if (s_bCalcFlatSpread) {
@@ -282,10 +254,7 @@ public class CDSManager {
 
 			if (s_bBlog) System.out.println ("FlatSpread500[" + i + "]=" + dblFlatSpread500);
 
-			if (java.lang.Double.isNaN (dblFlatSpread500))
-				sbFlatSpread500.append ("null, ");
-			else
-				sbFlatSpread500.append (dblFlatSpread500).append (", ");
+			aobjRow[4 + 4 * iNumCDS + i] = dblFlatSpread500;
 
 			if (s_bLocalTS)
 				System.out.println ("FlatSpread500[" + i + "]=" + (System.nanoTime() - lStart) * 1.e-06 +
@@ -296,20 +265,73 @@ public class CDSManager {
 			} catch (java.lang.Exception e) {
 				e.printStackTrace();
 
-				return false;
+				return null;
 			}
 		}
 
 		if (s_bLocalTS)
 			System.out.println ("Flat Spread 500 in " + (System.nanoTime() - lStart) * 1.e-06 + " msec");
 
-		sbSQL.append (sbParSpread.toString()).append (sbUpfront100.toString()).append
-			(sbUpfront500.toString()).append (sbFlatSpread100.toString()).append
-				(sbFlatSpread500.toString()).append (sbDV01.toString()).append (")");
+		return aobjRow;
+	}
+
+	private static final boolean SaveSPNEOD (
+		final org.drip.service.env.PipelinedTableWriter ptw,
+		final org.drip.param.definition.ScenarioMarketParams mpc,
+		final java.lang.String strSPN,
+		final org.drip.analytics.date.JulianDate dtEOD,
+		final java.lang.String strCurrency)
+	{
+		java.lang.Object[] aobjRow = CDSHistRow (mpc, strSPN, dtEOD, strCurrency);
+
+		return null != aobjRow && ptw.submit (CDS_HIST_DELETE_SQL, new java.lang.Object[] {aobjRow[0],
+			aobjRow[1]}, CDSHistInsertSQL (aobjRow.length), aobjRow);
+	}
+
+	/**
+	 * Save the EOD CDS measures for a credit curve in a given EOD
+	 * 
+	 * @param stmt SQL Statement representing the executable query
+	 * @param mpc MarketParamContainer with all the closing discount/credit curves
+	 * @param strSPN Credit curve ID string
+	 * @param dtEOD EOD date
+	 * @param strCurrency Discount curve string
+	 * 
+	 * @return Success (true), failure (false)
+	 */
+
+	public static final boolean SaveSPNEOD (
+		final java.sql.Statement stmt,
+		final org.drip.param.definition.ScenarioMarketParams mpc,
+		final java.lang.String strSPN,
+		final org.drip.analytics.date.JulianDate dtEOD,
+		final java.lang.String strCurrency)
+	{
+		if (null == stmt) return false;
+
+		java.lang.Object[] aobjRow = CDSHistRow (mpc, strSPN, dtEOD, strCurrency);
+
+		if (null == aobjRow) return false;
+
+		java.lang.StringBuilder sbSQL = new java.lang.StringBuilder();
+
+		sbSQL.append ("insert into CDSHist values('").append (strSPN).append ("', '").append
+			(aobjRow[1]).append ("', '").append (strCurrency).append ("', 'ParSpread'");
+
+		for (int i = 4; i < aobjRow.length; ++i) {
+			double dblValue = (java.lang.Double) aobjRow[i];
+
+			sbSQL.append (", ").append (java.lang.Double.isNaN (dblValue) ? "null" : "" + dblValue);
+		}
+
+		sbSQL.append (")");
 
 		if (s_bBlog) System.out.println (sbSQL.toString());
 
 		try {
+			stmt.executeQuery ("delete from CDSHist where SPN = '" + strSPN + "' and EOD = '" + aobjRow[1]
+				+ "'");
+
 			stmt.executeQuery (sbSQL.toString());
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
@@ -337,18 +359,28 @@ public class CDSManager {
 		final org.drip.analytics.date.JulianDate dtEOD,
 		final java.lang.String strCurrency)
 	{
-		if (null == mpc || null == mpc.scenarioCreditCurveMap() || null == mpc.scenarioCreditCurveMap().entrySet()) return false;
+		if (null == mpc || null == stmt || null == mpc.scenarioCreditCurveMap() || null == mpc.scenarioCreditCurveMap().entrySet()) return false;
 
 		boolean bAllSPNSuccess = true;
+		org.drip.service.env.PipelinedTableWriter ptw = null;
+
+		try {
+			ptw = new org.drip.service.env.PipelinedTableWriter (new org.drip.service.env.BatchedTableWriter
+				(stmt.getConnection()));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
 
 		for (java.util.Map.Entry<java.lang.String, org.drip.param.definition.ScenarioCreditCurve> meCCSG
 			: mpc.scenarioCreditCurveMap().entrySet()) {
 			if (null == meCCSG.getKey()) continue;
 
-			if (!SaveSPNEOD (stmt, mpc, meCCSG.getKey(), dtEOD, strCurrency)) bAllSPNSuccess = false;
+			if (!SaveSPNEOD (ptw, mpc, meCCSG.getKey(), dtEOD, strCurrency)) bAllSPNSuccess = false;
 		}
 
-		return bAllSPNSuccess;
+		return ptw.close() && bAllSPNSuccess;
 	}
 
 	/**
@@ -409,18 +441,45 @@ public class CDSManager {
 
 		if (null == setCC || 0 == setCC.size()) return false;
 
+		org.drip.service.env.PipelinedTableWriter ptw = null;
+
+		try {
+			ptw = new org.drip.service.env.PipelinedTableWriter (new org.drip.service.env.BatchedTableWriter
+				(stmt.getConnection()));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		boolean bAllSPNSuccess = true;
+
 		for (java.lang.String strCredit : setCC) {
-			SaveSPNEOD (stmt, mpc, strCredit, dtEOD, "USD");
+			if (!SaveSPNEOD (ptw, mpc, strCredit, dtEOD, "USD")) {
+				bAllSPNSuccess = false;
+
+				if (ptw.failed()) break;
+			}
 
 			if (0 == (++iNumCurves % 100))
 				System.out.println ("\n" + iNumCurves + " curves done in " + (System.nanoTime() - lStart) *
 					1.e-09 + " sec\n");
 		}
 
+		if (!ptw.close()) {
+			System.out.println ("CDSManager.SaveCreditCalibMeasures => CDSHist Write failed for " + dtEOD);
+
+			return false;
+		}
+
+		if (!bAllSPNSuccess)
+			System.out.println ("CDSManager.SaveCreditCalibMeasures => Not all the curves saved for " +
+				dtEOD);
+
 		System.out.println ("\nLoading " + iNumCurves + " curves for " + dtEOD.toString() + " took " +
 			((System.nanoTime() - lStart) * 1.e-09 / 60.) + " min\n");
 
-		return false;
+		return bAllSPNSuccess;
 	}
 
 	/**
@@ -0,0 +1,147 @@
+
+package org.drip.service.env;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * CSVBondMeasuresSink streams the Bid/Ask RV Measures of each Bond as a CSV Row (one per Side) onto the
+ * 	specified Writer. Rows are written under the Sink Lock, so the Rows from different Workers never
+ * 	interleave.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CSVBondMeasuresSink implements org.drip.service.env.BondMeasuresSink {
+	static final java.lang.String[] MEASURE_COLUMN = new java.lang.String[] {"Price", "Yield",
+		"WorkoutDate", "WorkoutFactor", "ZSpread", "GSpread", "ISpread", "TSYSpread", "ASW", "OAS",
+			"CreditBasis", "PECS", "BondBasis", "DiscountMargin", "ModifiedDuration", "MacaulayDuration",
+				"Convexity", "Yield01"};
+
+	private int _iNumRow = 0;
+	private java.io.Writer _writer = null;
+
+	/**
+	 * CSVBondMeasuresSink Constructor
+	 * 
+	 * @param writer The Writer the CSV Rows are streamed onto
+	 * @param bWriteHeader TRUE => Write the CSV Header Row first
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public CSVBondMeasuresSink (
+		final java.io.Writer writer,
+		final boolean bWriteHeader)
+		throws java.lang.Exception
+	{
+		if (null == (_writer = writer)) throw new java.lang.Exception ("CSVBondMeasuresSink ctr: Invalid Inputs");
+
+		if (!bWriteHeader) return;
+
+		java.lang.StringBuilder sbHeader = new java.lang.StringBuilder ("BondID,RunName,Side");
+
+		for (java.lang.String strColumn : MEASURE_COLUMN)
+			sbHeader.append (",").append (strColumn);
+
+		_writer.write (sbHeader.append ("\n").toString());
+	}
+
+	/**
+	 * Retrieve the Number of Measure Rows written
+	 * 
+	 * @return The Number of Measure Rows written
+	 */
+
+	public synchronized int numRow()
+	{
+		return _iNumRow;
+	}
+
+	@Override public boolean accept (
+		final java.lang.String strBondID,
+		final java.lang.String strRunName,
+		final org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.output.BondRVMeasures>
+			mapBMRV)
+	{
+		if (null == strBondID || null == mapBMRV) return false;
+
+		int iNumRow = 0;
+		java.lang.StringBuilder sbRows = new java.lang.StringBuilder();
+
+		for (java.util.Map.Entry<java.lang.String, org.drip.analytics.output.BondRVMeasures> me :
+			mapBMRV.entrySet()) {
+			org.drip.analytics.output.BondRVMeasures bmrv = me.getValue();
+
+			if (null == bmrv) continue;
+
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasure = bmrv.toMap ("");
+
+			sbRows.append (strBondID).append (",").append (null == strRunName ? "" : strRunName.trim()).append
+				(",").append (me.getKey());
+
+			for (java.lang.String strColumn : MEASURE_COLUMN) {
+				java.lang.Double dblMeasure = mapMeasure.get (strColumn);
+
+				sbRows.append (",");
+
+				if (null != dblMeasure && !java.lang.Double.isNaN (dblMeasure)) sbRows.append (dblMeasure);
+			}
+
+			sbRows.append ("\n");
+
+			++iNumRow;
+		}
+
+		synchronized (this) {
+			try {
+				_writer.write (sbRows.toString());
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+
+				return false;
+			}
+
+			_iNumRow += iNumRow;
+		}
+
+		return true;
+	}
+
+	@Override public synchronized boolean flush()
+	{
+		try {
+			_writer.flush();
+
+			return true;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,201 @@
+
+package org.drip.service.env;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * JDBCBondMeasuresSink persists the Bid/Ask RV Measures of each Bond as a Table Row (one per Side, keyed
+ * 	by the Bond ID, the Run Name, the Side, and the EOD) through a PipelinedTableWriter, so the Valuation
+ * 	Workers only enqueue the Rows, and the Batched Writes run on the Pipeline Writer Thread. The Rows of a
+ * 	Key are deleted ahead of their Insert. The Table Columns are BondID, RunName, Side, EOD, followed by the
+ * 	same Measure Columns as the CSVBondMeasuresSink. The Rows are committed when the Sink is closed.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class JDBCBondMeasuresSink implements org.drip.service.env.BondMeasuresSink {
+	private java.lang.String _strEOD = "";
+	private java.lang.String _strDeleteSQL = "";
+	private java.lang.String _strInsertSQL = "";
+	private java.util.concurrent.atomic.AtomicInteger _aiNumRow = new
+		java.util.concurrent.atomic.AtomicInteger();
+	private org.drip.service.env.PipelinedTableWriter _ptw = null;
+
+	/**
+	 * JDBCBondMeasuresSink Constructor
+	 * 
+	 * @param ptw The Pipelined Table Writer the Rows are submitted to
+	 * @param strTable The Bond Measures Table Name
+	 * @param dtEOD The EOD Date of the Measures
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public JDBCBondMeasuresSink (
+		final org.drip.service.env.PipelinedTableWriter ptw,
+		final java.lang.String strTable,
+		final org.drip.analytics.date.JulianDate dtEOD)
+		throws java.lang.Exception
+	{
+		if (null == (_ptw = ptw) || null == strTable || strTable.isEmpty() || null == dtEOD)
+			throw new java.lang.Exception ("JDBCBondMeasuresSink ctr: Invalid Inputs");
+
+		_strEOD = dtEOD.toOracleDate();
+
+		_strDeleteSQL = "delete from " + strTable +
+			" where BondID = ? and RunName = ? and Side = ? and EOD = ?";
+
+		java.lang.StringBuilder sbInsertSQL = new java.lang.StringBuilder ("insert into " + strTable +
+			" values(?, ?, ?, ?");
+
+		for (int i = 0; i < org.drip.service.env.CSVBondMeasuresSink.MEASURE_COLUMN.length; ++i)
+			sbInsertSQL.append (", ?");
+
+		_strInsertSQL = sbInsertSQL.append (")").toString();
+	}
+
+	/**
+	 * JDBCBondMeasuresSink Constructor over a Pipelined Writer of the Connection using the Default Batch
+	 * 	Size, Commit Interval, and Queue Capacity
+	 * 
+	 * @param conn The JDBC Connection
+	 * @param strTable The Bond Measures Table Name
+	 * @param dtEOD The EOD Date of the Measures
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public JDBCBondMeasuresSink (
+		final java.sql.Connection conn,
+		final java.lang.String strTable,
+		final org.drip.analytics.date.JulianDate dtEOD)
+		throws java.lang.Exception
+	{
+		this (new org.drip.service.env.PipelinedTableWriter (new org.drip.service.env.BatchedTableWriter
+			(conn)), strTable, dtEOD);
+	}
+
+	/**
+	 * Retrieve the Number of Measure Rows submitted
+	 * 
+	 * @return The Number of Measure Rows submitted
+	 */
+
+	public int numRow()
+	{
+		return _aiNumRow.get();
+	}
+
+	/**
+	 * Retrieve the Insert SQL
+	 * 
+	 * @return The Insert SQL
+	 */
+
+	public java.lang.String insertSQL()
+	{
+		return _strInsertSQL;
+	}
+
+	/**
+	 * Retrieve the Delete SQL
+	 * 
+	 * @return The Delete SQL
+	 */
+
+	public java.lang.String deleteSQL()
+	{
+		return _strDeleteSQL;
+	}
+
+	@Override public boolean accept (
+		final java.lang.String strBondID,
+		final java.lang.String strRunName,
+		final org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.output.BondRVMeasures>
+			mapBMRV)
+	{
+		if (null == strBondID || null == mapBMRV) return false;
+
+		java.lang.String strRun = null == strRunName ? "" : strRunName.trim();
+
+		java.lang.String[] astrMeasureColumn = org.drip.service.env.CSVBondMeasuresSink.MEASURE_COLUMN;
+
+		for (java.util.Map.Entry<java.lang.String, org.drip.analytics.output.BondRVMeasures> me :
+			mapBMRV.entrySet()) {
+			org.drip.analytics.output.BondRVMeasures bmrv = me.getValue();
+
+			if (null == bmrv) continue;
+
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasure = bmrv.toMap ("");
+
+			java.lang.Object[] aobjInsertParam = new java.lang.Object[4 + astrMeasureColumn.length];
+			aobjInsertParam[0] = strBondID;
+			aobjInsertParam[1] = strRun;
+			aobjInsertParam[2] = me.getKey();
+			aobjInsertParam[3] = _strEOD;
+
+			for (int i = 0; i < astrMeasureColumn.length; ++i) {
+				java.lang.Double dblMeasure = mapMeasure.get (astrMeasureColumn[i]);
+
+				aobjInsertParam[4 + i] = null == dblMeasure ? java.lang.Double.NaN : dblMeasure;
+			}
+
+			if (!_ptw.submit (_strDeleteSQL, new java.lang.Object[] {strBondID, strRun, me.getKey(), _strEOD},
+				_strInsertSQL, aobjInsertParam))
+				return false;
+
+			_aiNumRow.incrementAndGet();
+		}
+
+		return true;
+	}
+
+	/**
+	 * The Rows are written continuously by the Pipeline Writer Thread, and committed on close, so the Flush
+	 * 	only reports the Pipeline Status.
+	 * 
+	 * @return TRUE => No Write has failed so far
+	 */
+
+	@Override public boolean flush()
+	{
+		return !_ptw.failed();
+	}
+
+	/**
+	 * Drain the Pipeline, and Commit the Rows
+	 * 
+	 * @return TRUE => All the submitted Rows successfully written
+	 */
+
+	public boolean close()
+	{
+		return _ptw.close();
+	}
+}
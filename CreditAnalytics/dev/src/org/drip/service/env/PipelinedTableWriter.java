@@ -0,0 +1,233 @@
+
+package org.drip.service.env;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * PipelinedTableWriter decouples the Computation of the Rows from their Persistence: the Computing Threads
+ * 	submit the Rows onto a bounded Queue, and a dedicated Writer Thread drains them through a
+ * 	BatchedTableWriter. The Queue Bound provides the Back-pressure when the Database falls behind. Once a
+ * 	Write fails (or throws), all the subsequent Submissions are refused, and the Writer keeps draining the
+ * 	Queue (discarding the Rows) so that no Submitter stays blocked. The Submissions hold the Read Side of a
+ * 	Lock whose Write Side Close takes, so no Row is queued behind the End of the Stream; the underlying
+ * 	Batched Table Writer is closed (or, after a Failure, aborted) only after the Writer Thread has
+ * 	terminated.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class PipelinedTableWriter {
+
+	/**
+	 * Default Queue Capacity (in Rows)
+	 */
+
+	public static final int DEFAULT_QUEUE_CAPACITY = 10000;
+
+	private static final java.lang.Object[] END_OF_STREAM = new java.lang.Object[0];
+
+	private java.lang.Thread _thrWriter = null;
+	private volatile boolean _bFailed = false;
+	private boolean _bClosed = false;
+	private org.drip.service.env.BatchedTableWriter _btw = null;
+	private java.util.concurrent.BlockingQueue<java.lang.Object[]> _bqRow = null;
+	private java.util.concurrent.locks.ReadWriteLock _rwlClose = new
+		java.util.concurrent.locks.ReentrantReadWriteLock();
+
+	/**
+	 * PipelinedTableWriter constructor
+	 *
+	 * @param btw The Batched Table Writer driven by the Writer Thread
+	 * @param iQueueCapacity The Queue Capacity (in Rows)
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public PipelinedTableWriter (
+		final org.drip.service.env.BatchedTableWriter btw,
+		final int iQueueCapacity)
+		throws java.lang.Exception
+	{
+		if (null == (_btw = btw) || 0 >= iQueueCapacity)
+			throw new java.lang.Exception ("PipelinedTableWriter ctr: Invalid Inputs");
+
+		_bqRow = new java.util.concurrent.ArrayBlockingQueue<java.lang.Object[]> (iQueueCapacity);
+
+		_thrWriter = new java.lang.Thread ("PipelinedTableWriter") {
+			@Override public void run()
+			{
+				while (true) {
+					java.lang.Object[] aobjRow = null;
+
+					try {
+						aobjRow = _bqRow.take();
+					} catch (java.lang.InterruptedException e) {
+						_bFailed = true;
+						continue;
+					}
+
+					if (END_OF_STREAM == aobjRow) return;
+
+					if (_bFailed) continue;
+
+					try {
+						if (!_btw.write ((java.lang.String) aobjRow[0], (java.lang.Object[]) aobjRow[1],
+							(java.lang.String) aobjRow[2], (java.lang.Object[]) aobjRow[3]))
+							_bFailed = true;
+					} catch (java.lang.Throwable t) {
+						t.printStackTrace();
+
+						_bFailed = true;
+					}
+				}
+			}
+		};
+
+		_thrWriter.setDaemon (true);
+
+		_thrWriter.start();
+	}
+
+	/**
+	 * PipelinedTableWriter constructor using the Default Queue Capacity
+	 *
+	 * @param btw The Batched Table Writer driven by the Writer Thread
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public PipelinedTableWriter (
+		final org.drip.service.env.BatchedTableWriter btw)
+		throws java.lang.Exception
+	{
+		this (btw, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	/**
+	 * Indicate if a Write has failed
+	 *
+	 * @return TRUE => A Write has failed
+	 */
+
+	public boolean failed()
+	{
+		return _bFailed;
+	}
+
+	/**
+	 * Submit a Row for the Write, preceded by the Delete of its Key. Blocks while the Queue is full.
+	 * 	Submissions after a failed Write, or after Close, are refused.
+	 *
+	 * @param strDeleteSQL The Parameterized Delete SQL (null => No Delete)
+	 * @param aobjDeleteParam Array of the Delete SQL Parameters
+	 * @param strInsertSQL The Parameterized Insert SQL
+	 * @param aobjInsertParam Array of the Insert SQL Parameters
+	 *
+	 * @return TRUE => The Row successfully submitted
+	 */
+
+	public boolean submit (
+		final java.lang.String strDeleteSQL,
+		final java.lang.Object[] aobjDeleteParam,
+		final java.lang.String strInsertSQL,
+		final java.lang.Object[] aobjInsertParam)
+	{
+		if (_bFailed || null == strInsertSQL || null == aobjInsertParam) return false;
+
+		_rwlClose.readLock().lock();
+
+		try {
+			if (_bClosed || _bFailed) return false;
+
+			_bqRow.put (new java.lang.Object[] {strDeleteSQL, aobjDeleteParam, strInsertSQL,
+				aobjInsertParam});
+
+			return true;
+		} catch (java.lang.InterruptedException e) {
+			java.lang.Thread.currentThread().interrupt();
+		} finally {
+			_rwlClose.readLock().unlock();
+		}
+
+		return false;
+	}
+
+	/**
+	 * Drain the Queue, then Flush, Commit, and close the underlying Batched Table Writer - the Writer is
+	 * 	aborted instead (rolling back its uncommitted Rows) if a Write has failed. An Interrupt
+	 * 	marks the Pipeline as failed (so the Writer discards the Rows still queued), but Close still waits
+	 * 	for the Writer Thread to terminate before closing the Batched Table Writer.
+	 *
+	 * @return TRUE => All the submitted Rows successfully written
+	 */
+
+	public boolean close()
+	{
+		_rwlClose.writeLock().lock();
+
+		try {
+			if (_bClosed) return false;
+
+			_bClosed = true;
+		} finally {
+			_rwlClose.writeLock().unlock();
+		}
+
+		boolean bInterrupted = false;
+
+		while (true) {
+			try {
+				_bqRow.put (END_OF_STREAM);
+
+				break;
+			} catch (java.lang.InterruptedException e) {
+				bInterrupted = true;
+				_bFailed = true;
+			}
+		}
+
+		while (_thrWriter.isAlive()) {
+			try {
+				_thrWriter.join();
+			} catch (java.lang.InterruptedException e) {
+				bInterrupted = true;
+				_bFailed = true;
+			}
+		}
+
+		if (bInterrupted) java.lang.Thread.currentThread().interrupt();
+
+		if (_bFailed) {
+			_btw.abort();
+
+			return false;
+		}
+
+		return _btw.close();
+	}
+}
@@ -31,14 +31,27 @@ package org.drip.spline.multidimensional;
 
 /**
  * WireSurfaceStretch implements a 2D spline surface stretch. It synthesizes this from an array of 1D Span
- * 	instances, each of which is referred to as wire spline in this case.
+ * 	instances, each of which is referred to as wire spline in this case. The calibrated Cross-Section
+ * 	Stretches across the Wire Spans are retained in a bounded, least-recently-used Cache keyed off of the Y
+ * 	Ordinate, so repeated Queries at the same Y re-use the Calibration.
  *
  * @author Lakshmi Krishnamurthy
  */
 
 public class WireSurfaceStretch {
+
+	/**
+	 * Default Size of the Cross-Section Stretch Cache
+	 */
+
+	public static final int DEFAULT_CROSS_SECTION_CACHE_SIZE = 64;
+
+	private java.lang.String _strName = "";
+	private int _iCrossSectionCacheSize = -1;
 	private org.drip.spline.params.SegmentCustomBuilderControl _scbc = null;
 	private java.util.TreeMap<java.lang.Double, org.drip.spline.grid.Span> _mapWireSpan = null;
+	private java.util.LinkedHashMap<java.lang.Double, org.drip.spline.stretch.MultiSegmentSequence>
+		_mapCrossSection = null;
 
 	/**
 	 * WireSurfaceStretch Constructor
@@ -56,23 +69,48 @@ public class WireSurfaceStretch {
 		final java.util.TreeMap<java.lang.Double, org.drip.spline.grid.Span> mapWireSpan)
 		throws java.lang.Exception
 	{
-		if (null == (_mapWireSpan = mapWireSpan) || 0 == _mapWireSpan.size() || null == (_scbc = scbc))
-			throw new java.lang.Exception ("WireSurfaceStretch ctr: Invalid Inputs");
+		this (strName, scbc, mapWireSpan, DEFAULT_CROSS_SECTION_CACHE_SIZE);
 	}
 
 	/**
-	 * Compute the Bivariate Surface Response Value
-	 * 
-	 * @param dblX X
-	 * @param dblY Y
+	 * WireSurfaceStretch Constructor
 	 * 
-	 * @return The Bivariate Surface Response Value
+	 * @param strName Name
+	 * @param scbc Segment Custom Builder Control Parameters
+	 * @param mapWireSpan X-mapped Array of Y Basis Spline Wire Spans
+	 * @param iCrossSectionCacheSize Maximum Number of calibrated Cross-Section Stretches retained (0 turns
+	 * 	off the Caching)
 	 * 
-	 * @throws java.lang.Exception Thrown if Inputs are Invalid
+	 * @throws java.lang.Exception Thrown if the Inputs are invalid
 	 */
 
-	public double responseValue (
-		final double dblX,
+	public WireSurfaceStretch (
+		final java.lang.String strName,
+		final org.drip.spline.params.SegmentCustomBuilderControl scbc,
+		final java.util.TreeMap<java.lang.Double, org.drip.spline.grid.Span> mapWireSpan,
+		final int iCrossSectionCacheSize)
+		throws java.lang.Exception
+	{
+		if (null == (_mapWireSpan = mapWireSpan) || 0 == _mapWireSpan.size() || null == (_scbc = scbc) || 0 >
+			(_iCrossSectionCacheSize = iCrossSectionCacheSize))
+			throw new java.lang.Exception ("WireSurfaceStretch ctr: Invalid Inputs");
+
+		if (null != strName) _strName = strName;
+
+		_mapCrossSection = new java.util.LinkedHashMap<java.lang.Double,
+			org.drip.spline.stretch.MultiSegmentSequence> (16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override protected boolean removeEldestEntry (
+				final java.util.Map.Entry<java.lang.Double, org.drip.spline.stretch.MultiSegmentSequence>
+					me)
+			{
+				return size() > _iCrossSectionCacheSize;
+			}
+		};
+	}
+
+	private org.drip.spline.stretch.MultiSegmentSequence calibrateCrossSection (
 		final double dblY)
 		throws java.lang.Exception
 	{
@@ -86,7 +124,8 @@ public class WireSurfaceStretch {
 
 		for (java.util.Map.Entry<java.lang.Double, org.drip.spline.grid.Span> me : _mapWireSpan.entrySet()) {
 			if (null == me)
-				throw new java.lang.Exception ("WireSurfaceStretch::responseValue => Invalid Wire Span Map");
+				throw new java.lang.Exception
+					("WireSurfaceStretch::calibrateCrossSection => Invalid Wire Span Map");
 
 			if (0 != i) aSCBC[i - 1] = _scbc;
 
@@ -95,7 +134,8 @@ public class WireSurfaceStretch {
 			org.drip.spline.grid.Span wireSpan = me.getValue();
 
 			if (null == wireSpan)
-				throw new java.lang.Exception ("WireSurfaceStretch::responseValue => Invalid Wire Span Map");
+				throw new java.lang.Exception
+					("WireSurfaceStretch::calibrateCrossSection => Invalid Wire Span Map");
 
 			double dblLeftY = wireSpan.left();
 
@@ -111,13 +151,95 @@ public class WireSurfaceStretch {
 
 		org.drip.spline.stretch.MultiSegmentSequence mss =
 			org.drip.spline.stretch.MultiSegmentSequenceBuilder.CreateCalibratedStretchEstimator
-				("org.drip.spline.multidimensional.WireSurfaceStretch@" +
-					org.drip.quant.common.StringUtil.GUID(), adblX, adblZ, aSCBC, null,
-						org.drip.spline.stretch.BoundarySettings.NaturalStandard(),
-							org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE);
+				("org.drip.spline.multidimensional.WireSurfaceStretch@" + _strName + "@" + dblY, adblX,
+					adblZ, aSCBC, null, org.drip.spline.stretch.BoundarySettings.NaturalStandard(),
+						org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE);
 
 		if (null == mss)
-			throw new java.lang.Exception ("WireSurfaceStretch::responseValue => Cannot extract MSS");
+			throw new java.lang.Exception ("WireSurfaceStretch::calibrateCrossSection => Cannot extract MSS");
+
+		return mss;
+	}
+
+	/**
+	 * Retrieve the Calibrated Cross-Section Stretch across the Wire Spans at the given Y Ordinate, either from
+	 * 	the Cache, or by calibrating it afresh
+	 * 
+	 * @param dblY Y
+	 * 
+	 * @return The Calibrated Cross-Section Stretch
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public org.drip.spline.stretch.MultiSegmentSequence crossSection (
+		final double dblY)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblY))
+			throw new java.lang.Exception ("WireSurfaceStretch::crossSection => Invalid Inputs");
+
+		if (0 == _iCrossSectionCacheSize) return calibrateCrossSection (dblY);
+
+		java.lang.Double dblKey = dblY;
+		org.drip.spline.stretch.MultiSegmentSequence mss = null;
+
+		synchronized (_mapCrossSection) {
+			mss = _mapCrossSection.get (dblKey);
+		}
+
+		if (null != mss) return mss;
+
+		mss = calibrateCrossSection (dblY);
+
+		synchronized (_mapCrossSection) {
+			_mapCrossSection.put (dblKey, mss);
+		}
+
+		return mss;
+	}
+
+	/**
+	 * Retrieve the Number of Cross-Section Stretches currently Cached
+	 * 
+	 * @return The Number of Cross-Section Stretches currently Cached
+	 */
+
+	public int cachedCrossSectionCount()
+	{
+		synchronized (_mapCrossSection) {
+			return _mapCrossSection.size();
+		}
+	}
+
+	/**
+	 * Clear the Cross-Section Stretch Cache
+	 */
+
+	public void clearCrossSectionCache()
+	{
+		synchronized (_mapCrossSection) {
+			_mapCrossSection.clear();
+		}
+	}
+
+	/**
+	 * Compute the Bivariate Surface Response Value
+	 * 
+	 * @param dblX X
+	 * @param dblY Y
+	 * 
+	 * @return The Bivariate Surface Response Value
+	 * 
+	 * @throws java.lang.Exception Thrown if Inputs are Invalid
+	 */
+
+	public double responseValue (
+		final double dblX,
+		final double dblY)
+		throws java.lang.Exception
+	{
+		org.drip.spline.stretch.MultiSegmentSequence mss = crossSection (dblY);
 
 		double dblLeftX = mss.getLeftPredictorOrdinateEdge();
 
@@ -131,62 +253,74 @@ public class WireSurfaceStretch {
 	}
 
 	/**
-	 * Retrieve the Surface Span Stretch that corresponds to the given Y Anchor
+	 * Compute the Bivariate Surface Response Values over the Grid spanned by the X and the Y Ordinates. Each
+	 * 	Cross-Section is calibrated (or retrieved from the Cache) only once per Y Ordinate.
 	 * 
-	 * @param dblYAnchor Y Anchor
+	 * @param adblX Array of X
+	 * @param adblY Array of Y
 	 * 
-	 * @return The Surface Span Stretch Instance
+	 * @return The Grid of Surface Response Values, indexed as [X][Y]
 	 */
 
-	public org.drip.spline.grid.Span wireSpanYAnchor (
-		final double dblYAnchor)
+	public double[][] responseValueGrid (
+		final double[] adblX,
+		final double[] adblY)
 	{
-		if (!org.drip.quant.common.NumberUtil.IsValid (dblYAnchor)) return null;
+		if (null == adblX || null == adblY) return null;
 
-		int iSize = _mapWireSpan.size();
+		int iNumX = adblX.length;
+		int iNumY = adblY.length;
 
-		int i = 0;
-		double[] adblX = new double[iSize];
-		double[] adblZ = new double[iSize];
-		org.drip.spline.params.SegmentCustomBuilderControl[] aSCBC = new
-			org.drip.spline.params.SegmentCustomBuilderControl[iSize - 1];
+		if (0 == iNumX || 0 == iNumY) return null;
 
-		for (java.util.Map.Entry<java.lang.Double, org.drip.spline.grid.Span> me : _mapWireSpan.entrySet()) {
-			if (null == me) return null;
+		double[] adblClampedX = new double[iNumX];
+		double[] adblResponseX = new double[iNumX];
+		double[][] aadblResponse = new double[iNumX][iNumY];
 
-			if (0 != i) aSCBC[i - 1] = _scbc;
+		for (int j = 0; j < iNumY; ++j) {
+			try {
+				org.drip.spline.stretch.MultiSegmentSequence mss = crossSection (adblY[j]);
 
-			adblX[i] = me.getKey();
+				double dblLeftX = mss.getLeftPredictorOrdinateEdge();
 
-			org.drip.spline.grid.Span wireSpan = me.getValue();
+				double dblRightX = mss.getRightPredictorOrdinateEdge();
 
-			if (null == wireSpan) return null;
+				for (int i = 0; i < iNumX; ++i) {
+					if (!org.drip.quant.common.NumberUtil.IsValid (adblX[i])) return null;
 
-			try {
-				double dblLeftY = wireSpan.left();
-
-				double dblRightY = wireSpan.right();
+					adblClampedX[i] = adblX[i] <= dblLeftX ? dblLeftX : (adblX[i] >= dblRightX ? dblRightX :
+						adblX[i]);
+				}
 
-				if (dblYAnchor <= dblLeftY)
-					adblZ[i++] = wireSpan.calcResponseValue (dblLeftY);
-				else if (dblYAnchor >= dblRightY)
-					adblZ[i++] = wireSpan.calcResponseValue (dblRightY);
-				else
-					adblZ[i++] = wireSpan.calcResponseValue (dblYAnchor);
+				if (!mss.responseValue (adblClampedX, adblResponseX)) return null;
 			} catch (java.lang.Exception e) {
 				e.printStackTrace();
 
 				return null;
 			}
+
+			for (int i = 0; i < iNumX; ++i)
+				aadblResponse[i][j] = adblResponseX[i];
 		}
 
+		return aadblResponse;
+	}
+
+	/**
+	 * Retrieve the Surface Span Stretch that corresponds to the given Y Anchor
+	 * 
+	 * @param dblYAnchor Y Anchor
+	 * 
+	 * @return The Surface Span Stretch Instance
+	 */
+
+	public org.drip.spline.grid.Span wireSpanYAnchor (
+		final double dblYAnchor)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblYAnchor)) return null;
+
 		try {
-			return new org.drip.spline.grid.OverlappingStretchSpan
-				(org.drip.spline.stretch.MultiSegmentSequenceBuilder.CreateCalibratedStretchEstimator
-					("org.drip.spline.multidimensional.WireSurfaceStretch@" +
-						org.drip.quant.common.StringUtil.GUID(), adblX, adblZ, aSCBC, null,
-							org.drip.spline.stretch.BoundarySettings.NaturalStandard(),
-								org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE));
+			return new org.drip.spline.grid.OverlappingStretchSpan (crossSection (dblYAnchor));
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
@@ -113,55 +113,55 @@ public class MinimalQuadraticHaganWest {
 		 * 
 		 * 	- Left index => Equation Index
 		 * 	- Right Index => Coefficient Index
+		 * 
+		 * The Equations are interleaved by Segment (Conserved Quantity, Continuity, Derivative Penalty) so
+		 * 	that the Coefficient Matrix is banded, with 2 Sub-diagonals and 1 Super-diagonal.
 		 */
 
 		/*
-		 * Set up the conserved quantities; Laid out as:
-		 * 		A_i + (H_i / 2.) * B_i + (H_i * H_i / 3.) * C_i = Observation_i
+		 * Left Boundary Condition: Starting Left Slope is zero, i.e., B_0 = 0.
 		 */
 
-		for (int iEq = 0; iEq < iNumObservation; ++iEq) {
-			int iSegmentIndex = iEq;
-			adblRHS[iEq] = _adblObservation[iEq]; // Z_i
+		adblRHS[0] = 0.;
+		aadblCoeffMatrix[0][1] = 1.;
+
+		for (int iSegmentIndex = 0; iSegmentIndex < iNumObservation; ++iSegmentIndex) {
+
+			/*
+			 * Set up the conserved quantities; Laid out as:
+			 * 		A_i + (H_i / 2.) * B_i + (H_i * H_i / 3.) * C_i = Observation_i
+			 */
+
+			int iEq = 3 * iSegmentIndex + 1;
+			adblRHS[iEq] = _adblObservation[iSegmentIndex]; // Z_i
 			aadblCoeffMatrix[iEq][3 * iSegmentIndex] = 1.; // A_i
 			aadblCoeffMatrix[iEq][3 * iSegmentIndex + 1] = 0.5 * adblH[iSegmentIndex]; // B_i
 			aadblCoeffMatrix[iEq][3 * iSegmentIndex + 2] = adblH[iSegmentIndex] * adblH[iSegmentIndex] / 3.; // C_i
-		}
 
-		/*
-		 * Set up the continuity constraints; Laid out as:
-		 * 		A_i + H_i * B_i + (H_i * H_i) * C_i - A_i+1 = 0.
-		 */
+			if (iNumObservation - 1 == iSegmentIndex) break;
+
+			/*
+			 * Set up the continuity constraints; Laid out as:
+			 * 		A_i + H_i * B_i + (H_i * H_i) * C_i - A_i+1 = 0.
+			 */
 
-		for (int iEq = iNumObservation; iEq < 2 * iNumObservation - 1; ++iEq) {
-			adblRHS[iEq] = 0.;
-			int iSegmentIndex = iEq - iNumObservation;
+			adblRHS[++iEq] = 0.;
 			aadblCoeffMatrix[iEq][3 * iSegmentIndex] = 1.; // A_i
 			aadblCoeffMatrix[iEq][3 * iSegmentIndex + 1] = adblH[iSegmentIndex]; // B_i
 			aadblCoeffMatrix[iEq][3 * iSegmentIndex + 2] = adblH[iSegmentIndex] * adblH[iSegmentIndex]; // C_i
 			aadblCoeffMatrix[iEq][3 * iSegmentIndex + 3] = -1.; // A_i+1
-		}
 
-		/*
-		 * Set up the derivative penalty minimizer; Laid out as:
-		 * 		w * B_i + (2. * H_i) * C_i - w * B_i+1 = 0.
-		 */
+			/*
+			 * Set up the derivative penalty minimizer; Laid out as:
+			 * 		w * B_i + (2. * H_i) * C_i - w * B_i+1 = 0.
+			 */
 
-		for (int iEq = 2 * iNumObservation - 1; iEq < 3 * iNumObservation - 2; ++iEq) {
-			adblRHS[iEq] = 0.;
-			int iSegmentIndex = iEq - 2 * iNumObservation + 1;
+			adblRHS[++iEq] = 0.;
 			aadblCoeffMatrix[iEq][3 * iSegmentIndex + 1] = _dblWeight; // B_i
 			aadblCoeffMatrix[iEq][3 * iSegmentIndex + 2] = 2. * adblH[iSegmentIndex]; // C_i
 			aadblCoeffMatrix[iEq][3 * iSegmentIndex + 4] = -1. * _dblWeight; // B_i+1
 		}
 
-		/*
-		 * Left Boundary Condition: Starting Left Slope is zero, i.e., B_0 = 0.
-		 */
-
-		adblRHS[3 * iNumObservation - 2] = 0.;
-		aadblCoeffMatrix[3 * iNumObservation - 2][1] = 1.;
-
 		/*
 		 * Right Boundary Condition: Final First Derivative is zero, i.e., B_n-1 = 0.
 		 */
@@ -169,13 +169,12 @@ public class MinimalQuadraticHaganWest {
 		adblRHS[3 * iNumObservation - 1] = 0.;
 		aadblCoeffMatrix[3 * iNumObservation - 1][3 * iNumObservation - 2] = 1.;
 
-		org.drip.quant.linearalgebra.LinearizationOutput lssGaussianElimination =
-			org.drip.quant.linearalgebra.LinearSystemSolver.SolveUsingGaussianElimination (aadblCoeffMatrix,
-				adblRHS);
+		org.drip.quant.linearalgebra.BandedLUFactorization blu =
+			org.drip.quant.linearalgebra.BandedLUFactorization.FromDense (aadblCoeffMatrix);
 
-		if (null == lssGaussianElimination) return false;
+		if (null == blu) return false;
 
-		double[] adblCoeff = lssGaussianElimination.getTransformedRHS();
+		double[] adblCoeff = blu.solve (adblRHS);
 
 		if (null == adblCoeff || 3 * iNumObservation != adblCoeff.length) return false;
 
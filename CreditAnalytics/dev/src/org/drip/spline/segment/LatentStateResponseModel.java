@@ -86,7 +86,7 @@ public class LatentStateResponseModel extends org.drip.spline.segment.LatentStat
 
 	private double[] _adblResponseBasisCoeff = null;
 	private org.drip.spline.segment.BasisEvaluator _be = null;
-	private double[][] _aadblDResponseBasisCoeffDConstraint = null;
+	private org.drip.quant.linearalgebra.LUFactorization _luStateConstraint = null;
 	private org.drip.spline.params.SegmentInelasticDesignControl _sidc = null;
 	private org.drip.quant.calculus.WengertJacobian _wjDBasisCoeffDEdgeValue = null;
 
@@ -410,21 +410,25 @@ public class LatentStateResponseModel extends org.drip.spline.segment.LatentStat
 			return false;
 		}
 
-		org.drip.quant.linearalgebra.LinearizationOutput lo =
-			org.drip.quant.linearalgebra.LinearSystemSolver.SolveUsingMatrixInversion
-				(aadblResponseBasisCoeffConstraint, adblPredictorResponseConstraintValue);
+		/*
+		 * The Factorization of the State Constraint Matrix is retained - the Manifest Jacobian RHS are solved
+		 * 	off of it whenever their Constraint Matrix matches, and the Inverse (i.e., the Coefficient Edge
+		 * 	Jacobian) is only computed on demand.
+		 */
 
-		if (null == lo) return false;
+		org.drip.quant.linearalgebra.LUFactorization lu =
+			org.drip.quant.linearalgebra.Matrix.LUDecomposition (aadblResponseBasisCoeffConstraint);
 
-		double[] adblCalibResponseBasisCoeff = lo.getTransformedRHS();
+		if (null == lu) return false;
+
+		double[] adblCalibResponseBasisCoeff = lu.solve (adblPredictorResponseConstraintValue);
 
 		if (null == adblCalibResponseBasisCoeff || adblCalibResponseBasisCoeff.length !=
-			iNumResponseBasisCoeff || null == (_aadblDResponseBasisCoeffDConstraint =
-				lo.getTransformedMatrix()) || _aadblDResponseBasisCoeffDConstraint.length !=
-					iNumResponseBasisCoeff || _aadblDResponseBasisCoeffDConstraint[0].length !=
-						iNumResponseBasisCoeff)
+			iNumResponseBasisCoeff)
 			return false;
 
+		_luStateConstraint = lu;
+
 		for (int i = 0; i < iNumResponseBasisCoeff; ++i) {
 			if (!org.drip.quant.common.NumberUtil.IsValid (_adblResponseBasisCoeff[i] =
 				adblCalibResponseBasisCoeff[i]))
@@ -556,12 +560,12 @@ public class LatentStateResponseModel extends org.drip.spline.segment.LatentStat
 			return null;
 		}
 
-		org.drip.quant.linearalgebra.LinearizationOutput lo =
-			org.drip.quant.linearalgebra.LinearSystemSolver.SolveUsingMatrixInversion
-				(aadblResponseCoeffConstraintManifestSensitivity,
-					adblPredictorResponseManifestSensitivityConstraint);
+		org.drip.quant.linearalgebra.LUFactorization lu = null != _luStateConstraint &&
+			_luStateConstraint.factors (aadblResponseCoeffConstraintManifestSensitivity) ? _luStateConstraint :
+				org.drip.quant.linearalgebra.Matrix.LUDecomposition
+					(aadblResponseCoeffConstraintManifestSensitivity);
 
-		return null == lo ? null : lo.getTransformedRHS();
+		return null == lu ? null : lu.solve (adblPredictorResponseManifestSensitivityConstraint);
 	}
 
 	/**
@@ -1270,14 +1274,16 @@ public class LatentStateResponseModel extends org.drip.spline.segment.LatentStat
 				return _wjDBasisCoeffDEdgeValue = null;
 		}
 
-		if (null == _aadblDResponseBasisCoeffDConstraint) return null;
+		if (null == _luStateConstraint) return null;
+
+		double[][] aadblDResponseBasisCoeffDConstraint = _luStateConstraint.inverse();
 
-		int iSize = _aadblDResponseBasisCoeffDConstraint.length;
+		int iSize = aadblDResponseBasisCoeffDConstraint.length;
 
 		for (int i = 0; i < iSize; ++i) {
 			for (int j = 0; j < iSize; ++j) {
 				if (!_wjDBasisCoeffDEdgeValue.accumulatePartialFirstDerivative (i, j,
-					_aadblDResponseBasisCoeffDConstraint[i][j]))
+					aadblDResponseBasisCoeffDConstraint[i][j]))
 					return null;
 			}
 		}
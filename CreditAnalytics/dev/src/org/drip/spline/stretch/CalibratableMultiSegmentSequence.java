@@ -48,9 +48,78 @@ public class CalibratableMultiSegmentSequence extends org.drip.function.determin
 	private java.lang.String _strName = "";
 	private org.drip.spline.stretch.SegmentSequenceBuilder _ssb = null;
 	private org.drip.spline.segment.LatentStateResponseModel[] _aLSRM = null;
+	private double[] _adblSegmentLeft = null;
+	private double[] _adblSegmentRight = null;
+	private int _iContainingIndexCursor = 0;
 	private org.drip.spline.params.SegmentCustomBuilderControl[] _aSCBC = null;
 	private org.drip.quant.calculus.WengertJacobian _wjDCoeffDEdgeParams = null;
 
+	private final boolean rightEdgeContains (
+		final int iSegment,
+		final double dblPredictorOrdinate,
+		final boolean bIncludeRight)
+	{
+		return bIncludeRight ? _adblSegmentRight[iSegment] >= dblPredictorOrdinate :
+			_adblSegmentRight[iSegment] > dblPredictorOrdinate;
+	}
+
+	private final boolean leftEdgeContains (
+		final int iSegment,
+		final double dblPredictorOrdinate,
+		final boolean bIncludeLeft)
+	{
+		return bIncludeLeft ? _adblSegmentLeft[iSegment] <= dblPredictorOrdinate :
+			_adblSegmentLeft[iSegment] < dblPredictorOrdinate;
+	}
+
+	/*
+	 * TRUE => The Segment is the first one (in Sequence Order) containing the Predictor Ordinate
+	 */
+
+	private final boolean firstContaining (
+		final int iSegment,
+		final double dblPredictorOrdinate,
+		final boolean bIncludeLeft,
+		final boolean bIncludeRight)
+	{
+		return 0 <= iSegment && iSegment < _adblSegmentRight.length && rightEdgeContains (iSegment,
+			dblPredictorOrdinate, bIncludeRight) && (0 == iSegment || !rightEdgeContains (iSegment - 1,
+				dblPredictorOrdinate, bIncludeRight)) && leftEdgeContains (iSegment, dblPredictorOrdinate,
+					bIncludeLeft);
+	}
+
+	/*
+	 * Locate the Containing Segment, trying the Cursor Segment and its Successor first, and falling back to
+	 * 	a Binary Search over the Segment Right Edges.
+	 */
+
+	private final int locateContainingIndex (
+		final double dblPredictorOrdinate,
+		final boolean bIncludeLeft,
+		final boolean bIncludeRight,
+		final int iCursor)
+	{
+		if (firstContaining (iCursor, dblPredictorOrdinate, bIncludeLeft, bIncludeRight)) return iCursor;
+
+		if (firstContaining (iCursor + 1, dblPredictorOrdinate, bIncludeLeft, bIncludeRight))
+			return iCursor + 1;
+
+		int iLow = 0;
+		int iHigh = _adblSegmentRight.length - 1;
+
+		while (iLow < iHigh) {
+			int iMid = (iLow + iHigh) >>> 1;
+
+			if (rightEdgeContains (iMid, dblPredictorOrdinate, bIncludeRight))
+				iHigh = iMid;
+			else
+				iLow = iMid + 1;
+		}
+
+		return rightEdgeContains (iLow, dblPredictorOrdinate, bIncludeRight) && leftEdgeContains (iLow,
+			dblPredictorOrdinate, bIncludeLeft) ? iLow : -1;
+	}
+
 	private boolean setDCoeffDEdgeParams (
 		final int iNodeIndex,
 		final org.drip.quant.calculus.WengertJacobian wjDCoeffDEdgeParams)
@@ -135,9 +204,16 @@ public class CalibratableMultiSegmentSequence extends org.drip.function.determin
 		if (0 == iNumSegment || iNumSegment != aSCBC.length)
 			throw new java.lang.Exception ("CalibratableMultiSegmentSequence ctr => Invalid inputs!");
 
+		_adblSegmentLeft = new double[iNumSegment];
+		_adblSegmentRight = new double[iNumSegment];
+
 		for (int i = 0; i < iNumSegment; ++i) {
 			if (null == (_aLSRM[i] = aCS[i]) || null == (_aSCBC[i] = aSCBC[i]))
 				throw new java.lang.Exception ("CalibratableMultiSegmentSequence ctr => Invalid inputs!");
+
+			_adblSegmentLeft[i] = _aLSRM[i].left();
+
+			_adblSegmentRight[i] = _aLSRM[i].right();
 		}
 	}
 
@@ -683,12 +759,12 @@ public class CalibratableMultiSegmentSequence extends org.drip.function.determin
 
 	@Override public double getLeftPredictorOrdinateEdge()
 	{
-		return _aLSRM[0].left();
+		return _adblSegmentLeft[0];
 	}
 
 	@Override public double getRightPredictorOrdinateEdge()
 	{
-		return _aLSRM[_aLSRM.length - 1].right();
+		return _adblSegmentRight[_adblSegmentRight.length - 1];
 	}
 
 	@Override public int containingIndex (
@@ -701,20 +777,42 @@ public class CalibratableMultiSegmentSequence extends org.drip.function.determin
 			throw new java.lang.Exception
 				("CalibratableMultiSegmentSequence::containingIndex => Predictor Ordinate not in the Stretch Range");
 
-		int iNumSegment = _aLSRM.length;
+		int iContainingIndex = locateContainingIndex (dblPredictorOrdinate, bIncludeLeft, bIncludeRight,
+			_iContainingIndexCursor);
+
+		if (0 > iContainingIndex)
+			throw new java.lang.Exception
+				("CalibratableMultiSegmentSequence::containingIndex => Cannot locate Containing Index");
+
+		return _iContainingIndexCursor = iContainingIndex;
+	}
+
+	@Override public boolean responseValue (
+		final double[] adblPredictorOrdinate,
+		final double[] adblResponseValue)
+	{
+		if (null == adblPredictorOrdinate || null == adblResponseValue || adblPredictorOrdinate.length !=
+			adblResponseValue.length)
+			return false;
+
+		int iCursor = _iContainingIndexCursor;
 
-		for (int i = 0 ; i < iNumSegment; ++i) {
-			boolean bLeftValid = bIncludeLeft ? _aLSRM[i].left() <= dblPredictorOrdinate : _aLSRM[i].left() <
-				dblPredictorOrdinate;
+		try {
+			for (int i = 0; i < adblPredictorOrdinate.length; ++i) {
+				if (!in (adblPredictorOrdinate[i]) || 0 > (iCursor = locateContainingIndex
+					(adblPredictorOrdinate[i], true, true, iCursor)))
+					return false;
 
-			boolean bRightValid = bIncludeRight ? _aLSRM[i].right() >= dblPredictorOrdinate :
-				_aLSRM[i].right() > dblPredictorOrdinate;
+				adblResponseValue[i] = _aLSRM[iCursor].responseValue (adblPredictorOrdinate[i]);
+			}
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
 
-			if (bLeftValid && bRightValid) return i;
+			return false;
 		}
 
-		throw new java.lang.Exception
-			("CalibratableMultiSegmentSequence::containingIndex => Cannot locate Containing Index");
+		_iContainingIndexCursor = iCursor;
+		return true;
 	}
 
 	@Override public CalibratableMultiSegmentSequence clipLeft (
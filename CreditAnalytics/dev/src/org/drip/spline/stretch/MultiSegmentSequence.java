@@ -201,6 +201,20 @@ public interface MultiSegmentSequence extends org.drip.spline.stretch.SingleSegm
 		final boolean bIncludeRight)
 		throws java.lang.Exception;
 
+	/**
+	 * Calculate the Response Values at the given Array of Predictor Ordinates. Ascending Predictor Ordinates
+	 * 	are located in amortized constant time.
+	 * 
+	 * @param adblPredictorOrdinate Array of the Predictor Ordinates
+	 * @param adblResponseValue Array to be filled in with the Response Values
+	 * 
+	 * @return TRUE => All the Response Values successfully calculated
+	 */
+
+	public abstract boolean responseValue (
+		final double[] adblPredictorOrdinate,
+		final double[] adblResponseValue);
+
 	/**
 	 * Set up (i.e., calibrate) the individual Segments in the Stretch to the Stretch Edge, the Target
 	 *  Constraints, and the custom segment sequence builder.
@@ -33,6 +33,12 @@ package org.drip.state.curve;
 /**
  * DeterministicCollateralChoiceDiscountCurve implements the Dynamically Switchable Collateral Choice
  * 	Discount Curve among the choice of provided "deterministic" collateral curves.
+ * 
+ * The Cheapest-to-Deliver Discount Factors on the Collateralization Increment Grid (laid out from the Epoch)
+ * 	are cached in a cumulative Table that is lazily extended to cover the latest Date queried, so a DF
+ * 	Query costs a Table Look-up and a single partial Increment. The Table is extended under the Curve Lock
+ * 	and published through volatile Fields, so concurrent Readers do not block. The Domestic and the Foreign
+ * 	Collateralized Curves are expected to remain unchanged over the Life of this Curve.
  *
  * @author Lakshmi Krishnamurthy
  */
@@ -41,6 +47,68 @@ public class DeterministicCollateralChoiceDiscountCurve extends org.drip.analyti
 	private int _iDiscreteCollateralizationIncrement = -1;
 	private org.drip.analytics.rates.DiscountCurve _dcDomesticCollateralized = null;
 	private org.drip.state.curve.ForeignCollateralizedDiscountCurve[] _aFCDC = null;
+	private volatile int _iNumNodeDF = 0;
+	private volatile double[] _adblNodeDF = null;
+
+	private double cheapestDFIncrement (
+		final double dblStartDate,
+		final double dblEndDate)
+		throws java.lang.Exception
+	{
+		double dblDFIncrement = _dcDomesticCollateralized.df (dblEndDate) / _dcDomesticCollateralized.df
+			(dblStartDate);
+
+		for (int i = 0; i < _aFCDC.length; ++i) {
+			double dblCollateralizerDFIncrement = _aFCDC[i].df (dblEndDate) / _aFCDC[i].df (dblStartDate);
+
+			if (dblCollateralizerDFIncrement < dblDFIncrement) dblDFIncrement = dblCollateralizerDFIncrement;
+		}
+
+		return dblDFIncrement;
+	}
+
+	private double nodeDF (
+		final int iNode)
+		throws java.lang.Exception
+	{
+		/*
+		 * The Node Count is read ahead of the Table - the Table is always published ahead of the Count.
+		 */
+
+		if (iNode < _iNumNodeDF) return _adblNodeDF[iNode];
+
+		synchronized (this) {
+			int iNumNodeDF = _iNumNodeDF;
+			double[] adblNodeDF = _adblNodeDF;
+
+			if (iNode < iNumNodeDF) return adblNodeDF[iNode];
+
+			if (null == adblNodeDF || iNode >= adblNodeDF.length) {
+				double[] adblNodeDFGrown = new double[java.lang.Math.max (iNode + 1, null == adblNodeDF ? 0 :
+					2 * adblNodeDF.length)];
+
+				for (int i = 0; i < iNumNodeDF; ++i)
+					adblNodeDFGrown[i] = adblNodeDF[i];
+
+				adblNodeDF = adblNodeDFGrown;
+			}
+
+			double dblStartDate = _dcDomesticCollateralized.epoch().julian();
+
+			if (0 == iNumNodeDF) adblNodeDF[iNumNodeDF++] = 1.;
+
+			for (; iNumNodeDF <= iNode; ++iNumNodeDF) {
+				double dblWorkoutDate = dblStartDate + (iNumNodeDF - 1) * _iDiscreteCollateralizationIncrement;
+
+				adblNodeDF[iNumNodeDF] = adblNodeDF[iNumNodeDF - 1] * cheapestDFIncrement (dblWorkoutDate,
+					dblWorkoutDate + _iDiscreteCollateralizationIncrement);
+			}
+
+			_adblNodeDF = adblNodeDF;
+			_iNumNodeDF = iNumNodeDF;
+			return adblNodeDF[iNode];
+		}
+	}
 
 	/**
 	 * DeterministicCollateralChoiceDiscountCurve constructor
@@ -83,42 +151,19 @@ public class DeterministicCollateralChoiceDiscountCurve extends org.drip.analyti
 
 		if (dblDate <= dblStartDate) return 1.;
 
-		double dblDF = 1.;
-		double dblWorkoutDate = dblStartDate;
-
-		while (java.lang.Math.abs (dblDate - dblWorkoutDate) > _iDiscreteCollateralizationIncrement) {
-			double dblWorkoutEndDate = dblWorkoutDate + _iDiscreteCollateralizationIncrement;
-
-			double dblDFIncrement = _dcDomesticCollateralized.df (dblWorkoutEndDate) /
-				_dcDomesticCollateralized.df (dblWorkoutDate);
-
-			for (int i = 0; i < iNumCollateralizer; ++i) {
-				double dblCollateralizerDFIncrement = _aFCDC[i].df (dblWorkoutEndDate) / _aFCDC[i].df
-					(dblWorkoutDate);
-
-				if (dblCollateralizerDFIncrement < dblDFIncrement)
-					dblDFIncrement = dblCollateralizerDFIncrement;
-			}
-
-			dblDF *= dblDFIncrement;
-			dblWorkoutDate = dblWorkoutEndDate;
-		}
-
-		if (dblDate > dblWorkoutDate) {
-			double dblDFIncrement = _dcDomesticCollateralized.df (dblDate) / _dcDomesticCollateralized.df
-				(dblWorkoutDate);
-
-			for (int i = 0; i < iNumCollateralizer; ++i) {
-				double dblCollateralizerDFIncrement = _aFCDC[i].df (dblDate) / _aFCDC[i].df (dblWorkoutDate);
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate))
+			throw new java.lang.Exception ("DeterministicCollateralChoiceDiscountCurve::df => Invalid Date");
 
-				if (dblCollateralizerDFIncrement < dblDFIncrement)
-					dblDFIncrement = dblCollateralizerDFIncrement;
-			}
+		/*
+		 * Full Increments are stepped through as long as more than one Increment remains, and the Remainder
+		 * 	(0, Increment] is stepped through as a single partial Increment.
+		 */
 
-			dblDF *= dblDFIncrement;
-		}
+		int iNode = (int) java.lang.Math.ceil ((dblDate - dblStartDate) / _iDiscreteCollateralizationIncrement)
+			- 1;
 
-		return dblDF;
+		return nodeDF (iNode) * cheapestDFIncrement (dblStartDate + iNode *
+			_iDiscreteCollateralizationIncrement, dblDate);
 	}
 
 	@Override public double forward (
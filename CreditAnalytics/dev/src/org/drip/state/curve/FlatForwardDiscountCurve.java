@@ -106,7 +106,7 @@ public class FlatForwardDiscountCurve extends org.drip.analytics.rates.ExplicitB
 				calibrator.calibrateIRNode (frdc, null, aCalibInst[i], i, valParam, astrCalibMeasure[i] =
 					mapMeasures.get (strInstrumentCode)[0], adblCalibQuoteShifted[i] = mapQuote.get
 						(strInstrumentCode).get (astrCalibMeasure[i]) + adblShift[i], lsfc, quotingParam,
-							false, java.lang.Double.NaN);
+							false, i < _adblForwardRate.length ? _adblForwardRate[i] : java.lang.Double.NaN);
 			}
 
 			return frdc.setCCIS (new org.drip.analytics.input.BootCurveConstructionInput (valParam,
@@ -52,6 +52,65 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 	private double[] _adblHazardRate = null;
 	private double[] _adblRecoveryDate = null;
 	private double[] _adblRecoveryRate = null;
+	private double[] _adblCumulativeHazard = null;
+
+	private void integrateHazard (
+		final int iStartNodeIndex)
+	{
+		double dblCumulativeHazard = 0 == iStartNodeIndex ? 0. : _adblCumulativeHazard[iStartNodeIndex - 1];
+		double dblStartDate = 0 == iStartNodeIndex ? _dblEpochDate : _adblHazardDate[iStartNodeIndex - 1];
+
+		for (int i = iStartNodeIndex; i < _adblHazardRate.length; ++i) {
+			_adblCumulativeHazard[i] = (dblCumulativeHazard += _adblHazardRate[i] * (_adblHazardDate[i] -
+				dblStartDate));
+
+			dblStartDate = _adblHazardDate[i];
+		}
+	}
+
+	private int hazardNodeIndex (
+		final double dblDate)
+	{
+		int iLeft = 0;
+		int iRight = _adblHazardDate.length;
+
+		while (iLeft < iRight) {
+			int iMid = (iLeft + iRight) >>> 1;
+
+			if (dblDate > _adblHazardDate[iMid])
+				iLeft = iMid + 1;
+			else
+				iRight = iMid;
+		}
+
+		return iLeft;
+	}
+
+	private double survival (
+		final double dblDate,
+		final int iNodeIndex)
+	{
+		if (dblDate <= _dblEpochDate) return 1.;
+
+		if (org.drip.quant.common.NumberUtil.IsValid (_dblSpecificDefaultDate) && dblDate >=
+			_dblSpecificDefaultDate)
+			return 0.;
+
+		if (0 == iNodeIndex)
+			return java.lang.Math.exp (-_adblHazardRate[0] * (dblDate - _dblEpochDate) / 365.25);
+
+		int i = iNodeIndex >= _adblHazardRate.length ? _adblHazardRate.length - 1 : iNodeIndex;
+
+		return java.lang.Math.exp ((-_adblCumulativeHazard[iNodeIndex - 1] - _adblHazardRate[i] * (dblDate -
+			_adblHazardDate[iNodeIndex - 1])) / 365.25);
+	}
+
+	private double priorHazardRate (
+		final int iNodeIndex)
+	{
+		return _adblHazardRate[iNodeIndex >= _adblHazardRate.length ? _adblHazardRate.length - 1 :
+			iNodeIndex];
+	}
 
 	private org.drip.analytics.definition.CreditCurve createFromBaseMMTP (
 		final org.drip.param.definition.ResponseValueTweakParams mmtp)
@@ -122,6 +181,10 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 
 		for (int i = 0; i < adblRecoveryDate.length; ++i)
 			_adblRecoveryDate[i] = adblRecoveryDate[i];
+
+		_adblCumulativeHazard = new double[_adblHazardRate.length];
+
+		integrateHazard (0);
 	}
 
 	@Override public org.drip.param.valuation.CollateralizationParams collateralParams()
@@ -136,26 +199,43 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate))
 			throw new java.lang.Exception ("ForwardHazardCreditCurve::survival => No surv for NaN date");
 
-		if (dblDate <= _dblEpochDate) return 1.;
+		return survival (dblDate, hazardNodeIndex (dblDate));
+	}
 
-		if (org.drip.quant.common.NumberUtil.IsValid (_dblSpecificDefaultDate) && dblDate >=
-			_dblSpecificDefaultDate)
-			return 0.;
+	@Override public boolean survival (
+		final double[] adblDate,
+		final double[] adblSurvival)
+	{
+		if (null == adblDate || null == adblSurvival || adblDate.length > adblSurvival.length) return false;
 
-		int i = 0;
-		double dblExpArg = 0.;
-		double dblStartDate = _dblEpochDate;
+		int iNodeIndex = 0;
+		double dblPrevDate = java.lang.Double.NEGATIVE_INFINITY;
 
-		while (i < _adblHazardRate.length && dblDate > _adblHazardDate[i]) {
-			dblExpArg -= _adblHazardRate[i] * (_adblHazardDate[i] - dblStartDate);
-			dblStartDate = _adblHazardDate[i++];
-		}
+		for (int i = 0; i < adblDate.length; ++i) {
+			double dblDate = adblDate[i];
+
+			if (!org.drip.quant.common.NumberUtil.IsValid (dblDate)) return false;
+
+			/*
+			 * Sorted dates advance the node cursor in a single merge pass; out-of-order dates re-seek.
+			 */
 
-		if (i >= _adblHazardRate.length) i = _adblHazardRate.length - 1;
+			if (dblDate < dblPrevDate)
+				iNodeIndex = hazardNodeIndex (dblDate);
+			else {
+				while (iNodeIndex < _adblHazardDate.length && dblDate > _adblHazardDate[iNodeIndex])
+					++iNodeIndex;
+			}
+
+			adblSurvival[i] = survival (dblPrevDate = dblDate, iNodeIndex);
+		}
 
-		dblExpArg -= _adblHazardRate[i] * (dblDate - dblStartDate);
+		return true;
+	}
 
-		return java.lang.Math.exp (dblExpArg / 365.25);
+	@Override public double[] nodeDates()
+	{
+		return null == _adblHazardDate ? null : _adblHazardDate.clone();
 	}
 
 	@Override public double recovery (
@@ -227,9 +307,9 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 
 		for (int i = 0; i < _adblCalibQuote.length; ++i) {
 			try {
-				calibrator.bootstrapHazardRate (cc, _aCalibInst[i], i, _valParam, _dc, _dcTSY,
+				calibrator.calibrateHazardNode (cc, _aCalibInst[i], i, _valParam, _dc, _dcTSY,
 					_pricerParam, _astrCalibMeasure[i], adblCalibQuote[i] = _adblCalibQuote[i] + dblShift,
-						_lsfc, _quotingParams, _bFlat);
+						_lsfc, _quotingParams, _bFlat, priorHazardRate (i));
 			} catch (java.lang.Exception e) {
 				e.printStackTrace();
 
@@ -275,9 +355,9 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 
 		for (int i = 0; i < _adblCalibQuote.length; ++i) {
 			try {
-				calibrator.bootstrapHazardRate (cc, _aCalibInst[i], i, _valParam, _dc, _dcTSY, _pricerParam,
+				calibrator.calibrateHazardNode (cc, _aCalibInst[i], i, _valParam, _dc, _dcTSY, _pricerParam,
 					_astrCalibMeasure[i], adblCalibQuote[i] = _adblCalibQuote[i] + (i == iSpanIndex ?
-						dblShift : 0.), _lsfc, _quotingParams, _bFlat);
+						dblShift : 0.), _lsfc, _quotingParams, _bFlat, priorHazardRate (i));
 			} catch (java.lang.Exception e) {
 				e.printStackTrace();
 
@@ -325,8 +405,8 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 
 		for (int i = 0; i < _adblCalibQuote.length; ++i) {
 			try {
-				calibrator.bootstrapHazardRate (cc, _aCalibInst[i], i, _valParam, _dc, _dcTSY, _pricerParam,
-					_astrCalibMeasure[i], dblFlatNodeValue, _lsfc, _quotingParams, true);
+				calibrator.calibrateHazardNode (cc, _aCalibInst[i], i, _valParam, _dc, _dcTSY, _pricerParam,
+					_astrCalibMeasure[i], dblFlatNodeValue, _lsfc, _quotingParams, true, priorHazardRate (i));
 			} catch (java.lang.Exception e) {
 				e.printStackTrace();
 
@@ -429,9 +509,9 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 
 				for (int i = 0; i < adblQuoteBumped.length; ++i) {
 					try {
-						calibrator.bootstrapHazardRate (cc, _aCalibInst[i], i, _valParam, _dc, _dcTSY,
+						calibrator.calibrateHazardNode (cc, _aCalibInst[i], i, _valParam, _dc, _dcTSY,
 							_pricerParam, _astrCalibMeasure[i], adblQuoteBumped[i], _lsfc, _quotingParams,
-								_bFlat);
+								_bFlat, priorHazardRate (i));
 					} catch (java.lang.Exception e) {
 						e.printStackTrace();
 
@@ -459,6 +539,8 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 		for (int i = iNodeIndex; i < _adblHazardRate.length; ++i)
 			_adblHazardRate[i] = dblValue;
 
+		integrateHazard (iNodeIndex);
+
 		return true;
 	}
 
@@ -472,6 +554,8 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 		for (int i = iNodeIndex; i < _adblHazardRate.length; ++i)
 			_adblHazardRate[i] += dblValue;
 
+		integrateHazard (iNodeIndex);
+
 		return true;
 	}
 
@@ -483,6 +567,8 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 		for (int i = 0; i < _adblHazardRate.length; ++i)
 			_adblHazardRate[i] = dblValue;
 
+		integrateHazard (0);
+
 		return true;
 	}
 }
@@ -89,7 +89,7 @@ public class NonlinearDiscountFactorDiscountCurve extends
 
 				calibrator.calibrateIRNode (nldfdc, null, aCalibInst[i], i, valParam, astrCalibMeasure[i] =
 					mapMeasures.get (strInstrumentCode)[0], adblShiftedManifestMeasure[i], lsfc,
-						quotingParam, false, java.lang.Double.NaN);
+						quotingParam, false, i < _adblDate.length ? df (_adblDate[i]) : java.lang.Double.NaN);
 			}
 
 			return nldfdc.setCCIS (org.drip.analytics.input.BootCurveConstructionInput.Create (valParam,
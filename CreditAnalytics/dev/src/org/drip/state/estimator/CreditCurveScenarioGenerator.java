@@ -80,6 +80,7 @@ public class CreditCurveScenarioGenerator {
 			("Upfront"));
 	}
 
+	private double _dblLinearizedBumpTolerance = java.lang.Double.NaN;
 	private org.drip.product.definition.CalibratableFixedIncomeComponent[] _aCalibInst = null;
 
 	private org.drip.state.estimator.NonlinearCurveCalibrator _compCalib = new
@@ -96,9 +97,30 @@ public class CreditCurveScenarioGenerator {
 	public CreditCurveScenarioGenerator (
 		final org.drip.product.definition.CalibratableFixedIncomeComponent[] aCalibInst)
 		throws java.lang.Exception
+	{
+		this (aCalibInst, java.lang.Double.NaN);
+	}
+
+	/**
+	 * Construct a CreditCurveScenarioGenerator instance from the calibratable instrument array, with the
+	 * 	Tenor Bumped Curves linearized off of the Base Curve for Bumps up to the specified Tolerance
+	 * 
+	 * @param aCalibInst Array of calibration instruments
+	 * @param dblLinearizedBumpTolerance The Largest (Absolute) Bump for which the Tenor Bumped Curves are
+	 * 	linearized (NaN => Always re-calibrate)
+	 * 
+	 * @throws java.lang.Exception Thrown if inputs are invalid
+	 */
+
+	public CreditCurveScenarioGenerator (
+		final org.drip.product.definition.CalibratableFixedIncomeComponent[] aCalibInst,
+		final double dblLinearizedBumpTolerance)
+		throws java.lang.Exception
 	{
 		if (null == (_aCalibInst = aCalibInst) || 0 == _aCalibInst.length)
 			throw new java.lang.Exception ("CreditCurveScenarioGenerator ctr: Invalid calib instr!");
+
+		_dblLinearizedBumpTolerance = dblLinearizedBumpTolerance;
 	}
 
 	/**
@@ -112,6 +134,130 @@ public class CreditCurveScenarioGenerator {
 		return _aCalibInst;
 	}
 
+	/**
+	 * Retrieve the Largest (Absolute) Bump for which the Tenor Bumped Curves are linearized
+	 * 
+	 * @return The Linearized Bump Tolerance (NaN => Always re-calibrate)
+	 */
+
+	public double linearizedBumpTolerance()
+	{
+		return _dblLinearizedBumpTolerance;
+	}
+
+	/**
+	 * Indicate if the Tenor Bumped Curves for the given Bump are linearized off of a single Base Curve
+	 * 	(rather than re-calibrated one Tenor at a time)
+	 * 
+	 * @param dblBump The Tenor Bump
+	 * @param astrCalibMeasure Array of the calibration measures
+	 * @param bFlat Flat Calibration (True), or real bootstrapping (false)
+	 * 
+	 * @return TRUE => The Tenor Bumped Curves are linearized
+	 */
+
+	public boolean linearizedTenorBump (
+		final double dblBump,
+		final java.lang.String[] astrCalibMeasure,
+		final boolean bFlat)
+	{
+		if (bFlat || null == astrCalibMeasure || astrCalibMeasure.length != _aCalibInst.length ||
+			!org.drip.quant.common.NumberUtil.IsValid (_dblLinearizedBumpTolerance) || java.lang.Math.abs
+				(dblBump) > _dblLinearizedBumpTolerance)
+			return false;
+
+		/*
+		 * Translated Quotes (e.g., CDS Quoted Spreads calibrated as Upfronts) do not shift one for one with
+		 * 	the Bump - these fall back onto the full re-calibration.
+		 */
+
+		for (int i = 0; i < _aCalibInst.length; ++i) {
+			if (_aCalibInst[i] instanceof org.drip.product.definition.CreditDefaultSwap &&
+				("FlatSpread".equalsIgnoreCase (astrCalibMeasure[i]) || "QuotedSpread".equalsIgnoreCase
+					(astrCalibMeasure[i])))
+				return false;
+		}
+
+		return true;
+	}
+
+	private org.drip.analytics.definition.CreditCurve[] linearizedTenorCC (
+		final java.lang.String strName,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final double[] adblQuotes,
+		final double dblBump,
+		final double dblRecovery,
+		final java.lang.String[] astrCalibMeasure,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams quotingParams,
+		final boolean bFlat)
+	{
+		if (!linearizedTenorBump (dblBump, astrCalibMeasure, bFlat)) return null;
+
+		int iNumInstrument = _aCalibInst.length;
+
+		org.drip.analytics.definition.CreditCurve ccBase = createCC (strName, valParams, dc, dcTSY,
+			adblQuotes, dblRecovery, astrCalibMeasure, lsfc, quotingParams, bFlat);
+
+		if (!(ccBase instanceof org.drip.analytics.definition.ExplicitBootCreditCurve)) return null;
+
+		final org.drip.param.pricer.PricerParams pricerParams = new org.drip.param.pricer.PricerParams (7,
+			null, false, org.drip.param.pricer.PricerParams.PERIOD_DISCRETIZATION_DAY_STEP);
+
+		double[] adblMeasureShift = new double[iNumInstrument];
+		org.drip.analytics.definition.ExplicitBootCurve[] aEBC = null;
+
+		for (int i = 0; i < iNumInstrument; ++i)
+			adblMeasureShift[i] = dblBump;
+
+		try {
+			aEBC = new org.drip.state.estimator.LinearizedTenorBumper
+				(org.drip.state.estimator.LinearizedTenorBumper.DEFAULT_NODE_DIFFERENTIAL) {
+				@Override public double calibrationMeasure (
+					final org.drip.analytics.definition.ExplicitBootCurve ebc,
+					final int iInstrument)
+					throws java.lang.Exception
+				{
+					return _aCalibInst[iInstrument].measureValue (valParams, new
+						org.drip.param.pricer.PricerParams (pricerParams.unitSize(), new
+							org.drip.param.definition.CalibrationParams (astrCalibMeasure[iInstrument], 0,
+								null), pricerParams.survivalToPayDate(), pricerParams.discretizationScheme()),
+									org.drip.param.creator.MarketParamsBuilder.Create (dc, dcTSY,
+										(org.drip.analytics.definition.CreditCurve) ebc, null, null, null, lsfc),
+											quotingParams, astrCalibMeasure[iInstrument]);
+				}
+			}.tenorBumpedCurves ((org.drip.analytics.definition.ExplicitBootCurve) ccBase, adblMeasureShift);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		}
+
+		if (null == aEBC) return null;
+
+		org.drip.analytics.definition.CreditCurve[] aCC = new
+			org.drip.analytics.definition.CreditCurve[iNumInstrument];
+
+		for (int i = 0; i < iNumInstrument; ++i) {
+			double[] adblTenorQuotes = new double[iNumInstrument];
+
+			for (int j = 0; j < iNumInstrument; ++j)
+				adblTenorQuotes[j] = j == i ? adblQuotes[j] + dblBump : adblQuotes[j];
+
+			org.drip.analytics.definition.ExplicitBootCreditCurve cc =
+				(org.drip.analytics.definition.ExplicitBootCreditCurve) aEBC[i];
+
+			cc.setInstrCalibInputs (valParams, bFlat, dc, dcTSY, pricerParams, _aCalibInst, adblTenorQuotes,
+				astrCalibMeasure, lsfc, quotingParams);
+
+			aCC[i] = cc;
+		}
+
+		return aCC;
+	}
+
 	/**
 	 * Calibrate a Credit Curve
 	 * 
@@ -173,14 +319,17 @@ public class CreditCurveScenarioGenerator {
 		org.drip.param.pricer.PricerParams pricerParams = new org.drip.param.pricer.PricerParams (7, null,
 			false, org.drip.param.pricer.PricerParams.PERIOD_DISCRETIZATION_DAY_STEP);
 
+		double dblHazardRate = java.lang.Double.NaN;
+
 		for (int i = 0; i < iNumInstr; ++i) {
 			TranslatedQuoteMeasure tqm = translateQuoteMeasure (_aCalibInst[i], valParams, pricerParams, dc,
 				cc, astrCalibMeasure[i], adblQuotes[i]);
 
 			if (null == tqm) return null;
 
-			if (!_compCalib.bootstrapHazardRate (cc, _aCalibInst[i], i, valParams, dc, dcTSY, pricerParams,
-				tqm._strMeasure, tqm._dblQuote, lsfc, quotingParams, bFlat))
+			if (!org.drip.quant.common.NumberUtil.IsValid (dblHazardRate = _compCalib.calibrateHazardNode
+				(cc, _aCalibInst[i], i, valParams, dc, dcTSY, pricerParams, tqm._strMeasure, tqm._dblQuote,
+					lsfc, quotingParams, bFlat, dblHazardRate)))
 				return null;
 		}
 
@@ -226,8 +375,12 @@ public class CreditCurveScenarioGenerator {
 				astrCalibMeasure.length || !org.drip.quant.common.NumberUtil.IsValid (dblRecovery))
 			return null;
 
-		org.drip.analytics.definition.CreditCurve[] aCC = new
-			org.drip.analytics.definition.CreditCurve[_aCalibInst.length];
+		org.drip.analytics.definition.CreditCurve[] aCC = linearizedTenorCC (strName, valParams, dc, dcTSY,
+			adblQuotes, dblBump, dblRecovery, astrCalibMeasure, lsfc, quotingParams, bFlat);
+
+		if (null != aCC) return aCC;
+
+		aCC = new org.drip.analytics.definition.CreditCurve[_aCalibInst.length];
 
 		for (int i = 0; i < aCC.length; ++i) {
 			double[] adblTenorQuotes = new double [aCC.length];
@@ -287,6 +440,17 @@ public class CreditCurveScenarioGenerator {
 			mapTenorCC = new
 				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>();
 
+		org.drip.analytics.definition.CreditCurve[] aCC = linearizedTenorCC (strName, valParams, dc, dcTSY,
+			adblQuotes, dblBump, dblRecovery, astrCalibMeasure, lsfc, quotingParams, bFlat);
+
+		if (null != aCC) {
+			for (int i = 0; i < _aCalibInst.length; ++i)
+				mapTenorCC.put (org.drip.analytics.date.DateUtil.FromJulian
+					(_aCalibInst[i].maturityDate().julian()), aCC[i]);
+
+			return mapTenorCC;
+		}
+
 		for (int i = 0; i < _aCalibInst.length; ++i) {
 			org.drip.analytics.definition.CreditCurve cc = null;
 			double[] adblTenorQuotes = new double[_aCalibInst.length];
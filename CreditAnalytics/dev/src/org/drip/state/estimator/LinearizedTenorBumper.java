@@ -0,0 +1,182 @@
+
+package org.drip.state.estimator;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * LinearizedTenorBumper generates the Tenor Bumped Curves off of a single calibrated Base Curve, instead of
+ * 	re-boot-strapping the Curve once per bumped Tenor. It computes the Jacobian of the Calibration Measures to
+ * 	the Tail Node Shifts (the ExplicitBootCurve bumpNodeValue shifts all the Nodes from the given Node
+ * 	onwards), inverts it once, and applies the Column of the Inverse corresponding to each bumped Tenor onto
+ * 	a Copy of the Base Curve. The Bumped Curves match the re-boot-strapped ones to first order in the Bump.
+ *
+ * Concrete Instances supply the Calibration Measure of each Instrument off of a given Curve.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public abstract class LinearizedTenorBumper {
+
+	/**
+	 * Default Node Differential used in the Finite Difference Jacobian
+	 */
+
+	public static final double DEFAULT_NODE_DIFFERENTIAL = 1.e-06;
+
+	private double _dblNodeDifferential = java.lang.Double.NaN;
+
+	private static final org.drip.analytics.definition.ExplicitBootCurve Copy (
+		final org.drip.analytics.definition.ExplicitBootCurve ebc)
+	{
+		org.drip.state.representation.LatentState ls = ebc.parallelShiftQuantificationMetric (0.);
+
+		return ls instanceof org.drip.analytics.definition.ExplicitBootCurve ?
+			(org.drip.analytics.definition.ExplicitBootCurve) ls : null;
+	}
+
+	/**
+	 * LinearizedTenorBumper constructor
+	 *
+	 * @param dblNodeDifferential The Node Differential used in the Finite Difference Jacobian
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public LinearizedTenorBumper (
+		final double dblNodeDifferential)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (_dblNodeDifferential = dblNodeDifferential) || 0. ==
+			_dblNodeDifferential)
+			throw new java.lang.Exception ("LinearizedTenorBumper ctr: Invalid Inputs");
+	}
+
+	/**
+	 * Retrieve the Node Differential
+	 *
+	 * @return The Node Differential
+	 */
+
+	public double nodeDifferential()
+	{
+		return _dblNodeDifferential;
+	}
+
+	/**
+	 * Compute the Calibration Measure of the specified Instrument off of the Curve
+	 *
+	 * @param ebc The Curve
+	 * @param iInstrument The Calibration Instrument Index
+	 *
+	 * @return The Calibration Measure
+	 *
+	 * @throws java.lang.Exception Thrown if the Calibration Measure cannot be computed
+	 */
+
+	public abstract double calibrationMeasure (
+		final org.drip.analytics.definition.ExplicitBootCurve ebc,
+		final int iInstrument)
+		throws java.lang.Exception;
+
+	/**
+	 * Compute the Inverse of the Jacobian of the Calibration Measures to the Tail Node Shifts, i.e., the
+	 * 	Entry [k][i] is the Shift of the Nodes from k onwards per Unit Shift in the Calibration Measure i.
+	 *
+	 * @param ebcBase The calibrated Base Curve
+	 * @param iNumInstrument The Number of Calibration Instruments (and Nodes)
+	 *
+	 * @return The Inverse Jacobian
+	 */
+
+	public double[][] inverseTailShiftJacobian (
+		final org.drip.analytics.definition.ExplicitBootCurve ebcBase,
+		final int iNumInstrument)
+	{
+		if (null == ebcBase || 0 >= iNumInstrument) return null;
+
+		double[] adblBaseMeasure = new double[iNumInstrument];
+		double[][] aadblJacobian = new double[iNumInstrument][iNumInstrument];
+
+		try {
+			for (int i = 0; i < iNumInstrument; ++i)
+				adblBaseMeasure[i] = calibrationMeasure (ebcBase, i);
+
+			for (int k = 0; k < iNumInstrument; ++k) {
+				org.drip.analytics.definition.ExplicitBootCurve ebcShifted = Copy (ebcBase);
+
+				if (null == ebcShifted || !ebcShifted.bumpNodeValue (k, _dblNodeDifferential)) return null;
+
+				for (int i = 0; i < iNumInstrument; ++i)
+					aadblJacobian[i][k] = (calibrationMeasure (ebcShifted, i) - adblBaseMeasure[i]) /
+						_dblNodeDifferential;
+			}
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		}
+
+		return org.drip.quant.linearalgebra.Matrix.Invert (aadblJacobian, "GaussianElimination");
+	}
+
+	/**
+	 * Generate the Tenor Bumped Curves off of the calibrated Base Curve
+	 *
+	 * @param ebcBase The calibrated Base Curve
+	 * @param adblMeasureShift Array of the Calibration Measure Shift of each bumped Tenor
+	 *
+	 * @return Array of the Tenor Bumped Curves
+	 */
+
+	public org.drip.analytics.definition.ExplicitBootCurve[] tenorBumpedCurves (
+		final org.drip.analytics.definition.ExplicitBootCurve ebcBase,
+		final double[] adblMeasureShift)
+	{
+		if (null == ebcBase || !org.drip.quant.common.NumberUtil.IsValid (adblMeasureShift)) return null;
+
+		int iNumInstrument = adblMeasureShift.length;
+
+		double[][] aadblInverseJacobian = inverseTailShiftJacobian (ebcBase, iNumInstrument);
+
+		if (null == aadblInverseJacobian) return null;
+
+		org.drip.analytics.definition.ExplicitBootCurve[] aEBC = new
+			org.drip.analytics.definition.ExplicitBootCurve[iNumInstrument];
+
+		for (int i = 0; i < iNumInstrument; ++i) {
+			if (null == (aEBC[i] = Copy (ebcBase))) return null;
+
+			for (int k = 0; k < iNumInstrument; ++k) {
+				if (!aEBC[i].bumpNodeValue (k, aadblInverseJacobian[k][i] * adblMeasureShift[i]))
+					return null;
+			}
+		}
+
+		return aEBC;
+	}
+}
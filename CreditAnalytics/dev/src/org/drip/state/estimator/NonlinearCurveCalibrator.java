@@ -246,28 +246,69 @@ public class NonlinearCurveCalibrator {
 		final org.drip.param.market.LatentStateFixingsContainer lsfc,
 		final org.drip.param.valuation.ValuationCustomizationParams quotingParams,
 		final boolean bFlat)
+	{
+		return org.drip.quant.common.NumberUtil.IsValid (calibrateHazardNode (cc, comp, iInstr, valParams, dc,
+			dcTSY, pricerParamsIn, strMeasure, dblCalibValue, lsfc, quotingParams, bFlat,
+				java.lang.Double.NaN));
+	}
+
+	/**
+	 * Calibrate a single Hazard Rate Node from the corresponding Component, starting off of the Prior Hazard
+	 * 	Rate (e.g., the Base Curve Node's Hazard Rate, or the Previous Node's Hazard Rate)
+	 * 
+	 * @param cc The Credit Curve to be calibrated
+	 * @param comp The Calibration Component
+	 * @param iInstr The Calibration Instrument Index
+	 * @param valParams Calibration Valuation Parameters
+	 * @param dc The discount curve to be bootstrapped
+	 * @param dcTSY The TSY discount curve
+	 * @param pricerParamsIn Input Pricer Parameters
+	 * @param strMeasure The Calibration Measure
+	 * @param dblCalibValue The Value to be Calibrated to
+	 * @param lsfc The Latent State Fixings Container
+	 * @param quotingParams Quoting Parameters
+	 * @param bFlat TRUE => Calibrate a Flat Curve across all Tenors
+	 * @param dblHazardHint The Prior Hazard Rate (NaN => Cold Start)
+	 * 
+	 * @return The Calibrated Hazard Rate (NaN => The Bootstrapping is unsuccessful)
+	 */
+
+	public double calibrateHazardNode (
+		final org.drip.analytics.definition.ExplicitBootCreditCurve cc,
+		final org.drip.product.definition.FixedIncomeComponent comp,
+		final int iInstr,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final org.drip.param.pricer.PricerParams pricerParamsIn,
+		final java.lang.String strMeasure,
+		final double dblCalibValue,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams quotingParams,
+		final boolean bFlat,
+		final double dblHazardHint)
 	{
 		if (null == cc || null == comp || null == valParams || null == dc || null == pricerParamsIn || null
 			== strMeasure || strMeasure.isEmpty() || !org.drip.quant.common.NumberUtil.IsValid
 				(dblCalibValue)) {
-			System.out.println
-				("NonlinearCurveCalibrator::bootstrapHazardRate => Invalid params into CurveCalibrator.bootstrapHazardRate!");
+			System.out.println ("NonlinearCurveCalibrator::calibrateHazardNode => Invalid params!");
 
-			return false;
+			return java.lang.Double.NaN;
 		}
 
 		try {
 			org.drip.function.solver1D.FixedPointFinderOutput rfop = new
 				org.drip.function.solver1D.FixedPointFinderZheng (0., new CreditCurveCalibrator (cc, comp,
 					iInstr, valParams, dc, dcTSY, pricerParamsIn, strMeasure, dblCalibValue, lsfc,
-						quotingParams, bFlat), true).findRoot();
+						quotingParams, bFlat), true).findRoot
+							(org.drip.function.solver1D.InitializationHeuristics.FromWarmStart (dblHazardHint));
 
-			return null != rfop && rfop.containsRoot();
+			if (null != rfop && rfop.containsRoot()) return rfop.getRoot();
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
 
-		return false;
+		return java.lang.Double.NaN;
 	}
 
 	/**
@@ -283,7 +324,8 @@ public class NonlinearCurveCalibrator {
 	 * @param lsfc Latent State Fixings Container
 	 * @param quotingParams Quoting Parameters
 	 * @param bFlat TRUE => Calibrate a Flat Curve across all Tenors
-	 * @param dblSearchStart State IR Start Point
+	 * @param dblSearchStart State IR Start Point, i.e., the Prior Root used to warm start the Search (NaN =>
+	 * 	Cold Start)
 	 * 
 	 * @return The successfully calibrated State IR Point
 	 * 
@@ -335,7 +377,8 @@ public class NonlinearCurveCalibrator {
 		};
 
 		org.drip.function.solver1D.FixedPointFinderOutput rfop = new
-			org.drip.function.solver1D.FixedPointFinderBrent (0., ofIRNode, true).findRoot();
+			org.drip.function.solver1D.FixedPointFinderBrent (0., ofIRNode, true).findRoot
+				(org.drip.function.solver1D.InitializationHeuristics.FromWarmStart (dblSearchStart));
 
 		if (null == rfop || !rfop.containsRoot()) {
 			System.out.println ("\tName: " + comp.name());
@@ -389,11 +432,13 @@ public class NonlinearCurveCalibrator {
 				((org.drip.state.curve.NonlinearDiscountFactorDiscountCurve) dc, dcTSY, aCalibComp,
 					valParams, astrCalibMeasure, adblCalibValue, dblBump, lsfc, quotingParams, bFlat);
 
+		double dblNodeCalibOP = java.lang.Double.NaN;
+
 		for (int i = 0; i < adblCalibValue.length; ++i) {
 			try {
-				if (!org.drip.quant.common.NumberUtil.IsValid (calibrateIRNode (dc, dcTSY, aCalibComp[i], i,
-					valParams, astrCalibMeasure[i], adblCalibValue[i] + dblBump, lsfc, quotingParams,
-						false, java.lang.Double.NaN)))
+				if (!org.drip.quant.common.NumberUtil.IsValid (dblNodeCalibOP = calibrateIRNode (dc, dcTSY,
+					aCalibComp[i], i, valParams, astrCalibMeasure[i], adblCalibValue[i] + dblBump, lsfc,
+						quotingParams, false, dblNodeCalibOP)))
 					return false;
 			} catch (java.lang.Exception e) {
 				e.printStackTrace();
@@ -48,6 +48,7 @@ public class RatesCurveScenarioGenerator {
 	private static final boolean s_bBlog = false;
 
 	private java.lang.String _strCurrency = "";
+	private double _dblLinearizedBumpTolerance = java.lang.Double.NaN;
 	private org.drip.product.definition.CalibratableFixedIncomeComponent[] _aCalibInst = null;
 	private java.lang.String _strBootstrapMode =
 		org.drip.state.creator.DiscountCurveBuilder.BOOTSTRAP_MODE_CONSTANT_FORWARD;
@@ -70,12 +71,36 @@ public class RatesCurveScenarioGenerator {
 		final java.lang.String strBootstrapMode,
 		final org.drip.product.definition.CalibratableFixedIncomeComponent[] aCalibInst)
 		throws java.lang.Exception
+	{
+		this (strCurrency, strBootstrapMode, aCalibInst, java.lang.Double.NaN);
+	}
+
+	/**
+	 * Construct a RatesCurveScenarioGenerator instance from the calibratable instrument array, with the
+	 * 	Tenor Bumped Curves linearized off of the Base Curve for Bumps up to the specified Tolerance
+	 * 
+	 * @param strCurrency Currency
+	 * @param strBootstrapMode Bootstrap Mode - one of the choices in DiscountCurveBuilder.BOOTSTRAP_MODE_xxx
+	 * @param aCalibInst Array of calibration instruments
+	 * @param dblLinearizedBumpTolerance The Largest (Absolute) Bump for which the Tenor Bumped Curves are
+	 * 	linearized (NaN => Always re-calibrate)
+	 * 
+	 * @throws java.lang.Exception Thrown if inputs are invalid
+	 */
+
+	public RatesCurveScenarioGenerator (
+		final java.lang.String strCurrency,
+		final java.lang.String strBootstrapMode,
+		final org.drip.product.definition.CalibratableFixedIncomeComponent[] aCalibInst,
+		final double dblLinearizedBumpTolerance)
+		throws java.lang.Exception
 	{
 		if (null == strCurrency || strCurrency.isEmpty() || null == aCalibInst || 0 == aCalibInst.length)
 			throw new java.lang.Exception ("IRCurveScenarioGenerator.ctr: Invalid ccy/calib inst inputs");
 
 		_aCalibInst = aCalibInst;
 		_strCurrency = strCurrency;
+		_dblLinearizedBumpTolerance = dblLinearizedBumpTolerance;
 
 		if (null == (_strBootstrapMode = strBootstrapMode) || _strBootstrapMode.isEmpty())
 			_strBootstrapMode =
@@ -93,6 +118,103 @@ public class RatesCurveScenarioGenerator {
 		return _aCalibInst;
 	}
 
+	/**
+	 * Retrieve the Largest (Absolute) Bump for which the Tenor Bumped Curves are linearized
+	 * 
+	 * @return The Linearized Bump Tolerance (NaN => Always re-calibrate)
+	 */
+
+	public double linearizedBumpTolerance()
+	{
+		return _dblLinearizedBumpTolerance;
+	}
+
+	/**
+	 * Indicate if the Tenor Bumped Curves for the given Bump are linearized off of a single Base Curve
+	 * 	(rather than re-calibrated one Tenor at a time)
+	 * 
+	 * @param dblBump The Tenor Bump
+	 * 
+	 * @return TRUE => The Tenor Bumped Curves are linearized
+	 */
+
+	public boolean linearizedTenorBump (
+		final double dblBump)
+	{
+		return org.drip.quant.common.NumberUtil.IsValid (_dblLinearizedBumpTolerance) && java.lang.Math.abs
+			(dblBump) <= _dblLinearizedBumpTolerance &&
+				!org.drip.state.creator.DiscountCurveBuilder.BOOTSTRAP_MODE_POLYNOMIAL_SPLINE_DF.equalsIgnoreCase
+					(_strBootstrapMode);
+	}
+
+	private org.drip.analytics.rates.DiscountCurve[] linearizedTenorIRCurves (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final double[] adblQuotes,
+		final double dblBump,
+		final java.lang.String[] astrCalibMeasure,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams quotingParams)
+	{
+		if (!linearizedTenorBump (dblBump)) return null;
+
+		org.drip.analytics.rates.DiscountCurve dcBase = createIRCurve (valParams, dcTSY, adblQuotes, 0.,
+			astrCalibMeasure, lsfc, quotingParams);
+
+		if (!(dcBase instanceof org.drip.state.curve.FlatForwardDiscountCurve)) return null;
+
+		int iNumInstrument = _aCalibInst.length;
+		double[] adblMeasureShift = new double[iNumInstrument];
+		org.drip.analytics.definition.ExplicitBootCurve[] aEBC = null;
+
+		for (int i = 0; i < iNumInstrument; ++i)
+			adblMeasureShift[i] = dblBump;
+
+		try {
+			aEBC = new org.drip.state.estimator.LinearizedTenorBumper
+				(org.drip.state.estimator.LinearizedTenorBumper.DEFAULT_NODE_DIFFERENTIAL) {
+				@Override public double calibrationMeasure (
+					final org.drip.analytics.definition.ExplicitBootCurve ebc,
+					final int iInstrument)
+					throws java.lang.Exception
+				{
+					return _aCalibInst[iInstrument].measureValue (valParams, new
+						org.drip.param.pricer.PricerParams (1, new org.drip.param.definition.CalibrationParams
+							(astrCalibMeasure[iInstrument], 0, null), true, 0),
+								org.drip.param.creator.MarketParamsBuilder.Create
+									((org.drip.analytics.rates.DiscountCurve) ebc, dcTSY, null, null, null, null,
+										lsfc), quotingParams, astrCalibMeasure[iInstrument]);
+				}
+			}.tenorBumpedCurves ((org.drip.analytics.definition.ExplicitBootCurve) dcBase, adblMeasureShift);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		}
+
+		if (null == aEBC) return null;
+
+		org.drip.analytics.rates.DiscountCurve[] aDC = new
+			org.drip.analytics.rates.DiscountCurve[iNumInstrument];
+
+		for (int i = 0; i < iNumInstrument; ++i) {
+			double[] adblTenorQuotes = new double[iNumInstrument];
+
+			for (int j = 0; j < iNumInstrument; ++j)
+				adblTenorQuotes[j] = j == i ? adblQuotes[j] + dblBump : adblQuotes[j];
+
+			org.drip.analytics.rates.ExplicitBootDiscountCurve dc =
+				(org.drip.analytics.rates.ExplicitBootDiscountCurve) aEBC[i];
+
+			dc.setCCIS (org.drip.analytics.input.BootCurveConstructionInput.Create (valParams, quotingParams,
+				_aCalibInst, adblTenorQuotes, astrCalibMeasure, lsfc));
+
+			aDC[i] = dc;
+		}
+
+		return aDC;
+	}
+
 	/**
 	 * Calibrate a discount curve
 	 * 
@@ -203,8 +325,12 @@ public class RatesCurveScenarioGenerator {
 			return null;
 		}
 
-		org.drip.analytics.rates.DiscountCurve[] aDC = new
-				org.drip.analytics.rates.DiscountCurve[_aCalibInst.length];
+		org.drip.analytics.rates.DiscountCurve[] aDC = linearizedTenorIRCurves (valParams, dcTSY, adblQuotes,
+			dblBump, astrCalibMeasure, lsfc, quotingParams);
+
+		if (null != aDC) return aDC;
+
+		aDC = new org.drip.analytics.rates.DiscountCurve[_aCalibInst.length];
 
 		for (int i = 0; i < aDC.length; ++i) {
 			double[] adblTenorQuotes = new double [aDC.length];
@@ -216,8 +342,8 @@ public class RatesCurveScenarioGenerator {
 					adblTenorQuotes[j] = adblQuotes[j];
 			}
 
-			if (null == (aDC[i] = createIRCurve (valParams, dcTSY, adblQuotes, 0., astrCalibMeasure, lsfc,
-				quotingParams)))
+			if (null == (aDC[i] = createIRCurve (valParams, dcTSY, adblTenorQuotes, 0., astrCalibMeasure,
+				lsfc, quotingParams)))
 				return null;
 		}
 
@@ -260,6 +386,17 @@ public class RatesCurveScenarioGenerator {
 			= new
 				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>();
 
+		org.drip.analytics.rates.DiscountCurve[] aDC = linearizedTenorIRCurves (valParams, dcTSY, adblQuotes,
+			dblBump, astrCalibMeasure, lsfc, quotingParams);
+
+		if (null != aDC) {
+			for (int i = 0; i < _aCalibInst.length; ++i)
+				mapTenorDC.put (org.drip.analytics.date.DateUtil.FromJulian
+					(_aCalibInst[i].maturityDate().julian()), aDC[i]);
+
+			return mapTenorDC;
+		}
+
 		for (int i = 0; i < _aCalibInst.length; ++i) {
 			double[] adblTenorQuotes = new double [_aCalibInst.length];
 